@@ -13,6 +13,10 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
     private static final ClassName ENUM_VALUE = ClassName.get(
             "io.dronefleet.mavlink.util",
             "EnumValue");
+    private static final ClassName UNSIGNED_LONGS = ClassName.get(
+            "io.dronefleet.mavlink.util",
+            "UnsignedLongs");
+    private static final String UTIL_PACKAGE = "io.dronefleet.mavlink.util";
 
     private final PackageGenerator parentPackage;
     private final String name;
@@ -25,6 +29,7 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
     private final boolean array;
     private final int arraySize;
     private final boolean extension;
+    private final boolean unsignedLongs;
 
     public FieldGenerator(
             PackageGenerator parentPackage,
@@ -37,7 +42,8 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
             int unitSize,
             boolean array,
             int arraySize,
-            boolean extension) {
+            boolean extension,
+            boolean unsignedLongs) {
         this.parentPackage = parentPackage;
         this.name = name;
         this.nameCamelCase = nameCamelCase;
@@ -49,6 +55,7 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
         this.array = array;
         this.arraySize = arraySize;
         this.extension = extension;
+        this.unsignedLongs = unsignedLongs;
     }
 
     public String getName() {
@@ -59,6 +66,10 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
         return type;
     }
 
+    public String getEnumName() {
+        return enumName;
+    }
+
     public boolean isArray() {
         return array;
     }
@@ -118,7 +129,19 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
     }
 
     public FieldSpec generateImmutableMember() {
-        return FieldSpec.builder(javaType(), nameCamelCase, Modifier.PRIVATE, Modifier.FINAL).build();
+        TypeName memberType = primitiveList() ? primitiveListType() : javaType();
+        return FieldSpec.builder(memberType, nameCamelCase, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
+    public CodeBlock generateConstructorAssignment() {
+        if (primitiveList()) {
+            return CodeBlock.builder()
+                    .addStatement("this.$1N = $2T.copyOf($1N)", nameCamelCase, primitiveListType())
+                    .build();
+        }
+        return CodeBlock.builder()
+                .addStatement("this.$1N = $1N", nameCamelCase)
+                .build();
     }
 
     public FieldSpec generateMutableMember() {
@@ -126,8 +149,12 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
     }
 
     public MethodSpec generateGetter() {
-        return MethodSpec.methodBuilder(nameCamelCase)
-                .addJavadoc(javadoc())
+        MethodSpec.Builder getter = MethodSpec.methodBuilder(nameCamelCase)
+                .addJavadoc(javadoc());
+        if (unsignedLongs && enumName == null && "uint64_t".equals(type)) {
+            getter.addJavadoc("<p>\nThis holds the bits of the unsigned value, see {@link $T}.\n", UNSIGNED_LONGS);
+        }
+        return getter
                 .addAnnotation(annotation())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("return this.$N", nameCamelCase)
@@ -147,7 +174,67 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
                 .build();
     }
 
+    /**
+     * Generates accessors which read the elements of primitive array fields without boxing them.
+     */
+    public List<MethodSpec> generateConvenienceGetters() {
+        if (!primitiveList()) {
+            return Collections.emptyList();
+        }
+        TypeName elementType = primitiveType();
+        String typeName = elementType.toString();
+        String capitalized = Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        return Arrays.asList(
+                MethodSpec.methodBuilder(nameCamelCase + "Array")
+                        .addJavadoc("Returns a copy of {@link #$N()} as a primitive array, or {@code null} if it is\nnot set.\n",
+                                nameCamelCase)
+                        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                        .addStatement("return this.$1N != null ? this.$1N.to$2NArray() : null", nameCamelCase, capitalized)
+                        .returns(ArrayTypeName.of(elementType))
+                        .build(),
+
+                MethodSpec.methodBuilder(nameCamelCase)
+                        .addJavadoc("Returns the element of {@link #$N()} at the specified index, without boxing it.\n" +
+                                "Elements which are not set read as {@code 0}, as they are sent.\n", nameCamelCase)
+                        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                        .addParameter(int.class, "index")
+                        .beginControlFlow("if (index < 0 || index >= $L)", arraySize)
+                        .addStatement("throw new $T(\"index \" + index)", IndexOutOfBoundsException.class)
+                        .endControlFlow()
+                        .addStatement("return this.$1N != null && index < this.$1N.size() ? this.$1N.get$2N(index) : 0",
+                                nameCamelCase, capitalized)
+                        .returns(elementType)
+                        .build());
+    }
+
     public List<MethodSpec> generateConvenienceSetters(ClassName className) {
+        if (primitiveList()) {
+            return Collections.singletonList(
+                    MethodSpec.methodBuilder(nameCamelCase)
+                            .varargs(true)
+                            .addJavadoc(javadoc())
+                            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                            .addParameter(ArrayTypeName.of(primitiveType()), nameCamelCase)
+                            .addStatement("return $1N($2T.of($1N))", nameCamelCase, primitiveListType())
+                            .returns(className)
+                            .build());
+        }
+        if (!array && enumName == null && "uint64_t".equals(type)) {
+            // accepts uint64 values in whichever representation the field does not use
+            MethodSpec.Builder setter = MethodSpec.methodBuilder(nameCamelCase)
+                    .addJavadoc(javadoc())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .returns(className);
+            if (unsignedLongs) {
+                setter.addParameter(BigInteger.class, nameCamelCase)
+                        .addStatement("return $1N($2T.valueOf($1N))", nameCamelCase, UNSIGNED_LONGS);
+            } else {
+                setter.addJavadoc("<p>\nThe specified long holds the bits of the unsigned value.\n")
+                        .addParameter(long.class, nameCamelCase)
+                        .addStatement("return $1N($2T.toBigInteger($1N))", nameCamelCase, UNSIGNED_LONGS);
+            }
+            return Collections.singletonList(setter.build());
+        }
         if (enumName != null) {
             return Arrays.asList(
                     MethodSpec.methodBuilder(nameCamelCase)
@@ -179,6 +266,42 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
         return Collections.emptyList();
     }
 
+    /**
+     * Generates the accessors of this field for a message view, which decode the field from the
+     * wrapped payload at the specified wire position.
+     */
+    public List<MethodSpec> generateViewGetters(int position) {
+        MethodSpec.Builder getter = MethodSpec.methodBuilder(nameCamelCase)
+                .addJavadoc(javadoc())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+        if (enumName != null) {
+            getter.addJavadoc("<p>\nThis returns the raw value of the field, see {@link $T}.\n", enumType());
+        } else if ("uint64_t".equals(type)) {
+            getter.addJavadoc("<p>\nThis returns the bits of the unsigned value, see {@link $T}.\n", UNSIGNED_LONGS);
+        }
+        if (array && "char".equals(type)) {
+            return Collections.singletonList(getter
+                    .addStatement("return readString($L, $L)", position, arraySize)
+                    .returns(String.class)
+                    .build());
+        }
+        if (array) {
+            getter.addParameter(int.class, "index")
+                    .addStatement("return $N(elementPosition($L, $L, $L, index))",
+                            viewReader(), position, unitSize, arraySize);
+        } else {
+            getter.addStatement("return $N($L)", viewReader(), position);
+        }
+        return Collections.singletonList(getter.returns(viewType()).build());
+    }
+
+    /**
+     * Returns the number of bytes which this field occupies on the wire.
+     */
+    public int wireSize() {
+        return array ? unitSize * arraySize : unitSize;
+    }
+
     public ParameterSpec generateParameter() {
         return ParameterSpec.builder(javaType(), nameCamelCase).build();
     }
@@ -190,6 +313,13 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
                 other);
     }
 
+    public void addJsonStatement(CodeBlock.Builder codeBuilder, String writer) {
+        // uint64 enums are flags, which are written through their EnumValue like other enums
+        String method = unsignedLongs && !array && enumName == null && "uint64_t".equals(type)
+                ? "unsignedValue" : "value";
+        codeBuilder.addStatement("$1N.name($2S).$3N(this.$2N)", writer, nameCamelCase, method);
+    }
+
     public void addHashCodeStatement(CodeBlock.Builder codeBuilder, String result) {
         codeBuilder.addStatement("$1N = 31 * $1N + $2T.hashCode($3N)",
                 result,
@@ -212,6 +342,54 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
         return ParameterizedTypeName.get(ENUM_VALUE, enumType());
     }
 
+    /**
+     * Returns whether this field is an array of numbers which is backed by a primitive list.
+     */
+    private boolean primitiveList() {
+        return array && enumName == null && javaType() instanceof ParameterizedTypeName
+                && primitiveType().isPrimitive();
+    }
+
+    private ClassName primitiveListType() {
+        String typeName = primitiveType().toString();
+        return ClassName.get(UTIL_PACKAGE,
+                Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1) + "ArrayList");
+    }
+
+    private String viewReader() {
+        if (enumName != null && unitSize >= 4) {
+            // enum values are ints, as held by EnumValue
+            return "readInt32";
+        }
+        switch (type) {
+            case "int8_t":
+                return "readInt8";
+            case "uint16_t":
+                return "readUint16";
+            case "int16_t":
+                return "readInt16";
+            case "uint32_t":
+                return "readUint32";
+            case "int32_t":
+                return "readInt32";
+            case "uint64_t":
+            case "int64_t":
+                return "readInt64";
+            case "float":
+                return "readFloat";
+            case "double":
+                return "readDouble";
+        }
+        return "readUint8";
+    }
+
+    private TypeName viewType() {
+        if (enumName != null) {
+            return TypeName.INT;
+        }
+        return "uint64_t".equals(type) ? TypeName.LONG : primitiveType();
+    }
+
     private final TypeName arrayType() {
         if ("char".equals(type)) {
             return ClassName.get(String.class);
@@ -236,7 +414,7 @@ public class FieldGenerator implements Comparable<FieldGenerator> {
                 return TypeName.LONG;
 
             case "uint64_t":
-                return ClassName.get(BigInteger.class);
+                return unsignedLongs ? TypeName.LONG : ClassName.get(BigInteger.class);
 
             case "float":
                 return TypeName.FLOAT;
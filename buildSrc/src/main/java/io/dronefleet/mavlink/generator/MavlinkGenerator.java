@@ -2,20 +2,105 @@ package io.dronefleet.mavlink.generator;
 
 import com.squareup.javapoet.JavaFile;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MavlinkGenerator {
+    /**
+     * Messages which are always generated, because connections and the protocol clients of the
+     * root project depend on them.
+     */
+    private static final Set<String> REQUIRED_MESSAGES = new HashSet<>(Arrays.asList(
+            // connections, rates and traffic
+            "HEARTBEAT", "SYS_STATUS", "GPS_RAW_INT", "ATTITUDE", "GLOBAL_POSITION_INT", "REQUEST_DATA_STREAM",
+            // commands
+            "COMMAND_LONG", "COMMAND_INT", "COMMAND_ACK",
+            // parameters
+            "PARAM_REQUEST_LIST", "PARAM_REQUEST_READ", "PARAM_SET", "PARAM_VALUE",
+            // missions
+            "MISSION_COUNT", "MISSION_REQUEST_LIST", "MISSION_REQUEST", "MISSION_REQUEST_INT",
+            "MISSION_ITEM_INT", "MISSION_WRITE_PARTIAL_LIST", "MISSION_ACK",
+            // files and logs
+            "FILE_TRANSFER_PROTOCOL", "LOG_REQUEST_LIST", "LOG_ENTRY", "LOG_REQUEST_DATA", "LOG_DATA",
+            "LOG_REQUEST_END",
+            // time synchronization and RTK corrections
+            "TIMESYNC", "GPS_RTCM_DATA"));
+
+    /**
+     * Enums which are always generated, because the root project uses them although no message
+     * refers to them.
+     */
+    private static final Set<String> REQUIRED_ENUMS = new HashSet<>(Arrays.asList(
+            "MAV_DATA_STREAM", "MAV_FTP_OPCODE", "MAV_FTP_ERR"));
+
     private final List<PackageGenerator> packages;
 
     MavlinkGenerator(List<PackageGenerator> packages) {
         this.packages = packages;
     }
 
+    /**
+     * Limits generation to the specified messages, the messages of the specified dialects and of
+     * the dialects they include, and the enums which those messages refer to. Dialect classes are
+     * still generated for every dialect, with only the retained messages. The messages and enums
+     * which the root project uses, such as those of the parameter, mission, command, FTP and log
+     * clients, are always retained, so that it compiles against a trimmed dialect. Calling this
+     * with no messages and no dialects has no effect.
+     *
+     * @param messageNames The names of the messages to retain, as they appear in the XML
+     *                     definitions, for example {@code GLOBAL_POSITION_INT}.
+     * @param dialectNames The names of the dialects to retain all messages of, which are the
+     *                     lower-case names of their XML files without the extension, for example
+     *                     {@code common}.
+     * @return This generator.
+     * @throws IllegalArgumentException if any of the specified messages or dialects does not exist.
+     */
+    public MavlinkGenerator trim(Collection<String> messageNames, Collection<String> dialectNames) {
+        if (messageNames.isEmpty() && dialectNames.isEmpty()) {
+            return this;
+        }
+
+        Set<String> unknownDialects = new HashSet<>(dialectNames);
+        Set<PackageGenerator> dialects = new HashSet<>();
+        packages.stream()
+                .filter(p -> unknownDialects.remove(p.dialectName()))
+                .forEach(p -> addWithDependencies(p, dialects));
+        if (!unknownDialects.isEmpty()) {
+            throw new IllegalArgumentException("unknown dialects " + unknownDialects);
+        }
+
+        Set<String> unknownMessages = new HashSet<>(messageNames);
+        packages.forEach(p -> p.getMessages().forEach(m -> unknownMessages.remove(m.getName())));
+        if (!unknownMessages.isEmpty()) {
+            throw new IllegalArgumentException("unknown messages " + unknownMessages);
+        }
+
+        Set<String> enumNames = new HashSet<>();
+        for (PackageGenerator p : packages) {
+            p.getMessages().removeIf(m -> !dialects.contains(p)
+                    && !messageNames.contains(m.getName())
+                    && !REQUIRED_MESSAGES.contains(m.getName()));
+            p.getMessages().forEach(m -> enumNames.addAll(m.referencedEnums()));
+        }
+        packages.forEach(p -> p.getEnums().removeIf(e -> !enumNames.contains(e.getName())
+                && !REQUIRED_ENUMS.contains(e.getName())));
+        return this;
+    }
+
     public List<JavaFile> generate() {
         return packages.stream()
                 .map(PackageGenerator::generate)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
     }
+
+    private void addWithDependencies(PackageGenerator dialect, Set<PackageGenerator> dialects) {
+        if (dialects.add(dialect)) {
+            dialect.getDependencies().forEach(d -> addWithDependencies(d, dialects));
+        }
+    }
 }
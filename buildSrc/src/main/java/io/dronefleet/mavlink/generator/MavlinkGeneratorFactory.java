@@ -17,10 +17,21 @@ public class MavlinkGeneratorFactory {
 
     private final String basePackage;
     private final List<File> xmlResources;
+    private final boolean unsignedLongs;
 
     public MavlinkGeneratorFactory(String basePackage, List<File> xmlResources) {
+        this(basePackage, xmlResources, false);
+    }
+
+    /**
+     * @param unsignedLongs Whether to generate {@code uint64_t} fields as primitive {@code long}
+     *                      fields which hold the bits of the unsigned value, rather than as
+     *                      {@code BigInteger} fields.
+     */
+    public MavlinkGeneratorFactory(String basePackage, List<File> xmlResources, boolean unsignedLongs) {
         this.basePackage = basePackage;
         this.xmlResources = xmlResources;
+        this.unsignedLongs = unsignedLongs;
     }
 
     public MavlinkGenerator newGenerator() {
@@ -94,7 +105,8 @@ public class MavlinkGeneratorFactory {
                 fieldDef.getType().getTypeLength(),
                 fieldDef.getType().isArray(),
                 fieldDef.getType().getArrayLength(),
-                fieldDef.isExtension());
+                fieldDef.isExtension(),
+                unsignedLongs);
     }
 
     private void visitEnum(MavlinkEnumDef enumDef, PackageGenerator packageGenerator) {
@@ -5,6 +5,8 @@ import com.squareup.javapoet.*;
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,6 +20,22 @@ public class MessageGenerator {
             "io.dronefleet.mavlink.annotations",
             "MavlinkMessageBuilder");
 
+    private static final ClassName MAVLINK_MESSAGE_DESCRIPTOR = ClassName.get(
+            "io.dronefleet.mavlink",
+            "MavlinkMessageDescriptor");
+
+    private static final ClassName JSON_WRITABLE = ClassName.get(
+            "io.dronefleet.mavlink.serialization.json",
+            "JsonWritable");
+
+    private static final ClassName JSON_WRITER = ClassName.get(
+            "io.dronefleet.mavlink.serialization.json",
+            "JsonWriter");
+
+    private static final ClassName PAYLOAD_VIEW = ClassName.get(
+            "io.dronefleet.mavlink.serialization.payload",
+            "PayloadView");
+
     private final PackageGenerator parentPackage;
     private final int id;
     private final String name;
@@ -58,6 +76,10 @@ public class MessageGenerator {
         return className;
     }
 
+    public ClassName viewClassName() {
+        return ClassName.get(className.packageName(), className.simpleName() + "View");
+    }
+
     public ClassName builderClassName() {
         return ClassName.get(className.packageName(), className.simpleName(), "Builder");
     }
@@ -66,6 +88,16 @@ public class MessageGenerator {
         fields.add(generator);
     }
 
+    /**
+     * Returns the names of the enums which the fields of this message refer to.
+     */
+    public Set<String> referencedEnums() {
+        return fields.stream()
+                .map(FieldGenerator::getEnumName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
     public String javadoc() {
         String javadoc = parentPackage.processJavadoc(description);
         if (deprecation.deprecated()) {
@@ -93,6 +125,32 @@ public class MessageGenerator {
         return crc.get() & 0xff;
     }
 
+    /**
+     * Generates the expression which creates the descriptor of this message, holding its wire
+     * properties so that they need not be read from annotations at runtime.
+     */
+    public CodeBlock generateDescriptor() {
+        int baseLength = 0;
+        int length = 0;
+        int targetSystemOffset = -1;
+        int targetComponentOffset = -1;
+        for (FieldGenerator field : fields.stream().sorted().collect(Collectors.toList())) {
+            if ("target_system".equals(field.getName())) {
+                targetSystemOffset = length;
+            } else if ("target_component".equals(field.getName())) {
+                targetComponentOffset = length;
+            }
+            length += field.wireSize();
+            if (!field.isExtension()) {
+                baseLength = length;
+            }
+        }
+        // the class is referred to by name, so that it is only loaded once the message is received
+        return CodeBlock.of("new $T($L, $S, $L, $L, $L, $L, $L)",
+                MAVLINK_MESSAGE_DESCRIPTOR, id, className.reflectionName(), crc(), baseLength, length,
+                targetSystemOffset, targetComponentOffset);
+    }
+
     public AnnotationSpec annotation() {
         AnnotationSpec.Builder annotation = AnnotationSpec.builder(MAVLINK_MESSAGE_INFO)
                 .addMember("id", "$L", id)
@@ -173,6 +231,19 @@ public class MessageGenerator {
                 .build();
     }
 
+    public MethodSpec generateWriteJson() {
+        CodeBlock.Builder jsonCode = CodeBlock.builder()
+                .addStatement("writer.beginObject()");
+        fields.forEach(f -> f.addJsonStatement(jsonCode, "writer"));
+        jsonCode.addStatement("writer.endObject()");
+        return MethodSpec.methodBuilder("writeJson")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(JSON_WRITER, "writer")
+                .addCode(jsonCode.build())
+                .build();
+    }
+
     public MethodSpec generateToString() {
         CodeBlock.Builder toStringCode = CodeBlock.builder();
         String stmt = fields.stream()
@@ -195,6 +266,7 @@ public class MessageGenerator {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc(javadoc())
                 .addAnnotations(annotations())
+                .addSuperinterface(JSON_WRITABLE)
                 .addType(generateBuilder())
                 .addMethod(MethodSpec.methodBuilder("builder")
                         .addJavadoc("Returns a builder instance for this message.\n")
@@ -207,7 +279,9 @@ public class MessageGenerator {
                         .map(FieldGenerator::generateImmutableMember)
                         .collect(Collectors.toList()))
                 .addMethods(fields.stream()
-                        .map(FieldGenerator::generateGetter)
+                        .flatMap(f -> Stream.concat(
+                                Stream.of(f.generateGetter()),
+                                f.generateConvenienceGetters().stream()))
                         .collect(Collectors.toList()))
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PRIVATE)
@@ -215,14 +289,32 @@ public class MessageGenerator {
                                 .map(FieldGenerator::generateParameter)
                                 .collect(Collectors.toList()))
                         .addCode(fields.stream()
-                                .map(f -> CodeBlock.builder()
-                                        .addStatement("this.$1N = $1N", f.getNameCamelCase())
-                                        .build())
+                                .map(FieldGenerator::generateConstructorAssignment)
                                 .collect(CodeBlock.joining("")))
                         .build())
                 .addMethod(generateEquals())
                 .addMethod(generateHashCode())
+                .addMethod(generateWriteJson())
                 .addMethod(generateToString())
                 .build();
     }
+
+    public TypeSpec generateView() {
+        List<MethodSpec> getters = new ArrayList<>();
+        int position = 0;
+        for (FieldGenerator field : fields.stream().sorted().collect(Collectors.toList())) {
+            getters.addAll(field.generateViewGetters(position));
+            position += field.wireSize();
+        }
+        TypeSpec.Builder view = TypeSpec.classBuilder(viewClassName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(PAYLOAD_VIEW, viewClassName()))
+                .addJavadoc("A reusable view of the payload of a {@link $T} message, which decodes fields\n" +
+                        "when they are accessed without creating the message.\n", className)
+                .addMethods(getters);
+        if (deprecation.deprecated() || workInProgress) {
+            view.addAnnotation(Deprecated.class);
+        }
+        return view.build();
+    }
 }
@@ -20,9 +20,9 @@ public class PackageGenerator {
             "io.dronefleet.mavlink",
             "AbstractMavlinkDialect");
 
-    private static final ClassName UNMODIFIABLE_MAP_BUILDER = ClassName.get(
-            "io.dronefleet.mavlink.util",
-            "UnmodifiableMapBuilder");
+    private static final ClassName MAVLINK_MESSAGE_DESCRIPTOR = ClassName.get(
+            "io.dronefleet.mavlink",
+            "MavlinkMessageDescriptor");
 
     private final String xmlName;
     private final String packageName;
@@ -105,6 +105,18 @@ public class PackageGenerator {
         messages.add(messageGenerator);
     }
 
+    public List<PackageGenerator> getDependencies() {
+        return dependencies;
+    }
+
+    public List<MessageGenerator> getMessages() {
+        return messages;
+    }
+
+    public List<EnumGenerator> getEnums() {
+        return enums;
+    }
+
     public String processJavadoc(String description) {
         if (description == null) {
             description = "";
@@ -144,27 +156,22 @@ public class PackageGenerator {
             dependenciesInitializer.add(
                     dependencies.stream()
                             .map(dep -> CodeBlock.builder()
-                                    .add("new $T()", dep.dialectClassName())
+                                    .add("$T.instance()", dep.dialectClassName())
                                     .build())
                             .collect(CodeBlock.joining(",\n", "(\n", ")")));
             dependenciesInitializer.add("$<$<");
         }
 
-        CodeBlock.Builder messageTypesInitializer = CodeBlock.builder();
+        CodeBlock.Builder descriptorsInitializer = CodeBlock.builder();
         if (messages.size() == 0) {
-            messageTypesInitializer.add("$T.emptyMap()", Collections.class);
+            descriptorsInitializer.add("$T.emptyList()", Collections.class);
         } else {
-            messageTypesInitializer.add("new $T()\n$>$>", ParameterizedTypeName.get(
-                    UNMODIFIABLE_MAP_BUILDER,
-                    TypeName.get(Integer.class),
-                    TypeName.get(Class.class)));
-            messageTypesInitializer.add(
+            descriptorsInitializer.add("$T.asList$>$>", Arrays.class);
+            descriptorsInitializer.add(
                     messages.stream()
-                            .map(m -> CodeBlock.builder()
-                                    .add(".put($L, $T.class)", m.getId(), m.getClassName())
-                                    .build())
-                            .collect(CodeBlock.joining("\n", "", "\n.build()")));
-            messageTypesInitializer.add("$<$<");
+                            .map(MessageGenerator::generateDescriptor)
+                            .collect(CodeBlock.joining(",\n", "(\n", ")")));
+            descriptorsInitializer.add("$<$<");
         }
 
         return TypeSpec.classBuilder(dialectClassName())
@@ -178,18 +185,32 @@ public class PackageGenerator {
                         .initializer(dependenciesInitializer.build())
                         .build())
                 .addField(FieldSpec.builder(
-                        ParameterizedTypeName.get(Map.class, Integer.class, Class.class),
-                        "messages",
+                        ParameterizedTypeName.get(ClassName.get(List.class), MAVLINK_MESSAGE_DESCRIPTOR),
+                        "descriptors",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .addJavadoc("Descriptors of all message types supported by this dialect.\n")
+                        .initializer(descriptorsInitializer.build())
+                        .build())
+                .addField(FieldSpec.builder(
+                        dialectClassName(),
+                        "instance",
                         Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
-                        .addJavadoc("A list of all message types supported by this dialect.\n")
-                        .initializer(messageTypesInitializer.build())
+                        .addJavadoc("The shared instance of this dialect.\n")
+                        .initializer("new $T()", dialectClassName())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("instance")
+                        .addJavadoc("Returns the shared instance of this dialect. Dialects are immutable, so a single\n" +
+                                "instance can be used by any number of connections.\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addStatement("return $N", "instance")
+                        .returns(dialectClassName())
                         .build())
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addStatement("super($S, $N, $N)",
                                 dialectName(),
                                 "dependencies",
-                                "messages")
+                                "descriptors")
                         .build())
                 .build();
     }
@@ -197,7 +218,7 @@ public class PackageGenerator {
     public List<JavaFile> generate() {
         return Stream.concat(
                 Stream.concat(
-                        messages.stream().map(MessageGenerator::generate),
+                        messages.stream().flatMap(m -> Stream.of(m.generate(), m.generateView())),
                         enums.stream().map(EnumGenerator::generate)),
                 Stream.of(generateDialect()))
                 .map(ts -> JavaFile.builder(packageName, ts)
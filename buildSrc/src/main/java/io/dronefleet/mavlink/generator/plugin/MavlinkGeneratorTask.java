@@ -3,6 +3,7 @@ package io.dronefleet.mavlink.generator.plugin;
 import io.dronefleet.mavlink.generator.MavlinkGenerator;
 import io.dronefleet.mavlink.generator.MavlinkGeneratorFactory;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.TaskAction;
@@ -11,7 +12,9 @@ import javax.xml.stream.XMLStreamException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 public class MavlinkGeneratorTask extends DefaultTask {
 
@@ -21,6 +24,15 @@ public class MavlinkGeneratorTask extends DefaultTask {
     @OutputDirectory
     private File generatedSources;
 
+    @Input
+    private boolean unsignedLongs;
+
+    @Input
+    private List<String> messages = new ArrayList<>();
+
+    @Input
+    private List<String> dialects = new ArrayList<>();
+
     public File getDefinitions() {
         return definitions;
     }
@@ -37,6 +49,46 @@ public class MavlinkGeneratorTask extends DefaultTask {
         this.generatedSources = generatedSources;
     }
 
+    public boolean isUnsignedLongs() {
+        return unsignedLongs;
+    }
+
+    /**
+     * Sets whether {@code uint64_t} fields are generated as primitive {@code long} fields which hold
+     * the bits of the unsigned value, instead of as {@code BigInteger} fields. Defaults to
+     * {@code false}.
+     */
+    public void setUnsignedLongs(boolean unsignedLongs) {
+        this.unsignedLongs = unsignedLongs;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Limits the generated messages to the specified ones, along with the enums they refer to, for
+     * example {@code messages = ['GLOBAL_POSITION_INT', 'ATTITUDE']}. The messages which the root
+     * project uses are always generated. When neither messages nor dialects are set, all messages
+     * are generated.
+     */
+    public void setMessages(List<String> messages) {
+        this.messages = messages;
+    }
+
+    public List<String> getDialects() {
+        return dialects;
+    }
+
+    /**
+     * Limits the generated messages to those of the specified dialects and of the dialects they
+     * include, in addition to any messages set through {@link #setMessages(List)}, for example
+     * {@code dialects = ['common']}.
+     */
+    public void setDialects(List<String> dialects) {
+        this.dialects = dialects;
+    }
+
     @TaskAction
     public void generate() throws FileNotFoundException, XMLStreamException {
         // no need to proceed if definitions is null
@@ -60,8 +112,10 @@ public class MavlinkGeneratorTask extends DefaultTask {
         //noinspection ConstantConditions
         MavlinkGeneratorFactory generatorFactory = new MavlinkGeneratorFactory(
                 "io.dronefleet.mavlink",
-                Arrays.asList(definitions.listFiles()));
-        MavlinkGenerator generator = generatorFactory.newGenerator();
+                Arrays.asList(definitions.listFiles()),
+                unsignedLongs);
+        MavlinkGenerator generator = generatorFactory.newGenerator()
+                .trim(messages, dialects);
         generator.generate().forEach(f -> {
             try {
                 f.writeTo(generatedSources);
@@ -0,0 +1,70 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+import io.dronefleet.mavlink.protocol.util.CrcX25;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures CRC and signature generation over packets of various payload lengths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksumBenchmark {
+
+    @Param({"9", "28", "255"})
+    public int payloadLength;
+
+    private byte[] payload;
+    private byte[] packet;
+    private byte[] signedPacket;
+    private byte[] secretKey;
+    private long timestamp;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        payload = new byte[payloadLength];
+        new Random(0).nextBytes(payload);
+        secretKey = MessageDigest.getInstance("SHA-256")
+                .digest("a secret phrase".getBytes(StandardCharsets.UTF_8));
+        packet = MavlinkPacket.createUnsignedMavlink2Packet(0, 1, 1, 0, 50, payload).getRawBytes();
+        signedPacket = MavlinkPacket.createSignedMavlink2Packet(0, 1, 1, 0, 50, payload, 1, 0, secretKey)
+                .getRawBytes();
+    }
+
+    @Benchmark
+    public int crcX25() {
+        CrcX25 crc = new CrcX25();
+        crc.accumulate(payload);
+        return crc.get();
+    }
+
+    @Benchmark
+    public int generateCrc() {
+        return MavlinkPacket.generateCrc(packet, 50);
+    }
+
+    @Benchmark
+    public byte[] generateSignature() {
+        return MavlinkPacket.generateSignature(signedPacket, 1, timestamp++, secretKey);
+    }
+}
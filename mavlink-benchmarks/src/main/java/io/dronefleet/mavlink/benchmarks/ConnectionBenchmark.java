@@ -0,0 +1,126 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end round trips of messages between two connections: Serializing, framing and
+ * writing on one end, then reading, validating and deserializing on the other.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionBenchmark {
+
+    @Param({"Heartbeat", "GlobalPositionInt", "MissionItemInt", "FileTransferProtocol"})
+    public String message;
+
+    private Object payload;
+    private MavlinkConnection sender;
+    private MavlinkConnection receiver;
+
+    @Setup
+    public void setUp() {
+        payload = Messages.named(message);
+        Loopback loopback = new Loopback();
+        sender = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), loopback.out);
+        receiver = MavlinkConnection.create(loopback.in, new NullOutputStream());
+    }
+
+    @Benchmark
+    public MavlinkMessage mavlink1() throws IOException {
+        sender.send1(1, 1, payload);
+        return receiver.next();
+    }
+
+    @Benchmark
+    public MavlinkMessage mavlink2() throws IOException {
+        sender.send2(1, 1, payload);
+        return receiver.next();
+    }
+
+    /**
+     * A single threaded in-memory pipe, which reads back whatever was written to it.
+     */
+    private static final class Loopback {
+        private byte[] buffer = new byte[4096];
+        private int readIndex;
+        private int writeIndex;
+
+        private final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                if (readIndex == writeIndex) {
+                    readIndex = writeIndex = 0;
+                }
+                if (writeIndex + len > buffer.length) {
+                    byte[] grown = new byte[Math.max(buffer.length * 2, writeIndex - readIndex + len)];
+                    System.arraycopy(buffer, readIndex, grown, 0, writeIndex - readIndex);
+                    writeIndex -= readIndex;
+                    readIndex = 0;
+                    buffer = grown;
+                }
+                System.arraycopy(b, off, buffer, writeIndex, len);
+                writeIndex += len;
+            }
+        };
+
+        private final InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                return readIndex < writeIndex ? buffer[readIndex++] & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (readIndex == writeIndex) {
+                    return -1;
+                }
+                int count = Math.min(len, writeIndex - readIndex);
+                System.arraycopy(buffer, readIndex, b, off, count);
+                readIndex += count;
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return writeIndex - readIndex;
+            }
+        };
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.ardupilotmega.ArdupilotmegaDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures message resolution through a dialect and its dependencies. The ardupilotmega dialect
+ * resolves its own messages directly, common messages through one dependency and minimal
+ * messages (such as heartbeats) through two.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialectBenchmark {
+
+    /**
+     * MEMINFO (ardupilotmega), GLOBAL_POSITION_INT (common), HEARTBEAT (minimal) and an unknown ID.
+     */
+    @Param({"152", "33", "0", "65000"})
+    public int messageId;
+
+    private MavlinkDialect dialect;
+
+    @Setup
+    public void setUp() {
+        dialect = ArdupilotmegaDialect.instance();
+    }
+
+    @Benchmark
+    public boolean supports() {
+        return dialect.supports(messageId);
+    }
+
+    @Benchmark
+    public Class resolve() {
+        return dialect.resolve(messageId);
+    }
+
+    @Benchmark
+    public int crcExtra() {
+        return dialect.crcExtra(messageId);
+    }
+}
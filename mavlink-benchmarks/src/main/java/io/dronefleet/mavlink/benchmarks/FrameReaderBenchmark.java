@@ -0,0 +1,89 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.common.CommonDialect;
+import io.dronefleet.mavlink.protocol.MavlinkFrameReader;
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+import io.dronefleet.mavlink.protocol.MavlinkPacketReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures framing throughput over clean and noisy streams. Each operation reads through a
+ * stream of 10,000 packets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameReaderBenchmark {
+
+    @Param({"clean", "noisy"})
+    public String stream;
+
+    private byte[] bytes;
+    private int[] crcExtras;
+
+    @Setup
+    public void setUp() {
+        byte[] clean = Messages.stream(10_000);
+        bytes = "noisy".equals(stream) ? Messages.noisy(clean, 0) : clean;
+        CommonDialect dialect = CommonDialect.instance();
+        crcExtras = new int[1 << 16];
+        for (int i = 0; i < crcExtras.length; i++) {
+            crcExtras[i] = dialect.crcExtra(i);
+        }
+    }
+
+    /**
+     * Splits the stream into frames without validating them.
+     */
+    @Benchmark
+    public int frames() throws IOException {
+        MavlinkFrameReader reader = new MavlinkFrameReader(new ByteArrayInputStream(bytes));
+        int frames = 0;
+        while (reader.next()) {
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Reads packets from the stream, dropping those which fail CRC validation as a connection would.
+     */
+    @Benchmark
+    public int validPackets() throws IOException {
+        MavlinkPacketReader reader = new MavlinkPacketReader(new ByteArrayInputStream(bytes));
+        int packets = 0;
+        try {
+            //noinspection InfiniteLoopStatement
+            while (true) {
+                MavlinkPacket packet = reader.next();
+                int messageId = packet.getMessageId();
+                int crcExtra = messageId < crcExtras.length ? crcExtras[messageId] : -1;
+                if (crcExtra != -1 && packet.validateCrc(crcExtra)) {
+                    packets++;
+                } else {
+                    reader.drop();
+                }
+            }
+        } catch (EOFException e) {
+            return packets;
+        }
+    }
+}
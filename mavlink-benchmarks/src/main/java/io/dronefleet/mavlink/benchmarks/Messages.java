@@ -0,0 +1,148 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.common.FileTransferProtocol;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavFrame;
+import io.dronefleet.mavlink.common.MavMissionType;
+import io.dronefleet.mavlink.common.MissionItemInt;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.minimal.MavAutopilot;
+import io.dronefleet.mavlink.minimal.MavModeFlag;
+import io.dronefleet.mavlink.minimal.MavState;
+import io.dronefleet.mavlink.minimal.MavType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Representative messages and encoded streams which benchmarks run against.
+ */
+final class Messages {
+
+    private Messages() {
+    }
+
+    static Heartbeat heartbeat() {
+        return Heartbeat.builder()
+                .type(MavType.MAV_TYPE_QUADROTOR)
+                .autopilot(MavAutopilot.MAV_AUTOPILOT_ARDUPILOTMEGA)
+                .baseMode(MavModeFlag.MAV_MODE_FLAG_CUSTOM_MODE_ENABLED, MavModeFlag.MAV_MODE_FLAG_SAFETY_ARMED)
+                .customMode(4)
+                .systemStatus(MavState.MAV_STATE_ACTIVE)
+                .mavlinkVersion(3)
+                .build();
+    }
+
+    static GlobalPositionInt globalPositionInt() {
+        return GlobalPositionInt.builder()
+                .timeBootMs(1_234_567)
+                .lat(473_977_420)
+                .lon(85_455_940)
+                .alt(488_120)
+                .relativeAlt(25_000)
+                .vx(-120)
+                .vy(35)
+                .vz(-4)
+                .hdg(27_015)
+                .build();
+    }
+
+    static MissionItemInt missionItemInt() {
+        return MissionItemInt.builder()
+                .targetSystem(1)
+                .targetComponent(1)
+                .seq(12)
+                .frame(MavFrame.MAV_FRAME_GLOBAL_RELATIVE_ALT_INT)
+                .command(MavCmd.MAV_CMD_NAV_WAYPOINT)
+                .current(0)
+                .autocontinue(1)
+                .param1(2f)
+                .param2(1.5f)
+                .x(473_977_420)
+                .y(85_455_940)
+                .z(30f)
+                .missionType(MavMissionType.MAV_MISSION_TYPE_MISSION)
+                .build();
+    }
+
+    static FileTransferProtocol fileTransferProtocol() {
+        byte[] payload = new byte[251];
+        new Random(0).nextBytes(payload);
+        return FileTransferProtocol.builder()
+                .targetNetwork(0)
+                .targetSystem(1)
+                .targetComponent(1)
+                .payload(payload)
+                .build();
+    }
+
+    /**
+     * Resolves a representative message by its simple class name.
+     */
+    static Object named(String name) {
+        switch (name) {
+            case "Heartbeat":
+                return heartbeat();
+            case "GlobalPositionInt":
+                return globalPositionInt();
+            case "MissionItemInt":
+                return missionItemInt();
+            case "FileTransferProtocol":
+                return fileTransferProtocol();
+            default:
+                throw new IllegalArgumentException("unknown message " + name);
+        }
+    }
+
+    /**
+     * Encodes a telemetry-like stream of the specified number of Mavlink 2 packets, mostly
+     * made of position reports with a heartbeat every 10 packets and an occasional mission item
+     * and file transfer packet.
+     */
+    static byte[] stream(int packets) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), out);
+            Object heartbeat = heartbeat();
+            Object position = globalPositionInt();
+            Object missionItem = missionItemInt();
+            Object fileTransfer = fileTransferProtocol();
+            for (int i = 0; i < packets; i++) {
+                Object message = i % 10 == 0 ? heartbeat
+                        : i % 50 == 5 ? missionItem
+                        : i % 100 == 7 ? fileTransfer
+                        : position;
+                connection.send2(1, 1, message);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds noise to the specified stream, as seen on lossy serial links: Runs of random bytes
+     * between packets, stray magic markers and corrupted bytes within packets.
+     */
+    static byte[] noisy(byte[] stream, long seed) {
+        Random random = new Random(seed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(stream.length * 2);
+        for (byte b : stream) {
+            if (random.nextInt(100) == 0) {
+                byte[] garbage = new byte[random.nextInt(32)];
+                random.nextBytes(garbage);
+                out.write(garbage, 0, garbage.length);
+            }
+            if (random.nextInt(500) == 0) {
+                out.write(random.nextBoolean() ? 0xFD : 0xFE);
+            }
+            out.write(random.nextInt(2000) == 0 ? random.nextInt(256) : b);
+        }
+        return out.toByteArray();
+    }
+}
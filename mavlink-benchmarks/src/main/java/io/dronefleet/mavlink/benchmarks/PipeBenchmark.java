@@ -0,0 +1,69 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.protocol.util.DuplexPipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a connection sending position reports to another connection over a
+ * {@link DuplexPipe}. The receiving connection reads on a background thread, and its progress
+ * bounds the sender through the capacity of the pipe, so the result reflects end-to-end throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipeBenchmark {
+
+    private Object payload;
+    private DuplexPipe pipe;
+    private MavlinkConnection sender;
+    private Thread receiver;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        payload = Messages.globalPositionInt();
+        pipe = new DuplexPipe();
+        sender = MavlinkConnection.create(pipe.a().inputStream(), pipe.a().outputStream());
+        MavlinkConnection connection = MavlinkConnection.create(pipe.b().inputStream(), pipe.b().outputStream());
+        receiver = new Thread(() -> {
+            try {
+                //noinspection InfiniteLoopStatement
+                while (true) {
+                    connection.next();
+                }
+            } catch (IOException e) {
+                // The pipe was closed.
+            }
+        }, "pipe-benchmark-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        pipe.close();
+        receiver.join();
+    }
+
+    @Benchmark
+    public void roundTrip() throws IOException {
+        sender.send2(1, 1, payload);
+    }
+}
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.benchmarks;
+
+import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadDeserializer;
+import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadSerializer;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadDeserializer;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures payload serialization and deserialization of representative messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"Heartbeat", "GlobalPositionInt", "MissionItemInt", "FileTransferProtocol"})
+    public String message;
+
+    private final MavlinkPayloadSerializer serializer = new ReflectionPayloadSerializer();
+    private final MavlinkPayloadDeserializer deserializer = new ReflectionPayloadDeserializer();
+
+    private Object payload;
+    private Class<?> messageType;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        payload = Messages.named(message);
+        messageType = payload.getClass();
+        bytes = serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return deserializer.deserialize(bytes, messageType);
+    }
+}
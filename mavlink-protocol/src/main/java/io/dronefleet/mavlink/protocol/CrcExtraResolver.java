@@ -0,0 +1,17 @@
+package io.dronefleet.mavlink.protocol;
+
+/**
+ * Resolves the CRC extra of messages by their ID. Implementations are typically backed by a dialect,
+ * and are used by utilities of this library which need to CRC validate packets without having any
+ * knowledge of the meaning of messages.
+ */
+public interface CrcExtraResolver {
+
+    /**
+     * Resolves the CRC extra of the message of the specified ID.
+     *
+     * @param messageId The ID of the message to resolve the CRC extra for.
+     * @return The CRC extra of the specified message, or {@code -1} if the message is unknown.
+     */
+    int crcExtra(int messageId);
+}
@@ -0,0 +1,225 @@
+package io.dronefleet.mavlink.protocol;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A memory-mapped telemetry log (tlog) paired with its {@link TlogIndex}. This class answers time
+ * range and message type queries by seeking directly to matching entries, rather than by scanning
+ * the log.
+ * <p>
+ * Queries return entry offsets, which can then be resolved using {@link #packetAt(long)} and
+ * {@link #timestampAt(long)}. Time based queries assume that the timestamps of the log are
+ * monotonic, which is the case for logs recorded by a single process.
+ */
+public class IndexedTlog implements Closeable {
+
+    /**
+     * Opens a tlog along with its index. The index is read from the log's sidecar file if one
+     * exists and matches both the log and the validation mode of the builder. Otherwise, the log is indexed using the specified builder, and
+     * the resulting index is written to the sidecar file.
+     *
+     * @param path    The path of the tlog to open.
+     * @param builder The builder to use if the log needs to be indexed.
+     * @return The indexed log.
+     * @throws IOException if an IO error occurs.
+     */
+    public static IndexedTlog open(Path path, TlogIndex.Builder builder) throws IOException {
+        MappedTlog log = MappedTlog.open(path);
+        try {
+            Path sidecar = sidecarPath(path);
+            if (Files.exists(sidecar)) {
+                try {
+                    TlogIndex index = TlogIndex.read(sidecar);
+                    if (index.matches(log, builder)) {
+                        return new IndexedTlog(log, index, builder.crcExtras());
+                    }
+                } catch (IOException e) {
+                    // The sidecar is unreadable, and will be replaced below.
+                }
+            }
+            TlogIndex index = builder.build(log);
+            index.write(sidecar);
+            return new IndexedTlog(log, index, builder.crcExtras());
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a tlog along with its index, indexing the log with default settings if needed. See
+     * {@link #open(Path, TlogIndex.Builder)}.
+     */
+    public static IndexedTlog open(Path path) throws IOException {
+        return open(path, TlogIndex.builder());
+    }
+
+    /**
+     * Returns the path of the sidecar index file of the specified log, which is the path of the
+     * log with an {@code .idx} suffix.
+     */
+    public static Path sidecarPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    private final MappedTlog log;
+    private final TlogIndex index;
+    private final CrcExtraResolver crcExtras;
+
+    public IndexedTlog(MappedTlog log, TlogIndex index) {
+        this(log, index, null);
+    }
+
+    /**
+     * @param log       The log.
+     * @param index     The index of the log.
+     * @param crcExtras The resolver to CRC validate entries with when scanning the log for time
+     *                  based queries, which should be the one the index was built with, or
+     *                  {@code null} to only validate entries structurally.
+     */
+    public IndexedTlog(MappedTlog log, TlogIndex index, CrcExtraResolver crcExtras) {
+        this.log = log;
+        this.index = index;
+        this.crcExtras = crcExtras;
+    }
+
+    /**
+     * Returns the underlying log.
+     */
+    public MappedTlog log() {
+        return log;
+    }
+
+    /**
+     * Returns the index of the underlying log.
+     */
+    public TlogIndex index() {
+        return index;
+    }
+
+    /**
+     * Returns the offset of the first entry which timestamp is at or after the specified timestamp.
+     *
+     * @param timestamp The timestamp to seek to, in microseconds since the epoch.
+     * @return The offset of the entry, or {@code -1} if there is no such entry.
+     */
+    public long seek(long timestamp) {
+        long checkpoint = index.checkpoint(timestamp);
+        if (checkpoint == -1) {
+            return -1;
+        }
+        // checkpoints are offsets of accepted entries, so scanning resumes in sync
+        TlogScanner scanner = new TlogScanner(log, crcExtras, checkpoint, log.size()).synced();
+        while (scanner.next()) {
+            if (scanner.timestamp() >= timestamp) {
+                return scanner.offset();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the offsets of all entries within the specified time range.
+     *
+     * @param from The beginning of the range (inclusive), in microseconds since the epoch.
+     * @param to   The end of the range (exclusive), in microseconds since the epoch.
+     * @return The offsets of the entries within the range, in log order.
+     */
+    public long[] offsets(long from, long to) {
+        long start = seek(from);
+        if (start == -1) {
+            return new long[0];
+        }
+        long[] offsets = new long[64];
+        int count = 0;
+        TlogScanner scanner = new TlogScanner(log, crcExtras, start, log.size()).synced();
+        while (scanner.next() && scanner.timestamp() < to) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = scanner.offset();
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Returns the offsets of all entries of the specified message which originated from the
+     * specified system. See {@link TlogIndex#offsets(int, int)}.
+     */
+    public long[] offsets(int systemId, int messageId) {
+        return index.offsets(systemId, messageId);
+    }
+
+    /**
+     * Returns the offsets of all entries of the specified message which originated from the
+     * specified system within the specified time range.
+     *
+     * @param systemId  The ID of the originating system.
+     * @param messageId The ID of the message.
+     * @param from      The beginning of the range (inclusive), in microseconds since the epoch.
+     * @param to        The end of the range (exclusive), in microseconds since the epoch.
+     * @return The offsets of the matching entries, in log order.
+     */
+    public long[] offsets(int systemId, int messageId, long from, long to) {
+        long[] offsets = index.offsets(systemId, messageId);
+        return Arrays.copyOfRange(offsets, firstAtOrAfter(offsets, from), firstAtOrAfter(offsets, to));
+    }
+
+    /**
+     * Returns the offset of the last entry of the specified message which originated from the
+     * specified system before the specified time. This is useful, for instance, for finding the
+     * last reported position of a vehicle before an incident.
+     *
+     * @param systemId  The ID of the originating system.
+     * @param messageId The ID of the message.
+     * @param timestamp The time before which to look, in microseconds since the epoch.
+     * @return The offset of the entry, or {@code -1} if there is no such entry.
+     */
+    public long lastBefore(int systemId, int messageId, long timestamp) {
+        long[] offsets = index.offsets(systemId, messageId);
+        int index = firstAtOrAfter(offsets, timestamp) - 1;
+        return index >= 0 ? offsets[index] : -1;
+    }
+
+    /**
+     * Returns the timestamp of the entry at the specified offset. See {@link MappedTlog#timestampAt(long)}.
+     */
+    public long timestampAt(long offset) {
+        return log.timestampAt(offset);
+    }
+
+    /**
+     * Returns the packet of the entry at the specified offset. See {@link MappedTlog#packetAt(long)}.
+     */
+    public MavlinkPacket packetAt(long offset) {
+        return log.packetAt(offset);
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    /**
+     * Binary searches the specified offsets for the first entry which timestamp is at or after
+     * the specified timestamp.
+     */
+    private int firstAtOrAfter(long[] offsets, long timestamp) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (log.timestampAt(offsets[middle]) < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,252 @@
+package io.dronefleet.mavlink.protocol;
+
+import io.dronefleet.mavlink.protocol.util.CrcX25;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * A read-only, memory-mapped telemetry log (tlog).
+ * <p>
+ * A tlog is a sequence of entries, each of which consists of an 8 byte big-endian timestamp
+ * (microseconds since the unix epoch) followed by the bytes of a single Mavlink 1 or Mavlink 2
+ * packet. Entries are addressed by the offset of their timestamp within the file.
+ * <p>
+ * Files larger than what a single mapping can address are mapped in overlapping segments,
+ * so that any entry can be read from a single segment regardless of where it begins.
+ */
+public class MappedTlog implements Closeable {
+
+    /**
+     * The length of the timestamp which precedes every packet in a tlog.
+     */
+    static final int TIMESTAMP_LENGTH = 8;
+
+    /**
+     * The maximum length of a single tlog entry. That is a timestamp followed by a signed
+     * Mavlink 2 packet with a payload of 255 bytes.
+     */
+    static final int MAX_ENTRY_LENGTH = TIMESTAMP_LENGTH + 280;
+
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * Maps the specified tlog file to memory.
+     *
+     * @param path The path of the tlog to map.
+     * @return The mapped tlog.
+     * @throws IOException if an IO error occurs.
+     */
+    public static MappedTlog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int segmentCount = (int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = i * SEGMENT_SIZE;
+                long length = Math.min(size - start, SEGMENT_SIZE + MAX_ENTRY_LENGTH);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(length, 0));
+            }
+            return new MappedTlog(path, size, Files.getLastModifiedTime(path).toMillis(), segments);
+        }
+    }
+
+    private final Path path;
+    private final long size;
+    private final long lastModified;
+    private final MappedByteBuffer[] segments;
+
+    private MappedTlog(Path path, long size, long lastModified, MappedByteBuffer[] segments) {
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the path of this tlog.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the size of this tlog in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the modification time of this tlog at the time it was mapped, in milliseconds
+     * since the epoch.
+     */
+    public long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the timestamp of the entry at the specified offset.
+     *
+     * @param offset The offset of the entry.
+     * @return The timestamp of the entry, in microseconds since the epoch.
+     */
+    public long timestampAt(long offset) {
+        checkBounds(offset, TIMESTAMP_LENGTH);
+        return segment(offset).getLong(local(offset));
+    }
+
+    /**
+     * Returns the length of the entry at the specified offset, including its timestamp.
+     *
+     * @param offset The offset of the entry.
+     * @return The length of the entry, or {@code -1} if the bytes at the specified offset do not
+     * form a complete entry, which is the case when the packet does not begin with a valid
+     * version marker or when the file ends before the packet does.
+     */
+    public int entryLength(long offset) {
+        if (offset < 0 || offset + TIMESTAMP_LENGTH + 3 > size) {
+            return -1;
+        }
+        MappedByteBuffer segment = segment(offset);
+        int frame = local(offset) + TIMESTAMP_LENGTH;
+        int payloadLength = segment.get(frame + 1) & 0xff;
+        int frameLength;
+        switch (segment.get(frame) & 0xff) {
+            case MavlinkPacket.MAGIC_V1:
+                frameLength = 8 + payloadLength;
+                break;
+            case MavlinkPacket.MAGIC_V2:
+                frameLength = 12 + payloadLength + (segment.get(frame + 2) & 1) * 13;
+                break;
+            default:
+                return -1;
+        }
+        if (offset + TIMESTAMP_LENGTH + frameLength > size) {
+            return -1;
+        }
+        return TIMESTAMP_LENGTH + frameLength;
+    }
+
+    /**
+     * Returns the system ID of the packet of the entry at the specified offset. The entry is
+     * expected to be complete, as determined by {@link #entryLength(long)}.
+     */
+    public int systemIdAt(long offset) {
+        MappedByteBuffer segment = segment(offset);
+        int frame = local(offset) + TIMESTAMP_LENGTH;
+        return segment.get(frame + (isMavlink2(segment, frame) ? 5 : 3)) & 0xff;
+    }
+
+    /**
+     * Returns the message ID of the packet of the entry at the specified offset. The entry is
+     * expected to be complete, as determined by {@link #entryLength(long)}.
+     */
+    public int messageIdAt(long offset) {
+        MappedByteBuffer segment = segment(offset);
+        int frame = local(offset) + TIMESTAMP_LENGTH;
+        if (isMavlink2(segment, frame)) {
+            return (segment.get(frame + 7) & 0xff)
+                    | (segment.get(frame + 8) & 0xff) << 8
+                    | (segment.get(frame + 9) & 0xff) << 16;
+        }
+        return segment.get(frame + 5) & 0xff;
+    }
+
+    /**
+     * Validates the CRC of the packet of the entry at the specified offset, without copying
+     * the packet out of the mapped file. The entry is expected to be complete, as determined by
+     * {@link #entryLength(long)}.
+     *
+     * @param offset   The offset of the entry.
+     * @param crcExtra The CRC extra of the message of the packet.
+     * @return {@code true} if the packet passes CRC validation, or {@code false} otherwise.
+     */
+    public boolean validateCrc(long offset, int crcExtra) {
+        MappedByteBuffer segment = segment(offset);
+        int frame = local(offset) + TIMESTAMP_LENGTH;
+        int crcOffset = frame + (segment.get(frame + 1) & 0xff) + (isMavlink2(segment, frame) ? 10 : 6);
+        CrcX25 crc = new CrcX25();
+        for (int i = frame + 1; i < crcOffset; i++) {
+            crc.accumulate(segment.get(i));
+        }
+        crc.accumulate(crcExtra);
+        int checksum = (segment.get(crcOffset) & 0xff) | (segment.get(crcOffset + 1) & 0xff) << 8;
+        return crc.get() == checksum;
+    }
+
+    /**
+     * Copies the packet bytes of the entry at the specified offset.
+     *
+     * @param offset The offset of the entry.
+     * @return The raw bytes of the packet, not including the entry's timestamp.
+     * @throws IllegalArgumentException if there is no complete entry at the specified offset.
+     */
+    public byte[] frameAt(long offset) {
+        int length = entryLength(offset);
+        if (length == -1) {
+            throw new IllegalArgumentException("no complete tlog entry at offset " + offset);
+        }
+        byte[] frame = new byte[length - TIMESTAMP_LENGTH];
+        MappedByteBuffer segment = segment(offset);
+        int start = local(offset) + TIMESTAMP_LENGTH;
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = segment.get(start + i);
+        }
+        return frame;
+    }
+
+    /**
+     * Parses the packet of the entry at the specified offset. The returned packet is not
+     * CRC validated.
+     *
+     * @param offset The offset of the entry.
+     * @return The packet of the entry.
+     * @throws IllegalArgumentException if there is no complete entry at the specified offset.
+     */
+    public MavlinkPacket packetAt(long offset) {
+        byte[] frame = frameAt(offset);
+        return (frame[0] & 0xff) == MavlinkPacket.MAGIC_V2
+                ? MavlinkPacket.fromV2Bytes(frame)
+                : MavlinkPacket.fromV1Bytes(frame);
+    }
+
+    /**
+     * Releases the reference to the mapped segments of this log. The mapped memory is
+     * reclaimed once the segments are garbage collected.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = null;
+        }
+    }
+
+    private boolean isMavlink2(MappedByteBuffer segment, int frame) {
+        return (segment.get(frame) & 0xff) == MavlinkPacket.MAGIC_V2;
+    }
+
+    private void checkBounds(long offset, int length) {
+        if (offset < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("offset " + offset + " is out of the bounds of " + path);
+        }
+    }
+
+    private MappedByteBuffer segment(long offset) {
+        MappedByteBuffer segment = segments[(int) (offset / SEGMENT_SIZE)];
+        if (segment == null) {
+            throw new IllegalStateException(path + " is closed");
+        }
+        return segment;
+    }
+
+    private int local(long offset) {
+        return (int) (offset % SEGMENT_SIZE);
+    }
+}
@@ -195,6 +195,41 @@ public class MavlinkPacket {
         return crc.get();
     }
 
+    /**
+     * Rewrites the sequence of an unsigned packet in place, updating its CRC accordingly. This
+     * allows sending pre-encoded packets repeatedly without encoding them again.
+     *
+     * @param packetBytes The bytes of the packet to rewrite, including the version marker (or STX).
+     * @param sequence    The new sequence of the packet.
+     * @param crcExtra    The CRC extra of the message of this packet.
+     * @throws IllegalArgumentException if the packet is signed, since the signature covers the
+     *                                  sequence and cannot be regenerated without the secret key.
+     */
+    public static void rewriteSequence(byte[] packetBytes, int sequence, int crcExtra) {
+        int payloadLength = packetBytes[1] & 0xFF;
+        int sequenceIndex;
+        int crcIndex;
+        switch (packetBytes[0] & 0xFF) {
+            case MAGIC_V1:
+                sequenceIndex = 2;
+                crcIndex = 6 + payloadLength;
+                break;
+            case MAGIC_V2:
+                if ((packetBytes[2] & INCOMPAT_FLAG_SIGNED) != 0) {
+                    throw new IllegalArgumentException("cannot rewrite the sequence of a signed packet");
+                }
+                sequenceIndex = 4;
+                crcIndex = 10 + payloadLength;
+                break;
+            default:
+                throw new IllegalStateException("not a mavlink packet");
+        }
+        packetBytes[sequenceIndex] = (byte) sequence;
+        int crc = generateCrc(packetBytes, crcExtra);
+        packetBytes[crcIndex] = (byte) crc;
+        packetBytes[crcIndex + 1] = (byte) (crc >> 8);
+    }
+
     /**
      * Generates a Mavlink 2 signature.
      *
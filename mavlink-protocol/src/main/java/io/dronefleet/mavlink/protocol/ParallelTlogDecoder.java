@@ -0,0 +1,267 @@
+package io.dronefleet.mavlink.protocol;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Decodes telemetry logs (tlogs) in parallel.
+ * <p>
+ * A {@link MappedTlog memory-mapped log} is split into fixed size chunks which are decoded as
+ * independent tasks on a {@link ForkJoinPool}. Every chunk but the first begins at an arbitrary
+ * byte, so each task first resynchronizes by looking for a position at which a plausible timestamp
+ * is followed by a version marker and a CRC validated packet. Decoded chunks are then merged in
+ * log order. Merging reconciles the seams between chunks, so that the result is identical to that
+ * of decoding the log sequentially from its beginning.
+ * <p>
+ * Only a bounded window of chunks is decoded ahead of the chunk being merged, so memory use does
+ * not grow with the size of the log when results are consumed using
+ * {@link #decode(MappedTlog, TlogEntryDecoder, Consumer)}.
+ */
+public class ParallelTlogDecoder {
+
+    /**
+     * Builds parallel tlog decoders.
+     */
+    public static final class Builder {
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private CrcExtraResolver crcExtras;
+        private long chunkSize = 16L << 20;
+        private long timestampSlack = 24L * 60 * 60 * 1_000_000;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the pool to decode chunks on. Defaults to the common pool.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Sets the resolver used to CRC validate entries. This is required in order to
+         * resynchronize reliably at chunk boundaries.
+         */
+        public Builder crcExtras(CrcExtraResolver crcExtras) {
+            this.crcExtras = crcExtras;
+            return this;
+        }
+
+        /**
+         * Sets the size of the chunks that the log is split into. Defaults to 16MB.
+         */
+        public Builder chunkSize(long chunkSize) {
+            if (chunkSize < MappedTlog.MAX_ENTRY_LENGTH) {
+                throw new IllegalArgumentException("chunk size must be at least " + MappedTlog.MAX_ENTRY_LENGTH);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets how far a timestamp may be from the timestamp of the first entry of the log for it
+         * to be considered plausible when resynchronizing. Defaults to a day.
+         *
+         * @param timestampSlack The slack, in microseconds.
+         */
+        public Builder timestampSlack(long timestampSlack) {
+            this.timestampSlack = timestampSlack;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use decoder.
+         */
+        public ParallelTlogDecoder build() {
+            if (crcExtras == null) {
+                throw new IllegalStateException("'crcExtras' is not specified.");
+            }
+            return new ParallelTlogDecoder(pool, crcExtras, chunkSize, timestampSlack);
+        }
+    }
+
+    /**
+     * Creates a new decoder builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final ForkJoinPool pool;
+    private final CrcExtraResolver crcExtras;
+    private final long chunkSize;
+    private final long timestampSlack;
+
+    private ParallelTlogDecoder(
+            ForkJoinPool pool,
+            CrcExtraResolver crcExtras,
+            long chunkSize,
+            long timestampSlack) {
+        this.pool = pool;
+        this.crcExtras = crcExtras;
+        this.chunkSize = chunkSize;
+        this.timestampSlack = timestampSlack;
+    }
+
+    /**
+     * Decodes the specified log in parallel, collecting the decoded entries.
+     *
+     * @param log     The log to decode.
+     * @param decoder The decoder to decode entries with.
+     * @param <T>     The type of the decoded entries.
+     * @return The decoded entries, in log order.
+     */
+    public <T> List<T> decode(MappedTlog log, TlogEntryDecoder<T> decoder) {
+        List<T> result = new ArrayList<>();
+        decode(log, decoder, result::add);
+        return result;
+    }
+
+    /**
+     * Decodes the specified log in parallel, passing the decoded entries to the specified consumer
+     * in log order. The consumer is invoked from the calling thread.
+     *
+     * @param log      The log to decode.
+     * @param decoder  The decoder to decode entries with.
+     * @param consumer The consumer of decoded entries.
+     * @param <T>      The type of the decoded entries.
+     */
+    public <T> void decode(MappedTlog log, TlogEntryDecoder<T> decoder, Consumer<? super T> consumer) {
+        TlogScanner first = new TlogScanner(log, crcExtras, 0, log.size());
+        if (!first.next()) {
+            return;
+        }
+        long firstTimestamp = first.timestamp();
+        long minTimestamp = firstTimestamp - Math.min(timestampSlack, firstTimestamp);
+        long maxTimestamp = firstTimestamp + timestampSlack;
+        long chunkCount = (log.size() + chunkSize - 1) / chunkSize;
+        int window = Math.max(2, pool.getParallelism() * 2);
+
+        Deque<ForkJoinTask<Chunk<T>>> inFlight = new ArrayDeque<>(window);
+        long nextChunk = 0;
+        long expected = 0;
+        while (nextChunk < chunkCount || !inFlight.isEmpty()) {
+            while (nextChunk < chunkCount && inFlight.size() < window) {
+                long start = nextChunk * chunkSize;
+                inFlight.add(pool.submit(new ChunkTask<>(
+                        log, decoder, start, Math.min(start + chunkSize, log.size()),
+                        minTimestamp, maxTimestamp)));
+                nextChunk++;
+            }
+            expected = merge(log, decoder, inFlight.poll().join(), expected, consumer);
+        }
+    }
+
+    /**
+     * Merges a decoded chunk into the result.
+     *
+     * @param expected The offset at which the previously merged entry ended.
+     * @return The offset at which the last merged entry ends.
+     */
+    private <T> long merge(
+            MappedTlog log,
+            TlogEntryDecoder<T> decoder,
+            Chunk<T> chunk,
+            long expected,
+            Consumer<? super T> consumer) {
+        long chunkStart = chunk.first != -1 ? chunk.first : chunk.end;
+        if (expected < chunkStart) {
+            // The chunk resynchronized later than where the previous chunk ended. This happens
+            // when entries which cannot be CRC validated follow the seam. They are decoded here
+            // exactly as a sequential decoder would have.
+            TlogScanner scanner = new TlogScanner(log, crcExtras, expected, chunkStart).synced();
+            while (scanner.next()) {
+                T value = decoder.decode(scanner.timestamp(), log.packetAt(scanner.offset()));
+                if (value != null) {
+                    consumer.accept(value);
+                }
+                expected = scanner.offset() + scanner.length();
+            }
+        }
+        for (int i = 0; i < chunk.values.size(); i++) {
+            if (chunk.offsets[i] >= expected) {
+                consumer.accept(chunk.values.get(i));
+            }
+        }
+        return chunk.lastEnd != -1 ? Math.max(expected, chunk.lastEnd) : expected;
+    }
+
+    /**
+     * The decoded entries of a single chunk.
+     */
+    private static final class Chunk<T> {
+        private final long end;
+        private long first = -1;
+        private long lastEnd = -1;
+        private long[] offsets = new long[64];
+        private final List<T> values = new ArrayList<>();
+
+        private Chunk(long end) {
+            this.end = end;
+        }
+
+        private void add(long offset, T value) {
+            if (values.size() == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[values.size()] = offset;
+            values.add(value);
+        }
+    }
+
+    /**
+     * Decodes a single chunk.
+     */
+    private final class ChunkTask<T> extends RecursiveTask<Chunk<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedTlog log;
+        private final TlogEntryDecoder<T> decoder;
+        private final long start;
+        private final long end;
+        private final long minTimestamp;
+        private final long maxTimestamp;
+
+        private ChunkTask(
+                MappedTlog log,
+                TlogEntryDecoder<T> decoder,
+                long start,
+                long end,
+                long minTimestamp,
+                long maxTimestamp) {
+            this.log = log;
+            this.decoder = decoder;
+            this.start = start;
+            this.end = end;
+            this.minTimestamp = minTimestamp;
+            this.maxTimestamp = maxTimestamp;
+        }
+
+        @Override
+        protected Chunk<T> compute() {
+            Chunk<T> chunk = new Chunk<>(end);
+            TlogScanner scanner = new TlogScanner(log, crcExtras, start, end)
+                    .timestamps(minTimestamp, maxTimestamp);
+            while (scanner.next()) {
+                if (chunk.first == -1) {
+                    chunk.first = scanner.offset();
+                }
+                chunk.lastEnd = scanner.offset() + scanner.length();
+                T value = decoder.decode(scanner.timestamp(), log.packetAt(scanner.offset()));
+                if (value != null) {
+                    chunk.add(scanner.offset(), value);
+                }
+            }
+            return chunk;
+        }
+    }
+}
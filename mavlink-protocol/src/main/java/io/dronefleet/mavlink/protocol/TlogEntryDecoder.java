@@ -0,0 +1,19 @@
+package io.dronefleet.mavlink.protocol;
+
+/**
+ * Decodes the entries of a telemetry log. Decoders used by {@link ParallelTlogDecoder} are invoked
+ * concurrently from multiple threads, and must therefore be thread safe.
+ *
+ * @param <T> The type of the decoded entries.
+ */
+public interface TlogEntryDecoder<T> {
+
+    /**
+     * Decodes a single entry.
+     *
+     * @param timestamp The timestamp of the entry, in microseconds since the epoch.
+     * @param packet    The packet of the entry.
+     * @return The decoded entry, or {@code null} if the entry should be skipped.
+     */
+    T decode(long timestamp, MavlinkPacket packet);
+}
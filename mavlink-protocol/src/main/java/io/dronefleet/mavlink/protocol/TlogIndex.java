@@ -0,0 +1,421 @@
+package io.dronefleet.mavlink.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A sparse index of a telemetry log (tlog), which allows seeking to entries by time and finding
+ * the entries of specific messages without scanning the log.
+ * <p>
+ * The index is made of two parts:
+ * <ul>
+ * <li>Time checkpoints, which are the offsets of entries sampled at a fixed time interval.</li>
+ * <li>Posting lists, which are the offsets of all entries of every (system ID, message ID) pair.</li>
+ * </ul>
+ * <p>
+ * Posting lists are held delta-encoded in memory, and are written in the same form to a sidecar file
+ * using {@link #write(Path)}. An index remembers the size and modification time of the log it
+ * was built for, and whether its entries were CRC validated, so that stale sidecar files can be
+ * detected using {@link #matches(MappedTlog, Builder)}.
+ * <p>
+ * See {@link IndexedTlog} for time based queries, which require access to the log itself.
+ */
+public class TlogIndex {
+
+    /**
+     * Builds tlog indexes.
+     */
+    public static final class Builder {
+        private long checkpointInterval = 1_000_000L;
+        private CrcExtraResolver crcExtras;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the interval at which time checkpoints are recorded. Defaults to 1 second.
+         *
+         * @param checkpointInterval The checkpoint interval, in microseconds.
+         * @return This builder.
+         */
+        public Builder checkpointInterval(long checkpointInterval) {
+            if (checkpointInterval <= 0) {
+                throw new IllegalArgumentException("checkpoint interval must be positive");
+            }
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * Sets the resolver used to CRC validate entries while indexing. When a resolver is not
+         * specified, entries are only validated structurally.
+         *
+         * @param crcExtras The resolver of message CRC extras.
+         * @return This builder.
+         */
+        public Builder crcExtras(CrcExtraResolver crcExtras) {
+            this.crcExtras = crcExtras;
+            return this;
+        }
+
+        /**
+         * Returns the resolver used to CRC validate entries, or {@code null} if none was set.
+         */
+        CrcExtraResolver crcExtras() {
+            return crcExtras;
+        }
+
+        /**
+         * Indexes the specified log by scanning it once.
+         *
+         * @param log The log to index.
+         * @return The index of the specified log.
+         */
+        public TlogIndex build(MappedTlog log) {
+            LongList checkpointTimestamps = new LongList();
+            LongList checkpointOffsets = new LongList();
+            Map<Integer, LongList> postings = new HashMap<>();
+            long nextCheckpoint = Long.MIN_VALUE;
+
+            TlogScanner scanner = new TlogScanner(log, crcExtras, 0, log.size());
+            while (scanner.next()) {
+                long offset = scanner.offset();
+                long timestamp = scanner.timestamp();
+                if (timestamp >= nextCheckpoint) {
+                    checkpointTimestamps.add(timestamp);
+                    checkpointOffsets.add(offset);
+                    nextCheckpoint = timestamp + checkpointInterval;
+                }
+                postings.computeIfAbsent(key(log.systemIdAt(offset), log.messageIdAt(offset)), k -> new LongList())
+                        .add(offset);
+            }
+
+            Map<Integer, byte[]> encodedPostings = new HashMap<>();
+            postings.forEach((key, offsets) -> encodedPostings.put(key, encode(offsets)));
+            return new TlogIndex(
+                    log.size(),
+                    log.lastModified(),
+                    crcExtras != null,
+                    checkpointInterval,
+                    checkpointTimestamps.toArray(),
+                    checkpointOffsets.toArray(),
+                    encodedPostings);
+        }
+    }
+
+    /**
+     * Magic of index sidecar files, "MLTI".
+     */
+    private static final int MAGIC = 0x4d4c5449;
+    private static final int VERSION = 2;
+
+    /**
+     * Creates a new index builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reads an index from a sidecar file previously written using {@link #write(Path)}.
+     *
+     * @param path The path of the sidecar file.
+     * @return The read index.
+     * @throws IOException if an IO error occurs, or if the file is not a valid index.
+     */
+    public static TlogIndex read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(path + " is not a tlog index");
+            }
+            long logSize = in.readLong();
+            long logModified = in.readLong();
+            boolean crcValidated = in.readBoolean();
+            long checkpointInterval = in.readLong();
+            int checkpointCount = in.readInt();
+            long[] checkpointTimestamps = new long[checkpointCount];
+            long[] checkpointOffsets = new long[checkpointCount];
+            for (int i = 0; i < checkpointCount; i++) {
+                checkpointTimestamps[i] = in.readLong();
+                checkpointOffsets[i] = in.readLong();
+            }
+            int postingCount = in.readInt();
+            Map<Integer, byte[]> postings = new HashMap<>(postingCount * 2);
+            for (int i = 0; i < postingCount; i++) {
+                int key = in.readInt();
+                byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                postings.put(key, encoded);
+            }
+            return new TlogIndex(logSize, logModified, crcValidated, checkpointInterval,
+                    checkpointTimestamps, checkpointOffsets, postings);
+        }
+    }
+
+    private final long logSize;
+    private final long logModified;
+    private final boolean crcValidated;
+    private final long checkpointInterval;
+    private final long[] checkpointTimestamps;
+    private final long[] checkpointOffsets;
+    private final Map<Integer, byte[]> postings;
+
+    private TlogIndex(
+            long logSize,
+            long logModified,
+            boolean crcValidated,
+            long checkpointInterval,
+            long[] checkpointTimestamps,
+            long[] checkpointOffsets,
+            Map<Integer, byte[]> postings) {
+        this.logSize = logSize;
+        this.logModified = logModified;
+        this.crcValidated = crcValidated;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpointTimestamps = checkpointTimestamps;
+        this.checkpointOffsets = checkpointOffsets;
+        this.postings = Collections.unmodifiableMap(postings);
+    }
+
+    /**
+     * Writes this index to a sidecar file.
+     *
+     * @param path The path of the sidecar file to write.
+     * @throws IOException if an IO error occurs.
+     */
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(logSize);
+            out.writeLong(logModified);
+            out.writeBoolean(crcValidated);
+            out.writeLong(checkpointInterval);
+            out.writeInt(checkpointTimestamps.length);
+            for (int i = 0; i < checkpointTimestamps.length; i++) {
+                out.writeLong(checkpointTimestamps[i]);
+                out.writeLong(checkpointOffsets[i]);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<Integer, byte[]> posting : postings.entrySet()) {
+                out.writeInt(posting.getKey());
+                out.writeInt(posting.getValue().length);
+                out.write(posting.getValue());
+            }
+        }
+    }
+
+    /**
+     * Checks whether this index was built for the specified log, by comparing the size and
+     * modification time of the log to those recorded when this index was built.
+     */
+    public boolean matches(MappedTlog log) {
+        return log.size() == logSize && log.lastModified() == logModified;
+    }
+
+    /**
+     * Checks whether this index was built for the specified log, as {@link #matches(MappedTlog)}
+     * does, and whether it was built with the validation mode of the specified builder. An index
+     * built without CRC validation may include corrupted entries, and one built with it may omit
+     * entries of messages which the builder would not validate. Which resolver the entries were
+     * validated with is not recorded.
+     */
+    public boolean matches(MappedTlog log, Builder builder) {
+        return matches(log) && crcValidated == (builder.crcExtras() != null);
+    }
+
+    /**
+     * Returns whether the entries of the log were CRC validated when this index was built.
+     */
+    public boolean crcValidated() {
+        return crcValidated;
+    }
+
+    /**
+     * Returns the interval at which time checkpoints were recorded, in microseconds.
+     */
+    public long checkpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Returns the offset of the latest checkpoint which timestamp is not after the specified
+     * timestamp. Scanning from the returned offset yields every entry at or after the specified
+     * timestamp, provided that the timestamps of the log are monotonic.
+     *
+     * @param timestamp The timestamp to seek to, in microseconds since the epoch.
+     * @return The offset of the checkpoint, or {@code -1} if the log has no entries.
+     */
+    public long checkpoint(long timestamp) {
+        if (checkpointOffsets.length == 0) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(checkpointTimestamps, timestamp);
+        if (index < 0) {
+            index = Math.max(0, -index - 2);
+        }
+        return checkpointOffsets[index];
+    }
+
+    /**
+     * Returns the offsets of all entries of the specified message which originated from the
+     * specified system, in the order in which they appear in the log.
+     *
+     * @param systemId  The ID of the originating system.
+     * @param messageId The ID of the message.
+     * @return The offsets of the matching entries.
+     */
+    public long[] offsets(int systemId, int messageId) {
+        byte[] encoded = postings.get(key(systemId, messageId));
+        return encoded != null ? decode(encoded) : new long[0];
+    }
+
+    /**
+     * Returns the offsets of all entries of the specified message, regardless of their originating
+     * system, in the order in which they appear in the log.
+     *
+     * @param messageId The ID of the message.
+     * @return The offsets of the matching entries.
+     */
+    public long[] offsets(int messageId) {
+        long[] result = new long[0];
+        for (Map.Entry<Integer, byte[]> posting : postings.entrySet()) {
+            if ((posting.getKey() & 0xffffff) == messageId) {
+                result = merge(result, decode(posting.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of entries of the specified message which originated from the specified
+     * system.
+     */
+    public int count(int systemId, int messageId) {
+        byte[] encoded = postings.get(key(systemId, messageId));
+        return encoded != null ? readCount(encoded) : 0;
+    }
+
+    private static int key(int systemId, int messageId) {
+        return (systemId & 0xff) << 24 | (messageId & 0xffffff);
+    }
+
+    private static int readCount(byte[] encoded) {
+        return (int) readVarLong(encoded, new int[1]);
+    }
+
+    /**
+     * Encodes offsets as a count followed by deltas, all written as variable length integers.
+     */
+    private static byte[] encode(LongList offsets) {
+        VarLongWriter writer = new VarLongWriter(offsets.size() * 2 + 5);
+        writer.write(offsets.size());
+        long previous = 0;
+        for (int i = 0; i < offsets.size(); i++) {
+            writer.write(offsets.get(i) - previous);
+            previous = offsets.get(i);
+        }
+        return writer.toArray();
+    }
+
+    private static long[] decode(byte[] encoded) {
+        int[] position = new int[1];
+        long[] offsets = new long[(int) readVarLong(encoded, position)];
+        long previous = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            previous += readVarLong(encoded, position);
+            offsets[i] = previous;
+        }
+        return offsets;
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            result[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) result[k++] = a[i++];
+        while (j < b.length) result[k++] = b[j++];
+        return result;
+    }
+
+    /**
+     * A growable list of primitive longs.
+     */
+    private static final class LongList {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Writes unsigned variable length integers, 7 bits per byte.
+     */
+    private static final class VarLongWriter {
+        private byte[] bytes;
+        private int size;
+
+        VarLongWriter(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(long value) {
+            do {
+                if (size == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, size * 2);
+                }
+                byte b = (byte) (value & 0x7f);
+                value >>>= 7;
+                if (value != 0) {
+                    b |= 0x80;
+                }
+                bytes[size++] = b;
+            } while (value != 0);
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
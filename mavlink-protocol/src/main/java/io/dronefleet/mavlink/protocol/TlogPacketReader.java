@@ -0,0 +1,54 @@
+package io.dronefleet.mavlink.protocol;
+
+import java.io.EOFException;
+
+/**
+ * <p>
+ * Sequentially reads the packets of a {@link MappedTlog memory-mapped telemetry log}.
+ * <p>
+ * Unlike {@link MavlinkPacketReader}, this reader resynchronizes over corrupted entries by itself.
+ * When a {@link CrcExtraResolver} is specified, packets of known messages which fail CRC validation
+ * are skipped. Packets of unknown messages are returned without validation.
+ */
+public class TlogPacketReader {
+    private final MappedTlog log;
+    private final TlogScanner scanner;
+
+    /**
+     * Constructs a new reader for the specified log.
+     *
+     * @param log       The log to read from.
+     * @param crcExtras The resolver to CRC validate packets with, or {@code null} to only perform
+     *                  structural validation.
+     */
+    public TlogPacketReader(MappedTlog log, CrcExtraResolver crcExtras) {
+        this.log = log;
+        this.scanner = new TlogScanner(log, crcExtras, 0, log.size());
+    }
+
+    /**
+     * Reads the next packet from the log.
+     *
+     * @throws EOFException if reached the end of the log.
+     */
+    public MavlinkPacket next() throws EOFException {
+        if (!scanner.next()) {
+            throw new EOFException("End of log");
+        }
+        return log.packetAt(scanner.offset());
+    }
+
+    /**
+     * Returns the timestamp of the last read packet, in microseconds since the epoch.
+     */
+    public long timestamp() {
+        return scanner.timestamp();
+    }
+
+    /**
+     * Returns the offset of the entry of the last read packet.
+     */
+    public long offset() {
+        return scanner.offset();
+    }
+}
@@ -0,0 +1,126 @@
+package io.dronefleet.mavlink.protocol;
+
+/**
+ * <p>
+ * Iterates over the entries of a {@link MappedTlog}, resynchronizing over corrupted or
+ * partial entries.
+ * <p>
+ * While in sync, an entry is accepted if it is structurally complete and, when its message
+ * is known to the configured {@link CrcExtraResolver}, passes CRC validation. When out of sync
+ * (which is the case when scanning begins anywhere but the beginning of the log, or after a
+ * rejected entry) the scanner advances one byte at a time, and only accepts an entry which also
+ * has a plausible timestamp and a CRC validated packet. This makes any accepted position a safe
+ * point to continue reading from.
+ */
+class TlogScanner {
+    private final MappedTlog log;
+    private final CrcExtraResolver crcExtras;
+    private final long end;
+    private long minTimestamp = 0;
+    private long maxTimestamp = Long.MAX_VALUE;
+    private long position;
+    private boolean synced;
+    private long offset = -1;
+    private long timestamp;
+    private int length;
+
+    /**
+     * @param log       The log to scan.
+     * @param crcExtras The resolver to validate packets with, or {@code null} to only perform
+     *                  structural validation.
+     * @param start     The offset to begin scanning from.
+     * @param end       The offset at which scanning ends. Entries which begin before this offset
+     *                  are returned in full, even if they end after it.
+     */
+    TlogScanner(MappedTlog log, CrcExtraResolver crcExtras, long start, long end) {
+        this.log = log;
+        this.crcExtras = crcExtras;
+        this.position = start;
+        this.synced = start == 0;
+        this.end = Math.min(end, log.size());
+    }
+
+    /**
+     * Sets the range of timestamps which are considered plausible when resynchronizing.
+     */
+    TlogScanner timestamps(long minTimestamp, long maxTimestamp) {
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        return this;
+    }
+
+    /**
+     * Assumes that the scanner begins in sync, which is the case when the starting offset is
+     * known to be the beginning of an entry.
+     */
+    TlogScanner synced() {
+        this.synced = true;
+        return this;
+    }
+
+    /**
+     * Returns the offset from which scanning will continue, which is the end of the current
+     * entry if one was found.
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * Advances to the next valid entry.
+     *
+     * @return {@code true} if an entry was found, or {@code false} if the scanned range has ended.
+     */
+    boolean next() {
+        while (position < end) {
+            int entryLength = log.entryLength(position);
+            if (entryLength != -1 && accept(position)) {
+                offset = position;
+                timestamp = log.timestampAt(position);
+                length = entryLength;
+                position += entryLength;
+                synced = true;
+                return true;
+            }
+            synced = false;
+            position++;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the offset of the current entry.
+     */
+    long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the timestamp of the current entry.
+     */
+    long timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the length of the current entry, including its timestamp.
+     */
+    int length() {
+        return length;
+    }
+
+    private boolean accept(long candidate) {
+        int crcExtra = crcExtras != null ? crcExtras.crcExtra(log.messageIdAt(candidate)) : -1;
+        if (synced) {
+            return crcExtra == -1 || log.validateCrc(candidate, crcExtra);
+        }
+        long candidateTimestamp = log.timestampAt(candidate);
+        if (candidateTimestamp < minTimestamp || candidateTimestamp > maxTimestamp) {
+            return false;
+        }
+        if (crcExtras == null) {
+            return true;
+        }
+        return crcExtra != -1 && log.validateCrc(candidate, crcExtra);
+    }
+}
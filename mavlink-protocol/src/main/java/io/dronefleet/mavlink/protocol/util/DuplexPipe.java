@@ -0,0 +1,138 @@
+package io.dronefleet.mavlink.protocol.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+
+/**
+ * <p>
+ * An in-memory, full duplex byte link between two endpoints, made of two {@link RingBufferPipe}s.
+ * Whatever one endpoint writes, the other endpoint reads.
+ * <p>
+ * This is useful for connecting two parties within the same process without sockets, for
+ * instance a ground station and a simulated vehicle:
+ * <pre>{@code
+ * DuplexPipe pipe = new DuplexPipe();
+ * MavlinkConnection gcs = MavlinkConnection.create(pipe.a().inputStream(), pipe.a().outputStream());
+ * MavlinkConnection vehicle = MavlinkConnection.create(pipe.b().inputStream(), pipe.b().outputStream());
+ * }</pre>
+ */
+public final class DuplexPipe implements Closeable {
+
+    /**
+     * One end of a duplex pipe.
+     */
+    public static final class Endpoint {
+        private final RingBufferPipe in;
+        private final RingBufferPipe out;
+        private final ByteChannel channel;
+
+        private Endpoint(RingBufferPipe in, RingBufferPipe out) {
+            this.in = in;
+            this.out = out;
+            this.channel = new ByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    return in.sourceChannel().read(dst);
+                }
+
+                @Override
+                public int write(ByteBuffer src) throws IOException {
+                    return out.sinkChannel().write(src);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return in.sourceChannel().isOpen() || out.sinkChannel().isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    Endpoint.this.close();
+                }
+            };
+        }
+
+        /**
+         * Returns the stream of bytes written by the other endpoint.
+         */
+        public InputStream inputStream() {
+            return in.source();
+        }
+
+        /**
+         * Returns the stream of bytes to send to the other endpoint.
+         */
+        public OutputStream outputStream() {
+            return out.sink();
+        }
+
+        /**
+         * Returns a channel which reads the bytes written by the other endpoint, and writes bytes
+         * to the other endpoint.
+         */
+        public ByteChannel channel() {
+            return channel;
+        }
+
+        /**
+         * Closes this endpoint. The other endpoint reads the end of the stream once it has read
+         * all bytes written by this endpoint, and fails to write any further bytes.
+         */
+        public void close() throws IOException {
+            in.source().close();
+            out.sink().close();
+        }
+    }
+
+    private final RingBufferPipe aToB;
+    private final RingBufferPipe bToA;
+    private final Endpoint a;
+    private final Endpoint b;
+
+    /**
+     * Creates a duplex pipe with the {@link RingBufferPipe#DEFAULT_CAPACITY default capacity}
+     * in each direction.
+     */
+    public DuplexPipe() {
+        this(RingBufferPipe.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a duplex pipe of the specified capacity in each direction.
+     *
+     * @param capacity The capacity of each direction in bytes, which is rounded up to a power of two.
+     */
+    public DuplexPipe(int capacity) {
+        aToB = new RingBufferPipe(capacity);
+        bToA = new RingBufferPipe(capacity);
+        a = new Endpoint(bToA, aToB);
+        b = new Endpoint(aToB, bToA);
+    }
+
+    /**
+     * Returns the first endpoint of this pipe.
+     */
+    public Endpoint a() {
+        return a;
+    }
+
+    /**
+     * Returns the second endpoint of this pipe.
+     */
+    public Endpoint b() {
+        return b;
+    }
+
+    /**
+     * Closes both directions of this pipe.
+     */
+    @Override
+    public void close() {
+        aToB.close();
+        bToA.close();
+    }
+}
@@ -0,0 +1,398 @@
+package io.dronefleet.mavlink.protocol.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A lock-free, in-memory byte pipe backed by a ring buffer.
+ * <p>
+ * Bytes written to the {@link #sink() sink} of the pipe are read from its {@link #source() source},
+ * which are also available as {@link #sinkChannel() channels}. Unlike
+ * {@link java.io.PipedInputStream}, neither end ever takes a lock. A reader of an empty pipe, or
+ * a writer to a full pipe, briefly spins and then parks until the other end makes progress.
+ * <p>
+ * The pipe supports a single reading thread and a single writing thread at a time. Concurrent
+ * writers, such as threads sending through the same connection, must be serialized externally.
+ * <p>
+ * Closing the sink signals the end of the stream to the source once all written bytes were read.
+ * Closing the source causes subsequent writes to fail.
+ */
+public final class RingBufferPipe implements Closeable {
+
+    /**
+     * The default capacity of pipes, in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final int SPINS = 128;
+    private static final int YIELDS = 64;
+    private static final long PARK_NANOS = 100_000;
+
+    private final byte[] buffer;
+    private final int mask;
+
+    /**
+     * The total number of bytes read from this pipe.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The total number of bytes written to this pipe.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile boolean sinkClosed;
+    private volatile boolean sourceClosed;
+    private volatile Thread parkedReader;
+    private volatile Thread parkedWriter;
+
+    private final Source source = new Source();
+    private final Sink sink = new Sink();
+    private final SourceChannel sourceChannel = new SourceChannel();
+    private final SinkChannel sinkChannel = new SinkChannel();
+
+    /**
+     * Creates a pipe with the {@link #DEFAULT_CAPACITY default capacity}.
+     */
+    public RingBufferPipe() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pipe of the specified capacity.
+     *
+     * @param capacity The capacity of the pipe in bytes, which is rounded up to a power of two.
+     */
+    public RingBufferPipe(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, but was " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = new byte[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the capacity of this pipe, in bytes.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the input stream which reads the bytes written to this pipe.
+     */
+    public InputStream source() {
+        return source;
+    }
+
+    /**
+     * Returns the output stream which writes bytes into this pipe.
+     */
+    public OutputStream sink() {
+        return sink;
+    }
+
+    /**
+     * Returns a channel which reads the bytes written to this pipe.
+     */
+    public ReadableByteChannel sourceChannel() {
+        return sourceChannel;
+    }
+
+    /**
+     * Returns a channel which writes bytes into this pipe.
+     */
+    public WritableByteChannel sinkChannel() {
+        return sinkChannel;
+    }
+
+    /**
+     * Closes both ends of this pipe.
+     */
+    @Override
+    public void close() {
+        closeSink();
+        closeSource();
+    }
+
+    private void closeSink() {
+        sinkClosed = true;
+        LockSupport.unpark(parkedReader);
+    }
+
+    private void closeSource() {
+        sourceClosed = true;
+        LockSupport.unpark(parkedWriter);
+    }
+
+    /**
+     * Waits until there are bytes to read.
+     *
+     * @return The number of bytes available, or {@code -1} if the sink was closed and all of its
+     * bytes were read.
+     */
+    private int awaitReadable(long position) throws IOException {
+        int attempts = 0;
+        while (true) {
+            int available = (int) (tail.get() - position);
+            if (available > 0) {
+                return available;
+            }
+            if (sinkClosed) {
+                // Bytes could have been written right before the sink was closed.
+                available = (int) (tail.get() - position);
+                return available > 0 ? available : -1;
+            }
+            if (sourceClosed) {
+                throw new IOException("Pipe closed");
+            }
+            attempts = idle(attempts, true);
+        }
+    }
+
+    /**
+     * Waits until there is room to write into.
+     *
+     * @return The number of bytes which can be written.
+     */
+    private int awaitWritable(long position) throws IOException {
+        int attempts = 0;
+        while (true) {
+            if (sourceClosed || sinkClosed) {
+                throw new IOException("Pipe closed");
+            }
+            int free = buffer.length - (int) (position - head.get());
+            if (free > 0) {
+                return free;
+            }
+            attempts = idle(attempts, false);
+        }
+    }
+
+    private int idle(int attempts, boolean reader) throws IOException {
+        if (attempts < SPINS) {
+            return attempts + 1;
+        }
+        if (attempts < SPINS + YIELDS) {
+            Thread.yield();
+            return attempts + 1;
+        }
+        if (reader) {
+            // The other end re-reads this field after publishing progress, so either it sees
+            // this thread parked and unparks it, or this thread sees its progress on the next check.
+            parkedReader = Thread.currentThread();
+            if (tail.get() == head.get() && !sinkClosed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            parkedReader = null;
+        } else {
+            parkedWriter = Thread.currentThread();
+            if (tail.get() - head.get() == buffer.length && !sourceClosed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            parkedWriter = null;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedIOException();
+        }
+        return attempts;
+    }
+
+    private int read() throws IOException {
+        long position = head.get();
+        if (awaitReadable(position) == -1) {
+            return -1;
+        }
+        int b = buffer[(int) position & mask] & 0xff;
+        advanceHead(position + 1);
+        return b;
+    }
+
+    private int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        long position = head.get();
+        int available = awaitReadable(position);
+        if (available == -1) {
+            return -1;
+        }
+        int count = Math.min(len, available);
+        int index = (int) position & mask;
+        int first = Math.min(count, buffer.length - index);
+        System.arraycopy(buffer, index, b, off, first);
+        System.arraycopy(buffer, 0, b, off + first, count - first);
+        advanceHead(position + count);
+        return count;
+    }
+
+    private int read(ByteBuffer dst) throws IOException {
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        long position = head.get();
+        int available = awaitReadable(position);
+        if (available == -1) {
+            return -1;
+        }
+        int count = Math.min(dst.remaining(), available);
+        int index = (int) position & mask;
+        int first = Math.min(count, buffer.length - index);
+        dst.put(buffer, index, first);
+        dst.put(buffer, 0, count - first);
+        advanceHead(position + count);
+        return count;
+    }
+
+    private void write(int b) throws IOException {
+        long position = tail.get();
+        awaitWritable(position);
+        buffer[(int) position & mask] = (byte) b;
+        advanceTail(position + 1);
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        long position = tail.get();
+        while (len > 0) {
+            int count = Math.min(len, awaitWritable(position));
+            int index = (int) position & mask;
+            int first = Math.min(count, buffer.length - index);
+            System.arraycopy(b, off, buffer, index, first);
+            System.arraycopy(b, off + first, buffer, 0, count - first);
+            position += count;
+            off += count;
+            len -= count;
+            advanceTail(position);
+        }
+    }
+
+    private int write(ByteBuffer src) throws IOException {
+        int written = src.remaining();
+        long position = tail.get();
+        while (src.hasRemaining()) {
+            int count = Math.min(src.remaining(), awaitWritable(position));
+            int index = (int) position & mask;
+            int first = Math.min(count, buffer.length - index);
+            src.get(buffer, index, first);
+            src.get(buffer, 0, count - first);
+            position += count;
+            advanceTail(position);
+        }
+        return written;
+    }
+
+    private void advanceHead(long position) {
+        head.set(position);
+        Thread writer = parkedWriter;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void advanceTail(long position) {
+        tail.set(position);
+        Thread reader = parkedReader;
+        if (reader != null) {
+            LockSupport.unpark(reader);
+        }
+    }
+
+    private final class Source extends InputStream {
+        @Override
+        public int read() throws IOException {
+            return RingBufferPipe.this.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            return RingBufferPipe.this.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return (int) (tail.get() - head.get());
+        }
+
+        @Override
+        public void close() {
+            closeSource();
+        }
+    }
+
+    private final class Sink extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            RingBufferPipe.this.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            RingBufferPipe.this.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closeSink();
+        }
+    }
+
+    private final class SourceChannel implements ReadableByteChannel {
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (sourceClosed) {
+                throw new ClosedChannelException();
+            }
+            return RingBufferPipe.this.read(dst);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !sourceClosed;
+        }
+
+        @Override
+        public void close() {
+            closeSource();
+        }
+    }
+
+    private final class SinkChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (sinkClosed) {
+                throw new ClosedChannelException();
+            }
+            return RingBufferPipe.this.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !sinkClosed;
+        }
+
+        @Override
+        public void close() {
+            closeSink();
+        }
+    }
+}
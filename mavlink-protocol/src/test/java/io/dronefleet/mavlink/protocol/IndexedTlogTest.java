@@ -0,0 +1,143 @@
+package io.dronefleet.mavlink.protocol;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedTlogTest {
+
+    private static final CrcExtraResolver crcExtras = messageId -> messageId == 253 ? 83 : messageId == 33 ? 104 : -1;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+    private List<Long> statusTextOffsets;
+    private List<Long> positionOffsets;
+
+    @Before
+    public void setUp() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        statusTextOffsets = new ArrayList<>();
+        positionOffsets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long timestamp = 1_000_000_000L + i * 100_000L;
+            if (i % 100 == 0) {
+                statusTextOffsets.add((long) out.size());
+                out.writeLong(timestamp);
+                out.write(MavlinkPacket.createUnsignedMavlink2Packet(
+                        i, 1, 1, 253, 83, new byte[51]).getRawBytes());
+            }
+            if (i == 500) {
+                // garbage, which should be skipped over.
+                out.write(new byte[]{(byte) 0xfd, 5, 0, 0});
+            }
+            positionOffsets.add((long) out.size());
+            out.writeLong(timestamp);
+            out.write(MavlinkPacket.createMavlink1Packet(
+                    i, i % 2 + 1, 1, 33, 104, new byte[28]).getRawBytes());
+        }
+        path = folder.getRoot().toPath().resolve("flight.tlog");
+        Files.write(path, bytes.toByteArray());
+    }
+
+    @Test
+    public void itFindsEntriesByMessageAndSystem() throws IOException {
+        try (IndexedTlog tlog = IndexedTlog.open(path, TlogIndex.builder().crcExtras(crcExtras))) {
+            assertArrayEquals(toArray(statusTextOffsets), tlog.offsets(1, 253));
+            assertEquals(500, tlog.offsets(1, 33).length);
+            assertArrayEquals(toArray(positionOffsets), tlog.index().offsets(33));
+            for (long offset : tlog.offsets(2, 33)) {
+                assertEquals(2, tlog.packetAt(offset).getSystemId());
+            }
+        }
+    }
+
+    @Test
+    public void itSeeksByTime() throws IOException {
+        try (IndexedTlog tlog = IndexedTlog.open(path, TlogIndex.builder().crcExtras(crcExtras))) {
+            long crash = 1_000_000_000L + 750 * 100_000L;
+            long last = tlog.lastBefore(2, 33, crash);
+            assertEquals(1_000_000_000L + 749 * 100_000L, tlog.timestampAt(last));
+            assertEquals(749 & 0xff, tlog.packetAt(last).getSequence());
+
+            long[] range = tlog.offsets(crash, crash + 1_000_000L);
+            assertEquals(10, range.length);
+            assertEquals(crash, tlog.timestampAt(range[0]));
+
+            assertEquals(5, tlog.offsets(2, 33, crash, crash + 1_000_000L).length);
+        }
+    }
+
+    @Test
+    public void timeRangesSkipEntriesWhichFailCrcValidation() throws IOException {
+        // corrupts the payload of a position, which the index rejects
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[(int) (long) positionOffsets.get(601) + 8 + 6] ^= 1;
+        Files.write(path, bytes);
+
+        try (IndexedTlog tlog = IndexedTlog.open(path, TlogIndex.builder().crcExtras(crcExtras))) {
+            assertEquals(999, tlog.index().offsets(33).length);
+            long corrupt = 1_000_000_000L + 601 * 100_000L;
+            assertEquals(0, tlog.offsets(corrupt, corrupt + 100_000L).length);
+            assertEquals(1_000_000_000L + 602 * 100_000L, tlog.timestampAt(tlog.seek(corrupt)));
+        }
+    }
+
+    @Test
+    public void itReusesMatchingSidecar() throws IOException {
+        IndexedTlog.open(path, TlogIndex.builder().crcExtras(crcExtras)).close();
+        Path sidecar = IndexedTlog.sidecarPath(path);
+        assertTrue(Files.exists(sidecar));
+        assertTrue(Files.size(sidecar) < Files.size(path) / 10);
+
+        try (MappedTlog log = MappedTlog.open(path)) {
+            TlogIndex index = TlogIndex.read(sidecar);
+            assertTrue(index.matches(log));
+            assertArrayEquals(toArray(statusTextOffsets), index.offsets(1, 253));
+        }
+    }
+
+    @Test
+    public void seekingKeepsEntriesOfMessagesWhichAreNotValidated() throws IOException {
+        // status texts are not known to the resolver, and only validated structurally
+        CrcExtraResolver positions = messageId -> messageId == 33 ? 104 : -1;
+        try (IndexedTlog tlog = IndexedTlog.open(path, TlogIndex.builder().crcExtras(positions))) {
+            long timestamp = 1_000_000_000L + 100 * 100_000L;
+            assertEquals((long) statusTextOffsets.get(1), tlog.seek(timestamp));
+            assertEquals(2, tlog.offsets(timestamp, timestamp + 1).length);
+        }
+    }
+
+    @Test
+    public void itRebuildsSidecarOfAnotherValidationMode() throws IOException {
+        IndexedTlog.open(path, TlogIndex.builder().crcExtras(crcExtras)).close();
+        try (IndexedTlog tlog = IndexedTlog.open(path, TlogIndex.builder())) {
+            assertFalse(tlog.index().crcValidated());
+        }
+        try (MappedTlog log = MappedTlog.open(path)) {
+            TlogIndex index = TlogIndex.read(IndexedTlog.sidecarPath(path));
+            assertTrue(index.matches(log, TlogIndex.builder()));
+            assertFalse(index.matches(log, TlogIndex.builder().crcExtras(crcExtras)));
+        }
+    }
+
+    private long[] toArray(List<Long> list) {
+        return list.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,76 @@
+package io.dronefleet.mavlink.protocol;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelTlogDecoderTest {
+
+    private static final CrcExtraResolver crcExtras = messageId -> messageId < 100 ? messageId : -1;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void itDecodesIdenticallyToSequentialDecoding() throws IOException {
+        Random random = new Random(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(50) == 0) {
+                byte[] garbage = new byte[random.nextInt(40)];
+                random.nextBytes(garbage);
+                out.write(garbage);
+            }
+            byte[] payload = new byte[random.nextInt(60)];
+            random.nextBytes(payload);
+            // message IDs from 100 onwards are unknown, and can't be CRC validated.
+            int messageId = random.nextInt(120);
+            out.writeLong(1_500_000_000_000_000L + i * 1000L);
+            out.write(random.nextBoolean()
+                    ? MavlinkPacket.createMavlink1Packet(i, 1, 1, messageId, messageId, payload).getRawBytes()
+                    : MavlinkPacket.createUnsignedMavlink2Packet(i, 1, 1, messageId, messageId, payload).getRawBytes());
+        }
+        Path path = folder.getRoot().toPath().resolve("flight.tlog");
+        Files.write(path, bytes.toByteArray());
+
+        try (MappedTlog log = MappedTlog.open(path)) {
+            List<String> expected = new ArrayList<>();
+            TlogScanner scanner = new TlogScanner(log, crcExtras, 0, log.size());
+            while (scanner.next()) {
+                expected.add(describe(scanner.timestamp(), log.packetAt(scanner.offset())));
+            }
+
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                for (long chunkSize : new long[]{MappedTlog.MAX_ENTRY_LENGTH, 1000, 4096, 100_000}) {
+                    List<String> actual = ParallelTlogDecoder.builder()
+                            .pool(pool)
+                            .crcExtras(crcExtras)
+                            .chunkSize(chunkSize)
+                            .build()
+                            .decode(log, ParallelTlogDecoderTest::describe);
+                    assertEquals("chunk size " + chunkSize, expected, actual);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static String describe(long timestamp, MavlinkPacket packet) {
+        return timestamp + ":" + packet.getSequence() + ":" + packet.getMessageId();
+    }
+}
@@ -0,0 +1,106 @@
+package io.dronefleet.mavlink.protocol.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RingBufferPipeTest {
+
+    @Test(timeout = 10_000L)
+    public void itTransfersBytesAcrossThreadsInOrder() throws Exception {
+        byte[] expected = new byte[4 * 1024 * 1024];
+        new Random(0).nextBytes(expected);
+        RingBufferPipe pipe = new RingBufferPipe(1000);
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            Random random = new Random(1);
+            try (OutputStream out = pipe.sink()) {
+                int offset = 0;
+                while (offset < expected.length) {
+                    if (random.nextInt(10) == 0) {
+                        out.write(expected[offset++]);
+                    } else {
+                        int length = Math.min(expected.length - offset, random.nextInt(3000));
+                        out.write(expected, offset, length);
+                        offset += length;
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        InputStream in = pipe.source();
+        byte[] chunk = new byte[777];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            actual.write(chunk, 0, read);
+            if (in.available() > 0) {
+                actual.write(in.read());
+            }
+        }
+        writer.get(1, TimeUnit.SECONDS);
+
+        assertEquals(1024, pipe.capacity());
+        assertArrayEquals(expected, actual.toByteArray());
+    }
+
+    @Test(timeout = 10_000L)
+    public void itTransfersBytesThroughChannels() throws Exception {
+        DuplexPipe pipe = new DuplexPipe(64);
+        CompletableFuture<Void> echo = CompletableFuture.runAsync(() -> {
+            ByteBuffer buffer = ByteBuffer.allocate(100);
+            try {
+                while (pipe.b().channel().read(buffer) != -1) {
+                    buffer.flip();
+                    pipe.b().channel().write(buffer);
+                    buffer.clear();
+                }
+                pipe.b().close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        pipe.a().outputStream().write("hello, pipe".getBytes());
+        byte[] echoed = new byte[11];
+        int offset = 0;
+        while (offset < echoed.length) {
+            offset += pipe.a().inputStream().read(echoed, offset, echoed.length - offset);
+        }
+        pipe.a().outputStream().close();
+        echo.get(1, TimeUnit.SECONDS);
+
+        assertEquals("hello, pipe", new String(echoed));
+        assertEquals(-1, pipe.a().inputStream().read());
+    }
+
+    @Test(expected = IOException.class, timeout = 1_000L)
+    public void itFailsWritesOnceTheSourceIsClosed() throws IOException {
+        RingBufferPipe pipe = new RingBufferPipe(16);
+        pipe.source().close();
+        pipe.sink().write(new byte[32]);
+    }
+
+    @Test(timeout = 1_000L)
+    public void itReadsRemainingBytesAfterTheSinkIsClosed() throws IOException {
+        RingBufferPipe pipe = new RingBufferPipe(16);
+        pipe.sink().write(new byte[]{1, 2, 3});
+        pipe.sink().close();
+
+        assertEquals(1, pipe.source().read());
+        assertEquals(2, pipe.source().read(new byte[8]));
+        assertEquals(-1, pipe.source().read());
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 46,
         description = "Adaptive Controller tuning information."
 )
-public final class AdapTuning {
+public final class AdapTuning implements JsonWritable {
     private final EnumValue<PidTuningAxis> axis;
 
     private final float desired;
@@ -269,6 +271,25 @@ public final class AdapTuning {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("axis").value(this.axis);
+        writer.name("desired").value(this.desired);
+        writer.name("achieved").value(this.achieved);
+        writer.name("error").value(this.error);
+        writer.name("theta").value(this.theta);
+        writer.name("omega").value(this.omega);
+        writer.name("sigma").value(this.sigma);
+        writer.name("thetaDot").value(this.thetaDot);
+        writer.name("omegaDot").value(this.omegaDot);
+        writer.name("sigmaDot").value(this.sigmaDot);
+        writer.name("f").value(this.f);
+        writer.name("fDot").value(this.fDot);
+        writer.name("u").value(this.u);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AdapTuning{axis=" + axis
@@ -0,0 +1,102 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AdapTuning} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AdapTuningView extends PayloadView<AdapTuningView> {
+    /**
+     * Desired rate. 
+     */
+    public final float desired() {
+        return readFloat(0);
+    }
+
+    /**
+     * Achieved rate. 
+     */
+    public final float achieved() {
+        return readFloat(4);
+    }
+
+    /**
+     * Error between model and vehicle. 
+     */
+    public final float error() {
+        return readFloat(8);
+    }
+
+    /**
+     * Theta estimated state predictor. 
+     */
+    public final float theta() {
+        return readFloat(12);
+    }
+
+    /**
+     * Omega estimated state predictor. 
+     */
+    public final float omega() {
+        return readFloat(16);
+    }
+
+    /**
+     * Sigma estimated state predictor. 
+     */
+    public final float sigma() {
+        return readFloat(20);
+    }
+
+    /**
+     * Theta derivative. 
+     */
+    public final float thetaDot() {
+        return readFloat(24);
+    }
+
+    /**
+     * Omega derivative. 
+     */
+    public final float omegaDot() {
+        return readFloat(28);
+    }
+
+    /**
+     * Sigma derivative. 
+     */
+    public final float sigmaDot() {
+        return readFloat(32);
+    }
+
+    /**
+     * Projection operator value. 
+     */
+    public final float f() {
+        return readFloat(36);
+    }
+
+    /**
+     * Projection operator derivative. 
+     */
+    public final float fDot() {
+        return readFloat(40);
+    }
+
+    /**
+     * u adaptive controlled output command. 
+     */
+    public final float u() {
+        return readFloat(44);
+    }
+
+    /**
+     * Axis. 
+     * <p>
+     * This returns the raw value of the field, see {@link PidTuningAxis}.
+     */
+    public final int axis() {
+        return readUint8(48);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 127,
         description = "Status of DCM attitude estimator."
 )
-public final class Ahrs {
+public final class Ahrs implements JsonWritable {
     private final float omegaix;
 
     private final float omegaiy;
@@ -162,6 +164,19 @@ public final class Ahrs {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("omegaix").value(this.omegaix);
+        writer.name("omegaiy").value(this.omegaiy);
+        writer.name("omegaiz").value(this.omegaiz);
+        writer.name("accelWeight").value(this.accelWeight);
+        writer.name("renormVal").value(this.renormVal);
+        writer.name("errorRp").value(this.errorRp);
+        writer.name("errorYaw").value(this.errorYaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Ahrs{omegaix=" + omegaix
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 47,
         description = "Status of secondary AHRS filter if available."
 )
-public final class Ahrs2 {
+public final class Ahrs2 implements JsonWritable {
     private final float roll;
 
     private final float pitch;
@@ -146,6 +148,18 @@ public final class Ahrs2 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("altitude").value(this.altitude);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Ahrs2{roll=" + roll
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Ahrs2} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Ahrs2View extends PayloadView<Ahrs2View> {
+    /**
+     * Roll angle. 
+     */
+    public final float roll() {
+        return readFloat(0);
+    }
+
+    /**
+     * Pitch angle. 
+     */
+    public final float pitch() {
+        return readFloat(4);
+    }
+
+    /**
+     * Yaw angle. 
+     */
+    public final float yaw() {
+        return readFloat(8);
+    }
+
+    /**
+     * Altitude (MSL). 
+     */
+    public final float altitude() {
+        return readFloat(12);
+    }
+
+    /**
+     * Latitude. 
+     */
+    public final int lat() {
+        return readInt32(16);
+    }
+
+    /**
+     * Longitude. 
+     */
+    public final int lng() {
+        return readInt32(20);
+    }
+}
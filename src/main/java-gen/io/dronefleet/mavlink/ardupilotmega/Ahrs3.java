@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 229,
         description = "Status of third AHRS filter if available. This is for ANU research group (Ali and Sean)."
 )
-public final class Ahrs3 {
+public final class Ahrs3 implements JsonWritable {
     private final float roll;
 
     private final float pitch;
@@ -215,6 +217,22 @@ public final class Ahrs3 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("altitude").value(this.altitude);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.name("v1").value(this.v1);
+        writer.name("v2").value(this.v2);
+        writer.name("v3").value(this.v3);
+        writer.name("v4").value(this.v4);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Ahrs3{roll=" + roll
@@ -0,0 +1,79 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Ahrs3} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Ahrs3View extends PayloadView<Ahrs3View> {
+    /**
+     * Roll angle. 
+     */
+    public final float roll() {
+        return readFloat(0);
+    }
+
+    /**
+     * Pitch angle. 
+     */
+    public final float pitch() {
+        return readFloat(4);
+    }
+
+    /**
+     * Yaw angle. 
+     */
+    public final float yaw() {
+        return readFloat(8);
+    }
+
+    /**
+     * Altitude (MSL). 
+     */
+    public final float altitude() {
+        return readFloat(12);
+    }
+
+    /**
+     * Latitude. 
+     */
+    public final int lat() {
+        return readInt32(16);
+    }
+
+    /**
+     * Longitude. 
+     */
+    public final int lng() {
+        return readInt32(20);
+    }
+
+    /**
+     * Test variable1. 
+     */
+    public final float v1() {
+        return readFloat(24);
+    }
+
+    /**
+     * Test variable2. 
+     */
+    public final float v2() {
+        return readFloat(28);
+    }
+
+    /**
+     * Test variable3. 
+     */
+    public final float v3() {
+        return readFloat(32);
+    }
+
+    /**
+     * Test variable4. 
+     */
+    public final float v4() {
+        return readFloat(36);
+    }
+}
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Ahrs} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AhrsView extends PayloadView<AhrsView> {
+    /**
+     * X gyro drift estimate. 
+     */
+    public final float omegaix() {
+        return readFloat(0);
+    }
+
+    /**
+     * Y gyro drift estimate. 
+     */
+    public final float omegaiy() {
+        return readFloat(4);
+    }
+
+    /**
+     * Z gyro drift estimate. 
+     */
+    public final float omegaiz() {
+        return readFloat(8);
+    }
+
+    /**
+     * Average accel_weight. 
+     */
+    public final float accelWeight() {
+        return readFloat(12);
+    }
+
+    /**
+     * Average renormalisation value. 
+     */
+    public final float renormVal() {
+        return readFloat(16);
+    }
+
+    /**
+     * Average error_roll_pitch value. 
+     */
+    public final float errorRp() {
+        return readFloat(20);
+    }
+
+    /**
+     * Average error_yaw value. 
+     */
+    public final float errorYaw() {
+        return readFloat(24);
+    }
+}
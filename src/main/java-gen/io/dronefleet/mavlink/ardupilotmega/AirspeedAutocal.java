@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 167,
         description = "Airspeed auto-calibration."
 )
-public final class AirspeedAutocal {
+public final class AirspeedAutocal implements JsonWritable {
     private final float vx;
 
     private final float vy;
@@ -248,6 +250,24 @@ public final class AirspeedAutocal {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("diffPressure").value(this.diffPressure);
+        writer.name("eas2tas").value(this.eas2tas);
+        writer.name("ratio").value(this.ratio);
+        writer.name("stateX").value(this.stateX);
+        writer.name("stateY").value(this.stateY);
+        writer.name("stateZ").value(this.stateZ);
+        writer.name("pax").value(this.pax);
+        writer.name("pby").value(this.pby);
+        writer.name("pcz").value(this.pcz);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AirspeedAutocal{vx=" + vx
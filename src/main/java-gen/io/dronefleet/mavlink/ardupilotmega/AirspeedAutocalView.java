@@ -0,0 +1,93 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AirspeedAutocal} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AirspeedAutocalView extends PayloadView<AirspeedAutocalView> {
+    /**
+     * GPS velocity north. 
+     */
+    public final float vx() {
+        return readFloat(0);
+    }
+
+    /**
+     * GPS velocity east. 
+     */
+    public final float vy() {
+        return readFloat(4);
+    }
+
+    /**
+     * GPS velocity down. 
+     */
+    public final float vz() {
+        return readFloat(8);
+    }
+
+    /**
+     * Differential pressure. 
+     */
+    public final float diffPressure() {
+        return readFloat(12);
+    }
+
+    /**
+     * Estimated to true airspeed ratio. 
+     */
+    public final float eas2tas() {
+        return readFloat(16);
+    }
+
+    /**
+     * Airspeed ratio. 
+     */
+    public final float ratio() {
+        return readFloat(20);
+    }
+
+    /**
+     * EKF state x. 
+     */
+    public final float stateX() {
+        return readFloat(24);
+    }
+
+    /**
+     * EKF state y. 
+     */
+    public final float stateY() {
+        return readFloat(28);
+    }
+
+    /**
+     * EKF state z. 
+     */
+    public final float stateZ() {
+        return readFloat(32);
+    }
+
+    /**
+     * EKF Pax. 
+     */
+    public final float pax() {
+        return readFloat(36);
+    }
+
+    /**
+     * EKF Pby. 
+     */
+    public final float pby() {
+        return readFloat(40);
+    }
+
+    /**
+     * EKF Pcz. 
+     */
+    public final float pcz() {
+        return readFloat(44);
+    }
+}
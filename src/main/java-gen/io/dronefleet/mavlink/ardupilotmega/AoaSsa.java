@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 205,
         description = "Angle of Attack and Side Slip Angle."
 )
-public final class AoaSsa {
+public final class AoaSsa implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float aoa;
@@ -94,6 +97,15 @@ public final class AoaSsa {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("aoa").value(this.aoa);
+        writer.name("ssa").value(this.ssa);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AoaSsa{timeUsec=" + timeUsec
@@ -121,6 +133,15 @@ public final class AoaSsa {
             return this;
         }
 
+        /**
+         * Timestamp (since boot or Unix epoch). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Angle of Attack. 
          */
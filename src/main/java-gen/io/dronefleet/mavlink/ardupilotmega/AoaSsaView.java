@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AoaSsa} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AoaSsaView extends PayloadView<AoaSsaView> {
+    /**
+     * Timestamp (since boot or Unix epoch). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Angle of Attack. 
+     */
+    public final float aoa() {
+        return readFloat(8);
+    }
+
+    /**
+     * Side Slip Angle. 
+     */
+    public final float ssa() {
+        return readFloat(12);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 188,
         description = "Raw ADC output."
 )
-public final class ApAdc {
+public final class ApAdc implements JsonWritable {
     private final int adc1;
 
     private final int adc2;
@@ -144,6 +146,18 @@ public final class ApAdc {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("adc1").value(this.adc1);
+        writer.name("adc2").value(this.adc2);
+        writer.name("adc3").value(this.adc3);
+        writer.name("adc4").value(this.adc4);
+        writer.name("adc5").value(this.adc5);
+        writer.name("adc6").value(this.adc6);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ApAdc{adc1=" + adc1
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ApAdc} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ApAdcView extends PayloadView<ApAdcView> {
+    /**
+     * ADC output 1. 
+     */
+    public final int adc1() {
+        return readUint16(0);
+    }
+
+    /**
+     * ADC output 2. 
+     */
+    public final int adc2() {
+        return readUint16(2);
+    }
+
+    /**
+     * ADC output 3. 
+     */
+    public final int adc3() {
+        return readUint16(4);
+    }
+
+    /**
+     * ADC output 4. 
+     */
+    public final int adc4() {
+        return readUint16(6);
+    }
+
+    /**
+     * ADC output 5. 
+     */
+    public final int adc5() {
+        return readUint16(8);
+    }
+
+    /**
+     * ADC output 6. 
+     */
+    public final int adc6() {
+        return readUint16(10);
+    }
+}
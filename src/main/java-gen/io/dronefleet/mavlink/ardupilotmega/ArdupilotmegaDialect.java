@@ -2,99 +2,108 @@ package io.dronefleet.mavlink.ardupilotmega;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
 import io.dronefleet.mavlink.cubepilot.CubepilotDialect;
 import io.dronefleet.mavlink.icarous.IcarousDialect;
 import io.dronefleet.mavlink.uavionix.UavionixDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class ArdupilotmegaDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect(),
-            new UavionixDialect(),
-            new IcarousDialect(),
-            new CubepilotDialect());
+            CommonDialect.instance(),
+            UavionixDialect.instance(),
+            IcarousDialect.instance(),
+            CubepilotDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(150, SensorOffsets.class)
-            .put(151, SetMagOffsets.class)
-            .put(152, Meminfo.class)
-            .put(153, ApAdc.class)
-            .put(154, DigicamConfigure.class)
-            .put(155, DigicamControl.class)
-            .put(156, MountConfigure.class)
-            .put(157, MountControl.class)
-            .put(158, MountStatus.class)
-            .put(160, FencePoint.class)
-            .put(161, FenceFetchPoint.class)
-            .put(163, Ahrs.class)
-            .put(164, Simstate.class)
-            .put(165, Hwstatus.class)
-            .put(166, Radio.class)
-            .put(167, LimitsStatus.class)
-            .put(168, Wind.class)
-            .put(169, Data16.class)
-            .put(170, Data32.class)
-            .put(171, Data64.class)
-            .put(172, Data96.class)
-            .put(173, Rangefinder.class)
-            .put(174, AirspeedAutocal.class)
-            .put(175, RallyPoint.class)
-            .put(176, RallyFetchPoint.class)
-            .put(177, CompassmotStatus.class)
-            .put(178, Ahrs2.class)
-            .put(179, CameraStatus.class)
-            .put(180, CameraFeedback.class)
-            .put(181, Battery2.class)
-            .put(182, Ahrs3.class)
-            .put(183, AutopilotVersionRequest.class)
-            .put(184, RemoteLogDataBlock.class)
-            .put(185, RemoteLogBlockStatus.class)
-            .put(186, LedControl.class)
-            .put(191, MagCalProgress.class)
-            .put(193, EkfStatusReport.class)
-            .put(194, PidTuning.class)
-            .put(195, Deepstall.class)
-            .put(200, GimbalReport.class)
-            .put(201, GimbalControl.class)
-            .put(214, GimbalTorqueCmdReport.class)
-            .put(215, GoproHeartbeat.class)
-            .put(216, GoproGetRequest.class)
-            .put(217, GoproGetResponse.class)
-            .put(218, GoproSetRequest.class)
-            .put(219, GoproSetResponse.class)
-            .put(226, Rpm.class)
-            .put(11000, DeviceOpRead.class)
-            .put(11001, DeviceOpReadReply.class)
-            .put(11002, DeviceOpWrite.class)
-            .put(11003, DeviceOpWriteReply.class)
-            .put(11010, AdapTuning.class)
-            .put(11011, VisionPositionDelta.class)
-            .put(11020, AoaSsa.class)
-            .put(11030, EscTelemetry1To4.class)
-            .put(11031, EscTelemetry5To8.class)
-            .put(11032, EscTelemetry9To12.class)
-            .put(11033, OsdParamConfig.class)
-            .put(11034, OsdParamConfigReply.class)
-            .put(11035, OsdParamShowConfig.class)
-            .put(11036, OsdParamShowConfigReply.class)
-            .put(11037, ObstacleDistance3d.class)
-            .put(11038, WaterDepth.class)
-            .put(11039, McuStatus.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(150, "io.dronefleet.mavlink.ardupilotmega.SensorOffsets", 134, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(151, "io.dronefleet.mavlink.ardupilotmega.SetMagOffsets", 219, 8, 8, 6, 7),
+            new MavlinkMessageDescriptor(152, "io.dronefleet.mavlink.ardupilotmega.Meminfo", 208, 4, 8, -1, -1),
+            new MavlinkMessageDescriptor(153, "io.dronefleet.mavlink.ardupilotmega.ApAdc", 188, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(154, "io.dronefleet.mavlink.ardupilotmega.DigicamConfigure", 84, 15, 15, 6, 7),
+            new MavlinkMessageDescriptor(155, "io.dronefleet.mavlink.ardupilotmega.DigicamControl", 22, 13, 13, 4, 5),
+            new MavlinkMessageDescriptor(156, "io.dronefleet.mavlink.ardupilotmega.MountConfigure", 19, 6, 6, 0, 1),
+            new MavlinkMessageDescriptor(157, "io.dronefleet.mavlink.ardupilotmega.MountControl", 21, 15, 15, 12, 13),
+            new MavlinkMessageDescriptor(158, "io.dronefleet.mavlink.ardupilotmega.MountStatus", 134, 14, 15, 12, 13),
+            new MavlinkMessageDescriptor(160, "io.dronefleet.mavlink.ardupilotmega.FencePoint", 78, 12, 12, 8, 9),
+            new MavlinkMessageDescriptor(161, "io.dronefleet.mavlink.ardupilotmega.FenceFetchPoint", 68, 3, 3, 0, 1),
+            new MavlinkMessageDescriptor(163, "io.dronefleet.mavlink.ardupilotmega.Ahrs", 127, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(164, "io.dronefleet.mavlink.ardupilotmega.Simstate", 154, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(165, "io.dronefleet.mavlink.ardupilotmega.Hwstatus", 21, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(166, "io.dronefleet.mavlink.ardupilotmega.Radio", 21, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(167, "io.dronefleet.mavlink.ardupilotmega.LimitsStatus", 144, 22, 22, -1, -1),
+            new MavlinkMessageDescriptor(168, "io.dronefleet.mavlink.ardupilotmega.Wind", 1, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(169, "io.dronefleet.mavlink.ardupilotmega.Data16", 234, 18, 18, -1, -1),
+            new MavlinkMessageDescriptor(170, "io.dronefleet.mavlink.ardupilotmega.Data32", 73, 34, 34, -1, -1),
+            new MavlinkMessageDescriptor(171, "io.dronefleet.mavlink.ardupilotmega.Data64", 181, 66, 66, -1, -1),
+            new MavlinkMessageDescriptor(172, "io.dronefleet.mavlink.ardupilotmega.Data96", 22, 98, 98, -1, -1),
+            new MavlinkMessageDescriptor(173, "io.dronefleet.mavlink.ardupilotmega.Rangefinder", 83, 8, 8, -1, -1),
+            new MavlinkMessageDescriptor(174, "io.dronefleet.mavlink.ardupilotmega.AirspeedAutocal", 167, 48, 48, -1, -1),
+            new MavlinkMessageDescriptor(175, "io.dronefleet.mavlink.ardupilotmega.RallyPoint", 138, 19, 19, 14, 15),
+            new MavlinkMessageDescriptor(176, "io.dronefleet.mavlink.ardupilotmega.RallyFetchPoint", 234, 3, 3, 0, 1),
+            new MavlinkMessageDescriptor(177, "io.dronefleet.mavlink.ardupilotmega.CompassmotStatus", 240, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(178, "io.dronefleet.mavlink.ardupilotmega.Ahrs2", 47, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(179, "io.dronefleet.mavlink.ardupilotmega.CameraStatus", 189, 29, 29, 26, -1),
+            new MavlinkMessageDescriptor(180, "io.dronefleet.mavlink.ardupilotmega.CameraFeedback", 52, 45, 47, 42, -1),
+            new MavlinkMessageDescriptor(181, "io.dronefleet.mavlink.ardupilotmega.Battery2", 174, 4, 4, -1, -1),
+            new MavlinkMessageDescriptor(182, "io.dronefleet.mavlink.ardupilotmega.Ahrs3", 229, 40, 40, -1, -1),
+            new MavlinkMessageDescriptor(183, "io.dronefleet.mavlink.ardupilotmega.AutopilotVersionRequest", 85, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(184, "io.dronefleet.mavlink.ardupilotmega.RemoteLogDataBlock", 159, 206, 206, 4, 5),
+            new MavlinkMessageDescriptor(185, "io.dronefleet.mavlink.ardupilotmega.RemoteLogBlockStatus", 186, 7, 7, 4, 5),
+            new MavlinkMessageDescriptor(186, "io.dronefleet.mavlink.ardupilotmega.LedControl", 72, 29, 29, 0, 1),
+            new MavlinkMessageDescriptor(191, "io.dronefleet.mavlink.ardupilotmega.MagCalProgress", 92, 27, 27, -1, -1),
+            new MavlinkMessageDescriptor(193, "io.dronefleet.mavlink.ardupilotmega.EkfStatusReport", 71, 22, 26, -1, -1),
+            new MavlinkMessageDescriptor(194, "io.dronefleet.mavlink.ardupilotmega.PidTuning", 98, 25, 33, -1, -1),
+            new MavlinkMessageDescriptor(195, "io.dronefleet.mavlink.ardupilotmega.Deepstall", 120, 37, 37, -1, -1),
+            new MavlinkMessageDescriptor(200, "io.dronefleet.mavlink.ardupilotmega.GimbalReport", 134, 42, 42, 40, 41),
+            new MavlinkMessageDescriptor(201, "io.dronefleet.mavlink.ardupilotmega.GimbalControl", 205, 14, 14, 12, 13),
+            new MavlinkMessageDescriptor(214, "io.dronefleet.mavlink.ardupilotmega.GimbalTorqueCmdReport", 69, 8, 8, 6, 7),
+            new MavlinkMessageDescriptor(215, "io.dronefleet.mavlink.ardupilotmega.GoproHeartbeat", 101, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(216, "io.dronefleet.mavlink.ardupilotmega.GoproGetRequest", 50, 3, 3, 0, 1),
+            new MavlinkMessageDescriptor(217, "io.dronefleet.mavlink.ardupilotmega.GoproGetResponse", 202, 6, 6, -1, -1),
+            new MavlinkMessageDescriptor(218, "io.dronefleet.mavlink.ardupilotmega.GoproSetRequest", 17, 7, 7, 0, 1),
+            new MavlinkMessageDescriptor(219, "io.dronefleet.mavlink.ardupilotmega.GoproSetResponse", 162, 2, 2, -1, -1),
+            new MavlinkMessageDescriptor(226, "io.dronefleet.mavlink.ardupilotmega.Rpm", 207, 8, 8, -1, -1),
+            new MavlinkMessageDescriptor(11000, "io.dronefleet.mavlink.ardupilotmega.DeviceOpRead", 134, 51, 52, 4, 5),
+            new MavlinkMessageDescriptor(11001, "io.dronefleet.mavlink.ardupilotmega.DeviceOpReadReply", 15, 135, 136, -1, -1),
+            new MavlinkMessageDescriptor(11002, "io.dronefleet.mavlink.ardupilotmega.DeviceOpWrite", 234, 179, 180, 4, 5),
+            new MavlinkMessageDescriptor(11003, "io.dronefleet.mavlink.ardupilotmega.DeviceOpWriteReply", 64, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(11010, "io.dronefleet.mavlink.ardupilotmega.AdapTuning", 46, 49, 49, -1, -1),
+            new MavlinkMessageDescriptor(11011, "io.dronefleet.mavlink.ardupilotmega.VisionPositionDelta", 106, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(11020, "io.dronefleet.mavlink.ardupilotmega.AoaSsa", 205, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(11030, "io.dronefleet.mavlink.ardupilotmega.EscTelemetry1To4", 144, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(11031, "io.dronefleet.mavlink.ardupilotmega.EscTelemetry5To8", 133, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(11032, "io.dronefleet.mavlink.ardupilotmega.EscTelemetry9To12", 85, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(11033, "io.dronefleet.mavlink.ardupilotmega.OsdParamConfig", 195, 37, 37, 16, 17),
+            new MavlinkMessageDescriptor(11034, "io.dronefleet.mavlink.ardupilotmega.OsdParamConfigReply", 79, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(11035, "io.dronefleet.mavlink.ardupilotmega.OsdParamShowConfig", 128, 8, 8, 4, 5),
+            new MavlinkMessageDescriptor(11036, "io.dronefleet.mavlink.ardupilotmega.OsdParamShowConfigReply", 177, 34, 34, -1, -1),
+            new MavlinkMessageDescriptor(11037, "io.dronefleet.mavlink.ardupilotmega.ObstacleDistance3d", 130, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(11038, "io.dronefleet.mavlink.ardupilotmega.WaterDepth", 47, 38, 38, -1, -1),
+            new MavlinkMessageDescriptor(11039, "io.dronefleet.mavlink.ardupilotmega.McuStatus", 142, 9, 9, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final ArdupilotmegaDialect instance = new ArdupilotmegaDialect();
 
     public ArdupilotmegaDialect() {
-        super("ardupilotmega", dependencies, messages);
+        super("ardupilotmega", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static ArdupilotmegaDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 85,
         description = "Request the autopilot version from the system/component."
 )
-public final class AutopilotVersionRequest {
+public final class AutopilotVersionRequest implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -76,6 +78,14 @@ public final class AutopilotVersionRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AutopilotVersionRequest{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "2nd Battery status"
 )
 @Deprecated
-public final class Battery2 {
+public final class Battery2 implements JsonWritable {
     private final int voltage;
 
     private final int currentBattery;
@@ -80,6 +82,14 @@ public final class Battery2 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("voltage").value(this.voltage);
+        writer.name("currentBattery").value(this.currentBattery);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Battery2{voltage=" + voltage
@@ -0,0 +1,25 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link Battery2} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class Battery2View extends PayloadView<Battery2View> {
+    /**
+     * Voltage. 
+     */
+    public final int voltage() {
+        return readUint16(0);
+    }
+
+    /**
+     * Battery current, -1: autopilot does not measure the current. 
+     */
+    public final int currentBattery() {
+        return readInt16(2);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 52,
         description = "Camera Capture Feedback."
 )
-public final class CameraFeedback {
+public final class CameraFeedback implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int targetSystem;
@@ -291,6 +294,26 @@ public final class CameraFeedback {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("camIdx").value(this.camIdx);
+        writer.name("imgIdx").value(this.imgIdx);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.name("altMsl").value(this.altMsl);
+        writer.name("altRel").value(this.altRel);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("focLen").value(this.focLen);
+        writer.name("flags").value(this.flags);
+        writer.name("completedCaptures").value(this.completedCaptures);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraFeedback{timeUsec=" + timeUsec
@@ -352,6 +375,16 @@ public final class CameraFeedback {
             return this;
         }
 
+        /**
+         * Image timestamp (since UNIX epoch), as passed in by {@link io.dronefleet.mavlink.ardupilotmega.CameraStatus CAMERA_STATUS} message (or autopilot if no 
+         * CCB). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * System ID. 
          */
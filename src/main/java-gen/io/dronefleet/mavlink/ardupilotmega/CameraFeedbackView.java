@@ -0,0 +1,112 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraFeedback} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraFeedbackView extends PayloadView<CameraFeedbackView> {
+    /**
+     * Image timestamp (since UNIX epoch), as passed in by {@link io.dronefleet.mavlink.ardupilotmega.CameraStatus CAMERA_STATUS} message (or autopilot if no 
+     * CCB). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude. 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude. 
+     */
+    public final int lng() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude (MSL). 
+     */
+    public final float altMsl() {
+        return readFloat(16);
+    }
+
+    /**
+     * Altitude (Relative to HOME location). 
+     */
+    public final float altRel() {
+        return readFloat(20);
+    }
+
+    /**
+     * Camera Roll angle (earth frame, +-180). 
+     */
+    public final float roll() {
+        return readFloat(24);
+    }
+
+    /**
+     * Camera Pitch angle (earth frame, +-180). 
+     */
+    public final float pitch() {
+        return readFloat(28);
+    }
+
+    /**
+     * Camera Yaw (earth frame, 0-360, true). 
+     */
+    public final float yaw() {
+        return readFloat(32);
+    }
+
+    /**
+     * Focal Length. 
+     */
+    public final float focLen() {
+        return readFloat(36);
+    }
+
+    /**
+     * Image index. 
+     */
+    public final int imgIdx() {
+        return readUint16(40);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(42);
+    }
+
+    /**
+     * Camera ID. 
+     */
+    public final int camIdx() {
+        return readUint8(43);
+    }
+
+    /**
+     * Feedback flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraFeedbackFlags}.
+     */
+    public final int flags() {
+        return readUint8(44);
+    }
+
+    /**
+     * Completed image captures. 
+     */
+    public final int completedCaptures() {
+        return readUint16(45);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 189,
         description = "Camera Event."
 )
-public final class CameraStatus {
+public final class CameraStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int targetSystem;
@@ -201,6 +204,21 @@ public final class CameraStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("camIdx").value(this.camIdx);
+        writer.name("imgIdx").value(this.imgIdx);
+        writer.name("eventId").value(this.eventId);
+        writer.name("p1").value(this.p1);
+        writer.name("p2").value(this.p2);
+        writer.name("p3").value(this.p3);
+        writer.name("p4").value(this.p4);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraStatus{timeUsec=" + timeUsec
@@ -246,6 +264,15 @@ public final class CameraStatus {
             return this;
         }
 
+        /**
+         * Image timestamp (since UNIX epoch, according to camera clock). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * System ID. 
          */
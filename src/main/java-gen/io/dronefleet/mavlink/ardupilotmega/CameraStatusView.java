@@ -0,0 +1,76 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraStatusView extends PayloadView<CameraStatusView> {
+    /**
+     * Image timestamp (since UNIX epoch, according to camera clock). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Parameter 1 (meaning depends on event_id, see {@link io.dronefleet.mavlink.ardupilotmega.CameraStatusTypes CAMERA_STATUS_TYPES} enum). 
+     */
+    public final float p1() {
+        return readFloat(8);
+    }
+
+    /**
+     * Parameter 2 (meaning depends on event_id, see {@link io.dronefleet.mavlink.ardupilotmega.CameraStatusTypes CAMERA_STATUS_TYPES} enum). 
+     */
+    public final float p2() {
+        return readFloat(12);
+    }
+
+    /**
+     * Parameter 3 (meaning depends on event_id, see {@link io.dronefleet.mavlink.ardupilotmega.CameraStatusTypes CAMERA_STATUS_TYPES} enum). 
+     */
+    public final float p3() {
+        return readFloat(16);
+    }
+
+    /**
+     * Parameter 4 (meaning depends on event_id, see {@link io.dronefleet.mavlink.ardupilotmega.CameraStatusTypes CAMERA_STATUS_TYPES} enum). 
+     */
+    public final float p4() {
+        return readFloat(20);
+    }
+
+    /**
+     * Image index. 
+     */
+    public final int imgIdx() {
+        return readUint16(24);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(26);
+    }
+
+    /**
+     * Camera ID. 
+     */
+    public final int camIdx() {
+        return readUint8(27);
+    }
+
+    /**
+     * Event type. 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraStatusTypes}.
+     */
+    public final int eventId() {
+        return readUint8(28);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 240,
         description = "Status of compassmot calibration."
 )
-public final class CompassmotStatus {
+public final class CompassmotStatus implements JsonWritable {
     private final int throttle;
 
     private final float current;
@@ -145,6 +147,18 @@ public final class CompassmotStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("throttle").value(this.throttle);
+        writer.name("current").value(this.current);
+        writer.name("interference").value(this.interference);
+        writer.name("compensationx").value(this.compensationx);
+        writer.name("compensationy").value(this.compensationy);
+        writer.name("compensationz").value(this.compensationz);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CompassmotStatus{throttle=" + throttle
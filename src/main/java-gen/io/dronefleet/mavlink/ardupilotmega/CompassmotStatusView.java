@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CompassmotStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CompassmotStatusView extends PayloadView<CompassmotStatusView> {
+    /**
+     * Current. 
+     */
+    public final float current() {
+        return readFloat(0);
+    }
+
+    /**
+     * Motor Compensation X. 
+     */
+    public final float compensationx() {
+        return readFloat(4);
+    }
+
+    /**
+     * Motor Compensation Y. 
+     */
+    public final float compensationy() {
+        return readFloat(8);
+    }
+
+    /**
+     * Motor Compensation Z. 
+     */
+    public final float compensationz() {
+        return readFloat(12);
+    }
+
+    /**
+     * Throttle. 
+     */
+    public final int throttle() {
+        return readUint16(16);
+    }
+
+    /**
+     * Interference. 
+     */
+    public final int interference() {
+        return readUint16(18);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 234,
         description = "Data packet, size 16."
 )
-public final class Data16 {
+public final class Data16 implements JsonWritable {
     private final int type;
 
     private final int len;
@@ -94,6 +96,15 @@ public final class Data16 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("type").value(this.type);
+        writer.name("len").value(this.len);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Data16{type=" + type
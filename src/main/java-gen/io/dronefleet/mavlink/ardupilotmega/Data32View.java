@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Data32} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Data32View extends PayloadView<Data32View> {
+    /**
+     * Data type. 
+     */
+    public final int type() {
+        return readUint8(0);
+    }
+
+    /**
+     * Data length. 
+     */
+    public final int len() {
+        return readUint8(1);
+    }
+
+    /**
+     * Raw data. 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(2, 1, 32, index));
+    }
+}
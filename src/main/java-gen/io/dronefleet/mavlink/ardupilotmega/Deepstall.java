@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 120,
         description = "Deepstall path planning."
 )
-public final class Deepstall {
+public final class Deepstall implements JsonWritable {
     private final int landingLat;
 
     private final int landingLon;
@@ -224,6 +226,22 @@ public final class Deepstall {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("landingLat").value(this.landingLat);
+        writer.name("landingLon").value(this.landingLon);
+        writer.name("pathLat").value(this.pathLat);
+        writer.name("pathLon").value(this.pathLon);
+        writer.name("arcEntryLat").value(this.arcEntryLat);
+        writer.name("arcEntryLon").value(this.arcEntryLon);
+        writer.name("altitude").value(this.altitude);
+        writer.name("expectedTravelDistance").value(this.expectedTravelDistance);
+        writer.name("crossTrackError").value(this.crossTrackError);
+        writer.name("stage").value(this.stage);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Deepstall{landingLat=" + landingLat
@@ -0,0 +1,81 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Deepstall} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DeepstallView extends PayloadView<DeepstallView> {
+    /**
+     * Landing latitude. 
+     */
+    public final int landingLat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Landing longitude. 
+     */
+    public final int landingLon() {
+        return readInt32(4);
+    }
+
+    /**
+     * Final heading start point, latitude. 
+     */
+    public final int pathLat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Final heading start point, longitude. 
+     */
+    public final int pathLon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Arc entry point, latitude. 
+     */
+    public final int arcEntryLat() {
+        return readInt32(16);
+    }
+
+    /**
+     * Arc entry point, longitude. 
+     */
+    public final int arcEntryLon() {
+        return readInt32(20);
+    }
+
+    /**
+     * Altitude. 
+     */
+    public final float altitude() {
+        return readFloat(24);
+    }
+
+    /**
+     * Distance the aircraft expects to travel during the deepstall. 
+     */
+    public final float expectedTravelDistance() {
+        return readFloat(28);
+    }
+
+    /**
+     * Deepstall cross track error (only valid when in DEEPSTALL_STAGE_LAND). 
+     */
+    public final float crossTrackError() {
+        return readFloat(32);
+    }
+
+    /**
+     * Deepstall stage. 
+     * <p>
+     * This returns the raw value of the field, see {@link DeepstallStage}.
+     */
+    public final int stage() {
+        return readUint8(36);
+    }
+}
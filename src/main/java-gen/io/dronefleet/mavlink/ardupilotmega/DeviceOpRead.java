@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 134,
         description = "Read registers for a device."
 )
-public final class DeviceOpRead {
+public final class DeviceOpRead implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -220,6 +222,22 @@ public final class DeviceOpRead {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("requestId").value(this.requestId);
+        writer.name("bustype").value(this.bustype);
+        writer.name("bus").value(this.bus);
+        writer.name("address").value(this.address);
+        writer.name("busname").value(this.busname);
+        writer.name("regstart").value(this.regstart);
+        writer.name("count").value(this.count);
+        writer.name("bank").value(this.bank);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DeviceOpRead{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 15,
         description = "Read registers reply."
 )
-public final class DeviceOpReadReply {
+public final class DeviceOpReadReply implements JsonWritable {
     private final long requestId;
 
     private final int result;
@@ -147,6 +149,18 @@ public final class DeviceOpReadReply {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("requestId").value(this.requestId);
+        writer.name("result").value(this.result);
+        writer.name("regstart").value(this.regstart);
+        writer.name("count").value(this.count);
+        writer.name("data").value(this.data);
+        writer.name("bank").value(this.bank);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DeviceOpReadReply{requestId=" + requestId
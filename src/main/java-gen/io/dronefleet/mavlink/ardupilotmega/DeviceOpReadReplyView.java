@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DeviceOpReadReply} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DeviceOpReadReplyView extends PayloadView<DeviceOpReadReplyView> {
+    /**
+     * Request ID - copied from request. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * 0 for success, anything else is failure code. 
+     */
+    public final int result() {
+        return readUint8(4);
+    }
+
+    /**
+     * Starting register. 
+     */
+    public final int regstart() {
+        return readUint8(5);
+    }
+
+    /**
+     * Count of bytes read. 
+     */
+    public final int count() {
+        return readUint8(6);
+    }
+
+    /**
+     * Reply data. 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(7, 1, 128, index));
+    }
+
+    /**
+     * Bank number. 
+     */
+    public final int bank() {
+        return readUint8(135);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 64,
         description = "Write registers reply."
 )
-public final class DeviceOpWriteReply {
+public final class DeviceOpWriteReply implements JsonWritable {
     private final long requestId;
 
     private final int result;
@@ -76,6 +78,14 @@ public final class DeviceOpWriteReply {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("requestId").value(this.requestId);
+        writer.name("result").value(this.result);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DeviceOpWriteReply{requestId=" + requestId
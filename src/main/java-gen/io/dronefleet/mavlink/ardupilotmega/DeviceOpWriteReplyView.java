@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DeviceOpWriteReply} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DeviceOpWriteReplyView extends PayloadView<DeviceOpWriteReplyView> {
+    /**
+     * Request ID - copied from request. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * 0 for success, anything else is failure code. 
+     */
+    public final int result() {
+        return readUint8(4);
+    }
+}
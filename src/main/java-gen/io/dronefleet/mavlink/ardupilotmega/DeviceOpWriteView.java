@@ -0,0 +1,89 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link DeviceOpWrite} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DeviceOpWriteView extends PayloadView<DeviceOpWriteView> {
+    /**
+     * Request ID - copied to reply. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * The bus type. 
+     * <p>
+     * This returns the raw value of the field, see {@link DeviceOpBustype}.
+     */
+    public final int bustype() {
+        return readUint8(6);
+    }
+
+    /**
+     * Bus number. 
+     */
+    public final int bus() {
+        return readUint8(7);
+    }
+
+    /**
+     * Bus address. 
+     */
+    public final int address() {
+        return readUint8(8);
+    }
+
+    /**
+     * Name of device on bus (for SPI). 
+     */
+    public final String busname() {
+        return readString(9, 40);
+    }
+
+    /**
+     * First register to write. 
+     */
+    public final int regstart() {
+        return readUint8(49);
+    }
+
+    /**
+     * Count of registers to write. 
+     */
+    public final int count() {
+        return readUint8(50);
+    }
+
+    /**
+     * Write data. 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(51, 1, 128, index));
+    }
+
+    /**
+     * Bank number. 
+     */
+    public final int bank() {
+        return readUint8(179);
+    }
+}
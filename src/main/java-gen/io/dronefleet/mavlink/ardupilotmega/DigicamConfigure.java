@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 84,
         description = "Configure on-board Camera Control System."
 )
-public final class DigicamConfigure {
+public final class DigicamConfigure implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -232,6 +234,23 @@ public final class DigicamConfigure {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("mode").value(this.mode);
+        writer.name("shutterSpeed").value(this.shutterSpeed);
+        writer.name("aperture").value(this.aperture);
+        writer.name("iso").value(this.iso);
+        writer.name("exposureType").value(this.exposureType);
+        writer.name("commandId").value(this.commandId);
+        writer.name("engineCutOff").value(this.engineCutOff);
+        writer.name("extraParam").value(this.extraParam);
+        writer.name("extraValue").value(this.extraValue);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DigicamConfigure{targetSystem=" + targetSystem
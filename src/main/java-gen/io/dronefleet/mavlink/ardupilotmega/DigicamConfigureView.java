@@ -0,0 +1,87 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DigicamConfigure} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DigicamConfigureView extends PayloadView<DigicamConfigureView> {
+    /**
+     * Correspondent value to given extra_param. 
+     */
+    public final float extraValue() {
+        return readFloat(0);
+    }
+
+    /**
+     * Divisor number //e.g. 1000 means 1/1000 (0 means ignore). 
+     */
+    public final int shutterSpeed() {
+        return readUint16(4);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(6);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(7);
+    }
+
+    /**
+     * Mode enumeration from 1 to N //P, TV, AV, M, etc. (0 means ignore). 
+     */
+    public final int mode() {
+        return readUint8(8);
+    }
+
+    /**
+     * F stop number x 10 //e.g. 28 means 2.8 (0 means ignore). 
+     */
+    public final int aperture() {
+        return readUint8(9);
+    }
+
+    /**
+     * ISO enumeration from 1 to N //e.g. 80, 100, 200, Etc (0 means ignore). 
+     */
+    public final int iso() {
+        return readUint8(10);
+    }
+
+    /**
+     * Exposure type enumeration from 1 to N (0 means ignore). 
+     */
+    public final int exposureType() {
+        return readUint8(11);
+    }
+
+    /**
+     * Command Identity (incremental loop: 0 to 255). //A command sent multiple times will be 
+     * executed or pooled just once. 
+     */
+    public final int commandId() {
+        return readUint8(12);
+    }
+
+    /**
+     * Main engine cut-off time before camera trigger (0 means no cut-off). 
+     */
+    public final int engineCutOff() {
+        return readUint8(13);
+    }
+
+    /**
+     * Extra parameters enumeration (0 means ignore). 
+     */
+    public final int extraParam() {
+        return readUint8(14);
+    }
+}
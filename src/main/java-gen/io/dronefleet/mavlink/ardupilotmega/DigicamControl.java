@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 22,
         description = "Control on-board Camera Control System to take shots."
 )
-public final class DigicamControl {
+public final class DigicamControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -216,6 +218,22 @@ public final class DigicamControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("session").value(this.session);
+        writer.name("zoomPos").value(this.zoomPos);
+        writer.name("zoomStep").value(this.zoomStep);
+        writer.name("focusLock").value(this.focusLock);
+        writer.name("shot").value(this.shot);
+        writer.name("commandId").value(this.commandId);
+        writer.name("extraParam").value(this.extraParam);
+        writer.name("extraValue").value(this.extraValue);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DigicamControl{targetSystem=" + targetSystem
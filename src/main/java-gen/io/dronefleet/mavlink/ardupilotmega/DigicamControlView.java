@@ -0,0 +1,80 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DigicamControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DigicamControlView extends PayloadView<DigicamControlView> {
+    /**
+     * Correspondent value to given extra_param. 
+     */
+    public final float extraValue() {
+        return readFloat(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * 0: stop, 1: start or keep it up //Session control e.g. show/hide lens. 
+     */
+    public final int session() {
+        return readUint8(6);
+    }
+
+    /**
+     * 1 to N //Zoom's absolute position (0 means ignore). 
+     */
+    public final int zoomPos() {
+        return readUint8(7);
+    }
+
+    /**
+     * -100 to 100 //Zooming step value to offset zoom from the current position. 
+     */
+    public final int zoomStep() {
+        return readInt8(8);
+    }
+
+    /**
+     * 0: unlock focus or keep unlocked, 1: lock focus or keep locked, 3: re-lock focus. 
+     */
+    public final int focusLock() {
+        return readUint8(9);
+    }
+
+    /**
+     * 0: ignore, 1: shot or start filming. 
+     */
+    public final int shot() {
+        return readUint8(10);
+    }
+
+    /**
+     * Command Identity (incremental loop: 0 to 255)//A command sent multiple times will be executed 
+     * or pooled just once. 
+     */
+    public final int commandId() {
+        return readUint8(11);
+    }
+
+    /**
+     * Extra parameters enumeration (0 means ignore). 
+     */
+    public final int extraParam() {
+        return readUint8(12);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 71,
         description = "EKF Status message including flags and variances."
 )
-public final class EkfStatusReport {
+public final class EkfStatusReport implements JsonWritable {
     private final EnumValue<EkfStatusFlags> flags;
 
     private final float velocityVariance;
@@ -168,6 +170,19 @@ public final class EkfStatusReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("flags").value(this.flags);
+        writer.name("velocityVariance").value(this.velocityVariance);
+        writer.name("posHorizVariance").value(this.posHorizVariance);
+        writer.name("posVertVariance").value(this.posVertVariance);
+        writer.name("compassVariance").value(this.compassVariance);
+        writer.name("terrainAltVariance").value(this.terrainAltVariance);
+        writer.name("airspeedVariance").value(this.airspeedVariance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EkfStatusReport{flags=" + flags
@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EkfStatusReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EkfStatusReportView extends PayloadView<EkfStatusReportView> {
+    /**
+     * Velocity variance. 
+     */
+    public final float velocityVariance() {
+        return readFloat(0);
+    }
+
+    /**
+     * Horizontal Position variance. 
+     */
+    public final float posHorizVariance() {
+        return readFloat(4);
+    }
+
+    /**
+     * Vertical Position variance. 
+     */
+    public final float posVertVariance() {
+        return readFloat(8);
+    }
+
+    /**
+     * Compass variance. 
+     */
+    public final float compassVariance() {
+        return readFloat(12);
+    }
+
+    /**
+     * Terrain Altitude variance. 
+     */
+    public final float terrainAltVariance() {
+        return readFloat(16);
+    }
+
+    /**
+     * Flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link EkfStatusFlags}.
+     */
+    public final int flags() {
+        return readUint16(20);
+    }
+
+    /**
+     * Airspeed variance. 
+     */
+    public final float airspeedVariance() {
+        return readFloat(22);
+    }
+}
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EscTelemetry1To4} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EscTelemetry1To4View extends PayloadView<EscTelemetry1To4View> {
+    /**
+     * Voltage. 
+     */
+    public final int voltage(int index) {
+        return readUint16(elementPosition(0, 2, 4, index));
+    }
+
+    /**
+     * Current. 
+     */
+    public final int current(int index) {
+        return readUint16(elementPosition(8, 2, 4, index));
+    }
+
+    /**
+     * Total current. 
+     */
+    public final int totalcurrent(int index) {
+        return readUint16(elementPosition(16, 2, 4, index));
+    }
+
+    /**
+     * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} (e{@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM}). 
+     */
+    public final int rpm(int index) {
+        return readUint16(elementPosition(24, 2, 4, index));
+    }
+
+    /**
+     * count of telemetry packets received (wraps at 65535). 
+     */
+    public final int count(int index) {
+        return readUint16(elementPosition(32, 2, 4, index));
+    }
+
+    /**
+     * Temperature. 
+     */
+    public final int temperature(int index) {
+        return readUint8(elementPosition(40, 1, 4, index));
+    }
+}
@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -18,27 +22,27 @@ import java.util.Objects;
         crc = 133,
         description = "ESC Telemetry Data for ESCs 5 to 8, matching data sent by BLHeli ESCs."
 )
-public final class EscTelemetry5To8 {
+public final class EscTelemetry5To8 implements JsonWritable {
     private final byte[] temperature;
 
-    private final List<Integer> voltage;
+    private final IntArrayList voltage;
 
-    private final List<Integer> current;
+    private final IntArrayList current;
 
-    private final List<Integer> totalcurrent;
+    private final IntArrayList totalcurrent;
 
-    private final List<Integer> rpm;
+    private final IntArrayList rpm;
 
-    private final List<Integer> count;
+    private final IntArrayList count;
 
     private EscTelemetry5To8(byte[] temperature, List<Integer> voltage, List<Integer> current,
             List<Integer> totalcurrent, List<Integer> rpm, List<Integer> count) {
         this.temperature = temperature;
-        this.voltage = voltage;
-        this.current = current;
-        this.totalcurrent = totalcurrent;
-        this.rpm = rpm;
-        this.count = count;
+        this.voltage = IntArrayList.copyOf(voltage);
+        this.current = IntArrayList.copyOf(current);
+        this.totalcurrent = IntArrayList.copyOf(totalcurrent);
+        this.rpm = IntArrayList.copyOf(rpm);
+        this.count = IntArrayList.copyOf(count);
     }
 
     /**
@@ -75,6 +79,25 @@ public final class EscTelemetry5To8 {
         return this.voltage;
     }
 
+    /**
+     * Returns a copy of {@link #voltage()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] voltageArray() {
+        return this.voltage != null ? this.voltage.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #voltage()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int voltage(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.voltage != null && index < this.voltage.size() ? this.voltage.getInt(index) : 0;
+    }
+
     /**
      * Current. 
      */
@@ -88,6 +111,25 @@ public final class EscTelemetry5To8 {
         return this.current;
     }
 
+    /**
+     * Returns a copy of {@link #current()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] currentArray() {
+        return this.current != null ? this.current.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #current()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int current(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.current != null && index < this.current.size() ? this.current.getInt(index) : 0;
+    }
+
     /**
      * Total current. 
      */
@@ -101,6 +143,25 @@ public final class EscTelemetry5To8 {
         return this.totalcurrent;
     }
 
+    /**
+     * Returns a copy of {@link #totalcurrent()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] totalcurrentArray() {
+        return this.totalcurrent != null ? this.totalcurrent.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #totalcurrent()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int totalcurrent(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.totalcurrent != null && index < this.totalcurrent.size() ? this.totalcurrent.getInt(index) : 0;
+    }
+
     /**
      * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} (e{@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM}). 
      */
@@ -114,6 +175,25 @@ public final class EscTelemetry5To8 {
         return this.rpm;
     }
 
+    /**
+     * Returns a copy of {@link #rpm()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] rpmArray() {
+        return this.rpm != null ? this.rpm.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #rpm()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int rpm(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.rpm != null && index < this.rpm.size() ? this.rpm.getInt(index) : 0;
+    }
+
     /**
      * count of telemetry packets received (wraps at 65535). 
      */
@@ -127,6 +207,25 @@ public final class EscTelemetry5To8 {
         return this.count;
     }
 
+    /**
+     * Returns a copy of {@link #count()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] countArray() {
+        return this.count != null ? this.count.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #count()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int count(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.count != null && index < this.count.size() ? this.count.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -153,6 +252,18 @@ public final class EscTelemetry5To8 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("temperature").value(this.temperature);
+        writer.name("voltage").value(this.voltage);
+        writer.name("current").value(this.current);
+        writer.name("totalcurrent").value(this.totalcurrent);
+        writer.name("rpm").value(this.rpm);
+        writer.name("count").value(this.count);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EscTelemetry5To8{temperature=" + temperature
@@ -204,6 +315,13 @@ public final class EscTelemetry5To8 {
             return this;
         }
 
+        /**
+         * Voltage. 
+         */
+        public final Builder voltage(int... voltage) {
+            return voltage(IntArrayList.of(voltage));
+        }
+
         /**
          * Current. 
          */
@@ -218,6 +336,13 @@ public final class EscTelemetry5To8 {
             return this;
         }
 
+        /**
+         * Current. 
+         */
+        public final Builder current(int... current) {
+            return current(IntArrayList.of(current));
+        }
+
         /**
          * Total current. 
          */
@@ -232,6 +357,13 @@ public final class EscTelemetry5To8 {
             return this;
         }
 
+        /**
+         * Total current. 
+         */
+        public final Builder totalcurrent(int... totalcurrent) {
+            return totalcurrent(IntArrayList.of(totalcurrent));
+        }
+
         /**
          * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} (e{@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM}). 
          */
@@ -246,6 +378,13 @@ public final class EscTelemetry5To8 {
             return this;
         }
 
+        /**
+         * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} (e{@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM}). 
+         */
+        public final Builder rpm(int... rpm) {
+            return rpm(IntArrayList.of(rpm));
+        }
+
         /**
          * count of telemetry packets received (wraps at 65535). 
          */
@@ -260,6 +399,13 @@ public final class EscTelemetry5To8 {
             return this;
         }
 
+        /**
+         * count of telemetry packets received (wraps at 65535). 
+         */
+        public final Builder count(int... count) {
+            return count(IntArrayList.of(count));
+        }
+
         public final EscTelemetry5To8 build() {
             return new EscTelemetry5To8(temperature, voltage, current, totalcurrent, rpm, count);
         }
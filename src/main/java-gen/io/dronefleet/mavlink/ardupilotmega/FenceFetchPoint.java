@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 68,
         description = "Request a current fence point from MAV."
 )
-public final class FenceFetchPoint {
+public final class FenceFetchPoint implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -93,6 +95,15 @@ public final class FenceFetchPoint {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idx").value(this.idx);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FenceFetchPoint{targetSystem=" + targetSystem
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FenceFetchPoint} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FenceFetchPointView extends PayloadView<FenceFetchPointView> {
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Point index (first point is 1, 0 is for return point). 
+     */
+    public final int idx() {
+        return readUint8(2);
+    }
+}
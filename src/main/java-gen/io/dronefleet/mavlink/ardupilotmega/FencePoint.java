@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 78,
         description = "A fence point. Used to set a point when from GCS -> MAV. Also used to return a point from MAV -> GCS."
 )
-public final class FencePoint {
+public final class FencePoint implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -145,6 +147,18 @@ public final class FencePoint {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idx").value(this.idx);
+        writer.name("count").value(this.count);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FencePoint{targetSystem=" + targetSystem
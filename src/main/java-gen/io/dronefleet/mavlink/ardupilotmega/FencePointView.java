@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FencePoint} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FencePointView extends PayloadView<FencePointView> {
+    /**
+     * Latitude of point. 
+     */
+    public final float lat() {
+        return readFloat(0);
+    }
+
+    /**
+     * Longitude of point. 
+     */
+    public final float lng() {
+        return readFloat(4);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(8);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(9);
+    }
+
+    /**
+     * Point index (first point is 1, 0 is for return point). 
+     */
+    public final int idx() {
+        return readUint8(10);
+    }
+
+    /**
+     * Total number of points (for sanity checking). 
+     */
+    public final int count() {
+        return readUint8(11);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 205,
         description = "Control message for rate gimbal."
 )
-public final class GimbalControl {
+public final class GimbalControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -128,6 +130,17 @@ public final class GimbalControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("demandedRateX").value(this.demandedRateX);
+        writer.name("demandedRateY").value(this.demandedRateY);
+        writer.name("demandedRateZ").value(this.demandedRateZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalControl{targetSystem=" + targetSystem
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GimbalControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GimbalControlView extends PayloadView<GimbalControlView> {
+    /**
+     * Demanded angular rate X. 
+     */
+    public final float demandedRateX() {
+        return readFloat(0);
+    }
+
+    /**
+     * Demanded angular rate Y. 
+     */
+    public final float demandedRateY() {
+        return readFloat(4);
+    }
+
+    /**
+     * Demanded angular rate Z. 
+     */
+    public final float demandedRateZ() {
+        return readFloat(8);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(12);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(13);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 134,
         description = "3 axis gimbal measurements."
 )
-public final class GimbalReport {
+public final class GimbalReport implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -248,6 +250,24 @@ public final class GimbalReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("deltaTime").value(this.deltaTime);
+        writer.name("deltaAngleX").value(this.deltaAngleX);
+        writer.name("deltaAngleY").value(this.deltaAngleY);
+        writer.name("deltaAngleZ").value(this.deltaAngleZ);
+        writer.name("deltaVelocityX").value(this.deltaVelocityX);
+        writer.name("deltaVelocityY").value(this.deltaVelocityY);
+        writer.name("deltaVelocityZ").value(this.deltaVelocityZ);
+        writer.name("jointRoll").value(this.jointRoll);
+        writer.name("jointEl").value(this.jointEl);
+        writer.name("jointAz").value(this.jointAz);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalReport{targetSystem=" + targetSystem
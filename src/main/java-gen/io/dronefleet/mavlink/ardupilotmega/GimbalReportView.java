@@ -0,0 +1,93 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GimbalReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GimbalReportView extends PayloadView<GimbalReportView> {
+    /**
+     * Time since last update. 
+     */
+    public final float deltaTime() {
+        return readFloat(0);
+    }
+
+    /**
+     * Delta angle X. 
+     */
+    public final float deltaAngleX() {
+        return readFloat(4);
+    }
+
+    /**
+     * Delta angle Y. 
+     */
+    public final float deltaAngleY() {
+        return readFloat(8);
+    }
+
+    /**
+     * Delta angle X. 
+     */
+    public final float deltaAngleZ() {
+        return readFloat(12);
+    }
+
+    /**
+     * Delta velocity X. 
+     */
+    public final float deltaVelocityX() {
+        return readFloat(16);
+    }
+
+    /**
+     * Delta velocity Y. 
+     */
+    public final float deltaVelocityY() {
+        return readFloat(20);
+    }
+
+    /**
+     * Delta velocity Z. 
+     */
+    public final float deltaVelocityZ() {
+        return readFloat(24);
+    }
+
+    /**
+     * Joint ROLL. 
+     */
+    public final float jointRoll() {
+        return readFloat(28);
+    }
+
+    /**
+     * Joint EL. 
+     */
+    public final float jointEl() {
+        return readFloat(32);
+    }
+
+    /**
+     * Joint AZ. 
+     */
+    public final float jointAz() {
+        return readFloat(36);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(40);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(41);
+    }
+}
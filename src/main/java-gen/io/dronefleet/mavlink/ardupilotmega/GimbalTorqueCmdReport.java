@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 69,
         description = "100 Hz gimbal torque command telemetry."
 )
-public final class GimbalTorqueCmdReport {
+public final class GimbalTorqueCmdReport implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -131,6 +133,17 @@ public final class GimbalTorqueCmdReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("rlTorqueCmd").value(this.rlTorqueCmd);
+        writer.name("elTorqueCmd").value(this.elTorqueCmd);
+        writer.name("azTorqueCmd").value(this.azTorqueCmd);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalTorqueCmdReport{targetSystem=" + targetSystem
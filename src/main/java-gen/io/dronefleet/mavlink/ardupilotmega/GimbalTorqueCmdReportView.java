@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GimbalTorqueCmdReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GimbalTorqueCmdReportView extends PayloadView<GimbalTorqueCmdReportView> {
+    /**
+     * Roll Torque Command. 
+     */
+    public final int rlTorqueCmd() {
+        return readInt16(0);
+    }
+
+    /**
+     * Elevation Torque Command. 
+     */
+    public final int elTorqueCmd() {
+        return readInt16(2);
+    }
+
+    /**
+     * Azimuth Torque Command. 
+     */
+    public final int azTorqueCmd() {
+        return readInt16(4);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(6);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(7);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 50,
         description = "Request a GOPRO_COMMAND response from the GoPro."
 )
-public final class GoproGetRequest {
+public final class GoproGetRequest implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -97,6 +99,15 @@ public final class GoproGetRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("cmdId").value(this.cmdId);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GoproGetRequest{targetSystem=" + targetSystem
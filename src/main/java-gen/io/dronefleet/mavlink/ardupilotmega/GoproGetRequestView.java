@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GoproGetRequest} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GoproGetRequestView extends PayloadView<GoproGetRequestView> {
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Command ID. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproCommand}.
+     */
+    public final int cmdId() {
+        return readUint8(2);
+    }
+}
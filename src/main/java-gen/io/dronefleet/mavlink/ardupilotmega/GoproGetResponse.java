@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 202,
         description = "Response from a GOPRO_COMMAND get request."
 )
-public final class GoproGetResponse {
+public final class GoproGetResponse implements JsonWritable {
     private final EnumValue<GoproCommand> cmdId;
 
     private final EnumValue<GoproRequestStatus> status;
@@ -100,6 +102,15 @@ public final class GoproGetResponse {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("cmdId").value(this.cmdId);
+        writer.name("status").value(this.status);
+        writer.name("value").value(this.value);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GoproGetResponse{cmdId=" + cmdId
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 101,
         description = "Heartbeat from a HeroBus attached GoPro."
 )
-public final class GoproHeartbeat {
+public final class GoproHeartbeat implements JsonWritable {
     private final EnumValue<GoproHeartbeatStatus> status;
 
     private final EnumValue<GoproCaptureMode> captureMode;
@@ -100,6 +102,15 @@ public final class GoproHeartbeat {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("status").value(this.status);
+        writer.name("captureMode").value(this.captureMode);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GoproHeartbeat{status=" + status
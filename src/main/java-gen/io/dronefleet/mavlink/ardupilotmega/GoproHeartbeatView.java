@@ -0,0 +1,36 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GoproHeartbeat} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GoproHeartbeatView extends PayloadView<GoproHeartbeatView> {
+    /**
+     * Status. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproHeartbeatStatus}.
+     */
+    public final int status() {
+        return readUint8(0);
+    }
+
+    /**
+     * Current capture mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproCaptureMode}.
+     */
+    public final int captureMode() {
+        return readUint8(1);
+    }
+
+    /**
+     * Additional status bits. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproHeartbeatFlags}.
+     */
+    public final int flags() {
+        return readUint8(2);
+    }
+}
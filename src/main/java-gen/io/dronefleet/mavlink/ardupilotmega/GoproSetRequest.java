@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 17,
         description = "Request to set a GOPRO_COMMAND with a desired."
 )
-public final class GoproSetRequest {
+public final class GoproSetRequest implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -116,6 +118,16 @@ public final class GoproSetRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("cmdId").value(this.cmdId);
+        writer.name("value").value(this.value);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GoproSetRequest{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 162,
         description = "Response from a GOPRO_COMMAND set request."
 )
-public final class GoproSetResponse {
+public final class GoproSetResponse implements JsonWritable {
     private final EnumValue<GoproCommand> cmdId;
 
     private final EnumValue<GoproRequestStatus> status;
@@ -81,6 +83,14 @@ public final class GoproSetResponse {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("cmdId").value(this.cmdId);
+        writer.name("status").value(this.status);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GoproSetResponse{cmdId=" + cmdId
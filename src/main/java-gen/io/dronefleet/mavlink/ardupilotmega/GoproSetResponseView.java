@@ -0,0 +1,27 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GoproSetResponse} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GoproSetResponseView extends PayloadView<GoproSetResponseView> {
+    /**
+     * Command ID. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproCommand}.
+     */
+    public final int cmdId() {
+        return readUint8(0);
+    }
+
+    /**
+     * Status. 
+     * <p>
+     * This returns the raw value of the field, see {@link GoproRequestStatus}.
+     */
+    public final int status() {
+        return readUint8(1);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 21,
         description = "Status of key hardware."
 )
-public final class Hwstatus {
+public final class Hwstatus implements JsonWritable {
     private final int vcc;
 
     private final int i2cerr;
@@ -76,6 +78,14 @@ public final class Hwstatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("vcc").value(this.vcc);
+        writer.name("i2cerr").value(this.i2cerr);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Hwstatus{vcc=" + vcc
@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Hwstatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HwstatusView extends PayloadView<HwstatusView> {
+    /**
+     * Board voltage. 
+     */
+    public final int vcc() {
+        return readUint16(0);
+    }
+
+    /**
+     * I2C error count. 
+     */
+    public final int i2cerr() {
+        return readUint8(2);
+    }
+}
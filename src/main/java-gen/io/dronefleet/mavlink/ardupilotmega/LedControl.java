@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 72,
         description = "Control vehicle LEDs."
 )
-public final class LedControl {
+public final class LedControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -146,6 +148,18 @@ public final class LedControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("instance").value(this.instance);
+        writer.name("pattern").value(this.pattern);
+        writer.name("customLen").value(this.customLen);
+        writer.name("customBytes").value(this.customBytes);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LedControl{targetSystem=" + targetSystem
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LedControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LedControlView extends PayloadView<LedControlView> {
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Instance (LED instance to control or 255 for all LEDs). 
+     */
+    public final int instance() {
+        return readUint8(2);
+    }
+
+    /**
+     * Pattern (see LED_PATTERN_ENUM). 
+     */
+    public final int pattern() {
+        return readUint8(3);
+    }
+
+    /**
+     * Custom Byte Length. 
+     */
+    public final int customLen() {
+        return readUint8(4);
+    }
+
+    /**
+     * Custom Bytes. 
+     */
+    public final int customBytes(int index) {
+        return readUint8(elementPosition(5, 1, 24, index));
+    }
+}
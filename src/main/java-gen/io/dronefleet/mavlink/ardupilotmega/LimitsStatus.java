@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 144,
         description = "Status of AP_Limits. Sent in extended status stream when AP_Limits is enabled."
 )
-public final class LimitsStatus {
+public final class LimitsStatus implements JsonWritable {
     private final EnumValue<LimitsState> limitsState;
 
     private final long lastTrigger;
@@ -204,6 +206,21 @@ public final class LimitsStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("limitsState").value(this.limitsState);
+        writer.name("lastTrigger").value(this.lastTrigger);
+        writer.name("lastAction").value(this.lastAction);
+        writer.name("lastRecovery").value(this.lastRecovery);
+        writer.name("lastClear").value(this.lastClear);
+        writer.name("breachCount").value(this.breachCount);
+        writer.name("modsEnabled").value(this.modsEnabled);
+        writer.name("modsRequired").value(this.modsRequired);
+        writer.name("modsTriggered").value(this.modsTriggered);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LimitsStatus{limitsState=" + limitsState
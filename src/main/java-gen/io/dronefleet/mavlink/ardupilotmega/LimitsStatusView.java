@@ -0,0 +1,80 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LimitsStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LimitsStatusView extends PayloadView<LimitsStatusView> {
+    /**
+     * Time (since boot) of last breach. 
+     */
+    public final long lastTrigger() {
+        return readUint32(0);
+    }
+
+    /**
+     * Time (since boot) of last recovery action. 
+     */
+    public final long lastAction() {
+        return readUint32(4);
+    }
+
+    /**
+     * Time (since boot) of last successful recovery. 
+     */
+    public final long lastRecovery() {
+        return readUint32(8);
+    }
+
+    /**
+     * Time (since boot) of last all-clear. 
+     */
+    public final long lastClear() {
+        return readUint32(12);
+    }
+
+    /**
+     * Number of fence breaches. 
+     */
+    public final int breachCount() {
+        return readUint16(16);
+    }
+
+    /**
+     * State of AP_Limits. 
+     * <p>
+     * This returns the raw value of the field, see {@link LimitsState}.
+     */
+    public final int limitsState() {
+        return readUint8(18);
+    }
+
+    /**
+     * AP_Limit_Module bitfield of enabled modules. 
+     * <p>
+     * This returns the raw value of the field, see {@link LimitModule}.
+     */
+    public final int modsEnabled() {
+        return readUint8(19);
+    }
+
+    /**
+     * AP_Limit_Module bitfield of required modules. 
+     * <p>
+     * This returns the raw value of the field, see {@link LimitModule}.
+     */
+    public final int modsRequired() {
+        return readUint8(20);
+    }
+
+    /**
+     * AP_Limit_Module bitfield of triggered modules. 
+     * <p>
+     * This returns the raw value of the field, see {@link LimitModule}.
+     */
+    public final int modsTriggered() {
+        return readUint8(21);
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MagCalStatus;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 92,
         description = "Reports progress of compass calibration."
 )
-public final class MagCalProgress {
+public final class MagCalProgress implements JsonWritable {
     private final int compassId;
 
     private final int calMask;
@@ -203,6 +205,21 @@ public final class MagCalProgress {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("compassId").value(this.compassId);
+        writer.name("calMask").value(this.calMask);
+        writer.name("calStatus").value(this.calStatus);
+        writer.name("attempt").value(this.attempt);
+        writer.name("completionPct").value(this.completionPct);
+        writer.name("completionMask").value(this.completionMask);
+        writer.name("directionX").value(this.directionX);
+        writer.name("directionY").value(this.directionY);
+        writer.name("directionZ").value(this.directionZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MagCalProgress{compassId=" + compassId
@@ -0,0 +1,74 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MagCalProgress} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MagCalProgressView extends PayloadView<MagCalProgressView> {
+    /**
+     * Body frame direction vector for display. 
+     */
+    public final float directionX() {
+        return readFloat(0);
+    }
+
+    /**
+     * Body frame direction vector for display. 
+     */
+    public final float directionY() {
+        return readFloat(4);
+    }
+
+    /**
+     * Body frame direction vector for display. 
+     */
+    public final float directionZ() {
+        return readFloat(8);
+    }
+
+    /**
+     * Compass being calibrated. 
+     */
+    public final int compassId() {
+        return readUint8(12);
+    }
+
+    /**
+     * Bitmask of compasses being calibrated. 
+     */
+    public final int calMask() {
+        return readUint8(13);
+    }
+
+    /**
+     * Calibration Status. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MagCalStatus}.
+     */
+    public final int calStatus() {
+        return readUint8(14);
+    }
+
+    /**
+     * Attempt number. 
+     */
+    public final int attempt() {
+        return readUint8(15);
+    }
+
+    /**
+     * Completion percentage. 
+     */
+    public final int completionPct() {
+        return readUint8(16);
+    }
+
+    /**
+     * Bitmask of sphere sections (see http://en.wikipedia.org/wiki/Geodesic_grid). 
+     */
+    public final int completionMask(int index) {
+        return readUint8(elementPosition(17, 1, 10, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 142,
         description = "The MCU status, giving MCU temperature and voltage. The min and max voltages are to allow for detecting power supply instability."
 )
-public final class McuStatus {
+public final class McuStatus implements JsonWritable {
     private final int id;
 
     private final int mcuTemperature;
@@ -130,6 +132,17 @@ public final class McuStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("id").value(this.id);
+        writer.name("mcuTemperature").value(this.mcuTemperature);
+        writer.name("mcuVoltage").value(this.mcuVoltage);
+        writer.name("mcuVoltageMin").value(this.mcuVoltageMin);
+        writer.name("mcuVoltageMax").value(this.mcuVoltageMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "McuStatus{id=" + id
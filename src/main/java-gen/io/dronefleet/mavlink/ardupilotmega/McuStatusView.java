@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link McuStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class McuStatusView extends PayloadView<McuStatusView> {
+    /**
+     * MCU Internal temperature 
+     */
+    public final int mcuTemperature() {
+        return readInt16(0);
+    }
+
+    /**
+     * MCU voltage 
+     */
+    public final int mcuVoltage() {
+        return readUint16(2);
+    }
+
+    /**
+     * MCU voltage minimum 
+     */
+    public final int mcuVoltageMin() {
+        return readUint16(4);
+    }
+
+    /**
+     * MCU voltage maximum 
+     */
+    public final int mcuVoltageMax() {
+        return readUint16(6);
+    }
+
+    /**
+     * MCU instance 
+     */
+    public final int id() {
+        return readUint8(8);
+    }
+}
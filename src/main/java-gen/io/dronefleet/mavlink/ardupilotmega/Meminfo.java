@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 208,
         description = "State of autopilot RAM."
 )
-public final class Meminfo {
+public final class Meminfo implements JsonWritable {
     private final int brkval;
 
     private final int freemem;
@@ -94,6 +96,15 @@ public final class Meminfo {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("brkval").value(this.brkval);
+        writer.name("freemem").value(this.freemem);
+        writer.name("freemem32").value(this.freemem32);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Meminfo{brkval=" + brkval
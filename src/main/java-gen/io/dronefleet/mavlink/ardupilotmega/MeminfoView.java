@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Meminfo} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MeminfoView extends PayloadView<MeminfoView> {
+    /**
+     * Heap top. 
+     */
+    public final int brkval() {
+        return readUint16(0);
+    }
+
+    /**
+     * Free memory. 
+     */
+    public final int freemem() {
+        return readUint16(2);
+    }
+
+    /**
+     * Free memory (32 bit). 
+     */
+    public final long freemem32() {
+        return readUint32(4);
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MavMountMode;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 19,
         description = "Message to configure a camera mount, directional antenna, etc."
 )
-public final class MountConfigure {
+public final class MountConfigure implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -150,6 +152,18 @@ public final class MountConfigure {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("mountMode").value(this.mountMode);
+        writer.name("stabRoll").value(this.stabRoll);
+        writer.name("stabPitch").value(this.stabPitch);
+        writer.name("stabYaw").value(this.stabYaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MountConfigure{targetSystem=" + targetSystem
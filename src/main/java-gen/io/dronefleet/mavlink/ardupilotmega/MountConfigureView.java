@@ -0,0 +1,53 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MountConfigure} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MountConfigureView extends PayloadView<MountConfigureView> {
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Mount operating mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavMountMode}.
+     */
+    public final int mountMode() {
+        return readUint8(2);
+    }
+
+    /**
+     * (1 = yes, 0 = no). 
+     */
+    public final int stabRoll() {
+        return readUint8(3);
+    }
+
+    /**
+     * (1 = yes, 0 = no). 
+     */
+    public final int stabPitch() {
+        return readUint8(4);
+    }
+
+    /**
+     * (1 = yes, 0 = no). 
+     */
+    public final int stabYaw() {
+        return readUint8(5);
+    }
+}
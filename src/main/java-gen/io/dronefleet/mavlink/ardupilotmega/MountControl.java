@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 21,
         description = "Message to control a camera mount, directional antenna, etc."
 )
-public final class MountControl {
+public final class MountControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -148,6 +150,18 @@ public final class MountControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("inputA").value(this.inputA);
+        writer.name("inputB").value(this.inputB);
+        writer.name("inputC").value(this.inputC);
+        writer.name("savePosition").value(this.savePosition);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MountControl{targetSystem=" + targetSystem
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MountControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MountControlView extends PayloadView<MountControlView> {
+    /**
+     * Pitch (centi-degrees) or lat (degE7), depending on mount mode. 
+     */
+    public final int inputA() {
+        return readInt32(0);
+    }
+
+    /**
+     * Roll (centi-degrees) or lon (degE7) depending on mount mode. 
+     */
+    public final int inputB() {
+        return readInt32(4);
+    }
+
+    /**
+     * Yaw (centi-degrees) or alt (cm) depending on mount mode. 
+     */
+    public final int inputC() {
+        return readInt32(8);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(12);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(13);
+    }
+
+    /**
+     * If "1" it will save current trimmed position on EEPROM (just valid for NEUTRAL and LANDING). 
+     */
+    public final int savePosition() {
+        return readUint8(14);
+    }
+}
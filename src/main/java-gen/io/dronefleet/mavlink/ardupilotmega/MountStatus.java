@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MavMountMode;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 134,
         description = "Message with some status from autopilot to GCS about camera or antenna mount."
 )
-public final class MountStatus {
+public final class MountStatus implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -154,6 +156,18 @@ public final class MountStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("pointingA").value(this.pointingA);
+        writer.name("pointingB").value(this.pointingB);
+        writer.name("pointingC").value(this.pointingC);
+        writer.name("mountMode").value(this.mountMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MountStatus{targetSystem=" + targetSystem
@@ -0,0 +1,53 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MountStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MountStatusView extends PayloadView<MountStatusView> {
+    /**
+     * Pitch. 
+     */
+    public final int pointingA() {
+        return readInt32(0);
+    }
+
+    /**
+     * Roll. 
+     */
+    public final int pointingB() {
+        return readInt32(4);
+    }
+
+    /**
+     * Yaw. 
+     */
+    public final int pointingC() {
+        return readInt32(8);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(12);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(13);
+    }
+
+    /**
+     * Mount operating mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavMountMode}.
+     */
+    public final int mountMode() {
+        return readUint8(14);
+    }
+}
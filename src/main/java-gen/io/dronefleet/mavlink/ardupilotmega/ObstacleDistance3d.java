@@ -5,6 +5,8 @@ import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MavDistanceSensor;
 import io.dronefleet.mavlink.common.MavFrame;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -28,7 +30,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class ObstacleDistance3d {
+public final class ObstacleDistance3d implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<MavDistanceSensor> sensorType;
@@ -212,6 +214,21 @@ public final class ObstacleDistance3d {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("sensorType").value(this.sensorType);
+        writer.name("frame").value(this.frame);
+        writer.name("obstacleId").value(this.obstacleId);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("minDistance").value(this.minDistance);
+        writer.name("maxDistance").value(this.maxDistance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ObstacleDistance3d{timeBootMs=" + timeBootMs
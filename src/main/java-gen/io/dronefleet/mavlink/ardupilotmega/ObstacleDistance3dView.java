@@ -0,0 +1,79 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link ObstacleDistance3d} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class ObstacleDistance3dView extends PayloadView<ObstacleDistance3dView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * X position of the obstacle. 
+     */
+    public final float x() {
+        return readFloat(4);
+    }
+
+    /**
+     * Y position of the obstacle. 
+     */
+    public final float y() {
+        return readFloat(8);
+    }
+
+    /**
+     * Z position of the obstacle. 
+     */
+    public final float z() {
+        return readFloat(12);
+    }
+
+    /**
+     * Minimum distance the sensor can measure. 
+     */
+    public final float minDistance() {
+        return readFloat(16);
+    }
+
+    /**
+     * Maximum distance the sensor can measure. 
+     */
+    public final float maxDistance() {
+        return readFloat(20);
+    }
+
+    /**
+     * Unique ID given to each obstacle so that its movement can be tracked. Use UINT16_MAX if object ID 
+     * is unknown or cannot be determined. 
+     */
+    public final int obstacleId() {
+        return readUint16(24);
+    }
+
+    /**
+     * Class id of the distance sensor type. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavDistanceSensor}.
+     */
+    public final int sensorType() {
+        return readUint8(26);
+    }
+
+    /**
+     * Coordinate frame of reference. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(27);
+    }
+}
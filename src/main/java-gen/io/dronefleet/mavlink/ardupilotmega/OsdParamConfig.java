@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 195,
         description = "Configure an OSD parameter slot."
 )
-public final class OsdParamConfig {
+public final class OsdParamConfig implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -221,6 +223,22 @@ public final class OsdParamConfig {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("requestId").value(this.requestId);
+        writer.name("osdScreen").value(this.osdScreen);
+        writer.name("osdIndex").value(this.osdIndex);
+        writer.name("paramId").value(this.paramId);
+        writer.name("configType").value(this.configType);
+        writer.name("minValue").value(this.minValue);
+        writer.name("maxValue").value(this.maxValue);
+        writer.name("increment").value(this.increment);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OsdParamConfig{targetSystem=" + targetSystem
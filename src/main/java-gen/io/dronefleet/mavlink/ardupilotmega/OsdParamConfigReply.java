@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 79,
         description = "Configure OSD parameter reply."
 )
-public final class OsdParamConfigReply {
+public final class OsdParamConfigReply implements JsonWritable {
     private final long requestId;
 
     private final EnumValue<OsdParamConfigError> result;
@@ -80,6 +82,14 @@ public final class OsdParamConfigReply {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("requestId").value(this.requestId);
+        writer.name("result").value(this.result);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OsdParamConfigReply{requestId=" + requestId
@@ -0,0 +1,25 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OsdParamConfigReply} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OsdParamConfigReplyView extends PayloadView<OsdParamConfigReplyView> {
+    /**
+     * Request ID - copied from request. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * Config error type. 
+     * <p>
+     * This returns the raw value of the field, see {@link OsdParamConfigError}.
+     */
+    public final int result() {
+        return readUint8(4);
+    }
+}
@@ -0,0 +1,84 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link OsdParamConfig} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OsdParamConfigView extends PayloadView<OsdParamConfigView> {
+    /**
+     * Request ID - copied to reply. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * OSD parameter minimum value. 
+     */
+    public final float minValue() {
+        return readFloat(4);
+    }
+
+    /**
+     * OSD parameter maximum value. 
+     */
+    public final float maxValue() {
+        return readFloat(8);
+    }
+
+    /**
+     * OSD parameter increment. 
+     */
+    public final float increment() {
+        return readFloat(12);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(16);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(17);
+    }
+
+    /**
+     * OSD parameter screen index. 
+     */
+    public final int osdScreen() {
+        return readUint8(18);
+    }
+
+    /**
+     * OSD parameter display index. 
+     */
+    public final int osdIndex() {
+        return readUint8(19);
+    }
+
+    /**
+     * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and 
+     * WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to 
+     * provide 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(20, 16);
+    }
+
+    /**
+     * Config type. 
+     * <p>
+     * This returns the raw value of the field, see {@link OsdParamConfigType}.
+     */
+    public final int configType() {
+        return readUint8(36);
+    }
+}
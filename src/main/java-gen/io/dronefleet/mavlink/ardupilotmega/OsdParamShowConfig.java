@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 128,
         description = "Read a configured an OSD parameter slot."
 )
-public final class OsdParamShowConfig {
+public final class OsdParamShowConfig implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -128,6 +130,17 @@ public final class OsdParamShowConfig {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("requestId").value(this.requestId);
+        writer.name("osdScreen").value(this.osdScreen);
+        writer.name("osdIndex").value(this.osdIndex);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OsdParamShowConfig{targetSystem=" + targetSystem
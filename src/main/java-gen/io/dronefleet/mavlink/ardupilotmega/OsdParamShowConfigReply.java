@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 177,
         description = "Read configured OSD parameter reply."
 )
-public final class OsdParamShowConfigReply {
+public final class OsdParamShowConfigReply implements JsonWritable {
     private final long requestId;
 
     private final EnumValue<OsdParamConfigError> result;
@@ -171,6 +173,19 @@ public final class OsdParamShowConfigReply {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("requestId").value(this.requestId);
+        writer.name("result").value(this.result);
+        writer.name("paramId").value(this.paramId);
+        writer.name("configType").value(this.configType);
+        writer.name("minValue").value(this.minValue);
+        writer.name("maxValue").value(this.maxValue);
+        writer.name("increment").value(this.increment);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OsdParamShowConfigReply{requestId=" + requestId
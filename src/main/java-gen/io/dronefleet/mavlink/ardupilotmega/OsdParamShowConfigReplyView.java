@@ -0,0 +1,65 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link OsdParamShowConfigReply} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OsdParamShowConfigReplyView extends PayloadView<OsdParamShowConfigReplyView> {
+    /**
+     * Request ID - copied from request. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * OSD parameter minimum value. 
+     */
+    public final float minValue() {
+        return readFloat(4);
+    }
+
+    /**
+     * OSD parameter maximum value. 
+     */
+    public final float maxValue() {
+        return readFloat(8);
+    }
+
+    /**
+     * OSD parameter increment. 
+     */
+    public final float increment() {
+        return readFloat(12);
+    }
+
+    /**
+     * Config error type. 
+     * <p>
+     * This returns the raw value of the field, see {@link OsdParamConfigError}.
+     */
+    public final int result() {
+        return readUint8(16);
+    }
+
+    /**
+     * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and 
+     * WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to 
+     * provide 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(17, 16);
+    }
+
+    /**
+     * Config type. 
+     * <p>
+     * This returns the raw value of the field, see {@link OsdParamConfigType}.
+     */
+    public final int configType() {
+        return readUint8(33);
+    }
+}
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OsdParamShowConfig} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OsdParamShowConfigView extends PayloadView<OsdParamShowConfigView> {
+    /**
+     * Request ID - copied to reply. 
+     */
+    public final long requestId() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * OSD parameter screen index. 
+     */
+    public final int osdScreen() {
+        return readUint8(6);
+    }
+
+    /**
+     * OSD parameter display index. 
+     */
+    public final int osdIndex() {
+        return readUint8(7);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 98,
         description = "PID tuning information."
 )
-public final class PidTuning {
+public final class PidTuning implements JsonWritable {
     private final EnumValue<PidTuningAxis> axis;
 
     private final float desired;
@@ -202,6 +204,21 @@ public final class PidTuning {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("axis").value(this.axis);
+        writer.name("desired").value(this.desired);
+        writer.name("achieved").value(this.achieved);
+        writer.name("ff").value(this.ff);
+        writer.name("p").value(this.p);
+        writer.name("i").value(this.i);
+        writer.name("d").value(this.d);
+        writer.name("srate").value(this.srate);
+        writer.name("pdmod").value(this.pdmod);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "PidTuning{axis=" + axis
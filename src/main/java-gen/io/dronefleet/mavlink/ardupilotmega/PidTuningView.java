@@ -0,0 +1,74 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link PidTuning} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class PidTuningView extends PayloadView<PidTuningView> {
+    /**
+     * Desired rate. 
+     */
+    public final float desired() {
+        return readFloat(0);
+    }
+
+    /**
+     * Achieved rate. 
+     */
+    public final float achieved() {
+        return readFloat(4);
+    }
+
+    /**
+     * FF component. 
+     */
+    public final float ff() {
+        return readFloat(8);
+    }
+
+    /**
+     * P component. 
+     */
+    public final float p() {
+        return readFloat(12);
+    }
+
+    /**
+     * I component. 
+     */
+    public final float i() {
+        return readFloat(16);
+    }
+
+    /**
+     * D component. 
+     */
+    public final float d() {
+        return readFloat(20);
+    }
+
+    /**
+     * Axis. 
+     * <p>
+     * This returns the raw value of the field, see {@link PidTuningAxis}.
+     */
+    public final int axis() {
+        return readUint8(24);
+    }
+
+    /**
+     * Slew rate. 
+     */
+    public final float srate() {
+        return readFloat(25);
+    }
+
+    /**
+     * P/D oscillation modifier. 
+     */
+    public final float pdmod() {
+        return readFloat(29);
+    }
+}
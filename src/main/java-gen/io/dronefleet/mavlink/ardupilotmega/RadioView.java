@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Radio} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RadioView extends PayloadView<RadioView> {
+    /**
+     * Receive errors. 
+     */
+    public final int rxerrors() {
+        return readUint16(0);
+    }
+
+    /**
+     * Count of error corrected packets. 
+     */
+    public final int fixed() {
+        return readUint16(2);
+    }
+
+    /**
+     * Local signal strength. 
+     */
+    public final int rssi() {
+        return readUint8(4);
+    }
+
+    /**
+     * Remote signal strength. 
+     */
+    public final int remrssi() {
+        return readUint8(5);
+    }
+
+    /**
+     * How full the tx buffer is. 
+     */
+    public final int txbuf() {
+        return readUint8(6);
+    }
+
+    /**
+     * Background noise level. 
+     */
+    public final int noise() {
+        return readUint8(7);
+    }
+
+    /**
+     * Remote background noise level. 
+     */
+    public final int remnoise() {
+        return readUint8(8);
+    }
+}
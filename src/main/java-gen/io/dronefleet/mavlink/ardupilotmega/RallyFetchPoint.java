@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 234,
         description = "Request a current rally point from MAV. MAV should respond with a RALLY_POINT message. MAV should not respond if the request is invalid."
 )
-public final class RallyFetchPoint {
+public final class RallyFetchPoint implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -94,6 +96,15 @@ public final class RallyFetchPoint {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idx").value(this.idx);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RallyFetchPoint{targetSystem=" + targetSystem
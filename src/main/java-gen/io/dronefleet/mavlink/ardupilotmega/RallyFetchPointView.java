@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RallyFetchPoint} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RallyFetchPointView extends PayloadView<RallyFetchPointView> {
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Point index (first point is 0). 
+     */
+    public final int idx() {
+        return readUint8(2);
+    }
+}
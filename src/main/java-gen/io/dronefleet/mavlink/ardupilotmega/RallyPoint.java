@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 138,
         description = "A rally point. Used to set a point when from GCS -> MAV. Also used to return a point from MAV -> GCS."
 )
-public final class RallyPoint {
+public final class RallyPoint implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -221,6 +223,22 @@ public final class RallyPoint {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idx").value(this.idx);
+        writer.name("count").value(this.count);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.name("alt").value(this.alt);
+        writer.name("breakAlt").value(this.breakAlt);
+        writer.name("landDir").value(this.landDir);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RallyPoint{targetSystem=" + targetSystem
@@ -0,0 +1,81 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RallyPoint} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RallyPointView extends PayloadView<RallyPointView> {
+    /**
+     * Latitude of point. 
+     */
+    public final int lat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude of point. 
+     */
+    public final int lng() {
+        return readInt32(4);
+    }
+
+    /**
+     * Transit / loiter altitude relative to home. 
+     */
+    public final int alt() {
+        return readInt16(8);
+    }
+
+    /**
+     * Break altitude relative to home. 
+     */
+    public final int breakAlt() {
+        return readInt16(10);
+    }
+
+    /**
+     * Heading to aim for when landing. 
+     */
+    public final int landDir() {
+        return readUint16(12);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(14);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(15);
+    }
+
+    /**
+     * Point index (first point is 0). 
+     */
+    public final int idx() {
+        return readUint8(16);
+    }
+
+    /**
+     * Total number of points (for sanity checking). 
+     */
+    public final int count() {
+        return readUint8(17);
+    }
+
+    /**
+     * Configuration flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link RallyFlags}.
+     */
+    public final int flags() {
+        return readUint8(18);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 83,
         description = "Rangefinder reporting."
 )
-public final class Rangefinder {
+public final class Rangefinder implements JsonWritable {
     private final float distance;
 
     private final float voltage;
@@ -76,6 +78,14 @@ public final class Rangefinder {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("distance").value(this.distance);
+        writer.name("voltage").value(this.voltage);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Rangefinder{distance=" + distance
@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Rangefinder} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RangefinderView extends PayloadView<RangefinderView> {
+    /**
+     * Distance. 
+     */
+    public final float distance() {
+        return readFloat(0);
+    }
+
+    /**
+     * Raw voltage if available, zero otherwise. 
+     */
+    public final float voltage() {
+        return readFloat(4);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 186,
         description = "Send Status of each log block that autopilot board might have sent."
 )
-public final class RemoteLogBlockStatus {
+public final class RemoteLogBlockStatus implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -115,6 +117,16 @@ public final class RemoteLogBlockStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("seqno").value(this.seqno);
+        writer.name("status").value(this.status);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RemoteLogBlockStatus{targetSystem=" + targetSystem
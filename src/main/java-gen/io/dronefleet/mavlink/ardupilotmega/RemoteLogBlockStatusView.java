@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RemoteLogBlockStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RemoteLogBlockStatusView extends PayloadView<RemoteLogBlockStatusView> {
+    /**
+     * Log data block sequence number. 
+     */
+    public final long seqno() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Log data block status. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavRemoteLogDataBlockStatuses}.
+     */
+    public final int status() {
+        return readUint8(6);
+    }
+}
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RemoteLogDataBlock} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RemoteLogDataBlockView extends PayloadView<RemoteLogDataBlockView> {
+    /**
+     * Log data block sequence number. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavRemoteLogDataBlockCommands}.
+     */
+    public final int seqno() {
+        return readInt32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Log data block. 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(6, 1, 200, index));
+    }
+}
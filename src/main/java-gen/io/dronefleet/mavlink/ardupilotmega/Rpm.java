@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 207,
         description = "RPM sensor output."
 )
-public final class Rpm {
+public final class Rpm implements JsonWritable {
     private final float rpm1;
 
     private final float rpm2;
@@ -76,6 +78,14 @@ public final class Rpm {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("rpm1").value(this.rpm1);
+        writer.name("rpm2").value(this.rpm2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Rpm{rpm1=" + rpm1
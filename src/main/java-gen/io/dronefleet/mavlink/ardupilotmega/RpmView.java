@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Rpm} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RpmView extends PayloadView<RpmView> {
+    /**
+     * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} Sensor1. 
+     */
+    public final float rpm1() {
+        return readFloat(0);
+    }
+
+    /**
+     * {@link io.dronefleet.mavlink.ardupilotmega.Rpm RPM} Sensor2. 
+     */
+    public final float rpm2() {
+        return readFloat(4);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 134,
         description = "Offsets and calibrations values for hardware sensors. This makes it easier to debug the calibration process."
 )
-public final class SensorOffsets {
+public final class SensorOffsets implements JsonWritable {
     private final int magOfsX;
 
     private final int magOfsY;
@@ -254,6 +256,24 @@ public final class SensorOffsets {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("magOfsX").value(this.magOfsX);
+        writer.name("magOfsY").value(this.magOfsY);
+        writer.name("magOfsZ").value(this.magOfsZ);
+        writer.name("magDeclination").value(this.magDeclination);
+        writer.name("rawPress").value(this.rawPress);
+        writer.name("rawTemp").value(this.rawTemp);
+        writer.name("gyroCalX").value(this.gyroCalX);
+        writer.name("gyroCalY").value(this.gyroCalY);
+        writer.name("gyroCalZ").value(this.gyroCalZ);
+        writer.name("accelCalX").value(this.accelCalX);
+        writer.name("accelCalY").value(this.accelCalY);
+        writer.name("accelCalZ").value(this.accelCalZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensorOffsets{magOfsX=" + magOfsX
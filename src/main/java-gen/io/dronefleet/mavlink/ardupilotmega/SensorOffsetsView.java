@@ -0,0 +1,93 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensorOffsets} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensorOffsetsView extends PayloadView<SensorOffsetsView> {
+    /**
+     * Magnetic declination. 
+     */
+    public final float magDeclination() {
+        return readFloat(0);
+    }
+
+    /**
+     * Raw pressure from barometer. 
+     */
+    public final int rawPress() {
+        return readInt32(4);
+    }
+
+    /**
+     * Raw temperature from barometer. 
+     */
+    public final int rawTemp() {
+        return readInt32(8);
+    }
+
+    /**
+     * Gyro X calibration. 
+     */
+    public final float gyroCalX() {
+        return readFloat(12);
+    }
+
+    /**
+     * Gyro Y calibration. 
+     */
+    public final float gyroCalY() {
+        return readFloat(16);
+    }
+
+    /**
+     * Gyro Z calibration. 
+     */
+    public final float gyroCalZ() {
+        return readFloat(20);
+    }
+
+    /**
+     * Accel X calibration. 
+     */
+    public final float accelCalX() {
+        return readFloat(24);
+    }
+
+    /**
+     * Accel Y calibration. 
+     */
+    public final float accelCalY() {
+        return readFloat(28);
+    }
+
+    /**
+     * Accel Z calibration. 
+     */
+    public final float accelCalZ() {
+        return readFloat(32);
+    }
+
+    /**
+     * Magnetometer X offset. 
+     */
+    public final int magOfsX() {
+        return readInt16(36);
+    }
+
+    /**
+     * Magnetometer Y offset. 
+     */
+    public final int magOfsY() {
+        return readInt16(38);
+    }
+
+    /**
+     * Magnetometer Z offset. 
+     */
+    public final int magOfsZ() {
+        return readInt16(40);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "Set the magnetometer offsets"
 )
 @Deprecated
-public final class SetMagOffsets {
+public final class SetMagOffsets implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -134,6 +136,17 @@ public final class SetMagOffsets {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("magOfsX").value(this.magOfsX);
+        writer.name("magOfsY").value(this.magOfsY);
+        writer.name("magOfsZ").value(this.magOfsZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetMagOffsets{targetSystem=" + targetSystem
@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link SetMagOffsets} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class SetMagOffsetsView extends PayloadView<SetMagOffsetsView> {
+    /**
+     * Magnetometer X offset. 
+     */
+    public final int magOfsX() {
+        return readInt16(0);
+    }
+
+    /**
+     * Magnetometer Y offset. 
+     */
+    public final int magOfsY() {
+        return readInt16(2);
+    }
+
+    /**
+     * Magnetometer Z offset. 
+     */
+    public final int magOfsZ() {
+        return readInt16(4);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(6);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(7);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 154,
         description = "Status of simulation environment, if used."
 )
-public final class Simstate {
+public final class Simstate implements JsonWritable {
     private final float roll;
 
     private final float pitch;
@@ -232,6 +234,23 @@ public final class Simstate {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Simstate{roll=" + roll
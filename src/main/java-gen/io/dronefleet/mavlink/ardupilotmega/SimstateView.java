@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Simstate} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SimstateView extends PayloadView<SimstateView> {
+    /**
+     * Roll angle. 
+     */
+    public final float roll() {
+        return readFloat(0);
+    }
+
+    /**
+     * Pitch angle. 
+     */
+    public final float pitch() {
+        return readFloat(4);
+    }
+
+    /**
+     * Yaw angle. 
+     */
+    public final float yaw() {
+        return readFloat(8);
+    }
+
+    /**
+     * X acceleration. 
+     */
+    public final float xacc() {
+        return readFloat(12);
+    }
+
+    /**
+     * Y acceleration. 
+     */
+    public final float yacc() {
+        return readFloat(16);
+    }
+
+    /**
+     * Z acceleration. 
+     */
+    public final float zacc() {
+        return readFloat(20);
+    }
+
+    /**
+     * Angular speed around X axis. 
+     */
+    public final float xgyro() {
+        return readFloat(24);
+    }
+
+    /**
+     * Angular speed around Y axis. 
+     */
+    public final float ygyro() {
+        return readFloat(28);
+    }
+
+    /**
+     * Angular speed around Z axis. 
+     */
+    public final float zgyro() {
+        return readFloat(32);
+    }
+
+    /**
+     * Latitude. 
+     */
+    public final int lat() {
+        return readInt32(36);
+    }
+
+    /**
+     * Longitude. 
+     */
+    public final int lng() {
+        return readInt32(40);
+    }
+}
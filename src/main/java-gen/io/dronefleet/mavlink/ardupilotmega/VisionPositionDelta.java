@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,14 +24,14 @@ import java.util.Objects;
         crc = 106,
         description = "Camera vision based attitude and position deltas."
 )
-public final class VisionPositionDelta {
+public final class VisionPositionDelta implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final BigInteger timeDeltaUsec;
 
-    private final List<Float> angleDelta;
+    private final FloatArrayList angleDelta;
 
-    private final List<Float> positionDelta;
+    private final FloatArrayList positionDelta;
 
     private final float confidence;
 
@@ -34,8 +39,8 @@ public final class VisionPositionDelta {
             List<Float> angleDelta, List<Float> positionDelta, float confidence) {
         this.timeUsec = timeUsec;
         this.timeDeltaUsec = timeDeltaUsec;
-        this.angleDelta = angleDelta;
-        this.positionDelta = positionDelta;
+        this.angleDelta = FloatArrayList.copyOf(angleDelta);
+        this.positionDelta = FloatArrayList.copyOf(positionDelta);
         this.confidence = confidence;
     }
 
@@ -85,6 +90,25 @@ public final class VisionPositionDelta {
         return this.angleDelta;
     }
 
+    /**
+     * Returns a copy of {@link #angleDelta()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] angleDeltaArray() {
+        return this.angleDelta != null ? this.angleDelta.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #angleDelta()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float angleDelta(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.angleDelta != null && index < this.angleDelta.size() ? this.angleDelta.getFloat(index) : 0;
+    }
+
     /**
      * Change in position to the current MAV_FRAME_BODY_FRD from the previous FRAME_BODY_FRD 
      * rotated to the current MAV_FRAME_BODY_FRD. 
@@ -99,6 +123,25 @@ public final class VisionPositionDelta {
         return this.positionDelta;
     }
 
+    /**
+     * Returns a copy of {@link #positionDelta()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] positionDeltaArray() {
+        return this.positionDelta != null ? this.positionDelta.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #positionDelta()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float positionDelta(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.positionDelta != null && index < this.positionDelta.size() ? this.positionDelta.getFloat(index) : 0;
+    }
+
     /**
      * Normalised confidence value from 0 to 100. 
      */
@@ -135,6 +178,17 @@ public final class VisionPositionDelta {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("timeDeltaUsec").value(this.timeDeltaUsec);
+        writer.name("angleDelta").value(this.angleDelta);
+        writer.name("positionDelta").value(this.positionDelta);
+        writer.name("confidence").value(this.confidence);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VisionPositionDelta{timeUsec=" + timeUsec
@@ -168,6 +222,15 @@ public final class VisionPositionDelta {
             return this;
         }
 
+        /**
+         * Timestamp (synced to UNIX time or since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Time since the last reported camera frame. 
          */
@@ -181,6 +244,15 @@ public final class VisionPositionDelta {
             return this;
         }
 
+        /**
+         * Time since the last reported camera frame. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeDeltaUsec(long timeDeltaUsec) {
+            return timeDeltaUsec(UnsignedLongs.toBigInteger(timeDeltaUsec));
+        }
+
         /**
          * Defines a rotation vector [roll, pitch, yaw] to the current MAV_FRAME_BODY_FRD from the 
          * previous MAV_FRAME_BODY_FRD. 
@@ -196,6 +268,14 @@ public final class VisionPositionDelta {
             return this;
         }
 
+        /**
+         * Defines a rotation vector [roll, pitch, yaw] to the current MAV_FRAME_BODY_FRD from the 
+         * previous MAV_FRAME_BODY_FRD. 
+         */
+        public final Builder angleDelta(float... angleDelta) {
+            return angleDelta(FloatArrayList.of(angleDelta));
+        }
+
         /**
          * Change in position to the current MAV_FRAME_BODY_FRD from the previous FRAME_BODY_FRD 
          * rotated to the current MAV_FRAME_BODY_FRD. 
@@ -211,6 +291,14 @@ public final class VisionPositionDelta {
             return this;
         }
 
+        /**
+         * Change in position to the current MAV_FRAME_BODY_FRD from the previous FRAME_BODY_FRD 
+         * rotated to the current MAV_FRAME_BODY_FRD. 
+         */
+        public final Builder positionDelta(float... positionDelta) {
+            return positionDelta(FloatArrayList.of(positionDelta));
+        }
+
         /**
          * Normalised confidence value from 0 to 100. 
          */
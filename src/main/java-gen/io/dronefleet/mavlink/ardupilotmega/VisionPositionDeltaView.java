@@ -0,0 +1,50 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link VisionPositionDelta} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VisionPositionDeltaView extends PayloadView<VisionPositionDeltaView> {
+    /**
+     * Timestamp (synced to UNIX time or since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Time since the last reported camera frame. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeDeltaUsec() {
+        return readInt64(8);
+    }
+
+    /**
+     * Defines a rotation vector [roll, pitch, yaw] to the current MAV_FRAME_BODY_FRD from the 
+     * previous MAV_FRAME_BODY_FRD. 
+     */
+    public final float angleDelta(int index) {
+        return readFloat(elementPosition(16, 4, 3, index));
+    }
+
+    /**
+     * Change in position to the current MAV_FRAME_BODY_FRD from the previous FRAME_BODY_FRD 
+     * rotated to the current MAV_FRAME_BODY_FRD. 
+     */
+    public final float positionDelta(int index) {
+        return readFloat(elementPosition(28, 4, 3, index));
+    }
+
+    /**
+     * Normalised confidence value from 0 to 100. 
+     */
+    public final float confidence() {
+        return readFloat(40);
+    }
+}
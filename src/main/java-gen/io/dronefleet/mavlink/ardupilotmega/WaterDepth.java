@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 47,
         description = "Water depth"
 )
-public final class WaterDepth {
+public final class WaterDepth implements JsonWritable {
     private final long timeBootMs;
 
     private final int id;
@@ -232,6 +234,23 @@ public final class WaterDepth {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("id").value(this.id);
+        writer.name("healthy").value(this.healthy);
+        writer.name("lat").value(this.lat);
+        writer.name("lng").value(this.lng);
+        writer.name("alt").value(this.alt);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("distance").value(this.distance);
+        writer.name("temperature").value(this.temperature);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "WaterDepth{timeBootMs=" + timeBootMs
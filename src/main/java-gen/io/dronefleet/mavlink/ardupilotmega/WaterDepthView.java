@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link WaterDepth} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WaterDepthView extends PayloadView<WaterDepthView> {
+    /**
+     * Timestamp (time since system boot) 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lng() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude (MSL) of vehicle 
+     */
+    public final float alt() {
+        return readFloat(12);
+    }
+
+    /**
+     * Roll angle 
+     */
+    public final float roll() {
+        return readFloat(16);
+    }
+
+    /**
+     * Pitch angle 
+     */
+    public final float pitch() {
+        return readFloat(20);
+    }
+
+    /**
+     * Yaw angle 
+     */
+    public final float yaw() {
+        return readFloat(24);
+    }
+
+    /**
+     * Distance (uncorrected) 
+     */
+    public final float distance() {
+        return readFloat(28);
+    }
+
+    /**
+     * Water temperature 
+     */
+    public final float temperature() {
+        return readFloat(32);
+    }
+
+    /**
+     * Onboard ID of the sensor 
+     */
+    public final int id() {
+        return readUint8(36);
+    }
+
+    /**
+     * Sensor data healthy (0=unhealthy, 1=healthy) 
+     */
+    public final int healthy() {
+        return readUint8(37);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ardupilotmega;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 1,
         description = "Wind estimation."
 )
-public final class Wind {
+public final class Wind implements JsonWritable {
     private final float direction;
 
     private final float speed;
@@ -93,6 +95,15 @@ public final class Wind {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("direction").value(this.direction);
+        writer.name("speed").value(this.speed);
+        writer.name("speedZ").value(this.speedZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Wind{direction=" + direction
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ardupilotmega;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Wind} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WindView extends PayloadView<WindView> {
+    /**
+     * Wind direction (that wind is coming from). 
+     */
+    public final float direction() {
+        return readFloat(0);
+    }
+
+    /**
+     * Wind speed in ground plane. 
+     */
+    public final float speed() {
+        return readFloat(4);
+    }
+
+    /**
+     * Vertical wind speed. 
+     */
+    public final float speedZ() {
+        return readFloat(8);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 234,
         description = "Off-board controls/commands for ASLUAVs"
 )
-public final class AslObctrl {
+public final class AslObctrl implements JsonWritable {
     private final BigInteger timestamp;
 
     private final float uelev;
@@ -180,6 +183,20 @@ public final class AslObctrl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("uelev").value(this.uelev);
+        writer.name("uthrot").value(this.uthrot);
+        writer.name("uthrot2").value(this.uthrot2);
+        writer.name("uaill").value(this.uaill);
+        writer.name("uailr").value(this.uailr);
+        writer.name("urud").value(this.urud);
+        writer.name("obctrlStatus").value(this.obctrlStatus);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AslObctrl{timestamp=" + timestamp
@@ -222,6 +239,15 @@ public final class AslObctrl {
             return this;
         }
 
+        /**
+         * Time since system start 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Elevator command [~] 
          */
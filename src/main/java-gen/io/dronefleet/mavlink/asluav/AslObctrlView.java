@@ -0,0 +1,67 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AslObctrl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AslObctrlView extends PayloadView<AslObctrlView> {
+    /**
+     * Time since system start 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Elevator command [~] 
+     */
+    public final float uelev() {
+        return readFloat(8);
+    }
+
+    /**
+     * Throttle command [~] 
+     */
+    public final float uthrot() {
+        return readFloat(12);
+    }
+
+    /**
+     * Throttle 2 command [~] 
+     */
+    public final float uthrot2() {
+        return readFloat(16);
+    }
+
+    /**
+     * Left aileron command [~] 
+     */
+    public final float uaill() {
+        return readFloat(20);
+    }
+
+    /**
+     * Right aileron command [~] 
+     */
+    public final float uailr() {
+        return readFloat(24);
+    }
+
+    /**
+     * Rudder command [~] 
+     */
+    public final float urud() {
+        return readFloat(28);
+    }
+
+    /**
+     * Off-board computer status 
+     */
+    public final int obctrlStatus() {
+        return readUint8(32);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 172,
         description = "ASL-fixed-wing controller data"
 )
-public final class AslctrlData {
+public final class AslctrlData implements JsonWritable {
     private final BigInteger timestamp;
 
     private final int aslctrlMode;
@@ -457,6 +460,37 @@ public final class AslctrlData {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("aslctrlMode").value(this.aslctrlMode);
+        writer.name("h").value(this.h);
+        writer.name("href").value(this.href);
+        writer.name("hrefT").value(this.hrefT);
+        writer.name("pitchangle").value(this.pitchangle);
+        writer.name("pitchangleref").value(this.pitchangleref);
+        writer.name("q").value(this.q);
+        writer.name("qref").value(this.qref);
+        writer.name("uelev").value(this.uelev);
+        writer.name("uthrot").value(this.uthrot);
+        writer.name("uthrot2").value(this.uthrot2);
+        writer.name("nz").value(this.nz);
+        writer.name("airspeedref").value(this.airspeedref);
+        writer.name("spoilersengaged").value(this.spoilersengaged);
+        writer.name("yawangle").value(this.yawangle);
+        writer.name("yawangleref").value(this.yawangleref);
+        writer.name("rollangle").value(this.rollangle);
+        writer.name("rollangleref").value(this.rollangleref);
+        writer.name("p").value(this.p);
+        writer.name("pref").value(this.pref);
+        writer.name("r").value(this.r);
+        writer.name("rref").value(this.rref);
+        writer.name("uail").value(this.uail);
+        writer.name("urud").value(this.urud);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AslctrlData{timestamp=" + timestamp
@@ -550,6 +584,15 @@ public final class AslctrlData {
             return this;
         }
 
+        /**
+         * Timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * ASLCTRL control-mode (manual, stabilized, auto, etc...) 
          */
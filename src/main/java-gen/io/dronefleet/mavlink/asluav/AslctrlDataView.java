@@ -0,0 +1,186 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AslctrlData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AslctrlDataView extends PayloadView<AslctrlDataView> {
+    /**
+     * Timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * See sourcecode for a description of these values... 
+     */
+    public final float h() {
+        return readFloat(8);
+    }
+
+    /**
+     *  
+     */
+    public final float href() {
+        return readFloat(12);
+    }
+
+    /**
+     *  
+     */
+    public final float hrefT() {
+        return readFloat(16);
+    }
+
+    /**
+     * Pitch angle 
+     */
+    public final float pitchangle() {
+        return readFloat(20);
+    }
+
+    /**
+     * Pitch angle reference 
+     */
+    public final float pitchangleref() {
+        return readFloat(24);
+    }
+
+    /**
+     *  
+     */
+    public final float q() {
+        return readFloat(28);
+    }
+
+    /**
+     *  
+     */
+    public final float qref() {
+        return readFloat(32);
+    }
+
+    /**
+     *  
+     */
+    public final float uelev() {
+        return readFloat(36);
+    }
+
+    /**
+     *  
+     */
+    public final float uthrot() {
+        return readFloat(40);
+    }
+
+    /**
+     *  
+     */
+    public final float uthrot2() {
+        return readFloat(44);
+    }
+
+    /**
+     *  
+     */
+    public final float nz() {
+        return readFloat(48);
+    }
+
+    /**
+     * Airspeed reference 
+     */
+    public final float airspeedref() {
+        return readFloat(52);
+    }
+
+    /**
+     * Yaw angle 
+     */
+    public final float yawangle() {
+        return readFloat(56);
+    }
+
+    /**
+     * Yaw angle reference 
+     */
+    public final float yawangleref() {
+        return readFloat(60);
+    }
+
+    /**
+     * Roll angle 
+     */
+    public final float rollangle() {
+        return readFloat(64);
+    }
+
+    /**
+     * Roll angle reference 
+     */
+    public final float rollangleref() {
+        return readFloat(68);
+    }
+
+    /**
+     *  
+     */
+    public final float p() {
+        return readFloat(72);
+    }
+
+    /**
+     *  
+     */
+    public final float pref() {
+        return readFloat(76);
+    }
+
+    /**
+     *  
+     */
+    public final float r() {
+        return readFloat(80);
+    }
+
+    /**
+     *  
+     */
+    public final float rref() {
+        return readFloat(84);
+    }
+
+    /**
+     *  
+     */
+    public final float uail() {
+        return readFloat(88);
+    }
+
+    /**
+     *  
+     */
+    public final float urud() {
+        return readFloat(92);
+    }
+
+    /**
+     * ASLCTRL control-mode (manual, stabilized, auto, etc...) 
+     */
+    public final int aslctrlMode() {
+        return readUint8(96);
+    }
+
+    /**
+     *  
+     */
+    public final int spoilersengaged() {
+        return readUint8(97);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 251,
         description = "ASL-fixed-wing controller debug data"
 )
-public final class AslctrlDebug {
+public final class AslctrlDebug implements JsonWritable {
     private final long i321;
 
     private final int i81;
@@ -230,6 +232,23 @@ public final class AslctrlDebug {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("i321").value(this.i321);
+        writer.name("i81").value(this.i81);
+        writer.name("i82").value(this.i82);
+        writer.name("f1").value(this.f1);
+        writer.name("f2").value(this.f2);
+        writer.name("f3").value(this.f3);
+        writer.name("f4").value(this.f4);
+        writer.name("f5").value(this.f5);
+        writer.name("f6").value(this.f6);
+        writer.name("f7").value(this.f7);
+        writer.name("f8").value(this.f8);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AslctrlDebug{i321=" + i321
@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AslctrlDebug} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AslctrlDebugView extends PayloadView<AslctrlDebugView> {
+    /**
+     * Debug data 
+     */
+    public final long i321() {
+        return readUint32(0);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f1() {
+        return readFloat(4);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f2() {
+        return readFloat(8);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f3() {
+        return readFloat(12);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f4() {
+        return readFloat(16);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f5() {
+        return readFloat(20);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f6() {
+        return readFloat(24);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f7() {
+        return readFloat(28);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final float f8() {
+        return readFloat(32);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final int i81() {
+        return readUint8(36);
+    }
+
+    /**
+     * Debug data 
+     */
+    public final int i82() {
+        return readUint8(37);
+    }
+}
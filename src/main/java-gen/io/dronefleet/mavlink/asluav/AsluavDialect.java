@@ -2,45 +2,54 @@ package io.dronefleet.mavlink.asluav;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class AsluavDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(223, CommandIntStamped.class)
-            .put(224, CommandLongStamped.class)
-            .put(8002, SensPower.class)
-            .put(8003, SensMppt.class)
-            .put(8004, AslctrlData.class)
-            .put(8005, AslctrlDebug.class)
-            .put(8006, AsluavStatus.class)
-            .put(8007, EkfExt.class)
-            .put(8008, AslObctrl.class)
-            .put(8009, SensAtmos.class)
-            .put(8010, SensBatmon.class)
-            .put(8011, FwSoaringData.class)
-            .put(8012, SensorpodStatus.class)
-            .put(8013, SensPowerBoard.class)
-            .put(8014, GsmLinkStatus.class)
-            .put(8015, SatcomLinkStatus.class)
-            .put(8016, SensorAirflowAngles.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(223, "io.dronefleet.mavlink.asluav.CommandIntStamped", 119, 47, 47, 42, 43),
+            new MavlinkMessageDescriptor(224, "io.dronefleet.mavlink.asluav.CommandLongStamped", 102, 45, 45, 42, 43),
+            new MavlinkMessageDescriptor(8002, "io.dronefleet.mavlink.asluav.SensPower", 218, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(8003, "io.dronefleet.mavlink.asluav.SensMppt", 231, 41, 41, -1, -1),
+            new MavlinkMessageDescriptor(8004, "io.dronefleet.mavlink.asluav.AslctrlData", 172, 98, 98, -1, -1),
+            new MavlinkMessageDescriptor(8005, "io.dronefleet.mavlink.asluav.AslctrlDebug", 251, 38, 38, -1, -1),
+            new MavlinkMessageDescriptor(8006, "io.dronefleet.mavlink.asluav.AsluavStatus", 97, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(8007, "io.dronefleet.mavlink.asluav.EkfExt", 64, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(8008, "io.dronefleet.mavlink.asluav.AslObctrl", 234, 33, 33, -1, -1),
+            new MavlinkMessageDescriptor(8009, "io.dronefleet.mavlink.asluav.SensAtmos", 144, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(8010, "io.dronefleet.mavlink.asluav.SensBatmon", 155, 41, 41, -1, -1),
+            new MavlinkMessageDescriptor(8011, "io.dronefleet.mavlink.asluav.FwSoaringData", 20, 102, 102, -1, -1),
+            new MavlinkMessageDescriptor(8012, "io.dronefleet.mavlink.asluav.SensorpodStatus", 54, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(8013, "io.dronefleet.mavlink.asluav.SensPowerBoard", 222, 46, 46, -1, -1),
+            new MavlinkMessageDescriptor(8014, "io.dronefleet.mavlink.asluav.GsmLinkStatus", 200, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(8015, "io.dronefleet.mavlink.asluav.SatcomLinkStatus", 23, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(8016, "io.dronefleet.mavlink.asluav.SensorAirflowAngles", 149, 18, 18, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final AsluavDialect instance = new AsluavDialect();
 
     public AsluavDialect() {
-        super("asluav", dependencies, messages);
+        super("asluav", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static AsluavDialect instance() {
+        return instance;
     }
 }
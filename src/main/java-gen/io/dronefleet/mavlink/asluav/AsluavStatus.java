@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 97,
         description = "Extended state information for ASLUAVs"
 )
-public final class AsluavStatus {
+public final class AsluavStatus implements JsonWritable {
     private final int ledStatus;
 
     private final int satcomStatus;
@@ -111,6 +113,16 @@ public final class AsluavStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("ledStatus").value(this.ledStatus);
+        writer.name("satcomStatus").value(this.satcomStatus);
+        writer.name("servoStatus").value(this.servoStatus);
+        writer.name("motorRpm").value(this.motorRpm);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AsluavStatus{ledStatus=" + ledStatus
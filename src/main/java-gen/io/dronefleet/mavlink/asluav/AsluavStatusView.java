@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AsluavStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AsluavStatusView extends PayloadView<AsluavStatusView> {
+    /**
+     * Motor RPM 
+     */
+    public final float motorRpm() {
+        return readFloat(0);
+    }
+
+    /**
+     * Status of the position-indicator LEDs 
+     */
+    public final int ledStatus() {
+        return readUint8(4);
+    }
+
+    /**
+     * Status of the IRIDIUM satellite communication system 
+     */
+    public final int satcomStatus() {
+        return readUint8(5);
+    }
+
+    /**
+     * Status vector for up to 8 servos 
+     */
+    public final int servoStatus(int index) {
+        return readUint8(elementPosition(6, 1, 8, index));
+    }
+}
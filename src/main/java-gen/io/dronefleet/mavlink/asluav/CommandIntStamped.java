@@ -5,7 +5,10 @@ import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MavCmd;
 import io.dronefleet.mavlink.common.MavFrame;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -23,7 +26,7 @@ import java.util.Objects;
         crc = 119,
         description = "Message encoding a command with parameters as scaled integers and additional metadata. Scaling depends on the actual command value."
 )
-public final class CommandIntStamped {
+public final class CommandIntStamped implements JsonWritable {
     private final long utcTime;
 
     private final BigInteger vehicleTimestamp;
@@ -312,6 +315,27 @@ public final class CommandIntStamped {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("utcTime").value(this.utcTime);
+        writer.name("vehicleTimestamp").value(this.vehicleTimestamp);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("frame").value(this.frame);
+        writer.name("command").value(this.command);
+        writer.name("current").value(this.current);
+        writer.name("autocontinue").value(this.autocontinue);
+        writer.name("param1").value(this.param1);
+        writer.name("param2").value(this.param2);
+        writer.name("param3").value(this.param3);
+        writer.name("param4").value(this.param4);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandIntStamped{utcTime=" + utcTime
@@ -388,6 +412,15 @@ public final class CommandIntStamped {
             return this;
         }
 
+        /**
+         * Microseconds elapsed since vehicle boot 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder vehicleTimestamp(long vehicleTimestamp) {
+            return vehicleTimestamp(UnsignedLongs.toBigInteger(vehicleTimestamp));
+        }
+
         /**
          * System ID 
          */
@@ -0,0 +1,121 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CommandIntStamped} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CommandIntStampedView extends PayloadView<CommandIntStampedView> {
+    /**
+     * Microseconds elapsed since vehicle boot 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long vehicleTimestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * UTC time, seconds elapsed since 01.01.1970 
+     */
+    public final long utcTime() {
+        return readUint32(8);
+    }
+
+    /**
+     * PARAM1, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param1() {
+        return readFloat(12);
+    }
+
+    /**
+     * PARAM2, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param2() {
+        return readFloat(16);
+    }
+
+    /**
+     * PARAM3, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param3() {
+        return readFloat(20);
+    }
+
+    /**
+     * PARAM4, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param4() {
+        return readFloat(24);
+    }
+
+    /**
+     * PARAM5 / local: x position in meters * 1e4, global: latitude in degrees * 10^7 
+     */
+    public final int x() {
+        return readInt32(28);
+    }
+
+    /**
+     * PARAM6 / local: y position in meters * 1e4, global: longitude in degrees * 10^7 
+     */
+    public final int y() {
+        return readInt32(32);
+    }
+
+    /**
+     * PARAM7 / z position: global: altitude in meters (MSL, WGS84, AGL or relative to home - depending 
+     * on frame). 
+     */
+    public final float z() {
+        return readFloat(36);
+    }
+
+    /**
+     * The scheduled action for the mission item, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavCmd}.
+     */
+    public final int command() {
+        return readUint16(40);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(42);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(43);
+    }
+
+    /**
+     * The coordinate system of the COMMAND, as defined by {@link io.dronefleet.mavlink.common.MavFrame MAV_FRAME} enum 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(44);
+    }
+
+    /**
+     * false:0, true:1 
+     */
+    public final int current() {
+        return readUint8(45);
+    }
+
+    /**
+     * autocontinue to next wp 
+     */
+    public final int autocontinue() {
+        return readUint8(46);
+    }
+}
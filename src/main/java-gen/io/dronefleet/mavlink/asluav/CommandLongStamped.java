@@ -4,7 +4,10 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -21,7 +24,7 @@ import java.util.Objects;
         crc = 102,
         description = "Send a command with up to seven parameters to the MAV and additional metadata"
 )
-public final class CommandLongStamped {
+public final class CommandLongStamped implements JsonWritable {
     private final long utcTime;
 
     private final BigInteger vehicleTimestamp;
@@ -272,6 +275,25 @@ public final class CommandLongStamped {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("utcTime").value(this.utcTime);
+        writer.name("vehicleTimestamp").value(this.vehicleTimestamp);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("command").value(this.command);
+        writer.name("confirmation").value(this.confirmation);
+        writer.name("param1").value(this.param1);
+        writer.name("param2").value(this.param2);
+        writer.name("param3").value(this.param3);
+        writer.name("param4").value(this.param4);
+        writer.name("param5").value(this.param5);
+        writer.name("param6").value(this.param6);
+        writer.name("param7").value(this.param7);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandLongStamped{utcTime=" + utcTime
@@ -342,6 +364,15 @@ public final class CommandLongStamped {
             return this;
         }
 
+        /**
+         * Microseconds elapsed since vehicle boot 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder vehicleTimestamp(long vehicleTimestamp) {
+            return vehicleTimestamp(UnsignedLongs.toBigInteger(vehicleTimestamp));
+        }
+
         /**
          * System which should execute the command 
          */
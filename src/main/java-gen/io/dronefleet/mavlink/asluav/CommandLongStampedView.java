@@ -0,0 +1,105 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CommandLongStamped} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CommandLongStampedView extends PayloadView<CommandLongStampedView> {
+    /**
+     * Microseconds elapsed since vehicle boot 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long vehicleTimestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * UTC time, seconds elapsed since 01.01.1970 
+     */
+    public final long utcTime() {
+        return readUint32(8);
+    }
+
+    /**
+     * Parameter 1, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param1() {
+        return readFloat(12);
+    }
+
+    /**
+     * Parameter 2, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param2() {
+        return readFloat(16);
+    }
+
+    /**
+     * Parameter 3, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param3() {
+        return readFloat(20);
+    }
+
+    /**
+     * Parameter 4, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param4() {
+        return readFloat(24);
+    }
+
+    /**
+     * Parameter 5, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param5() {
+        return readFloat(28);
+    }
+
+    /**
+     * Parameter 6, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param6() {
+        return readFloat(32);
+    }
+
+    /**
+     * Parameter 7, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     */
+    public final float param7() {
+        return readFloat(36);
+    }
+
+    /**
+     * Command ID, as defined by {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.MavCmd}.
+     */
+    public final int command() {
+        return readUint16(40);
+    }
+
+    /**
+     * System which should execute the command 
+     */
+    public final int targetSystem() {
+        return readUint8(42);
+    }
+
+    /**
+     * Component which should execute the command, 0 for all components 
+     */
+    public final int targetComponent() {
+        return readUint8(43);
+    }
+
+    /**
+     * 0: First transmission of this command. 1-255: Confirmation transmissions (e.g. for kill 
+     * command) 
+     */
+    public final int confirmation() {
+        return readUint8(44);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 64,
         description = "Extended EKF state estimates for ASLUAVs"
 )
-public final class EkfExt {
+public final class EkfExt implements JsonWritable {
     private final BigInteger timestamp;
 
     private final float windspeed;
@@ -163,6 +166,19 @@ public final class EkfExt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("windspeed").value(this.windspeed);
+        writer.name("winddir").value(this.winddir);
+        writer.name("windz").value(this.windz);
+        writer.name("airspeed").value(this.airspeed);
+        writer.name("beta").value(this.beta);
+        writer.name("alpha").value(this.alpha);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EkfExt{timestamp=" + timestamp
@@ -202,6 +218,15 @@ public final class EkfExt {
             return this;
         }
 
+        /**
+         * Time since system start 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Magnitude of wind velocity (in lateral inertial plane) 
          */
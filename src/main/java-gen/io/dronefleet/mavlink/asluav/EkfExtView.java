@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EkfExt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EkfExtView extends PayloadView<EkfExtView> {
+    /**
+     * Time since system start 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Magnitude of wind velocity (in lateral inertial plane) 
+     */
+    public final float windspeed() {
+        return readFloat(8);
+    }
+
+    /**
+     * Wind heading angle from North 
+     */
+    public final float winddir() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z (Down) component of inertial wind velocity 
+     */
+    public final float windz() {
+        return readFloat(16);
+    }
+
+    /**
+     * Magnitude of air velocity 
+     */
+    public final float airspeed() {
+        return readFloat(20);
+    }
+
+    /**
+     * Sideslip angle 
+     */
+    public final float beta() {
+        return readFloat(24);
+    }
+
+    /**
+     * Angle of attack 
+     */
+    public final float alpha() {
+        return readFloat(28);
+    }
+}
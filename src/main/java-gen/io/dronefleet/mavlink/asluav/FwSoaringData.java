@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 20,
         description = "Fixed-wing soaring (i.e. thermal seeking) data"
 )
-public final class FwSoaringData {
+public final class FwSoaringData implements JsonWritable {
     private final BigInteger timestamp;
 
     private final BigInteger timestampmodechanged;
@@ -473,6 +476,37 @@ public final class FwSoaringData {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("timestampmodechanged").value(this.timestampmodechanged);
+        writer.name("xw").value(this.xw);
+        writer.name("xr").value(this.xr);
+        writer.name("xlat").value(this.xlat);
+        writer.name("xlon").value(this.xlon);
+        writer.name("varw").value(this.varw);
+        writer.name("varr").value(this.varr);
+        writer.name("varlat").value(this.varlat);
+        writer.name("varlon").value(this.varlon);
+        writer.name("loiterradius").value(this.loiterradius);
+        writer.name("loiterdirection").value(this.loiterdirection);
+        writer.name("disttosoarpoint").value(this.disttosoarpoint);
+        writer.name("vsinkexp").value(this.vsinkexp);
+        writer.name("z1Localupdraftspeed").value(this.z1Localupdraftspeed);
+        writer.name("z2Deltaroll").value(this.z2Deltaroll);
+        writer.name("z1Exp").value(this.z1Exp);
+        writer.name("z2Exp").value(this.z2Exp);
+        writer.name("thermalgsnorth").value(this.thermalgsnorth);
+        writer.name("thermalgseast").value(this.thermalgseast);
+        writer.name("tseDot").value(this.tseDot);
+        writer.name("debugvar1").value(this.debugvar1);
+        writer.name("debugvar2").value(this.debugvar2);
+        writer.name("controlmode").value(this.controlmode);
+        writer.name("valid").value(this.valid);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FwSoaringData{timestamp=" + timestamp
@@ -566,6 +600,15 @@ public final class FwSoaringData {
             return this;
         }
 
+        /**
+         * Timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Timestamp since last mode change 
          */
@@ -579,6 +622,15 @@ public final class FwSoaringData {
             return this;
         }
 
+        /**
+         * Timestamp since last mode change 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestampmodechanged(long timestampmodechanged) {
+            return timestampmodechanged(UnsignedLongs.toBigInteger(timestampmodechanged));
+        }
+
         /**
          * Thermal core updraft strength 
          */
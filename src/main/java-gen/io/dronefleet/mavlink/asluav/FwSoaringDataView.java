@@ -0,0 +1,188 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FwSoaringData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FwSoaringDataView extends PayloadView<FwSoaringDataView> {
+    /**
+     * Timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp since last mode change 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestampmodechanged() {
+        return readInt64(8);
+    }
+
+    /**
+     * Thermal core updraft strength 
+     */
+    public final float xw() {
+        return readFloat(16);
+    }
+
+    /**
+     * Thermal radius 
+     */
+    public final float xr() {
+        return readFloat(20);
+    }
+
+    /**
+     * Thermal center latitude 
+     */
+    public final float xlat() {
+        return readFloat(24);
+    }
+
+    /**
+     * Thermal center longitude 
+     */
+    public final float xlon() {
+        return readFloat(28);
+    }
+
+    /**
+     * Variance W 
+     */
+    public final float varw() {
+        return readFloat(32);
+    }
+
+    /**
+     * Variance R 
+     */
+    public final float varr() {
+        return readFloat(36);
+    }
+
+    /**
+     * Variance Lat 
+     */
+    public final float varlat() {
+        return readFloat(40);
+    }
+
+    /**
+     * Variance Lon 
+     */
+    public final float varlon() {
+        return readFloat(44);
+    }
+
+    /**
+     * Suggested loiter radius 
+     */
+    public final float loiterradius() {
+        return readFloat(48);
+    }
+
+    /**
+     * Suggested loiter direction 
+     */
+    public final float loiterdirection() {
+        return readFloat(52);
+    }
+
+    /**
+     * Distance to soar point 
+     */
+    public final float disttosoarpoint() {
+        return readFloat(56);
+    }
+
+    /**
+     * Expected sink rate at current airspeed, roll and throttle 
+     */
+    public final float vsinkexp() {
+        return readFloat(60);
+    }
+
+    /**
+     * Measurement / updraft speed at current/local airplane position 
+     */
+    public final float z1Localupdraftspeed() {
+        return readFloat(64);
+    }
+
+    /**
+     * Measurement / roll angle tracking error 
+     */
+    public final float z2Deltaroll() {
+        return readFloat(68);
+    }
+
+    /**
+     * Expected measurement 1 
+     */
+    public final float z1Exp() {
+        return readFloat(72);
+    }
+
+    /**
+     * Expected measurement 2 
+     */
+    public final float z2Exp() {
+        return readFloat(76);
+    }
+
+    /**
+     * Thermal drift (from estimator prediction step only) 
+     */
+    public final float thermalgsnorth() {
+        return readFloat(80);
+    }
+
+    /**
+     * Thermal drift (from estimator prediction step only) 
+     */
+    public final float thermalgseast() {
+        return readFloat(84);
+    }
+
+    /**
+     * Total specific energy change (filtered) 
+     */
+    public final float tseDot() {
+        return readFloat(88);
+    }
+
+    /**
+     * Debug variable 1 
+     */
+    public final float debugvar1() {
+        return readFloat(92);
+    }
+
+    /**
+     * Debug variable 2 
+     */
+    public final float debugvar2() {
+        return readFloat(96);
+    }
+
+    /**
+     * Control Mode [-] 
+     */
+    public final int controlmode() {
+        return readUint8(100);
+    }
+
+    /**
+     * Data valid [-] 
+     */
+    public final int valid() {
+        return readUint8(101);
+    }
+}
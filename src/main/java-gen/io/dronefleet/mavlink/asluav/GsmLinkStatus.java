@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 200,
         description = "Status of GSM modem (connected to onboard computer)"
 )
-public final class GsmLinkStatus {
+public final class GsmLinkStatus implements JsonWritable {
     private final BigInteger timestamp;
 
     private final EnumValue<GsmModemType> gsmModemType;
@@ -168,6 +171,19 @@ public final class GsmLinkStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("gsmModemType").value(this.gsmModemType);
+        writer.name("gsmLinkType").value(this.gsmLinkType);
+        writer.name("rssi").value(this.rssi);
+        writer.name("rsrpRscp").value(this.rsrpRscp);
+        writer.name("sinrEcio").value(this.sinrEcio);
+        writer.name("rsrq").value(this.rsrq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GsmLinkStatus{timestamp=" + timestamp
@@ -207,6 +223,15 @@ public final class GsmLinkStatus {
             return this;
         }
 
+        /**
+         * Timestamp (of OBC) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * GSM modem used 
          */
@@ -0,0 +1,64 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GsmLinkStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GsmLinkStatusView extends PayloadView<GsmLinkStatusView> {
+    /**
+     * Timestamp (of OBC) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * GSM modem used 
+     * <p>
+     * This returns the raw value of the field, see {@link GsmModemType}.
+     */
+    public final int gsmModemType() {
+        return readUint8(8);
+    }
+
+    /**
+     * GSM link type 
+     * <p>
+     * This returns the raw value of the field, see {@link GsmLinkType}.
+     */
+    public final int gsmLinkType() {
+        return readUint8(9);
+    }
+
+    /**
+     * RSSI as reported by modem (unconverted) 
+     */
+    public final int rssi() {
+        return readUint8(10);
+    }
+
+    /**
+     * RSRP (LTE) or RSCP (WCDMA) as reported by modem (unconverted) 
+     */
+    public final int rsrpRscp() {
+        return readUint8(11);
+    }
+
+    /**
+     * SINR (LTE) or ECIO (WCDMA) as reported by modem (unconverted) 
+     */
+    public final int sinrEcio() {
+        return readUint8(12);
+    }
+
+    /**
+     * RSRQ (LTE only) as reported by modem (unconverted) 
+     */
+    public final int rsrq() {
+        return readUint8(13);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 23,
         description = "Status of the SatCom link"
 )
-public final class SatcomLinkStatus {
+public final class SatcomLinkStatus implements JsonWritable {
     private final BigInteger timestamp;
 
     private final BigInteger lastHeartbeat;
@@ -181,6 +184,20 @@ public final class SatcomLinkStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("lastHeartbeat").value(this.lastHeartbeat);
+        writer.name("failedSessions").value(this.failedSessions);
+        writer.name("successfulSessions").value(this.successfulSessions);
+        writer.name("signalQuality").value(this.signalQuality);
+        writer.name("ringPending").value(this.ringPending);
+        writer.name("txSessionPending").value(this.txSessionPending);
+        writer.name("rxSessionPending").value(this.rxSessionPending);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SatcomLinkStatus{timestamp=" + timestamp
@@ -223,6 +240,15 @@ public final class SatcomLinkStatus {
             return this;
         }
 
+        /**
+         * Timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Timestamp of the last successful sbd session 
          */
@@ -236,6 +262,15 @@ public final class SatcomLinkStatus {
             return this;
         }
 
+        /**
+         * Timestamp of the last successful sbd session 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder lastHeartbeat(long lastHeartbeat) {
+            return lastHeartbeat(UnsignedLongs.toBigInteger(lastHeartbeat));
+        }
+
         /**
          * Number of failed sessions 
          */
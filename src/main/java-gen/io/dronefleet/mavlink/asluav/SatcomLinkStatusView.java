@@ -0,0 +1,69 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SatcomLinkStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SatcomLinkStatusView extends PayloadView<SatcomLinkStatusView> {
+    /**
+     * Timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp of the last successful sbd session 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long lastHeartbeat() {
+        return readInt64(8);
+    }
+
+    /**
+     * Number of failed sessions 
+     */
+    public final int failedSessions() {
+        return readUint16(16);
+    }
+
+    /**
+     * Number of successful sessions 
+     */
+    public final int successfulSessions() {
+        return readUint16(18);
+    }
+
+    /**
+     * Signal quality 
+     */
+    public final int signalQuality() {
+        return readUint8(20);
+    }
+
+    /**
+     * Ring call pending 
+     */
+    public final int ringPending() {
+        return readUint8(21);
+    }
+
+    /**
+     * Transmission session pending 
+     */
+    public final int txSessionPending() {
+        return readUint8(22);
+    }
+
+    /**
+     * Receiving session pending 
+     */
+    public final int rxSessionPending() {
+        return readUint8(23);
+    }
+}
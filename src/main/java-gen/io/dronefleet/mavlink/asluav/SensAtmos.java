@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 144,
         description = "Atmospheric sensors (temperature, humidity, ...)"
 )
-public final class SensAtmos {
+public final class SensAtmos implements JsonWritable {
     private final BigInteger timestamp;
 
     private final float tempambient;
@@ -94,6 +97,15 @@ public final class SensAtmos {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("tempambient").value(this.tempambient);
+        writer.name("humidity").value(this.humidity);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensAtmos{timestamp=" + timestamp
@@ -121,6 +133,15 @@ public final class SensAtmos {
             return this;
         }
 
+        /**
+         * Time since system boot 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Ambient temperature 
          */
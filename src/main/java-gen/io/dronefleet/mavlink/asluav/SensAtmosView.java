@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensAtmos} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensAtmosView extends PayloadView<SensAtmosView> {
+    /**
+     * Time since system boot 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Ambient temperature 
+     */
+    public final float tempambient() {
+        return readFloat(8);
+    }
+
+    /**
+     * Relative humidity 
+     */
+    public final float humidity() {
+        return readFloat(12);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 155,
         description = "Battery pack monitoring data for Li-Ion batteries"
 )
-public final class SensBatmon {
+public final class SensBatmon implements JsonWritable {
     private final BigInteger batmonTimestamp;
 
     private final float temperature;
@@ -302,6 +305,27 @@ public final class SensBatmon {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("batmonTimestamp").value(this.batmonTimestamp);
+        writer.name("temperature").value(this.temperature);
+        writer.name("voltage").value(this.voltage);
+        writer.name("current").value(this.current);
+        writer.name("soc").value(this.soc);
+        writer.name("batterystatus").value(this.batterystatus);
+        writer.name("serialnumber").value(this.serialnumber);
+        writer.name("safetystatus").value(this.safetystatus);
+        writer.name("operationstatus").value(this.operationstatus);
+        writer.name("cellvoltage1").value(this.cellvoltage1);
+        writer.name("cellvoltage2").value(this.cellvoltage2);
+        writer.name("cellvoltage3").value(this.cellvoltage3);
+        writer.name("cellvoltage4").value(this.cellvoltage4);
+        writer.name("cellvoltage5").value(this.cellvoltage5);
+        writer.name("cellvoltage6").value(this.cellvoltage6);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensBatmon{batmonTimestamp=" + batmonTimestamp
@@ -365,6 +389,15 @@ public final class SensBatmon {
             return this;
         }
 
+        /**
+         * Time since system start 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder batmonTimestamp(long batmonTimestamp) {
+            return batmonTimestamp(UnsignedLongs.toBigInteger(batmonTimestamp));
+        }
+
         /**
          * Battery pack temperature 
          */
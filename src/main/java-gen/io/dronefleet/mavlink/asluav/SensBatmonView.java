@@ -0,0 +1,116 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensBatmon} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensBatmonView extends PayloadView<SensBatmonView> {
+    /**
+     * Time since system start 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long batmonTimestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Battery pack temperature 
+     */
+    public final float temperature() {
+        return readFloat(8);
+    }
+
+    /**
+     * Battery monitor safetystatus report bits in Hex 
+     */
+    public final long safetystatus() {
+        return readUint32(12);
+    }
+
+    /**
+     * Battery monitor operation status report bits in Hex 
+     */
+    public final long operationstatus() {
+        return readUint32(16);
+    }
+
+    /**
+     * Battery pack voltage 
+     */
+    public final int voltage() {
+        return readUint16(20);
+    }
+
+    /**
+     * Battery pack current 
+     */
+    public final int current() {
+        return readInt16(22);
+    }
+
+    /**
+     * Battery monitor status report bits in Hex 
+     */
+    public final int batterystatus() {
+        return readUint16(24);
+    }
+
+    /**
+     * Battery monitor serial number in Hex 
+     */
+    public final int serialnumber() {
+        return readUint16(26);
+    }
+
+    /**
+     * Battery pack cell 1 voltage 
+     */
+    public final int cellvoltage1() {
+        return readUint16(28);
+    }
+
+    /**
+     * Battery pack cell 2 voltage 
+     */
+    public final int cellvoltage2() {
+        return readUint16(30);
+    }
+
+    /**
+     * Battery pack cell 3 voltage 
+     */
+    public final int cellvoltage3() {
+        return readUint16(32);
+    }
+
+    /**
+     * Battery pack cell 4 voltage 
+     */
+    public final int cellvoltage4() {
+        return readUint16(34);
+    }
+
+    /**
+     * Battery pack cell 5 voltage 
+     */
+    public final int cellvoltage5() {
+        return readUint16(36);
+    }
+
+    /**
+     * Battery pack cell 6 voltage 
+     */
+    public final int cellvoltage6() {
+        return readUint16(38);
+    }
+
+    /**
+     * Battery pack state-of-charge 
+     */
+    public final int soc() {
+        return readUint8(40);
+    }
+}
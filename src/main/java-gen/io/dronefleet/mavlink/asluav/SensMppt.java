@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 231,
         description = "Maximum Power Point Tracker (MPPT) sensor data for solar module power performance tracking"
 )
-public final class SensMppt {
+public final class SensMppt implements JsonWritable {
     private final BigInteger mpptTimestamp;
 
     private final float mppt1Volt;
@@ -266,6 +269,25 @@ public final class SensMppt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("mpptTimestamp").value(this.mpptTimestamp);
+        writer.name("mppt1Volt").value(this.mppt1Volt);
+        writer.name("mppt1Amp").value(this.mppt1Amp);
+        writer.name("mppt1Pwm").value(this.mppt1Pwm);
+        writer.name("mppt1Status").value(this.mppt1Status);
+        writer.name("mppt2Volt").value(this.mppt2Volt);
+        writer.name("mppt2Amp").value(this.mppt2Amp);
+        writer.name("mppt2Pwm").value(this.mppt2Pwm);
+        writer.name("mppt2Status").value(this.mppt2Status);
+        writer.name("mppt3Volt").value(this.mppt3Volt);
+        writer.name("mppt3Amp").value(this.mppt3Amp);
+        writer.name("mppt3Pwm").value(this.mppt3Pwm);
+        writer.name("mppt3Status").value(this.mppt3Status);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensMppt{mpptTimestamp=" + mpptTimestamp
@@ -323,6 +345,15 @@ public final class SensMppt {
             return this;
         }
 
+        /**
+         * MPPT last timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder mpptTimestamp(long mpptTimestamp) {
+            return mpptTimestamp(UnsignedLongs.toBigInteger(mpptTimestamp));
+        }
+
         /**
          * MPPT1 voltage 
          */
@@ -0,0 +1,102 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensMppt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensMpptView extends PayloadView<SensMpptView> {
+    /**
+     * MPPT last timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long mpptTimestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * MPPT1 voltage 
+     */
+    public final float mppt1Volt() {
+        return readFloat(8);
+    }
+
+    /**
+     * MPPT1 current 
+     */
+    public final float mppt1Amp() {
+        return readFloat(12);
+    }
+
+    /**
+     * MPPT2 voltage 
+     */
+    public final float mppt2Volt() {
+        return readFloat(16);
+    }
+
+    /**
+     * MPPT2 current 
+     */
+    public final float mppt2Amp() {
+        return readFloat(20);
+    }
+
+    /**
+     * MPPT3 voltage 
+     */
+    public final float mppt3Volt() {
+        return readFloat(24);
+    }
+
+    /**
+     * MPPT3 current 
+     */
+    public final float mppt3Amp() {
+        return readFloat(28);
+    }
+
+    /**
+     * MPPT1 pwm 
+     */
+    public final int mppt1Pwm() {
+        return readUint16(32);
+    }
+
+    /**
+     * MPPT2 pwm 
+     */
+    public final int mppt2Pwm() {
+        return readUint16(34);
+    }
+
+    /**
+     * MPPT3 pwm 
+     */
+    public final int mppt3Pwm() {
+        return readUint16(36);
+    }
+
+    /**
+     * MPPT1 status 
+     */
+    public final int mppt1Status() {
+        return readUint8(38);
+    }
+
+    /**
+     * MPPT2 status 
+     */
+    public final int mppt2Status() {
+        return readUint8(39);
+    }
+
+    /**
+     * MPPT3 status 
+     */
+    public final int mppt3Status() {
+        return readUint8(40);
+    }
+}
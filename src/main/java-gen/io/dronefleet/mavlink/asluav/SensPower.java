@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 218,
         description = "Voltage and current sensor data"
 )
-public final class SensPower {
+public final class SensPower implements JsonWritable {
     private final float adc121VspbVolt;
 
     private final float adc121CspbAmp;
@@ -111,6 +113,16 @@ public final class SensPower {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("adc121VspbVolt").value(this.adc121VspbVolt);
+        writer.name("adc121CspbAmp").value(this.adc121CspbAmp);
+        writer.name("adc121Cs1Amp").value(this.adc121Cs1Amp);
+        writer.name("adc121Cs2Amp").value(this.adc121Cs2Amp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensPower{adc121VspbVolt=" + adc121VspbVolt
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 222,
         description = "Monitoring of power board status"
 )
-public final class SensPowerBoard {
+public final class SensPowerBoard implements JsonWritable {
     private final BigInteger timestamp;
 
     private final int pwrBrdStatus;
@@ -250,6 +253,24 @@ public final class SensPowerBoard {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("pwrBrdStatus").value(this.pwrBrdStatus);
+        writer.name("pwrBrdLedStatus").value(this.pwrBrdLedStatus);
+        writer.name("pwrBrdSystemVolt").value(this.pwrBrdSystemVolt);
+        writer.name("pwrBrdServoVolt").value(this.pwrBrdServoVolt);
+        writer.name("pwrBrdDigitalVolt").value(this.pwrBrdDigitalVolt);
+        writer.name("pwrBrdMotLAmp").value(this.pwrBrdMotLAmp);
+        writer.name("pwrBrdMotRAmp").value(this.pwrBrdMotRAmp);
+        writer.name("pwrBrdAnalogAmp").value(this.pwrBrdAnalogAmp);
+        writer.name("pwrBrdDigitalAmp").value(this.pwrBrdDigitalAmp);
+        writer.name("pwrBrdExtAmp").value(this.pwrBrdExtAmp);
+        writer.name("pwrBrdAuxAmp").value(this.pwrBrdAuxAmp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensPowerBoard{timestamp=" + timestamp
@@ -304,6 +325,15 @@ public final class SensPowerBoard {
             return this;
         }
 
+        /**
+         * Timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Power board status register 
          */
@@ -0,0 +1,95 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensPowerBoard} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensPowerBoardView extends PayloadView<SensPowerBoardView> {
+    /**
+     * Timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Power board system voltage 
+     */
+    public final float pwrBrdSystemVolt() {
+        return readFloat(8);
+    }
+
+    /**
+     * Power board servo voltage 
+     */
+    public final float pwrBrdServoVolt() {
+        return readFloat(12);
+    }
+
+    /**
+     * Power board digital voltage 
+     */
+    public final float pwrBrdDigitalVolt() {
+        return readFloat(16);
+    }
+
+    /**
+     * Power board left motor current sensor 
+     */
+    public final float pwrBrdMotLAmp() {
+        return readFloat(20);
+    }
+
+    /**
+     * Power board right motor current sensor 
+     */
+    public final float pwrBrdMotRAmp() {
+        return readFloat(24);
+    }
+
+    /**
+     * Power board analog current sensor 
+     */
+    public final float pwrBrdAnalogAmp() {
+        return readFloat(28);
+    }
+
+    /**
+     * Power board digital current sensor 
+     */
+    public final float pwrBrdDigitalAmp() {
+        return readFloat(32);
+    }
+
+    /**
+     * Power board extension current sensor 
+     */
+    public final float pwrBrdExtAmp() {
+        return readFloat(36);
+    }
+
+    /**
+     * Power board aux current sensor 
+     */
+    public final float pwrBrdAuxAmp() {
+        return readFloat(40);
+    }
+
+    /**
+     * Power board status register 
+     */
+    public final int pwrBrdStatus() {
+        return readUint8(44);
+    }
+
+    /**
+     * Power board leds status 
+     */
+    public final int pwrBrdLedStatus() {
+        return readUint8(45);
+    }
+}
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensPower} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensPowerView extends PayloadView<SensPowerView> {
+    /**
+     * Power board voltage sensor reading 
+     */
+    public final float adc121VspbVolt() {
+        return readFloat(0);
+    }
+
+    /**
+     * Power board current sensor reading 
+     */
+    public final float adc121CspbAmp() {
+        return readFloat(4);
+    }
+
+    /**
+     * Board current sensor 1 reading 
+     */
+    public final float adc121Cs1Amp() {
+        return readFloat(8);
+    }
+
+    /**
+     * Board current sensor 2 reading 
+     */
+    public final float adc121Cs2Amp() {
+        return readFloat(12);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 149,
         description = "Calibrated airflow angle measurements"
 )
-public final class SensorAirflowAngles {
+public final class SensorAirflowAngles implements JsonWritable {
     private final BigInteger timestamp;
 
     private final float angleofattack;
@@ -129,6 +132,17 @@ public final class SensorAirflowAngles {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("angleofattack").value(this.angleofattack);
+        writer.name("angleofattackValid").value(this.angleofattackValid);
+        writer.name("sideslip").value(this.sideslip);
+        writer.name("sideslipValid").value(this.sideslipValid);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensorAirflowAngles{timestamp=" + timestamp
@@ -162,6 +176,15 @@ public final class SensorAirflowAngles {
             return this;
         }
 
+        /**
+         * Timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Angle of attack 
          */
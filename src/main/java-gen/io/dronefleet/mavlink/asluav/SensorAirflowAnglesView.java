@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensorAirflowAngles} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensorAirflowAnglesView extends PayloadView<SensorAirflowAnglesView> {
+    /**
+     * Timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Angle of attack 
+     */
+    public final float angleofattack() {
+        return readFloat(8);
+    }
+
+    /**
+     * Sideslip angle 
+     */
+    public final float sideslip() {
+        return readFloat(12);
+    }
+
+    /**
+     * Angle of attack measurement valid 
+     */
+    public final int angleofattackValid() {
+        return readUint8(16);
+    }
+
+    /**
+     * Sideslip angle measurement valid 
+     */
+    public final int sideslipValid() {
+        return readUint8(17);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.asluav;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 54,
         description = "Monitoring of sensorpod status"
 )
-public final class SensorpodStatus {
+public final class SensorpodStatus implements JsonWritable {
     private final BigInteger timestamp;
 
     private final int visensorRate1;
@@ -181,6 +184,20 @@ public final class SensorpodStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("visensorRate1").value(this.visensorRate1);
+        writer.name("visensorRate2").value(this.visensorRate2);
+        writer.name("visensorRate3").value(this.visensorRate3);
+        writer.name("visensorRate4").value(this.visensorRate4);
+        writer.name("recordingNodesCount").value(this.recordingNodesCount);
+        writer.name("cpuTemp").value(this.cpuTemp);
+        writer.name("freeSpace").value(this.freeSpace);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensorpodStatus{timestamp=" + timestamp
@@ -223,6 +240,15 @@ public final class SensorpodStatus {
             return this;
         }
 
+        /**
+         * Timestamp in linuxtime (since 1.1.1970) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Rate of ROS topic 1 
          */
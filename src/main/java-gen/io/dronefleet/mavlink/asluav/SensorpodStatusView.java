@@ -0,0 +1,67 @@
+package io.dronefleet.mavlink.asluav;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensorpodStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensorpodStatusView extends PayloadView<SensorpodStatusView> {
+    /**
+     * Timestamp in linuxtime (since 1.1.1970) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Free space available in recordings directory in [Gb] * 1e2 
+     */
+    public final int freeSpace() {
+        return readUint16(8);
+    }
+
+    /**
+     * Rate of ROS topic 1 
+     */
+    public final int visensorRate1() {
+        return readUint8(10);
+    }
+
+    /**
+     * Rate of ROS topic 2 
+     */
+    public final int visensorRate2() {
+        return readUint8(11);
+    }
+
+    /**
+     * Rate of ROS topic 3 
+     */
+    public final int visensorRate3() {
+        return readUint8(12);
+    }
+
+    /**
+     * Rate of ROS topic 4 
+     */
+    public final int visensorRate4() {
+        return readUint8(13);
+    }
+
+    /**
+     * Number of recording nodes 
+     */
+    public final int recordingNodesCount() {
+        return readUint8(14);
+    }
+
+    /**
+     * Temperature of sensorpod CPU in 
+     */
+    public final int cpuTemp() {
+        return readUint8(15);
+    }
+}
@@ -3,6 +3,11 @@ package io.dronefleet.mavlink.autoquad;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.Object;
@@ -33,7 +38,7 @@ import java.util.Objects;
                         + "\t\t\t    //     unsigned int temp   :    9;   // (Deg C + 32) * 4\n"
                         + "\t\t\t    // unsigned int errCode : 3;"
 )
-public final class AqEscTelemetry {
+public final class AqEscTelemetry implements JsonWritable {
     private final long timeBootMs;
 
     private final int seq;
@@ -44,13 +49,13 @@ public final class AqEscTelemetry {
 
     private final byte[] escid;
 
-    private final List<Integer> statusAge;
+    private final IntArrayList statusAge;
 
     private final byte[] dataVersion;
 
-    private final List<Long> data0;
+    private final LongArrayList data0;
 
-    private final List<Long> data1;
+    private final LongArrayList data1;
 
     private AqEscTelemetry(long timeBootMs, int seq, int numMotors, int numInSeq, byte[] escid,
             List<Integer> statusAge, byte[] dataVersion, List<Long> data0, List<Long> data1) {
@@ -59,10 +64,10 @@ public final class AqEscTelemetry {
         this.numMotors = numMotors;
         this.numInSeq = numInSeq;
         this.escid = escid;
-        this.statusAge = statusAge;
+        this.statusAge = IntArrayList.copyOf(statusAge);
         this.dataVersion = dataVersion;
-        this.data0 = data0;
-        this.data1 = data1;
+        this.data0 = LongArrayList.copyOf(data0);
+        this.data1 = LongArrayList.copyOf(data1);
     }
 
     /**
@@ -149,6 +154,25 @@ public final class AqEscTelemetry {
         return this.statusAge;
     }
 
+    /**
+     * Returns a copy of {@link #statusAge()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] statusAgeArray() {
+        return this.statusAge != null ? this.statusAge.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #statusAge()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int statusAge(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.statusAge != null && index < this.statusAge.size() ? this.statusAge.getInt(index) : 0;
+    }
+
     /**
      * Version of data structure (determines contents). 
      */
@@ -175,6 +199,25 @@ public final class AqEscTelemetry {
         return this.data0;
     }
 
+    /**
+     * Returns a copy of {@link #data0()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] data0Array() {
+        return this.data0 != null ? this.data0.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #data0()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long data0(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.data0 != null && index < this.data0.size() ? this.data0.getLong(index) : 0;
+    }
+
     /**
      * Data bits 33-64 for each ESC. 
      */
@@ -188,6 +231,25 @@ public final class AqEscTelemetry {
         return this.data1;
     }
 
+    /**
+     * Returns a copy of {@link #data1()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] data1Array() {
+        return this.data1 != null ? this.data1.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #data1()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long data1(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.data1 != null && index < this.data1.size() ? this.data1.getLong(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -220,6 +282,21 @@ public final class AqEscTelemetry {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("seq").value(this.seq);
+        writer.name("numMotors").value(this.numMotors);
+        writer.name("numInSeq").value(this.numInSeq);
+        writer.name("escid").value(this.escid);
+        writer.name("statusAge").value(this.statusAge);
+        writer.name("dataVersion").value(this.dataVersion);
+        writer.name("data0").value(this.data0);
+        writer.name("data1").value(this.data1);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AqEscTelemetry{timeBootMs=" + timeBootMs
@@ -334,6 +411,14 @@ public final class AqEscTelemetry {
             return this;
         }
 
+        /**
+         * Age of each ESC telemetry reading in ms compared to boot time. A value of 0xFFFF means timeout/no 
+         * data. 
+         */
+        public final Builder statusAge(int... statusAge) {
+            return statusAge(IntArrayList.of(statusAge));
+        }
+
         /**
          * Version of data structure (determines contents). 
          */
@@ -362,6 +447,13 @@ public final class AqEscTelemetry {
             return this;
         }
 
+        /**
+         * Data bits 1-32 for each ESC. 
+         */
+        public final Builder data0(long... data0) {
+            return data0(LongArrayList.of(data0));
+        }
+
         /**
          * Data bits 33-64 for each ESC. 
          */
@@ -376,6 +468,13 @@ public final class AqEscTelemetry {
             return this;
         }
 
+        /**
+         * Data bits 33-64 for each ESC. 
+         */
+        public final Builder data1(long... data1) {
+            return data1(LongArrayList.of(data1));
+        }
+
         public final AqEscTelemetry build() {
             return new AqEscTelemetry(timeBootMs, seq, numMotors, numInSeq, escid, statusAge, dataVersion, data0, data1);
         }
@@ -0,0 +1,74 @@
+package io.dronefleet.mavlink.autoquad;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AqEscTelemetry} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AqEscTelemetryView extends PayloadView<AqEscTelemetryView> {
+    /**
+     * Timestamp of the component clock since boot time in ms. 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Data bits 1-32 for each ESC. 
+     */
+    public final long data0(int index) {
+        return readUint32(elementPosition(4, 4, 4, index));
+    }
+
+    /**
+     * Data bits 33-64 for each ESC. 
+     */
+    public final long data1(int index) {
+        return readUint32(elementPosition(20, 4, 4, index));
+    }
+
+    /**
+     * Age of each ESC telemetry reading in ms compared to boot time. A value of 0xFFFF means timeout/no 
+     * data. 
+     */
+    public final int statusAge(int index) {
+        return readUint16(elementPosition(36, 2, 4, index));
+    }
+
+    /**
+     * Sequence number of message (first set of 4 motors is #1, next 4 is #2, etc). 
+     */
+    public final int seq() {
+        return readUint8(44);
+    }
+
+    /**
+     * Total number of active ESCs/motors on the system. 
+     */
+    public final int numMotors() {
+        return readUint8(45);
+    }
+
+    /**
+     * Number of active ESCs in this sequence (1 through this many array members will be populated with 
+     * data) 
+     */
+    public final int numInSeq() {
+        return readUint8(46);
+    }
+
+    /**
+     * ESC/Motor ID 
+     */
+    public final int escid(int index) {
+        return readUint8(elementPosition(47, 1, 4, index));
+    }
+
+    /**
+     * Version of data structure (determines contents). 
+     */
+    public final int dataVersion(int index) {
+        return readUint8(elementPosition(51, 1, 4, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.autoquad;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 241,
         description = "Sends up to 20 raw float values."
 )
-public final class AqTelemetryF {
+public final class AqTelemetryF implements JsonWritable {
     private final int index;
 
     private final float value1;
@@ -402,6 +404,33 @@ public final class AqTelemetryF {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("index").value(this.index);
+        writer.name("value1").value(this.value1);
+        writer.name("value2").value(this.value2);
+        writer.name("value3").value(this.value3);
+        writer.name("value4").value(this.value4);
+        writer.name("value5").value(this.value5);
+        writer.name("value6").value(this.value6);
+        writer.name("value7").value(this.value7);
+        writer.name("value8").value(this.value8);
+        writer.name("value9").value(this.value9);
+        writer.name("value10").value(this.value10);
+        writer.name("value11").value(this.value11);
+        writer.name("value12").value(this.value12);
+        writer.name("value13").value(this.value13);
+        writer.name("value14").value(this.value14);
+        writer.name("value15").value(this.value15);
+        writer.name("value16").value(this.value16);
+        writer.name("value17").value(this.value17);
+        writer.name("value18").value(this.value18);
+        writer.name("value19").value(this.value19);
+        writer.name("value20").value(this.value20);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AqTelemetryF{index=" + index
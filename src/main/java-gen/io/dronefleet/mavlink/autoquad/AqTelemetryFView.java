@@ -0,0 +1,156 @@
+package io.dronefleet.mavlink.autoquad;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AqTelemetryF} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AqTelemetryFView extends PayloadView<AqTelemetryFView> {
+    /**
+     * value1 
+     */
+    public final float value1() {
+        return readFloat(0);
+    }
+
+    /**
+     * value2 
+     */
+    public final float value2() {
+        return readFloat(4);
+    }
+
+    /**
+     * value3 
+     */
+    public final float value3() {
+        return readFloat(8);
+    }
+
+    /**
+     * value4 
+     */
+    public final float value4() {
+        return readFloat(12);
+    }
+
+    /**
+     * value5 
+     */
+    public final float value5() {
+        return readFloat(16);
+    }
+
+    /**
+     * value6 
+     */
+    public final float value6() {
+        return readFloat(20);
+    }
+
+    /**
+     * value7 
+     */
+    public final float value7() {
+        return readFloat(24);
+    }
+
+    /**
+     * value8 
+     */
+    public final float value8() {
+        return readFloat(28);
+    }
+
+    /**
+     * value9 
+     */
+    public final float value9() {
+        return readFloat(32);
+    }
+
+    /**
+     * value10 
+     */
+    public final float value10() {
+        return readFloat(36);
+    }
+
+    /**
+     * value11 
+     */
+    public final float value11() {
+        return readFloat(40);
+    }
+
+    /**
+     * value12 
+     */
+    public final float value12() {
+        return readFloat(44);
+    }
+
+    /**
+     * value13 
+     */
+    public final float value13() {
+        return readFloat(48);
+    }
+
+    /**
+     * value14 
+     */
+    public final float value14() {
+        return readFloat(52);
+    }
+
+    /**
+     * value15 
+     */
+    public final float value15() {
+        return readFloat(56);
+    }
+
+    /**
+     * value16 
+     */
+    public final float value16() {
+        return readFloat(60);
+    }
+
+    /**
+     * value17 
+     */
+    public final float value17() {
+        return readFloat(64);
+    }
+
+    /**
+     * value18 
+     */
+    public final float value18() {
+        return readFloat(68);
+    }
+
+    /**
+     * value19 
+     */
+    public final float value19() {
+        return readFloat(72);
+    }
+
+    /**
+     * value20 
+     */
+    public final float value20() {
+        return readFloat(76);
+    }
+
+    /**
+     * Index of message 
+     */
+    public final int index() {
+        return readUint16(80);
+    }
+}
@@ -2,30 +2,39 @@ package io.dronefleet.mavlink.autoquad;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class AutoquadDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(150, AqTelemetryF.class)
-            .put(152, AqEscTelemetry.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(150, "io.dronefleet.mavlink.autoquad.AqTelemetryF", 241, 82, 82, -1, -1),
+            new MavlinkMessageDescriptor(152, "io.dronefleet.mavlink.autoquad.AqEscTelemetry", 115, 55, 55, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final AutoquadDialect instance = new AutoquadDialect();
 
     public AutoquadDialect() {
-        super("autoquad", dependencies, messages);
+        super("autoquad", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static AutoquadDialect instance() {
+        return instance;
     }
 }
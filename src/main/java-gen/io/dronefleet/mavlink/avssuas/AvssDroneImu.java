@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.avssuas;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 101,
         description = "Drone IMU data. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0)."
 )
-public final class AvssDroneImu {
+public final class AvssDroneImu implements JsonWritable {
     private final long timeBootMs;
 
     private final float q1;
@@ -230,6 +232,23 @@ public final class AvssDroneImu {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("q1").value(this.q1);
+        writer.name("q2").value(this.q2);
+        writer.name("q3").value(this.q3);
+        writer.name("q4").value(this.q4);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AvssDroneImu{timeBootMs=" + timeBootMs
@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.avssuas;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AvssDroneImu} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AvssDroneImuView extends PayloadView<AvssDroneImuView> {
+    /**
+     * Timestamp (time since FC boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Quaternion component 1, w (1 in null-rotation) 
+     */
+    public final float q1() {
+        return readFloat(4);
+    }
+
+    /**
+     * Quaternion component 2, x (0 in null-rotation) 
+     */
+    public final float q2() {
+        return readFloat(8);
+    }
+
+    /**
+     * Quaternion component 3, y (0 in null-rotation) 
+     */
+    public final float q3() {
+        return readFloat(12);
+    }
+
+    /**
+     * Quaternion component 4, z (0 in null-rotation) 
+     */
+    public final float q4() {
+        return readFloat(16);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final float xacc() {
+        return readFloat(20);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final float yacc() {
+        return readFloat(24);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final float zacc() {
+        return readFloat(28);
+    }
+
+    /**
+     * Angular speed around X axis 
+     */
+    public final float xgyro() {
+        return readFloat(32);
+    }
+
+    /**
+     * Angular speed around Y axis 
+     */
+    public final float ygyro() {
+        return readFloat(36);
+    }
+
+    /**
+     * Angular speed around Z axis 
+     */
+    public final float zgyro() {
+        return readFloat(40);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.avssuas;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 45,
         description = "Drone operation mode."
 )
-public final class AvssDroneOperationMode {
+public final class AvssDroneOperationMode implements JsonWritable {
     private final long timeBootMs;
 
     private final int m300OperationMode;
@@ -94,6 +96,15 @@ public final class AvssDroneOperationMode {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("m300OperationMode").value(this.m300OperationMode);
+        writer.name("horseflyOperationMode").value(this.horseflyOperationMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AvssDroneOperationMode{timeBootMs=" + timeBootMs
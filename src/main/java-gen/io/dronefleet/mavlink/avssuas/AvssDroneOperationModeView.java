@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.avssuas;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AvssDroneOperationMode} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AvssDroneOperationModeView extends PayloadView<AvssDroneOperationModeView> {
+    /**
+     * Timestamp (time since FC boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * DJI M300 operation mode 
+     */
+    public final int m300OperationMode() {
+        return readUint8(4);
+    }
+
+    /**
+     * horsefly operation mode 
+     */
+    public final int horseflyOperationMode() {
+        return readUint8(5);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.avssuas;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 245,
         description = "Drone position."
 )
-public final class AvssDronePosition {
+public final class AvssDronePosition implements JsonWritable {
     private final long timeBootMs;
 
     private final int lat;
@@ -149,6 +151,18 @@ public final class AvssDronePosition {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("groundAlt").value(this.groundAlt);
+        writer.name("barometerAlt").value(this.barometerAlt);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AvssDronePosition{timeBootMs=" + timeBootMs
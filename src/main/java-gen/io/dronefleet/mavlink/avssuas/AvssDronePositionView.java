@@ -0,0 +1,52 @@
+package io.dronefleet.mavlink.avssuas;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AvssDronePosition} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AvssDronePositionView extends PayloadView<AvssDronePositionView> {
+    /**
+     * Timestamp (time since FC boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude, expressed 
+     */
+    public final int lat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude, expressed 
+     */
+    public final int lon() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude (MSL). Note that virtually all GPS modules provide both WGS84 and MSL. 
+     */
+    public final int alt() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude above ground, This altitude is measured by a ultrasound, Laser rangefinder or 
+     * millimeter-wave radar 
+     */
+    public final float groundAlt() {
+        return readFloat(16);
+    }
+
+    /**
+     * This altitude is measured by a barometer 
+     */
+    public final float barometerAlt() {
+        return readFloat(20);
+    }
+}
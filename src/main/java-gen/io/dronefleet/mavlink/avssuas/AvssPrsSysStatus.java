@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.avssuas;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 220,
         description = "AVSS PRS system status."
 )
-public final class AvssPrsSysStatus {
+public final class AvssPrsSysStatus implements JsonWritable {
     private final long timeBootMs;
 
     private final long errorStatus;
@@ -128,6 +130,17 @@ public final class AvssPrsSysStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("errorStatus").value(this.errorStatus);
+        writer.name("batteryStatus").value(this.batteryStatus);
+        writer.name("armStatus").value(this.armStatus);
+        writer.name("chargeStatus").value(this.chargeStatus);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AvssPrsSysStatus{timeBootMs=" + timeBootMs
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.avssuas;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AvssPrsSysStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AvssPrsSysStatusView extends PayloadView<AvssPrsSysStatusView> {
+    /**
+     * Timestamp (time since PRS boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * PRS error statuses 
+     */
+    public final long errorStatus() {
+        return readUint32(4);
+    }
+
+    /**
+     * Estimated battery run-time without a remote connection and PRS battery voltage 
+     */
+    public final long batteryStatus() {
+        return readUint32(8);
+    }
+
+    /**
+     * PRS arm statuses 
+     */
+    public final int armStatus() {
+        return readUint8(12);
+    }
+
+    /**
+     * PRS battery charge statuses 
+     */
+    public final int chargeStatus() {
+        return readUint8(13);
+    }
+}
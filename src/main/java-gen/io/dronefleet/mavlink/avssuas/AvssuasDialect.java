@@ -2,32 +2,41 @@ package io.dronefleet.mavlink.avssuas;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class AvssuasDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(60050, AvssPrsSysStatus.class)
-            .put(60051, AvssDronePosition.class)
-            .put(60052, AvssDroneImu.class)
-            .put(60053, AvssDroneOperationMode.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(60050, "io.dronefleet.mavlink.avssuas.AvssPrsSysStatus", 220, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(60051, "io.dronefleet.mavlink.avssuas.AvssDronePosition", 245, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(60052, "io.dronefleet.mavlink.avssuas.AvssDroneImu", 101, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(60053, "io.dronefleet.mavlink.avssuas.AvssDroneOperationMode", 45, 6, 6, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final AvssuasDialect instance = new AvssuasDialect();
 
     public AvssuasDialect() {
-        super("avssuas", dependencies, messages);
+        super("avssuas", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static AvssuasDialect instance() {
+        return instance;
     }
 }
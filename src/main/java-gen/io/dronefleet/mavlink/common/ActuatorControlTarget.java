@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,17 +24,17 @@ import java.util.Objects;
         crc = 181,
         description = "Set the vehicle attitude and body angular rates."
 )
-public final class ActuatorControlTarget {
+public final class ActuatorControlTarget implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int groupMlx;
 
-    private final List<Float> controls;
+    private final FloatArrayList controls;
 
     private ActuatorControlTarget(BigInteger timeUsec, int groupMlx, List<Float> controls) {
         this.timeUsec = timeUsec;
         this.groupMlx = groupMlx;
-        this.controls = controls;
+        this.controls = FloatArrayList.copyOf(controls);
     }
 
     /**
@@ -82,6 +87,25 @@ public final class ActuatorControlTarget {
         return this.controls;
     }
 
+    /**
+     * Returns a copy of {@link #controls()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] controlsArray() {
+        return this.controls != null ? this.controls.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #controls()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float controls(int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.controls != null && index < this.controls.size() ? this.controls.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -102,6 +126,15 @@ public final class ActuatorControlTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("groupMlx").value(this.groupMlx);
+        writer.name("controls").value(this.controls);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ActuatorControlTarget{timeUsec=" + timeUsec
@@ -130,6 +163,16 @@ public final class ActuatorControlTarget {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Actuator group. The "_mlx" indicates this is a multi-instance message and a MAVLink parser 
          * should use this field to difference between instances. 
@@ -161,6 +204,16 @@ public final class ActuatorControlTarget {
             return this;
         }
 
+        /**
+         * Actuator controls. Normed to -1..+1 where 0 is neutral position. Throttle for single rotation 
+         * direction motors is 0..1, negative range for reverse direction. Standard mapping for 
+         * attitude controls (group 0): (index 0-7): roll, pitch, yaw, throttle, flaps, spoilers, 
+         * airbrakes, landing gear. Load a pass-through mixer to repurpose them as generic outputs. 
+         */
+        public final Builder controls(float... controls) {
+            return controls(FloatArrayList.of(controls));
+        }
+
         public final ActuatorControlTarget build() {
             return new ActuatorControlTarget(timeUsec, groupMlx, controls);
         }
@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,17 +25,17 @@ import java.util.Objects;
         crc = 251,
         description = "The raw values of the actuator outputs (e.g. on Pixhawk, from MAIN, AUX ports). This message supersedes SERVO_OUTPUT_RAW."
 )
-public final class ActuatorOutputStatus {
+public final class ActuatorOutputStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final long active;
 
-    private final List<Float> actuator;
+    private final FloatArrayList actuator;
 
     private ActuatorOutputStatus(BigInteger timeUsec, long active, List<Float> actuator) {
         this.timeUsec = timeUsec;
         this.active = active;
-        this.actuator = actuator;
+        this.actuator = FloatArrayList.copyOf(actuator);
     }
 
     /**
@@ -78,6 +83,25 @@ public final class ActuatorOutputStatus {
         return this.actuator;
     }
 
+    /**
+     * Returns a copy of {@link #actuator()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] actuatorArray() {
+        return this.actuator != null ? this.actuator.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #actuator()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float actuator(int index) {
+        if (index < 0 || index >= 32) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.actuator != null && index < this.actuator.size() ? this.actuator.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -98,6 +122,15 @@ public final class ActuatorOutputStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("active").value(this.active);
+        writer.name("actuator").value(this.actuator);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ActuatorOutputStatus{timeUsec=" + timeUsec
@@ -125,6 +158,15 @@ public final class ActuatorOutputStatus {
             return this;
         }
 
+        /**
+         * Timestamp (since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Active outputs 
          */
@@ -152,6 +194,13 @@ public final class ActuatorOutputStatus {
             return this;
         }
 
+        /**
+         * Servo / motor output array values. Zero values indicate unused channels. 
+         */
+        public final Builder actuator(float... actuator) {
+            return actuator(FloatArrayList.of(actuator));
+        }
+
         public final ActuatorOutputStatus build() {
             return new ActuatorOutputStatus(timeUsec, active, actuator);
         }
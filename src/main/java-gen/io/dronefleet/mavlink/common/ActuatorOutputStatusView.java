@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ActuatorOutputStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ActuatorOutputStatusView extends PayloadView<ActuatorOutputStatusView> {
+    /**
+     * Timestamp (since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Active outputs 
+     */
+    public final long active() {
+        return readUint32(8);
+    }
+
+    /**
+     * Servo / motor output array values. Zero values indicate unused channels. 
+     */
+    public final float actuator(int index) {
+        return readFloat(elementPosition(12, 4, 32, index));
+    }
+}
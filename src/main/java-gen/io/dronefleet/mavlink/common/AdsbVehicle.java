@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 184,
         description = "The location and information of an ADSB vehicle"
 )
-public final class AdsbVehicle {
+public final class AdsbVehicle implements JsonWritable {
     private final long icaoAddress;
 
     private final int lat;
@@ -277,6 +279,25 @@ public final class AdsbVehicle {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("icaoAddress").value(this.icaoAddress);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("altitudeType").value(this.altitudeType);
+        writer.name("altitude").value(this.altitude);
+        writer.name("heading").value(this.heading);
+        writer.name("horVelocity").value(this.horVelocity);
+        writer.name("verVelocity").value(this.verVelocity);
+        writer.name("callsign").value(this.callsign);
+        writer.name("emitterType").value(this.emitterType);
+        writer.name("tslc").value(this.tslc);
+        writer.name("flags").value(this.flags);
+        writer.name("squawk").value(this.squawk);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AdsbVehicle{icaoAddress=" + icaoAddress
@@ -0,0 +1,107 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link AdsbVehicle} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AdsbVehicleView extends PayloadView<AdsbVehicleView> {
+    /**
+     * ICAO address 
+     */
+    public final long icaoAddress() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude(ASL) 
+     */
+    public final int altitude() {
+        return readInt32(12);
+    }
+
+    /**
+     * Course over ground 
+     */
+    public final int heading() {
+        return readUint16(16);
+    }
+
+    /**
+     * The horizontal velocity 
+     */
+    public final int horVelocity() {
+        return readUint16(18);
+    }
+
+    /**
+     * The vertical velocity. Positive is up 
+     */
+    public final int verVelocity() {
+        return readInt16(20);
+    }
+
+    /**
+     * Bitmap to indicate various statuses including valid data fields 
+     * <p>
+     * This returns the raw value of the field, see {@link AdsbFlags}.
+     */
+    public final int flags() {
+        return readUint16(22);
+    }
+
+    /**
+     * Squawk code 
+     */
+    public final int squawk() {
+        return readUint16(24);
+    }
+
+    /**
+     * ADSB altitude type. 
+     * <p>
+     * This returns the raw value of the field, see {@link AdsbAltitudeType}.
+     */
+    public final int altitudeType() {
+        return readUint8(26);
+    }
+
+    /**
+     * The callsign, 8+null 
+     */
+    public final String callsign() {
+        return readString(27, 9);
+    }
+
+    /**
+     * ADSB emitter type. 
+     * <p>
+     * This returns the raw value of the field, see {@link AdsbEmitterType}.
+     */
+    public final int emitterType() {
+        return readUint8(36);
+    }
+
+    /**
+     * Time since last communication in seconds 
+     */
+    public final int tslc() {
+        return readUint8(37);
+    }
+}
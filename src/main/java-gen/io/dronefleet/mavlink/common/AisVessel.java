@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 243,
         description = "The location and information of an AIS vessel"
 )
-public final class AisVessel {
+public final class AisVessel implements JsonWritable {
     private final long mmsi;
 
     private final int lat;
@@ -345,6 +347,29 @@ public final class AisVessel {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("mmsi").value(this.mmsi);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("cog").value(this.cog);
+        writer.name("heading").value(this.heading);
+        writer.name("velocity").value(this.velocity);
+        writer.name("turnRate").value(this.turnRate);
+        writer.name("navigationalStatus").value(this.navigationalStatus);
+        writer.name("type").value(this.type);
+        writer.name("dimensionBow").value(this.dimensionBow);
+        writer.name("dimensionStern").value(this.dimensionStern);
+        writer.name("dimensionPort").value(this.dimensionPort);
+        writer.name("dimensionStarboard").value(this.dimensionStarboard);
+        writer.name("callsign").value(this.callsign);
+        writer.name("name").value(this.name);
+        writer.name("tslc").value(this.tslc);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AisVessel{mmsi=" + mmsi
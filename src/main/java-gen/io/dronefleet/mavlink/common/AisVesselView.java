@@ -0,0 +1,135 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link AisVessel} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AisVesselView extends PayloadView<AisVesselView> {
+    /**
+     * Mobile Marine Service Identifier, 9 decimal digits 
+     */
+    public final long mmsi() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(8);
+    }
+
+    /**
+     * Course over ground 
+     */
+    public final int cog() {
+        return readUint16(12);
+    }
+
+    /**
+     * True heading 
+     */
+    public final int heading() {
+        return readUint16(14);
+    }
+
+    /**
+     * Speed over ground 
+     */
+    public final int velocity() {
+        return readUint16(16);
+    }
+
+    /**
+     * Distance from lat/lon location to bow 
+     */
+    public final int dimensionBow() {
+        return readUint16(18);
+    }
+
+    /**
+     * Distance from lat/lon location to stern 
+     */
+    public final int dimensionStern() {
+        return readUint16(20);
+    }
+
+    /**
+     * Time since last communication in seconds 
+     */
+    public final int tslc() {
+        return readUint16(22);
+    }
+
+    /**
+     * Bitmask to indicate various statuses including valid data fields 
+     * <p>
+     * This returns the raw value of the field, see {@link AisFlags}.
+     */
+    public final int flags() {
+        return readUint16(24);
+    }
+
+    /**
+     * Turn rate 
+     */
+    public final int turnRate() {
+        return readInt8(26);
+    }
+
+    /**
+     * Navigational status 
+     * <p>
+     * This returns the raw value of the field, see {@link AisNavStatus}.
+     */
+    public final int navigationalStatus() {
+        return readUint8(27);
+    }
+
+    /**
+     * Type of vessels 
+     * <p>
+     * This returns the raw value of the field, see {@link AisType}.
+     */
+    public final int type() {
+        return readUint8(28);
+    }
+
+    /**
+     * Distance from lat/lon location to port side 
+     */
+    public final int dimensionPort() {
+        return readUint8(29);
+    }
+
+    /**
+     * Distance from lat/lon location to starboard side 
+     */
+    public final int dimensionStarboard() {
+        return readUint8(30);
+    }
+
+    /**
+     * The vessel callsign 
+     */
+    public final String callsign() {
+        return readString(31, 7);
+    }
+
+    /**
+     * The vessel name 
+     */
+    public final String name() {
+        return readString(38, 20);
+    }
+}
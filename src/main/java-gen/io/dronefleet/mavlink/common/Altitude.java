@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 47,
         description = "The current system altitude."
 )
-public final class Altitude {
+public final class Altitude implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float altitudeMonotonic;
@@ -177,6 +180,19 @@ public final class Altitude {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("altitudeMonotonic").value(this.altitudeMonotonic);
+        writer.name("altitudeAmsl").value(this.altitudeAmsl);
+        writer.name("altitudeLocal").value(this.altitudeLocal);
+        writer.name("altitudeRelative").value(this.altitudeRelative);
+        writer.name("altitudeTerrain").value(this.altitudeTerrain);
+        writer.name("bottomClearance").value(this.bottomClearance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Altitude{timeUsec=" + timeUsec
@@ -217,6 +233,16 @@ public final class Altitude {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * This altitude measure is initialized on system boot and monotonic (it is never reset, but 
          * represents the local altitude change). The only guarantee on this field is that it will never be 
@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,10 +24,10 @@ import java.util.Objects;
         crc = 109,
         description = "Motion capture attitude and position"
 )
-public final class AttPosMocap {
+public final class AttPosMocap implements JsonWritable {
     private final BigInteger timeUsec;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float x;
 
@@ -30,16 +35,16 @@ public final class AttPosMocap {
 
     private final float z;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private AttPosMocap(BigInteger timeUsec, List<Float> q, float x, float y, float z,
             List<Float> covariance) {
         this.timeUsec = timeUsec;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.x = x;
         this.y = y;
         this.z = z;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
     }
 
     /**
@@ -76,6 +81,25 @@ public final class AttPosMocap {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * X position (NED) 
      */
@@ -128,6 +152,25 @@ public final class AttPosMocap {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 21) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -154,6 +197,18 @@ public final class AttPosMocap {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("q").value(this.q);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("covariance").value(this.covariance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AttPosMocap{timeUsec=" + timeUsec
@@ -191,6 +246,16 @@ public final class AttPosMocap {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
          */
@@ -205,6 +270,13 @@ public final class AttPosMocap {
             return this;
         }
 
+        /**
+         * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * X position (NED) 
          */
@@ -261,6 +333,15 @@ public final class AttPosMocap {
             return this;
         }
 
+        /**
+         * Row-major representation of a pose 6x6 cross-covariance matrix upper right triangle 
+         * (states: x, y, z, roll, pitch, yaw; first six entries are the first ROW, next five entries are the 
+         * second ROW, etc.). If unknown, assign NaN value to first element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         public final AttPosMocap build() {
             return new AttPosMocap(timeUsec, q, x, y, z, covariance);
         }
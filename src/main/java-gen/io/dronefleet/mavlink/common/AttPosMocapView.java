@@ -0,0 +1,56 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AttPosMocap} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AttPosMocapView extends PayloadView<AttPosMocapView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * X position (NED) 
+     */
+    public final float x() {
+        return readFloat(24);
+    }
+
+    /**
+     * Y position (NED) 
+     */
+    public final float y() {
+        return readFloat(28);
+    }
+
+    /**
+     * Z position (NED) 
+     */
+    public final float z() {
+        return readFloat(32);
+    }
+
+    /**
+     * Row-major representation of a pose 6x6 cross-covariance matrix upper right triangle 
+     * (states: x, y, z, roll, pitch, yaw; first six entries are the first ROW, next five entries are the 
+     * second ROW, etc.). If unknown, assign NaN value to first element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(36, 4, 21, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 39,
         description = "The attitude in the aeronautical frame (right-handed, Z-down, Y-right, X-front, ZYX, intrinsic)."
 )
-public final class Attitude {
+public final class Attitude implements JsonWritable {
     private final long timeBootMs;
 
     private final float roll;
@@ -163,6 +165,19 @@ public final class Attitude {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Attitude{timeBootMs=" + timeBootMs
@@ -3,7 +3,11 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +23,7 @@ import java.util.Objects;
         crc = 246,
         description = "The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0)."
 )
-public final class AttitudeQuaternion {
+public final class AttitudeQuaternion implements JsonWritable {
     private final long timeBootMs;
 
     private final float q1;
@@ -36,7 +40,7 @@ public final class AttitudeQuaternion {
 
     private final float yawspeed;
 
-    private final List<Float> reprOffsetQ;
+    private final FloatArrayList reprOffsetQ;
 
     private AttitudeQuaternion(long timeBootMs, float q1, float q2, float q3, float q4,
             float rollspeed, float pitchspeed, float yawspeed, List<Float> reprOffsetQ) {
@@ -48,7 +52,7 @@ public final class AttitudeQuaternion {
         this.rollspeed = rollspeed;
         this.pitchspeed = pitchspeed;
         this.yawspeed = yawspeed;
-        this.reprOffsetQ = reprOffsetQ;
+        this.reprOffsetQ = FloatArrayList.copyOf(reprOffsetQ);
     }
 
     /**
@@ -174,6 +178,25 @@ public final class AttitudeQuaternion {
         return this.reprOffsetQ;
     }
 
+    /**
+     * Returns a copy of {@link #reprOffsetQ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] reprOffsetQArray() {
+        return this.reprOffsetQ != null ? this.reprOffsetQ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #reprOffsetQ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float reprOffsetQ(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.reprOffsetQ != null && index < this.reprOffsetQ.size() ? this.reprOffsetQ.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -206,6 +229,21 @@ public final class AttitudeQuaternion {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("q1").value(this.q1);
+        writer.name("q2").value(this.q2);
+        writer.name("q3").value(this.q3);
+        writer.name("q4").value(this.q4);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.name("reprOffsetQ").value(this.reprOffsetQ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AttitudeQuaternion{timeBootMs=" + timeBootMs
@@ -362,6 +400,18 @@ public final class AttitudeQuaternion {
             return this;
         }
 
+        /**
+         * Rotation offset by which the attitude quaternion and angular speed vector should be rotated 
+         * for user display (quaternion with [w, x, y, z] order, zero-rotation is [1, 0, 0, 0], send [0, 0, 0, 
+         * 0] if field not supported). This field is intended for systems in which the reference attitude 
+         * may change during flight. For example, tailsitters VTOLs rotate their reference attitude by 
+         * 90 degrees between hover mode and fixed wing mode, thus repr_offset_q is equal to [1, 0, 0, 0] in 
+         * hover mode and equal to [0.7071, 0, 0.7071, 0] in fixed wing mode. 
+         */
+        public final Builder reprOffsetQ(float... reprOffsetQ) {
+            return reprOffsetQ(FloatArrayList.of(reprOffsetQ));
+        }
+
         public final AttitudeQuaternion build() {
             return new AttitudeQuaternion(timeBootMs, q1, q2, q3, q4, rollspeed, pitchspeed, yawspeed, reprOffsetQ);
         }
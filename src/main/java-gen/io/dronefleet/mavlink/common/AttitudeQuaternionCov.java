@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,10 +25,10 @@ import java.util.Objects;
         crc = 167,
         description = "The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0)."
 )
-public final class AttitudeQuaternionCov {
+public final class AttitudeQuaternionCov implements JsonWritable {
     private final BigInteger timeUsec;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float rollspeed;
 
@@ -31,16 +36,16 @@ public final class AttitudeQuaternionCov {
 
     private final float yawspeed;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private AttitudeQuaternionCov(BigInteger timeUsec, List<Float> q, float rollspeed,
             float pitchspeed, float yawspeed, List<Float> covariance) {
         this.timeUsec = timeUsec;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.rollspeed = rollspeed;
         this.pitchspeed = pitchspeed;
         this.yawspeed = yawspeed;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
     }
 
     /**
@@ -77,6 +82,25 @@ public final class AttitudeQuaternionCov {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Roll angular speed 
      */
@@ -128,6 +152,25 @@ public final class AttitudeQuaternionCov {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 9) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -154,6 +197,18 @@ public final class AttitudeQuaternionCov {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("q").value(this.q);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.name("covariance").value(this.covariance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AttitudeQuaternionCov{timeUsec=" + timeUsec
@@ -191,6 +246,16 @@ public final class AttitudeQuaternionCov {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation) 
          */
@@ -205,6 +270,13 @@ public final class AttitudeQuaternionCov {
             return this;
         }
 
+        /**
+         * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Roll angular speed 
          */
@@ -260,6 +332,15 @@ public final class AttitudeQuaternionCov {
             return this;
         }
 
+        /**
+         * Row-major representation of a 3x3 attitude covariance matrix (states: roll, pitch, yaw; 
+         * first three entries are the first ROW, next three entries are the second row, etc.). If unknown, 
+         * assign NaN value to first element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         public final AttitudeQuaternionCov build() {
             return new AttitudeQuaternionCov(timeUsec, q, rollspeed, pitchspeed, yawspeed, covariance);
         }
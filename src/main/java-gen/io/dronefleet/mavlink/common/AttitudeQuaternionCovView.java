@@ -0,0 +1,56 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AttitudeQuaternionCov} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AttitudeQuaternionCovView extends PayloadView<AttitudeQuaternionCovView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * Roll angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(24);
+    }
+
+    /**
+     * Pitch angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(28);
+    }
+
+    /**
+     * Yaw angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(32);
+    }
+
+    /**
+     * Row-major representation of a 3x3 attitude covariance matrix (states: roll, pitch, yaw; 
+     * first three entries are the first ROW, next three entries are the second row, etc.). If unknown, 
+     * assign NaN value to first element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(36, 4, 9, index));
+    }
+}
@@ -0,0 +1,77 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AttitudeQuaternion} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AttitudeQuaternionView extends PayloadView<AttitudeQuaternionView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Quaternion component 1, w (1 in null-rotation) 
+     */
+    public final float q1() {
+        return readFloat(4);
+    }
+
+    /**
+     * Quaternion component 2, x (0 in null-rotation) 
+     */
+    public final float q2() {
+        return readFloat(8);
+    }
+
+    /**
+     * Quaternion component 3, y (0 in null-rotation) 
+     */
+    public final float q3() {
+        return readFloat(12);
+    }
+
+    /**
+     * Quaternion component 4, z (0 in null-rotation) 
+     */
+    public final float q4() {
+        return readFloat(16);
+    }
+
+    /**
+     * Roll angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(20);
+    }
+
+    /**
+     * Pitch angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(24);
+    }
+
+    /**
+     * Yaw angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(28);
+    }
+
+    /**
+     * Rotation offset by which the attitude quaternion and angular speed vector should be rotated 
+     * for user display (quaternion with [w, x, y, z] order, zero-rotation is [1, 0, 0, 0], send [0, 0, 0, 
+     * 0] if field not supported). This field is intended for systems in which the reference attitude 
+     * may change during flight. For example, tailsitters VTOLs rotate their reference attitude by 
+     * 90 degrees between hover mode and fixed wing mode, thus repr_offset_q is equal to [1, 0, 0, 0] in 
+     * hover mode and equal to [0.7071, 0, 0.7071, 0] in fixed wing mode. 
+     */
+    public final float reprOffsetQ(int index) {
+        return readFloat(elementPosition(32, 4, 4, index));
+    }
+}
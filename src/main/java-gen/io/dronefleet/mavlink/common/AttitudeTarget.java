@@ -3,9 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,12 +27,12 @@ import java.util.Objects;
         crc = 22,
         description = "Reports the current commanded attitude of the vehicle as specified by the autopilot. This should match the commands sent in a SET_ATTITUDE_TARGET message if the vehicle is being controlled this way."
 )
-public final class AttitudeTarget {
+public final class AttitudeTarget implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<AttitudeTargetTypemask> typeMask;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float bodyRollRate;
 
@@ -43,7 +47,7 @@ public final class AttitudeTarget {
             float thrust) {
         this.timeBootMs = timeBootMs;
         this.typeMask = typeMask;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.bodyRollRate = bodyRollRate;
         this.bodyPitchRate = bodyPitchRate;
         this.bodyYawRate = bodyYawRate;
@@ -96,6 +100,25 @@ public final class AttitudeTarget {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Body roll rate 
      */
@@ -172,6 +195,19 @@ public final class AttitudeTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("typeMask").value(this.typeMask);
+        writer.name("q").value(this.q);
+        writer.name("bodyRollRate").value(this.bodyRollRate);
+        writer.name("bodyPitchRate").value(this.bodyPitchRate);
+        writer.name("bodyYawRate").value(this.bodyYawRate);
+        writer.name("thrust").value(this.thrust);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AttitudeTarget{timeBootMs=" + timeBootMs
@@ -260,6 +296,13 @@ public final class AttitudeTarget {
             return this;
         }
 
+        /**
+         * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Body roll rate 
          */
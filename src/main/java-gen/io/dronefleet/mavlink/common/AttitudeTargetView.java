@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AttitudeTarget} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AttitudeTargetView extends PayloadView<AttitudeTargetView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(4, 4, 4, index));
+    }
+
+    /**
+     * Body roll rate 
+     */
+    public final float bodyRollRate() {
+        return readFloat(20);
+    }
+
+    /**
+     * Body pitch rate 
+     */
+    public final float bodyPitchRate() {
+        return readFloat(24);
+    }
+
+    /**
+     * Body yaw rate 
+     */
+    public final float bodyYawRate() {
+        return readFloat(28);
+    }
+
+    /**
+     * Collective thrust, normalized to 0 .. 1 (-1 .. 1 for vehicles capable of reverse trust) 
+     */
+    public final float thrust() {
+        return readFloat(32);
+    }
+
+    /**
+     * Bitmap to indicate which dimensions should be ignored by the vehicle. 
+     * <p>
+     * This returns the raw value of the field, see {@link AttitudeTargetTypemask}.
+     */
+    public final int typeMask() {
+        return readUint8(36);
+    }
+}
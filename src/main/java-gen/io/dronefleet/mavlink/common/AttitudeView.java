@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Attitude} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AttitudeView extends PayloadView<AttitudeView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Roll angle (-pi..+pi) 
+     */
+    public final float roll() {
+        return readFloat(4);
+    }
+
+    /**
+     * Pitch angle (-pi..+pi) 
+     */
+    public final float pitch() {
+        return readFloat(8);
+    }
+
+    /**
+     * Yaw angle (-pi..+pi) 
+     */
+    public final float yaw() {
+        return readFloat(12);
+    }
+
+    /**
+     * Roll angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(16);
+    }
+
+    /**
+     * Pitch angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(20);
+    }
+
+    /**
+     * Yaw angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(24);
+    }
+}
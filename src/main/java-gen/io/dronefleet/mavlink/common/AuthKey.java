@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 119,
         description = "Emit an encrypted signature / key identifying this system. PLEASE NOTE: This protocol has been kept simple, so transmitting the key requires an encrypted channel for true safety."
 )
-public final class AuthKey {
+public final class AuthKey implements JsonWritable {
     private final String key;
 
     private AuthKey(String key) {
@@ -61,6 +63,13 @@ public final class AuthKey {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("key").value(this.key);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AuthKey{key=" + key + "}";
@@ -0,0 +1,17 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link AuthKey} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AuthKeyView extends PayloadView<AuthKeyView> {
+    /**
+     * key 
+     */
+    public final String key() {
+        return readString(0, 32);
+    }
+}
@@ -3,10 +3,15 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -32,14 +37,14 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class AutopilotStateForGimbalDevice {
+public final class AutopilotStateForGimbalDevice implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
 
     private final BigInteger timeBootUs;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final long qEstimatedDelayUs;
 
@@ -67,7 +72,7 @@ public final class AutopilotStateForGimbalDevice {
         this.targetSystem = targetSystem;
         this.targetComponent = targetComponent;
         this.timeBootUs = timeBootUs;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.qEstimatedDelayUs = qEstimatedDelayUs;
         this.vx = vx;
         this.vy = vy;
@@ -137,6 +142,25 @@ public final class AutopilotStateForGimbalDevice {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Estimated delay of the attitude data. 0 if unknown. 
      */
@@ -289,6 +313,25 @@ public final class AutopilotStateForGimbalDevice {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("timeBootUs").value(this.timeBootUs);
+        writer.name("q").value(this.q);
+        writer.name("qEstimatedDelayUs").value(this.qEstimatedDelayUs);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("vEstimatedDelayUs").value(this.vEstimatedDelayUs);
+        writer.name("feedForwardAngularVelocityZ").value(this.feedForwardAngularVelocityZ);
+        writer.name("estimatorStatus").value(this.estimatorStatus);
+        writer.name("landedState").value(this.landedState);
+        writer.name("angularVelocityZ").value(this.angularVelocityZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AutopilotStateForGimbalDevice{targetSystem=" + targetSystem
@@ -372,6 +415,15 @@ public final class AutopilotStateForGimbalDevice {
             return this;
         }
 
+        /**
+         * Timestamp (time since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeBootUs(long timeBootUs) {
+            return timeBootUs(UnsignedLongs.toBigInteger(timeBootUs));
+        }
+
         /**
          * Quaternion components of autopilot attitude: w, x, y, z (1 0 0 0 is the null-rotation, Hamilton 
          * convention). 
@@ -387,6 +439,14 @@ public final class AutopilotStateForGimbalDevice {
             return this;
         }
 
+        /**
+         * Quaternion components of autopilot attitude: w, x, y, z (1 0 0 0 is the null-rotation, Hamilton 
+         * convention). 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Estimated delay of the attitude data. 0 if unknown. 
          */
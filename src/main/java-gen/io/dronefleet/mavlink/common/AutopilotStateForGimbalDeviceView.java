@@ -0,0 +1,110 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link AutopilotStateForGimbalDevice} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class AutopilotStateForGimbalDeviceView extends PayloadView<AutopilotStateForGimbalDeviceView> {
+    /**
+     * Timestamp (time since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeBootUs() {
+        return readInt64(0);
+    }
+
+    /**
+     * Quaternion components of autopilot attitude: w, x, y, z (1 0 0 0 is the null-rotation, Hamilton 
+     * convention). 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * Estimated delay of the attitude data. 0 if unknown. 
+     */
+    public final long qEstimatedDelayUs() {
+        return readUint32(24);
+    }
+
+    /**
+     * X Speed in NED (North, East, Down). NAN if unknown. 
+     */
+    public final float vx() {
+        return readFloat(28);
+    }
+
+    /**
+     * Y Speed in NED (North, East, Down). NAN if unknown. 
+     */
+    public final float vy() {
+        return readFloat(32);
+    }
+
+    /**
+     * Z Speed in NED (North, East, Down). NAN if unknown. 
+     */
+    public final float vz() {
+        return readFloat(36);
+    }
+
+    /**
+     * Estimated delay of the speed data. 0 if unknown. 
+     */
+    public final long vEstimatedDelayUs() {
+        return readUint32(40);
+    }
+
+    /**
+     * Feed forward Z component of angular velocity (positive: yawing to the right). NaN to be 
+     * ignored. This is to indicate if the autopilot is actively yawing. 
+     */
+    public final float feedForwardAngularVelocityZ() {
+        return readFloat(44);
+    }
+
+    /**
+     * Bitmap indicating which estimator outputs are valid. 
+     * <p>
+     * This returns the raw value of the field, see {@link EstimatorStatusFlags}.
+     */
+    public final int estimatorStatus() {
+        return readUint16(48);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(50);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(51);
+    }
+
+    /**
+     * The landed state. Is set to MAV_LANDED_STATE_UNDEFINED if landed state is unknown. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavLandedState}.
+     */
+    public final int landedState() {
+        return readUint8(52);
+    }
+
+    /**
+     * Z component of angular velocity in NED (North, East, Down). NaN if unknown. 
+     */
+    public final float angularVelocityZ() {
+        return readFloat(53);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -21,7 +24,7 @@ import java.util.Objects;
         crc = 178,
         description = "Version and capability of autopilot software. This should be emitted in response to a request with MAV_CMD_REQUEST_MESSAGE."
 )
-public final class AutopilotVersion {
+public final class AutopilotVersion implements JsonWritable {
     private final EnumValue<MavProtocolCapability> capabilities;
 
     private final long flightSwVersion;
@@ -268,6 +271,24 @@ public final class AutopilotVersion {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("capabilities").value(this.capabilities);
+        writer.name("flightSwVersion").value(this.flightSwVersion);
+        writer.name("middlewareSwVersion").value(this.middlewareSwVersion);
+        writer.name("osSwVersion").value(this.osSwVersion);
+        writer.name("boardVersion").value(this.boardVersion);
+        writer.name("flightCustomVersion").value(this.flightCustomVersion);
+        writer.name("middlewareCustomVersion").value(this.middlewareCustomVersion);
+        writer.name("osCustomVersion").value(this.osCustomVersion);
+        writer.name("vendorId").value(this.vendorId);
+        writer.name("productId").value(this.productId);
+        writer.name("uid").value(this.uid);
+        writer.name("uid2").value(this.uid2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "AutopilotVersion{capabilities=" + capabilities
@@ -484,6 +505,15 @@ public final class AutopilotVersion {
             return this;
         }
 
+        /**
+         * UID if provided by hardware (see uid2) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder uid(long uid) {
+            return uid(UnsignedLongs.toBigInteger(uid));
+        }
+
         /**
          * UID if provided by hardware (supersedes the uid field. If this is non-zero, use this field, 
          * otherwise use uid) 
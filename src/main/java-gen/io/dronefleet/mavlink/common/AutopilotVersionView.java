@@ -0,0 +1,105 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link AutopilotVersion} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AutopilotVersionView extends PayloadView<AutopilotVersionView> {
+    /**
+     * Bitmap of capabilities 
+     * <p>
+     * This returns the raw value of the field, see {@link MavProtocolCapability}.
+     */
+    public final int capabilities() {
+        return readInt32(0);
+    }
+
+    /**
+     * UID if provided by hardware (see uid2) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long uid() {
+        return readInt64(8);
+    }
+
+    /**
+     * Firmware version number 
+     */
+    public final long flightSwVersion() {
+        return readUint32(16);
+    }
+
+    /**
+     * Middleware version number 
+     */
+    public final long middlewareSwVersion() {
+        return readUint32(20);
+    }
+
+    /**
+     * Operating system version number 
+     */
+    public final long osSwVersion() {
+        return readUint32(24);
+    }
+
+    /**
+     * HW / board version (last 8 bits should be silicon ID, if any). The first 16 bits of this field 
+     * specify https://github.com/PX4/PX4-Bootloader/blob/master/board_types.txt 
+     */
+    public final long boardVersion() {
+        return readUint32(28);
+    }
+
+    /**
+     * ID of the board vendor 
+     */
+    public final int vendorId() {
+        return readUint16(32);
+    }
+
+    /**
+     * ID of the product 
+     */
+    public final int productId() {
+        return readUint16(34);
+    }
+
+    /**
+     * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique 
+     * identifier, but should allow to identify the commit using the main version number even for very 
+     * large code bases. 
+     */
+    public final int flightCustomVersion(int index) {
+        return readUint8(elementPosition(36, 1, 8, index));
+    }
+
+    /**
+     * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique 
+     * identifier, but should allow to identify the commit using the main version number even for very 
+     * large code bases. 
+     */
+    public final int middlewareCustomVersion(int index) {
+        return readUint8(elementPosition(44, 1, 8, index));
+    }
+
+    /**
+     * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique 
+     * identifier, but should allow to identify the commit using the main version number even for very 
+     * large code bases. 
+     */
+    public final int osCustomVersion(int index) {
+        return readUint8(elementPosition(52, 1, 8, index));
+    }
+
+    /**
+     * UID if provided by hardware (supersedes the uid field. If this is non-zero, use this field, 
+     * otherwise use uid) 
+     */
+    public final int uid2(int index) {
+        return readUint8(elementPosition(60, 1, 18, index));
+    }
+}
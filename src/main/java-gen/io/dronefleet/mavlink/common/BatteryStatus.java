@@ -3,8 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.IntArrayList;
 import java.lang.Enum;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -22,7 +26,7 @@ import java.util.Objects;
         crc = 154,
         description = "Battery information. Updates GCS with flight controller battery status. Smart batteries also use this message, but may additionally send SMART_BATTERY_INFO."
 )
-public final class BatteryStatus {
+public final class BatteryStatus implements JsonWritable {
     private final int id;
 
     private final EnumValue<MavBatteryFunction> batteryFunction;
@@ -31,7 +35,7 @@ public final class BatteryStatus {
 
     private final int temperature;
 
-    private final List<Integer> voltages;
+    private final IntArrayList voltages;
 
     private final int currentBattery;
 
@@ -45,7 +49,7 @@ public final class BatteryStatus {
 
     private final EnumValue<MavBatteryChargeState> chargeState;
 
-    private final List<Integer> voltagesExt;
+    private final IntArrayList voltagesExt;
 
     private final EnumValue<MavBatteryMode> mode;
 
@@ -61,14 +65,14 @@ public final class BatteryStatus {
         this.batteryFunction = batteryFunction;
         this.type = type;
         this.temperature = temperature;
-        this.voltages = voltages;
+        this.voltages = IntArrayList.copyOf(voltages);
         this.currentBattery = currentBattery;
         this.currentConsumed = currentConsumed;
         this.energyConsumed = energyConsumed;
         this.batteryRemaining = batteryRemaining;
         this.timeRemaining = timeRemaining;
         this.chargeState = chargeState;
-        this.voltagesExt = voltagesExt;
+        this.voltagesExt = IntArrayList.copyOf(voltagesExt);
         this.mode = mode;
         this.faultBitmask = faultBitmask;
     }
@@ -151,6 +155,25 @@ public final class BatteryStatus {
         return this.voltages;
     }
 
+    /**
+     * Returns a copy of {@link #voltages()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] voltagesArray() {
+        return this.voltages != null ? this.voltages.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #voltages()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int voltages(int index) {
+        if (index < 0 || index >= 10) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.voltages != null && index < this.voltages.size() ? this.voltages.getInt(index) : 0;
+    }
+
     /**
      * Battery current, -1: autopilot does not measure the current 
      */
@@ -249,6 +272,25 @@ public final class BatteryStatus {
         return this.voltagesExt;
     }
 
+    /**
+     * Returns a copy of {@link #voltagesExt()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] voltagesExtArray() {
+        return this.voltagesExt != null ? this.voltagesExt.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #voltagesExt()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int voltagesExt(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.voltagesExt != null && index < this.voltagesExt.size() ? this.voltagesExt.getInt(index) : 0;
+    }
+
     /**
      * Battery mode. Default (0) is that battery mode reporting is not supported or battery is in 
      * normal-use mode. 
@@ -322,6 +364,26 @@ public final class BatteryStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("id").value(this.id);
+        writer.name("batteryFunction").value(this.batteryFunction);
+        writer.name("type").value(this.type);
+        writer.name("temperature").value(this.temperature);
+        writer.name("voltages").value(this.voltages);
+        writer.name("currentBattery").value(this.currentBattery);
+        writer.name("currentConsumed").value(this.currentConsumed);
+        writer.name("energyConsumed").value(this.energyConsumed);
+        writer.name("batteryRemaining").value(this.batteryRemaining);
+        writer.name("timeRemaining").value(this.timeRemaining);
+        writer.name("chargeState").value(this.chargeState);
+        writer.name("voltagesExt").value(this.voltagesExt);
+        writer.name("mode").value(this.mode);
+        writer.name("faultBitmask").value(this.faultBitmask);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "BatteryStatus{id=" + id
@@ -486,6 +548,19 @@ public final class BatteryStatus {
             return this;
         }
 
+        /**
+         * Battery voltage of cells 1 to 10 (see voltages_ext for cells 11-14). Cells in this field above 
+         * the valid cell count for this battery should have the UINT16_MAX value. If individual cell 
+         * voltages are unknown or not measured for this battery, then the overall battery voltage should 
+         * be filled in cell 0, with all others set to UINT16_MAX. If the voltage of the battery is greater 
+         * than (UINT16_MAX - 1), then cell 0 should be set to (UINT16_MAX - 1), and cell 1 to the remaining 
+         * voltage. This can be extended to multiple cells if the total voltage is greater than 2 * 
+         * (UINT16_MAX - 1). 
+         */
+        public final Builder voltages(int... voltages) {
+            return voltages(IntArrayList.of(voltages));
+        }
+
         /**
          * Battery current, -1: autopilot does not measure the current 
          */
@@ -612,6 +687,16 @@ public final class BatteryStatus {
             return this;
         }
 
+        /**
+         * Battery voltages for cells 11 to 14. Cells above the valid cell count for this battery should 
+         * have a value of 0, where zero indicates not supported (note, this is different than for the 
+         * voltages field and allows empty byte truncation). If the measured value is 0 then 1 should be 
+         * sent instead. 
+         */
+        public final Builder voltagesExt(int... voltagesExt) {
+            return voltagesExt(IntArrayList.of(voltagesExt));
+        }
+
         /**
          * Battery mode. Default (0) is that battery mode reporting is not supported or battery is in 
          * normal-use mode. 
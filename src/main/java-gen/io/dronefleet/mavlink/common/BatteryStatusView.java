@@ -0,0 +1,130 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link BatteryStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class BatteryStatusView extends PayloadView<BatteryStatusView> {
+    /**
+     * Consumed charge, -1: autopilot does not provide consumption estimate 
+     */
+    public final int currentConsumed() {
+        return readInt32(0);
+    }
+
+    /**
+     * Consumed energy, -1: autopilot does not provide energy consumption estimate 
+     */
+    public final int energyConsumed() {
+        return readInt32(4);
+    }
+
+    /**
+     * Temperature of the battery. INT16_MAX for unknown temperature. 
+     */
+    public final int temperature() {
+        return readInt16(8);
+    }
+
+    /**
+     * Battery voltage of cells 1 to 10 (see voltages_ext for cells 11-14). Cells in this field above 
+     * the valid cell count for this battery should have the UINT16_MAX value. If individual cell 
+     * voltages are unknown or not measured for this battery, then the overall battery voltage should 
+     * be filled in cell 0, with all others set to UINT16_MAX. If the voltage of the battery is greater 
+     * than (UINT16_MAX - 1), then cell 0 should be set to (UINT16_MAX - 1), and cell 1 to the remaining 
+     * voltage. This can be extended to multiple cells if the total voltage is greater than 2 * 
+     * (UINT16_MAX - 1). 
+     */
+    public final int voltages(int index) {
+        return readUint16(elementPosition(10, 2, 10, index));
+    }
+
+    /**
+     * Battery current, -1: autopilot does not measure the current 
+     */
+    public final int currentBattery() {
+        return readInt16(30);
+    }
+
+    /**
+     * Battery ID 
+     */
+    public final int id() {
+        return readUint8(32);
+    }
+
+    /**
+     * Function of the battery 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryFunction}.
+     */
+    public final int batteryFunction() {
+        return readUint8(33);
+    }
+
+    /**
+     * Type (chemistry) of the battery 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryType}.
+     */
+    public final int type() {
+        return readUint8(34);
+    }
+
+    /**
+     * Remaining battery energy. Values: [0-100], -1: autopilot does not estimate the remaining 
+     * battery. 
+     */
+    public final int batteryRemaining() {
+        return readInt8(35);
+    }
+
+    /**
+     * Remaining battery time, 0: autopilot does not provide remaining battery time estimate 
+     */
+    public final int timeRemaining() {
+        return readInt32(36);
+    }
+
+    /**
+     * State for extent of discharge, provided by autopilot for warning or external reactions 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryChargeState}.
+     */
+    public final int chargeState() {
+        return readUint8(40);
+    }
+
+    /**
+     * Battery voltages for cells 11 to 14. Cells above the valid cell count for this battery should 
+     * have a value of 0, where zero indicates not supported (note, this is different than for the 
+     * voltages field and allows empty byte truncation). If the measured value is 0 then 1 should be 
+     * sent instead. 
+     */
+    public final int voltagesExt(int index) {
+        return readUint16(elementPosition(41, 2, 4, index));
+    }
+
+    /**
+     * Battery mode. Default (0) is that battery mode reporting is not supported or battery is in 
+     * normal-use mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryMode}.
+     */
+    public final int mode() {
+        return readUint8(49);
+    }
+
+    /**
+     * Fault/health indications. These should be set when charge_state is 
+     * MAV_BATTERY_CHARGE_STATE_FAILED or MAV_BATTERY_CHARGE_STATE_UNHEALTHY (if not, fault 
+     * reporting is not supported). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryFault}.
+     */
+    public final int faultBitmask() {
+        return readInt32(50);
+    }
+}
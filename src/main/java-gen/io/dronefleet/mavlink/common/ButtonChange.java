@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 131,
         description = "Report button state change."
 )
-public final class ButtonChange {
+public final class ButtonChange implements JsonWritable {
     private final long timeBootMs;
 
     private final long lastChangeMs;
@@ -93,6 +95,15 @@ public final class ButtonChange {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("lastChangeMs").value(this.lastChangeMs);
+        writer.name("state").value(this.state);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ButtonChange{timeBootMs=" + timeBootMs
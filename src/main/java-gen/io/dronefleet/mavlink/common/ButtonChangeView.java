@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ButtonChange} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ButtonChangeView extends PayloadView<ButtonChangeView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Time of last change of button state. 
+     */
+    public final long lastChangeMs() {
+        return readUint32(4);
+    }
+
+    /**
+     * Bitmap for state of buttons. 
+     */
+    public final int state() {
+        return readUint8(8);
+    }
+}
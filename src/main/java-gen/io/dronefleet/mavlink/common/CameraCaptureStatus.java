@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 12,
         description = "Information about the status of a capture. Can be requested with a MAV_CMD_REQUEST_MESSAGE command."
 )
-public final class CameraCaptureStatus {
+public final class CameraCaptureStatus implements JsonWritable {
     private final long timeBootMs;
 
     private final int imageStatus;
@@ -167,6 +169,19 @@ public final class CameraCaptureStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("imageStatus").value(this.imageStatus);
+        writer.name("videoStatus").value(this.videoStatus);
+        writer.name("imageInterval").value(this.imageInterval);
+        writer.name("recordingTimeMs").value(this.recordingTimeMs);
+        writer.name("availableCapacity").value(this.availableCapacity);
+        writer.name("imageCount").value(this.imageCount);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraCaptureStatus{timeBootMs=" + timeBootMs
@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraCaptureStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraCaptureStatusView extends PayloadView<CameraCaptureStatusView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Image capture interval 
+     */
+    public final float imageInterval() {
+        return readFloat(4);
+    }
+
+    /**
+     * Elapsed time since recording started (0: Not supported/available). A GCS should compute 
+     * recording time and use non-zero values of this field to correct any discrepancy. 
+     */
+    public final long recordingTimeMs() {
+        return readUint32(8);
+    }
+
+    /**
+     * Available storage capacity. 
+     */
+    public final float availableCapacity() {
+        return readFloat(12);
+    }
+
+    /**
+     * Current status of image capturing (0: idle, 1: capture in progress, 2: interval set but idle, 3: 
+     * interval set and capture in progress) 
+     */
+    public final int imageStatus() {
+        return readUint8(16);
+    }
+
+    /**
+     * Current status of video capturing (0: idle, 1: capture in progress) 
+     */
+    public final int videoStatus() {
+        return readUint8(17);
+    }
+
+    /**
+     * Total number of images captured ('forever', or until reset using MAV_CMD_STORAGE_FORMAT). 
+     */
+    public final int imageCount() {
+        return readInt32(18);
+    }
+}
@@ -3,7 +3,11 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +23,7 @@ import java.util.Objects;
         crc = 22,
         description = "Information about the field of view of a camera. Can be requested with a MAV_CMD_REQUEST_MESSAGE command."
 )
-public final class CameraFovStatus {
+public final class CameraFovStatus implements JsonWritable {
     private final long timeBootMs;
 
     private final int latCamera;
@@ -34,7 +38,7 @@ public final class CameraFovStatus {
 
     private final int altImage;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float hfov;
 
@@ -49,7 +53,7 @@ public final class CameraFovStatus {
         this.latImage = latImage;
         this.lonImage = lonImage;
         this.altImage = altImage;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.hfov = hfov;
         this.vfov = vfov;
     }
@@ -168,6 +172,25 @@ public final class CameraFovStatus {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Horizontal field of view (NaN if unknown). 
      */
@@ -226,6 +249,22 @@ public final class CameraFovStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("latCamera").value(this.latCamera);
+        writer.name("lonCamera").value(this.lonCamera);
+        writer.name("altCamera").value(this.altCamera);
+        writer.name("latImage").value(this.latImage);
+        writer.name("lonImage").value(this.lonImage);
+        writer.name("altImage").value(this.altImage);
+        writer.name("q").value(this.q);
+        writer.name("hfov").value(this.hfov);
+        writer.name("vfov").value(this.vfov);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraFovStatus{timeBootMs=" + timeBootMs
@@ -375,6 +414,13 @@ public final class CameraFovStatus {
             return this;
         }
 
+        /**
+         * Quaternion of camera orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Horizontal field of view (NaN if unknown). 
          */
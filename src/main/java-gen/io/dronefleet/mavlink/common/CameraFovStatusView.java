@@ -0,0 +1,82 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraFovStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraFovStatusView extends PayloadView<CameraFovStatusView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude of camera (INT32_MAX if unknown). 
+     */
+    public final int latCamera() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude of camera (INT32_MAX if unknown). 
+     */
+    public final int lonCamera() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude (MSL) of camera (INT32_MAX if unknown). 
+     */
+    public final int altCamera() {
+        return readInt32(12);
+    }
+
+    /**
+     * Latitude of center of image (INT32_MAX if unknown, INT32_MIN if at infinity, not intersecting 
+     * with horizon). 
+     */
+    public final int latImage() {
+        return readInt32(16);
+    }
+
+    /**
+     * Longitude of center of image (INT32_MAX if unknown, INT32_MIN if at infinity, not 
+     * intersecting with horizon). 
+     */
+    public final int lonImage() {
+        return readInt32(20);
+    }
+
+    /**
+     * Altitude (MSL) of center of image (INT32_MAX if unknown, INT32_MIN if at infinity, not 
+     * intersecting with horizon). 
+     */
+    public final int altImage() {
+        return readInt32(24);
+    }
+
+    /**
+     * Quaternion of camera orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(28, 4, 4, index));
+    }
+
+    /**
+     * Horizontal field of view (NaN if unknown). 
+     */
+    public final float hfov() {
+        return readFloat(44);
+    }
+
+    /**
+     * Vertical field of view (NaN if unknown). 
+     */
+    public final float vfov() {
+        return readFloat(48);
+    }
+}
@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -32,7 +37,7 @@ import java.util.Objects;
                         + "        set to -1 to send the message for the sequence number in param 2 and all the following sequence numbers,\n"
                         + "        set to the sequence number of the final message in the range."
 )
-public final class CameraImageCaptured {
+public final class CameraImageCaptured implements JsonWritable {
     private final long timeBootMs;
 
     private final BigInteger timeUtc;
@@ -47,7 +52,7 @@ public final class CameraImageCaptured {
 
     private final int relativeAlt;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final int imageIndex;
 
@@ -65,7 +70,7 @@ public final class CameraImageCaptured {
         this.lon = lon;
         this.alt = alt;
         this.relativeAlt = relativeAlt;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.imageIndex = imageIndex;
         this.captureResult = captureResult;
         this.fileUrl = fileUrl;
@@ -180,6 +185,25 @@ public final class CameraImageCaptured {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Zero based index of this image (i.e. a new image will have index {@link io.dronefleet.mavlink.common.CameraCaptureStatus CAMERA_CAPTURE_STATUS}.image 
      * count -1) 
@@ -257,6 +281,23 @@ public final class CameraImageCaptured {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("timeUtc").value(this.timeUtc);
+        writer.name("cameraId").value(this.cameraId);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("relativeAlt").value(this.relativeAlt);
+        writer.name("q").value(this.q);
+        writer.name("imageIndex").value(this.imageIndex);
+        writer.name("captureResult").value(this.captureResult);
+        writer.name("fileUrl").value(this.fileUrl);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraImageCaptured{timeBootMs=" + timeBootMs
@@ -321,6 +362,15 @@ public final class CameraImageCaptured {
             return this;
         }
 
+        /**
+         * Timestamp (time since UNIX epoch) in UTC. 0 for unknown. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUtc(long timeUtc) {
+            return timeUtc(UnsignedLongs.toBigInteger(timeUtc));
+        }
+
         /**
          * Deprecated/unused. Component IDs are used to differentiate multiple cameras. 
          */
@@ -404,6 +454,13 @@ public final class CameraImageCaptured {
             return this;
         }
 
+        /**
+         * Quaternion of camera orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Zero based index of this image (i.e. a new image will have index {@link io.dronefleet.mavlink.common.CameraCaptureStatus CAMERA_CAPTURE_STATUS}.image 
          * count -1) 
@@ -0,0 +1,91 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link CameraImageCaptured} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraImageCapturedView extends PayloadView<CameraImageCapturedView> {
+    /**
+     * Timestamp (time since UNIX epoch) in UTC. 0 for unknown. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUtc() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(8);
+    }
+
+    /**
+     * Latitude where image was taken 
+     */
+    public final int lat() {
+        return readInt32(12);
+    }
+
+    /**
+     * Longitude where capture was taken 
+     */
+    public final int lon() {
+        return readInt32(16);
+    }
+
+    /**
+     * Altitude (MSL) where image was taken 
+     */
+    public final int alt() {
+        return readInt32(20);
+    }
+
+    /**
+     * Altitude above ground 
+     */
+    public final int relativeAlt() {
+        return readInt32(24);
+    }
+
+    /**
+     * Quaternion of camera orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(28, 4, 4, index));
+    }
+
+    /**
+     * Zero based index of this image (i.e. a new image will have index {@link io.dronefleet.mavlink.common.CameraCaptureStatus CAMERA_CAPTURE_STATUS}.image 
+     * count -1) 
+     */
+    public final int imageIndex() {
+        return readInt32(44);
+    }
+
+    /**
+     * Deprecated/unused. Component IDs are used to differentiate multiple cameras. 
+     */
+    public final int cameraId() {
+        return readUint8(48);
+    }
+
+    /**
+     * Boolean indicating success (1) or failure (0) while capturing this image. 
+     */
+    public final int captureResult() {
+        return readInt8(49);
+    }
+
+    /**
+     * URL of image taken. Either local storage or http://foo.jpg if camera provides an HTTP 
+     * interface. 
+     */
+    public final String fileUrl() {
+        return readString(50, 205);
+    }
+}
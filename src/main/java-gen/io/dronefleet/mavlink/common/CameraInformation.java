@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 92,
         description = "Information about a camera. Can be requested with a MAV_CMD_REQUEST_MESSAGE command."
 )
-public final class CameraInformation {
+public final class CameraInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final byte[] vendorName;
@@ -278,6 +280,25 @@ public final class CameraInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("vendorName").value(this.vendorName);
+        writer.name("modelName").value(this.modelName);
+        writer.name("firmwareVersion").value(this.firmwareVersion);
+        writer.name("focalLength").value(this.focalLength);
+        writer.name("sensorSizeH").value(this.sensorSizeH);
+        writer.name("sensorSizeV").value(this.sensorSizeV);
+        writer.name("resolutionH").value(this.resolutionH);
+        writer.name("resolutionV").value(this.resolutionV);
+        writer.name("lensId").value(this.lensId);
+        writer.name("flags").value(this.flags);
+        writer.name("camDefinitionVersion").value(this.camDefinitionVersion);
+        writer.name("camDefinitionUri").value(this.camDefinitionUri);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraInformation{timeBootMs=" + timeBootMs
@@ -0,0 +1,108 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link CameraInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraInformationView extends PayloadView<CameraInformationView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Version of the camera firmware, encoded as: (Dev &amp; 0xff) &lt;&lt; 24 | (Patch &amp; 0xff) &lt;&lt; 16 | (Minor &amp; 
+     * 0xff) &lt;&lt; 8 | (Major &amp; 0xff) 
+     */
+    public final long firmwareVersion() {
+        return readUint32(4);
+    }
+
+    /**
+     * Focal length 
+     */
+    public final float focalLength() {
+        return readFloat(8);
+    }
+
+    /**
+     * Image sensor size horizontal 
+     */
+    public final float sensorSizeH() {
+        return readFloat(12);
+    }
+
+    /**
+     * Image sensor size vertical 
+     */
+    public final float sensorSizeV() {
+        return readFloat(16);
+    }
+
+    /**
+     * Bitmap of camera capability flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraCapFlags}.
+     */
+    public final int flags() {
+        return readInt32(20);
+    }
+
+    /**
+     * Horizontal image resolution 
+     */
+    public final int resolutionH() {
+        return readUint16(24);
+    }
+
+    /**
+     * Vertical image resolution 
+     */
+    public final int resolutionV() {
+        return readUint16(26);
+    }
+
+    /**
+     * Camera definition version (iteration) 
+     */
+    public final int camDefinitionVersion() {
+        return readUint16(28);
+    }
+
+    /**
+     * Name of the camera vendor 
+     */
+    public final int vendorName(int index) {
+        return readUint8(elementPosition(30, 1, 32, index));
+    }
+
+    /**
+     * Name of the camera model 
+     */
+    public final int modelName(int index) {
+        return readUint8(elementPosition(62, 1, 32, index));
+    }
+
+    /**
+     * Reserved for a lens ID 
+     */
+    public final int lensId() {
+        return readUint8(94);
+    }
+
+    /**
+     * Camera definition URI (if any, otherwise only basic functions will be available). HTTP- 
+     * (http://) and MAVLink FTP- (mavlinkftp://) formatted URIs are allowed (and both must be 
+     * supported by any GCS that implements the Camera Protocol). The definition file may be xz 
+     * compressed, which will be indicated by the file extension .xml.xz (a GCS that implements the 
+     * protocol must support decompressing the file). The string needs to be zero terminated. 
+     */
+    public final String camDefinitionUri() {
+        return readString(95, 140);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 146,
         description = "Settings of a camera. Can be requested with a MAV_CMD_REQUEST_MESSAGE command."
 )
-public final class CameraSettings {
+public final class CameraSettings implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<CameraMode> modeId;
@@ -117,6 +119,16 @@ public final class CameraSettings {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("modeId").value(this.modeId);
+        writer.name("zoomlevel").value(this.zoomlevel);
+        writer.name("focuslevel").value(this.focuslevel);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraSettings{timeBootMs=" + timeBootMs
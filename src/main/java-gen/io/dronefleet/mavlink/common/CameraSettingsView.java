@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraSettings} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraSettingsView extends PayloadView<CameraSettingsView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Camera mode 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraMode}.
+     */
+    public final int modeId() {
+        return readUint8(4);
+    }
+
+    /**
+     * Current zoom level as a percentage of the full range (0.0 to 100.0, NaN if not known) 
+     */
+    public final float zoomlevel() {
+        return readFloat(5);
+    }
+
+    /**
+     * Current focus level as a percentage of the full range (0.0 to 100.0, NaN if not known) 
+     */
+    public final float focuslevel() {
+        return readFloat(9);
+    }
+}
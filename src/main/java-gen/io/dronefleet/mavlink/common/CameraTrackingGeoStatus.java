@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 18,
         description = "Camera tracking status, sent while in active tracking. Use MAV_CMD_SET_MESSAGE_INTERVAL to define message interval."
 )
-public final class CameraTrackingGeoStatus {
+public final class CameraTrackingGeoStatus implements JsonWritable {
     private final EnumValue<CameraTrackingStatusFlags> trackingStatus;
 
     private final int lat;
@@ -272,6 +274,25 @@ public final class CameraTrackingGeoStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("trackingStatus").value(this.trackingStatus);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("hAcc").value(this.hAcc);
+        writer.name("vAcc").value(this.vAcc);
+        writer.name("velN").value(this.velN);
+        writer.name("velE").value(this.velE);
+        writer.name("velD").value(this.velD);
+        writer.name("velAcc").value(this.velAcc);
+        writer.name("dist").value(this.dist);
+        writer.name("hdg").value(this.hdg);
+        writer.name("hdgAcc").value(this.hdgAcc);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraTrackingGeoStatus{trackingStatus=" + trackingStatus
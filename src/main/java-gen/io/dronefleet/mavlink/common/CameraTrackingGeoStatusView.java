@@ -0,0 +1,102 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraTrackingGeoStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraTrackingGeoStatusView extends PayloadView<CameraTrackingGeoStatusView> {
+    /**
+     * Latitude of tracked object 
+     */
+    public final int lat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude of tracked object 
+     */
+    public final int lon() {
+        return readInt32(4);
+    }
+
+    /**
+     * Altitude of tracked object(AMSL, WGS84) 
+     */
+    public final float alt() {
+        return readFloat(8);
+    }
+
+    /**
+     * Horizontal accuracy. NAN if unknown 
+     */
+    public final float hAcc() {
+        return readFloat(12);
+    }
+
+    /**
+     * Vertical accuracy. NAN if unknown 
+     */
+    public final float vAcc() {
+        return readFloat(16);
+    }
+
+    /**
+     * North velocity of tracked object. NAN if unknown 
+     */
+    public final float velN() {
+        return readFloat(20);
+    }
+
+    /**
+     * East velocity of tracked object. NAN if unknown 
+     */
+    public final float velE() {
+        return readFloat(24);
+    }
+
+    /**
+     * Down velocity of tracked object. NAN if unknown 
+     */
+    public final float velD() {
+        return readFloat(28);
+    }
+
+    /**
+     * Velocity accuracy. NAN if unknown 
+     */
+    public final float velAcc() {
+        return readFloat(32);
+    }
+
+    /**
+     * Distance between camera and tracked object. NAN if unknown 
+     */
+    public final float dist() {
+        return readFloat(36);
+    }
+
+    /**
+     * Heading in radians, in NED. NAN if unknown 
+     */
+    public final float hdg() {
+        return readFloat(40);
+    }
+
+    /**
+     * Accuracy of heading, in NED. NAN if unknown 
+     */
+    public final float hdgAcc() {
+        return readFloat(44);
+    }
+
+    /**
+     * Current tracking status 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraTrackingStatusFlags}.
+     */
+    public final int trackingStatus() {
+        return readUint8(48);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 126,
         description = "Camera tracking status, sent while in active tracking. Use MAV_CMD_SET_MESSAGE_INTERVAL to define message interval."
 )
-public final class CameraTrackingImageStatus {
+public final class CameraTrackingImageStatus implements JsonWritable {
     private final EnumValue<CameraTrackingStatusFlags> trackingStatus;
 
     private final EnumValue<CameraTrackingMode> trackingMode;
@@ -229,6 +231,22 @@ public final class CameraTrackingImageStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("trackingStatus").value(this.trackingStatus);
+        writer.name("trackingMode").value(this.trackingMode);
+        writer.name("targetData").value(this.targetData);
+        writer.name("pointX").value(this.pointX);
+        writer.name("pointY").value(this.pointY);
+        writer.name("radius").value(this.radius);
+        writer.name("recTopX").value(this.recTopX);
+        writer.name("recTopY").value(this.recTopY);
+        writer.name("recBottomX").value(this.recBottomX);
+        writer.name("recBottomY").value(this.recBottomY);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraTrackingImageStatus{trackingStatus=" + trackingStatus
@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraTrackingImageStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraTrackingImageStatusView extends PayloadView<CameraTrackingImageStatusView> {
+    /**
+     * Current tracked point x value if CAMERA_TRACKING_MODE_POINT (normalized 0..1, 0 is left, 1 is 
+     * right), NAN if unknown 
+     */
+    public final float pointX() {
+        return readFloat(0);
+    }
+
+    /**
+     * Current tracked point y value if CAMERA_TRACKING_MODE_POINT (normalized 0..1, 0 is top, 1 is 
+     * bottom), NAN if unknown 
+     */
+    public final float pointY() {
+        return readFloat(4);
+    }
+
+    /**
+     * Current tracked radius if CAMERA_TRACKING_MODE_POINT (normalized 0..1, 0 is image left, 1 is 
+     * image right), NAN if unknown 
+     */
+    public final float radius() {
+        return readFloat(8);
+    }
+
+    /**
+     * Current tracked rectangle top x value if CAMERA_TRACKING_MODE_RECTANGLE (normalized 0..1, 
+     * 0 is left, 1 is right), NAN if unknown 
+     */
+    public final float recTopX() {
+        return readFloat(12);
+    }
+
+    /**
+     * Current tracked rectangle top y value if CAMERA_TRACKING_MODE_RECTANGLE (normalized 0..1, 
+     * 0 is top, 1 is bottom), NAN if unknown 
+     */
+    public final float recTopY() {
+        return readFloat(16);
+    }
+
+    /**
+     * Current tracked rectangle bottom x value if CAMERA_TRACKING_MODE_RECTANGLE (normalized 
+     * 0..1, 0 is left, 1 is right), NAN if unknown 
+     */
+    public final float recBottomX() {
+        return readFloat(20);
+    }
+
+    /**
+     * Current tracked rectangle bottom y value if CAMERA_TRACKING_MODE_RECTANGLE (normalized 
+     * 0..1, 0 is top, 1 is bottom), NAN if unknown 
+     */
+    public final float recBottomY() {
+        return readFloat(24);
+    }
+
+    /**
+     * Current tracking status 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraTrackingStatusFlags}.
+     */
+    public final int trackingStatus() {
+        return readUint8(28);
+    }
+
+    /**
+     * Current tracking mode 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraTrackingMode}.
+     */
+    public final int trackingMode() {
+        return readUint8(29);
+    }
+
+    /**
+     * Defines location of target data 
+     * <p>
+     * This returns the raw value of the field, see {@link CameraTrackingTargetData}.
+     */
+    public final int targetData() {
+        return readUint8(30);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 174,
         description = "Camera-IMU triggering and synchronisation message."
 )
-public final class CameraTrigger {
+public final class CameraTrigger implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final long seq;
@@ -79,6 +82,14 @@ public final class CameraTrigger {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("seq").value(this.seq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CameraTrigger{timeUsec=" + timeUsec
@@ -105,6 +116,17 @@ public final class CameraTrigger {
             return this;
         }
 
+        /**
+         * Timestamp for image frame (UNIX Epoch time or time since system boot). The receiving end can 
+         * infer timestamp format (since 1.1.1970 or since system boot) by checking for the magnitude of 
+         * the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Image frame sequence 
          */
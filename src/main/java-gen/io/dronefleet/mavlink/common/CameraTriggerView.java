@@ -0,0 +1,27 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CameraTrigger} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CameraTriggerView extends PayloadView<CameraTriggerView> {
+    /**
+     * Timestamp for image frame (UNIX Epoch time or time since system boot). The receiving end can 
+     * infer timestamp format (since 1.1.1970 or since system boot) by checking for the magnitude of 
+     * the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Image frame sequence 
+     */
+    public final long seq() {
+        return readUint32(8);
+    }
+}
@@ -3,8 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.IntArrayList;
 import java.lang.Enum;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -24,7 +28,7 @@ import java.util.Objects;
         crc = 8,
         description = "Modify the filter of what CAN messages to forward over the mavlink. This can be used to make CAN forwarding work well on low bandwidth links. The filtering is applied on bits 8 to 24 of the CAN id (2nd and 3rd bytes) which corresponds to the DroneCAN message ID for DroneCAN. Filters with more than 16 IDs can be constructed by sending multiple CAN_FILTER_MODIFY messages."
 )
-public final class CanFilterModify {
+public final class CanFilterModify implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -35,7 +39,7 @@ public final class CanFilterModify {
 
     private final int numIds;
 
-    private final List<Integer> ids;
+    private final IntArrayList ids;
 
     private CanFilterModify(int targetSystem, int targetComponent, int bus,
             EnumValue<CanFilterOp> operation, int numIds, List<Integer> ids) {
@@ -44,7 +48,7 @@ public final class CanFilterModify {
         this.bus = bus;
         this.operation = operation;
         this.numIds = numIds;
-        this.ids = ids;
+        this.ids = IntArrayList.copyOf(ids);
     }
 
     /**
@@ -129,6 +133,25 @@ public final class CanFilterModify {
         return this.ids;
     }
 
+    /**
+     * Returns a copy of {@link #ids()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] idsArray() {
+        return this.ids != null ? this.ids.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #ids()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int ids(int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.ids != null && index < this.ids.size() ? this.ids.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -155,6 +178,18 @@ public final class CanFilterModify {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("bus").value(this.bus);
+        writer.name("operation").value(this.operation);
+        writer.name("numIds").value(this.numIds);
+        writer.name("ids").value(this.ids);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CanFilterModify{targetSystem=" + targetSystem
@@ -279,6 +314,13 @@ public final class CanFilterModify {
             return this;
         }
 
+        /**
+         * filter IDs, length num_ids 
+         */
+        public final Builder ids(int... ids) {
+            return ids(IntArrayList.of(ids));
+        }
+
         public final CanFilterModify build() {
             return new CanFilterModify(targetSystem, targetComponent, bus, operation, numIds, ids);
         }
@@ -0,0 +1,53 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CanFilterModify} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CanFilterModifyView extends PayloadView<CanFilterModifyView> {
+    /**
+     * filter IDs, length num_ids 
+     */
+    public final int ids(int index) {
+        return readUint16(elementPosition(0, 2, 16, index));
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(32);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(33);
+    }
+
+    /**
+     * bus number 
+     */
+    public final int bus() {
+        return readUint8(34);
+    }
+
+    /**
+     * what operation to perform on the filter list. See {@link io.dronefleet.mavlink.common.CanFilterOp CAN_FILTER_OP} enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link CanFilterOp}.
+     */
+    public final int operation() {
+        return readUint8(35);
+    }
+
+    /**
+     * number of IDs in filter list 
+     */
+    public final int numIds() {
+        return readUint8(36);
+    }
+}
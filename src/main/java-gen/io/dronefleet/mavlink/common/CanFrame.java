@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 132,
         description = "A forwarded CAN frame as requested by MAV_CMD_CAN_FORWARD."
 )
-public final class CanFrame {
+public final class CanFrame implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -146,6 +148,18 @@ public final class CanFrame {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("bus").value(this.bus);
+        writer.name("len").value(this.len);
+        writer.name("id").value(this.id);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CanFrame{targetSystem=" + targetSystem
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CanFrame} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CanFrameView extends PayloadView<CanFrameView> {
+    /**
+     * Frame ID 
+     */
+    public final long id() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Bus number 
+     */
+    public final int bus() {
+        return readUint8(6);
+    }
+
+    /**
+     * Frame length 
+     */
+    public final int len() {
+        return readUint8(7);
+    }
+
+    /**
+     * Frame data 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(8, 1, 8, index));
+    }
+}
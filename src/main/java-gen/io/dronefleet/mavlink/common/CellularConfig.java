@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
                         + "        This message is re-emitted as an acknowledgement by the modem.\n"
                         + "        The message may also be explicitly requested using MAV_CMD_REQUEST_MESSAGE."
 )
-public final class CellularConfig {
+public final class CellularConfig implements JsonWritable {
     private final int enableLte;
 
     private final int enablePin;
@@ -196,6 +198,20 @@ public final class CellularConfig {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("enableLte").value(this.enableLte);
+        writer.name("enablePin").value(this.enablePin);
+        writer.name("pin").value(this.pin);
+        writer.name("newPin").value(this.newPin);
+        writer.name("apn").value(this.apn);
+        writer.name("puk").value(this.puk);
+        writer.name("roaming").value(this.roaming);
+        writer.name("response").value(this.response);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CellularConfig{enableLte=" + enableLte
@@ -0,0 +1,74 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link CellularConfig} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CellularConfigView extends PayloadView<CellularConfigView> {
+    /**
+     * Enable/disable LTE. 0: setting unchanged, 1: disabled, 2: enabled. Current setting when sent 
+     * back as a response. 
+     */
+    public final int enableLte() {
+        return readUint8(0);
+    }
+
+    /**
+     * Enable/disable PIN on the SIM card. 0: setting unchanged, 1: disabled, 2: enabled. Current 
+     * setting when sent back as a response. 
+     */
+    public final int enablePin() {
+        return readUint8(1);
+    }
+
+    /**
+     * PIN sent to the SIM card. Blank when PIN is disabled. Empty when message is sent back as a 
+     * response. 
+     */
+    public final String pin() {
+        return readString(2, 16);
+    }
+
+    /**
+     * New PIN when changing the PIN. Blank to leave it unchanged. Empty when message is sent back as a 
+     * response. 
+     */
+    public final String newPin() {
+        return readString(18, 16);
+    }
+
+    /**
+     * Name of the cellular APN. Blank to leave it unchanged. Current APN when sent back as a response. 
+     */
+    public final String apn() {
+        return readString(34, 32);
+    }
+
+    /**
+     * Required PUK code in case the user failed to authenticate 3 times with the PIN. Empty when 
+     * message is sent back as a response. 
+     */
+    public final String puk() {
+        return readString(66, 16);
+    }
+
+    /**
+     * Enable/disable roaming. 0: setting unchanged, 1: disabled, 2: enabled. Current setting when 
+     * sent back as a response. 
+     */
+    public final int roaming() {
+        return readUint8(82);
+    }
+
+    /**
+     * Message acceptance response (sent back to GS). 
+     * <p>
+     * This returns the raw value of the field, see {@link CellularConfigResponse}.
+     */
+    public final int response() {
+        return readUint8(83);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 72,
         description = "Report current used cellular network status"
 )
-public final class CellularStatus {
+public final class CellularStatus implements JsonWritable {
     private final EnumValue<CellularStatusFlag> status;
 
     private final EnumValue<CellularNetworkFailedReason> failureReason;
@@ -169,6 +171,19 @@ public final class CellularStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("status").value(this.status);
+        writer.name("failureReason").value(this.failureReason);
+        writer.name("type").value(this.type);
+        writer.name("quality").value(this.quality);
+        writer.name("mcc").value(this.mcc);
+        writer.name("mnc").value(this.mnc);
+        writer.name("lac").value(this.lac);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CellularStatus{status=" + status
@@ -0,0 +1,64 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CellularStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CellularStatusView extends PayloadView<CellularStatusView> {
+    /**
+     * Mobile country code. If unknown, set to UINT16_MAX 
+     */
+    public final int mcc() {
+        return readUint16(0);
+    }
+
+    /**
+     * Mobile network code. If unknown, set to UINT16_MAX 
+     */
+    public final int mnc() {
+        return readUint16(2);
+    }
+
+    /**
+     * Location area code. If unknown, set to 0 
+     */
+    public final int lac() {
+        return readUint16(4);
+    }
+
+    /**
+     * Cellular modem status 
+     * <p>
+     * This returns the raw value of the field, see {@link CellularStatusFlag}.
+     */
+    public final int status() {
+        return readUint8(6);
+    }
+
+    /**
+     * Failure reason when status in in CELLULAR_STATUS_FLAG_FAILED 
+     * <p>
+     * This returns the raw value of the field, see {@link CellularNetworkFailedReason}.
+     */
+    public final int failureReason() {
+        return readUint8(7);
+    }
+
+    /**
+     * Cellular network radio type: gsm, cdma, lte... 
+     * <p>
+     * This returns the raw value of the field, see {@link CellularNetworkRadioType}.
+     */
+    public final int type() {
+        return readUint8(8);
+    }
+
+    /**
+     * Signal quality in percent. If unknown, set to UINT8_MAX 
+     */
+    public final int quality() {
+        return readUint8(9);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 217,
         description = "Request to control this MAV"
 )
-public final class ChangeOperatorControl {
+public final class ChangeOperatorControl implements JsonWritable {
     private final int targetSystem;
 
     private final int controlRequest;
@@ -115,6 +117,16 @@ public final class ChangeOperatorControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("controlRequest").value(this.controlRequest);
+        writer.name("version").value(this.version);
+        writer.name("passkey").value(this.passkey);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ChangeOperatorControl{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 104,
         description = "Accept / deny control of this MAV"
 )
-public final class ChangeOperatorControlAck {
+public final class ChangeOperatorControlAck implements JsonWritable {
     private final int gcsSystemId;
 
     private final int controlRequest;
@@ -94,6 +96,15 @@ public final class ChangeOperatorControlAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("gcsSystemId").value(this.gcsSystemId);
+        writer.name("controlRequest").value(this.controlRequest);
+        writer.name("ack").value(this.ack);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ChangeOperatorControlAck{gcsSystemId=" + gcsSystemId
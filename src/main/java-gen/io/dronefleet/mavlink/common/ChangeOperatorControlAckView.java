@@ -0,0 +1,31 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ChangeOperatorControlAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ChangeOperatorControlAckView extends PayloadView<ChangeOperatorControlAckView> {
+    /**
+     * ID of the GCS this message 
+     */
+    public final int gcsSystemId() {
+        return readUint8(0);
+    }
+
+    /**
+     * 0: request control of this MAV, 1: Release control of this MAV 
+     */
+    public final int controlRequest() {
+        return readUint8(1);
+    }
+
+    /**
+     * 0: ACK, 1: NACK: Wrong passkey, 2: NACK: Unsupported passkey encryption method, 3: NACK: 
+     * Already under control 
+     */
+    public final int ack() {
+        return readUint8(2);
+    }
+}
@@ -0,0 +1,41 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ChangeOperatorControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ChangeOperatorControlView extends PayloadView<ChangeOperatorControlView> {
+    /**
+     * System the GCS requests control for 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * 0: request control of this MAV, 1: Release control of this MAV 
+     */
+    public final int controlRequest() {
+        return readUint8(1);
+    }
+
+    /**
+     * 0: key as plaintext, 1-255: future, different hashing/encryption variants. The GCS should in 
+     * general use the safest mode possible initially and then gradually move down the encryption 
+     * level if it gets a NACK message indicating an encryption mismatch. 
+     */
+    public final int version() {
+        return readUint8(2);
+    }
+
+    /**
+     * Password / Key, depending on version plaintext or encrypted. 25 or less characters, NULL 
+     * terminated. The characters may involve A-Z, a-z, 0-9, and "!?,.-" 
+     */
+    public final String passkey() {
+        return readString(3, 25);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 81,
         description = "Information about a potential collision"
 )
-public final class Collision {
+public final class Collision implements JsonWritable {
     private final EnumValue<MavCollisionSrc> src;
 
     private final long id;
@@ -169,6 +171,19 @@ public final class Collision {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("src").value(this.src);
+        writer.name("id").value(this.id);
+        writer.name("action").value(this.action);
+        writer.name("threatLevel").value(this.threatLevel);
+        writer.name("timeToMinimumDelta").value(this.timeToMinimumDelta);
+        writer.name("altitudeMinimumDelta").value(this.altitudeMinimumDelta);
+        writer.name("horizontalMinimumDelta").value(this.horizontalMinimumDelta);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Collision{src=" + src
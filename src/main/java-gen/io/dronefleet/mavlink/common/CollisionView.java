@@ -0,0 +1,64 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Collision} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CollisionView extends PayloadView<CollisionView> {
+    /**
+     * Unique identifier, domain based on src field 
+     */
+    public final long id() {
+        return readUint32(0);
+    }
+
+    /**
+     * Estimated time until collision occurs 
+     */
+    public final float timeToMinimumDelta() {
+        return readFloat(4);
+    }
+
+    /**
+     * Closest vertical distance between vehicle and object 
+     */
+    public final float altitudeMinimumDelta() {
+        return readFloat(8);
+    }
+
+    /**
+     * Closest horizontal distance between vehicle and object 
+     */
+    public final float horizontalMinimumDelta() {
+        return readFloat(12);
+    }
+
+    /**
+     * Collision data source 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCollisionSrc}.
+     */
+    public final int src() {
+        return readUint8(16);
+    }
+
+    /**
+     * Action that is being taken to avoid this collision 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCollisionAction}.
+     */
+    public final int action() {
+        return readUint8(17);
+    }
+
+    /**
+     * How concerned the aircraft is about this collision 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCollisionThreatLevel}.
+     */
+    public final int threatLevel() {
+        return readUint8(18);
+    }
+}
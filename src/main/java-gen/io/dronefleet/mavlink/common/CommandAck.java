@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 143,
         description = "Report status of a command. Includes feedback whether the command was executed. The command microservice is documented at https://mavlink.io/en/services/command.html"
 )
-public final class CommandAck {
+public final class CommandAck implements JsonWritable {
     private final EnumValue<MavCmd> command;
 
     private final EnumValue<MavResult> result;
@@ -161,6 +163,18 @@ public final class CommandAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("command").value(this.command);
+        writer.name("result").value(this.result);
+        writer.name("progress").value(this.progress);
+        writer.name("resultParam2").value(this.resultParam2);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandAck{command=" + command
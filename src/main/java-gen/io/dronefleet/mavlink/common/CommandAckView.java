@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CommandAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CommandAckView extends PayloadView<CommandAckView> {
+    /**
+     * Command ID (of acknowledged command). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command() {
+        return readUint16(0);
+    }
+
+    /**
+     * Result of command. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavResult}.
+     */
+    public final int result() {
+        return readUint8(2);
+    }
+
+    /**
+     * Also used as result_param1, it can be set with an enum containing the errors reasons of why the 
+     * command was denied, or the progress percentage when result is MAV_RESULT_IN_PROGRESS 
+     * (UINT8_MAX if the progress is unknown). 
+     */
+    public final int progress() {
+        return readUint8(3);
+    }
+
+    /**
+     * Additional parameter of the result, example: which parameter of MAV_CMD_NAV_WAYPOINT 
+     * caused it to be denied. 
+     */
+    public final int resultParam2() {
+        return readInt32(4);
+    }
+
+    /**
+     * System ID of the target recipient. This is the ID of the system that sent the command for which 
+     * this {@link io.dronefleet.mavlink.common.CommandAck COMMAND_ACK} is an acknowledgement. 
+     */
+    public final int targetSystem() {
+        return readUint8(8);
+    }
+
+    /**
+     * Component ID of the target recipient. This is the ID of the system that sent the command for which 
+     * this {@link io.dronefleet.mavlink.common.CommandAck COMMAND_ACK} is an acknowledgement. 
+     */
+    public final int targetComponent() {
+        return readUint8(9);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -30,7 +32,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class CommandCancel {
+public final class CommandCancel implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -108,6 +110,15 @@ public final class CommandCancel {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("command").value(this.command);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandCancel{targetSystem=" + targetSystem
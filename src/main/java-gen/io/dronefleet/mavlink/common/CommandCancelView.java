@@ -0,0 +1,34 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link CommandCancel} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class CommandCancelView extends PayloadView<CommandCancelView> {
+    /**
+     * Command ID (of command to cancel). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command() {
+        return readUint16(0);
+    }
+
+    /**
+     * System executing long running command. Should not be broadcast (0). 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component executing long running command. 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+}
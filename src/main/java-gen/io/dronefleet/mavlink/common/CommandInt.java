@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -23,7 +25,7 @@ import java.util.Objects;
         crc = 158,
         description = "Message encoding a command with parameters as scaled integers. Scaling depends on the actual command value. NaN or INT32_MAX may be used in float/integer params (respectively) to indicate optional/default values (e.g. to use the component's current latitude, yaw rather than a specific value). The command microservice is documented at https://mavlink.io/en/services/command.html"
 )
-public final class CommandInt {
+public final class CommandInt implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -276,6 +278,25 @@ public final class CommandInt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("frame").value(this.frame);
+        writer.name("command").value(this.command);
+        writer.name("current").value(this.current);
+        writer.name("autocontinue").value(this.autocontinue);
+        writer.name("param1").value(this.param1);
+        writer.name("param2").value(this.param2);
+        writer.name("param3").value(this.param3);
+        writer.name("param4").value(this.param4);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandInt{targetSystem=" + targetSystem
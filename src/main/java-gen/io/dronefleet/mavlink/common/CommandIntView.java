@@ -0,0 +1,104 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CommandInt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CommandIntView extends PayloadView<CommandIntView> {
+    /**
+     * PARAM1, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param1() {
+        return readFloat(0);
+    }
+
+    /**
+     * PARAM2, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param2() {
+        return readFloat(4);
+    }
+
+    /**
+     * PARAM3, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param3() {
+        return readFloat(8);
+    }
+
+    /**
+     * PARAM4, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param4() {
+        return readFloat(12);
+    }
+
+    /**
+     * PARAM5 / local: x position in meters * 1e4, global: latitude in degrees * 10^7 
+     */
+    public final int x() {
+        return readInt32(16);
+    }
+
+    /**
+     * PARAM6 / local: y position in meters * 1e4, global: longitude in degrees * 10^7 
+     */
+    public final int y() {
+        return readInt32(20);
+    }
+
+    /**
+     * PARAM7 / z position: global: altitude in meters (relative or absolute, depending on frame). 
+     */
+    public final float z() {
+        return readFloat(24);
+    }
+
+    /**
+     * The scheduled action for the mission item. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command() {
+        return readUint16(28);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(30);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(31);
+    }
+
+    /**
+     * The coordinate system of the COMMAND. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(32);
+    }
+
+    /**
+     * Not used. 
+     */
+    public final int current() {
+        return readUint8(33);
+    }
+
+    /**
+     * Not used (set 0). 
+     */
+    public final int autocontinue() {
+        return readUint8(34);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 152,
         description = "Send a command with up to seven parameters to the MAV. The command microservice is documented at https://mavlink.io/en/services/command.html"
 )
-public final class CommandLong {
+public final class CommandLong implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -237,6 +239,23 @@ public final class CommandLong {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("command").value(this.command);
+        writer.name("confirmation").value(this.confirmation);
+        writer.name("param1").value(this.param1);
+        writer.name("param2").value(this.param2);
+        writer.name("param3").value(this.param3);
+        writer.name("param4").value(this.param4);
+        writer.name("param5").value(this.param5);
+        writer.name("param6").value(this.param6);
+        writer.name("param7").value(this.param7);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CommandLong{targetSystem=" + targetSystem
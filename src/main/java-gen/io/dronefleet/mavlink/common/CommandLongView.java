@@ -0,0 +1,89 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CommandLong} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CommandLongView extends PayloadView<CommandLongView> {
+    /**
+     * Parameter 1 (for the specific command). 
+     */
+    public final float param1() {
+        return readFloat(0);
+    }
+
+    /**
+     * Parameter 2 (for the specific command). 
+     */
+    public final float param2() {
+        return readFloat(4);
+    }
+
+    /**
+     * Parameter 3 (for the specific command). 
+     */
+    public final float param3() {
+        return readFloat(8);
+    }
+
+    /**
+     * Parameter 4 (for the specific command). 
+     */
+    public final float param4() {
+        return readFloat(12);
+    }
+
+    /**
+     * Parameter 5 (for the specific command). 
+     */
+    public final float param5() {
+        return readFloat(16);
+    }
+
+    /**
+     * Parameter 6 (for the specific command). 
+     */
+    public final float param6() {
+        return readFloat(20);
+    }
+
+    /**
+     * Parameter 7 (for the specific command). 
+     */
+    public final float param7() {
+        return readFloat(24);
+    }
+
+    /**
+     * Command ID (of command to send). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command() {
+        return readUint16(28);
+    }
+
+    /**
+     * System which should execute the command 
+     */
+    public final int targetSystem() {
+        return readUint8(30);
+    }
+
+    /**
+     * Component which should execute the command, 0 for all components 
+     */
+    public final int targetComponent() {
+        return readUint8(31);
+    }
+
+    /**
+     * 0: First transmission of this command. 1-255: Confirmation transmissions (e.g. for kill 
+     * command) 
+     */
+    public final int confirmation() {
+        return readUint8(32);
+    }
+}
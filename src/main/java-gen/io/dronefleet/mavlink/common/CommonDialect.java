@@ -2,247 +2,256 @@ package io.dronefleet.mavlink.common;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.standard.StandardDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class CommonDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new StandardDialect());
+            StandardDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(1, SysStatus.class)
-            .put(2, SystemTime.class)
-            .put(4, Ping.class)
-            .put(5, ChangeOperatorControl.class)
-            .put(6, ChangeOperatorControlAck.class)
-            .put(7, AuthKey.class)
-            .put(8, LinkNodeStatus.class)
-            .put(11, SetMode.class)
-            .put(20, ParamRequestRead.class)
-            .put(21, ParamRequestList.class)
-            .put(22, ParamValue.class)
-            .put(23, ParamSet.class)
-            .put(24, GpsRawInt.class)
-            .put(25, GpsStatus.class)
-            .put(26, ScaledImu.class)
-            .put(27, RawImu.class)
-            .put(28, RawPressure.class)
-            .put(29, ScaledPressure.class)
-            .put(30, Attitude.class)
-            .put(31, AttitudeQuaternion.class)
-            .put(32, LocalPositionNed.class)
-            .put(33, GlobalPositionInt.class)
-            .put(34, RcChannelsScaled.class)
-            .put(35, RcChannelsRaw.class)
-            .put(36, ServoOutputRaw.class)
-            .put(37, MissionRequestPartialList.class)
-            .put(38, MissionWritePartialList.class)
-            .put(39, MissionItem.class)
-            .put(40, MissionRequest.class)
-            .put(41, MissionSetCurrent.class)
-            .put(42, MissionCurrent.class)
-            .put(43, MissionRequestList.class)
-            .put(44, MissionCount.class)
-            .put(45, MissionClearAll.class)
-            .put(46, MissionItemReached.class)
-            .put(47, MissionAck.class)
-            .put(48, SetGpsGlobalOrigin.class)
-            .put(49, GpsGlobalOrigin.class)
-            .put(50, ParamMapRc.class)
-            .put(51, MissionRequestInt.class)
-            .put(54, SafetySetAllowedArea.class)
-            .put(55, SafetyAllowedArea.class)
-            .put(61, AttitudeQuaternionCov.class)
-            .put(62, NavControllerOutput.class)
-            .put(63, GlobalPositionIntCov.class)
-            .put(64, LocalPositionNedCov.class)
-            .put(65, RcChannels.class)
-            .put(66, RequestDataStream.class)
-            .put(67, DataStream.class)
-            .put(69, ManualControl.class)
-            .put(70, RcChannelsOverride.class)
-            .put(73, MissionItemInt.class)
-            .put(74, VfrHud.class)
-            .put(75, CommandInt.class)
-            .put(76, CommandLong.class)
-            .put(77, CommandAck.class)
-            .put(80, CommandCancel.class)
-            .put(81, ManualSetpoint.class)
-            .put(82, SetAttitudeTarget.class)
-            .put(83, AttitudeTarget.class)
-            .put(84, SetPositionTargetLocalNed.class)
-            .put(85, PositionTargetLocalNed.class)
-            .put(86, SetPositionTargetGlobalInt.class)
-            .put(87, PositionTargetGlobalInt.class)
-            .put(89, LocalPositionNedSystemGlobalOffset.class)
-            .put(90, HilState.class)
-            .put(91, HilControls.class)
-            .put(92, HilRcInputsRaw.class)
-            .put(93, HilActuatorControls.class)
-            .put(100, OpticalFlow.class)
-            .put(101, GlobalVisionPositionEstimate.class)
-            .put(102, VisionPositionEstimate.class)
-            .put(103, VisionSpeedEstimate.class)
-            .put(104, ViconPositionEstimate.class)
-            .put(105, HighresImu.class)
-            .put(106, OpticalFlowRad.class)
-            .put(107, HilSensor.class)
-            .put(108, SimState.class)
-            .put(109, RadioStatus.class)
-            .put(110, FileTransferProtocol.class)
-            .put(111, Timesync.class)
-            .put(112, CameraTrigger.class)
-            .put(113, HilGps.class)
-            .put(114, HilOpticalFlow.class)
-            .put(115, HilStateQuaternion.class)
-            .put(116, ScaledImu2.class)
-            .put(117, LogRequestList.class)
-            .put(118, LogEntry.class)
-            .put(119, LogRequestData.class)
-            .put(120, LogData.class)
-            .put(121, LogErase.class)
-            .put(122, LogRequestEnd.class)
-            .put(123, GpsInjectData.class)
-            .put(124, Gps2Raw.class)
-            .put(125, PowerStatus.class)
-            .put(126, SerialControl.class)
-            .put(127, GpsRtk.class)
-            .put(128, Gps2Rtk.class)
-            .put(129, ScaledImu3.class)
-            .put(130, DataTransmissionHandshake.class)
-            .put(131, EncapsulatedData.class)
-            .put(132, DistanceSensor.class)
-            .put(133, TerrainRequest.class)
-            .put(134, TerrainData.class)
-            .put(135, TerrainCheck.class)
-            .put(136, TerrainReport.class)
-            .put(137, ScaledPressure2.class)
-            .put(138, AttPosMocap.class)
-            .put(139, SetActuatorControlTarget.class)
-            .put(140, ActuatorControlTarget.class)
-            .put(141, Altitude.class)
-            .put(142, ResourceRequest.class)
-            .put(143, ScaledPressure3.class)
-            .put(144, FollowTarget.class)
-            .put(146, ControlSystemState.class)
-            .put(147, BatteryStatus.class)
-            .put(148, AutopilotVersion.class)
-            .put(149, LandingTarget.class)
-            .put(162, FenceStatus.class)
-            .put(192, MagCalReport.class)
-            .put(225, EfiStatus.class)
-            .put(230, EstimatorStatus.class)
-            .put(231, WindCov.class)
-            .put(232, GpsInput.class)
-            .put(233, GpsRtcmData.class)
-            .put(234, HighLatency.class)
-            .put(235, HighLatency2.class)
-            .put(241, Vibration.class)
-            .put(242, HomePosition.class)
-            .put(243, SetHomePosition.class)
-            .put(244, MessageInterval.class)
-            .put(245, ExtendedSysState.class)
-            .put(246, AdsbVehicle.class)
-            .put(247, Collision.class)
-            .put(248, V2Extension.class)
-            .put(249, MemoryVect.class)
-            .put(250, DebugVect.class)
-            .put(251, NamedValueFloat.class)
-            .put(252, NamedValueInt.class)
-            .put(253, Statustext.class)
-            .put(254, Debug.class)
-            .put(256, SetupSigning.class)
-            .put(257, ButtonChange.class)
-            .put(258, PlayTune.class)
-            .put(259, CameraInformation.class)
-            .put(260, CameraSettings.class)
-            .put(261, StorageInformation.class)
-            .put(262, CameraCaptureStatus.class)
-            .put(263, CameraImageCaptured.class)
-            .put(264, FlightInformation.class)
-            .put(265, MountOrientation.class)
-            .put(266, LoggingData.class)
-            .put(267, LoggingDataAcked.class)
-            .put(268, LoggingAck.class)
-            .put(269, VideoStreamInformation.class)
-            .put(270, VideoStreamStatus.class)
-            .put(271, CameraFovStatus.class)
-            .put(275, CameraTrackingImageStatus.class)
-            .put(276, CameraTrackingGeoStatus.class)
-            .put(280, GimbalManagerInformation.class)
-            .put(281, GimbalManagerStatus.class)
-            .put(282, GimbalManagerSetAttitude.class)
-            .put(283, GimbalDeviceInformation.class)
-            .put(284, GimbalDeviceSetAttitude.class)
-            .put(285, GimbalDeviceAttitudeStatus.class)
-            .put(286, AutopilotStateForGimbalDevice.class)
-            .put(287, GimbalManagerSetPitchyaw.class)
-            .put(288, GimbalManagerSetManualControl.class)
-            .put(290, EscInfo.class)
-            .put(291, EscStatus.class)
-            .put(299, WifiConfigAp.class)
-            .put(301, AisVessel.class)
-            .put(310, UavcanNodeStatus.class)
-            .put(311, UavcanNodeInfo.class)
-            .put(320, ParamExtRequestRead.class)
-            .put(321, ParamExtRequestList.class)
-            .put(322, ParamExtValue.class)
-            .put(323, ParamExtSet.class)
-            .put(324, ParamExtAck.class)
-            .put(330, ObstacleDistance.class)
-            .put(331, Odometry.class)
-            .put(332, TrajectoryRepresentationWaypoints.class)
-            .put(333, TrajectoryRepresentationBezier.class)
-            .put(334, CellularStatus.class)
-            .put(335, IsbdLinkStatus.class)
-            .put(336, CellularConfig.class)
-            .put(339, RawRpm.class)
-            .put(340, UtmGlobalPosition.class)
-            .put(350, DebugFloatArray.class)
-            .put(360, OrbitExecutionStatus.class)
-            .put(370, SmartBatteryInfo.class)
-            .put(373, GeneratorStatus.class)
-            .put(375, ActuatorOutputStatus.class)
-            .put(380, TimeEstimateToTarget.class)
-            .put(385, Tunnel.class)
-            .put(386, CanFrame.class)
-            .put(390, OnboardComputerStatus.class)
-            .put(395, ComponentInformation.class)
-            .put(397, ComponentMetadata.class)
-            .put(400, PlayTuneV2.class)
-            .put(401, SupportedTunes.class)
-            .put(410, Event.class)
-            .put(411, CurrentEventSequence.class)
-            .put(412, RequestEvent.class)
-            .put(413, ResponseEventError.class)
-            .put(387, CanfdFrame.class)
-            .put(388, CanFilterModify.class)
-            .put(9000, WheelDistance.class)
-            .put(9005, WinchStatus.class)
-            .put(12900, OpenDroneIdBasicId.class)
-            .put(12901, OpenDroneIdLocation.class)
-            .put(12902, OpenDroneIdAuthentication.class)
-            .put(12903, OpenDroneIdSelfId.class)
-            .put(12904, OpenDroneIdSystem.class)
-            .put(12905, OpenDroneIdOperatorId.class)
-            .put(12915, OpenDroneIdMessagePack.class)
-            .put(12918, OpenDroneIdArmStatus.class)
-            .put(12919, OpenDroneIdSystemUpdate.class)
-            .put(12920, HygrometerSensor.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(1, "io.dronefleet.mavlink.common.SysStatus", 124, 31, 43, -1, -1),
+            new MavlinkMessageDescriptor(2, "io.dronefleet.mavlink.common.SystemTime", 137, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(4, "io.dronefleet.mavlink.common.Ping", 237, 14, 14, 12, 13),
+            new MavlinkMessageDescriptor(5, "io.dronefleet.mavlink.common.ChangeOperatorControl", 217, 28, 28, 0, -1),
+            new MavlinkMessageDescriptor(6, "io.dronefleet.mavlink.common.ChangeOperatorControlAck", 104, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(7, "io.dronefleet.mavlink.common.AuthKey", 119, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(8, "io.dronefleet.mavlink.common.LinkNodeStatus", 117, 36, 36, -1, -1),
+            new MavlinkMessageDescriptor(11, "io.dronefleet.mavlink.common.SetMode", 89, 6, 6, 4, -1),
+            new MavlinkMessageDescriptor(20, "io.dronefleet.mavlink.common.ParamRequestRead", 214, 20, 20, 2, 3),
+            new MavlinkMessageDescriptor(21, "io.dronefleet.mavlink.common.ParamRequestList", 159, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(22, "io.dronefleet.mavlink.common.ParamValue", 220, 25, 25, -1, -1),
+            new MavlinkMessageDescriptor(23, "io.dronefleet.mavlink.common.ParamSet", 168, 23, 23, 4, 5),
+            new MavlinkMessageDescriptor(24, "io.dronefleet.mavlink.common.GpsRawInt", 24, 30, 52, -1, -1),
+            new MavlinkMessageDescriptor(25, "io.dronefleet.mavlink.common.GpsStatus", 23, 101, 101, -1, -1),
+            new MavlinkMessageDescriptor(26, "io.dronefleet.mavlink.common.ScaledImu", 170, 22, 24, -1, -1),
+            new MavlinkMessageDescriptor(27, "io.dronefleet.mavlink.common.RawImu", 144, 26, 29, -1, -1),
+            new MavlinkMessageDescriptor(28, "io.dronefleet.mavlink.common.RawPressure", 67, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(29, "io.dronefleet.mavlink.common.ScaledPressure", 115, 14, 16, -1, -1),
+            new MavlinkMessageDescriptor(30, "io.dronefleet.mavlink.common.Attitude", 39, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(31, "io.dronefleet.mavlink.common.AttitudeQuaternion", 246, 32, 48, -1, -1),
+            new MavlinkMessageDescriptor(32, "io.dronefleet.mavlink.common.LocalPositionNed", 185, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(33, "io.dronefleet.mavlink.common.GlobalPositionInt", 104, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(34, "io.dronefleet.mavlink.common.RcChannelsScaled", 237, 22, 22, -1, -1),
+            new MavlinkMessageDescriptor(35, "io.dronefleet.mavlink.common.RcChannelsRaw", 244, 22, 22, -1, -1),
+            new MavlinkMessageDescriptor(36, "io.dronefleet.mavlink.common.ServoOutputRaw", 222, 21, 37, -1, -1),
+            new MavlinkMessageDescriptor(37, "io.dronefleet.mavlink.common.MissionRequestPartialList", 212, 6, 7, 4, 5),
+            new MavlinkMessageDescriptor(38, "io.dronefleet.mavlink.common.MissionWritePartialList", 9, 6, 7, 4, 5),
+            new MavlinkMessageDescriptor(39, "io.dronefleet.mavlink.common.MissionItem", 254, 37, 38, 32, 33),
+            new MavlinkMessageDescriptor(40, "io.dronefleet.mavlink.common.MissionRequest", 230, 4, 5, 2, 3),
+            new MavlinkMessageDescriptor(41, "io.dronefleet.mavlink.common.MissionSetCurrent", 28, 4, 4, 2, 3),
+            new MavlinkMessageDescriptor(42, "io.dronefleet.mavlink.common.MissionCurrent", 28, 2, 6, -1, -1),
+            new MavlinkMessageDescriptor(43, "io.dronefleet.mavlink.common.MissionRequestList", 132, 2, 3, 0, 1),
+            new MavlinkMessageDescriptor(44, "io.dronefleet.mavlink.common.MissionCount", 221, 4, 5, 2, 3),
+            new MavlinkMessageDescriptor(45, "io.dronefleet.mavlink.common.MissionClearAll", 232, 2, 3, 0, 1),
+            new MavlinkMessageDescriptor(46, "io.dronefleet.mavlink.common.MissionItemReached", 11, 2, 2, -1, -1),
+            new MavlinkMessageDescriptor(47, "io.dronefleet.mavlink.common.MissionAck", 153, 3, 4, 0, 1),
+            new MavlinkMessageDescriptor(48, "io.dronefleet.mavlink.common.SetGpsGlobalOrigin", 41, 13, 21, 12, -1),
+            new MavlinkMessageDescriptor(49, "io.dronefleet.mavlink.common.GpsGlobalOrigin", 39, 12, 20, -1, -1),
+            new MavlinkMessageDescriptor(50, "io.dronefleet.mavlink.common.ParamMapRc", 78, 37, 37, 18, 19),
+            new MavlinkMessageDescriptor(51, "io.dronefleet.mavlink.common.MissionRequestInt", 196, 4, 5, 2, 3),
+            new MavlinkMessageDescriptor(54, "io.dronefleet.mavlink.common.SafetySetAllowedArea", 15, 27, 27, 24, 25),
+            new MavlinkMessageDescriptor(55, "io.dronefleet.mavlink.common.SafetyAllowedArea", 3, 25, 25, -1, -1),
+            new MavlinkMessageDescriptor(61, "io.dronefleet.mavlink.common.AttitudeQuaternionCov", 167, 72, 72, -1, -1),
+            new MavlinkMessageDescriptor(62, "io.dronefleet.mavlink.common.NavControllerOutput", 183, 26, 26, -1, -1),
+            new MavlinkMessageDescriptor(63, "io.dronefleet.mavlink.common.GlobalPositionIntCov", 119, 181, 181, -1, -1),
+            new MavlinkMessageDescriptor(64, "io.dronefleet.mavlink.common.LocalPositionNedCov", 191, 225, 225, -1, -1),
+            new MavlinkMessageDescriptor(65, "io.dronefleet.mavlink.common.RcChannels", 118, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(66, "io.dronefleet.mavlink.common.RequestDataStream", 148, 6, 6, 2, 3),
+            new MavlinkMessageDescriptor(67, "io.dronefleet.mavlink.common.DataStream", 21, 4, 4, -1, -1),
+            new MavlinkMessageDescriptor(69, "io.dronefleet.mavlink.common.ManualControl", 243, 11, 18, -1, -1),
+            new MavlinkMessageDescriptor(70, "io.dronefleet.mavlink.common.RcChannelsOverride", 124, 18, 38, 16, 17),
+            new MavlinkMessageDescriptor(73, "io.dronefleet.mavlink.common.MissionItemInt", 38, 37, 38, 32, 33),
+            new MavlinkMessageDescriptor(74, "io.dronefleet.mavlink.common.VfrHud", 20, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(75, "io.dronefleet.mavlink.common.CommandInt", 158, 35, 35, 30, 31),
+            new MavlinkMessageDescriptor(76, "io.dronefleet.mavlink.common.CommandLong", 152, 33, 33, 30, 31),
+            new MavlinkMessageDescriptor(77, "io.dronefleet.mavlink.common.CommandAck", 143, 3, 10, 8, 9),
+            new MavlinkMessageDescriptor(80, "io.dronefleet.mavlink.common.CommandCancel", 14, 4, 4, 2, 3),
+            new MavlinkMessageDescriptor(81, "io.dronefleet.mavlink.common.ManualSetpoint", 106, 22, 22, -1, -1),
+            new MavlinkMessageDescriptor(82, "io.dronefleet.mavlink.common.SetAttitudeTarget", 49, 39, 51, 36, 37),
+            new MavlinkMessageDescriptor(83, "io.dronefleet.mavlink.common.AttitudeTarget", 22, 37, 37, -1, -1),
+            new MavlinkMessageDescriptor(84, "io.dronefleet.mavlink.common.SetPositionTargetLocalNed", 143, 53, 53, 50, 51),
+            new MavlinkMessageDescriptor(85, "io.dronefleet.mavlink.common.PositionTargetLocalNed", 140, 51, 51, -1, -1),
+            new MavlinkMessageDescriptor(86, "io.dronefleet.mavlink.common.SetPositionTargetGlobalInt", 5, 53, 53, 50, 51),
+            new MavlinkMessageDescriptor(87, "io.dronefleet.mavlink.common.PositionTargetGlobalInt", 150, 51, 51, -1, -1),
+            new MavlinkMessageDescriptor(89, "io.dronefleet.mavlink.common.LocalPositionNedSystemGlobalOffset", 231, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(90, "io.dronefleet.mavlink.common.HilState", 183, 56, 56, -1, -1),
+            new MavlinkMessageDescriptor(91, "io.dronefleet.mavlink.common.HilControls", 63, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(92, "io.dronefleet.mavlink.common.HilRcInputsRaw", 54, 33, 33, -1, -1),
+            new MavlinkMessageDescriptor(93, "io.dronefleet.mavlink.common.HilActuatorControls", 47, 81, 81, -1, -1),
+            new MavlinkMessageDescriptor(100, "io.dronefleet.mavlink.common.OpticalFlow", 175, 26, 34, -1, -1),
+            new MavlinkMessageDescriptor(101, "io.dronefleet.mavlink.common.GlobalVisionPositionEstimate", 102, 32, 117, -1, -1),
+            new MavlinkMessageDescriptor(102, "io.dronefleet.mavlink.common.VisionPositionEstimate", 158, 32, 117, -1, -1),
+            new MavlinkMessageDescriptor(103, "io.dronefleet.mavlink.common.VisionSpeedEstimate", 208, 20, 57, -1, -1),
+            new MavlinkMessageDescriptor(104, "io.dronefleet.mavlink.common.ViconPositionEstimate", 56, 32, 116, -1, -1),
+            new MavlinkMessageDescriptor(105, "io.dronefleet.mavlink.common.HighresImu", 93, 62, 63, -1, -1),
+            new MavlinkMessageDescriptor(106, "io.dronefleet.mavlink.common.OpticalFlowRad", 138, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(107, "io.dronefleet.mavlink.common.HilSensor", 108, 64, 65, -1, -1),
+            new MavlinkMessageDescriptor(108, "io.dronefleet.mavlink.common.SimState", 32, 84, 92, -1, -1),
+            new MavlinkMessageDescriptor(109, "io.dronefleet.mavlink.common.RadioStatus", 185, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(110, "io.dronefleet.mavlink.common.FileTransferProtocol", 84, 254, 254, 1, 2),
+            new MavlinkMessageDescriptor(111, "io.dronefleet.mavlink.common.Timesync", 34, 16, 18, 16, 17),
+            new MavlinkMessageDescriptor(112, "io.dronefleet.mavlink.common.CameraTrigger", 174, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(113, "io.dronefleet.mavlink.common.HilGps", 124, 36, 39, -1, -1),
+            new MavlinkMessageDescriptor(114, "io.dronefleet.mavlink.common.HilOpticalFlow", 237, 44, 44, -1, -1),
+            new MavlinkMessageDescriptor(115, "io.dronefleet.mavlink.common.HilStateQuaternion", 4, 64, 64, -1, -1),
+            new MavlinkMessageDescriptor(116, "io.dronefleet.mavlink.common.ScaledImu2", 76, 22, 24, -1, -1),
+            new MavlinkMessageDescriptor(117, "io.dronefleet.mavlink.common.LogRequestList", 128, 6, 6, 4, 5),
+            new MavlinkMessageDescriptor(118, "io.dronefleet.mavlink.common.LogEntry", 56, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(119, "io.dronefleet.mavlink.common.LogRequestData", 116, 12, 12, 10, 11),
+            new MavlinkMessageDescriptor(120, "io.dronefleet.mavlink.common.LogData", 134, 97, 97, -1, -1),
+            new MavlinkMessageDescriptor(121, "io.dronefleet.mavlink.common.LogErase", 237, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(122, "io.dronefleet.mavlink.common.LogRequestEnd", 203, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(123, "io.dronefleet.mavlink.common.GpsInjectData", 250, 113, 113, 0, 1),
+            new MavlinkMessageDescriptor(124, "io.dronefleet.mavlink.common.Gps2Raw", 87, 35, 57, -1, -1),
+            new MavlinkMessageDescriptor(125, "io.dronefleet.mavlink.common.PowerStatus", 203, 6, 6, -1, -1),
+            new MavlinkMessageDescriptor(126, "io.dronefleet.mavlink.common.SerialControl", 220, 79, 81, 79, 80),
+            new MavlinkMessageDescriptor(127, "io.dronefleet.mavlink.common.GpsRtk", 25, 35, 35, -1, -1),
+            new MavlinkMessageDescriptor(128, "io.dronefleet.mavlink.common.Gps2Rtk", 226, 35, 35, -1, -1),
+            new MavlinkMessageDescriptor(129, "io.dronefleet.mavlink.common.ScaledImu3", 46, 22, 24, -1, -1),
+            new MavlinkMessageDescriptor(130, "io.dronefleet.mavlink.common.DataTransmissionHandshake", 29, 13, 13, -1, -1),
+            new MavlinkMessageDescriptor(131, "io.dronefleet.mavlink.common.EncapsulatedData", 223, 255, 255, -1, -1),
+            new MavlinkMessageDescriptor(132, "io.dronefleet.mavlink.common.DistanceSensor", 85, 14, 39, -1, -1),
+            new MavlinkMessageDescriptor(133, "io.dronefleet.mavlink.common.TerrainRequest", 6, 18, 18, -1, -1),
+            new MavlinkMessageDescriptor(134, "io.dronefleet.mavlink.common.TerrainData", 229, 43, 43, -1, -1),
+            new MavlinkMessageDescriptor(135, "io.dronefleet.mavlink.common.TerrainCheck", 203, 8, 8, -1, -1),
+            new MavlinkMessageDescriptor(136, "io.dronefleet.mavlink.common.TerrainReport", 1, 22, 22, -1, -1),
+            new MavlinkMessageDescriptor(137, "io.dronefleet.mavlink.common.ScaledPressure2", 195, 14, 16, -1, -1),
+            new MavlinkMessageDescriptor(138, "io.dronefleet.mavlink.common.AttPosMocap", 109, 36, 120, -1, -1),
+            new MavlinkMessageDescriptor(139, "io.dronefleet.mavlink.common.SetActuatorControlTarget", 168, 43, 43, 41, 42),
+            new MavlinkMessageDescriptor(140, "io.dronefleet.mavlink.common.ActuatorControlTarget", 181, 41, 41, -1, -1),
+            new MavlinkMessageDescriptor(141, "io.dronefleet.mavlink.common.Altitude", 47, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(142, "io.dronefleet.mavlink.common.ResourceRequest", 72, 243, 243, -1, -1),
+            new MavlinkMessageDescriptor(143, "io.dronefleet.mavlink.common.ScaledPressure3", 131, 14, 16, -1, -1),
+            new MavlinkMessageDescriptor(144, "io.dronefleet.mavlink.common.FollowTarget", 127, 93, 93, -1, -1),
+            new MavlinkMessageDescriptor(146, "io.dronefleet.mavlink.common.ControlSystemState", 103, 100, 100, -1, -1),
+            new MavlinkMessageDescriptor(147, "io.dronefleet.mavlink.common.BatteryStatus", 154, 36, 54, -1, -1),
+            new MavlinkMessageDescriptor(148, "io.dronefleet.mavlink.common.AutopilotVersion", 178, 60, 78, -1, -1),
+            new MavlinkMessageDescriptor(149, "io.dronefleet.mavlink.common.LandingTarget", 200, 30, 60, -1, -1),
+            new MavlinkMessageDescriptor(162, "io.dronefleet.mavlink.common.FenceStatus", 189, 8, 9, -1, -1),
+            new MavlinkMessageDescriptor(192, "io.dronefleet.mavlink.common.MagCalReport", 36, 44, 54, -1, -1),
+            new MavlinkMessageDescriptor(225, "io.dronefleet.mavlink.common.EfiStatus", 208, 65, 73, -1, -1),
+            new MavlinkMessageDescriptor(230, "io.dronefleet.mavlink.common.EstimatorStatus", 163, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(231, "io.dronefleet.mavlink.common.WindCov", 105, 40, 40, -1, -1),
+            new MavlinkMessageDescriptor(232, "io.dronefleet.mavlink.common.GpsInput", 151, 63, 65, -1, -1),
+            new MavlinkMessageDescriptor(233, "io.dronefleet.mavlink.common.GpsRtcmData", 35, 182, 182, -1, -1),
+            new MavlinkMessageDescriptor(234, "io.dronefleet.mavlink.common.HighLatency", 150, 40, 40, -1, -1),
+            new MavlinkMessageDescriptor(235, "io.dronefleet.mavlink.common.HighLatency2", 179, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(241, "io.dronefleet.mavlink.common.Vibration", 90, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(242, "io.dronefleet.mavlink.common.HomePosition", 104, 52, 60, -1, -1),
+            new MavlinkMessageDescriptor(243, "io.dronefleet.mavlink.common.SetHomePosition", 85, 53, 61, 52, -1),
+            new MavlinkMessageDescriptor(244, "io.dronefleet.mavlink.common.MessageInterval", 95, 6, 6, -1, -1),
+            new MavlinkMessageDescriptor(245, "io.dronefleet.mavlink.common.ExtendedSysState", 130, 2, 2, -1, -1),
+            new MavlinkMessageDescriptor(246, "io.dronefleet.mavlink.common.AdsbVehicle", 184, 38, 38, -1, -1),
+            new MavlinkMessageDescriptor(247, "io.dronefleet.mavlink.common.Collision", 81, 19, 19, -1, -1),
+            new MavlinkMessageDescriptor(248, "io.dronefleet.mavlink.common.V2Extension", 8, 254, 254, 3, 4),
+            new MavlinkMessageDescriptor(249, "io.dronefleet.mavlink.common.MemoryVect", 204, 36, 36, -1, -1),
+            new MavlinkMessageDescriptor(250, "io.dronefleet.mavlink.common.DebugVect", 49, 30, 30, -1, -1),
+            new MavlinkMessageDescriptor(251, "io.dronefleet.mavlink.common.NamedValueFloat", 170, 18, 18, -1, -1),
+            new MavlinkMessageDescriptor(252, "io.dronefleet.mavlink.common.NamedValueInt", 44, 18, 18, -1, -1),
+            new MavlinkMessageDescriptor(253, "io.dronefleet.mavlink.common.Statustext", 83, 51, 54, -1, -1),
+            new MavlinkMessageDescriptor(254, "io.dronefleet.mavlink.common.Debug", 46, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(256, "io.dronefleet.mavlink.common.SetupSigning", 71, 42, 42, 8, 9),
+            new MavlinkMessageDescriptor(257, "io.dronefleet.mavlink.common.ButtonChange", 131, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(258, "io.dronefleet.mavlink.common.PlayTune", 187, 32, 232, 0, 1),
+            new MavlinkMessageDescriptor(259, "io.dronefleet.mavlink.common.CameraInformation", 92, 235, 235, -1, -1),
+            new MavlinkMessageDescriptor(260, "io.dronefleet.mavlink.common.CameraSettings", 146, 5, 13, -1, -1),
+            new MavlinkMessageDescriptor(261, "io.dronefleet.mavlink.common.StorageInformation", 179, 27, 61, -1, -1),
+            new MavlinkMessageDescriptor(262, "io.dronefleet.mavlink.common.CameraCaptureStatus", 12, 18, 22, -1, -1),
+            new MavlinkMessageDescriptor(263, "io.dronefleet.mavlink.common.CameraImageCaptured", 133, 255, 255, -1, -1),
+            new MavlinkMessageDescriptor(264, "io.dronefleet.mavlink.common.FlightInformation", 49, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(265, "io.dronefleet.mavlink.common.MountOrientation", 26, 16, 20, -1, -1),
+            new MavlinkMessageDescriptor(266, "io.dronefleet.mavlink.common.LoggingData", 193, 255, 255, 2, 3),
+            new MavlinkMessageDescriptor(267, "io.dronefleet.mavlink.common.LoggingDataAcked", 35, 255, 255, 2, 3),
+            new MavlinkMessageDescriptor(268, "io.dronefleet.mavlink.common.LoggingAck", 14, 4, 4, 2, 3),
+            new MavlinkMessageDescriptor(269, "io.dronefleet.mavlink.common.VideoStreamInformation", 109, 213, 213, -1, -1),
+            new MavlinkMessageDescriptor(270, "io.dronefleet.mavlink.common.VideoStreamStatus", 59, 19, 19, -1, -1),
+            new MavlinkMessageDescriptor(271, "io.dronefleet.mavlink.common.CameraFovStatus", 22, 52, 52, -1, -1),
+            new MavlinkMessageDescriptor(275, "io.dronefleet.mavlink.common.CameraTrackingImageStatus", 126, 31, 31, -1, -1),
+            new MavlinkMessageDescriptor(276, "io.dronefleet.mavlink.common.CameraTrackingGeoStatus", 18, 49, 49, -1, -1),
+            new MavlinkMessageDescriptor(280, "io.dronefleet.mavlink.common.GimbalManagerInformation", 70, 33, 33, -1, -1),
+            new MavlinkMessageDescriptor(281, "io.dronefleet.mavlink.common.GimbalManagerStatus", 48, 13, 13, -1, -1),
+            new MavlinkMessageDescriptor(282, "io.dronefleet.mavlink.common.GimbalManagerSetAttitude", 123, 35, 35, 32, 33),
+            new MavlinkMessageDescriptor(283, "io.dronefleet.mavlink.common.GimbalDeviceInformation", 74, 144, 144, -1, -1),
+            new MavlinkMessageDescriptor(284, "io.dronefleet.mavlink.common.GimbalDeviceSetAttitude", 99, 32, 32, 30, 31),
+            new MavlinkMessageDescriptor(285, "io.dronefleet.mavlink.common.GimbalDeviceAttitudeStatus", 137, 40, 48, 38, 39),
+            new MavlinkMessageDescriptor(286, "io.dronefleet.mavlink.common.AutopilotStateForGimbalDevice", 210, 53, 57, 50, 51),
+            new MavlinkMessageDescriptor(287, "io.dronefleet.mavlink.common.GimbalManagerSetPitchyaw", 1, 23, 23, 20, 21),
+            new MavlinkMessageDescriptor(288, "io.dronefleet.mavlink.common.GimbalManagerSetManualControl", 20, 23, 23, 20, 21),
+            new MavlinkMessageDescriptor(290, "io.dronefleet.mavlink.common.EscInfo", 251, 46, 46, -1, -1),
+            new MavlinkMessageDescriptor(291, "io.dronefleet.mavlink.common.EscStatus", 10, 57, 57, -1, -1),
+            new MavlinkMessageDescriptor(299, "io.dronefleet.mavlink.common.WifiConfigAp", 19, 96, 98, -1, -1),
+            new MavlinkMessageDescriptor(301, "io.dronefleet.mavlink.common.AisVessel", 243, 58, 58, -1, -1),
+            new MavlinkMessageDescriptor(310, "io.dronefleet.mavlink.common.UavcanNodeStatus", 28, 17, 17, -1, -1),
+            new MavlinkMessageDescriptor(311, "io.dronefleet.mavlink.common.UavcanNodeInfo", 95, 116, 116, -1, -1),
+            new MavlinkMessageDescriptor(320, "io.dronefleet.mavlink.common.ParamExtRequestRead", 243, 20, 20, 2, 3),
+            new MavlinkMessageDescriptor(321, "io.dronefleet.mavlink.common.ParamExtRequestList", 88, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(322, "io.dronefleet.mavlink.common.ParamExtValue", 243, 149, 149, -1, -1),
+            new MavlinkMessageDescriptor(323, "io.dronefleet.mavlink.common.ParamExtSet", 78, 147, 147, 0, 1),
+            new MavlinkMessageDescriptor(324, "io.dronefleet.mavlink.common.ParamExtAck", 132, 146, 146, -1, -1),
+            new MavlinkMessageDescriptor(330, "io.dronefleet.mavlink.common.ObstacleDistance", 23, 158, 167, -1, -1),
+            new MavlinkMessageDescriptor(331, "io.dronefleet.mavlink.common.Odometry", 91, 230, 233, -1, -1),
+            new MavlinkMessageDescriptor(332, "io.dronefleet.mavlink.common.TrajectoryRepresentationWaypoints", 236, 239, 239, -1, -1),
+            new MavlinkMessageDescriptor(333, "io.dronefleet.mavlink.common.TrajectoryRepresentationBezier", 231, 109, 109, -1, -1),
+            new MavlinkMessageDescriptor(334, "io.dronefleet.mavlink.common.CellularStatus", 72, 10, 10, -1, -1),
+            new MavlinkMessageDescriptor(335, "io.dronefleet.mavlink.common.IsbdLinkStatus", 225, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(336, "io.dronefleet.mavlink.common.CellularConfig", 245, 84, 84, -1, -1),
+            new MavlinkMessageDescriptor(339, "io.dronefleet.mavlink.common.RawRpm", 199, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(340, "io.dronefleet.mavlink.common.UtmGlobalPosition", 99, 70, 70, -1, -1),
+            new MavlinkMessageDescriptor(350, "io.dronefleet.mavlink.common.DebugFloatArray", 232, 20, 252, -1, -1),
+            new MavlinkMessageDescriptor(360, "io.dronefleet.mavlink.common.OrbitExecutionStatus", 11, 25, 25, -1, -1),
+            new MavlinkMessageDescriptor(370, "io.dronefleet.mavlink.common.SmartBatteryInfo", 75, 87, 109, -1, -1),
+            new MavlinkMessageDescriptor(373, "io.dronefleet.mavlink.common.GeneratorStatus", 117, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(375, "io.dronefleet.mavlink.common.ActuatorOutputStatus", 251, 140, 140, -1, -1),
+            new MavlinkMessageDescriptor(380, "io.dronefleet.mavlink.common.TimeEstimateToTarget", 232, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(385, "io.dronefleet.mavlink.common.Tunnel", 147, 133, 133, 2, 3),
+            new MavlinkMessageDescriptor(386, "io.dronefleet.mavlink.common.CanFrame", 132, 16, 16, 4, 5),
+            new MavlinkMessageDescriptor(390, "io.dronefleet.mavlink.common.OnboardComputerStatus", 156, 238, 238, -1, -1),
+            new MavlinkMessageDescriptor(395, "io.dronefleet.mavlink.common.ComponentInformation", 0, 212, 212, -1, -1),
+            new MavlinkMessageDescriptor(397, "io.dronefleet.mavlink.common.ComponentMetadata", 182, 108, 108, -1, -1),
+            new MavlinkMessageDescriptor(400, "io.dronefleet.mavlink.common.PlayTuneV2", 110, 254, 254, 4, 5),
+            new MavlinkMessageDescriptor(401, "io.dronefleet.mavlink.common.SupportedTunes", 183, 6, 6, 4, 5),
+            new MavlinkMessageDescriptor(410, "io.dronefleet.mavlink.common.Event", 160, 53, 53, -1, -1),
+            new MavlinkMessageDescriptor(411, "io.dronefleet.mavlink.common.CurrentEventSequence", 106, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(412, "io.dronefleet.mavlink.common.RequestEvent", 33, 6, 6, 4, 5),
+            new MavlinkMessageDescriptor(413, "io.dronefleet.mavlink.common.ResponseEventError", 77, 7, 7, 4, 5),
+            new MavlinkMessageDescriptor(387, "io.dronefleet.mavlink.common.CanfdFrame", 4, 72, 72, 4, 5),
+            new MavlinkMessageDescriptor(388, "io.dronefleet.mavlink.common.CanFilterModify", 8, 37, 37, 32, 33),
+            new MavlinkMessageDescriptor(9000, "io.dronefleet.mavlink.common.WheelDistance", 113, 137, 137, -1, -1),
+            new MavlinkMessageDescriptor(9005, "io.dronefleet.mavlink.common.WinchStatus", 117, 34, 34, -1, -1),
+            new MavlinkMessageDescriptor(12900, "io.dronefleet.mavlink.common.OpenDroneIdBasicId", 114, 44, 44, 0, 1),
+            new MavlinkMessageDescriptor(12901, "io.dronefleet.mavlink.common.OpenDroneIdLocation", 254, 59, 59, 30, 31),
+            new MavlinkMessageDescriptor(12902, "io.dronefleet.mavlink.common.OpenDroneIdAuthentication", 140, 53, 53, 4, 5),
+            new MavlinkMessageDescriptor(12903, "io.dronefleet.mavlink.common.OpenDroneIdSelfId", 249, 46, 46, 0, 1),
+            new MavlinkMessageDescriptor(12904, "io.dronefleet.mavlink.common.OpenDroneIdSystem", 77, 54, 54, 28, 29),
+            new MavlinkMessageDescriptor(12905, "io.dronefleet.mavlink.common.OpenDroneIdOperatorId", 49, 43, 43, 0, 1),
+            new MavlinkMessageDescriptor(12915, "io.dronefleet.mavlink.common.OpenDroneIdMessagePack", 94, 249, 249, 0, 1),
+            new MavlinkMessageDescriptor(12918, "io.dronefleet.mavlink.common.OpenDroneIdArmStatus", 139, 51, 51, -1, -1),
+            new MavlinkMessageDescriptor(12919, "io.dronefleet.mavlink.common.OpenDroneIdSystemUpdate", 7, 18, 18, 16, 17),
+            new MavlinkMessageDescriptor(12920, "io.dronefleet.mavlink.common.HygrometerSensor", 20, 5, 5, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final CommonDialect instance = new CommonDialect();
 
     public CommonDialect() {
-        super("common", dependencies, messages);
+        super("common", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static CommonDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "Component information message, which may be requested using MAV_CMD_REQUEST_MESSAGE."
 )
 @Deprecated
-public final class ComponentInformation {
+public final class ComponentInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final long generalMetadataFileCrc;
@@ -141,6 +143,17 @@ public final class ComponentInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("generalMetadataFileCrc").value(this.generalMetadataFileCrc);
+        writer.name("generalMetadataUri").value(this.generalMetadataUri);
+        writer.name("peripheralsMetadataFileCrc").value(this.peripheralsMetadataFileCrc);
+        writer.name("peripheralsMetadataUri").value(this.peripheralsMetadataUri);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ComponentInformation{timeBootMs=" + timeBootMs
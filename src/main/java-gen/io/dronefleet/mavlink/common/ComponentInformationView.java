@@ -0,0 +1,54 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ComponentInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class ComponentInformationView extends PayloadView<ComponentInformationView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * CRC32 of the general metadata file (general_metadata_uri). 
+     */
+    public final long generalMetadataFileCrc() {
+        return readUint32(4);
+    }
+
+    /**
+     * CRC32 of peripherals metadata file (peripherals_metadata_uri). 
+     */
+    public final long peripheralsMetadataFileCrc() {
+        return readUint32(8);
+    }
+
+    /**
+     * MAVLink FTP URI for the general metadata file (COMP_METADATA_TYPE_GENERAL), which may be 
+     * compressed with xz. The file contains general component metadata, and may contain URI links 
+     * for additional metadata (see {@link io.dronefleet.mavlink.common.CompMetadataType COMP_METADATA_TYPE}). The information is static from boot, and 
+     * may be generated at compile time. The string needs to be zero terminated. 
+     */
+    public final String generalMetadataUri() {
+        return readString(12, 100);
+    }
+
+    /**
+     * (Optional) MAVLink FTP URI for the peripherals metadata file 
+     * (COMP_METADATA_TYPE_PERIPHERALS), which may be compressed with xz. This contains data 
+     * about "attached components" such as UAVCAN nodes. The peripherals are in a separate file 
+     * because the information must be generated dynamically at runtime. The string needs to be zero 
+     * terminated. 
+     */
+    public final String peripheralsMetadataUri() {
+        return readString(112, 100);
+    }
+}
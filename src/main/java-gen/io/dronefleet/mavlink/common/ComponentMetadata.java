@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -40,7 +42,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class ComponentMetadata {
+public final class ComponentMetadata implements JsonWritable {
     private final long timeBootMs;
 
     private final long fileCrc;
@@ -121,6 +123,15 @@ public final class ComponentMetadata {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("fileCrc").value(this.fileCrc);
+        writer.name("uri").value(this.uri);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ComponentMetadata{timeBootMs=" + timeBootMs
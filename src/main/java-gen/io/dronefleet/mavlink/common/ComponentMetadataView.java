@@ -0,0 +1,36 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ComponentMetadata} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class ComponentMetadataView extends PayloadView<ComponentMetadataView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * CRC32 of the general metadata file. 
+     */
+    public final long fileCrc() {
+        return readUint32(4);
+    }
+
+    /**
+     * MAVLink FTP URI for the general metadata file (COMP_METADATA_TYPE_GENERAL), which may be 
+     * compressed with xz. The file contains general component metadata, and may contain URI links 
+     * for additional metadata (see {@link io.dronefleet.mavlink.common.CompMetadataType COMP_METADATA_TYPE}). The information is static from boot, and 
+     * may be generated at compile time. The string needs to be zero terminated. 
+     */
+    public final String uri() {
+        return readString(8, 100);
+    }
+}
@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +24,7 @@ import java.util.Objects;
         crc = 103,
         description = "The smoothed, monotonic system state used to feed the control loops of the system."
 )
-public final class ControlSystemState {
+public final class ControlSystemState implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float xAcc;
@@ -42,11 +47,11 @@ public final class ControlSystemState {
 
     private final float airspeed;
 
-    private final List<Float> velVariance;
+    private final FloatArrayList velVariance;
 
-    private final List<Float> posVariance;
+    private final FloatArrayList posVariance;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float rollRate;
 
@@ -69,9 +74,9 @@ public final class ControlSystemState {
         this.yPos = yPos;
         this.zPos = zPos;
         this.airspeed = airspeed;
-        this.velVariance = velVariance;
-        this.posVariance = posVariance;
-        this.q = q;
+        this.velVariance = FloatArrayList.copyOf(velVariance);
+        this.posVariance = FloatArrayList.copyOf(posVariance);
+        this.q = FloatArrayList.copyOf(q);
         this.rollRate = rollRate;
         this.pitchRate = pitchRate;
         this.yawRate = yawRate;
@@ -231,6 +236,25 @@ public final class ControlSystemState {
         return this.velVariance;
     }
 
+    /**
+     * Returns a copy of {@link #velVariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velVarianceArray() {
+        return this.velVariance != null ? this.velVariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velVariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velVariance(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velVariance != null && index < this.velVariance.size() ? this.velVariance.getFloat(index) : 0;
+    }
+
     /**
      * Variance in local position 
      */
@@ -244,6 +268,25 @@ public final class ControlSystemState {
         return this.posVariance;
     }
 
+    /**
+     * Returns a copy of {@link #posVariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posVarianceArray() {
+        return this.posVariance != null ? this.posVariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posVariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posVariance(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posVariance != null && index < this.posVariance.size() ? this.posVariance.getFloat(index) : 0;
+    }
+
     /**
      * The attitude, represented as Quaternion 
      */
@@ -257,6 +300,25 @@ public final class ControlSystemState {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Angular rate in roll axis 
      */
@@ -341,6 +403,29 @@ public final class ControlSystemState {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("xAcc").value(this.xAcc);
+        writer.name("yAcc").value(this.yAcc);
+        writer.name("zAcc").value(this.zAcc);
+        writer.name("xVel").value(this.xVel);
+        writer.name("yVel").value(this.yVel);
+        writer.name("zVel").value(this.zVel);
+        writer.name("xPos").value(this.xPos);
+        writer.name("yPos").value(this.yPos);
+        writer.name("zPos").value(this.zPos);
+        writer.name("airspeed").value(this.airspeed);
+        writer.name("velVariance").value(this.velVariance);
+        writer.name("posVariance").value(this.posVariance);
+        writer.name("q").value(this.q);
+        writer.name("rollRate").value(this.rollRate);
+        writer.name("pitchRate").value(this.pitchRate);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ControlSystemState{timeUsec=" + timeUsec
@@ -411,6 +496,16 @@ public final class ControlSystemState {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * X acceleration in body frame 
          */
@@ -555,6 +650,13 @@ public final class ControlSystemState {
             return this;
         }
 
+        /**
+         * Variance of body velocity estimate 
+         */
+        public final Builder velVariance(float... velVariance) {
+            return velVariance(FloatArrayList.of(velVariance));
+        }
+
         /**
          * Variance in local position 
          */
@@ -569,6 +671,13 @@ public final class ControlSystemState {
             return this;
         }
 
+        /**
+         * Variance in local position 
+         */
+        public final Builder posVariance(float... posVariance) {
+            return posVariance(FloatArrayList.of(posVariance));
+        }
+
         /**
          * The attitude, represented as Quaternion 
          */
@@ -583,6 +692,13 @@ public final class ControlSystemState {
             return this;
         }
 
+        /**
+         * The attitude, represented as Quaternion 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Angular rate in roll axis 
          */
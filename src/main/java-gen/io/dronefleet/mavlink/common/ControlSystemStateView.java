@@ -0,0 +1,131 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ControlSystemState} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ControlSystemStateView extends PayloadView<ControlSystemStateView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X acceleration in body frame 
+     */
+    public final float xAcc() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y acceleration in body frame 
+     */
+    public final float yAcc() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z acceleration in body frame 
+     */
+    public final float zAcc() {
+        return readFloat(16);
+    }
+
+    /**
+     * X velocity in body frame 
+     */
+    public final float xVel() {
+        return readFloat(20);
+    }
+
+    /**
+     * Y velocity in body frame 
+     */
+    public final float yVel() {
+        return readFloat(24);
+    }
+
+    /**
+     * Z velocity in body frame 
+     */
+    public final float zVel() {
+        return readFloat(28);
+    }
+
+    /**
+     * X position in local frame 
+     */
+    public final float xPos() {
+        return readFloat(32);
+    }
+
+    /**
+     * Y position in local frame 
+     */
+    public final float yPos() {
+        return readFloat(36);
+    }
+
+    /**
+     * Z position in local frame 
+     */
+    public final float zPos() {
+        return readFloat(40);
+    }
+
+    /**
+     * Airspeed, set to -1 if unknown 
+     */
+    public final float airspeed() {
+        return readFloat(44);
+    }
+
+    /**
+     * Variance of body velocity estimate 
+     */
+    public final float velVariance(int index) {
+        return readFloat(elementPosition(48, 4, 3, index));
+    }
+
+    /**
+     * Variance in local position 
+     */
+    public final float posVariance(int index) {
+        return readFloat(elementPosition(60, 4, 3, index));
+    }
+
+    /**
+     * The attitude, represented as Quaternion 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(72, 4, 4, index));
+    }
+
+    /**
+     * Angular rate in roll axis 
+     */
+    public final float rollRate() {
+        return readFloat(88);
+    }
+
+    /**
+     * Angular rate in pitch axis 
+     */
+    public final float pitchRate() {
+        return readFloat(92);
+    }
+
+    /**
+     * Angular rate in yaw axis 
+     */
+    public final float yawRate() {
+        return readFloat(96);
+    }
+}
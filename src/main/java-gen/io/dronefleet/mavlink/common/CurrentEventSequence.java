@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -27,7 +29,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class CurrentEventSequence {
+public final class CurrentEventSequence implements JsonWritable {
     private final int sequence;
 
     private final EnumValue<MavEventCurrentSequenceFlags> flags;
@@ -88,6 +90,14 @@ public final class CurrentEventSequence {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sequence").value(this.sequence);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CurrentEventSequence{sequence=" + sequence
@@ -0,0 +1,27 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link CurrentEventSequence} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class CurrentEventSequenceView extends PayloadView<CurrentEventSequenceView> {
+    /**
+     * Sequence number. 
+     */
+    public final int sequence() {
+        return readUint16(0);
+    }
+
+    /**
+     * Flag bitset. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavEventCurrentSequenceFlags}.
+     */
+    public final int flags() {
+        return readUint8(2);
+    }
+}
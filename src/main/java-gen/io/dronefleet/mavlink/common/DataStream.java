@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "Data stream status information."
 )
 @Deprecated
-public final class DataStream {
+public final class DataStream implements JsonWritable {
     private final int streamId;
 
     private final int messageRate;
@@ -96,6 +98,15 @@ public final class DataStream {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("streamId").value(this.streamId);
+        writer.name("messageRate").value(this.messageRate);
+        writer.name("onOff").value(this.onOff);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DataStream{streamId=" + streamId
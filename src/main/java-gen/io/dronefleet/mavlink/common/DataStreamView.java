@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link DataStream} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class DataStreamView extends PayloadView<DataStreamView> {
+    /**
+     * The message rate 
+     */
+    public final int messageRate() {
+        return readUint16(0);
+    }
+
+    /**
+     * The ID of the requested data stream 
+     */
+    public final int streamId() {
+        return readUint8(2);
+    }
+
+    /**
+     * 1 stream is enabled, 0 stream is stopped. 
+     */
+    public final int onOff() {
+        return readUint8(3);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 29,
         description = "Handshake message to initiate, control and stop image streaming when using the Image Transmission Protocol: https://mavlink.io/en/services/image_transmission.html."
 )
-public final class DataTransmissionHandshake {
+public final class DataTransmissionHandshake implements JsonWritable {
     private final EnumValue<MavlinkDataStreamType> type;
 
     private final long size;
@@ -168,6 +170,19 @@ public final class DataTransmissionHandshake {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("type").value(this.type);
+        writer.name("size").value(this.size);
+        writer.name("width").value(this.width);
+        writer.name("height").value(this.height);
+        writer.name("packets").value(this.packets);
+        writer.name("payload").value(this.payload);
+        writer.name("jpgQuality").value(this.jpgQuality);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DataTransmissionHandshake{type=" + type
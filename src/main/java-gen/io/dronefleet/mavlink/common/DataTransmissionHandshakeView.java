@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DataTransmissionHandshake} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DataTransmissionHandshakeView extends PayloadView<DataTransmissionHandshakeView> {
+    /**
+     * total data size (set on ACK only). 
+     */
+    public final long size() {
+        return readUint32(0);
+    }
+
+    /**
+     * Width of a matrix or image. 
+     */
+    public final int width() {
+        return readUint16(4);
+    }
+
+    /**
+     * Height of a matrix or image. 
+     */
+    public final int height() {
+        return readUint16(6);
+    }
+
+    /**
+     * Number of packets being sent (set on ACK only). 
+     */
+    public final int packets() {
+        return readUint16(8);
+    }
+
+    /**
+     * Type of requested/acknowledged data. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavlinkDataStreamType}.
+     */
+    public final int type() {
+        return readUint8(10);
+    }
+
+    /**
+     * Payload size per packet (normally 253 byte, see DATA field size in message {@link io.dronefleet.mavlink.common.EncapsulatedData ENCAPSULATED_DATA}) 
+     * (set on ACK only). 
+     */
+    public final int payload() {
+        return readUint8(11);
+    }
+
+    /**
+     * JPEG quality. Values: [1-100]. 
+     */
+    public final int jpgQuality() {
+        return readUint8(12);
+    }
+}
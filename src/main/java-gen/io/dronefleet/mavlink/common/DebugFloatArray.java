@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -21,20 +26,20 @@ import java.util.Objects;
         crc = 232,
         description = "Large debug/prototyping array. The message uses the maximum available payload for data. The array_id and name fields are used to discriminate between messages in code and in user interfaces (respectively). Do not use in production code."
 )
-public final class DebugFloatArray {
+public final class DebugFloatArray implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final String name;
 
     private final int arrayId;
 
-    private final List<Float> data;
+    private final FloatArrayList data;
 
     private DebugFloatArray(BigInteger timeUsec, String name, int arrayId, List<Float> data) {
         this.timeUsec = timeUsec;
         this.name = name;
         this.arrayId = arrayId;
-        this.data = data;
+        this.data = FloatArrayList.copyOf(data);
     }
 
     /**
@@ -97,6 +102,25 @@ public final class DebugFloatArray {
         return this.data;
     }
 
+    /**
+     * Returns a copy of {@link #data()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] dataArray() {
+        return this.data != null ? this.data.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #data()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float data(int index) {
+        if (index < 0 || index >= 58) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.data != null && index < this.data.size() ? this.data.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -119,6 +143,16 @@ public final class DebugFloatArray {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("name").value(this.name);
+        writer.name("arrayId").value(this.arrayId);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DebugFloatArray{timeUsec=" + timeUsec
@@ -150,6 +184,16 @@ public final class DebugFloatArray {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Name, for human-friendly display in a Ground Control Station 
          */
@@ -192,6 +236,13 @@ public final class DebugFloatArray {
             return this;
         }
 
+        /**
+         * data 
+         */
+        public final Builder data(float... data) {
+            return data(FloatArrayList.of(data));
+        }
+
         public final DebugFloatArray build() {
             return new DebugFloatArray(timeUsec, name, arrayId, data);
         }
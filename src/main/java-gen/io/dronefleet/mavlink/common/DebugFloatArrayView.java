@@ -0,0 +1,41 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link DebugFloatArray} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DebugFloatArrayView extends PayloadView<DebugFloatArrayView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Unique ID used to discriminate between arrays 
+     */
+    public final int arrayId() {
+        return readUint16(8);
+    }
+
+    /**
+     * Name, for human-friendly display in a Ground Control Station 
+     */
+    public final String name() {
+        return readString(10, 10);
+    }
+
+    /**
+     * data 
+     */
+    public final float data(int index) {
+        return readFloat(elementPosition(20, 4, 58, index));
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 49,
         description = "To debug something using a named 3D vector."
 )
-public final class DebugVect {
+public final class DebugVect implements JsonWritable {
     private final String name;
 
     private final BigInteger timeUsec;
@@ -130,6 +133,17 @@ public final class DebugVect {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("name").value(this.name);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DebugVect{name=" + name
@@ -178,6 +192,16 @@ public final class DebugVect {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * x 
          */
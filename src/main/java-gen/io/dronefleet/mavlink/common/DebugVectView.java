@@ -0,0 +1,48 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link DebugVect} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DebugVectView extends PayloadView<DebugVectView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * x 
+     */
+    public final float x() {
+        return readFloat(8);
+    }
+
+    /**
+     * y 
+     */
+    public final float y() {
+        return readFloat(12);
+    }
+
+    /**
+     * z 
+     */
+    public final float z() {
+        return readFloat(16);
+    }
+
+    /**
+     * Name 
+     */
+    public final String name() {
+        return readString(20, 10);
+    }
+}
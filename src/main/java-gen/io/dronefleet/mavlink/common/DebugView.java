@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Debug} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DebugView extends PayloadView<DebugView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * {@link io.dronefleet.mavlink.common.Debug DEBUG} value 
+     */
+    public final float value() {
+        return readFloat(4);
+    }
+
+    /**
+     * index of debug variable 
+     */
+    public final int ind() {
+        return readUint8(8);
+    }
+}
@@ -3,9 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -21,7 +25,7 @@ import java.util.Objects;
         crc = 85,
         description = "Distance sensor information for an onboard rangefinder."
 )
-public final class DistanceSensor {
+public final class DistanceSensor implements JsonWritable {
     private final long timeBootMs;
 
     private final int minDistance;
@@ -42,7 +46,7 @@ public final class DistanceSensor {
 
     private final float verticalFov;
 
-    private final List<Float> quaternion;
+    private final FloatArrayList quaternion;
 
     private final int signalQuality;
 
@@ -60,7 +64,7 @@ public final class DistanceSensor {
         this.covariance = covariance;
         this.horizontalFov = horizontalFov;
         this.verticalFov = verticalFov;
-        this.quaternion = quaternion;
+        this.quaternion = FloatArrayList.copyOf(quaternion);
         this.signalQuality = signalQuality;
     }
 
@@ -216,6 +220,25 @@ public final class DistanceSensor {
         return this.quaternion;
     }
 
+    /**
+     * Returns a copy of {@link #quaternion()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] quaternionArray() {
+        return this.quaternion != null ? this.quaternion.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #quaternion()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float quaternion(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.quaternion != null && index < this.quaternion.size() ? this.quaternion.getFloat(index) : 0;
+    }
+
     /**
      * Signal quality of the sensor. Specific to each sensor type, representing the relation of the 
      * signal strength with the target reflectivity, distance, size or aspect, but normalised as a 
@@ -269,6 +292,24 @@ public final class DistanceSensor {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("minDistance").value(this.minDistance);
+        writer.name("maxDistance").value(this.maxDistance);
+        writer.name("currentDistance").value(this.currentDistance);
+        writer.name("type").value(this.type);
+        writer.name("id").value(this.id);
+        writer.name("orientation").value(this.orientation);
+        writer.name("covariance").value(this.covariance);
+        writer.name("horizontalFov").value(this.horizontalFov);
+        writer.name("verticalFov").value(this.verticalFov);
+        writer.name("quaternion").value(this.quaternion);
+        writer.name("signalQuality").value(this.signalQuality);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DistanceSensor{timeBootMs=" + timeBootMs
@@ -513,6 +554,15 @@ public final class DistanceSensor {
             return this;
         }
 
+        /**
+         * Quaternion of the sensor orientation in vehicle body frame (w, x, y, z order, zero-rotation is 
+         * 1, 0, 0, 0). Zero-rotation is along the vehicle body x-axis. This field is required if the 
+         * orientation is set to MAV_SENSOR_ROTATION_CUSTOM. Set it to 0 if invalid." 
+         */
+        public final Builder quaternion(float... quaternion) {
+            return quaternion(FloatArrayList.of(quaternion));
+        }
+
         /**
          * Signal quality of the sensor. Specific to each sensor type, representing the relation of the 
          * signal strength with the target reflectivity, distance, size or aspect, but normalised as a 
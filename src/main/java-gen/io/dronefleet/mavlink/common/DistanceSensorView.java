@@ -0,0 +1,105 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DistanceSensor} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DistanceSensorView extends PayloadView<DistanceSensorView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Minimum distance the sensor can measure 
+     */
+    public final int minDistance() {
+        return readUint16(4);
+    }
+
+    /**
+     * Maximum distance the sensor can measure 
+     */
+    public final int maxDistance() {
+        return readUint16(6);
+    }
+
+    /**
+     * Current distance reading 
+     */
+    public final int currentDistance() {
+        return readUint16(8);
+    }
+
+    /**
+     * Type of distance sensor. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavDistanceSensor}.
+     */
+    public final int type() {
+        return readUint8(10);
+    }
+
+    /**
+     * Onboard ID of the sensor 
+     */
+    public final int id() {
+        return readUint8(11);
+    }
+
+    /**
+     * Direction the sensor faces. downward-facing: ROTATION_PITCH_270, upward-facing: 
+     * ROTATION_PITCH_90, backward-facing: ROTATION_PITCH_180, forward-facing: 
+     * ROTATION_NONE, left-facing: ROTATION_YAW_90, right-facing: ROTATION_YAW_270 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSensorOrientation}.
+     */
+    public final int orientation() {
+        return readUint8(12);
+    }
+
+    /**
+     * Measurement variance. Max standard deviation is 6cm. UINT8_MAX if unknown. 
+     */
+    public final int covariance() {
+        return readUint8(13);
+    }
+
+    /**
+     * Horizontal Field of View (angle) where the distance measurement is valid and the field of view 
+     * is known. Otherwise this is set to 0. 
+     */
+    public final float horizontalFov() {
+        return readFloat(14);
+    }
+
+    /**
+     * Vertical Field of View (angle) where the distance measurement is valid and the field of view is 
+     * known. Otherwise this is set to 0. 
+     */
+    public final float verticalFov() {
+        return readFloat(18);
+    }
+
+    /**
+     * Quaternion of the sensor orientation in vehicle body frame (w, x, y, z order, zero-rotation is 
+     * 1, 0, 0, 0). Zero-rotation is along the vehicle body x-axis. This field is required if the 
+     * orientation is set to MAV_SENSOR_ROTATION_CUSTOM. Set it to 0 if invalid." 
+     */
+    public final float quaternion(int index) {
+        return readFloat(elementPosition(22, 4, 4, index));
+    }
+
+    /**
+     * Signal quality of the sensor. Specific to each sensor type, representing the relation of the 
+     * signal strength with the target reflectivity, distance, size or aspect, but normalised as a 
+     * percentage. 0 = unknown/unset signal quality, 1 = invalid signal, 100 = perfect signal. 
+     */
+    public final int signalQuality() {
+        return readUint8(38);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 208,
         description = "EFI status output"
 )
-public final class EfiStatus {
+public final class EfiStatus implements JsonWritable {
     private final int health;
 
     private final float ecuIndex;
@@ -374,6 +376,31 @@ public final class EfiStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("health").value(this.health);
+        writer.name("ecuIndex").value(this.ecuIndex);
+        writer.name("rpm").value(this.rpm);
+        writer.name("fuelConsumed").value(this.fuelConsumed);
+        writer.name("fuelFlow").value(this.fuelFlow);
+        writer.name("engineLoad").value(this.engineLoad);
+        writer.name("throttlePosition").value(this.throttlePosition);
+        writer.name("sparkDwellTime").value(this.sparkDwellTime);
+        writer.name("barometricPressure").value(this.barometricPressure);
+        writer.name("intakeManifoldPressure").value(this.intakeManifoldPressure);
+        writer.name("intakeManifoldTemperature").value(this.intakeManifoldTemperature);
+        writer.name("cylinderHeadTemperature").value(this.cylinderHeadTemperature);
+        writer.name("ignitionTiming").value(this.ignitionTiming);
+        writer.name("injectionTime").value(this.injectionTime);
+        writer.name("exhaustGasTemperature").value(this.exhaustGasTemperature);
+        writer.name("throttleOut").value(this.throttleOut);
+        writer.name("ptCompensation").value(this.ptCompensation);
+        writer.name("ignitionVoltage").value(this.ignitionVoltage);
+        writer.name("fuelPressure").value(this.fuelPressure);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EfiStatus{health=" + health
@@ -0,0 +1,144 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EfiStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EfiStatusView extends PayloadView<EfiStatusView> {
+    /**
+     * ECU index 
+     */
+    public final float ecuIndex() {
+        return readFloat(0);
+    }
+
+    /**
+     * RPM 
+     */
+    public final float rpm() {
+        return readFloat(4);
+    }
+
+    /**
+     * Fuel consumed 
+     */
+    public final float fuelConsumed() {
+        return readFloat(8);
+    }
+
+    /**
+     * Fuel flow rate 
+     */
+    public final float fuelFlow() {
+        return readFloat(12);
+    }
+
+    /**
+     * Engine load 
+     */
+    public final float engineLoad() {
+        return readFloat(16);
+    }
+
+    /**
+     * Throttle position 
+     */
+    public final float throttlePosition() {
+        return readFloat(20);
+    }
+
+    /**
+     * Spark dwell time 
+     */
+    public final float sparkDwellTime() {
+        return readFloat(24);
+    }
+
+    /**
+     * Barometric pressure 
+     */
+    public final float barometricPressure() {
+        return readFloat(28);
+    }
+
+    /**
+     * Intake manifold pressure( 
+     */
+    public final float intakeManifoldPressure() {
+        return readFloat(32);
+    }
+
+    /**
+     * Intake manifold temperature 
+     */
+    public final float intakeManifoldTemperature() {
+        return readFloat(36);
+    }
+
+    /**
+     * Cylinder head temperature 
+     */
+    public final float cylinderHeadTemperature() {
+        return readFloat(40);
+    }
+
+    /**
+     * Ignition timing (Crank angle degrees) 
+     */
+    public final float ignitionTiming() {
+        return readFloat(44);
+    }
+
+    /**
+     * Injection time 
+     */
+    public final float injectionTime() {
+        return readFloat(48);
+    }
+
+    /**
+     * Exhaust gas temperature 
+     */
+    public final float exhaustGasTemperature() {
+        return readFloat(52);
+    }
+
+    /**
+     * Output throttle 
+     */
+    public final float throttleOut() {
+        return readFloat(56);
+    }
+
+    /**
+     * Pressure/temperature compensation 
+     */
+    public final float ptCompensation() {
+        return readFloat(60);
+    }
+
+    /**
+     * EFI health status 
+     */
+    public final int health() {
+        return readUint8(64);
+    }
+
+    /**
+     * Supply voltage to EFI sparking system. Zero in this value means "unknown", so if the supply 
+     * voltage really is zero volts use 0.0001 instead. 
+     */
+    public final float ignitionVoltage() {
+        return readFloat(65);
+    }
+
+    /**
+     * Fuel pressure. Zero in this value means "unknown", so if the fuel pressure really is zero kPa use 
+     * 0.0001 instead. 
+     */
+    public final float fuelPressure() {
+        return readFloat(69);
+    }
+}
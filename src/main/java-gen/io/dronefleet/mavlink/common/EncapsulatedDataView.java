@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EncapsulatedData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EncapsulatedDataView extends PayloadView<EncapsulatedDataView> {
+    /**
+     * sequence number (starting with 0 on every transmission) 
+     */
+    public final int seqnr() {
+        return readUint16(0);
+    }
+
+    /**
+     * image data bytes 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(2, 1, 253, index));
+    }
+}
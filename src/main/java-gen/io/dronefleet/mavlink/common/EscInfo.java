@@ -3,9 +3,15 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Enum;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.Object;
@@ -31,7 +37,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class EscInfo {
+public final class EscInfo implements JsonWritable {
     private final int index;
 
     private final BigInteger timeUsec;
@@ -46,9 +52,9 @@ public final class EscInfo {
 
     private final EnumValue<EscFailureFlags> failureFlags;
 
-    private final List<Long> errorCount;
+    private final LongArrayList errorCount;
 
-    private final List<Integer> temperature;
+    private final IntArrayList temperature;
 
     private EscInfo(int index, BigInteger timeUsec, int counter, int count,
             EnumValue<EscConnectionType> connectionType, int info,
@@ -61,8 +67,8 @@ public final class EscInfo {
         this.connectionType = connectionType;
         this.info = info;
         this.failureFlags = failureFlags;
-        this.errorCount = errorCount;
-        this.temperature = temperature;
+        this.errorCount = LongArrayList.copyOf(errorCount);
+        this.temperature = IntArrayList.copyOf(temperature);
     }
 
     /**
@@ -175,6 +181,25 @@ public final class EscInfo {
         return this.errorCount;
     }
 
+    /**
+     * Returns a copy of {@link #errorCount()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] errorCountArray() {
+        return this.errorCount != null ? this.errorCount.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #errorCount()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long errorCount(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.errorCount != null && index < this.errorCount.size() ? this.errorCount.getLong(index) : 0;
+    }
+
     /**
      * Temperature of each ESC. INT16_MAX: if data not supplied by ESC. 
      */
@@ -189,6 +214,25 @@ public final class EscInfo {
         return this.temperature;
     }
 
+    /**
+     * Returns a copy of {@link #temperature()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] temperatureArray() {
+        return this.temperature != null ? this.temperature.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #temperature()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int temperature(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.temperature != null && index < this.temperature.size() ? this.temperature.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -221,6 +265,21 @@ public final class EscInfo {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("index").value(this.index);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("counter").value(this.counter);
+        writer.name("count").value(this.count);
+        writer.name("connectionType").value(this.connectionType);
+        writer.name("info").value(this.info);
+        writer.name("failureFlags").value(this.failureFlags);
+        writer.name("errorCount").value(this.errorCount);
+        writer.name("temperature").value(this.temperature);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EscInfo{index=" + index
@@ -280,6 +339,16 @@ public final class EscInfo {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Counter of data packets received. 
          */
@@ -405,6 +474,13 @@ public final class EscInfo {
             return this;
         }
 
+        /**
+         * Number of reported errors by each ESC since boot. 
+         */
+        public final Builder errorCount(long... errorCount) {
+            return errorCount(LongArrayList.of(errorCount));
+        }
+
         /**
          * Temperature of each ESC. INT16_MAX: if data not supplied by ESC. 
          */
@@ -420,6 +496,13 @@ public final class EscInfo {
             return this;
         }
 
+        /**
+         * Temperature of each ESC. INT16_MAX: if data not supplied by ESC. 
+         */
+        public final Builder temperature(int... temperature) {
+            return temperature(IntArrayList.of(temperature));
+        }
+
         public final EscInfo build() {
             return new EscInfo(index, timeUsec, counter, count, connectionType, info, failureFlags, errorCount, temperature);
         }
@@ -0,0 +1,82 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link EscInfo} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class EscInfoView extends PayloadView<EscInfoView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Number of reported errors by each ESC since boot. 
+     */
+    public final long errorCount(int index) {
+        return readUint32(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * Counter of data packets received. 
+     */
+    public final int counter() {
+        return readUint16(24);
+    }
+
+    /**
+     * Bitmap of ESC failure flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link EscFailureFlags}.
+     */
+    public final int failureFlags(int index) {
+        return readUint16(elementPosition(26, 2, 4, index));
+    }
+
+    /**
+     * Temperature of each ESC. INT16_MAX: if data not supplied by ESC. 
+     */
+    public final int temperature(int index) {
+        return readInt16(elementPosition(34, 2, 4, index));
+    }
+
+    /**
+     * Index of the first ESC in this message. minValue = 0, maxValue = 60, increment = 4. 
+     */
+    public final int index() {
+        return readUint8(42);
+    }
+
+    /**
+     * Total number of ESCs in all messages of this type. Message fields with an index higher than this 
+     * should be ignored because they contain invalid data. 
+     */
+    public final int count() {
+        return readUint8(43);
+    }
+
+    /**
+     * Connection type protocol for all ESC. 
+     * <p>
+     * This returns the raw value of the field, see {@link EscConnectionType}.
+     */
+    public final int connectionType() {
+        return readUint8(44);
+    }
+
+    /**
+     * Information regarding online/offline status of each ESC. 
+     */
+    public final int info() {
+        return readUint8(45);
+    }
+}
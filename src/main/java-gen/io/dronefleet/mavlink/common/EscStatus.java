@@ -3,8 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -29,24 +35,24 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class EscStatus {
+public final class EscStatus implements JsonWritable {
     private final int index;
 
     private final BigInteger timeUsec;
 
-    private final List<Integer> rpm;
+    private final IntArrayList rpm;
 
-    private final List<Float> voltage;
+    private final FloatArrayList voltage;
 
-    private final List<Float> current;
+    private final FloatArrayList current;
 
     private EscStatus(int index, BigInteger timeUsec, List<Integer> rpm, List<Float> voltage,
             List<Float> current) {
         this.index = index;
         this.timeUsec = timeUsec;
-        this.rpm = rpm;
-        this.voltage = voltage;
-        this.current = current;
+        this.rpm = IntArrayList.copyOf(rpm);
+        this.voltage = FloatArrayList.copyOf(voltage);
+        this.current = FloatArrayList.copyOf(current);
     }
 
     /**
@@ -96,6 +102,25 @@ public final class EscStatus {
         return this.rpm;
     }
 
+    /**
+     * Returns a copy of {@link #rpm()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] rpmArray() {
+        return this.rpm != null ? this.rpm.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #rpm()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int rpm(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.rpm != null && index < this.rpm.size() ? this.rpm.getInt(index) : 0;
+    }
+
     /**
      * Voltage measured from each ESC. 
      */
@@ -109,6 +134,25 @@ public final class EscStatus {
         return this.voltage;
     }
 
+    /**
+     * Returns a copy of {@link #voltage()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] voltageArray() {
+        return this.voltage != null ? this.voltage.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #voltage()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float voltage(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.voltage != null && index < this.voltage.size() ? this.voltage.getFloat(index) : 0;
+    }
+
     /**
      * Current measured from each ESC. 
      */
@@ -122,6 +166,25 @@ public final class EscStatus {
         return this.current;
     }
 
+    /**
+     * Returns a copy of {@link #current()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] currentArray() {
+        return this.current != null ? this.current.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #current()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float current(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.current != null && index < this.current.size() ? this.current.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -146,6 +209,17 @@ public final class EscStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("index").value(this.index);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("rpm").value(this.rpm);
+        writer.name("voltage").value(this.voltage);
+        writer.name("current").value(this.current);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EscStatus{index=" + index
@@ -193,6 +267,16 @@ public final class EscStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Reported motor RPM from each ESC (negative for reverse rotation). 
          */
@@ -208,6 +292,13 @@ public final class EscStatus {
             return this;
         }
 
+        /**
+         * Reported motor RPM from each ESC (negative for reverse rotation). 
+         */
+        public final Builder rpm(int... rpm) {
+            return rpm(IntArrayList.of(rpm));
+        }
+
         /**
          * Voltage measured from each ESC. 
          */
@@ -222,6 +313,13 @@ public final class EscStatus {
             return this;
         }
 
+        /**
+         * Voltage measured from each ESC. 
+         */
+        public final Builder voltage(float... voltage) {
+            return voltage(FloatArrayList.of(voltage));
+        }
+
         /**
          * Current measured from each ESC. 
          */
@@ -236,6 +334,13 @@ public final class EscStatus {
             return this;
         }
 
+        /**
+         * Current measured from each ESC. 
+         */
+        public final Builder current(float... current) {
+            return current(FloatArrayList.of(current));
+        }
+
         public final EscStatus build() {
             return new EscStatus(index, timeUsec, rpm, voltage, current);
         }
@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link EscStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class EscStatusView extends PayloadView<EscStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Reported motor RPM from each ESC (negative for reverse rotation). 
+     */
+    public final int rpm(int index) {
+        return readInt32(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * Voltage measured from each ESC. 
+     */
+    public final float voltage(int index) {
+        return readFloat(elementPosition(24, 4, 4, index));
+    }
+
+    /**
+     * Current measured from each ESC. 
+     */
+    public final float current(int index) {
+        return readFloat(elementPosition(40, 4, 4, index));
+    }
+
+    /**
+     * Index of the first ESC in this message. minValue = 0, maxValue = 60, increment = 4. 
+     */
+    public final int index() {
+        return readUint8(56);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -28,7 +31,7 @@ import java.util.Objects;
         crc = 163,
         description = "Estimator status message including flags, innovation test ratios and estimated accuracies. The flags message is an integer bitmask containing information on which EKF outputs are valid. See the ESTIMATOR_STATUS_FLAGS enum definition for further information. The innovation test ratios show the magnitude of the sensor innovation divided by the innovation check threshold. Under normal operation the innovation test ratios should be below 0.5 with occasional values up to 1.0. Values greater than 1.0 should be rare under normal operation and indicate that a measurement has been rejected by the filter. The user should be notified if an innovation test ratio greater than 1.0 is recorded. Notifications for values in the range between 0.5 and 1.0 should be optional and controllable by the user."
 )
-public final class EstimatorStatus {
+public final class EstimatorStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<EstimatorStatusFlags> flags;
@@ -228,6 +231,22 @@ public final class EstimatorStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("flags").value(this.flags);
+        writer.name("velRatio").value(this.velRatio);
+        writer.name("posHorizRatio").value(this.posHorizRatio);
+        writer.name("posVertRatio").value(this.posVertRatio);
+        writer.name("magRatio").value(this.magRatio);
+        writer.name("haglRatio").value(this.haglRatio);
+        writer.name("tasRatio").value(this.tasRatio);
+        writer.name("posHorizAccuracy").value(this.posHorizAccuracy);
+        writer.name("posVertAccuracy").value(this.posVertAccuracy);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "EstimatorStatus{timeUsec=" + timeUsec
@@ -277,6 +296,16 @@ public final class EstimatorStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Bitmap indicating which EKF outputs are valid. 
          */
@@ -0,0 +1,84 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link EstimatorStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class EstimatorStatusView extends PayloadView<EstimatorStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Velocity innovation test ratio 
+     */
+    public final float velRatio() {
+        return readFloat(8);
+    }
+
+    /**
+     * Horizontal position innovation test ratio 
+     */
+    public final float posHorizRatio() {
+        return readFloat(12);
+    }
+
+    /**
+     * Vertical position innovation test ratio 
+     */
+    public final float posVertRatio() {
+        return readFloat(16);
+    }
+
+    /**
+     * Magnetometer innovation test ratio 
+     */
+    public final float magRatio() {
+        return readFloat(20);
+    }
+
+    /**
+     * Height above terrain innovation test ratio 
+     */
+    public final float haglRatio() {
+        return readFloat(24);
+    }
+
+    /**
+     * True airspeed innovation test ratio 
+     */
+    public final float tasRatio() {
+        return readFloat(28);
+    }
+
+    /**
+     * Horizontal position 1-STD accuracy relative to the EKF local origin 
+     */
+    public final float posHorizAccuracy() {
+        return readFloat(32);
+    }
+
+    /**
+     * Vertical position 1-STD accuracy relative to the EKF local origin 
+     */
+    public final float posVertAccuracy() {
+        return readFloat(36);
+    }
+
+    /**
+     * Bitmap indicating which EKF outputs are valid. 
+     * <p>
+     * This returns the raw value of the field, see {@link EstimatorStatusFlags}.
+     */
+    public final int flags() {
+        return readUint16(40);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -27,7 +29,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class Event {
+public final class Event implements JsonWritable {
     private final int destinationComponent;
 
     private final int destinationSystem;
@@ -176,6 +178,19 @@ public final class Event {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("destinationComponent").value(this.destinationComponent);
+        writer.name("destinationSystem").value(this.destinationSystem);
+        writer.name("id").value(this.id);
+        writer.name("eventTimeBootMs").value(this.eventTimeBootMs);
+        writer.name("sequence").value(this.sequence);
+        writer.name("logLevels").value(this.logLevels);
+        writer.name("arguments").value(this.arguments);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Event{destinationComponent=" + destinationComponent
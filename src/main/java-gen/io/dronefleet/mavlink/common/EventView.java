@@ -0,0 +1,62 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link Event} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class EventView extends PayloadView<EventView> {
+    /**
+     * Event ID (as defined in the component metadata) 
+     */
+    public final long id() {
+        return readUint32(0);
+    }
+
+    /**
+     * Timestamp (time since system boot when the event happened). 
+     */
+    public final long eventTimeBootMs() {
+        return readUint32(4);
+    }
+
+    /**
+     * Sequence number. 
+     */
+    public final int sequence() {
+        return readUint16(8);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int destinationComponent() {
+        return readUint8(10);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int destinationSystem() {
+        return readUint8(11);
+    }
+
+    /**
+     * Log levels: 4 bits MSB: internal (for logging purposes), 4 bits LSB: external. Levels: 
+     * Emergency = 0, Alert = 1, Critical = 2, Error = 3, Warning = 4, Notice = 5, Info = 6, Debug = 7, 
+     * Protocol = 8, Disabled = 9 
+     */
+    public final int logLevels() {
+        return readUint8(12);
+    }
+
+    /**
+     * Arguments (depend on event ID). 
+     */
+    public final int arguments(int index) {
+        return readUint8(elementPosition(13, 1, 40, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 130,
         description = "Provides state for additional features"
 )
-public final class ExtendedSysState {
+public final class ExtendedSysState implements JsonWritable {
     private final EnumValue<MavVtolState> vtolState;
 
     private final EnumValue<MavLandedState> landedState;
@@ -83,6 +85,14 @@ public final class ExtendedSysState {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("vtolState").value(this.vtolState);
+        writer.name("landedState").value(this.landedState);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ExtendedSysState{vtolState=" + vtolState
@@ -0,0 +1,28 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ExtendedSysState} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ExtendedSysStateView extends PayloadView<ExtendedSysStateView> {
+    /**
+     * The VTOL state if applicable. Is set to MAV_VTOL_STATE_UNDEFINED if UAV is not in VTOL 
+     * configuration. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavVtolState}.
+     */
+    public final int vtolState() {
+        return readUint8(0);
+    }
+
+    /**
+     * The landed state. Is set to MAV_LANDED_STATE_UNDEFINED if landed state is unknown. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavLandedState}.
+     */
+    public final int landedState() {
+        return readUint8(1);
+    }
+}
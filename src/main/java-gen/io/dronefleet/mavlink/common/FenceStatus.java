@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 189,
         description = "Status of geo-fencing. Sent in extended status stream when fencing enabled."
 )
-public final class FenceStatus {
+public final class FenceStatus implements JsonWritable {
     private final int breachStatus;
 
     private final int breachCount;
@@ -134,6 +136,17 @@ public final class FenceStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("breachStatus").value(this.breachStatus);
+        writer.name("breachCount").value(this.breachCount);
+        writer.name("breachType").value(this.breachType);
+        writer.name("breachTime").value(this.breachTime);
+        writer.name("breachMitigation").value(this.breachMitigation);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FenceStatus{breachStatus=" + breachStatus
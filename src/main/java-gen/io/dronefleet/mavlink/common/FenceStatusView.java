@@ -0,0 +1,48 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FenceStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FenceStatusView extends PayloadView<FenceStatusView> {
+    /**
+     * Time (since boot) of last breach. 
+     */
+    public final long breachTime() {
+        return readUint32(0);
+    }
+
+    /**
+     * Number of fence breaches. 
+     */
+    public final int breachCount() {
+        return readUint16(4);
+    }
+
+    /**
+     * Breach status (0 if currently inside fence, 1 if outside). 
+     */
+    public final int breachStatus() {
+        return readUint8(6);
+    }
+
+    /**
+     * Last breach type. 
+     * <p>
+     * This returns the raw value of the field, see {@link FenceBreach}.
+     */
+    public final int breachType() {
+        return readUint8(7);
+    }
+
+    /**
+     * Active action to prevent fence breach 
+     * <p>
+     * This returns the raw value of the field, see {@link FenceMitigate}.
+     */
+    public final int breachMitigation() {
+        return readUint8(8);
+    }
+}
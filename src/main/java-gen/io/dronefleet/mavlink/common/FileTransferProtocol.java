@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 84,
         description = "File transfer protocol message: https://mavlink.io/en/services/ftp.html."
 )
-public final class FileTransferProtocol {
+public final class FileTransferProtocol implements JsonWritable {
     private final int targetNetwork;
 
     private final int targetSystem;
@@ -114,6 +116,16 @@ public final class FileTransferProtocol {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetNetwork").value(this.targetNetwork);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("payload").value(this.payload);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FileTransferProtocol{targetNetwork=" + targetNetwork
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FileTransferProtocol} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FileTransferProtocolView extends PayloadView<FileTransferProtocolView> {
+    /**
+     * Network ID (0 for broadcast) 
+     */
+    public final int targetNetwork() {
+        return readUint8(0);
+    }
+
+    /**
+     * System ID (0 for broadcast) 
+     */
+    public final int targetSystem() {
+        return readUint8(1);
+    }
+
+    /**
+     * Component ID (0 for broadcast) 
+     */
+    public final int targetComponent() {
+        return readUint8(2);
+    }
+
+    /**
+     * Variable length payload. The length is defined by the remaining message length when 
+     * subtracting the header and other fields. The content/format of this block is defined in 
+     * https://mavlink.io/en/services/ftp.html. 
+     */
+    public final int payload(int index) {
+        return readUint8(elementPosition(3, 1, 251, index));
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +22,7 @@ import java.util.Objects;
         description = "Information about flight since last arming.\n"
                         + "        This can be requested using MAV_CMD_REQUEST_MESSAGE."
 )
-public final class FlightInformation {
+public final class FlightInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final BigInteger armingTimeUtc;
@@ -114,6 +117,16 @@ public final class FlightInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("armingTimeUtc").value(this.armingTimeUtc);
+        writer.name("takeoffTimeUtc").value(this.takeoffTimeUtc);
+        writer.name("flightUuid").value(this.flightUuid);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlightInformation{timeBootMs=" + timeBootMs
@@ -157,6 +170,15 @@ public final class FlightInformation {
             return this;
         }
 
+        /**
+         * Timestamp at arming (time since UNIX epoch) in UTC, 0 for unknown 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder armingTimeUtc(long armingTimeUtc) {
+            return armingTimeUtc(UnsignedLongs.toBigInteger(armingTimeUtc));
+        }
+
         /**
          * Timestamp at takeoff (time since UNIX epoch) in UTC, 0 for unknown 
          */
@@ -170,6 +192,15 @@ public final class FlightInformation {
             return this;
         }
 
+        /**
+         * Timestamp at takeoff (time since UNIX epoch) in UTC, 0 for unknown 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder takeoffTimeUtc(long takeoffTimeUtc) {
+            return takeoffTimeUtc(UnsignedLongs.toBigInteger(takeoffTimeUtc));
+        }
+
         /**
          * Universally unique identifier (UUID) of flight, should correspond to name of log files 
          */
@@ -183,6 +214,15 @@ public final class FlightInformation {
             return this;
         }
 
+        /**
+         * Universally unique identifier (UUID) of flight, should correspond to name of log files 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder flightUuid(long flightUuid) {
+            return flightUuid(UnsignedLongs.toBigInteger(flightUuid));
+        }
+
         public final FlightInformation build() {
             return new FlightInformation(timeBootMs, armingTimeUtc, takeoffTimeUtc, flightUuid);
         }
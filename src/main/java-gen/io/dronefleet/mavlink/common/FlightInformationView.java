@@ -0,0 +1,43 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlightInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlightInformationView extends PayloadView<FlightInformationView> {
+    /**
+     * Timestamp at arming (time since UNIX epoch) in UTC, 0 for unknown 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long armingTimeUtc() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp at takeoff (time since UNIX epoch) in UTC, 0 for unknown 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long takeoffTimeUtc() {
+        return readInt64(8);
+    }
+
+    /**
+     * Universally unique identifier (UUID) of flight, should correspond to name of log files 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long flightUuid() {
+        return readInt64(16);
+    }
+
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(24);
+    }
+}
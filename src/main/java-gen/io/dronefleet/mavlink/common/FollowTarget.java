@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +24,7 @@ import java.util.Objects;
         crc = 127,
         description = "Current motion information from a designated system"
 )
-public final class FollowTarget {
+public final class FollowTarget implements JsonWritable {
     private final BigInteger timestamp;
 
     private final int estCapabilities;
@@ -30,15 +35,15 @@ public final class FollowTarget {
 
     private final float alt;
 
-    private final List<Float> vel;
+    private final FloatArrayList vel;
 
-    private final List<Float> acc;
+    private final FloatArrayList acc;
 
-    private final List<Float> attitudeQ;
+    private final FloatArrayList attitudeQ;
 
-    private final List<Float> rates;
+    private final FloatArrayList rates;
 
-    private final List<Float> positionCov;
+    private final FloatArrayList positionCov;
 
     private final BigInteger customState;
 
@@ -50,11 +55,11 @@ public final class FollowTarget {
         this.lat = lat;
         this.lon = lon;
         this.alt = alt;
-        this.vel = vel;
-        this.acc = acc;
-        this.attitudeQ = attitudeQ;
-        this.rates = rates;
-        this.positionCov = positionCov;
+        this.vel = FloatArrayList.copyOf(vel);
+        this.acc = FloatArrayList.copyOf(acc);
+        this.attitudeQ = FloatArrayList.copyOf(attitudeQ);
+        this.rates = FloatArrayList.copyOf(rates);
+        this.positionCov = FloatArrayList.copyOf(positionCov);
         this.customState = customState;
     }
 
@@ -141,6 +146,25 @@ public final class FollowTarget {
         return this.vel;
     }
 
+    /**
+     * Returns a copy of {@link #vel()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velArray() {
+        return this.vel != null ? this.vel.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #vel()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float vel(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.vel != null && index < this.vel.size() ? this.vel.getFloat(index) : 0;
+    }
+
     /**
      * linear target acceleration (0,0,0) for unknown 
      */
@@ -154,6 +178,25 @@ public final class FollowTarget {
         return this.acc;
     }
 
+    /**
+     * Returns a copy of {@link #acc()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] accArray() {
+        return this.acc != null ? this.acc.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #acc()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float acc(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.acc != null && index < this.acc.size() ? this.acc.getFloat(index) : 0;
+    }
+
     /**
      * (0 0 0 0 for unknown) 
      */
@@ -167,6 +210,25 @@ public final class FollowTarget {
         return this.attitudeQ;
     }
 
+    /**
+     * Returns a copy of {@link #attitudeQ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] attitudeQArray() {
+        return this.attitudeQ != null ? this.attitudeQ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #attitudeQ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float attitudeQ(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.attitudeQ != null && index < this.attitudeQ.size() ? this.attitudeQ.getFloat(index) : 0;
+    }
+
     /**
      * (0 0 0 for unknown) 
      */
@@ -180,6 +242,25 @@ public final class FollowTarget {
         return this.rates;
     }
 
+    /**
+     * Returns a copy of {@link #rates()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] ratesArray() {
+        return this.rates != null ? this.rates.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #rates()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float rates(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.rates != null && index < this.rates.size() ? this.rates.getFloat(index) : 0;
+    }
+
     /**
      * eph epv 
      */
@@ -193,6 +274,25 @@ public final class FollowTarget {
         return this.positionCov;
     }
 
+    /**
+     * Returns a copy of {@link #positionCov()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] positionCovArray() {
+        return this.positionCov != null ? this.positionCov.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #positionCov()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float positionCov(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.positionCov != null && index < this.positionCov.size() ? this.positionCov.getFloat(index) : 0;
+    }
+
     /**
      * button states or switches of a tracker device 
      */
@@ -241,6 +341,23 @@ public final class FollowTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("estCapabilities").value(this.estCapabilities);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("vel").value(this.vel);
+        writer.name("acc").value(this.acc);
+        writer.name("attitudeQ").value(this.attitudeQ);
+        writer.name("rates").value(this.rates);
+        writer.name("positionCov").value(this.positionCov);
+        writer.name("customState").value(this.customState);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FollowTarget{timestamp=" + timestamp
@@ -292,6 +409,15 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * Timestamp (time since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * bit positions for tracker reporting capabilities (POS = 0, VEL = 1, ACCEL = 2, ATT + RATES = 3) 
          */
@@ -360,6 +486,13 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * target velocity (0,0,0) for unknown 
+         */
+        public final Builder vel(float... vel) {
+            return vel(FloatArrayList.of(vel));
+        }
+
         /**
          * linear target acceleration (0,0,0) for unknown 
          */
@@ -374,6 +507,13 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * linear target acceleration (0,0,0) for unknown 
+         */
+        public final Builder acc(float... acc) {
+            return acc(FloatArrayList.of(acc));
+        }
+
         /**
          * (0 0 0 0 for unknown) 
          */
@@ -388,6 +528,13 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * (0 0 0 0 for unknown) 
+         */
+        public final Builder attitudeQ(float... attitudeQ) {
+            return attitudeQ(FloatArrayList.of(attitudeQ));
+        }
+
         /**
          * (0 0 0 for unknown) 
          */
@@ -402,6 +549,13 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * (0 0 0 for unknown) 
+         */
+        public final Builder rates(float... rates) {
+            return rates(FloatArrayList.of(rates));
+        }
+
         /**
          * eph epv 
          */
@@ -416,6 +570,13 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * eph epv 
+         */
+        public final Builder positionCov(float... positionCov) {
+            return positionCov(FloatArrayList.of(positionCov));
+        }
+
         /**
          * button states or switches of a tracker device 
          */
@@ -429,6 +590,15 @@ public final class FollowTarget {
             return this;
         }
 
+        /**
+         * button states or switches of a tracker device 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder customState(long customState) {
+            return customState(UnsignedLongs.toBigInteger(customState));
+        }
+
         public final FollowTarget build() {
             return new FollowTarget(timestamp, estCapabilities, lat, lon, alt, vel, acc, attitudeQ, rates, positionCov, customState);
         }
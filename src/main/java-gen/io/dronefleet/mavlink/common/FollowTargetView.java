@@ -0,0 +1,90 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FollowTarget} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FollowTargetView extends PayloadView<FollowTargetView> {
+    /**
+     * Timestamp (time since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * button states or switches of a tracker device 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long customState() {
+        return readInt64(8);
+    }
+
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int lat() {
+        return readInt32(16);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int lon() {
+        return readInt32(20);
+    }
+
+    /**
+     * Altitude (MSL) 
+     */
+    public final float alt() {
+        return readFloat(24);
+    }
+
+    /**
+     * target velocity (0,0,0) for unknown 
+     */
+    public final float vel(int index) {
+        return readFloat(elementPosition(28, 4, 3, index));
+    }
+
+    /**
+     * linear target acceleration (0,0,0) for unknown 
+     */
+    public final float acc(int index) {
+        return readFloat(elementPosition(40, 4, 3, index));
+    }
+
+    /**
+     * (0 0 0 0 for unknown) 
+     */
+    public final float attitudeQ(int index) {
+        return readFloat(elementPosition(52, 4, 4, index));
+    }
+
+    /**
+     * (0 0 0 for unknown) 
+     */
+    public final float rates(int index) {
+        return readFloat(elementPosition(68, 4, 3, index));
+    }
+
+    /**
+     * eph epv 
+     */
+    public final float positionCov(int index) {
+        return readFloat(elementPosition(80, 4, 3, index));
+    }
+
+    /**
+     * bit positions for tracker reporting capabilities (POS = 0, VEL = 1, ACCEL = 2, ATT + RATES = 3) 
+     */
+    public final int estCapabilities() {
+        return readUint8(92);
+    }
+}
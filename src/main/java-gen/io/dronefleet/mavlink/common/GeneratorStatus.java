@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 117,
         description = "Telemetry of power generation system. Alternator or mechanical generator."
 )
-public final class GeneratorStatus {
+public final class GeneratorStatus implements JsonWritable {
     private final EnumValue<MavGeneratorStatusFlag> status;
 
     private final int generatorSpeed;
@@ -243,6 +245,23 @@ public final class GeneratorStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("status").value(this.status);
+        writer.name("generatorSpeed").value(this.generatorSpeed);
+        writer.name("batteryCurrent").value(this.batteryCurrent);
+        writer.name("loadCurrent").value(this.loadCurrent);
+        writer.name("powerGenerated").value(this.powerGenerated);
+        writer.name("busVoltage").value(this.busVoltage);
+        writer.name("rectifierTemperature").value(this.rectifierTemperature);
+        writer.name("batCurrentSetpoint").value(this.batCurrentSetpoint);
+        writer.name("generatorTemperature").value(this.generatorTemperature);
+        writer.name("runtime").value(this.runtime);
+        writer.name("timeUntilMaintenance").value(this.timeUntilMaintenance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GeneratorStatus{status=" + status
@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GeneratorStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GeneratorStatusView extends PayloadView<GeneratorStatusView> {
+    /**
+     * Status flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavGeneratorStatusFlag}.
+     */
+    public final int status() {
+        return readInt32(0);
+    }
+
+    /**
+     * Current into/out of battery. Positive for out. Negative for in. NaN: field not provided. 
+     */
+    public final float batteryCurrent() {
+        return readFloat(8);
+    }
+
+    /**
+     * Current going to the UAV. If battery current not available this is the DC current from the 
+     * generator. Positive for out. Negative for in. NaN: field not provided 
+     */
+    public final float loadCurrent() {
+        return readFloat(12);
+    }
+
+    /**
+     * The power being generated. NaN: field not provided 
+     */
+    public final float powerGenerated() {
+        return readFloat(16);
+    }
+
+    /**
+     * Voltage of the bus seen at the generator, or battery bus if battery bus is controlled by 
+     * generator and at a different voltage to main bus. 
+     */
+    public final float busVoltage() {
+        return readFloat(20);
+    }
+
+    /**
+     * The target battery current. Positive for out. Negative for in. NaN: field not provided 
+     */
+    public final float batCurrentSetpoint() {
+        return readFloat(24);
+    }
+
+    /**
+     * Seconds this generator has run since it was rebooted. UINT32_MAX: field not provided. 
+     */
+    public final long runtime() {
+        return readUint32(28);
+    }
+
+    /**
+     * Seconds until this generator requires maintenance. A negative value indicates maintenance 
+     * is past-due. INT32_MAX: field not provided. 
+     */
+    public final int timeUntilMaintenance() {
+        return readInt32(32);
+    }
+
+    /**
+     * Speed of electrical generator or alternator. UINT16_MAX: field not provided. 
+     */
+    public final int generatorSpeed() {
+        return readUint16(36);
+    }
+
+    /**
+     * The temperature of the rectifier or power converter. INT16_MAX: field not provided. 
+     */
+    public final int rectifierTemperature() {
+        return readInt16(38);
+    }
+
+    /**
+     * The temperature of the mechanical motor, fuel cell core or generator. INT16_MAX: field not 
+     * provided. 
+     */
+    public final int generatorTemperature() {
+        return readInt16(40);
+    }
+}
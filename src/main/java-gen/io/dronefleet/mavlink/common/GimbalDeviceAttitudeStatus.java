@@ -3,10 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Deprecated;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -58,7 +62,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalDeviceAttitudeStatus {
+public final class GimbalDeviceAttitudeStatus implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -67,7 +71,7 @@ public final class GimbalDeviceAttitudeStatus {
 
     private final EnumValue<GimbalDeviceFlags> flags;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float angularVelocityX;
 
@@ -90,7 +94,7 @@ public final class GimbalDeviceAttitudeStatus {
         this.targetComponent = targetComponent;
         this.timeBootMs = timeBootMs;
         this.flags = flags;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.angularVelocityX = angularVelocityX;
         this.angularVelocityY = angularVelocityY;
         this.angularVelocityZ = angularVelocityZ;
@@ -170,6 +174,25 @@ public final class GimbalDeviceAttitudeStatus {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * X component of angular velocity (positive: rolling to the right). The frame is described in the 
      * message description. NaN if unknown. 
@@ -286,6 +309,23 @@ public final class GimbalDeviceAttitudeStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("flags").value(this.flags);
+        writer.name("q").value(this.q);
+        writer.name("angularVelocityX").value(this.angularVelocityX);
+        writer.name("angularVelocityY").value(this.angularVelocityY);
+        writer.name("angularVelocityZ").value(this.angularVelocityZ);
+        writer.name("failureFlags").value(this.failureFlags);
+        writer.name("deltaYaw").value(this.deltaYaw);
+        writer.name("deltaYawVelocity").value(this.deltaYawVelocity);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalDeviceAttitudeStatus{targetSystem=" + targetSystem
@@ -413,6 +453,14 @@ public final class GimbalDeviceAttitudeStatus {
             return this;
         }
 
+        /**
+         * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). The frame is described in the 
+         * message description. 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * X component of angular velocity (positive: rolling to the right). The frame is described in the 
          * message description. NaN if unknown. 
@@ -0,0 +1,98 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalDeviceAttitudeStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalDeviceAttitudeStatusView extends PayloadView<GimbalDeviceAttitudeStatusView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). The frame is described in the 
+     * message description. 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(4, 4, 4, index));
+    }
+
+    /**
+     * X component of angular velocity (positive: rolling to the right). The frame is described in the 
+     * message description. NaN if unknown. 
+     */
+    public final float angularVelocityX() {
+        return readFloat(20);
+    }
+
+    /**
+     * Y component of angular velocity (positive: pitching up). The frame is described in the message 
+     * description. NaN if unknown. 
+     */
+    public final float angularVelocityY() {
+        return readFloat(24);
+    }
+
+    /**
+     * Z component of angular velocity (positive: yawing to the right). The frame is described in the 
+     * message description. NaN if unknown. 
+     */
+    public final float angularVelocityZ() {
+        return readFloat(28);
+    }
+
+    /**
+     * Failure flags (0 for no failure) 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalDeviceErrorFlags}.
+     */
+    public final int failureFlags() {
+        return readInt32(32);
+    }
+
+    /**
+     * Current gimbal flags set. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalDeviceFlags}.
+     */
+    public final int flags() {
+        return readUint16(36);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(38);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(39);
+    }
+
+    /**
+     * Yaw angle relating the quaternions in earth and body frames (see message description). NaN if 
+     * unknown. 
+     */
+    public final float deltaYaw() {
+        return readFloat(40);
+    }
+
+    /**
+     * Yaw angular velocity relating the angular velocities in earth and body frames (see message 
+     * description). NaN if unknown. 
+     */
+    public final float deltaYawVelocity() {
+        return readFloat(44);
+    }
+}
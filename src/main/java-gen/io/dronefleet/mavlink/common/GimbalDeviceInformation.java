@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Enum;
 import java.lang.Object;
@@ -30,7 +33,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalDeviceInformation {
+public final class GimbalDeviceInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final String vendorName;
@@ -322,6 +325,27 @@ public final class GimbalDeviceInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("vendorName").value(this.vendorName);
+        writer.name("modelName").value(this.modelName);
+        writer.name("customName").value(this.customName);
+        writer.name("firmwareVersion").value(this.firmwareVersion);
+        writer.name("hardwareVersion").value(this.hardwareVersion);
+        writer.name("uid").value(this.uid);
+        writer.name("capFlags").value(this.capFlags);
+        writer.name("customCapFlags").value(this.customCapFlags);
+        writer.name("rollMin").value(this.rollMin);
+        writer.name("rollMax").value(this.rollMax);
+        writer.name("pitchMin").value(this.pitchMin);
+        writer.name("pitchMax").value(this.pitchMax);
+        writer.name("yawMin").value(this.yawMin);
+        writer.name("yawMax").value(this.yawMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalDeviceInformation{timeBootMs=" + timeBootMs
@@ -468,6 +492,15 @@ public final class GimbalDeviceInformation {
             return this;
         }
 
+        /**
+         * UID of gimbal hardware (0 if unknown). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder uid(long uid) {
+            return uid(UnsignedLongs.toBigInteger(uid));
+        }
+
         /**
          * Bitmap of gimbal capability flags. 
          */
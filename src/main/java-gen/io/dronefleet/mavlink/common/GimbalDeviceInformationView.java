@@ -0,0 +1,125 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link GimbalDeviceInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalDeviceInformationView extends PayloadView<GimbalDeviceInformationView> {
+    /**
+     * UID of gimbal hardware (0 if unknown). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long uid() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(8);
+    }
+
+    /**
+     * Version of the gimbal firmware, encoded as: (Dev &amp; 0xff) &lt;&lt; 24 | (Patch &amp; 0xff) &lt;&lt; 16 | (Minor &amp; 
+     * 0xff) &lt;&lt; 8 | (Major &amp; 0xff). 
+     */
+    public final long firmwareVersion() {
+        return readUint32(12);
+    }
+
+    /**
+     * Version of the gimbal hardware, encoded as: (Dev &amp; 0xff) &lt;&lt; 24 | (Patch &amp; 0xff) &lt;&lt; 16 | (Minor &amp; 
+     * 0xff) &lt;&lt; 8 | (Major &amp; 0xff). 
+     */
+    public final long hardwareVersion() {
+        return readUint32(16);
+    }
+
+    /**
+     * Minimum hardware roll angle (positive: rolling to the right, negative: rolling to the left). 
+     * NAN if unknown. 
+     */
+    public final float rollMin() {
+        return readFloat(20);
+    }
+
+    /**
+     * Maximum hardware roll angle (positive: rolling to the right, negative: rolling to the left). 
+     * NAN if unknown. 
+     */
+    public final float rollMax() {
+        return readFloat(24);
+    }
+
+    /**
+     * Minimum hardware pitch angle (positive: up, negative: down). NAN if unknown. 
+     */
+    public final float pitchMin() {
+        return readFloat(28);
+    }
+
+    /**
+     * Maximum hardware pitch angle (positive: up, negative: down). NAN if unknown. 
+     */
+    public final float pitchMax() {
+        return readFloat(32);
+    }
+
+    /**
+     * Minimum hardware yaw angle (positive: to the right, negative: to the left). NAN if unknown. 
+     */
+    public final float yawMin() {
+        return readFloat(36);
+    }
+
+    /**
+     * Maximum hardware yaw angle (positive: to the right, negative: to the left). NAN if unknown. 
+     */
+    public final float yawMax() {
+        return readFloat(40);
+    }
+
+    /**
+     * Bitmap of gimbal capability flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalDeviceCapFlags}.
+     */
+    public final int capFlags() {
+        return readUint16(44);
+    }
+
+    /**
+     * Bitmap for use for gimbal-specific capability flags. 
+     */
+    public final int customCapFlags() {
+        return readUint16(46);
+    }
+
+    /**
+     * Name of the gimbal vendor. 
+     */
+    public final String vendorName() {
+        return readString(48, 32);
+    }
+
+    /**
+     * Name of the gimbal model. 
+     */
+    public final String modelName() {
+        return readString(80, 32);
+    }
+
+    /**
+     * Custom name of the gimbal given to it by the user. 
+     */
+    public final String customName() {
+        return readString(112, 32);
+    }
+}
@@ -3,10 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Deprecated;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -52,14 +56,14 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalDeviceSetAttitude {
+public final class GimbalDeviceSetAttitude implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
 
     private final EnumValue<GimbalDeviceFlags> flags;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float angularVelocityX;
 
@@ -73,7 +77,7 @@ public final class GimbalDeviceSetAttitude {
         this.targetSystem = targetSystem;
         this.targetComponent = targetComponent;
         this.flags = flags;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.angularVelocityX = angularVelocityX;
         this.angularVelocityY = angularVelocityY;
         this.angularVelocityZ = angularVelocityZ;
@@ -138,6 +142,25 @@ public final class GimbalDeviceSetAttitude {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * X component of angular velocity (positive: rolling to the right). The frame is described in the 
      * message description. NaN to be ignored. 
@@ -205,6 +228,19 @@ public final class GimbalDeviceSetAttitude {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("flags").value(this.flags);
+        writer.name("q").value(this.q);
+        writer.name("angularVelocityX").value(this.angularVelocityX);
+        writer.name("angularVelocityY").value(this.angularVelocityY);
+        writer.name("angularVelocityZ").value(this.angularVelocityZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalDeviceSetAttitude{targetSystem=" + targetSystem
@@ -307,6 +343,14 @@ public final class GimbalDeviceSetAttitude {
             return this;
         }
 
+        /**
+         * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). The frame is described in the 
+         * message description. Set fields to NaN to be ignored. 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * X component of angular velocity (positive: rolling to the right). The frame is described in the 
          * message description. NaN to be ignored. 
@@ -0,0 +1,66 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalDeviceSetAttitude} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalDeviceSetAttitudeView extends PayloadView<GimbalDeviceSetAttitudeView> {
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). The frame is described in the 
+     * message description. Set fields to NaN to be ignored. 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(0, 4, 4, index));
+    }
+
+    /**
+     * X component of angular velocity (positive: rolling to the right). The frame is described in the 
+     * message description. NaN to be ignored. 
+     */
+    public final float angularVelocityX() {
+        return readFloat(16);
+    }
+
+    /**
+     * Y component of angular velocity (positive: pitching up). The frame is described in the message 
+     * description. NaN to be ignored. 
+     */
+    public final float angularVelocityY() {
+        return readFloat(20);
+    }
+
+    /**
+     * Z component of angular velocity (positive: yawing to the right). The frame is described in the 
+     * message description. NaN to be ignored. 
+     */
+    public final float angularVelocityZ() {
+        return readFloat(24);
+    }
+
+    /**
+     * Low level gimbal flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalDeviceFlags}.
+     */
+    public final int flags() {
+        return readUint16(28);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(30);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(31);
+    }
+}
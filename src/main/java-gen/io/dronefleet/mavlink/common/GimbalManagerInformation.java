@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -27,7 +29,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalManagerInformation {
+public final class GimbalManagerInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<GimbalManagerCapFlags> capFlags;
@@ -209,6 +211,21 @@ public final class GimbalManagerInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("capFlags").value(this.capFlags);
+        writer.name("gimbalDeviceId").value(this.gimbalDeviceId);
+        writer.name("rollMin").value(this.rollMin);
+        writer.name("rollMax").value(this.rollMax);
+        writer.name("pitchMin").value(this.pitchMin);
+        writer.name("pitchMax").value(this.pitchMax);
+        writer.name("yawMin").value(this.yawMin);
+        writer.name("yawMax").value(this.yawMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalManagerInformation{timeBootMs=" + timeBootMs
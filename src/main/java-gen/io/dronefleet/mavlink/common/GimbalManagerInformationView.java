@@ -0,0 +1,76 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalManagerInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalManagerInformationView extends PayloadView<GimbalManagerInformationView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Bitmap of gimbal capability flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalManagerCapFlags}.
+     */
+    public final int capFlags() {
+        return readInt32(4);
+    }
+
+    /**
+     * Minimum hardware roll angle (positive: rolling to the right, negative: rolling to the left) 
+     */
+    public final float rollMin() {
+        return readFloat(8);
+    }
+
+    /**
+     * Maximum hardware roll angle (positive: rolling to the right, negative: rolling to the left) 
+     */
+    public final float rollMax() {
+        return readFloat(12);
+    }
+
+    /**
+     * Minimum pitch angle (positive: up, negative: down) 
+     */
+    public final float pitchMin() {
+        return readFloat(16);
+    }
+
+    /**
+     * Maximum pitch angle (positive: up, negative: down) 
+     */
+    public final float pitchMax() {
+        return readFloat(20);
+    }
+
+    /**
+     * Minimum yaw angle (positive: to the right, negative: to the left) 
+     */
+    public final float yawMin() {
+        return readFloat(24);
+    }
+
+    /**
+     * Maximum yaw angle (positive: to the right, negative: to the left) 
+     */
+    public final float yawMax() {
+        return readFloat(28);
+    }
+
+    /**
+     * Gimbal device ID that this gimbal manager is responsible for. 
+     */
+    public final int gimbalDeviceId() {
+        return readUint8(32);
+    }
+}
@@ -0,0 +1,71 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalManagerSetAttitude} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalManagerSetAttitudeView extends PayloadView<GimbalManagerSetAttitudeView> {
+    /**
+     * High level gimbal manager flags to use. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalManagerFlags}.
+     */
+    public final int flags() {
+        return readInt32(0);
+    }
+
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation, the frame is depends on whether 
+     * the flag GIMBAL_MANAGER_FLAGS_YAW_LOCK is set) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(4, 4, 4, index));
+    }
+
+    /**
+     * X component of angular velocity, positive is rolling to the right, NaN to be ignored. 
+     */
+    public final float angularVelocityX() {
+        return readFloat(20);
+    }
+
+    /**
+     * Y component of angular velocity, positive is pitching up, NaN to be ignored. 
+     */
+    public final float angularVelocityY() {
+        return readFloat(24);
+    }
+
+    /**
+     * Z component of angular velocity, positive is yawing to the right, NaN to be ignored. 
+     */
+    public final float angularVelocityZ() {
+        return readFloat(28);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(32);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(33);
+    }
+
+    /**
+     * Component ID of gimbal device to address (or 1-6 for non-MAVLink gimbal), 0 for all gimbal 
+     * device components. Send command multiple times for more than one gimbal (but not all gimbals). 
+     */
+    public final int gimbalDeviceId() {
+        return readUint8(34);
+    }
+}
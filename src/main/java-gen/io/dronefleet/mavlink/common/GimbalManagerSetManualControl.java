@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -29,7 +31,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalManagerSetManualControl {
+public final class GimbalManagerSetManualControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -196,6 +198,20 @@ public final class GimbalManagerSetManualControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("flags").value(this.flags);
+        writer.name("gimbalDeviceId").value(this.gimbalDeviceId);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("pitchRate").value(this.pitchRate);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalManagerSetManualControl{targetSystem=" + targetSystem
@@ -0,0 +1,71 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalManagerSetManualControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalManagerSetManualControlView extends PayloadView<GimbalManagerSetManualControlView> {
+    /**
+     * High level gimbal manager flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalManagerFlags}.
+     */
+    public final int flags() {
+        return readInt32(0);
+    }
+
+    /**
+     * Pitch angle unitless (-1..1, positive: up, negative: down, NaN to be ignored). 
+     */
+    public final float pitch() {
+        return readFloat(4);
+    }
+
+    /**
+     * Yaw angle unitless (-1..1, positive: to the right, negative: to the left, NaN to be ignored). 
+     */
+    public final float yaw() {
+        return readFloat(8);
+    }
+
+    /**
+     * Pitch angular rate unitless (-1..1, positive: up, negative: down, NaN to be ignored). 
+     */
+    public final float pitchRate() {
+        return readFloat(12);
+    }
+
+    /**
+     * Yaw angular rate unitless (-1..1, positive: to the right, negative: to the left, NaN to be 
+     * ignored). 
+     */
+    public final float yawRate() {
+        return readFloat(16);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(20);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(21);
+    }
+
+    /**
+     * Component ID of gimbal device to address (or 1-6 for non-MAVLink gimbal), 0 for all gimbal 
+     * device components. Send command multiple times for more than one gimbal (but not all gimbals). 
+     */
+    public final int gimbalDeviceId() {
+        return readUint8(22);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -28,7 +30,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalManagerSetPitchyaw {
+public final class GimbalManagerSetPitchyaw implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -194,6 +196,20 @@ public final class GimbalManagerSetPitchyaw {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("flags").value(this.flags);
+        writer.name("gimbalDeviceId").value(this.gimbalDeviceId);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("pitchRate").value(this.pitchRate);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalManagerSetPitchyaw{targetSystem=" + targetSystem
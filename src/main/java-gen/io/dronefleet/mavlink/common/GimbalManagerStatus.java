@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -27,7 +29,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class GimbalManagerStatus {
+public final class GimbalManagerStatus implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<GimbalManagerFlags> flags;
@@ -175,6 +177,19 @@ public final class GimbalManagerStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("flags").value(this.flags);
+        writer.name("gimbalDeviceId").value(this.gimbalDeviceId);
+        writer.name("primaryControlSysid").value(this.primaryControlSysid);
+        writer.name("primaryControlCompid").value(this.primaryControlCompid);
+        writer.name("secondaryControlSysid").value(this.secondaryControlSysid);
+        writer.name("secondaryControlCompid").value(this.secondaryControlCompid);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GimbalManagerStatus{timeBootMs=" + timeBootMs
@@ -0,0 +1,62 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GimbalManagerStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GimbalManagerStatusView extends PayloadView<GimbalManagerStatusView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * High level gimbal manager flags currently applied. 
+     * <p>
+     * This returns the raw value of the field, see {@link GimbalManagerFlags}.
+     */
+    public final int flags() {
+        return readInt32(4);
+    }
+
+    /**
+     * Gimbal device ID that this gimbal manager is responsible for. 
+     */
+    public final int gimbalDeviceId() {
+        return readUint8(8);
+    }
+
+    /**
+     * System ID of MAVLink component with primary control, 0 for none. 
+     */
+    public final int primaryControlSysid() {
+        return readUint8(9);
+    }
+
+    /**
+     * Component ID of MAVLink component with primary control, 0 for none. 
+     */
+    public final int primaryControlCompid() {
+        return readUint8(10);
+    }
+
+    /**
+     * System ID of MAVLink component with secondary control, 0 for none. 
+     */
+    public final int secondaryControlSysid() {
+        return readUint8(11);
+    }
+
+    /**
+     * Component ID of MAVLink component with secondary control, 0 for none. 
+     */
+    public final int secondaryControlCompid() {
+        return readUint8(12);
+    }
+}
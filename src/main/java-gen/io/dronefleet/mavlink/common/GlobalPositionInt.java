@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It\n"
                         + "               is designed as scaled integer message since the resolution of float is not sufficient."
 )
-public final class GlobalPositionInt {
+public final class GlobalPositionInt implements JsonWritable {
     private final long timeBootMs;
 
     private final int lat;
@@ -206,6 +208,21 @@ public final class GlobalPositionInt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("relativeAlt").value(this.relativeAlt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("hdg").value(this.hdg);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GlobalPositionInt{timeBootMs=" + timeBootMs
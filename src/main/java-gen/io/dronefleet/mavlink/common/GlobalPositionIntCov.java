@@ -3,9 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -26,7 +31,7 @@ import java.util.Objects;
         crc = 119,
         description = "The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It  is designed as scaled integer message since the resolution of float is not sufficient. NOTE: This message is intended for onboard networks / companion computers and higher-bandwidth links and optimized for accuracy and completeness. Please use the GLOBAL_POSITION_INT message for a minimal subset."
 )
-public final class GlobalPositionIntCov {
+public final class GlobalPositionIntCov implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<MavEstimatorType> estimatorType;
@@ -45,7 +50,7 @@ public final class GlobalPositionIntCov {
 
     private final float vz;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private GlobalPositionIntCov(BigInteger timeUsec, EnumValue<MavEstimatorType> estimatorType,
             int lat, int lon, int alt, int relativeAlt, float vx, float vy, float vz,
@@ -59,7 +64,7 @@ public final class GlobalPositionIntCov {
         this.vx = vx;
         this.vy = vy;
         this.vz = vz;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
     }
 
     /**
@@ -199,6 +204,25 @@ public final class GlobalPositionIntCov {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 36) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -233,6 +257,22 @@ public final class GlobalPositionIntCov {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("estimatorType").value(this.estimatorType);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("relativeAlt").value(this.relativeAlt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("covariance").value(this.covariance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GlobalPositionIntCov{timeUsec=" + timeUsec
@@ -282,6 +322,16 @@ public final class GlobalPositionIntCov {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Class id of the estimator this estimate originated from. 
          */
@@ -428,6 +478,15 @@ public final class GlobalPositionIntCov {
             return this;
         }
 
+        /**
+         * Row-major representation of a 6x6 position and velocity 6x6 cross-covariance matrix 
+         * (states: lat, lon, alt, vx, vy, vz; first six entries are the first ROW, next six entries are the 
+         * second row, etc.). If unknown, assign NaN value to first element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         public final GlobalPositionIntCov build() {
             return new GlobalPositionIntCov(timeUsec, estimatorType, lat, lon, alt, relativeAlt, vx, vy, vz, covariance);
         }
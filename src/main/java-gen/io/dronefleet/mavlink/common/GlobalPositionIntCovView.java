@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GlobalPositionIntCov} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GlobalPositionIntCovView extends PayloadView<GlobalPositionIntCovView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude in meters above MSL 
+     */
+    public final int alt() {
+        return readInt32(16);
+    }
+
+    /**
+     * Altitude above ground 
+     */
+    public final int relativeAlt() {
+        return readInt32(20);
+    }
+
+    /**
+     * Ground X Speed (Latitude) 
+     */
+    public final float vx() {
+        return readFloat(24);
+    }
+
+    /**
+     * Ground Y Speed (Longitude) 
+     */
+    public final float vy() {
+        return readFloat(28);
+    }
+
+    /**
+     * Ground Z Speed (Altitude) 
+     */
+    public final float vz() {
+        return readFloat(32);
+    }
+
+    /**
+     * Row-major representation of a 6x6 position and velocity 6x6 cross-covariance matrix 
+     * (states: lat, lon, alt, vx, vy, vz; first six entries are the first ROW, next six entries are the 
+     * second row, etc.). If unknown, assign NaN value to first element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(36, 4, 36, index));
+    }
+
+    /**
+     * Class id of the estimator this estimate originated from. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavEstimatorType}.
+     */
+    public final int estimatorType() {
+        return readUint8(180);
+    }
+}
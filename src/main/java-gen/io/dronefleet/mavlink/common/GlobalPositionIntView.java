@@ -0,0 +1,72 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GlobalPositionInt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GlobalPositionIntView extends PayloadView<GlobalPositionIntView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude, expressed 
+     */
+    public final int lat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude, expressed 
+     */
+    public final int lon() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude (MSL). Note that virtually all GPS modules provide both WGS84 and MSL. 
+     */
+    public final int alt() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude above ground 
+     */
+    public final int relativeAlt() {
+        return readInt32(16);
+    }
+
+    /**
+     * Ground X Speed (Latitude, positive north) 
+     */
+    public final int vx() {
+        return readInt16(20);
+    }
+
+    /**
+     * Ground Y Speed (Longitude, positive east) 
+     */
+    public final int vy() {
+        return readInt16(22);
+    }
+
+    /**
+     * Ground Z Speed (Altitude, positive down) 
+     */
+    public final int vz() {
+        return readInt16(24);
+    }
+
+    /**
+     * Vehicle heading (yaw angle), 0.0..359.99 degrees. If unknown, set to: UINT16_MAX 
+     */
+    public final int hdg() {
+        return readUint16(26);
+    }
+}
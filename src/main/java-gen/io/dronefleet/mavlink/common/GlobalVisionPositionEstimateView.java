@@ -0,0 +1,78 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GlobalVisionPositionEstimate} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GlobalVisionPositionEstimateView extends PayloadView<GlobalVisionPositionEstimateView> {
+    /**
+     * Timestamp (UNIX time or since system boot) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long usec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Global X position 
+     */
+    public final float x() {
+        return readFloat(8);
+    }
+
+    /**
+     * Global Y position 
+     */
+    public final float y() {
+        return readFloat(12);
+    }
+
+    /**
+     * Global Z position 
+     */
+    public final float z() {
+        return readFloat(16);
+    }
+
+    /**
+     * Roll angle 
+     */
+    public final float roll() {
+        return readFloat(20);
+    }
+
+    /**
+     * Pitch angle 
+     */
+    public final float pitch() {
+        return readFloat(24);
+    }
+
+    /**
+     * Yaw angle 
+     */
+    public final float yaw() {
+        return readFloat(28);
+    }
+
+    /**
+     * Row-major representation of pose 6x6 cross-covariance matrix upper right triangle (states: 
+     * x_global, y_global, z_global, roll, pitch, yaw; first six entries are the first ROW, next five 
+     * entries are the second ROW, etc.). If unknown, assign NaN value to first element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(32, 4, 21, index));
+    }
+
+    /**
+     * Estimate reset counter. This should be incremented when the estimate resets in any of the 
+     * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
+     * e.g an external SLAM system detects a loop-closure and the estimate jumps. 
+     */
+    public final int resetCounter() {
+        return readUint8(116);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 87,
         description = "Second GPS data."
 )
-public final class Gps2Raw {
+public final class Gps2Raw implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<GpsFixType> fixType;
@@ -368,6 +371,30 @@ public final class Gps2Raw {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("fixType").value(this.fixType);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("eph").value(this.eph);
+        writer.name("epv").value(this.epv);
+        writer.name("vel").value(this.vel);
+        writer.name("cog").value(this.cog);
+        writer.name("satellitesVisible").value(this.satellitesVisible);
+        writer.name("dgpsNumch").value(this.dgpsNumch);
+        writer.name("dgpsAge").value(this.dgpsAge);
+        writer.name("yaw").value(this.yaw);
+        writer.name("altEllipsoid").value(this.altEllipsoid);
+        writer.name("hAcc").value(this.hAcc);
+        writer.name("vAcc").value(this.vAcc);
+        writer.name("velAcc").value(this.velAcc);
+        writer.name("hdgAcc").value(this.hdgAcc);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Gps2Raw{timeUsec=" + timeUsec
@@ -441,6 +468,16 @@ public final class Gps2Raw {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * GPS fix type. 
          */
@@ -0,0 +1,142 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Gps2Raw} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Gps2RawView extends PayloadView<Gps2RawView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. 
+     */
+    public final int alt() {
+        return readInt32(16);
+    }
+
+    /**
+     * Age of DGPS info 
+     */
+    public final long dgpsAge() {
+        return readUint32(20);
+    }
+
+    /**
+     * GPS HDOP horizontal dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int eph() {
+        return readUint16(24);
+    }
+
+    /**
+     * GPS VDOP vertical dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int epv() {
+        return readUint16(26);
+    }
+
+    /**
+     * GPS ground speed. If unknown, set to: UINT16_MAX 
+     */
+    public final int vel() {
+        return readUint16(28);
+    }
+
+    /**
+     * Course over ground (NOT heading, but direction of movement): 0.0..359.99 degrees. If 
+     * unknown, set to: UINT16_MAX 
+     */
+    public final int cog() {
+        return readUint16(30);
+    }
+
+    /**
+     * GPS fix type. 
+     * <p>
+     * This returns the raw value of the field, see {@link GpsFixType}.
+     */
+    public final int fixType() {
+        return readUint8(32);
+    }
+
+    /**
+     * Number of satellites visible. If unknown, set to UINT8_MAX 
+     */
+    public final int satellitesVisible() {
+        return readUint8(33);
+    }
+
+    /**
+     * Number of DGPS satellites 
+     */
+    public final int dgpsNumch() {
+        return readUint8(34);
+    }
+
+    /**
+     * Yaw in earth frame from north. Use 0 if this GPS does not provide yaw. Use UINT16_MAX if this GPS is 
+     * configured to provide yaw and is currently unable to provide it. Use 36000 for north. 
+     */
+    public final int yaw() {
+        return readUint16(35);
+    }
+
+    /**
+     * Altitude (above WGS84, EGM96 ellipsoid). Positive for up. 
+     */
+    public final int altEllipsoid() {
+        return readInt32(37);
+    }
+
+    /**
+     * Position uncertainty. 
+     */
+    public final long hAcc() {
+        return readUint32(41);
+    }
+
+    /**
+     * Altitude uncertainty. 
+     */
+    public final long vAcc() {
+        return readUint32(45);
+    }
+
+    /**
+     * Speed uncertainty. 
+     */
+    public final long velAcc() {
+        return readUint32(49);
+    }
+
+    /**
+     * Heading / track uncertainty 
+     */
+    public final long hdgAcc() {
+        return readUint32(53);
+    }
+}
@@ -0,0 +1,102 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Gps2Rtk} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Gps2RtkView extends PayloadView<Gps2RtkView> {
+    /**
+     * Time since boot of last baseline message received. 
+     */
+    public final long timeLastBaselineMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * GPS Time of Week of last baseline 
+     */
+    public final long tow() {
+        return readUint32(4);
+    }
+
+    /**
+     * Current baseline in ECEF x or NED north component. 
+     */
+    public final int baselineAMm() {
+        return readInt32(8);
+    }
+
+    /**
+     * Current baseline in ECEF y or NED east component. 
+     */
+    public final int baselineBMm() {
+        return readInt32(12);
+    }
+
+    /**
+     * Current baseline in ECEF z or NED down component. 
+     */
+    public final int baselineCMm() {
+        return readInt32(16);
+    }
+
+    /**
+     * Current estimate of baseline accuracy. 
+     */
+    public final long accuracy() {
+        return readUint32(20);
+    }
+
+    /**
+     * Current number of integer ambiguity hypotheses. 
+     */
+    public final int iarNumHypotheses() {
+        return readInt32(24);
+    }
+
+    /**
+     * GPS Week Number of last baseline 
+     */
+    public final int wn() {
+        return readUint16(28);
+    }
+
+    /**
+     * Identification of connected RTK receiver. 
+     */
+    public final int rtkReceiverId() {
+        return readUint8(30);
+    }
+
+    /**
+     * GPS-specific health report for RTK data. 
+     */
+    public final int rtkHealth() {
+        return readUint8(31);
+    }
+
+    /**
+     * Rate of baseline messages being received by GPS 
+     */
+    public final int rtkRate() {
+        return readUint8(32);
+    }
+
+    /**
+     * Current number of sats used for RTK calculation. 
+     */
+    public final int nsats() {
+        return readUint8(33);
+    }
+
+    /**
+     * Coordinate system of baseline 
+     * <p>
+     * This returns the raw value of the field, see {@link RtkBaselineCoordinateSystem}.
+     */
+    public final int baselineCoordsType() {
+        return readUint8(34);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +22,7 @@ import java.util.Objects;
         crc = 39,
         description = "Publishes the GPS coordinates of the vehicle local origin (0,0,0) position. Emitted whenever a new GPS-Local position mapping is requested or set - e.g. following SET_GPS_GLOBAL_ORIGIN message."
 )
-public final class GpsGlobalOrigin {
+public final class GpsGlobalOrigin implements JsonWritable {
     private final int latitude;
 
     private final int longitude;
@@ -118,6 +121,16 @@ public final class GpsGlobalOrigin {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitude").value(this.altitude);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsGlobalOrigin{latitude=" + latitude
@@ -192,6 +205,16 @@ public final class GpsGlobalOrigin {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         public final GpsGlobalOrigin build() {
             return new GpsGlobalOrigin(latitude, longitude, altitude, timeUsec);
         }
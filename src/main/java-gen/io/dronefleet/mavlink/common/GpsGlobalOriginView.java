@@ -0,0 +1,40 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsGlobalOrigin} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsGlobalOriginView extends PayloadView<GpsGlobalOriginView> {
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int latitude() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int longitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. 
+     */
+    public final int altitude() {
+        return readInt32(8);
+    }
+
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(12);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "Data for injecting into the onboard GPS (used for DGPS)"
 )
 @Deprecated
-public final class GpsInjectData {
+public final class GpsInjectData implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -114,6 +116,16 @@ public final class GpsInjectData {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("len").value(this.len);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsInjectData{targetSystem=" + targetSystem
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link GpsInjectData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class GpsInjectDataView extends PayloadView<GpsInjectDataView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Data length 
+     */
+    public final int len() {
+        return readUint8(2);
+    }
+
+    /**
+     * Raw data (110 is enough for 12 satellites of RTCMv2) 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(3, 1, 110, index));
+    }
+}
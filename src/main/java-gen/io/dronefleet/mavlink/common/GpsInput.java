@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -21,7 +24,7 @@ import java.util.Objects;
         crc = 151,
         description = "GPS sensor input message.  This is a raw sensor value sent by the GPS. This is NOT the global position estimate of the system."
 )
-public final class GpsInput {
+public final class GpsInput implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int gpsId;
@@ -378,6 +381,31 @@ public final class GpsInput {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("gpsId").value(this.gpsId);
+        writer.name("ignoreFlags").value(this.ignoreFlags);
+        writer.name("timeWeekMs").value(this.timeWeekMs);
+        writer.name("timeWeek").value(this.timeWeek);
+        writer.name("fixType").value(this.fixType);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("hdop").value(this.hdop);
+        writer.name("vdop").value(this.vdop);
+        writer.name("vn").value(this.vn);
+        writer.name("ve").value(this.ve);
+        writer.name("vd").value(this.vd);
+        writer.name("speedAccuracy").value(this.speedAccuracy);
+        writer.name("horizAccuracy").value(this.horizAccuracy);
+        writer.name("vertAccuracy").value(this.vertAccuracy);
+        writer.name("satellitesVisible").value(this.satellitesVisible);
+        writer.name("yaw").value(this.yaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsInput{timeUsec=" + timeUsec
@@ -454,6 +482,16 @@ public final class GpsInput {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * ID of the GPS for multiple GPS inputs 
          */
@@ -0,0 +1,147 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsInput} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsInputView extends PayloadView<GpsInputView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * GPS time (from start of GPS week) 
+     */
+    public final long timeWeekMs() {
+        return readUint32(8);
+    }
+
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int lat() {
+        return readInt32(12);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int lon() {
+        return readInt32(16);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. 
+     */
+    public final float alt() {
+        return readFloat(20);
+    }
+
+    /**
+     * GPS HDOP horizontal dilution of position (unitless). If unknown, set to: UINT16_MAX 
+     */
+    public final float hdop() {
+        return readFloat(24);
+    }
+
+    /**
+     * GPS VDOP vertical dilution of position (unitless). If unknown, set to: UINT16_MAX 
+     */
+    public final float vdop() {
+        return readFloat(28);
+    }
+
+    /**
+     * GPS velocity in north direction in earth-fixed NED frame 
+     */
+    public final float vn() {
+        return readFloat(32);
+    }
+
+    /**
+     * GPS velocity in east direction in earth-fixed NED frame 
+     */
+    public final float ve() {
+        return readFloat(36);
+    }
+
+    /**
+     * GPS velocity in down direction in earth-fixed NED frame 
+     */
+    public final float vd() {
+        return readFloat(40);
+    }
+
+    /**
+     * GPS speed accuracy 
+     */
+    public final float speedAccuracy() {
+        return readFloat(44);
+    }
+
+    /**
+     * GPS horizontal accuracy 
+     */
+    public final float horizAccuracy() {
+        return readFloat(48);
+    }
+
+    /**
+     * GPS vertical accuracy 
+     */
+    public final float vertAccuracy() {
+        return readFloat(52);
+    }
+
+    /**
+     * Bitmap indicating which GPS input flags fields to ignore. All other fields must be provided. 
+     * <p>
+     * This returns the raw value of the field, see {@link GpsInputIgnoreFlags}.
+     */
+    public final int ignoreFlags() {
+        return readUint16(56);
+    }
+
+    /**
+     * GPS week number 
+     */
+    public final int timeWeek() {
+        return readUint16(58);
+    }
+
+    /**
+     * ID of the GPS for multiple GPS inputs 
+     */
+    public final int gpsId() {
+        return readUint8(60);
+    }
+
+    /**
+     * 0-1: no fix, 2: 2D fix, 3: 3D fix. 4: 3D with DGPS. 5: 3D with RTK 
+     */
+    public final int fixType() {
+        return readUint8(61);
+    }
+
+    /**
+     * Number of satellites visible. 
+     */
+    public final int satellitesVisible() {
+        return readUint8(62);
+    }
+
+    /**
+     * Yaw of vehicle relative to Earth's North, zero means not available, use 36000 for north 
+     */
+    public final int yaw() {
+        return readUint16(63);
+    }
+}
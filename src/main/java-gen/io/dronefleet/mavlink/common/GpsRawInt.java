@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -23,7 +26,7 @@ import java.util.Objects;
         description = "The global position, as returned by the Global Positioning System (GPS). This is\n"
                         + "                NOT the global position estimate of the system, but rather a RAW sensor value. See message GLOBAL_POSITION_INT for the global position estimate."
 )
-public final class GpsRawInt {
+public final class GpsRawInt implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<GpsFixType> fixType;
@@ -338,6 +341,28 @@ public final class GpsRawInt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("fixType").value(this.fixType);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("eph").value(this.eph);
+        writer.name("epv").value(this.epv);
+        writer.name("vel").value(this.vel);
+        writer.name("cog").value(this.cog);
+        writer.name("satellitesVisible").value(this.satellitesVisible);
+        writer.name("altEllipsoid").value(this.altEllipsoid);
+        writer.name("hAcc").value(this.hAcc);
+        writer.name("vAcc").value(this.vAcc);
+        writer.name("velAcc").value(this.velAcc);
+        writer.name("hdgAcc").value(this.hdgAcc);
+        writer.name("yaw").value(this.yaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsRawInt{timeUsec=" + timeUsec
@@ -405,6 +430,16 @@ public final class GpsRawInt {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * GPS fix type. 
          */
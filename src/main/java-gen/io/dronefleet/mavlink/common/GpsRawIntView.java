@@ -0,0 +1,129 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsRawInt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsRawIntView extends PayloadView<GpsRawIntView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude (WGS84, EGM96 ellipsoid) 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude (WGS84, EGM96 ellipsoid) 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. Note that virtually all GPS modules provide the MSL altitude 
+     * in addition to the WGS84 altitude. 
+     */
+    public final int alt() {
+        return readInt32(16);
+    }
+
+    /**
+     * GPS HDOP horizontal dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int eph() {
+        return readUint16(20);
+    }
+
+    /**
+     * GPS VDOP vertical dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int epv() {
+        return readUint16(22);
+    }
+
+    /**
+     * GPS ground speed. If unknown, set to: UINT16_MAX 
+     */
+    public final int vel() {
+        return readUint16(24);
+    }
+
+    /**
+     * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 
+     * degrees. If unknown, set to: UINT16_MAX 
+     */
+    public final int cog() {
+        return readUint16(26);
+    }
+
+    /**
+     * GPS fix type. 
+     * <p>
+     * This returns the raw value of the field, see {@link GpsFixType}.
+     */
+    public final int fixType() {
+        return readUint8(28);
+    }
+
+    /**
+     * Number of satellites visible. If unknown, set to UINT8_MAX 
+     */
+    public final int satellitesVisible() {
+        return readUint8(29);
+    }
+
+    /**
+     * Altitude (above WGS84, EGM96 ellipsoid). Positive for up. 
+     */
+    public final int altEllipsoid() {
+        return readInt32(30);
+    }
+
+    /**
+     * Position uncertainty. 
+     */
+    public final long hAcc() {
+        return readUint32(34);
+    }
+
+    /**
+     * Altitude uncertainty. 
+     */
+    public final long vAcc() {
+        return readUint32(38);
+    }
+
+    /**
+     * Speed uncertainty. 
+     */
+    public final long velAcc() {
+        return readUint32(42);
+    }
+
+    /**
+     * Heading / track uncertainty 
+     */
+    public final long hdgAcc() {
+        return readUint32(46);
+    }
+
+    /**
+     * Yaw in earth frame from north. Use 0 if this GPS does not provide yaw. Use UINT16_MAX if this GPS is 
+     * configured to provide yaw and is currently unable to provide it. Use 36000 for north. 
+     */
+    public final int yaw() {
+        return readUint16(50);
+    }
+}
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsRtcmData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsRtcmDataView extends PayloadView<GpsRtcmDataView> {
+    /**
+     * LSB: 1 means message is fragmented, next 2 bits are the fragment ID, the remaining 5 bits are used 
+     * for the sequence ID. Messages are only to be flushed to the GPS when the entire message has been 
+     * reconstructed on the autopilot. The fragment ID specifies which order the fragments should be 
+     * assembled into a buffer, while the sequence ID is used to detect a mismatch between different 
+     * buffers. The buffer is considered fully reconstructed when either all 4 fragments are 
+     * present, or all the fragments before the first fragment with a non full payload is received. 
+     * This management is used to ensure that normal GPS operation doesn't corrupt RTCM data, and to 
+     * recover from a unreliable transport delivery order. 
+     */
+    public final int flags() {
+        return readUint8(0);
+    }
+
+    /**
+     * data length 
+     */
+    public final int len() {
+        return readUint8(1);
+    }
+
+    /**
+     * RTCM message (may be fragmented) 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(2, 1, 180, index));
+    }
+}
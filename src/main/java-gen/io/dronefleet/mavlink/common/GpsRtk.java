@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 25,
         description = "RTK GPS data. Gives information on the relative baseline calculation the GPS is reporting"
 )
-public final class GpsRtk {
+public final class GpsRtk implements JsonWritable {
     private final long timeLastBaselineMs;
 
     private final int rtkReceiverId;
@@ -274,6 +276,25 @@ public final class GpsRtk {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeLastBaselineMs").value(this.timeLastBaselineMs);
+        writer.name("rtkReceiverId").value(this.rtkReceiverId);
+        writer.name("wn").value(this.wn);
+        writer.name("tow").value(this.tow);
+        writer.name("rtkHealth").value(this.rtkHealth);
+        writer.name("rtkRate").value(this.rtkRate);
+        writer.name("nsats").value(this.nsats);
+        writer.name("baselineCoordsType").value(this.baselineCoordsType);
+        writer.name("baselineAMm").value(this.baselineAMm);
+        writer.name("baselineBMm").value(this.baselineBMm);
+        writer.name("baselineCMm").value(this.baselineCMm);
+        writer.name("accuracy").value(this.accuracy);
+        writer.name("iarNumHypotheses").value(this.iarNumHypotheses);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsRtk{timeLastBaselineMs=" + timeLastBaselineMs
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 23,
         description = "The positioning status, as reported by GPS. This message is intended to display status information about each satellite visible to the receiver. See message GLOBAL_POSITION_INT for the global position estimate. This message can contain information for up to 20 satellites."
 )
-public final class GpsStatus {
+public final class GpsStatus implements JsonWritable {
     private final int satellitesVisible;
 
     private final byte[] satellitePrn;
@@ -153,6 +155,18 @@ public final class GpsStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("satellitesVisible").value(this.satellitesVisible);
+        writer.name("satellitePrn").value(this.satellitePrn);
+        writer.name("satelliteUsed").value(this.satelliteUsed);
+        writer.name("satelliteElevation").value(this.satelliteElevation);
+        writer.name("satelliteAzimuth").value(this.satelliteAzimuth);
+        writer.name("satelliteSnr").value(this.satelliteSnr);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsStatus{satellitesVisible=" + satellitesVisible
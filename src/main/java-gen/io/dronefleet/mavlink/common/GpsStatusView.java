@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsStatusView extends PayloadView<GpsStatusView> {
+    /**
+     * Number of satellites visible 
+     */
+    public final int satellitesVisible() {
+        return readUint8(0);
+    }
+
+    /**
+     * Global satellite ID 
+     */
+    public final int satellitePrn(int index) {
+        return readUint8(elementPosition(1, 1, 20, index));
+    }
+
+    /**
+     * 0: Satellite not used, 1: used for localization 
+     */
+    public final int satelliteUsed(int index) {
+        return readUint8(elementPosition(21, 1, 20, index));
+    }
+
+    /**
+     * Elevation (0: right on top of receiver, 90: on the horizon) of satellite 
+     */
+    public final int satelliteElevation(int index) {
+        return readUint8(elementPosition(41, 1, 20, index));
+    }
+
+    /**
+     * Direction of satellite, 0: 0 deg, 255: 360 deg. 
+     */
+    public final int satelliteAzimuth(int index) {
+        return readUint8(elementPosition(61, 1, 20, index));
+    }
+
+    /**
+     * Signal to noise ratio of satellite 
+     */
+    public final int satelliteSnr(int index) {
+        return readUint8(elementPosition(81, 1, 20, index));
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.minimal.MavModeFlag;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -23,7 +25,7 @@ import java.util.Objects;
         description = "Message appropriate for high latency connections like Iridium"
 )
 @Deprecated
-public final class HighLatency {
+public final class HighLatency implements JsonWritable {
     private final EnumValue<MavModeFlag> baseMode;
 
     private final long customMode;
@@ -477,6 +479,36 @@ public final class HighLatency {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("baseMode").value(this.baseMode);
+        writer.name("customMode").value(this.customMode);
+        writer.name("landedState").value(this.landedState);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("heading").value(this.heading);
+        writer.name("throttle").value(this.throttle);
+        writer.name("headingSp").value(this.headingSp);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitudeAmsl").value(this.altitudeAmsl);
+        writer.name("altitudeSp").value(this.altitudeSp);
+        writer.name("airspeed").value(this.airspeed);
+        writer.name("airspeedSp").value(this.airspeedSp);
+        writer.name("groundspeed").value(this.groundspeed);
+        writer.name("climbRate").value(this.climbRate);
+        writer.name("gpsNsat").value(this.gpsNsat);
+        writer.name("gpsFixType").value(this.gpsFixType);
+        writer.name("batteryRemaining").value(this.batteryRemaining);
+        writer.name("temperature").value(this.temperature);
+        writer.name("temperatureAir").value(this.temperatureAir);
+        writer.name("failsafe").value(this.failsafe);
+        writer.name("wpNum").value(this.wpNum);
+        writer.name("wpDistance").value(this.wpDistance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HighLatency{baseMode=" + baseMode
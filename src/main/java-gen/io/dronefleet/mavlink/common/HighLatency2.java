@@ -5,6 +5,8 @@ import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.minimal.MavAutopilot;
 import io.dronefleet.mavlink.minimal.MavType;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 179,
         description = "Message appropriate for high latency connections like Iridium (version 2)"
 )
-public final class HighLatency2 {
+public final class HighLatency2 implements JsonWritable {
     private final long timestamp;
 
     private final EnumValue<MavType> type;
@@ -525,6 +527,39 @@ public final class HighLatency2 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("type").value(this.type);
+        writer.name("autopilot").value(this.autopilot);
+        writer.name("customMode").value(this.customMode);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitude").value(this.altitude);
+        writer.name("targetAltitude").value(this.targetAltitude);
+        writer.name("heading").value(this.heading);
+        writer.name("targetHeading").value(this.targetHeading);
+        writer.name("targetDistance").value(this.targetDistance);
+        writer.name("throttle").value(this.throttle);
+        writer.name("airspeed").value(this.airspeed);
+        writer.name("airspeedSp").value(this.airspeedSp);
+        writer.name("groundspeed").value(this.groundspeed);
+        writer.name("windspeed").value(this.windspeed);
+        writer.name("windHeading").value(this.windHeading);
+        writer.name("eph").value(this.eph);
+        writer.name("epv").value(this.epv);
+        writer.name("temperatureAir").value(this.temperatureAir);
+        writer.name("climbRate").value(this.climbRate);
+        writer.name("battery").value(this.battery);
+        writer.name("wpNum").value(this.wpNum);
+        writer.name("failureFlags").value(this.failureFlags);
+        writer.name("custom0").value(this.custom0);
+        writer.name("custom1").value(this.custom1);
+        writer.name("custom2").value(this.custom2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HighLatency2{timestamp=" + timestamp
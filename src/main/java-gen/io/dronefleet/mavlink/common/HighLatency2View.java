@@ -0,0 +1,205 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HighLatency2} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HighLatency2View extends PayloadView<HighLatency2View> {
+    /**
+     * Timestamp (milliseconds since boot or Unix epoch) 
+     */
+    public final long timestamp() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int latitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int longitude() {
+        return readInt32(8);
+    }
+
+    /**
+     * A bitfield for use for autopilot-specific flags (2 byte version). 
+     */
+    public final int customMode() {
+        return readUint16(12);
+    }
+
+    /**
+     * Altitude above mean sea level 
+     */
+    public final int altitude() {
+        return readInt16(14);
+    }
+
+    /**
+     * Altitude setpoint 
+     */
+    public final int targetAltitude() {
+        return readInt16(16);
+    }
+
+    /**
+     * Distance to target waypoint or position 
+     */
+    public final int targetDistance() {
+        return readUint16(18);
+    }
+
+    /**
+     * Current waypoint number 
+     */
+    public final int wpNum() {
+        return readUint16(20);
+    }
+
+    /**
+     * Bitmap of failure flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link HlFailureFlag}.
+     */
+    public final int failureFlags() {
+        return readUint16(22);
+    }
+
+    /**
+     * Type of the MAV (quadrotor, helicopter, etc.) 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.minimal.MavType}.
+     */
+    public final int type() {
+        return readUint8(24);
+    }
+
+    /**
+     * Autopilot type / class. Use MAV_AUTOPILOT_INVALID for components that are not flight 
+     * controllers. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.minimal.MavAutopilot}.
+     */
+    public final int autopilot() {
+        return readUint8(25);
+    }
+
+    /**
+     * Heading 
+     */
+    public final int heading() {
+        return readUint8(26);
+    }
+
+    /**
+     * Heading setpoint 
+     */
+    public final int targetHeading() {
+        return readUint8(27);
+    }
+
+    /**
+     * Throttle 
+     */
+    public final int throttle() {
+        return readUint8(28);
+    }
+
+    /**
+     * Airspeed 
+     */
+    public final int airspeed() {
+        return readUint8(29);
+    }
+
+    /**
+     * Airspeed setpoint 
+     */
+    public final int airspeedSp() {
+        return readUint8(30);
+    }
+
+    /**
+     * Groundspeed 
+     */
+    public final int groundspeed() {
+        return readUint8(31);
+    }
+
+    /**
+     * Windspeed 
+     */
+    public final int windspeed() {
+        return readUint8(32);
+    }
+
+    /**
+     * Wind heading 
+     */
+    public final int windHeading() {
+        return readUint8(33);
+    }
+
+    /**
+     * Maximum error horizontal position since last message 
+     */
+    public final int eph() {
+        return readUint8(34);
+    }
+
+    /**
+     * Maximum error vertical position since last message 
+     */
+    public final int epv() {
+        return readUint8(35);
+    }
+
+    /**
+     * Air temperature from airspeed sensor 
+     */
+    public final int temperatureAir() {
+        return readInt8(36);
+    }
+
+    /**
+     * Maximum climb rate magnitude since last message 
+     */
+    public final int climbRate() {
+        return readInt8(37);
+    }
+
+    /**
+     * Battery level (-1 if field not provided). 
+     */
+    public final int battery() {
+        return readInt8(38);
+    }
+
+    /**
+     * Field for custom payload. 
+     */
+    public final int custom0() {
+        return readInt8(39);
+    }
+
+    /**
+     * Field for custom payload. 
+     */
+    public final int custom1() {
+        return readInt8(40);
+    }
+
+    /**
+     * Field for custom payload. 
+     */
+    public final int custom2() {
+        return readInt8(41);
+    }
+}
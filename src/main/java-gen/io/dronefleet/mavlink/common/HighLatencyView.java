@@ -0,0 +1,186 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link HighLatency} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class HighLatencyView extends PayloadView<HighLatencyView> {
+    /**
+     * A bitfield for use for autopilot-specific flags. 
+     */
+    public final long customMode() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int latitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int longitude() {
+        return readInt32(8);
+    }
+
+    /**
+     * roll 
+     */
+    public final int roll() {
+        return readInt16(12);
+    }
+
+    /**
+     * pitch 
+     */
+    public final int pitch() {
+        return readInt16(14);
+    }
+
+    /**
+     * heading 
+     */
+    public final int heading() {
+        return readUint16(16);
+    }
+
+    /**
+     * heading setpoint 
+     */
+    public final int headingSp() {
+        return readInt16(18);
+    }
+
+    /**
+     * Altitude above mean sea level 
+     */
+    public final int altitudeAmsl() {
+        return readInt16(20);
+    }
+
+    /**
+     * Altitude setpoint relative to the home position 
+     */
+    public final int altitudeSp() {
+        return readInt16(22);
+    }
+
+    /**
+     * distance to target 
+     */
+    public final int wpDistance() {
+        return readUint16(24);
+    }
+
+    /**
+     * Bitmap of enabled system modes. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.minimal.MavModeFlag}.
+     */
+    public final int baseMode() {
+        return readUint8(26);
+    }
+
+    /**
+     * The landed state. Is set to MAV_LANDED_STATE_UNDEFINED if landed state is unknown. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavLandedState}.
+     */
+    public final int landedState() {
+        return readUint8(27);
+    }
+
+    /**
+     * throttle (percentage) 
+     */
+    public final int throttle() {
+        return readInt8(28);
+    }
+
+    /**
+     * airspeed 
+     */
+    public final int airspeed() {
+        return readUint8(29);
+    }
+
+    /**
+     * airspeed setpoint 
+     */
+    public final int airspeedSp() {
+        return readUint8(30);
+    }
+
+    /**
+     * groundspeed 
+     */
+    public final int groundspeed() {
+        return readUint8(31);
+    }
+
+    /**
+     * climb rate 
+     */
+    public final int climbRate() {
+        return readInt8(32);
+    }
+
+    /**
+     * Number of satellites visible. If unknown, set to UINT8_MAX 
+     */
+    public final int gpsNsat() {
+        return readUint8(33);
+    }
+
+    /**
+     * GPS Fix type. 
+     * <p>
+     * This returns the raw value of the field, see {@link GpsFixType}.
+     */
+    public final int gpsFixType() {
+        return readUint8(34);
+    }
+
+    /**
+     * Remaining battery (percentage) 
+     */
+    public final int batteryRemaining() {
+        return readUint8(35);
+    }
+
+    /**
+     * Autopilot temperature (degrees C) 
+     */
+    public final int temperature() {
+        return readInt8(36);
+    }
+
+    /**
+     * Air temperature (degrees C) from airspeed sensor 
+     */
+    public final int temperatureAir() {
+        return readInt8(37);
+    }
+
+    /**
+     * failsafe (each bit represents a failsafe where 0=ok, 1=failsafe active (bit0:RC, bit1:batt, 
+     * bit2:GPS, bit3:GCS, bit4:fence) 
+     */
+    public final int failsafe() {
+        return readUint8(38);
+    }
+
+    /**
+     * current waypoint number 
+     */
+    public final int wpNum() {
+        return readUint8(39);
+    }
+}
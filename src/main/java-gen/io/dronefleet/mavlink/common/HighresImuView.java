@@ -0,0 +1,127 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HighresImu} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HighresImuView extends PayloadView<HighresImuView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final float xacc() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final float yacc() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final float zacc() {
+        return readFloat(16);
+    }
+
+    /**
+     * Angular speed around X axis 
+     */
+    public final float xgyro() {
+        return readFloat(20);
+    }
+
+    /**
+     * Angular speed around Y axis 
+     */
+    public final float ygyro() {
+        return readFloat(24);
+    }
+
+    /**
+     * Angular speed around Z axis 
+     */
+    public final float zgyro() {
+        return readFloat(28);
+    }
+
+    /**
+     * X Magnetic field 
+     */
+    public final float xmag() {
+        return readFloat(32);
+    }
+
+    /**
+     * Y Magnetic field 
+     */
+    public final float ymag() {
+        return readFloat(36);
+    }
+
+    /**
+     * Z Magnetic field 
+     */
+    public final float zmag() {
+        return readFloat(40);
+    }
+
+    /**
+     * Absolute pressure 
+     */
+    public final float absPressure() {
+        return readFloat(44);
+    }
+
+    /**
+     * Differential pressure 
+     */
+    public final float diffPressure() {
+        return readFloat(48);
+    }
+
+    /**
+     * Altitude calculated from pressure 
+     */
+    public final float pressureAlt() {
+        return readFloat(52);
+    }
+
+    /**
+     * Temperature 
+     */
+    public final float temperature() {
+        return readFloat(56);
+    }
+
+    /**
+     * Bitmap for fields that have updated since last message 
+     * <p>
+     * This returns the raw value of the field, see {@link HighresImuUpdatedFlags}.
+     */
+    public final int fieldsUpdated() {
+        return readUint16(60);
+    }
+
+    /**
+     * Id. Ids are numbered from 0 and map to IMUs numbered from 1 (e.g. IMU1 will have a message with 
+     * id=0) 
+     */
+    public final int id() {
+        return readUint8(62);
+    }
+}
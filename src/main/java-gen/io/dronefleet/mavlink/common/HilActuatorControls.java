@@ -4,9 +4,14 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.minimal.MavModeFlag;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -24,10 +29,10 @@ import java.util.Objects;
         crc = 47,
         description = "Sent from autopilot to simulation. Hardware in the loop control outputs (replacement for HIL_CONTROLS)"
 )
-public final class HilActuatorControls {
+public final class HilActuatorControls implements JsonWritable {
     private final BigInteger timeUsec;
 
-    private final List<Float> controls;
+    private final FloatArrayList controls;
 
     private final EnumValue<MavModeFlag> mode;
 
@@ -36,7 +41,7 @@ public final class HilActuatorControls {
     private HilActuatorControls(BigInteger timeUsec, List<Float> controls,
             EnumValue<MavModeFlag> mode, BigInteger flags) {
         this.timeUsec = timeUsec;
-        this.controls = controls;
+        this.controls = FloatArrayList.copyOf(controls);
         this.mode = mode;
         this.flags = flags;
     }
@@ -75,6 +80,25 @@ public final class HilActuatorControls {
         return this.controls;
     }
 
+    /**
+     * Returns a copy of {@link #controls()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] controlsArray() {
+        return this.controls != null ? this.controls.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #controls()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float controls(int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.controls != null && index < this.controls.size() ? this.controls.getFloat(index) : 0;
+    }
+
     /**
      * System mode. Includes arming state. 
      */
@@ -122,6 +146,16 @@ public final class HilActuatorControls {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("controls").value(this.controls);
+        writer.name("mode").value(this.mode);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilActuatorControls{timeUsec=" + timeUsec
@@ -153,6 +187,16 @@ public final class HilActuatorControls {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Control outputs -1 .. 1. Channel assignment depends on the simulated hardware. 
          */
@@ -167,6 +211,13 @@ public final class HilActuatorControls {
             return this;
         }
 
+        /**
+         * Control outputs -1 .. 1. Channel assignment depends on the simulated hardware. 
+         */
+        public final Builder controls(float... controls) {
+            return controls(FloatArrayList.of(controls));
+        }
+
         /**
          * System mode. Includes arming state. 
          */
@@ -215,6 +266,15 @@ public final class HilActuatorControls {
             return this;
         }
 
+        /**
+         * Flags as bitfield, 1: indicate simulation using lockstep. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder flags(long flags) {
+            return flags(UnsignedLongs.toBigInteger(flags));
+        }
+
         public final HilActuatorControls build() {
             return new HilActuatorControls(timeUsec, controls, mode, flags);
         }
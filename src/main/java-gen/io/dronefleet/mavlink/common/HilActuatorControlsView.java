@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilActuatorControls} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilActuatorControlsView extends PayloadView<HilActuatorControlsView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Flags as bitfield, 1: indicate simulation using lockstep. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long flags() {
+        return readInt64(8);
+    }
+
+    /**
+     * Control outputs -1 .. 1. Channel assignment depends on the simulated hardware. 
+     */
+    public final float controls(int index) {
+        return readFloat(elementPosition(16, 4, 16, index));
+    }
+
+    /**
+     * System mode. Includes arming state. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.minimal.MavModeFlag}.
+     */
+    public final int mode() {
+        return readUint8(80);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 63,
         description = "Sent from autopilot to simulation. Hardware in the loop control outputs"
 )
-public final class HilControls {
+public final class HilControls implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float rollAilerons;
@@ -237,6 +240,23 @@ public final class HilControls {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("rollAilerons").value(this.rollAilerons);
+        writer.name("pitchElevator").value(this.pitchElevator);
+        writer.name("yawRudder").value(this.yawRudder);
+        writer.name("throttle").value(this.throttle);
+        writer.name("aux1").value(this.aux1);
+        writer.name("aux2").value(this.aux2);
+        writer.name("aux3").value(this.aux3);
+        writer.name("aux4").value(this.aux4);
+        writer.name("mode").value(this.mode);
+        writer.name("navMode").value(this.navMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilControls{timeUsec=" + timeUsec
@@ -289,6 +309,16 @@ public final class HilControls {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Control output -1 .. 1 
          */
@@ -0,0 +1,91 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilControls} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilControlsView extends PayloadView<HilControlsView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Control output -1 .. 1 
+     */
+    public final float rollAilerons() {
+        return readFloat(8);
+    }
+
+    /**
+     * Control output -1 .. 1 
+     */
+    public final float pitchElevator() {
+        return readFloat(12);
+    }
+
+    /**
+     * Control output -1 .. 1 
+     */
+    public final float yawRudder() {
+        return readFloat(16);
+    }
+
+    /**
+     * Throttle 0 .. 1 
+     */
+    public final float throttle() {
+        return readFloat(20);
+    }
+
+    /**
+     * Aux 1, -1 .. 1 
+     */
+    public final float aux1() {
+        return readFloat(24);
+    }
+
+    /**
+     * Aux 2, -1 .. 1 
+     */
+    public final float aux2() {
+        return readFloat(28);
+    }
+
+    /**
+     * Aux 3, -1 .. 1 
+     */
+    public final float aux3() {
+        return readFloat(32);
+    }
+
+    /**
+     * Aux 4, -1 .. 1 
+     */
+    public final float aux4() {
+        return readFloat(36);
+    }
+
+    /**
+     * System mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMode}.
+     */
+    public final int mode() {
+        return readUint8(40);
+    }
+
+    /**
+     * Navigation mode (MAV_NAV_MODE) 
+     */
+    public final int navMode() {
+        return readUint8(41);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,7 +23,7 @@ import java.util.Objects;
         description = "The global position, as returned by the Global Positioning System (GPS). This is\n"
                         + "                 NOT the global position estimate of the system, but rather a RAW sensor value. See message GLOBAL_POSITION_INT for the global position estimate."
 )
-public final class HilGps {
+public final class HilGps implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int fixType;
@@ -313,6 +316,27 @@ public final class HilGps {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("fixType").value(this.fixType);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("eph").value(this.eph);
+        writer.name("epv").value(this.epv);
+        writer.name("vel").value(this.vel);
+        writer.name("vn").value(this.vn);
+        writer.name("ve").value(this.ve);
+        writer.name("vd").value(this.vd);
+        writer.name("cog").value(this.cog);
+        writer.name("satellitesVisible").value(this.satellitesVisible);
+        writer.name("id").value(this.id);
+        writer.name("yaw").value(this.yaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilGps{timeUsec=" + timeUsec
@@ -377,6 +401,16 @@ public final class HilGps {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it 
          * is at least two, so always correctly fill in the fix. 
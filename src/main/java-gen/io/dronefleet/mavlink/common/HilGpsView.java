@@ -0,0 +1,119 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilGps} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilGpsView extends PayloadView<HilGpsView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. 
+     */
+    public final int alt() {
+        return readInt32(16);
+    }
+
+    /**
+     * GPS HDOP horizontal dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int eph() {
+        return readUint16(20);
+    }
+
+    /**
+     * GPS VDOP vertical dilution of position (unitless * 100). If unknown, set to: UINT16_MAX 
+     */
+    public final int epv() {
+        return readUint16(22);
+    }
+
+    /**
+     * GPS ground speed. If unknown, set to: UINT16_MAX 
+     */
+    public final int vel() {
+        return readUint16(24);
+    }
+
+    /**
+     * GPS velocity in north direction in earth-fixed NED frame 
+     */
+    public final int vn() {
+        return readInt16(26);
+    }
+
+    /**
+     * GPS velocity in east direction in earth-fixed NED frame 
+     */
+    public final int ve() {
+        return readInt16(28);
+    }
+
+    /**
+     * GPS velocity in down direction in earth-fixed NED frame 
+     */
+    public final int vd() {
+        return readInt16(30);
+    }
+
+    /**
+     * Course over ground (NOT heading, but direction of movement), 0.0..359.99 degrees. If 
+     * unknown, set to: UINT16_MAX 
+     */
+    public final int cog() {
+        return readUint16(32);
+    }
+
+    /**
+     * 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it 
+     * is at least two, so always correctly fill in the fix. 
+     */
+    public final int fixType() {
+        return readUint8(34);
+    }
+
+    /**
+     * Number of satellites visible. If unknown, set to UINT8_MAX 
+     */
+    public final int satellitesVisible() {
+        return readUint8(35);
+    }
+
+    /**
+     * GPS ID (zero indexed). Used for multiple GPS inputs 
+     */
+    public final int id() {
+        return readUint8(36);
+    }
+
+    /**
+     * Yaw of vehicle relative to Earth's North, zero means not available, use 36000 for north 
+     */
+    public final int yaw() {
+        return readUint16(37);
+    }
+}
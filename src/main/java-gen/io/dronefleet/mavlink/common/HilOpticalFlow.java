@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 237,
         description = "Simulated optical flow from a flow sensor (e.g. PX4FLOW or optical mouse sensor)"
 )
-public final class HilOpticalFlow {
+public final class HilOpticalFlow implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int sensorId;
@@ -256,6 +259,24 @@ public final class HilOpticalFlow {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("sensorId").value(this.sensorId);
+        writer.name("integrationTimeUs").value(this.integrationTimeUs);
+        writer.name("integratedX").value(this.integratedX);
+        writer.name("integratedY").value(this.integratedY);
+        writer.name("integratedXgyro").value(this.integratedXgyro);
+        writer.name("integratedYgyro").value(this.integratedYgyro);
+        writer.name("integratedZgyro").value(this.integratedZgyro);
+        writer.name("temperature").value(this.temperature);
+        writer.name("quality").value(this.quality);
+        writer.name("timeDeltaDistanceUs").value(this.timeDeltaDistanceUs);
+        writer.name("distance").value(this.distance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilOpticalFlow{timeUsec=" + timeUsec
@@ -311,6 +332,16 @@ public final class HilOpticalFlow {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Sensor ID 
          */
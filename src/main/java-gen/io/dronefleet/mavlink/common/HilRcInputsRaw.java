@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +22,7 @@ import java.util.Objects;
         crc = 54,
         description = "Sent from simulation to autopilot. The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification."
 )
-public final class HilRcInputsRaw {
+public final class HilRcInputsRaw implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int chan1Raw;
@@ -287,6 +290,26 @@ public final class HilRcInputsRaw {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("chan1Raw").value(this.chan1Raw);
+        writer.name("chan2Raw").value(this.chan2Raw);
+        writer.name("chan3Raw").value(this.chan3Raw);
+        writer.name("chan4Raw").value(this.chan4Raw);
+        writer.name("chan5Raw").value(this.chan5Raw);
+        writer.name("chan6Raw").value(this.chan6Raw);
+        writer.name("chan7Raw").value(this.chan7Raw);
+        writer.name("chan8Raw").value(this.chan8Raw);
+        writer.name("chan9Raw").value(this.chan9Raw);
+        writer.name("chan10Raw").value(this.chan10Raw);
+        writer.name("chan11Raw").value(this.chan11Raw);
+        writer.name("chan12Raw").value(this.chan12Raw);
+        writer.name("rssi").value(this.rssi);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilRcInputsRaw{timeUsec=" + timeUsec
@@ -348,6 +371,16 @@ public final class HilRcInputsRaw {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * RC channel 1 value 
          */
@@ -0,0 +1,111 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilRcInputsRaw} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilRcInputsRawView extends PayloadView<HilRcInputsRawView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * RC channel 1 value 
+     */
+    public final int chan1Raw() {
+        return readUint16(8);
+    }
+
+    /**
+     * RC channel 2 value 
+     */
+    public final int chan2Raw() {
+        return readUint16(10);
+    }
+
+    /**
+     * RC channel 3 value 
+     */
+    public final int chan3Raw() {
+        return readUint16(12);
+    }
+
+    /**
+     * RC channel 4 value 
+     */
+    public final int chan4Raw() {
+        return readUint16(14);
+    }
+
+    /**
+     * RC channel 5 value 
+     */
+    public final int chan5Raw() {
+        return readUint16(16);
+    }
+
+    /**
+     * RC channel 6 value 
+     */
+    public final int chan6Raw() {
+        return readUint16(18);
+    }
+
+    /**
+     * RC channel 7 value 
+     */
+    public final int chan7Raw() {
+        return readUint16(20);
+    }
+
+    /**
+     * RC channel 8 value 
+     */
+    public final int chan8Raw() {
+        return readUint16(22);
+    }
+
+    /**
+     * RC channel 9 value 
+     */
+    public final int chan9Raw() {
+        return readUint16(24);
+    }
+
+    /**
+     * RC channel 10 value 
+     */
+    public final int chan10Raw() {
+        return readUint16(26);
+    }
+
+    /**
+     * RC channel 11 value 
+     */
+    public final int chan11Raw() {
+        return readUint16(28);
+    }
+
+    /**
+     * RC channel 12 value 
+     */
+    public final int chan12Raw() {
+        return readUint16(30);
+    }
+
+    /**
+     * Receive signal strength indicator in device-dependent units/scale. Values: [0-254], 
+     * UINT8_MAX: invalid/unknown. 
+     */
+    public final int rssi() {
+        return readUint8(32);
+    }
+}
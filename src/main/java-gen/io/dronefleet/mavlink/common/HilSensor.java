@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 108,
         description = "The IMU readings in SI units in NED body frame"
 )
-public final class HilSensor {
+public final class HilSensor implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float xacc;
@@ -324,6 +327,28 @@ public final class HilSensor {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.name("xmag").value(this.xmag);
+        writer.name("ymag").value(this.ymag);
+        writer.name("zmag").value(this.zmag);
+        writer.name("absPressure").value(this.absPressure);
+        writer.name("diffPressure").value(this.diffPressure);
+        writer.name("pressureAlt").value(this.pressureAlt);
+        writer.name("temperature").value(this.temperature);
+        writer.name("fieldsUpdated").value(this.fieldsUpdated);
+        writer.name("id").value(this.id);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilSensor{timeUsec=" + timeUsec
@@ -391,6 +416,16 @@ public final class HilSensor {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * X acceleration 
          */
@@ -0,0 +1,126 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilSensor} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilSensorView extends PayloadView<HilSensorView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final float xacc() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final float yacc() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final float zacc() {
+        return readFloat(16);
+    }
+
+    /**
+     * Angular speed around X axis in body frame 
+     */
+    public final float xgyro() {
+        return readFloat(20);
+    }
+
+    /**
+     * Angular speed around Y axis in body frame 
+     */
+    public final float ygyro() {
+        return readFloat(24);
+    }
+
+    /**
+     * Angular speed around Z axis in body frame 
+     */
+    public final float zgyro() {
+        return readFloat(28);
+    }
+
+    /**
+     * X Magnetic field 
+     */
+    public final float xmag() {
+        return readFloat(32);
+    }
+
+    /**
+     * Y Magnetic field 
+     */
+    public final float ymag() {
+        return readFloat(36);
+    }
+
+    /**
+     * Z Magnetic field 
+     */
+    public final float zmag() {
+        return readFloat(40);
+    }
+
+    /**
+     * Absolute pressure 
+     */
+    public final float absPressure() {
+        return readFloat(44);
+    }
+
+    /**
+     * Differential pressure (airspeed) 
+     */
+    public final float diffPressure() {
+        return readFloat(48);
+    }
+
+    /**
+     * Altitude calculated from pressure 
+     */
+    public final float pressureAlt() {
+        return readFloat(52);
+    }
+
+    /**
+     * Temperature 
+     */
+    public final float temperature() {
+        return readFloat(56);
+    }
+
+    /**
+     * Bitmap for fields that have updated since last message 
+     * <p>
+     * This returns the raw value of the field, see {@link HilSensorUpdatedFlags}.
+     */
+    public final int fieldsUpdated() {
+        return readInt32(60);
+    }
+
+    /**
+     * Sensor ID (zero indexed). Used for multiple sensor inputs 
+     */
+    public final int id() {
+        return readUint8(64);
+    }
+}
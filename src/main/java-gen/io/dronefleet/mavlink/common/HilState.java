@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -22,7 +25,7 @@ import java.util.Objects;
         description = "Sent from simulation to autopilot. This packet is useful for high throughput applications such as hardware in the loop simulations."
 )
 @Deprecated
-public final class HilState {
+public final class HilState implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float roll;
@@ -332,6 +335,28 @@ public final class HilState {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilState{timeUsec=" + timeUsec
@@ -399,6 +424,16 @@ public final class HilState {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Roll angle 
          */
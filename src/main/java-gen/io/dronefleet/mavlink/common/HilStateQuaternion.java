@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,10 +25,10 @@ import java.util.Objects;
         crc = 4,
         description = "Sent from simulation to autopilot, avoids in contrast to HIL_STATE singularities. This packet is useful for high throughput applications such as hardware in the loop simulations."
 )
-public final class HilStateQuaternion {
+public final class HilStateQuaternion implements JsonWritable {
     private final BigInteger timeUsec;
 
-    private final List<Float> attitudeQuaternion;
+    private final FloatArrayList attitudeQuaternion;
 
     private final float rollspeed;
 
@@ -57,7 +62,7 @@ public final class HilStateQuaternion {
             float pitchspeed, float yawspeed, int lat, int lon, int alt, int vx, int vy, int vz,
             int indAirspeed, int trueAirspeed, int xacc, int yacc, int zacc) {
         this.timeUsec = timeUsec;
-        this.attitudeQuaternion = attitudeQuaternion;
+        this.attitudeQuaternion = FloatArrayList.copyOf(attitudeQuaternion);
         this.rollspeed = rollspeed;
         this.pitchspeed = pitchspeed;
         this.yawspeed = yawspeed;
@@ -109,6 +114,25 @@ public final class HilStateQuaternion {
         return this.attitudeQuaternion;
     }
 
+    /**
+     * Returns a copy of {@link #attitudeQuaternion()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] attitudeQuaternionArray() {
+        return this.attitudeQuaternion != null ? this.attitudeQuaternion.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #attitudeQuaternion()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float attitudeQuaternion(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.attitudeQuaternion != null && index < this.attitudeQuaternion.size() ? this.attitudeQuaternion.getFloat(index) : 0;
+    }
+
     /**
      * Body frame roll / phi angular speed 
      */
@@ -332,6 +356,28 @@ public final class HilStateQuaternion {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("attitudeQuaternion").value(this.attitudeQuaternion);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("indAirspeed").value(this.indAirspeed);
+        writer.name("trueAirspeed").value(this.trueAirspeed);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HilStateQuaternion{timeUsec=" + timeUsec
@@ -399,6 +445,16 @@ public final class HilStateQuaternion {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Vehicle attitude expressed as normalized quaternion in w, x, y, z order (with 1 0 0 0 being the 
          * null-rotation) 
@@ -414,6 +470,14 @@ public final class HilStateQuaternion {
             return this;
         }
 
+        /**
+         * Vehicle attitude expressed as normalized quaternion in w, x, y, z order (with 1 0 0 0 being the 
+         * null-rotation) 
+         */
+        public final Builder attitudeQuaternion(float... attitudeQuaternion) {
+            return attitudeQuaternion(FloatArrayList.of(attitudeQuaternion));
+        }
+
         /**
          * Body frame roll / phi angular speed 
          */
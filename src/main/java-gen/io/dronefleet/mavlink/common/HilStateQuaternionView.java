@@ -0,0 +1,125 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HilStateQuaternion} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HilStateQuaternionView extends PayloadView<HilStateQuaternionView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Vehicle attitude expressed as normalized quaternion in w, x, y, z order (with 1 0 0 0 being the 
+     * null-rotation) 
+     */
+    public final float attitudeQuaternion(int index) {
+        return readFloat(elementPosition(8, 4, 4, index));
+    }
+
+    /**
+     * Body frame roll / phi angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(24);
+    }
+
+    /**
+     * Body frame pitch / theta angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(28);
+    }
+
+    /**
+     * Body frame yaw / psi angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(32);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(36);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(40);
+    }
+
+    /**
+     * Altitude 
+     */
+    public final int alt() {
+        return readInt32(44);
+    }
+
+    /**
+     * Ground X Speed (Latitude) 
+     */
+    public final int vx() {
+        return readInt16(48);
+    }
+
+    /**
+     * Ground Y Speed (Longitude) 
+     */
+    public final int vy() {
+        return readInt16(50);
+    }
+
+    /**
+     * Ground Z Speed (Altitude) 
+     */
+    public final int vz() {
+        return readInt16(52);
+    }
+
+    /**
+     * Indicated airspeed 
+     */
+    public final int indAirspeed() {
+        return readUint16(54);
+    }
+
+    /**
+     * True airspeed 
+     */
+    public final int trueAirspeed() {
+        return readUint16(56);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final int xacc() {
+        return readInt16(58);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final int yacc() {
+        return readInt16(60);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final int zacc() {
+        return readInt16(62);
+    }
+}
@@ -0,0 +1,126 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link HilState} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class HilStateView extends PayloadView<HilStateView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Roll angle 
+     */
+    public final float roll() {
+        return readFloat(8);
+    }
+
+    /**
+     * Pitch angle 
+     */
+    public final float pitch() {
+        return readFloat(12);
+    }
+
+    /**
+     * Yaw angle 
+     */
+    public final float yaw() {
+        return readFloat(16);
+    }
+
+    /**
+     * Body frame roll / phi angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(20);
+    }
+
+    /**
+     * Body frame pitch / theta angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(24);
+    }
+
+    /**
+     * Body frame yaw / psi angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(28);
+    }
+
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(32);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(36);
+    }
+
+    /**
+     * Altitude 
+     */
+    public final int alt() {
+        return readInt32(40);
+    }
+
+    /**
+     * Ground X Speed (Latitude) 
+     */
+    public final int vx() {
+        return readInt16(44);
+    }
+
+    /**
+     * Ground Y Speed (Longitude) 
+     */
+    public final int vy() {
+        return readInt16(46);
+    }
+
+    /**
+     * Ground Z Speed (Altitude) 
+     */
+    public final int vz() {
+        return readInt16(48);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final int xacc() {
+        return readInt16(50);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final int yacc() {
+        return readInt16(52);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final int zacc() {
+        return readInt16(54);
+    }
+}
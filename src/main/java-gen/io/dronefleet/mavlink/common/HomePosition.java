@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -34,7 +39,7 @@ import java.util.Objects;
                         + "\tThe approach 3D vector describes the point to which the system should fly in normal flight mode and then perform a landing sequence along the vector.\n"
                         + "        Note: this message can be requested by sending the MAV_CMD_REQUEST_MESSAGE with param1=242 (or the deprecated MAV_CMD_GET_HOME_POSITION command)."
 )
-public final class HomePosition {
+public final class HomePosition implements JsonWritable {
     private final int latitude;
 
     private final int longitude;
@@ -47,7 +52,7 @@ public final class HomePosition {
 
     private final float z;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float approachX;
 
@@ -65,7 +70,7 @@ public final class HomePosition {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.approachX = approachX;
         this.approachY = approachY;
         this.approachZ = approachZ;
@@ -169,6 +174,25 @@ public final class HomePosition {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Local X position of the end of the approach vector. Multicopters should set this position based 
      * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
@@ -264,6 +288,23 @@ public final class HomePosition {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitude").value(this.altitude);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("q").value(this.q);
+        writer.name("approachX").value(this.approachX);
+        writer.name("approachY").value(this.approachY);
+        writer.name("approachZ").value(this.approachZ);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HomePosition{latitude=" + latitude
@@ -398,6 +439,14 @@ public final class HomePosition {
             return this;
         }
 
+        /**
+         * World to surface normal and heading transformation of the takeoff position. Used to indicate 
+         * the heading and slope of the ground 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Local X position of the end of the approach vector. Multicopters should set this position based 
          * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
@@ -461,6 +510,16 @@ public final class HomePosition {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         public final HomePosition build() {
             return new HomePosition(latitude, longitude, altitude, x, y, z, q, approachX, approachY, approachZ, timeUsec);
         }
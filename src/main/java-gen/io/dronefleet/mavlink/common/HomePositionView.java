@@ -0,0 +1,99 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HomePosition} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HomePositionView extends PayloadView<HomePositionView> {
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int latitude() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int longitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Altitude (MSL). Positive for up. 
+     */
+    public final int altitude() {
+        return readInt32(8);
+    }
+
+    /**
+     * Local X position of this position in the local coordinate frame (NED) 
+     */
+    public final float x() {
+        return readFloat(12);
+    }
+
+    /**
+     * Local Y position of this position in the local coordinate frame (NED) 
+     */
+    public final float y() {
+        return readFloat(16);
+    }
+
+    /**
+     * Local Z position of this position in the local coordinate frame (NED: positive "down") 
+     */
+    public final float z() {
+        return readFloat(20);
+    }
+
+    /**
+     * World to surface normal and heading transformation of the takeoff position. Used to indicate 
+     * the heading and slope of the ground 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(24, 4, 4, index));
+    }
+
+    /**
+     * Local X position of the end of the approach vector. Multicopters should set this position based 
+     * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
+     * multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of 
+     * the takeoff, assuming the takeoff happened from the threshold / touchdown zone. 
+     */
+    public final float approachX() {
+        return readFloat(40);
+    }
+
+    /**
+     * Local Y position of the end of the approach vector. Multicopters should set this position based 
+     * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
+     * multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of 
+     * the takeoff, assuming the takeoff happened from the threshold / touchdown zone. 
+     */
+    public final float approachY() {
+        return readFloat(44);
+    }
+
+    /**
+     * Local Z position of the end of the approach vector. Multicopters should set this position based 
+     * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
+     * multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of 
+     * the takeoff, assuming the takeoff happened from the threshold / touchdown zone. 
+     */
+    public final float approachZ() {
+        return readFloat(48);
+    }
+
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(52);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 20,
         description = "Temperature and humidity from hygrometer."
 )
-public final class HygrometerSensor {
+public final class HygrometerSensor implements JsonWritable {
     private final int id;
 
     private final int temperature;
@@ -94,6 +96,15 @@ public final class HygrometerSensor {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("id").value(this.id);
+        writer.name("temperature").value(this.temperature);
+        writer.name("humidity").value(this.humidity);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HygrometerSensor{id=" + id
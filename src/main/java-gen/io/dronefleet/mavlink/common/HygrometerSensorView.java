@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HygrometerSensor} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HygrometerSensorView extends PayloadView<HygrometerSensorView> {
+    /**
+     * Temperature 
+     */
+    public final int temperature() {
+        return readInt16(0);
+    }
+
+    /**
+     * Humidity 
+     */
+    public final int humidity() {
+        return readUint16(2);
+    }
+
+    /**
+     * Hygrometer ID 
+     */
+    public final int id() {
+        return readUint8(4);
+    }
+}
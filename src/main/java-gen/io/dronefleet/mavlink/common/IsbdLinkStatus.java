@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 225,
         description = "Status of the Iridium SBD link."
 )
-public final class IsbdLinkStatus {
+public final class IsbdLinkStatus implements JsonWritable {
     private final BigInteger timestamp;
 
     private final BigInteger lastHeartbeat;
@@ -184,6 +187,20 @@ public final class IsbdLinkStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("lastHeartbeat").value(this.lastHeartbeat);
+        writer.name("failedSessions").value(this.failedSessions);
+        writer.name("successfulSessions").value(this.successfulSessions);
+        writer.name("signalQuality").value(this.signalQuality);
+        writer.name("ringPending").value(this.ringPending);
+        writer.name("txSessionPending").value(this.txSessionPending);
+        writer.name("rxSessionPending").value(this.rxSessionPending);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "IsbdLinkStatus{timestamp=" + timestamp
@@ -227,6 +244,16 @@ public final class IsbdLinkStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Timestamp of the last successful sbd session. The receiving end can infer timestamp format 
          * (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
@@ -241,6 +268,16 @@ public final class IsbdLinkStatus {
             return this;
         }
 
+        /**
+         * Timestamp of the last successful sbd session. The receiving end can infer timestamp format 
+         * (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder lastHeartbeat(long lastHeartbeat) {
+            return lastHeartbeat(UnsignedLongs.toBigInteger(lastHeartbeat));
+        }
+
         /**
          * Number of failed SBD sessions. 
          */
@@ -0,0 +1,72 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link IsbdLinkStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class IsbdLinkStatusView extends PayloadView<IsbdLinkStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp of the last successful sbd session. The receiving end can infer timestamp format 
+     * (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long lastHeartbeat() {
+        return readInt64(8);
+    }
+
+    /**
+     * Number of failed SBD sessions. 
+     */
+    public final int failedSessions() {
+        return readUint16(16);
+    }
+
+    /**
+     * Number of successful SBD sessions. 
+     */
+    public final int successfulSessions() {
+        return readUint16(18);
+    }
+
+    /**
+     * Signal quality equal to the number of bars displayed on the ISU signal strength indicator. 
+     * Range is 0 to 5, where 0 indicates no signal and 5 indicates maximum signal strength. 
+     */
+    public final int signalQuality() {
+        return readUint8(20);
+    }
+
+    /**
+     * 1: Ring call pending, 0: No call pending. 
+     */
+    public final int ringPending() {
+        return readUint8(21);
+    }
+
+    /**
+     * 1: Transmission session pending, 0: No transmission session pending. 
+     */
+    public final int txSessionPending() {
+        return readUint8(22);
+    }
+
+    /**
+     * 1: Receiving session pending, 0: No receiving session pending. 
+     */
+    public final int rxSessionPending() {
+        return readUint8(23);
+    }
+}
@@ -3,9 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,7 +28,7 @@ import java.util.Objects;
         crc = 200,
         description = "The location of a landing target. See: https://mavlink.io/en/services/landing_target.html"
 )
-public final class LandingTarget {
+public final class LandingTarget implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int targetNum;
@@ -46,7 +51,7 @@ public final class LandingTarget {
 
     private final float z;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final EnumValue<LandingTargetType> type;
 
@@ -66,7 +71,7 @@ public final class LandingTarget {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.type = type;
         this.positionValid = positionValid;
     }
@@ -230,6 +235,25 @@ public final class LandingTarget {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Type of landing target 
      */
@@ -300,6 +324,26 @@ public final class LandingTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("targetNum").value(this.targetNum);
+        writer.name("frame").value(this.frame);
+        writer.name("angleX").value(this.angleX);
+        writer.name("angleY").value(this.angleY);
+        writer.name("distance").value(this.distance);
+        writer.name("sizeX").value(this.sizeX);
+        writer.name("sizeY").value(this.sizeY);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("q").value(this.q);
+        writer.name("type").value(this.type);
+        writer.name("positionValid").value(this.positionValid);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LandingTarget{timeUsec=" + timeUsec
@@ -361,6 +405,16 @@ public final class LandingTarget {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * The ID of the target if multiple targets are present 
          */
@@ -531,6 +585,13 @@ public final class LandingTarget {
             return this;
         }
 
+        /**
+         * Quaternion of landing target orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Type of landing target 
          */
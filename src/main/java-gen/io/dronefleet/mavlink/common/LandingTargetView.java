@@ -0,0 +1,115 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LandingTarget} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LandingTargetView extends PayloadView<LandingTargetView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X-axis angular offset of the target from the center of the image 
+     */
+    public final float angleX() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y-axis angular offset of the target from the center of the image 
+     */
+    public final float angleY() {
+        return readFloat(12);
+    }
+
+    /**
+     * Distance to the target from the vehicle 
+     */
+    public final float distance() {
+        return readFloat(16);
+    }
+
+    /**
+     * Size of target along x-axis 
+     */
+    public final float sizeX() {
+        return readFloat(20);
+    }
+
+    /**
+     * Size of target along y-axis 
+     */
+    public final float sizeY() {
+        return readFloat(24);
+    }
+
+    /**
+     * The ID of the target if multiple targets are present 
+     */
+    public final int targetNum() {
+        return readUint8(28);
+    }
+
+    /**
+     * Coordinate frame used for following fields. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(29);
+    }
+
+    /**
+     * X Position of the landing target in {@link io.dronefleet.mavlink.common.MavFrame MAV_FRAME} 
+     */
+    public final float x() {
+        return readFloat(30);
+    }
+
+    /**
+     * Y Position of the landing target in {@link io.dronefleet.mavlink.common.MavFrame MAV_FRAME} 
+     */
+    public final float y() {
+        return readFloat(34);
+    }
+
+    /**
+     * Z Position of the landing target in {@link io.dronefleet.mavlink.common.MavFrame MAV_FRAME} 
+     */
+    public final float z() {
+        return readFloat(38);
+    }
+
+    /**
+     * Quaternion of landing target orientation (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(42, 4, 4, index));
+    }
+
+    /**
+     * Type of landing target 
+     * <p>
+     * This returns the raw value of the field, see {@link LandingTargetType}.
+     */
+    public final int type() {
+        return readUint8(58);
+    }
+
+    /**
+     * Boolean indicating whether the position fields (x, y, z, q, type) contain valid target 
+     * position information (valid: 1, invalid: 0). Default is 0 (invalid). 
+     */
+    public final int positionValid() {
+        return readUint8(59);
+    }
+}
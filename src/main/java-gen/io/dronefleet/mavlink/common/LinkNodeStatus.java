@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -24,7 +27,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class LinkNodeStatus {
+public final class LinkNodeStatus implements JsonWritable {
     private final BigInteger timestamp;
 
     private final int txBuf;
@@ -239,6 +242,23 @@ public final class LinkNodeStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("txBuf").value(this.txBuf);
+        writer.name("rxBuf").value(this.rxBuf);
+        writer.name("txRate").value(this.txRate);
+        writer.name("rxRate").value(this.rxRate);
+        writer.name("rxParseErr").value(this.rxParseErr);
+        writer.name("txOverflows").value(this.txOverflows);
+        writer.name("rxOverflows").value(this.rxOverflows);
+        writer.name("messagesSent").value(this.messagesSent);
+        writer.name("messagesReceived").value(this.messagesReceived);
+        writer.name("messagesLost").value(this.messagesLost);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LinkNodeStatus{timestamp=" + timestamp
@@ -290,6 +310,15 @@ public final class LinkNodeStatus {
             return this;
         }
 
+        /**
+         * Timestamp (time since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timestamp(long timestamp) {
+            return timestamp(UnsignedLongs.toBigInteger(timestamp));
+        }
+
         /**
          * Remaining free transmit buffer space 
          */
@@ -0,0 +1,90 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link LinkNodeStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class LinkNodeStatusView extends PayloadView<LinkNodeStatusView> {
+    /**
+     * Timestamp (time since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * Transmit rate 
+     */
+    public final long txRate() {
+        return readUint32(8);
+    }
+
+    /**
+     * Receive rate 
+     */
+    public final long rxRate() {
+        return readUint32(12);
+    }
+
+    /**
+     * Messages sent 
+     */
+    public final long messagesSent() {
+        return readUint32(16);
+    }
+
+    /**
+     * Messages received (estimated from counting seq) 
+     */
+    public final long messagesReceived() {
+        return readUint32(20);
+    }
+
+    /**
+     * Messages lost (estimated from counting seq) 
+     */
+    public final long messagesLost() {
+        return readUint32(24);
+    }
+
+    /**
+     * Number of bytes that could not be parsed correctly. 
+     */
+    public final int rxParseErr() {
+        return readUint16(28);
+    }
+
+    /**
+     * Transmit buffer overflows. This number wraps around as it reaches UINT16_MAX 
+     */
+    public final int txOverflows() {
+        return readUint16(30);
+    }
+
+    /**
+     * Receive buffer overflows. This number wraps around as it reaches UINT16_MAX 
+     */
+    public final int rxOverflows() {
+        return readUint16(32);
+    }
+
+    /**
+     * Remaining free transmit buffer space 
+     */
+    public final int txBuf() {
+        return readUint8(34);
+    }
+
+    /**
+     * Remaining free receive buffer space 
+     */
+    public final int rxBuf() {
+        return readUint8(35);
+    }
+}
@@ -3,9 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,7 +28,7 @@ import java.util.Objects;
         crc = 191,
         description = "The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)"
 )
-public final class LocalPositionNedCov {
+public final class LocalPositionNedCov implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<MavEstimatorType> estimatorType;
@@ -46,7 +51,7 @@ public final class LocalPositionNedCov {
 
     private final float az;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private LocalPositionNedCov(BigInteger timeUsec, EnumValue<MavEstimatorType> estimatorType,
             float x, float y, float z, float vx, float vy, float vz, float ax, float ay, float az,
@@ -62,7 +67,7 @@ public final class LocalPositionNedCov {
         this.ax = ax;
         this.ay = ay;
         this.az = az;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
     }
 
     /**
@@ -223,6 +228,25 @@ public final class LocalPositionNedCov {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 45) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -261,6 +285,24 @@ public final class LocalPositionNedCov {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("estimatorType").value(this.estimatorType);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("ax").value(this.ax);
+        writer.name("ay").value(this.ay);
+        writer.name("az").value(this.az);
+        writer.name("covariance").value(this.covariance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LocalPositionNedCov{timeUsec=" + timeUsec
@@ -316,6 +358,16 @@ public final class LocalPositionNedCov {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Class id of the estimator this estimate originated from. 
          */
@@ -485,6 +537,16 @@ public final class LocalPositionNedCov {
             return this;
         }
 
+        /**
+         * Row-major representation of position, velocity and acceleration 9x9 cross-covariance 
+         * matrix upper right triangle (states: x, y, z, vx, vy, vz, ax, ay, az; first nine entries are the 
+         * first ROW, next eight entries are the second row, etc.). If unknown, assign NaN value to first 
+         * element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         public final LocalPositionNedCov build() {
             return new LocalPositionNedCov(timeUsec, estimatorType, x, y, z, vx, vy, vz, ax, ay, az, covariance);
         }
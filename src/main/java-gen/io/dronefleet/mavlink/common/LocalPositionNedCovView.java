@@ -0,0 +1,101 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LocalPositionNedCov} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LocalPositionNedCovView extends PayloadView<LocalPositionNedCovView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X Position 
+     */
+    public final float x() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y Position 
+     */
+    public final float y() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z Position 
+     */
+    public final float z() {
+        return readFloat(16);
+    }
+
+    /**
+     * X Speed 
+     */
+    public final float vx() {
+        return readFloat(20);
+    }
+
+    /**
+     * Y Speed 
+     */
+    public final float vy() {
+        return readFloat(24);
+    }
+
+    /**
+     * Z Speed 
+     */
+    public final float vz() {
+        return readFloat(28);
+    }
+
+    /**
+     * X Acceleration 
+     */
+    public final float ax() {
+        return readFloat(32);
+    }
+
+    /**
+     * Y Acceleration 
+     */
+    public final float ay() {
+        return readFloat(36);
+    }
+
+    /**
+     * Z Acceleration 
+     */
+    public final float az() {
+        return readFloat(40);
+    }
+
+    /**
+     * Row-major representation of position, velocity and acceleration 9x9 cross-covariance 
+     * matrix upper right triangle (states: x, y, z, vx, vy, vz, ax, ay, az; first nine entries are the 
+     * first ROW, next eight entries are the second row, etc.). If unknown, assign NaN value to first 
+     * element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(44, 4, 45, index));
+    }
+
+    /**
+     * Class id of the estimator this estimate originated from. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavEstimatorType}.
+     */
+    public final int estimatorType() {
+        return readUint8(224);
+    }
+}
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LocalPositionNedSystemGlobalOffset} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LocalPositionNedSystemGlobalOffsetView extends PayloadView<LocalPositionNedSystemGlobalOffsetView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * X Position 
+     */
+    public final float x() {
+        return readFloat(4);
+    }
+
+    /**
+     * Y Position 
+     */
+    public final float y() {
+        return readFloat(8);
+    }
+
+    /**
+     * Z Position 
+     */
+    public final float z() {
+        return readFloat(12);
+    }
+
+    /**
+     * Roll 
+     */
+    public final float roll() {
+        return readFloat(16);
+    }
+
+    /**
+     * Pitch 
+     */
+    public final float pitch() {
+        return readFloat(20);
+    }
+
+    /**
+     * Yaw 
+     */
+    public final float yaw() {
+        return readFloat(24);
+    }
+}
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LocalPositionNed} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LocalPositionNedView extends PayloadView<LocalPositionNedView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * X Position 
+     */
+    public final float x() {
+        return readFloat(4);
+    }
+
+    /**
+     * Y Position 
+     */
+    public final float y() {
+        return readFloat(8);
+    }
+
+    /**
+     * Z Position 
+     */
+    public final float z() {
+        return readFloat(12);
+    }
+
+    /**
+     * X Speed 
+     */
+    public final float vx() {
+        return readFloat(16);
+    }
+
+    /**
+     * Y Speed 
+     */
+    public final float vy() {
+        return readFloat(20);
+    }
+
+    /**
+     * Z Speed 
+     */
+    public final float vz() {
+        return readFloat(24);
+    }
+}
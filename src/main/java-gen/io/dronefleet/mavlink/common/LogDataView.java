@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LogData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LogDataView extends PayloadView<LogDataView> {
+    /**
+     * Offset into the log 
+     */
+    public final long ofs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Log id (from {@link io.dronefleet.mavlink.common.LogEntry LOG_ENTRY} reply) 
+     */
+    public final int id() {
+        return readUint16(4);
+    }
+
+    /**
+     * Number of bytes (zero for end of log) 
+     */
+    public final int count() {
+        return readUint8(6);
+    }
+
+    /**
+     * log data 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(7, 1, 90, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 56,
         description = "Reply to LOG_REQUEST_LIST"
 )
-public final class LogEntry {
+public final class LogEntry implements JsonWritable {
     private final int id;
 
     private final int numLogs;
@@ -127,6 +129,17 @@ public final class LogEntry {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("id").value(this.id);
+        writer.name("numLogs").value(this.numLogs);
+        writer.name("lastLogNum").value(this.lastLogNum);
+        writer.name("timeUtc").value(this.timeUtc);
+        writer.name("size").value(this.size);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LogEntry{id=" + id
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LogEntry} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LogEntryView extends PayloadView<LogEntryView> {
+    /**
+     * UTC timestamp of log since 1970, or 0 if not available 
+     */
+    public final long timeUtc() {
+        return readUint32(0);
+    }
+
+    /**
+     * Size of the log (may be approximate) 
+     */
+    public final long size() {
+        return readUint32(4);
+    }
+
+    /**
+     * Log id 
+     */
+    public final int id() {
+        return readUint16(8);
+    }
+
+    /**
+     * Total number of logs 
+     */
+    public final int numLogs() {
+        return readUint16(10);
+    }
+
+    /**
+     * High log number 
+     */
+    public final int lastLogNum() {
+        return readUint16(12);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 116,
         description = "Request a chunk of a log"
 )
-public final class LogRequestData {
+public final class LogRequestData implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -127,6 +129,17 @@ public final class LogRequestData {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("id").value(this.id);
+        writer.name("ofs").value(this.ofs);
+        writer.name("count").value(this.count);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LogRequestData{targetSystem=" + targetSystem
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LogRequestData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LogRequestDataView extends PayloadView<LogRequestDataView> {
+    /**
+     * Offset into the log 
+     */
+    public final long ofs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Number of bytes 
+     */
+    public final long count() {
+        return readUint32(4);
+    }
+
+    /**
+     * Log id (from {@link io.dronefleet.mavlink.common.LogEntry LOG_ENTRY} reply) 
+     */
+    public final int id() {
+        return readUint16(8);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(10);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(11);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 203,
         description = "Stop log transfer and resume normal logging"
 )
-public final class LogRequestEnd {
+public final class LogRequestEnd implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -76,6 +78,14 @@ public final class LogRequestEnd {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LogRequestEnd{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +20,7 @@ import java.util.Objects;
         crc = 128,
         description = "Request a list of available logs. On some systems calling this may stop on-board logging until LOG_REQUEST_END is called. If there are no log files available this request shall be answered with one LOG_ENTRY message with id = 0 and num_logs = 0."
 )
-public final class LogRequestList {
+public final class LogRequestList implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -112,6 +114,16 @@ public final class LogRequestList {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("start").value(this.start);
+        writer.name("end").value(this.end);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LogRequestList{targetSystem=" + targetSystem
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LogRequestList} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LogRequestListView extends PayloadView<LogRequestListView> {
+    /**
+     * First log id (0 for first available) 
+     */
+    public final int start() {
+        return readUint16(0);
+    }
+
+    /**
+     * Last log id (0xffff for last available) 
+     */
+    public final int end() {
+        return readUint16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
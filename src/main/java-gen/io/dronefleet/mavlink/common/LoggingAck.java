@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 14,
         description = "An ack for a LOGGING_DATA_ACKED message"
 )
-public final class LoggingAck {
+public final class LoggingAck implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -93,6 +95,15 @@ public final class LoggingAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("sequence").value(this.sequence);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LoggingAck{targetSystem=" + targetSystem
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LoggingAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LoggingAckView extends PayloadView<LoggingAckView> {
+    /**
+     * sequence number (must match the one in {@link io.dronefleet.mavlink.common.LoggingDataAcked LOGGING_DATA_ACKED}) 
+     */
+    public final int sequence() {
+        return readUint16(0);
+    }
+
+    /**
+     * system ID of the target 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * component ID of the target 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 35,
         description = "A message containing logged data which requires a LOGGING_ACK to be sent back"
 )
-public final class LoggingDataAcked {
+public final class LoggingDataAcked implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -147,6 +149,18 @@ public final class LoggingDataAcked {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("sequence").value(this.sequence);
+        writer.name("length").value(this.length);
+        writer.name("firstMessageOffset").value(this.firstMessageOffset);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "LoggingDataAcked{targetSystem=" + targetSystem
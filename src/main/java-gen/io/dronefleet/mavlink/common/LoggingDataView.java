@@ -0,0 +1,52 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link LoggingData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class LoggingDataView extends PayloadView<LoggingDataView> {
+    /**
+     * sequence number (can wrap) 
+     */
+    public final int sequence() {
+        return readUint16(0);
+    }
+
+    /**
+     * system ID of the target 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * component ID of the target 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * data length 
+     */
+    public final int length() {
+        return readUint8(4);
+    }
+
+    /**
+     * offset into data where first message starts. This can be used for recovery, when a previous 
+     * message got lost (set to UINT8_MAX if no start exists). 
+     */
+    public final int firstMessageOffset() {
+        return readUint8(5);
+    }
+
+    /**
+     * logged data 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(6, 1, 249, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 36,
         description = "Reports results of completed compass calibration. Sent until MAG_CAL_ACK received."
 )
-public final class MagCalReport {
+public final class MagCalReport implements JsonWritable {
     private final int compassId;
 
     private final int calMask;
@@ -362,6 +364,30 @@ public final class MagCalReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("compassId").value(this.compassId);
+        writer.name("calMask").value(this.calMask);
+        writer.name("calStatus").value(this.calStatus);
+        writer.name("autosaved").value(this.autosaved);
+        writer.name("fitness").value(this.fitness);
+        writer.name("ofsX").value(this.ofsX);
+        writer.name("ofsY").value(this.ofsY);
+        writer.name("ofsZ").value(this.ofsZ);
+        writer.name("diagX").value(this.diagX);
+        writer.name("diagY").value(this.diagY);
+        writer.name("diagZ").value(this.diagZ);
+        writer.name("offdiagX").value(this.offdiagX);
+        writer.name("offdiagY").value(this.offdiagY);
+        writer.name("offdiagZ").value(this.offdiagZ);
+        writer.name("orientationConfidence").value(this.orientationConfidence);
+        writer.name("oldOrientation").value(this.oldOrientation);
+        writer.name("newOrientation").value(this.newOrientation);
+        writer.name("scaleFactor").value(this.scaleFactor);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MagCalReport{compassId=" + compassId
@@ -0,0 +1,141 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MagCalReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MagCalReportView extends PayloadView<MagCalReportView> {
+    /**
+     * RMS milligauss residuals. 
+     */
+    public final float fitness() {
+        return readFloat(0);
+    }
+
+    /**
+     * X offset. 
+     */
+    public final float ofsX() {
+        return readFloat(4);
+    }
+
+    /**
+     * Y offset. 
+     */
+    public final float ofsY() {
+        return readFloat(8);
+    }
+
+    /**
+     * Z offset. 
+     */
+    public final float ofsZ() {
+        return readFloat(12);
+    }
+
+    /**
+     * X diagonal (matrix 11). 
+     */
+    public final float diagX() {
+        return readFloat(16);
+    }
+
+    /**
+     * Y diagonal (matrix 22). 
+     */
+    public final float diagY() {
+        return readFloat(20);
+    }
+
+    /**
+     * Z diagonal (matrix 33). 
+     */
+    public final float diagZ() {
+        return readFloat(24);
+    }
+
+    /**
+     * X off-diagonal (matrix 12 and 21). 
+     */
+    public final float offdiagX() {
+        return readFloat(28);
+    }
+
+    /**
+     * Y off-diagonal (matrix 13 and 31). 
+     */
+    public final float offdiagY() {
+        return readFloat(32);
+    }
+
+    /**
+     * Z off-diagonal (matrix 32 and 23). 
+     */
+    public final float offdiagZ() {
+        return readFloat(36);
+    }
+
+    /**
+     * Compass being calibrated. 
+     */
+    public final int compassId() {
+        return readUint8(40);
+    }
+
+    /**
+     * Bitmask of compasses being calibrated. 
+     */
+    public final int calMask() {
+        return readUint8(41);
+    }
+
+    /**
+     * Calibration Status. 
+     * <p>
+     * This returns the raw value of the field, see {@link MagCalStatus}.
+     */
+    public final int calStatus() {
+        return readUint8(42);
+    }
+
+    /**
+     * 0=requires a MAV_CMD_DO_ACCEPT_MAG_CAL, 1=saved to parameters. 
+     */
+    public final int autosaved() {
+        return readUint8(43);
+    }
+
+    /**
+     * Confidence in orientation (higher is better). 
+     */
+    public final float orientationConfidence() {
+        return readFloat(44);
+    }
+
+    /**
+     * orientation before calibration. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSensorOrientation}.
+     */
+    public final int oldOrientation() {
+        return readUint8(48);
+    }
+
+    /**
+     * orientation after calibration. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSensorOrientation}.
+     */
+    public final int newOrientation() {
+        return readUint8(49);
+    }
+
+    /**
+     * field radius correction factor 
+     */
+    public final float scaleFactor() {
+        return readFloat(50);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +20,7 @@ import java.util.Objects;
         crc = 243,
         description = "This message provides an API for manually controlling the vehicle using standard joystick axes nomenclature, along with a joystick-like input device. Unused axes can be disabled and buttons states are transmitted as individual on/off bits of a bitmask"
 )
-public final class ManualControl {
+public final class ManualControl implements JsonWritable {
     private final int target;
 
     private final int x;
@@ -241,6 +243,22 @@ public final class ManualControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("r").value(this.r);
+        writer.name("buttons").value(this.buttons);
+        writer.name("buttons2").value(this.buttons2);
+        writer.name("enabledExtensions").value(this.enabledExtensions);
+        writer.name("s").value(this.s);
+        writer.name("t").value(this.t);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ManualControl{target=" + target
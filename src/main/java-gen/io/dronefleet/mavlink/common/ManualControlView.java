@@ -0,0 +1,95 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ManualControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ManualControlView extends PayloadView<ManualControlView> {
+    /**
+     * X-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is 
+     * invalid. Generally corresponds to forward(1000)-backward(-1000) movement on a joystick 
+     * and the pitch of a vehicle. 
+     */
+    public final int x() {
+        return readInt16(0);
+    }
+
+    /**
+     * Y-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is 
+     * invalid. Generally corresponds to left(-1000)-right(1000) movement on a joystick and the 
+     * roll of a vehicle. 
+     */
+    public final int y() {
+        return readInt16(2);
+    }
+
+    /**
+     * Z-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is 
+     * invalid. Generally corresponds to a separate slider movement with maximum being 1000 and 
+     * minimum being -1000 on a joystick and the thrust of a vehicle. Positive values are positive 
+     * thrust, negative values are negative thrust. 
+     */
+    public final int z() {
+        return readInt16(4);
+    }
+
+    /**
+     * R-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is 
+     * invalid. Generally corresponds to a twisting of the joystick, with counter-clockwise being 
+     * 1000 and clockwise being -1000, and the yaw of a vehicle. 
+     */
+    public final int r() {
+        return readInt16(6);
+    }
+
+    /**
+     * A bitfield corresponding to the joystick buttons' 0-15 current state, 1 for pressed, 0 for 
+     * released. The lowest bit corresponds to Button 1. 
+     */
+    public final int buttons() {
+        return readUint16(8);
+    }
+
+    /**
+     * The system to be controlled. 
+     */
+    public final int target() {
+        return readUint8(10);
+    }
+
+    /**
+     * A bitfield corresponding to the joystick buttons' 16-31 current state, 1 for pressed, 0 for 
+     * released. The lowest bit corresponds to Button 16. 
+     */
+    public final int buttons2() {
+        return readUint16(11);
+    }
+
+    /**
+     * Set bits to 1 to indicate which of the following extension fields contain valid data: bit 0: 
+     * pitch, bit 1: roll. 
+     */
+    public final int enabledExtensions() {
+        return readUint8(13);
+    }
+
+    /**
+     * Pitch-only-axis, normalized to the range [-1000,1000]. Generally corresponds to pitch on 
+     * vehicles with additional degrees of freedom. Valid if bit 0 of enabled_extensions field is 
+     * set. Set to 0 if invalid. 
+     */
+    public final int s() {
+        return readInt16(14);
+    }
+
+    /**
+     * Roll-only-axis, normalized to the range [-1000,1000]. Generally corresponds to roll on 
+     * vehicles with additional degrees of freedom. Valid if bit 1 of enabled_extensions field is 
+     * set. Set to 0 if invalid. 
+     */
+    public final int t() {
+        return readInt16(16);
+    }
+}
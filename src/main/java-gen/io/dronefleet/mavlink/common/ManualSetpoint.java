@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 106,
         description = "Setpoint in roll, pitch, yaw and thrust from the operator"
 )
-public final class ManualSetpoint {
+public final class ManualSetpoint implements JsonWritable {
     private final long timeBootMs;
 
     private final float roll;
@@ -162,6 +164,19 @@ public final class ManualSetpoint {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("thrust").value(this.thrust);
+        writer.name("modeSwitch").value(this.modeSwitch);
+        writer.name("manualOverrideSwitch").value(this.manualOverrideSwitch);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ManualSetpoint{timeBootMs=" + timeBootMs
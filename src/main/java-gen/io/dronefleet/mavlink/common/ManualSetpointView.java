@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ManualSetpoint} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ManualSetpointView extends PayloadView<ManualSetpointView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Desired roll rate 
+     */
+    public final float roll() {
+        return readFloat(4);
+    }
+
+    /**
+     * Desired pitch rate 
+     */
+    public final float pitch() {
+        return readFloat(8);
+    }
+
+    /**
+     * Desired yaw rate 
+     */
+    public final float yaw() {
+        return readFloat(12);
+    }
+
+    /**
+     * Collective thrust, normalized to 0 .. 1 
+     */
+    public final float thrust() {
+        return readFloat(16);
+    }
+
+    /**
+     * Flight mode switch position, 0.. 255 
+     */
+    public final int modeSwitch() {
+        return readUint8(20);
+    }
+
+    /**
+     * Override mode switch position, 0.. 255 
+     */
+    public final int manualOverrideSwitch() {
+        return readUint8(21);
+    }
+}
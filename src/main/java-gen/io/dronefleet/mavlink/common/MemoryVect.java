@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,20 +23,20 @@ import java.util.Objects;
         crc = 204,
         description = "Send raw controller memory. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output."
 )
-public final class MemoryVect {
+public final class MemoryVect implements JsonWritable {
     private final int address;
 
     private final int ver;
 
     private final int type;
 
-    private final List<Integer> value;
+    private final IntArrayList value;
 
     private MemoryVect(int address, int ver, int type, List<Integer> value) {
         this.address = address;
         this.ver = ver;
         this.type = type;
-        this.value = value;
+        this.value = IntArrayList.copyOf(value);
     }
 
     /**
@@ -94,6 +98,25 @@ public final class MemoryVect {
         return this.value;
     }
 
+    /**
+     * Returns a copy of {@link #value()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] valueArray() {
+        return this.value != null ? this.value.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #value()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int value(int index) {
+        if (index < 0 || index >= 32) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.value != null && index < this.value.size() ? this.value.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -116,6 +139,16 @@ public final class MemoryVect {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("address").value(this.address);
+        writer.name("ver").value(this.ver);
+        writer.name("type").value(this.type);
+        writer.name("value").value(this.value);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MemoryVect{address=" + address
@@ -188,6 +221,13 @@ public final class MemoryVect {
             return this;
         }
 
+        /**
+         * Memory contents at specified address 
+         */
+        public final Builder value(int... value) {
+            return value(IntArrayList.of(value));
+        }
+
         public final MemoryVect build() {
             return new MemoryVect(address, ver, type, value);
         }
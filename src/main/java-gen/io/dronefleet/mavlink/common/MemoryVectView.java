@@ -0,0 +1,38 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MemoryVect} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MemoryVectView extends PayloadView<MemoryVectView> {
+    /**
+     * Starting address of the debug variables 
+     */
+    public final int address() {
+        return readUint16(0);
+    }
+
+    /**
+     * Version code of the type variable. 0=unknown, type ignored and assumed int16_t. 1=as below 
+     */
+    public final int ver() {
+        return readUint8(2);
+    }
+
+    /**
+     * Type code of the memory variables. for ver = 1: 0=16 x int16_t, 1=16 x uint16_t, 2=16 x Q15, 3=16 x 
+     * 1Q14 
+     */
+    public final int type() {
+        return readUint8(3);
+    }
+
+    /**
+     * Memory contents at specified address 
+     */
+    public final int value(int index) {
+        return readInt8(elementPosition(4, 1, 32, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -22,7 +24,7 @@ import java.util.Objects;
                         + "\tIt may also be sent in response to MAV_CMD_GET_MESSAGE_INTERVAL.\n"
                         + "\tThis interface replaces DATA_STREAM."
 )
-public final class MessageInterval {
+public final class MessageInterval implements JsonWritable {
     private final int messageId;
 
     private final int intervalUs;
@@ -84,6 +86,14 @@ public final class MessageInterval {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("messageId").value(this.messageId);
+        writer.name("intervalUs").value(this.intervalUs);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MessageInterval{messageId=" + messageId
@@ -0,0 +1,24 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MessageInterval} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MessageIntervalView extends PayloadView<MessageIntervalView> {
+    /**
+     * The interval between two messages. A value of -1 indicates this stream is disabled, 0 indicates 
+     * it is not available, &gt; 0 indicates the interval at which it is sent. 
+     */
+    public final int intervalUs() {
+        return readInt32(0);
+    }
+
+    /**
+     * The ID of the requested MAVLink message. v1.0 is limited to 254 messages. 
+     */
+    public final int messageId() {
+        return readUint16(4);
+    }
+}
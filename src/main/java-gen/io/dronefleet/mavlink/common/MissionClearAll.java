@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 232,
         description = "Delete all mission items at once."
 )
-public final class MissionClearAll {
+public final class MissionClearAll implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -99,6 +101,15 @@ public final class MissionClearAll {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("missionType").value(this.missionType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MissionClearAll{targetSystem=" + targetSystem
@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MissionClearAll} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MissionClearAllView extends PayloadView<MissionClearAllView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Mission type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMissionType}.
+     */
+    public final int missionType() {
+        return readUint8(2);
+    }
+}
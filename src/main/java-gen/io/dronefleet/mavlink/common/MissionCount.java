@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 221,
         description = "This message is emitted as response to MISSION_REQUEST_LIST by the MAV and to initiate a write transaction. The GCS can then request the individual mission item based on the knowledge of the total number of waypoints."
 )
-public final class MissionCount {
+public final class MissionCount implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -118,6 +120,16 @@ public final class MissionCount {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("count").value(this.count);
+        writer.name("missionType").value(this.missionType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MissionCount{targetSystem=" + targetSystem
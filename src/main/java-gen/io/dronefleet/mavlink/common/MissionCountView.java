@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MissionCount} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MissionCountView extends PayloadView<MissionCountView> {
+    /**
+     * Number of mission items in the sequence 
+     */
+    public final int count() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * Mission type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMissionType}.
+     */
+    public final int missionType() {
+        return readUint8(4);
+    }
+}
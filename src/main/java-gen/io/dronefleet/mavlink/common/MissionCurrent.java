@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -24,7 +26,7 @@ import java.util.Objects;
                         + "        This message should be streamed all the time (nominally at 1Hz).\n"
                         + "        This message should be emitted following a call to MAV_CMD_DO_SET_MISSION_CURRENT or SET_MISSION_CURRENT."
 )
-public final class MissionCurrent {
+public final class MissionCurrent implements JsonWritable {
     private final int seq;
 
     private final int total;
@@ -125,6 +127,16 @@ public final class MissionCurrent {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("seq").value(this.seq);
+        writer.name("total").value(this.total);
+        writer.name("missionState").value(this.missionState);
+        writer.name("missionMode").value(this.missionMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MissionCurrent{seq=" + seq
@@ -0,0 +1,41 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MissionCurrent} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MissionCurrentView extends PayloadView<MissionCurrentView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+
+    /**
+     * Total number of mission items. 0: Not supported, UINT16_MAX if no mission is present on the 
+     * vehicle. 
+     */
+    public final int total() {
+        return readUint16(2);
+    }
+
+    /**
+     * Mission state machine state. MISSION_STATE_UNKNOWN if state reporting not supported. 
+     * <p>
+     * This returns the raw value of the field, see {@link MissionState}.
+     */
+    public final int missionState() {
+        return readUint8(4);
+    }
+
+    /**
+     * Vehicle is in a mode that can execute mission items or suspended. 0: Unknown, 1: In mission mode, 
+     * 2: Suspended (not in mission mode). 
+     */
+    public final int missionMode() {
+        return readUint8(5);
+    }
+}
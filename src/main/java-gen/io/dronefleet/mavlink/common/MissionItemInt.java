@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -25,7 +27,7 @@ import java.util.Objects;
         description = "Message encoding a mission item. This message is emitted to announce\n"
                         + "                the presence of a mission item and to set a mission item on the system. The mission item can be either in x, y, z meters (type: LOCAL) or x:lat, y:lon, z:altitude. Local frame is Z-down, right handed (NED), global frame is Z-up, right handed (ENU). NaN or INT32_MAX may be used in float/integer params (respectively) to indicate optional/default values (e.g. to use the component's current latitude, yaw rather than a specific value). See also https://mavlink.io/en/services/mission.html."
 )
-public final class MissionItemInt {
+public final class MissionItemInt implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -317,6 +319,27 @@ public final class MissionItemInt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("seq").value(this.seq);
+        writer.name("frame").value(this.frame);
+        writer.name("command").value(this.command);
+        writer.name("current").value(this.current);
+        writer.name("autocontinue").value(this.autocontinue);
+        writer.name("param1").value(this.param1);
+        writer.name("param2").value(this.param2);
+        writer.name("param3").value(this.param3);
+        writer.name("param4").value(this.param4);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("missionType").value(this.missionType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MissionItemInt{targetSystem=" + targetSystem
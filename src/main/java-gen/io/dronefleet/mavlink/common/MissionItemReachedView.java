@@ -0,0 +1,16 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MissionItemReached} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MissionItemReachedView extends PayloadView<MissionItemReachedView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+}
@@ -0,0 +1,123 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link MissionItem} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class MissionItemView extends PayloadView<MissionItemView> {
+    /**
+     * PARAM1, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param1() {
+        return readFloat(0);
+    }
+
+    /**
+     * PARAM2, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param2() {
+        return readFloat(4);
+    }
+
+    /**
+     * PARAM3, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param3() {
+        return readFloat(8);
+    }
+
+    /**
+     * PARAM4, see {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} enum 
+     */
+    public final float param4() {
+        return readFloat(12);
+    }
+
+    /**
+     * PARAM5 / local: X coordinate, global: latitude 
+     */
+    public final float x() {
+        return readFloat(16);
+    }
+
+    /**
+     * PARAM6 / local: Y coordinate, global: longitude 
+     */
+    public final float y() {
+        return readFloat(20);
+    }
+
+    /**
+     * PARAM7 / local: Z coordinate, global: altitude (relative or absolute, depending on frame). 
+     */
+    public final float z() {
+        return readFloat(24);
+    }
+
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(28);
+    }
+
+    /**
+     * The scheduled action for the waypoint. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command() {
+        return readUint16(30);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(32);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(33);
+    }
+
+    /**
+     * The coordinate system of the waypoint. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(34);
+    }
+
+    /**
+     * false:0, true:1 
+     */
+    public final int current() {
+        return readUint8(35);
+    }
+
+    /**
+     * Autocontinue to next waypoint. 0: false, 1: true. Set false to pause mission after the item 
+     * completes. 
+     */
+    public final int autocontinue() {
+        return readUint8(36);
+    }
+
+    /**
+     * Mission type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMissionType}.
+     */
+    public final int missionType() {
+        return readUint8(37);
+    }
+}
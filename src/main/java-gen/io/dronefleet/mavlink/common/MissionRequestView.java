@@ -0,0 +1,41 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link MissionRequest} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class MissionRequestView extends PayloadView<MissionRequestView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * Mission type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMissionType}.
+     */
+    public final int missionType() {
+        return readUint8(4);
+    }
+}
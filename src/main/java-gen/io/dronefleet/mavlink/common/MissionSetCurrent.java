@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -33,7 +35,7 @@ import java.util.Objects;
                         + "        If the system is not in mission mode this message must not trigger a switch to mission mode."
 )
 @Deprecated
-public final class MissionSetCurrent {
+public final class MissionSetCurrent implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -110,6 +112,15 @@ public final class MissionSetCurrent {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("seq").value(this.seq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MissionSetCurrent{targetSystem=" + targetSystem
@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link MissionSetCurrent} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class MissionSetCurrentView extends PayloadView<MissionSetCurrentView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+}
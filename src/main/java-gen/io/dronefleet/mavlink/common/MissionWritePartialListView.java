@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MissionWritePartialList} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MissionWritePartialListView extends PayloadView<MissionWritePartialListView> {
+    /**
+     * Start index. Must be smaller / equal to the largest index of the current onboard list. 
+     */
+    public final int startIndex() {
+        return readInt16(0);
+    }
+
+    /**
+     * End index, equal or greater than start index. 
+     */
+    public final int endIndex() {
+        return readInt16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Mission type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMissionType}.
+     */
+    public final int missionType() {
+        return readUint8(6);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -21,7 +23,7 @@ import java.util.Objects;
         description = "Orientation of a mount"
 )
 @Deprecated
-public final class MountOrientation {
+public final class MountOrientation implements JsonWritable {
     private final long timeBootMs;
 
     private final float roll;
@@ -134,6 +136,17 @@ public final class MountOrientation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("yawAbsolute").value(this.yawAbsolute);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MountOrientation{timeBootMs=" + timeBootMs
@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link MountOrientation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class MountOrientationView extends PayloadView<MountOrientationView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Roll in global frame (set to NaN for invalid). 
+     */
+    public final float roll() {
+        return readFloat(4);
+    }
+
+    /**
+     * Pitch in global frame (set to NaN for invalid). 
+     */
+    public final float pitch() {
+        return readFloat(8);
+    }
+
+    /**
+     * Yaw relative to vehicle (set to NaN for invalid). 
+     */
+    public final float yaw() {
+        return readFloat(12);
+    }
+
+    /**
+     * Yaw in absolute frame relative to Earth's North, north is 0 (set to NaN for invalid). 
+     */
+    public final float yawAbsolute() {
+        return readFloat(16);
+    }
+}
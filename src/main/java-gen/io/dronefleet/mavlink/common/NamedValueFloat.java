@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 170,
         description = "Send a key-value pair as float. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output."
 )
-public final class NamedValueFloat {
+public final class NamedValueFloat implements JsonWritable {
     private final long timeBootMs;
 
     private final String name;
@@ -95,6 +97,15 @@ public final class NamedValueFloat {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("name").value(this.name);
+        writer.name("value").value(this.value);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "NamedValueFloat{timeBootMs=" + timeBootMs
@@ -0,0 +1,31 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link NamedValueFloat} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class NamedValueFloatView extends PayloadView<NamedValueFloatView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Floating point value 
+     */
+    public final float value() {
+        return readFloat(4);
+    }
+
+    /**
+     * Name of the debug variable 
+     */
+    public final String name() {
+        return readString(8, 10);
+    }
+}
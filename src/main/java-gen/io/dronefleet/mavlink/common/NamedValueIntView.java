@@ -0,0 +1,31 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link NamedValueInt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class NamedValueIntView extends PayloadView<NamedValueIntView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Signed integer value 
+     */
+    public final int value() {
+        return readInt32(4);
+    }
+
+    /**
+     * Name of the debug variable 
+     */
+    public final String name() {
+        return readString(8, 10);
+    }
+}
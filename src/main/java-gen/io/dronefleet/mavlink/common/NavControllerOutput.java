@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 183,
         description = "The state of the navigation and position controller."
 )
-public final class NavControllerOutput {
+public final class NavControllerOutput implements JsonWritable {
     private final float navRoll;
 
     private final float navPitch;
@@ -181,6 +183,20 @@ public final class NavControllerOutput {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("navRoll").value(this.navRoll);
+        writer.name("navPitch").value(this.navPitch);
+        writer.name("navBearing").value(this.navBearing);
+        writer.name("targetBearing").value(this.targetBearing);
+        writer.name("wpDist").value(this.wpDist);
+        writer.name("altError").value(this.altError);
+        writer.name("aspdError").value(this.aspdError);
+        writer.name("xtrackError").value(this.xtrackError);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "NavControllerOutput{navRoll=" + navRoll
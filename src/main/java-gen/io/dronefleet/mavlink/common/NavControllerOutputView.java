@@ -0,0 +1,65 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link NavControllerOutput} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class NavControllerOutputView extends PayloadView<NavControllerOutputView> {
+    /**
+     * Current desired roll 
+     */
+    public final float navRoll() {
+        return readFloat(0);
+    }
+
+    /**
+     * Current desired pitch 
+     */
+    public final float navPitch() {
+        return readFloat(4);
+    }
+
+    /**
+     * Current altitude error 
+     */
+    public final float altError() {
+        return readFloat(8);
+    }
+
+    /**
+     * Current airspeed error 
+     */
+    public final float aspdError() {
+        return readFloat(12);
+    }
+
+    /**
+     * Current crosstrack error on x-y plane 
+     */
+    public final float xtrackError() {
+        return readFloat(16);
+    }
+
+    /**
+     * Current desired heading 
+     */
+    public final int navBearing() {
+        return readInt16(20);
+    }
+
+    /**
+     * Bearing to current waypoint/target 
+     */
+    public final int targetBearing() {
+        return readInt16(22);
+    }
+
+    /**
+     * Distance to active waypoint 
+     */
+    public final int wpDist() {
+        return readUint16(24);
+    }
+}
@@ -3,8 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -23,12 +28,12 @@ import java.util.Objects;
         crc = 23,
         description = "Obstacle distances in front of the sensor, starting from the left in increment degrees to the right"
 )
-public final class ObstacleDistance {
+public final class ObstacleDistance implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<MavDistanceSensor> sensorType;
 
-    private final List<Integer> distances;
+    private final IntArrayList distances;
 
     private final int increment;
 
@@ -47,7 +52,7 @@ public final class ObstacleDistance {
             float incrementF, float angleOffset, EnumValue<MavFrame> frame) {
         this.timeUsec = timeUsec;
         this.sensorType = sensorType;
-        this.distances = distances;
+        this.distances = IntArrayList.copyOf(distances);
         this.increment = increment;
         this.minDistance = minDistance;
         this.maxDistance = maxDistance;
@@ -106,6 +111,25 @@ public final class ObstacleDistance {
         return this.distances;
     }
 
+    /**
+     * Returns a copy of {@link #distances()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] distancesArray() {
+        return this.distances != null ? this.distances.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #distances()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int distances(int index) {
+        if (index < 0 || index >= 72) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.distances != null && index < this.distances.size() ? this.distances.getInt(index) : 0;
+    }
+
     /**
      * Angular width in degrees of each array element. Increment direction is clockwise. This field 
      * is ignored if increment_f is non-zero. 
@@ -220,6 +244,21 @@ public final class ObstacleDistance {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("sensorType").value(this.sensorType);
+        writer.name("distances").value(this.distances);
+        writer.name("increment").value(this.increment);
+        writer.name("minDistance").value(this.minDistance);
+        writer.name("maxDistance").value(this.maxDistance);
+        writer.name("incrementF").value(this.incrementF);
+        writer.name("angleOffset").value(this.angleOffset);
+        writer.name("frame").value(this.frame);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ObstacleDistance{timeUsec=" + timeUsec
@@ -266,6 +305,16 @@ public final class ObstacleDistance {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Class id of the distance sensor type. 
          */
@@ -318,6 +367,16 @@ public final class ObstacleDistance {
             return this;
         }
 
+        /**
+         * Distance of obstacles around the vehicle with index 0 corresponding to north + angle_offset, 
+         * unless otherwise specified in the frame. A value of 0 is valid and means that the obstacle is 
+         * practically touching the sensor. A value of max_distance +1 means no obstacle is present. A 
+         * value of UINT16_MAX for unknown/not used. In a array element, one unit corresponds to 1cm. 
+         */
+        public final Builder distances(int... distances) {
+            return distances(IntArrayList.of(distances));
+        }
+
         /**
          * Angular width in degrees of each array element. Increment direction is clockwise. This field 
          * is ignored if increment_f is non-zero. 
@@ -0,0 +1,88 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ObstacleDistance} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ObstacleDistanceView extends PayloadView<ObstacleDistanceView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Distance of obstacles around the vehicle with index 0 corresponding to north + angle_offset, 
+     * unless otherwise specified in the frame. A value of 0 is valid and means that the obstacle is 
+     * practically touching the sensor. A value of max_distance +1 means no obstacle is present. A 
+     * value of UINT16_MAX for unknown/not used. In a array element, one unit corresponds to 1cm. 
+     */
+    public final int distances(int index) {
+        return readUint16(elementPosition(8, 2, 72, index));
+    }
+
+    /**
+     * Minimum distance the sensor can measure. 
+     */
+    public final int minDistance() {
+        return readUint16(152);
+    }
+
+    /**
+     * Maximum distance the sensor can measure. 
+     */
+    public final int maxDistance() {
+        return readUint16(154);
+    }
+
+    /**
+     * Class id of the distance sensor type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavDistanceSensor}.
+     */
+    public final int sensorType() {
+        return readUint8(156);
+    }
+
+    /**
+     * Angular width in degrees of each array element. Increment direction is clockwise. This field 
+     * is ignored if increment_f is non-zero. 
+     */
+    public final int increment() {
+        return readUint8(157);
+    }
+
+    /**
+     * Angular width in degrees of each array element as a float. If non-zero then this value is used 
+     * instead of the uint8_t increment field. Positive is clockwise direction, negative is 
+     * counter-clockwise. 
+     */
+    public final float incrementF() {
+        return readFloat(158);
+    }
+
+    /**
+     * Relative angle offset of the 0-index element in the distances array. Value of 0 corresponds to 
+     * forward. Positive is clockwise direction, negative is counter-clockwise. 
+     */
+    public final float angleOffset() {
+        return readFloat(162);
+    }
+
+    /**
+     * Coordinate frame of reference for the yaw rotation and offset of the sensor data. Defaults to 
+     * MAV_FRAME_GLOBAL, which is north aligned. For body-mounted sensors use 
+     * MAV_FRAME_BODY_FRD, which is vehicle front aligned. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(166);
+    }
+}
@@ -3,9 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,7 +28,7 @@ import java.util.Objects;
         crc = 91,
         description = "Odometry message to communicate odometry information with an external interface. Fits ROS REP 147 standard for aerial vehicles (http://www.ros.org/reps/rep-0147.html)."
 )
-public final class Odometry {
+public final class Odometry implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final EnumValue<MavFrame> frameId;
@@ -36,7 +41,7 @@ public final class Odometry {
 
     private final float z;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float vx;
 
@@ -50,9 +55,9 @@ public final class Odometry {
 
     private final float yawspeed;
 
-    private final List<Float> poseCovariance;
+    private final FloatArrayList poseCovariance;
 
-    private final List<Float> velocityCovariance;
+    private final FloatArrayList velocityCovariance;
 
     private final int resetCounter;
 
@@ -71,15 +76,15 @@ public final class Odometry {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.vx = vx;
         this.vy = vy;
         this.vz = vz;
         this.rollspeed = rollspeed;
         this.pitchspeed = pitchspeed;
         this.yawspeed = yawspeed;
-        this.poseCovariance = poseCovariance;
-        this.velocityCovariance = velocityCovariance;
+        this.poseCovariance = FloatArrayList.copyOf(poseCovariance);
+        this.velocityCovariance = FloatArrayList.copyOf(velocityCovariance);
         this.resetCounter = resetCounter;
         this.estimatorType = estimatorType;
         this.quality = quality;
@@ -181,6 +186,25 @@ public final class Odometry {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * X linear speed 
      */
@@ -268,6 +292,25 @@ public final class Odometry {
         return this.poseCovariance;
     }
 
+    /**
+     * Returns a copy of {@link #poseCovariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] poseCovarianceArray() {
+        return this.poseCovariance != null ? this.poseCovariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #poseCovariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float poseCovariance(int index) {
+        if (index < 0 || index >= 21) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.poseCovariance != null && index < this.poseCovariance.size() ? this.poseCovariance.getFloat(index) : 0;
+    }
+
     /**
      * Row-major representation of a 6x6 velocity cross-covariance matrix upper right triangle 
      * (states: vx, vy, vz, rollspeed, pitchspeed, yawspeed; first six entries are the first ROW, 
@@ -284,6 +327,25 @@ public final class Odometry {
         return this.velocityCovariance;
     }
 
+    /**
+     * Returns a copy of {@link #velocityCovariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velocityCovarianceArray() {
+        return this.velocityCovariance != null ? this.velocityCovariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velocityCovariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velocityCovariance(int index) {
+        if (index < 0 || index >= 21) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velocityCovariance != null && index < this.velocityCovariance.size() ? this.velocityCovariance.getFloat(index) : 0;
+    }
+
     /**
      * Estimate reset counter. This should be incremented when the estimate resets in any of the 
      * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
@@ -378,6 +440,30 @@ public final class Odometry {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("frameId").value(this.frameId);
+        writer.name("childFrameId").value(this.childFrameId);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("q").value(this.q);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("rollspeed").value(this.rollspeed);
+        writer.name("pitchspeed").value(this.pitchspeed);
+        writer.name("yawspeed").value(this.yawspeed);
+        writer.name("poseCovariance").value(this.poseCovariance);
+        writer.name("velocityCovariance").value(this.velocityCovariance);
+        writer.name("resetCounter").value(this.resetCounter);
+        writer.name("estimatorType").value(this.estimatorType);
+        writer.name("quality").value(this.quality);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Odometry{timeUsec=" + timeUsec
@@ -451,6 +537,16 @@ public final class Odometry {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Coordinate frame of reference for the pose data. 
          */
@@ -574,6 +670,13 @@ public final class Odometry {
             return this;
         }
 
+        /**
+         * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * X linear speed 
          */
@@ -668,6 +771,15 @@ public final class Odometry {
             return this;
         }
 
+        /**
+         * Row-major representation of a 6x6 pose cross-covariance matrix upper right triangle 
+         * (states: x, y, z, roll, pitch, yaw; first six entries are the first ROW, next five entries are the 
+         * second ROW, etc.). If unknown, assign NaN value to first element in the array. 
+         */
+        public final Builder poseCovariance(float... poseCovariance) {
+            return poseCovariance(FloatArrayList.of(poseCovariance));
+        }
+
         /**
          * Row-major representation of a 6x6 velocity cross-covariance matrix upper right triangle 
          * (states: vx, vy, vz, rollspeed, pitchspeed, yawspeed; first six entries are the first ROW, 
@@ -685,6 +797,16 @@ public final class Odometry {
             return this;
         }
 
+        /**
+         * Row-major representation of a 6x6 velocity cross-covariance matrix upper right triangle 
+         * (states: vx, vy, vz, rollspeed, pitchspeed, yawspeed; first six entries are the first ROW, 
+         * next five entries are the second ROW, etc.). If unknown, assign NaN value to first element in the 
+         * array. 
+         */
+        public final Builder velocityCovariance(float... velocityCovariance) {
+            return velocityCovariance(FloatArrayList.of(velocityCovariance));
+        }
+
         /**
          * Estimate reset counter. This should be incremented when the estimate resets in any of the 
          * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
@@ -0,0 +1,152 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Odometry} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OdometryView extends PayloadView<OdometryView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X Position 
+     */
+    public final float x() {
+        return readFloat(8);
+    }
+
+    /**
+     * Y Position 
+     */
+    public final float y() {
+        return readFloat(12);
+    }
+
+    /**
+     * Z Position 
+     */
+    public final float z() {
+        return readFloat(16);
+    }
+
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation) 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(20, 4, 4, index));
+    }
+
+    /**
+     * X linear speed 
+     */
+    public final float vx() {
+        return readFloat(36);
+    }
+
+    /**
+     * Y linear speed 
+     */
+    public final float vy() {
+        return readFloat(40);
+    }
+
+    /**
+     * Z linear speed 
+     */
+    public final float vz() {
+        return readFloat(44);
+    }
+
+    /**
+     * Roll angular speed 
+     */
+    public final float rollspeed() {
+        return readFloat(48);
+    }
+
+    /**
+     * Pitch angular speed 
+     */
+    public final float pitchspeed() {
+        return readFloat(52);
+    }
+
+    /**
+     * Yaw angular speed 
+     */
+    public final float yawspeed() {
+        return readFloat(56);
+    }
+
+    /**
+     * Row-major representation of a 6x6 pose cross-covariance matrix upper right triangle 
+     * (states: x, y, z, roll, pitch, yaw; first six entries are the first ROW, next five entries are the 
+     * second ROW, etc.). If unknown, assign NaN value to first element in the array. 
+     */
+    public final float poseCovariance(int index) {
+        return readFloat(elementPosition(60, 4, 21, index));
+    }
+
+    /**
+     * Row-major representation of a 6x6 velocity cross-covariance matrix upper right triangle 
+     * (states: vx, vy, vz, rollspeed, pitchspeed, yawspeed; first six entries are the first ROW, 
+     * next five entries are the second ROW, etc.). If unknown, assign NaN value to first element in the 
+     * array. 
+     */
+    public final float velocityCovariance(int index) {
+        return readFloat(elementPosition(144, 4, 21, index));
+    }
+
+    /**
+     * Coordinate frame of reference for the pose data. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frameId() {
+        return readUint8(228);
+    }
+
+    /**
+     * Coordinate frame of reference for the velocity in free space (twist) data. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int childFrameId() {
+        return readUint8(229);
+    }
+
+    /**
+     * Estimate reset counter. This should be incremented when the estimate resets in any of the 
+     * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
+     * e.g an external SLAM system detects a loop-closure and the estimate jumps. 
+     */
+    public final int resetCounter() {
+        return readUint8(230);
+    }
+
+    /**
+     * Type of estimator that is providing the odometry. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavEstimatorType}.
+     */
+    public final int estimatorType() {
+        return readUint8(231);
+    }
+
+    /**
+     * Optional odometry quality metric as a percentage. -1 = odometry has failed, 0 = unknown/unset 
+     * quality, 1 = worst quality, 100 = best quality 
+     */
+    public final int quality() {
+        return readInt8(232);
+    }
+}
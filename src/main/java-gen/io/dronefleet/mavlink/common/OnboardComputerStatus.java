@@ -3,7 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.Object;
@@ -27,7 +33,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class OnboardComputerStatus {
+public final class OnboardComputerStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final long uptime;
@@ -44,29 +50,29 @@ public final class OnboardComputerStatus {
 
     private final int temperatureBoard;
 
-    private final List<Integer> temperatureCore;
+    private final IntArrayList temperatureCore;
 
-    private final List<Integer> fanSpeed;
+    private final IntArrayList fanSpeed;
 
     private final long ramUsage;
 
     private final long ramTotal;
 
-    private final List<Long> storageType;
+    private final LongArrayList storageType;
 
-    private final List<Long> storageUsage;
+    private final LongArrayList storageUsage;
 
-    private final List<Long> storageTotal;
+    private final LongArrayList storageTotal;
 
-    private final List<Long> linkType;
+    private final LongArrayList linkType;
 
-    private final List<Long> linkTxRate;
+    private final LongArrayList linkTxRate;
 
-    private final List<Long> linkRxRate;
+    private final LongArrayList linkRxRate;
 
-    private final List<Long> linkTxMax;
+    private final LongArrayList linkTxMax;
 
-    private final List<Long> linkRxMax;
+    private final LongArrayList linkRxMax;
 
     private OnboardComputerStatus(BigInteger timeUsec, long uptime, int type, byte[] cpuCores,
             byte[] cpuCombined, byte[] gpuCores, byte[] gpuCombined, int temperatureBoard,
@@ -82,18 +88,18 @@ public final class OnboardComputerStatus {
         this.gpuCores = gpuCores;
         this.gpuCombined = gpuCombined;
         this.temperatureBoard = temperatureBoard;
-        this.temperatureCore = temperatureCore;
-        this.fanSpeed = fanSpeed;
+        this.temperatureCore = IntArrayList.copyOf(temperatureCore);
+        this.fanSpeed = IntArrayList.copyOf(fanSpeed);
         this.ramUsage = ramUsage;
         this.ramTotal = ramTotal;
-        this.storageType = storageType;
-        this.storageUsage = storageUsage;
-        this.storageTotal = storageTotal;
-        this.linkType = linkType;
-        this.linkTxRate = linkTxRate;
-        this.linkRxRate = linkRxRate;
-        this.linkTxMax = linkTxMax;
-        this.linkRxMax = linkRxMax;
+        this.storageType = LongArrayList.copyOf(storageType);
+        this.storageUsage = LongArrayList.copyOf(storageUsage);
+        this.storageTotal = LongArrayList.copyOf(storageTotal);
+        this.linkType = LongArrayList.copyOf(linkType);
+        this.linkTxRate = LongArrayList.copyOf(linkTxRate);
+        this.linkRxRate = LongArrayList.copyOf(linkRxRate);
+        this.linkTxMax = LongArrayList.copyOf(linkTxMax);
+        this.linkRxMax = LongArrayList.copyOf(linkRxMax);
     }
 
     /**
@@ -227,6 +233,25 @@ public final class OnboardComputerStatus {
         return this.temperatureCore;
     }
 
+    /**
+     * Returns a copy of {@link #temperatureCore()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] temperatureCoreArray() {
+        return this.temperatureCore != null ? this.temperatureCore.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #temperatureCore()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int temperatureCore(int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.temperatureCore != null && index < this.temperatureCore.size() ? this.temperatureCore.getInt(index) : 0;
+    }
+
     /**
      * Fan speeds. A value of INT16_MAX implies the field is unused. 
      */
@@ -241,6 +266,25 @@ public final class OnboardComputerStatus {
         return this.fanSpeed;
     }
 
+    /**
+     * Returns a copy of {@link #fanSpeed()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] fanSpeedArray() {
+        return this.fanSpeed != null ? this.fanSpeed.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #fanSpeed()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int fanSpeed(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.fanSpeed != null && index < this.fanSpeed.size() ? this.fanSpeed.getInt(index) : 0;
+    }
+
     /**
      * Amount of used RAM on the component system. A value of UINT32_MAX implies the field is unused. 
      */
@@ -279,6 +323,25 @@ public final class OnboardComputerStatus {
         return this.storageType;
     }
 
+    /**
+     * Returns a copy of {@link #storageType()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] storageTypeArray() {
+        return this.storageType != null ? this.storageType.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #storageType()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long storageType(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.storageType != null && index < this.storageType.size() ? this.storageType.getLong(index) : 0;
+    }
+
     /**
      * Amount of used storage space on the component system. A value of UINT32_MAX implies the field is 
      * unused. 
@@ -293,6 +356,25 @@ public final class OnboardComputerStatus {
         return this.storageUsage;
     }
 
+    /**
+     * Returns a copy of {@link #storageUsage()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] storageUsageArray() {
+        return this.storageUsage != null ? this.storageUsage.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #storageUsage()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long storageUsage(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.storageUsage != null && index < this.storageUsage.size() ? this.storageUsage.getLong(index) : 0;
+    }
+
     /**
      * Total amount of storage space on the component system. A value of UINT32_MAX implies the field 
      * is unused. 
@@ -307,6 +389,25 @@ public final class OnboardComputerStatus {
         return this.storageTotal;
     }
 
+    /**
+     * Returns a copy of {@link #storageTotal()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] storageTotalArray() {
+        return this.storageTotal != null ? this.storageTotal.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #storageTotal()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long storageTotal(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.storageTotal != null && index < this.storageTotal.size() ? this.storageTotal.getLong(index) : 0;
+    }
+
     /**
      * Link type: 0-9: UART, 10-19: Wired network, 20-29: Wifi, 30-39: Point-to-point proprietary, 
      * 40-49: Mesh proprietary 
@@ -321,6 +422,25 @@ public final class OnboardComputerStatus {
         return this.linkType;
     }
 
+    /**
+     * Returns a copy of {@link #linkType()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] linkTypeArray() {
+        return this.linkType != null ? this.linkType.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #linkType()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long linkType(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.linkType != null && index < this.linkType.size() ? this.linkType.getLong(index) : 0;
+    }
+
     /**
      * Network traffic from the component system. A value of UINT32_MAX implies the field is unused. 
      */
@@ -334,6 +454,25 @@ public final class OnboardComputerStatus {
         return this.linkTxRate;
     }
 
+    /**
+     * Returns a copy of {@link #linkTxRate()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] linkTxRateArray() {
+        return this.linkTxRate != null ? this.linkTxRate.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #linkTxRate()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long linkTxRate(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.linkTxRate != null && index < this.linkTxRate.size() ? this.linkTxRate.getLong(index) : 0;
+    }
+
     /**
      * Network traffic to the component system. A value of UINT32_MAX implies the field is unused. 
      */
@@ -347,6 +486,25 @@ public final class OnboardComputerStatus {
         return this.linkRxRate;
     }
 
+    /**
+     * Returns a copy of {@link #linkRxRate()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] linkRxRateArray() {
+        return this.linkRxRate != null ? this.linkRxRate.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #linkRxRate()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long linkRxRate(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.linkRxRate != null && index < this.linkRxRate.size() ? this.linkRxRate.getLong(index) : 0;
+    }
+
     /**
      * Network capacity from the component system. A value of UINT32_MAX implies the field is unused. 
      */
@@ -360,6 +518,25 @@ public final class OnboardComputerStatus {
         return this.linkTxMax;
     }
 
+    /**
+     * Returns a copy of {@link #linkTxMax()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] linkTxMaxArray() {
+        return this.linkTxMax != null ? this.linkTxMax.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #linkTxMax()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long linkTxMax(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.linkTxMax != null && index < this.linkTxMax.size() ? this.linkTxMax.getLong(index) : 0;
+    }
+
     /**
      * Network capacity to the component system. A value of UINT32_MAX implies the field is unused. 
      */
@@ -373,6 +550,25 @@ public final class OnboardComputerStatus {
         return this.linkRxMax;
     }
 
+    /**
+     * Returns a copy of {@link #linkRxMax()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final long[] linkRxMaxArray() {
+        return this.linkRxMax != null ? this.linkRxMax.toLongArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #linkRxMax()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final long linkRxMax(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.linkRxMax != null && index < this.linkRxMax.size() ? this.linkRxMax.getLong(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -427,6 +623,32 @@ public final class OnboardComputerStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("uptime").value(this.uptime);
+        writer.name("type").value(this.type);
+        writer.name("cpuCores").value(this.cpuCores);
+        writer.name("cpuCombined").value(this.cpuCombined);
+        writer.name("gpuCores").value(this.gpuCores);
+        writer.name("gpuCombined").value(this.gpuCombined);
+        writer.name("temperatureBoard").value(this.temperatureBoard);
+        writer.name("temperatureCore").value(this.temperatureCore);
+        writer.name("fanSpeed").value(this.fanSpeed);
+        writer.name("ramUsage").value(this.ramUsage);
+        writer.name("ramTotal").value(this.ramTotal);
+        writer.name("storageType").value(this.storageType);
+        writer.name("storageUsage").value(this.storageUsage);
+        writer.name("storageTotal").value(this.storageTotal);
+        writer.name("linkType").value(this.linkType);
+        writer.name("linkTxRate").value(this.linkTxRate);
+        writer.name("linkRxRate").value(this.linkRxRate);
+        writer.name("linkTxMax").value(this.linkTxMax);
+        writer.name("linkRxMax").value(this.linkRxMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OnboardComputerStatus{timeUsec=" + timeUsec
@@ -506,6 +728,16 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Time since system boot. 
          */
@@ -624,6 +856,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Temperature of the CPU core. A value of INT8_MAX implies the field is unused. 
+         */
+        public final Builder temperatureCore(int... temperatureCore) {
+            return temperatureCore(IntArrayList.of(temperatureCore));
+        }
+
         /**
          * Fan speeds. A value of INT16_MAX implies the field is unused. 
          */
@@ -639,6 +878,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Fan speeds. A value of INT16_MAX implies the field is unused. 
+         */
+        public final Builder fanSpeed(int... fanSpeed) {
+            return fanSpeed(IntArrayList.of(fanSpeed));
+        }
+
         /**
          * Amount of used RAM on the component system. A value of UINT32_MAX implies the field is unused. 
          */
@@ -680,6 +926,14 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Storage type: 0: HDD, 1: SSD, 2: EMMC, 3: SD card (non-removable), 4: SD card (removable). A 
+         * value of UINT32_MAX implies the field is unused. 
+         */
+        public final Builder storageType(long... storageType) {
+            return storageType(LongArrayList.of(storageType));
+        }
+
         /**
          * Amount of used storage space on the component system. A value of UINT32_MAX implies the field is 
          * unused. 
@@ -695,6 +949,14 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Amount of used storage space on the component system. A value of UINT32_MAX implies the field is 
+         * unused. 
+         */
+        public final Builder storageUsage(long... storageUsage) {
+            return storageUsage(LongArrayList.of(storageUsage));
+        }
+
         /**
          * Total amount of storage space on the component system. A value of UINT32_MAX implies the field 
          * is unused. 
@@ -710,6 +972,14 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Total amount of storage space on the component system. A value of UINT32_MAX implies the field 
+         * is unused. 
+         */
+        public final Builder storageTotal(long... storageTotal) {
+            return storageTotal(LongArrayList.of(storageTotal));
+        }
+
         /**
          * Link type: 0-9: UART, 10-19: Wired network, 20-29: Wifi, 30-39: Point-to-point proprietary, 
          * 40-49: Mesh proprietary 
@@ -725,6 +995,14 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Link type: 0-9: UART, 10-19: Wired network, 20-29: Wifi, 30-39: Point-to-point proprietary, 
+         * 40-49: Mesh proprietary 
+         */
+        public final Builder linkType(long... linkType) {
+            return linkType(LongArrayList.of(linkType));
+        }
+
         /**
          * Network traffic from the component system. A value of UINT32_MAX implies the field is unused. 
          */
@@ -739,6 +1017,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Network traffic from the component system. A value of UINT32_MAX implies the field is unused. 
+         */
+        public final Builder linkTxRate(long... linkTxRate) {
+            return linkTxRate(LongArrayList.of(linkTxRate));
+        }
+
         /**
          * Network traffic to the component system. A value of UINT32_MAX implies the field is unused. 
          */
@@ -753,6 +1038,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Network traffic to the component system. A value of UINT32_MAX implies the field is unused. 
+         */
+        public final Builder linkRxRate(long... linkRxRate) {
+            return linkRxRate(LongArrayList.of(linkRxRate));
+        }
+
         /**
          * Network capacity from the component system. A value of UINT32_MAX implies the field is unused. 
          */
@@ -767,6 +1059,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Network capacity from the component system. A value of UINT32_MAX implies the field is unused. 
+         */
+        public final Builder linkTxMax(long... linkTxMax) {
+            return linkTxMax(LongArrayList.of(linkTxMax));
+        }
+
         /**
          * Network capacity to the component system. A value of UINT32_MAX implies the field is unused. 
          */
@@ -781,6 +1080,13 @@ public final class OnboardComputerStatus {
             return this;
         }
 
+        /**
+         * Network capacity to the component system. A value of UINT32_MAX implies the field is unused. 
+         */
+        public final Builder linkRxMax(long... linkRxMax) {
+            return linkRxMax(LongArrayList.of(linkRxMax));
+        }
+
         public final OnboardComputerStatus build() {
             return new OnboardComputerStatus(timeUsec, uptime, type, cpuCores, cpuCombined, gpuCores, gpuCombined, temperatureBoard, temperatureCore, fanSpeed, ramUsage, ramTotal, storageType, storageUsage, storageTotal, linkType, linkTxRate, linkRxRate, linkTxMax, linkRxMax);
         }
@@ -0,0 +1,165 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link OnboardComputerStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class OnboardComputerStatusView extends PayloadView<OnboardComputerStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Time since system boot. 
+     */
+    public final long uptime() {
+        return readUint32(8);
+    }
+
+    /**
+     * Amount of used RAM on the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long ramUsage() {
+        return readUint32(12);
+    }
+
+    /**
+     * Total amount of RAM on the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long ramTotal() {
+        return readUint32(16);
+    }
+
+    /**
+     * Storage type: 0: HDD, 1: SSD, 2: EMMC, 3: SD card (non-removable), 4: SD card (removable). A 
+     * value of UINT32_MAX implies the field is unused. 
+     */
+    public final long storageType(int index) {
+        return readUint32(elementPosition(20, 4, 4, index));
+    }
+
+    /**
+     * Amount of used storage space on the component system. A value of UINT32_MAX implies the field is 
+     * unused. 
+     */
+    public final long storageUsage(int index) {
+        return readUint32(elementPosition(36, 4, 4, index));
+    }
+
+    /**
+     * Total amount of storage space on the component system. A value of UINT32_MAX implies the field 
+     * is unused. 
+     */
+    public final long storageTotal(int index) {
+        return readUint32(elementPosition(52, 4, 4, index));
+    }
+
+    /**
+     * Link type: 0-9: UART, 10-19: Wired network, 20-29: Wifi, 30-39: Point-to-point proprietary, 
+     * 40-49: Mesh proprietary 
+     */
+    public final long linkType(int index) {
+        return readUint32(elementPosition(68, 4, 6, index));
+    }
+
+    /**
+     * Network traffic from the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long linkTxRate(int index) {
+        return readUint32(elementPosition(92, 4, 6, index));
+    }
+
+    /**
+     * Network traffic to the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long linkRxRate(int index) {
+        return readUint32(elementPosition(116, 4, 6, index));
+    }
+
+    /**
+     * Network capacity from the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long linkTxMax(int index) {
+        return readUint32(elementPosition(140, 4, 6, index));
+    }
+
+    /**
+     * Network capacity to the component system. A value of UINT32_MAX implies the field is unused. 
+     */
+    public final long linkRxMax(int index) {
+        return readUint32(elementPosition(164, 4, 6, index));
+    }
+
+    /**
+     * Fan speeds. A value of INT16_MAX implies the field is unused. 
+     */
+    public final int fanSpeed(int index) {
+        return readInt16(elementPosition(188, 2, 4, index));
+    }
+
+    /**
+     * Type of the onboard computer: 0: Mission computer primary, 1: Mission computer backup 1, 2: 
+     * Mission computer backup 2, 3: Compute node, 4-5: Compute spares, 6-9: Payload computers. 
+     */
+    public final int type() {
+        return readUint8(196);
+    }
+
+    /**
+     * CPU usage on the component in percent (100 - idle). A value of UINT8_MAX implies the field is 
+     * unused. 
+     */
+    public final int cpuCores(int index) {
+        return readUint8(elementPosition(197, 1, 8, index));
+    }
+
+    /**
+     * Combined CPU usage as the last 10 slices of 100 MS (a histogram). This allows to identify spikes 
+     * in load that max out the system, but only for a short amount of time. A value of UINT8_MAX implies 
+     * the field is unused. 
+     */
+    public final int cpuCombined(int index) {
+        return readUint8(elementPosition(205, 1, 10, index));
+    }
+
+    /**
+     * GPU usage on the component in percent (100 - idle). A value of UINT8_MAX implies the field is 
+     * unused. 
+     */
+    public final int gpuCores(int index) {
+        return readUint8(elementPosition(215, 1, 4, index));
+    }
+
+    /**
+     * Combined GPU usage as the last 10 slices of 100 MS (a histogram). This allows to identify spikes 
+     * in load that max out the system, but only for a short amount of time. A value of UINT8_MAX implies 
+     * the field is unused. 
+     */
+    public final int gpuCombined(int index) {
+        return readUint8(elementPosition(219, 1, 10, index));
+    }
+
+    /**
+     * Temperature of the board. A value of INT8_MAX implies the field is unused. 
+     */
+    public final int temperatureBoard() {
+        return readInt8(229);
+    }
+
+    /**
+     * Temperature of the CPU core. A value of INT8_MAX implies the field is unused. 
+     */
+    public final int temperatureCore(int index) {
+        return readInt8(elementPosition(230, 1, 8, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 139,
         description = "Transmitter (remote ID system) is enabled and ready to start sending location and other required information. This is streamed by transmitter. A flight controller uses it as a condition to arm."
 )
-public final class OpenDroneIdArmStatus {
+public final class OpenDroneIdArmStatus implements JsonWritable {
     private final EnumValue<MavOdidArmStatus> status;
 
     private final String error;
@@ -83,6 +85,14 @@ public final class OpenDroneIdArmStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("status").value(this.status);
+        writer.name("error").value(this.error);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdArmStatus{status=" + status
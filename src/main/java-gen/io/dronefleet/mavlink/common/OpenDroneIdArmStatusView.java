@@ -0,0 +1,26 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdArmStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdArmStatusView extends PayloadView<OpenDroneIdArmStatusView> {
+    /**
+     * Status level indicating if arming is allowed. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidArmStatus}.
+     */
+    public final int status() {
+        return readUint8(0);
+    }
+
+    /**
+     * Text error message, should be empty if status is good to arm. Fill with nulls in unused portion. 
+     */
+    public final String error() {
+        return readString(1, 50);
+    }
+}
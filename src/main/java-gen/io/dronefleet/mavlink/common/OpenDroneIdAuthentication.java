@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -24,7 +26,7 @@ import java.util.Objects;
         crc = 140,
         description = "Data for filling the OpenDroneID Authentication message. The Authentication Message defines a field that can provide a means of authenticity for the identity of the UAS (Unmanned Aircraft System). The Authentication message can have two different formats. For data page 0, the fields PageCount, Length and TimeStamp are present and AuthData is only 17 bytes. For data page 1 through 15, PageCount, Length and TimeStamp are not present and the size of AuthData is 23 bytes."
 )
-public final class OpenDroneIdAuthentication {
+public final class OpenDroneIdAuthentication implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -215,6 +217,21 @@ public final class OpenDroneIdAuthentication {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("authenticationType").value(this.authenticationType);
+        writer.name("dataPage").value(this.dataPage);
+        writer.name("lastPageIndex").value(this.lastPageIndex);
+        writer.name("length").value(this.length);
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("authenticationData").value(this.authenticationData);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdAuthentication{targetSystem=" + targetSystem
@@ -0,0 +1,81 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdAuthentication} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdAuthenticationView extends PayloadView<OpenDroneIdAuthenticationView> {
+    /**
+     * This field is only present for page 0. 32 bit Unix Timestamp in seconds since 00:00:00 
+     * 01/01/2019. 
+     */
+    public final long timestamp() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(6, 1, 20, index));
+    }
+
+    /**
+     * Indicates the type of authentication. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidAuthType}.
+     */
+    public final int authenticationType() {
+        return readUint8(26);
+    }
+
+    /**
+     * Allowed range is 0 - 15. 
+     */
+    public final int dataPage() {
+        return readUint8(27);
+    }
+
+    /**
+     * This field is only present for page 0. Allowed range is 0 - 15. See the description of struct 
+     * ODID_Auth_data at 
+     * https://github.com/opendroneid/opendroneid-core-c/blob/master/libopendroneid/opendroneid.h. 
+     */
+    public final int lastPageIndex() {
+        return readUint8(28);
+    }
+
+    /**
+     * This field is only present for page 0. Total bytes of authentication_data from all data pages. 
+     * See the description of struct ODID_Auth_data at 
+     * https://github.com/opendroneid/opendroneid-core-c/blob/master/libopendroneid/opendroneid.h. 
+     */
+    public final int length() {
+        return readUint8(29);
+    }
+
+    /**
+     * Opaque authentication data. For page 0, the size is only 17 bytes. For other pages, the size is 23 
+     * bytes. Shall be filled with nulls in the unused portion of the field. 
+     */
+    public final int authenticationData(int index) {
+        return readUint8(elementPosition(30, 1, 23, index));
+    }
+}
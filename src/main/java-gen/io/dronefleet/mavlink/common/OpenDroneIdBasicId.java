@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -24,7 +26,7 @@ import java.util.Objects;
         crc = 114,
         description = "Data for filling the OpenDroneID Basic ID message. This and the below messages are primarily meant for feeding data to/from an OpenDroneID implementation. E.g. https://github.com/opendroneid/opendroneid-core-c. These messages are compatible with the ASTM F3411 Remote ID standard and the ASD-STAN prEN 4709-002 Direct Remote ID standard. Additional information and usage of these messages is documented at https://mavlink.io/en/services/opendroneid.html."
 )
-public final class OpenDroneIdBasicId {
+public final class OpenDroneIdBasicId implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -159,6 +161,18 @@ public final class OpenDroneIdBasicId {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("idType").value(this.idType);
+        writer.name("uaType").value(this.uaType);
+        writer.name("uasId").value(this.uasId);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdBasicId{targetSystem=" + targetSystem
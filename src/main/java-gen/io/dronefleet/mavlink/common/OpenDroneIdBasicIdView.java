@@ -0,0 +1,57 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdBasicId} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdBasicIdView extends PayloadView<OpenDroneIdBasicIdView> {
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(2, 1, 20, index));
+    }
+
+    /**
+     * Indicates the format for the uas_id field of this message. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidIdType}.
+     */
+    public final int idType() {
+        return readUint8(22);
+    }
+
+    /**
+     * Indicates the type of UA (Unmanned Aircraft). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidUaType}.
+     */
+    public final int uaType() {
+        return readUint8(23);
+    }
+
+    /**
+     * UAS (Unmanned Aircraft System) ID following the format specified by id_type. Shall be filled 
+     * with nulls in the unused portion of the field. 
+     */
+    public final int uasId(int index) {
+        return readUint8(elementPosition(24, 1, 20, index));
+    }
+}
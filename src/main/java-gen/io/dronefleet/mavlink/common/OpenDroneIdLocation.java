@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 254,
         description = "Data for filling the OpenDroneID Location message. The float data types are 32-bit IEEE 754. The Location message provides the location, altitude, direction and speed of the aircraft."
 )
-public final class OpenDroneIdLocation {
+public final class OpenDroneIdLocation implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -394,6 +396,31 @@ public final class OpenDroneIdLocation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("status").value(this.status);
+        writer.name("direction").value(this.direction);
+        writer.name("speedHorizontal").value(this.speedHorizontal);
+        writer.name("speedVertical").value(this.speedVertical);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitudeBarometric").value(this.altitudeBarometric);
+        writer.name("altitudeGeodetic").value(this.altitudeGeodetic);
+        writer.name("heightReference").value(this.heightReference);
+        writer.name("height").value(this.height);
+        writer.name("horizontalAccuracy").value(this.horizontalAccuracy);
+        writer.name("verticalAccuracy").value(this.verticalAccuracy);
+        writer.name("barometerAccuracy").value(this.barometerAccuracy);
+        writer.name("speedAccuracy").value(this.speedAccuracy);
+        writer.name("timestamp").value(this.timestamp);
+        writer.name("timestampAccuracy").value(this.timestampAccuracy);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdLocation{targetSystem=" + targetSystem
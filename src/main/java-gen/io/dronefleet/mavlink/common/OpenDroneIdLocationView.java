@@ -0,0 +1,164 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdLocation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdLocationView extends PayloadView<OpenDroneIdLocationView> {
+    /**
+     * Current latitude of the unmanned aircraft. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int latitude() {
+        return readInt32(0);
+    }
+
+    /**
+     * Current longitude of the unmanned aircraft. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int longitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * The altitude calculated from the barometric pressue. Reference is against 29.92inHg or 
+     * 1013.2mb. If unknown: -1000 m. 
+     */
+    public final float altitudeBarometric() {
+        return readFloat(8);
+    }
+
+    /**
+     * The geodetic altitude as defined by WGS84. If unknown: -1000 m. 
+     */
+    public final float altitudeGeodetic() {
+        return readFloat(12);
+    }
+
+    /**
+     * The current height of the unmanned aircraft above the take-off location or the ground as 
+     * indicated by height_reference. If unknown: -1000 m. 
+     */
+    public final float height() {
+        return readFloat(16);
+    }
+
+    /**
+     * Seconds after the full hour with reference to UTC time. Typically the GPS outputs a 
+     * time-of-week value in milliseconds. First convert that to UTC and then convert for this field 
+     * using ((float) (time_week_ms % (60*60*1000))) / 1000. If unknown: 0xFFFF. 
+     */
+    public final float timestamp() {
+        return readFloat(20);
+    }
+
+    /**
+     * Direction over ground (not heading, but direction of movement) measured clockwise from true 
+     * North: 0 - 35999 centi-degrees. If unknown: 36100 centi-degrees. 
+     */
+    public final int direction() {
+        return readUint16(24);
+    }
+
+    /**
+     * Ground speed. Positive only. If unknown: 25500 cm/s. If speed is larger than 25425 cm/s, use 
+     * 25425 cm/s. 
+     */
+    public final int speedHorizontal() {
+        return readUint16(26);
+    }
+
+    /**
+     * The vertical speed. Up is positive. If unknown: 6300 cm/s. If speed is larger than 6200 cm/s, use 
+     * 6200 cm/s. If lower than -6200 cm/s, use -6200 cm/s. 
+     */
+    public final int speedVertical() {
+        return readInt16(28);
+    }
+
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(30);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(31);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(32, 1, 20, index));
+    }
+
+    /**
+     * Indicates whether the unmanned aircraft is on the ground or in the air. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidStatus}.
+     */
+    public final int status() {
+        return readUint8(52);
+    }
+
+    /**
+     * Indicates the reference point for the height field. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidHeightRef}.
+     */
+    public final int heightReference() {
+        return readUint8(53);
+    }
+
+    /**
+     * The accuracy of the horizontal position. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidHorAcc}.
+     */
+    public final int horizontalAccuracy() {
+        return readUint8(54);
+    }
+
+    /**
+     * The accuracy of the vertical position. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidVerAcc}.
+     */
+    public final int verticalAccuracy() {
+        return readUint8(55);
+    }
+
+    /**
+     * The accuracy of the barometric altitude. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidVerAcc}.
+     */
+    public final int barometerAccuracy() {
+        return readUint8(56);
+    }
+
+    /**
+     * The accuracy of the horizontal and vertical speed. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidSpeedAcc}.
+     */
+    public final int speedAccuracy() {
+        return readUint8(57);
+    }
+
+    /**
+     * The accuracy of the timestamps. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidTimeAcc}.
+     */
+    public final int timestampAccuracy() {
+        return readUint8(58);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 94,
         description = "An OpenDroneID message pack is a container for multiple encoded OpenDroneID messages (i.e. not in the format given for the above message descriptions but after encoding into the compressed OpenDroneID byte format). Used e.g. when transmitting on Bluetooth 5.0 Long Range/Extended Advertising or on WiFi Neighbor Aware Networking or on WiFi Beacon."
 )
-public final class OpenDroneIdMessagePack {
+public final class OpenDroneIdMessagePack implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -153,6 +155,18 @@ public final class OpenDroneIdMessagePack {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("singleMessageSize").value(this.singleMessageSize);
+        writer.name("msgPackSize").value(this.msgPackSize);
+        writer.name("messages").value(this.messages);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdMessagePack{targetSystem=" + targetSystem
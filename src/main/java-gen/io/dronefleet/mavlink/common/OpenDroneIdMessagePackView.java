@@ -0,0 +1,54 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdMessagePack} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdMessagePackView extends PayloadView<OpenDroneIdMessagePackView> {
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(2, 1, 20, index));
+    }
+
+    /**
+     * This field must currently always be equal to 25 (bytes), since all encoded OpenDroneID 
+     * messages are specified to have this length. 
+     */
+    public final int singleMessageSize() {
+        return readUint8(22);
+    }
+
+    /**
+     * Number of encoded messages in the pack (not the number of bytes). Allowed range is 1 - 9. 
+     */
+    public final int msgPackSize() {
+        return readUint8(23);
+    }
+
+    /**
+     * Concatenation of encoded OpenDroneID messages. Shall be filled with nulls in the unused 
+     * portion of the field. 
+     */
+    public final int messages(int index) {
+        return readUint8(elementPosition(24, 1, 225, index));
+    }
+}
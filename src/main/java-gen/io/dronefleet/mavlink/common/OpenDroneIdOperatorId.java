@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 49,
         description = "Data for filling the OpenDroneID Operator ID message, which contains the CAA (Civil Aviation Authority) issued operator ID."
 )
-public final class OpenDroneIdOperatorId {
+public final class OpenDroneIdOperatorId implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -137,6 +139,17 @@ public final class OpenDroneIdOperatorId {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("operatorIdType").value(this.operatorIdType);
+        writer.name("operatorId").value(this.operatorId);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdOperatorId{targetSystem=" + targetSystem
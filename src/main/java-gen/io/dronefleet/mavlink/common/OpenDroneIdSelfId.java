@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -23,7 +25,7 @@ import java.util.Objects;
         crc = 249,
         description = "Data for filling the OpenDroneID Self ID message. The Self ID Message is an opportunity for the operator to (optionally) declare their identity and purpose of the flight. This message can provide additional information that could reduce the threat profile of a UA (Unmanned Aircraft) flying in a particular area or manner. This message can also be used to provide optional additional clarification in an emergency/remote ID system failure situation."
 )
-public final class OpenDroneIdSelfId {
+public final class OpenDroneIdSelfId implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -140,6 +142,17 @@ public final class OpenDroneIdSelfId {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("descriptionType").value(this.descriptionType);
+        writer.name("description").value(this.description);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdSelfId{targetSystem=" + targetSystem
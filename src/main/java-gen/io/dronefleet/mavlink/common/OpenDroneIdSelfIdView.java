@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdSelfId} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdSelfIdView extends PayloadView<OpenDroneIdSelfIdView> {
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(2, 1, 20, index));
+    }
+
+    /**
+     * Indicates the type of the description field. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidDescType}.
+     */
+    public final int descriptionType() {
+        return readUint8(22);
+    }
+
+    /**
+     * Text description or numeric value expressed as ASCII characters. Shall be filled with nulls in 
+     * the unused portion of the field. 
+     */
+    public final String description() {
+        return readString(23, 23);
+    }
+}
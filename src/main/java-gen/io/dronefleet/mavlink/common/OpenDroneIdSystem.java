@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 77,
         description = "Data for filling the OpenDroneID System message. The System Message contains general system information including the operator location/altitude and possible aircraft group and/or category/class information."
 )
-public final class OpenDroneIdSystem {
+public final class OpenDroneIdSystem implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -321,6 +323,27 @@ public final class OpenDroneIdSystem {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("idOrMac").value(this.idOrMac);
+        writer.name("operatorLocationType").value(this.operatorLocationType);
+        writer.name("classificationType").value(this.classificationType);
+        writer.name("operatorLatitude").value(this.operatorLatitude);
+        writer.name("operatorLongitude").value(this.operatorLongitude);
+        writer.name("areaCount").value(this.areaCount);
+        writer.name("areaRadius").value(this.areaRadius);
+        writer.name("areaCeiling").value(this.areaCeiling);
+        writer.name("areaFloor").value(this.areaFloor);
+        writer.name("categoryEu").value(this.categoryEu);
+        writer.name("classEu").value(this.classEu);
+        writer.name("operatorAltitudeGeo").value(this.operatorAltitudeGeo);
+        writer.name("timestamp").value(this.timestamp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdSystem{targetSystem=" + targetSystem
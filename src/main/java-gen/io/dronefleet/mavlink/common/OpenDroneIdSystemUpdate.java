@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 7,
         description = "Update the data in the OPEN_DRONE_ID_SYSTEM message with new location information. This can be sent to update the location information for the operator when no other information in the SYSTEM message has changed. This message allows for efficient operation on radio links which have limited uplink bandwidth while meeting requirements for update frequency of the operator location."
 )
-public final class OpenDroneIdSystemUpdate {
+public final class OpenDroneIdSystemUpdate implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -151,6 +153,18 @@ public final class OpenDroneIdSystemUpdate {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("operatorLatitude").value(this.operatorLatitude);
+        writer.name("operatorLongitude").value(this.operatorLongitude);
+        writer.name("operatorAltitudeGeo").value(this.operatorAltitudeGeo);
+        writer.name("timestamp").value(this.timestamp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpenDroneIdSystemUpdate{targetSystem=" + targetSystem
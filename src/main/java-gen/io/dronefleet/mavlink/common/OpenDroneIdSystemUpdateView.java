@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdSystemUpdate} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdSystemUpdateView extends PayloadView<OpenDroneIdSystemUpdateView> {
+    /**
+     * Latitude of the operator. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int operatorLatitude() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude of the operator. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int operatorLongitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Geodetic altitude of the operator relative to WGS84. If unknown: -1000 m. 
+     */
+    public final float operatorAltitudeGeo() {
+        return readFloat(8);
+    }
+
+    /**
+     * 32 bit Unix Timestamp in seconds since 00:00:00 01/01/2019. 
+     */
+    public final long timestamp() {
+        return readUint32(12);
+    }
+
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(16);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(17);
+    }
+}
@@ -0,0 +1,129 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpenDroneIdSystem} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpenDroneIdSystemView extends PayloadView<OpenDroneIdSystemView> {
+    /**
+     * Latitude of the operator. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int operatorLatitude() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude of the operator. If unknown: 0 (both Lat/Lon). 
+     */
+    public final int operatorLongitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Area Operations Ceiling relative to WGS84. If unknown: -1000 m. Used only for swarms/multiple 
+     * UA. 
+     */
+    public final float areaCeiling() {
+        return readFloat(8);
+    }
+
+    /**
+     * Area Operations Floor relative to WGS84. If unknown: -1000 m. Used only for swarms/multiple 
+     * UA. 
+     */
+    public final float areaFloor() {
+        return readFloat(12);
+    }
+
+    /**
+     * Geodetic altitude of the operator relative to WGS84. If unknown: -1000 m. 
+     */
+    public final float operatorAltitudeGeo() {
+        return readFloat(16);
+    }
+
+    /**
+     * 32 bit Unix Timestamp in seconds since 00:00:00 01/01/2019. 
+     */
+    public final long timestamp() {
+        return readUint32(20);
+    }
+
+    /**
+     * Number of aircraft in the area, group or formation (default 1). Used only for swarms/multiple 
+     * UA. 
+     */
+    public final int areaCount() {
+        return readUint16(24);
+    }
+
+    /**
+     * Radius of the cylindrical area of the group or formation (default 0). Used only for 
+     * swarms/multiple UA. 
+     */
+    public final int areaRadius() {
+        return readUint16(26);
+    }
+
+    /**
+     * System ID (0 for broadcast). 
+     */
+    public final int targetSystem() {
+        return readUint8(28);
+    }
+
+    /**
+     * Component ID (0 for broadcast). 
+     */
+    public final int targetComponent() {
+        return readUint8(29);
+    }
+
+    /**
+     * Only used for drone ID data received from other UAs. See detailed description at 
+     * https://mavlink.io/en/services/opendroneid.html. 
+     */
+    public final int idOrMac(int index) {
+        return readUint8(elementPosition(30, 1, 20, index));
+    }
+
+    /**
+     * Specifies the operator location type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidOperatorLocationType}.
+     */
+    public final int operatorLocationType() {
+        return readUint8(50);
+    }
+
+    /**
+     * Specifies the classification type of the UA. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidClassificationType}.
+     */
+    public final int classificationType() {
+        return readUint8(51);
+    }
+
+    /**
+     * When classification_type is MAV_ODID_CLASSIFICATION_TYPE_EU, specifies the category of 
+     * the UA. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidCategoryEu}.
+     */
+    public final int categoryEu() {
+        return readUint8(52);
+    }
+
+    /**
+     * When classification_type is MAV_ODID_CLASSIFICATION_TYPE_EU, specifies the class of the 
+     * UA. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavOdidClassEu}.
+     */
+    public final int classEu() {
+        return readUint8(53);
+    }
+}
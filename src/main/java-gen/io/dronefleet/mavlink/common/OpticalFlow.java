@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 175,
         description = "Optical flow from a flow sensor (e.g. optical mouse sensor)"
 )
-public final class OpticalFlow {
+public final class OpticalFlow implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int sensorId;
@@ -219,6 +222,22 @@ public final class OpticalFlow {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("sensorId").value(this.sensorId);
+        writer.name("flowX").value(this.flowX);
+        writer.name("flowY").value(this.flowY);
+        writer.name("flowCompMX").value(this.flowCompMX);
+        writer.name("flowCompMY").value(this.flowCompMY);
+        writer.name("quality").value(this.quality);
+        writer.name("groundDistance").value(this.groundDistance);
+        writer.name("flowRateX").value(this.flowRateX);
+        writer.name("flowRateY").value(this.flowRateY);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OpticalFlow{timeUsec=" + timeUsec
@@ -268,6 +287,16 @@ public final class OpticalFlow {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Sensor ID 
          */
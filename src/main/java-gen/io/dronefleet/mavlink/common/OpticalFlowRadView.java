@@ -0,0 +1,100 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpticalFlowRad} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpticalFlowRadView extends PayloadView<OpticalFlowRadView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Integration time. Divide integrated_x and integrated_y by the integration time to obtain 
+     * average flow. The integration time also indicates the. 
+     */
+    public final long integrationTimeUs() {
+        return readUint32(8);
+    }
+
+    /**
+     * Flow around X axis (Sensor RH rotation about the X axis induces a positive flow. Sensor linear 
+     * motion along the positive Y axis induces a negative flow.) 
+     */
+    public final float integratedX() {
+        return readFloat(12);
+    }
+
+    /**
+     * Flow around Y axis (Sensor RH rotation about the Y axis induces a positive flow. Sensor linear 
+     * motion along the positive X axis induces a positive flow.) 
+     */
+    public final float integratedY() {
+        return readFloat(16);
+    }
+
+    /**
+     * RH rotation around X axis 
+     */
+    public final float integratedXgyro() {
+        return readFloat(20);
+    }
+
+    /**
+     * RH rotation around Y axis 
+     */
+    public final float integratedYgyro() {
+        return readFloat(24);
+    }
+
+    /**
+     * RH rotation around Z axis 
+     */
+    public final float integratedZgyro() {
+        return readFloat(28);
+    }
+
+    /**
+     * Time since the distance was sampled. 
+     */
+    public final long timeDeltaDistanceUs() {
+        return readUint32(32);
+    }
+
+    /**
+     * Distance to the center of the flow field. Positive value (including zero): distance known. 
+     * Negative value: Unknown distance. 
+     */
+    public final float distance() {
+        return readFloat(36);
+    }
+
+    /**
+     * Temperature 
+     */
+    public final int temperature() {
+        return readInt16(40);
+    }
+
+    /**
+     * Sensor ID 
+     */
+    public final int sensorId() {
+        return readUint8(42);
+    }
+
+    /**
+     * Optical flow quality / confidence. 0: no valid flow, 255: maximum quality 
+     */
+    public final int quality() {
+        return readUint8(43);
+    }
+}
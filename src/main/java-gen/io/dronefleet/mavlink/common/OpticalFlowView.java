@@ -0,0 +1,82 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link OpticalFlow} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class OpticalFlowView extends PayloadView<OpticalFlowView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Flow in x-sensor direction, angular-speed compensated 
+     */
+    public final float flowCompMX() {
+        return readFloat(8);
+    }
+
+    /**
+     * Flow in y-sensor direction, angular-speed compensated 
+     */
+    public final float flowCompMY() {
+        return readFloat(12);
+    }
+
+    /**
+     * Ground distance. Positive value: distance known. Negative value: Unknown distance 
+     */
+    public final float groundDistance() {
+        return readFloat(16);
+    }
+
+    /**
+     * Flow in x-sensor direction 
+     */
+    public final int flowX() {
+        return readInt16(20);
+    }
+
+    /**
+     * Flow in y-sensor direction 
+     */
+    public final int flowY() {
+        return readInt16(22);
+    }
+
+    /**
+     * Sensor ID 
+     */
+    public final int sensorId() {
+        return readUint8(24);
+    }
+
+    /**
+     * Optical flow quality / confidence. 0: bad, 255: maximum quality 
+     */
+    public final int quality() {
+        return readUint8(25);
+    }
+
+    /**
+     * Flow rate about X axis 
+     */
+    public final float flowRateX() {
+        return readFloat(26);
+    }
+
+    /**
+     * Flow rate about Y axis 
+     */
+    public final float flowRateY() {
+        return readFloat(30);
+    }
+}
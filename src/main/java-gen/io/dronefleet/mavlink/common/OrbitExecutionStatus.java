@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Enum;
 import java.lang.Object;
@@ -28,7 +31,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class OrbitExecutionStatus {
+public final class OrbitExecutionStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float radius;
@@ -164,6 +167,18 @@ public final class OrbitExecutionStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("radius").value(this.radius);
+        writer.name("frame").value(this.frame);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "OrbitExecutionStatus{timeUsec=" + timeUsec
@@ -201,6 +216,16 @@ public final class OrbitExecutionStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Radius of the orbit circle. Positive values orbit clockwise, negative values orbit 
          * counter-clockwise. 
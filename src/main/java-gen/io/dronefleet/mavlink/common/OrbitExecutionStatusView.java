@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link OrbitExecutionStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class OrbitExecutionStatusView extends PayloadView<OrbitExecutionStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Radius of the orbit circle. Positive values orbit clockwise, negative values orbit 
+     * counter-clockwise. 
+     */
+    public final float radius() {
+        return readFloat(8);
+    }
+
+    /**
+     * X coordinate of center point. Coordinate system depends on frame field: local = x position in 
+     * meters * 1e4, global = latitude in degrees * 1e7. 
+     */
+    public final int x() {
+        return readInt32(12);
+    }
+
+    /**
+     * Y coordinate of center point. Coordinate system depends on frame field: local = x position in 
+     * meters * 1e4, global = latitude in degrees * 1e7. 
+     */
+    public final int y() {
+        return readInt32(16);
+    }
+
+    /**
+     * Altitude of center point. Coordinate system depends on frame field. 
+     */
+    public final float z() {
+        return readFloat(20);
+    }
+
+    /**
+     * The coordinate system of the fields: x, y, z. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(24);
+    }
+}
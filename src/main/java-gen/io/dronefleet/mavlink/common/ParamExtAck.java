@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 132,
         description = "Response from a PARAM_EXT_SET message."
 )
-public final class ParamExtAck {
+public final class ParamExtAck implements JsonWritable {
     private final String paramId;
 
     private final String paramValue;
@@ -120,6 +122,16 @@ public final class ParamExtAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramValue").value(this.paramValue);
+        writer.name("paramType").value(this.paramType);
+        writer.name("paramResult").value(this.paramResult);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamExtAck{paramId=" + paramId
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamExtAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamExtAckView extends PayloadView<ParamExtAckView> {
+    /**
+     * Parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT 
+     * null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 
+     * 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(0, 16);
+    }
+
+    /**
+     * Parameter value (new value if PARAM_ACK_ACCEPTED, current value otherwise) 
+     */
+    public final String paramValue() {
+        return readString(16, 128);
+    }
+
+    /**
+     * Parameter type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavParamExtType}.
+     */
+    public final int paramType() {
+        return readUint8(144);
+    }
+
+    /**
+     * Result code. 
+     * <p>
+     * This returns the raw value of the field, see {@link ParamAck}.
+     */
+    public final int paramResult() {
+        return readUint8(145);
+    }
+}
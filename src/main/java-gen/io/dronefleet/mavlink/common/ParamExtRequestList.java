@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 88,
         description = "Request all parameters of this component. All parameters should be emitted in response as PARAM_EXT_VALUE."
 )
-public final class ParamExtRequestList {
+public final class ParamExtRequestList implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -77,6 +79,14 @@ public final class ParamExtRequestList {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamExtRequestList{targetSystem=" + targetSystem
@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ParamExtRequestList} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamExtRequestListView extends PayloadView<ParamExtRequestListView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 243,
         description = "Request to read the value of a parameter with either the param_id string id or param_index. PARAM_EXT_VALUE should be emitted in response."
 )
-public final class ParamExtRequestRead {
+public final class ParamExtRequestRead implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -117,6 +119,16 @@ public final class ParamExtRequestRead {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramIndex").value(this.paramIndex);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamExtRequestRead{targetSystem=" + targetSystem
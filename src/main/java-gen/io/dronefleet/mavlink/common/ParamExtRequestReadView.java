@@ -0,0 +1,41 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamExtRequestRead} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamExtRequestReadView extends PayloadView<ParamExtRequestReadView> {
+    /**
+     * Parameter index. Set to -1 to use the Parameter ID field as identifier (else param_id will be 
+     * ignored) 
+     */
+    public final int paramIndex() {
+        return readInt16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * Parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT 
+     * null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 
+     * 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(4, 16);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 78,
         description = "Set a parameter value. In order to deal with message loss (and retransmission of PARAM_EXT_SET), when setting a parameter value and the new value is the same as the current value, you will immediately get a PARAM_ACK_ACCEPTED response. If the current state is PARAM_ACK_IN_PROGRESS, you will accordingly receive a PARAM_ACK_IN_PROGRESS in response."
 )
-public final class ParamExtSet {
+public final class ParamExtSet implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -139,6 +141,17 @@ public final class ParamExtSet {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramValue").value(this.paramValue);
+        writer.name("paramType").value(this.paramType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamExtSet{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 243,
         description = "Emit the value of a parameter. The inclusion of param_count and param_index in the message allows the recipient to keep track of received parameters and allows them to re-request missing parameters after a loss or timeout."
 )
-public final class ParamExtValue {
+public final class ParamExtValue implements JsonWritable {
     private final String paramId;
 
     private final String paramValue;
@@ -138,6 +140,17 @@ public final class ParamExtValue {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramValue").value(this.paramValue);
+        writer.name("paramType").value(this.paramType);
+        writer.name("paramCount").value(this.paramCount);
+        writer.name("paramIndex").value(this.paramIndex);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamExtValue{paramId=" + paramId
@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamExtValue} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamExtValueView extends PayloadView<ParamExtValueView> {
+    /**
+     * Total number of parameters 
+     */
+    public final int paramCount() {
+        return readUint16(0);
+    }
+
+    /**
+     * Index of this parameter 
+     */
+    public final int paramIndex() {
+        return readUint16(2);
+    }
+
+    /**
+     * Parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT 
+     * null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 
+     * 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(4, 16);
+    }
+
+    /**
+     * Parameter value 
+     */
+    public final String paramValue() {
+        return readString(20, 128);
+    }
+
+    /**
+     * Parameter type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavParamExtType}.
+     */
+    public final int paramType() {
+        return readUint8(148);
+    }
+}
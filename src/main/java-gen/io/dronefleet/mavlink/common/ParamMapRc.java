@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 78,
         description = "Bind a RC channel to a parameter. The parameter should change according to the RC channel value."
 )
-public final class ParamMapRc {
+public final class ParamMapRc implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -205,6 +207,21 @@ public final class ParamMapRc {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramIndex").value(this.paramIndex);
+        writer.name("parameterRcChannelIndex").value(this.parameterRcChannelIndex);
+        writer.name("paramValue0").value(this.paramValue0);
+        writer.name("scale").value(this.scale);
+        writer.name("paramValueMin").value(this.paramValueMin);
+        writer.name("paramValueMax").value(this.paramValueMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamMapRc{targetSystem=" + targetSystem
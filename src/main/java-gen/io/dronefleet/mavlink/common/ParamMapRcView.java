@@ -0,0 +1,79 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamMapRc} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamMapRcView extends PayloadView<ParamMapRcView> {
+    /**
+     * Initial parameter value 
+     */
+    public final float paramValue0() {
+        return readFloat(0);
+    }
+
+    /**
+     * Scale, maps the RC range [-1, 1] to a parameter value 
+     */
+    public final float scale() {
+        return readFloat(4);
+    }
+
+    /**
+     * Minimum param value. The protocol does not define if this overwrites an onboard minimum value. 
+     * (Depends on implementation) 
+     */
+    public final float paramValueMin() {
+        return readFloat(8);
+    }
+
+    /**
+     * Maximum param value. The protocol does not define if this overwrites an onboard maximum value. 
+     * (Depends on implementation) 
+     */
+    public final float paramValueMax() {
+        return readFloat(12);
+    }
+
+    /**
+     * Parameter index. Send -1 to use the param ID field as identifier (else the param id will be 
+     * ignored), send -2 to disable any existing map for this rc_channel_index. 
+     */
+    public final int paramIndex() {
+        return readInt16(16);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(18);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(19);
+    }
+
+    /**
+     * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and 
+     * WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to 
+     * provide 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(20, 16);
+    }
+
+    /**
+     * Index of parameter RC channel. Not equal to the RC channel id. Typically corresponds to a 
+     * potentiometer-knob on the RC. 
+     */
+    public final int parameterRcChannelIndex() {
+        return readUint8(36);
+    }
+}
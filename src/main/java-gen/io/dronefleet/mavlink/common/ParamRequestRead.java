@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 214,
         description = "Request to read the onboard parameter with the param_id string id. Onboard parameters are stored as key[const char*] -> value[float]. This allows to send a parameter to any other component (such as the GCS) without the need of previous knowledge of possible parameter names. Thus the same GCS can store different parameters for different autopilots. See also https://mavlink.io/en/services/parameter.html for a full documentation of QGroundControl and IMU code."
 )
-public final class ParamRequestRead {
+public final class ParamRequestRead implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -121,6 +123,16 @@ public final class ParamRequestRead {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("paramId").value(this.paramId);
+        writer.name("paramIndex").value(this.paramIndex);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamRequestRead{targetSystem=" + targetSystem
@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamSet} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamSetView extends PayloadView<ParamSetView> {
+    /**
+     * Onboard parameter value 
+     */
+    public final float paramValue() {
+        return readFloat(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and 
+     * WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to 
+     * provide 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(6, 16);
+    }
+
+    /**
+     * Onboard parameter type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavParamType}.
+     */
+    public final int paramType() {
+        return readUint8(22);
+    }
+}
@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ParamValue} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamValueView extends PayloadView<ParamValueView> {
+    /**
+     * Onboard parameter value 
+     */
+    public final float paramValue() {
+        return readFloat(0);
+    }
+
+    /**
+     * Total number of onboard parameters 
+     */
+    public final int paramCount() {
+        return readUint16(4);
+    }
+
+    /**
+     * Index of this onboard parameter 
+     */
+    public final int paramIndex() {
+        return readUint16(6);
+    }
+
+    /**
+     * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and 
+     * WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to 
+     * provide 16+1 bytes storage if the ID is stored as string 
+     */
+    public final String paramId() {
+        return readString(8, 16);
+    }
+
+    /**
+     * Onboard parameter type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavParamType}.
+     */
+    public final int paramType() {
+        return readUint8(24);
+    }
+}
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link Ping} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class PingView extends PayloadView<PingView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * {@link io.dronefleet.mavlink.common.Ping PING} sequence 
+     */
+    public final long seq() {
+        return readUint32(8);
+    }
+
+    /**
+     * 0: request ping from all receiving systems. If greater than 0: message is a ping response and 
+     * number is the system id of the requesting system 
+     */
+    public final int targetSystem() {
+        return readUint8(12);
+    }
+
+    /**
+     * 0: request ping from all receiving components. If greater than 0: message is a ping response and 
+     * number is the component id of the requesting component. 
+     */
+    public final int targetComponent() {
+        return readUint8(13);
+    }
+}
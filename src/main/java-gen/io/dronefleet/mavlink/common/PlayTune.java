@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +22,7 @@ import java.util.Objects;
         description = "Control vehicle tone generation (buzzer)."
 )
 @Deprecated
-public final class PlayTune {
+public final class PlayTune implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -117,6 +119,16 @@ public final class PlayTune {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("tune").value(this.tune);
+        writer.name("tune2").value(this.tune2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "PlayTune{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 110,
         description = "Play vehicle tone/tune (buzzer). Supersedes message PLAY_TUNE."
 )
-public final class PlayTuneV2 {
+public final class PlayTuneV2 implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -116,6 +118,16 @@ public final class PlayTuneV2 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("format").value(this.format);
+        writer.name("tune").value(this.tune);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "PlayTuneV2{targetSystem=" + targetSystem
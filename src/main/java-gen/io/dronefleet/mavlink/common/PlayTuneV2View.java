@@ -0,0 +1,40 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link PlayTuneV2} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class PlayTuneV2View extends PayloadView<PlayTuneV2View> {
+    /**
+     * Tune format 
+     * <p>
+     * This returns the raw value of the field, see {@link TuneFormat}.
+     */
+    public final int format() {
+        return readInt32(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Tune definition as a NULL-terminated string. 
+     */
+    public final String tune() {
+        return readString(6, 248);
+    }
+}
@@ -0,0 +1,40 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link PlayTune} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class PlayTuneView extends PayloadView<PlayTuneView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * tune in board specific format 
+     */
+    public final String tune() {
+        return readString(2, 30);
+    }
+
+    /**
+     * tune extension (appended to tune) 
+     */
+    public final String tune2() {
+        return readString(32, 200);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 140,
         description = "Reports the current commanded vehicle position, velocity, and acceleration as specified by the autopilot. This should match the commands sent in SET_POSITION_TARGET_LOCAL_NED if the vehicle is being controlled this way."
 )
-public final class PositionTargetLocalNed {
+public final class PositionTargetLocalNed implements JsonWritable {
     private final long timeBootMs;
 
     private final EnumValue<MavFrame> coordinateFrame;
@@ -290,6 +292,26 @@ public final class PositionTargetLocalNed {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("coordinateFrame").value(this.coordinateFrame);
+        writer.name("typeMask").value(this.typeMask);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("afx").value(this.afx);
+        writer.name("afy").value(this.afy);
+        writer.name("afz").value(this.afz);
+        writer.name("yaw").value(this.yaw);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "PositionTargetLocalNed{timeBootMs=" + timeBootMs
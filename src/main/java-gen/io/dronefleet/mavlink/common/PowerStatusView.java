@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link PowerStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class PowerStatusView extends PayloadView<PowerStatusView> {
+    /**
+     * 5V rail voltage. 
+     */
+    public final int vcc() {
+        return readUint16(0);
+    }
+
+    /**
+     * Servo rail voltage. 
+     */
+    public final int vservo() {
+        return readUint16(2);
+    }
+
+    /**
+     * Bitmap of power supply status flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavPowerStatus}.
+     */
+    public final int flags() {
+        return readUint16(4);
+    }
+}
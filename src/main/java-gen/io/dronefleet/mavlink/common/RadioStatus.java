@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 185,
         description = "Status generated by radio and injected into MAVLink stream."
 )
-public final class RadioStatus {
+public final class RadioStatus implements JsonWritable {
     private final int rssi;
 
     private final int remrssi;
@@ -166,6 +168,19 @@ public final class RadioStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("rssi").value(this.rssi);
+        writer.name("remrssi").value(this.remrssi);
+        writer.name("txbuf").value(this.txbuf);
+        writer.name("noise").value(this.noise);
+        writer.name("remnoise").value(this.remnoise);
+        writer.name("rxerrors").value(this.rxerrors);
+        writer.name("fixed").value(this.fixed);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RadioStatus{rssi=" + rssi
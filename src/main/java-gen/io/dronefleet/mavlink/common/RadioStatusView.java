@@ -0,0 +1,62 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RadioStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RadioStatusView extends PayloadView<RadioStatusView> {
+    /**
+     * Count of radio packet receive errors (since boot). 
+     */
+    public final int rxerrors() {
+        return readUint16(0);
+    }
+
+    /**
+     * Count of error corrected radio packets (since boot). 
+     */
+    public final int fixed() {
+        return readUint16(2);
+    }
+
+    /**
+     * Local (message sender) received signal strength indication in device-dependent 
+     * units/scale. Values: [0-254], UINT8_MAX: invalid/unknown. 
+     */
+    public final int rssi() {
+        return readUint8(4);
+    }
+
+    /**
+     * Remote (message receiver) signal strength indication in device-dependent units/scale. 
+     * Values: [0-254], UINT8_MAX: invalid/unknown. 
+     */
+    public final int remrssi() {
+        return readUint8(5);
+    }
+
+    /**
+     * Remaining free transmitter buffer space. 
+     */
+    public final int txbuf() {
+        return readUint8(6);
+    }
+
+    /**
+     * Local background noise level. These are device dependent RSSI values (scale as approx 2x dB on 
+     * SiK radios). Values: [0-254], UINT8_MAX: invalid/unknown. 
+     */
+    public final int noise() {
+        return readUint8(7);
+    }
+
+    /**
+     * Remote background noise level. These are device dependent RSSI values (scale as approx 2x dB on 
+     * SiK radios). Values: [0-254], UINT8_MAX: invalid/unknown. 
+     */
+    public final int remnoise() {
+        return readUint8(8);
+    }
+}
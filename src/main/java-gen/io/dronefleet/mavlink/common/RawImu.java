@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +22,7 @@ import java.util.Objects;
         crc = 144,
         description = "The RAW IMU readings for a 9DOF sensor, which is identified by the id (default IMU1). This message should always contain the true raw values without any scaling to allow data capture and system debugging."
 )
-public final class RawImu {
+public final class RawImu implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int xacc;
@@ -265,6 +268,24 @@ public final class RawImu {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.name("xmag").value(this.xmag);
+        writer.name("ymag").value(this.ymag);
+        writer.name("zmag").value(this.zmag);
+        writer.name("id").value(this.id);
+        writer.name("temperature").value(this.temperature);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RawImu{timeUsec=" + timeUsec
@@ -320,6 +341,16 @@ public final class RawImu {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * X acceleration (raw) 
          */
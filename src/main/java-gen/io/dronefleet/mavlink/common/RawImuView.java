@@ -0,0 +1,98 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RawImu} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RawImuView extends PayloadView<RawImuView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X acceleration (raw) 
+     */
+    public final int xacc() {
+        return readInt16(8);
+    }
+
+    /**
+     * Y acceleration (raw) 
+     */
+    public final int yacc() {
+        return readInt16(10);
+    }
+
+    /**
+     * Z acceleration (raw) 
+     */
+    public final int zacc() {
+        return readInt16(12);
+    }
+
+    /**
+     * Angular speed around X axis (raw) 
+     */
+    public final int xgyro() {
+        return readInt16(14);
+    }
+
+    /**
+     * Angular speed around Y axis (raw) 
+     */
+    public final int ygyro() {
+        return readInt16(16);
+    }
+
+    /**
+     * Angular speed around Z axis (raw) 
+     */
+    public final int zgyro() {
+        return readInt16(18);
+    }
+
+    /**
+     * X Magnetic field (raw) 
+     */
+    public final int xmag() {
+        return readInt16(20);
+    }
+
+    /**
+     * Y Magnetic field (raw) 
+     */
+    public final int ymag() {
+        return readInt16(22);
+    }
+
+    /**
+     * Z Magnetic field (raw) 
+     */
+    public final int zmag() {
+        return readInt16(24);
+    }
+
+    /**
+     * Id. Ids are numbered from 0 and map to IMUs numbered from 1 (e.g. IMU1 will have a message with 
+     * id=0) 
+     */
+    public final int id() {
+        return readUint8(26);
+    }
+
+    /**
+     * Temperature, 0: IMU does not provide temperature values. If the IMU is at 0C it must send 1 
+     * (0.01C). 
+     */
+    public final int temperature() {
+        return readInt16(27);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +21,7 @@ import java.util.Objects;
         crc = 67,
         description = "The RAW pressure readings for the typical setup of one absolute pressure and one differential pressure sensor. The sensor values should be the raw, UNSCALED ADC values."
 )
-public final class RawPressure {
+public final class RawPressure implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int pressAbs;
@@ -135,6 +138,17 @@ public final class RawPressure {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("pressAbs").value(this.pressAbs);
+        writer.name("pressDiff1").value(this.pressDiff1);
+        writer.name("pressDiff2").value(this.pressDiff2);
+        writer.name("temperature").value(this.temperature);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RawPressure{timeUsec=" + timeUsec
@@ -169,6 +183,16 @@ public final class RawPressure {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Absolute pressure (raw) 
          */
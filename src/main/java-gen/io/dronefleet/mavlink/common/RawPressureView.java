@@ -0,0 +1,47 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RawPressure} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RawPressureView extends PayloadView<RawPressureView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Absolute pressure (raw) 
+     */
+    public final int pressAbs() {
+        return readInt16(8);
+    }
+
+    /**
+     * Differential pressure 1 (raw, 0 if nonexistent) 
+     */
+    public final int pressDiff1() {
+        return readInt16(10);
+    }
+
+    /**
+     * Differential pressure 2 (raw, 0 if nonexistent) 
+     */
+    public final int pressDiff2() {
+        return readInt16(12);
+    }
+
+    /**
+     * Raw Temperature measurement (raw) 
+     */
+    public final int temperature() {
+        return readInt16(14);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 199,
         description = "RPM sensor data message."
 )
-public final class RawRpm {
+public final class RawRpm implements JsonWritable {
     private final int index;
 
     private final float frequency;
@@ -76,6 +78,14 @@ public final class RawRpm {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("index").value(this.index);
+        writer.name("frequency").value(this.frequency);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RawRpm{index=" + index
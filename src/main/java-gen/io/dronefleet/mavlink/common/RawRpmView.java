@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RawRpm} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RawRpmView extends PayloadView<RawRpmView> {
+    /**
+     * Indicated rate 
+     */
+    public final float frequency() {
+        return readFloat(0);
+    }
+
+    /**
+     * Index of this RPM sensor (0-indexed) 
+     */
+    public final int index() {
+        return readUint8(4);
+    }
+}
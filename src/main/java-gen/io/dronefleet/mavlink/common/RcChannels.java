@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +20,7 @@ import java.util.Objects;
         crc = 118,
         description = "The PPM values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%.  A value of UINT16_MAX implies the channel is unused. Individual receivers/transmitters might violate this specification."
 )
-public final class RcChannels {
+public final class RcChannels implements JsonWritable {
     private final long timeBootMs;
 
     private final int chancount;
@@ -407,6 +409,33 @@ public final class RcChannels {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("chancount").value(this.chancount);
+        writer.name("chan1Raw").value(this.chan1Raw);
+        writer.name("chan2Raw").value(this.chan2Raw);
+        writer.name("chan3Raw").value(this.chan3Raw);
+        writer.name("chan4Raw").value(this.chan4Raw);
+        writer.name("chan5Raw").value(this.chan5Raw);
+        writer.name("chan6Raw").value(this.chan6Raw);
+        writer.name("chan7Raw").value(this.chan7Raw);
+        writer.name("chan8Raw").value(this.chan8Raw);
+        writer.name("chan9Raw").value(this.chan9Raw);
+        writer.name("chan10Raw").value(this.chan10Raw);
+        writer.name("chan11Raw").value(this.chan11Raw);
+        writer.name("chan12Raw").value(this.chan12Raw);
+        writer.name("chan13Raw").value(this.chan13Raw);
+        writer.name("chan14Raw").value(this.chan14Raw);
+        writer.name("chan15Raw").value(this.chan15Raw);
+        writer.name("chan16Raw").value(this.chan16Raw);
+        writer.name("chan17Raw").value(this.chan17Raw);
+        writer.name("chan18Raw").value(this.chan18Raw);
+        writer.name("rssi").value(this.rssi);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RcChannels{timeBootMs=" + timeBootMs
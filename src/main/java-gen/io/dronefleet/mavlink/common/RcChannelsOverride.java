@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 124,
         description = "The RAW values of the RC channels sent to the MAV to override info received from the RC radio. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.  Note carefully the semantic differences between the first 8 channels and the subsequent channels"
 )
-public final class RcChannelsOverride {
+public final class RcChannelsOverride implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -416,6 +418,32 @@ public final class RcChannelsOverride {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("chan1Raw").value(this.chan1Raw);
+        writer.name("chan2Raw").value(this.chan2Raw);
+        writer.name("chan3Raw").value(this.chan3Raw);
+        writer.name("chan4Raw").value(this.chan4Raw);
+        writer.name("chan5Raw").value(this.chan5Raw);
+        writer.name("chan6Raw").value(this.chan6Raw);
+        writer.name("chan7Raw").value(this.chan7Raw);
+        writer.name("chan8Raw").value(this.chan8Raw);
+        writer.name("chan9Raw").value(this.chan9Raw);
+        writer.name("chan10Raw").value(this.chan10Raw);
+        writer.name("chan11Raw").value(this.chan11Raw);
+        writer.name("chan12Raw").value(this.chan12Raw);
+        writer.name("chan13Raw").value(this.chan13Raw);
+        writer.name("chan14Raw").value(this.chan14Raw);
+        writer.name("chan15Raw").value(this.chan15Raw);
+        writer.name("chan16Raw").value(this.chan16Raw);
+        writer.name("chan17Raw").value(this.chan17Raw);
+        writer.name("chan18Raw").value(this.chan18Raw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RcChannelsOverride{targetSystem=" + targetSystem
@@ -0,0 +1,167 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RcChannelsOverride} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RcChannelsOverrideView extends PayloadView<RcChannelsOverrideView> {
+    /**
+     * RC channel 1 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan1Raw() {
+        return readUint16(0);
+    }
+
+    /**
+     * RC channel 2 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan2Raw() {
+        return readUint16(2);
+    }
+
+    /**
+     * RC channel 3 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan3Raw() {
+        return readUint16(4);
+    }
+
+    /**
+     * RC channel 4 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan4Raw() {
+        return readUint16(6);
+    }
+
+    /**
+     * RC channel 5 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan5Raw() {
+        return readUint16(8);
+    }
+
+    /**
+     * RC channel 6 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan6Raw() {
+        return readUint16(10);
+    }
+
+    /**
+     * RC channel 7 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan7Raw() {
+        return readUint16(12);
+    }
+
+    /**
+     * RC channel 8 value. A value of UINT16_MAX means to ignore this field. A value of 0 means to release 
+     * this channel back to the RC radio. 
+     */
+    public final int chan8Raw() {
+        return readUint16(14);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(16);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(17);
+    }
+
+    /**
+     * RC channel 9 value. A value of 0 or UINT16_MAX means to ignore this field. A value of UINT16_MAX-1 
+     * means to release this channel back to the RC radio. 
+     */
+    public final int chan9Raw() {
+        return readUint16(18);
+    }
+
+    /**
+     * RC channel 10 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan10Raw() {
+        return readUint16(20);
+    }
+
+    /**
+     * RC channel 11 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan11Raw() {
+        return readUint16(22);
+    }
+
+    /**
+     * RC channel 12 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan12Raw() {
+        return readUint16(24);
+    }
+
+    /**
+     * RC channel 13 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan13Raw() {
+        return readUint16(26);
+    }
+
+    /**
+     * RC channel 14 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan14Raw() {
+        return readUint16(28);
+    }
+
+    /**
+     * RC channel 15 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan15Raw() {
+        return readUint16(30);
+    }
+
+    /**
+     * RC channel 16 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan16Raw() {
+        return readUint16(32);
+    }
+
+    /**
+     * RC channel 17 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan17Raw() {
+        return readUint16(34);
+    }
+
+    /**
+     * RC channel 18 value. A value of 0 or UINT16_MAX means to ignore this field. A value of 
+     * UINT16_MAX-1 means to release this channel back to the RC radio. 
+     */
+    public final int chan18Raw() {
+        return readUint16(36);
+    }
+}
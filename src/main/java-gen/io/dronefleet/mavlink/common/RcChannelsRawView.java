@@ -0,0 +1,88 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RcChannelsRaw} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RcChannelsRawView extends PayloadView<RcChannelsRawView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * RC channel 1 value. 
+     */
+    public final int chan1Raw() {
+        return readUint16(4);
+    }
+
+    /**
+     * RC channel 2 value. 
+     */
+    public final int chan2Raw() {
+        return readUint16(6);
+    }
+
+    /**
+     * RC channel 3 value. 
+     */
+    public final int chan3Raw() {
+        return readUint16(8);
+    }
+
+    /**
+     * RC channel 4 value. 
+     */
+    public final int chan4Raw() {
+        return readUint16(10);
+    }
+
+    /**
+     * RC channel 5 value. 
+     */
+    public final int chan5Raw() {
+        return readUint16(12);
+    }
+
+    /**
+     * RC channel 6 value. 
+     */
+    public final int chan6Raw() {
+        return readUint16(14);
+    }
+
+    /**
+     * RC channel 7 value. 
+     */
+    public final int chan7Raw() {
+        return readUint16(16);
+    }
+
+    /**
+     * RC channel 8 value. 
+     */
+    public final int chan8Raw() {
+        return readUint16(18);
+    }
+
+    /**
+     * Servo output port (set of 8 outputs = 1 port). Flight stacks running on Pixhawk should use: 0 = 
+     * MAIN, 1 = AUX. 
+     */
+    public final int port() {
+        return readUint8(20);
+    }
+
+    /**
+     * Receive signal strength indicator in device-dependent units/scale. Values: [0-254], 
+     * UINT8_MAX: invalid/unknown. 
+     */
+    public final int rssi() {
+        return readUint8(21);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 237,
         description = "The scaled values of the RC channels received: (-100%) -10000, (0%) 0, (100%) 10000. Channels that are inactive should be set to UINT16_MAX."
 )
-public final class RcChannelsScaled {
+public final class RcChannelsScaled implements JsonWritable {
     private final long timeBootMs;
 
     private final int port;
@@ -242,6 +244,23 @@ public final class RcChannelsScaled {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("port").value(this.port);
+        writer.name("chan1Scaled").value(this.chan1Scaled);
+        writer.name("chan2Scaled").value(this.chan2Scaled);
+        writer.name("chan3Scaled").value(this.chan3Scaled);
+        writer.name("chan4Scaled").value(this.chan4Scaled);
+        writer.name("chan5Scaled").value(this.chan5Scaled);
+        writer.name("chan6Scaled").value(this.chan6Scaled);
+        writer.name("chan7Scaled").value(this.chan7Scaled);
+        writer.name("chan8Scaled").value(this.chan8Scaled);
+        writer.name("rssi").value(this.rssi);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RcChannelsScaled{timeBootMs=" + timeBootMs
@@ -0,0 +1,88 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RcChannelsScaled} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RcChannelsScaledView extends PayloadView<RcChannelsScaledView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * RC channel 1 value scaled. 
+     */
+    public final int chan1Scaled() {
+        return readInt16(4);
+    }
+
+    /**
+     * RC channel 2 value scaled. 
+     */
+    public final int chan2Scaled() {
+        return readInt16(6);
+    }
+
+    /**
+     * RC channel 3 value scaled. 
+     */
+    public final int chan3Scaled() {
+        return readInt16(8);
+    }
+
+    /**
+     * RC channel 4 value scaled. 
+     */
+    public final int chan4Scaled() {
+        return readInt16(10);
+    }
+
+    /**
+     * RC channel 5 value scaled. 
+     */
+    public final int chan5Scaled() {
+        return readInt16(12);
+    }
+
+    /**
+     * RC channel 6 value scaled. 
+     */
+    public final int chan6Scaled() {
+        return readInt16(14);
+    }
+
+    /**
+     * RC channel 7 value scaled. 
+     */
+    public final int chan7Scaled() {
+        return readInt16(16);
+    }
+
+    /**
+     * RC channel 8 value scaled. 
+     */
+    public final int chan8Scaled() {
+        return readInt16(18);
+    }
+
+    /**
+     * Servo output port (set of 8 outputs = 1 port). Flight stacks running on Pixhawk should use: 0 = 
+     * MAIN, 1 = AUX. 
+     */
+    public final int port() {
+        return readUint8(20);
+    }
+
+    /**
+     * Receive signal strength indicator in device-dependent units/scale. Values: [0-254], 
+     * UINT8_MAX: invalid/unknown. 
+     */
+    public final int rssi() {
+        return readUint8(21);
+    }
+}
@@ -0,0 +1,159 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RcChannels} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RcChannelsView extends PayloadView<RcChannelsView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * RC channel 1 value. 
+     */
+    public final int chan1Raw() {
+        return readUint16(4);
+    }
+
+    /**
+     * RC channel 2 value. 
+     */
+    public final int chan2Raw() {
+        return readUint16(6);
+    }
+
+    /**
+     * RC channel 3 value. 
+     */
+    public final int chan3Raw() {
+        return readUint16(8);
+    }
+
+    /**
+     * RC channel 4 value. 
+     */
+    public final int chan4Raw() {
+        return readUint16(10);
+    }
+
+    /**
+     * RC channel 5 value. 
+     */
+    public final int chan5Raw() {
+        return readUint16(12);
+    }
+
+    /**
+     * RC channel 6 value. 
+     */
+    public final int chan6Raw() {
+        return readUint16(14);
+    }
+
+    /**
+     * RC channel 7 value. 
+     */
+    public final int chan7Raw() {
+        return readUint16(16);
+    }
+
+    /**
+     * RC channel 8 value. 
+     */
+    public final int chan8Raw() {
+        return readUint16(18);
+    }
+
+    /**
+     * RC channel 9 value. 
+     */
+    public final int chan9Raw() {
+        return readUint16(20);
+    }
+
+    /**
+     * RC channel 10 value. 
+     */
+    public final int chan10Raw() {
+        return readUint16(22);
+    }
+
+    /**
+     * RC channel 11 value. 
+     */
+    public final int chan11Raw() {
+        return readUint16(24);
+    }
+
+    /**
+     * RC channel 12 value. 
+     */
+    public final int chan12Raw() {
+        return readUint16(26);
+    }
+
+    /**
+     * RC channel 13 value. 
+     */
+    public final int chan13Raw() {
+        return readUint16(28);
+    }
+
+    /**
+     * RC channel 14 value. 
+     */
+    public final int chan14Raw() {
+        return readUint16(30);
+    }
+
+    /**
+     * RC channel 15 value. 
+     */
+    public final int chan15Raw() {
+        return readUint16(32);
+    }
+
+    /**
+     * RC channel 16 value. 
+     */
+    public final int chan16Raw() {
+        return readUint16(34);
+    }
+
+    /**
+     * RC channel 17 value. 
+     */
+    public final int chan17Raw() {
+        return readUint16(36);
+    }
+
+    /**
+     * RC channel 18 value. 
+     */
+    public final int chan18Raw() {
+        return readUint16(38);
+    }
+
+    /**
+     * Total number of RC channels being received. This can be larger than 18, indicating that more 
+     * channels are available but not given in this message. This value should be 0 when no RC channels 
+     * are available. 
+     */
+    public final int chancount() {
+        return readUint8(40);
+    }
+
+    /**
+     * Receive signal strength indicator in device-dependent units/scale. Values: [0-254], 
+     * UINT8_MAX: invalid/unknown. 
+     */
+    public final int rssi() {
+        return readUint8(41);
+    }
+}
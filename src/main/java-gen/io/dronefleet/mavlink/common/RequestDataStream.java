@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -19,7 +21,7 @@ import java.util.Objects;
         description = "Request a data stream."
 )
 @Deprecated
-public final class RequestDataStream {
+public final class RequestDataStream implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -131,6 +133,17 @@ public final class RequestDataStream {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("reqStreamId").value(this.reqStreamId);
+        writer.name("reqMessageRate").value(this.reqMessageRate);
+        writer.name("startStop").value(this.startStop);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RequestDataStream{targetSystem=" + targetSystem
@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link RequestDataStream} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class RequestDataStreamView extends PayloadView<RequestDataStreamView> {
+    /**
+     * The requested message rate 
+     */
+    public final int reqMessageRate() {
+        return readUint16(0);
+    }
+
+    /**
+     * The target requested to send the message stream. 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * The target requested to send the message stream. 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * The ID of the requested data stream 
+     */
+    public final int reqStreamId() {
+        return readUint8(4);
+    }
+
+    /**
+     * 1 to start sending, 0 to stop sending. 
+     */
+    public final int startStop() {
+        return readUint8(5);
+    }
+}
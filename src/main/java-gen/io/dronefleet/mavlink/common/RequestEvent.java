@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -25,7 +27,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class RequestEvent {
+public final class RequestEvent implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -120,6 +122,16 @@ public final class RequestEvent {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("firstSequence").value(this.firstSequence);
+        writer.name("lastSequence").value(this.lastSequence);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RequestEvent{targetSystem=" + targetSystem
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link RequestEvent} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class RequestEventView extends PayloadView<RequestEventView> {
+    /**
+     * First sequence number of the requested event. 
+     */
+    public final int firstSequence() {
+        return readUint16(0);
+    }
+
+    /**
+     * Last sequence number of the requested event. 
+     */
+    public final int lastSequence() {
+        return readUint16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 72,
         description = "The autopilot is requesting a resource (file, binary, other type of data)"
 )
-public final class ResourceRequest {
+public final class ResourceRequest implements JsonWritable {
     private final int requestId;
 
     private final int uriType;
@@ -132,6 +134,17 @@ public final class ResourceRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("requestId").value(this.requestId);
+        writer.name("uriType").value(this.uriType);
+        writer.name("uri").value(this.uri);
+        writer.name("transferType").value(this.transferType);
+        writer.name("storage").value(this.storage);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ResourceRequest{requestId=" + requestId
@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ResourceRequest} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ResourceRequestView extends PayloadView<ResourceRequestView> {
+    /**
+     * Request ID. This ID should be re-used when sending back URI contents 
+     */
+    public final int requestId() {
+        return readUint8(0);
+    }
+
+    /**
+     * The type of requested URI. 0 = a file via URL. 1 = a UAVCAN binary 
+     */
+    public final int uriType() {
+        return readUint8(1);
+    }
+
+    /**
+     * The requested unique resource identifier (URI). It is not necessarily a straight domain name 
+     * (depends on the URI type enum) 
+     */
+    public final int uri(int index) {
+        return readUint8(elementPosition(2, 1, 120, index));
+    }
+
+    /**
+     * The way the autopilot wants to receive the URI. 0 = MAVLink FTP. 1 = binary stream. 
+     */
+    public final int transferType() {
+        return readUint8(122);
+    }
+
+    /**
+     * The storage path the autopilot wants the URI to be stored in. Will only be valid if the 
+     * transfer_type has a storage associated (e.g. MAVLink FTP). 
+     */
+    public final int storage(int index) {
+        return readUint8(elementPosition(123, 1, 120, index));
+    }
+}
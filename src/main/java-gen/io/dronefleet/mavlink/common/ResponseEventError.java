@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -26,7 +28,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class ResponseEventError {
+public final class ResponseEventError implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -139,6 +141,17 @@ public final class ResponseEventError {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("sequence").value(this.sequence);
+        writer.name("sequenceOldestAvailable").value(this.sequenceOldestAvailable);
+        writer.name("reason").value(this.reason);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ResponseEventError{targetSystem=" + targetSystem
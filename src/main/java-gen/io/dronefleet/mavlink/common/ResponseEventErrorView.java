@@ -0,0 +1,48 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link ResponseEventError} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class ResponseEventErrorView extends PayloadView<ResponseEventErrorView> {
+    /**
+     * Sequence number. 
+     */
+    public final int sequence() {
+        return readUint16(0);
+    }
+
+    /**
+     * Oldest Sequence number that is still available after the sequence set in {@link io.dronefleet.mavlink.common.RequestEvent REQUEST_EVENT}. 
+     */
+    public final int sequenceOldestAvailable() {
+        return readUint16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Error reason. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavEventErrorReason}.
+     */
+    public final int reason() {
+        return readUint8(6);
+    }
+}
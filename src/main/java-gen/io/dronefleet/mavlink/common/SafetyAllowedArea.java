@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 3,
         description = "Read out the safety zone the MAV currently assumes."
 )
-public final class SafetyAllowedArea {
+public final class SafetyAllowedArea implements JsonWritable {
     private final EnumValue<MavFrame> frame;
 
     private final float p1x;
@@ -167,6 +169,19 @@ public final class SafetyAllowedArea {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("frame").value(this.frame);
+        writer.name("p1x").value(this.p1x);
+        writer.name("p1y").value(this.p1y);
+        writer.name("p1z").value(this.p1z);
+        writer.name("p2x").value(this.p2x);
+        writer.name("p2y").value(this.p2y);
+        writer.name("p2z").value(this.p2z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SafetyAllowedArea{frame=" + frame
@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SafetyAllowedArea} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SafetyAllowedAreaView extends PayloadView<SafetyAllowedAreaView> {
+    /**
+     * x position 1 / Latitude 1 
+     */
+    public final float p1x() {
+        return readFloat(0);
+    }
+
+    /**
+     * y position 1 / Longitude 1 
+     */
+    public final float p1y() {
+        return readFloat(4);
+    }
+
+    /**
+     * z position 1 / Altitude 1 
+     */
+    public final float p1z() {
+        return readFloat(8);
+    }
+
+    /**
+     * x position 2 / Latitude 2 
+     */
+    public final float p2x() {
+        return readFloat(12);
+    }
+
+    /**
+     * y position 2 / Longitude 2 
+     */
+    public final float p2y() {
+        return readFloat(16);
+    }
+
+    /**
+     * z position 2 / Altitude 2 
+     */
+    public final float p2z() {
+        return readFloat(20);
+    }
+
+    /**
+     * Coordinate frame. Can be either global, GPS, right-handed with Z axis up or local, right 
+     * handed, Z axis down. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int frame() {
+        return readUint8(24);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 15,
         description = "Set a safety zone (volume), which is defined by two corners of a cube. This message can be used to tell the MAV which setpoints/waypoints to accept and which to reject. Safety areas are often enforced by national or competition regulations."
 )
-public final class SafetySetAllowedArea {
+public final class SafetySetAllowedArea implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -203,6 +205,21 @@ public final class SafetySetAllowedArea {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("frame").value(this.frame);
+        writer.name("p1x").value(this.p1x);
+        writer.name("p1y").value(this.p1y);
+        writer.name("p1z").value(this.p1z);
+        writer.name("p2x").value(this.p2x);
+        writer.name("p2y").value(this.p2y);
+        writer.name("p2z").value(this.p2z);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SafetySetAllowedArea{targetSystem=" + targetSystem
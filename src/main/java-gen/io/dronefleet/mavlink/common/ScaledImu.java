@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 170,
         description = "The RAW IMU readings for the usual 9DOF sensor setup. This message should contain the scaled values to the described units"
 )
-public final class ScaledImu {
+public final class ScaledImu implements JsonWritable {
     private final long timeBootMs;
 
     private final int xacc;
@@ -243,6 +245,23 @@ public final class ScaledImu {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.name("xmag").value(this.xmag);
+        writer.name("ymag").value(this.ymag);
+        writer.name("zmag").value(this.zmag);
+        writer.name("temperature").value(this.temperature);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScaledImu{timeBootMs=" + timeBootMs
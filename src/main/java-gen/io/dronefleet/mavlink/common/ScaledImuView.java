@@ -0,0 +1,87 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ScaledImu} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScaledImuView extends PayloadView<ScaledImuView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final int xacc() {
+        return readInt16(4);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final int yacc() {
+        return readInt16(6);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final int zacc() {
+        return readInt16(8);
+    }
+
+    /**
+     * Angular speed around X axis 
+     */
+    public final int xgyro() {
+        return readInt16(10);
+    }
+
+    /**
+     * Angular speed around Y axis 
+     */
+    public final int ygyro() {
+        return readInt16(12);
+    }
+
+    /**
+     * Angular speed around Z axis 
+     */
+    public final int zgyro() {
+        return readInt16(14);
+    }
+
+    /**
+     * X Magnetic field 
+     */
+    public final int xmag() {
+        return readInt16(16);
+    }
+
+    /**
+     * Y Magnetic field 
+     */
+    public final int ymag() {
+        return readInt16(18);
+    }
+
+    /**
+     * Z Magnetic field 
+     */
+    public final int zmag() {
+        return readInt16(20);
+    }
+
+    /**
+     * Temperature, 0: IMU does not provide temperature values. If the IMU is at 0C it must send 1 
+     * (0.01C). 
+     */
+    public final int temperature() {
+        return readInt16(22);
+    }
+}
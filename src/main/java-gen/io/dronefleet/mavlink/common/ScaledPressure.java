@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 115,
         description = "The pressure readings for the typical setup of one absolute and differential pressure sensor. The units are as specified in each field."
 )
-public final class ScaledPressure {
+public final class ScaledPressure implements JsonWritable {
     private final long timeBootMs;
 
     private final float pressAbs;
@@ -132,6 +134,17 @@ public final class ScaledPressure {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("pressAbs").value(this.pressAbs);
+        writer.name("pressDiff").value(this.pressDiff);
+        writer.name("temperature").value(this.temperature);
+        writer.name("temperaturePressDiff").value(this.temperaturePressDiff);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScaledPressure{timeBootMs=" + timeBootMs
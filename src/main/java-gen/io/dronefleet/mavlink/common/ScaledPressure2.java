@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 195,
         description = "Barometer readings for 2nd barometer"
 )
-public final class ScaledPressure2 {
+public final class ScaledPressure2 implements JsonWritable {
     private final long timeBootMs;
 
     private final float pressAbs;
@@ -131,6 +133,17 @@ public final class ScaledPressure2 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("pressAbs").value(this.pressAbs);
+        writer.name("pressDiff").value(this.pressDiff);
+        writer.name("temperature").value(this.temperature);
+        writer.name("temperaturePressDiff").value(this.temperaturePressDiff);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScaledPressure2{timeBootMs=" + timeBootMs
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ScaledPressure3} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScaledPressure3View extends PayloadView<ScaledPressure3View> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Absolute pressure 
+     */
+    public final float pressAbs() {
+        return readFloat(4);
+    }
+
+    /**
+     * Differential pressure 
+     */
+    public final float pressDiff() {
+        return readFloat(8);
+    }
+
+    /**
+     * Absolute pressure temperature 
+     */
+    public final int temperature() {
+        return readInt16(12);
+    }
+
+    /**
+     * Differential pressure temperature (0, if not available). Report values of 0 (or 1) as 1 cdegC. 
+     */
+    public final int temperaturePressDiff() {
+        return readInt16(14);
+    }
+}
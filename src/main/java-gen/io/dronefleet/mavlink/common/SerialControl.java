@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 220,
         description = "Control a serial port. This can be used for raw access to an onboard serial peripheral such as a GPS or telemetry radio. It is designed to make it possible to update the devices firmware via MAVLink messages or change the devices settings. A message with zero bytes can be used to change just the baudrate."
 )
-public final class SerialControl {
+public final class SerialControl implements JsonWritable {
     private final EnumValue<SerialControlDev> device;
 
     private final EnumValue<SerialControlFlag> flags;
@@ -191,6 +193,20 @@ public final class SerialControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("device").value(this.device);
+        writer.name("flags").value(this.flags);
+        writer.name("timeout").value(this.timeout);
+        writer.name("baudrate").value(this.baudrate);
+        writer.name("count").value(this.count);
+        writer.name("data").value(this.data);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialControl{device=" + device
@@ -0,0 +1,69 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialControlView extends PayloadView<SerialControlView> {
+    /**
+     * Baudrate of transfer. Zero means no change. 
+     */
+    public final long baudrate() {
+        return readUint32(0);
+    }
+
+    /**
+     * Timeout for reply data 
+     */
+    public final int timeout() {
+        return readUint16(4);
+    }
+
+    /**
+     * Serial control device type. 
+     * <p>
+     * This returns the raw value of the field, see {@link SerialControlDev}.
+     */
+    public final int device() {
+        return readUint8(6);
+    }
+
+    /**
+     * Bitmap of serial control flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link SerialControlFlag}.
+     */
+    public final int flags() {
+        return readUint8(7);
+    }
+
+    /**
+     * how many bytes in this transfer 
+     */
+    public final int count() {
+        return readUint8(8);
+    }
+
+    /**
+     * serial data 
+     */
+    public final int data(int index) {
+        return readUint8(elementPosition(9, 1, 70, index));
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(79);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(80);
+    }
+}
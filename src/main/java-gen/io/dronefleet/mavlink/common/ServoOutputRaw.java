@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +20,7 @@ import java.util.Objects;
         crc = 222,
         description = "Superseded by ACTUATOR_OUTPUT_STATUS. The RAW values of the servo outputs (for RC input from the remote, use the RC_CHANNELS messages). The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%."
 )
-public final class ServoOutputRaw {
+public final class ServoOutputRaw implements JsonWritable {
     private final long timeUsec;
 
     private final int port;
@@ -363,6 +365,30 @@ public final class ServoOutputRaw {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("port").value(this.port);
+        writer.name("servo1Raw").value(this.servo1Raw);
+        writer.name("servo2Raw").value(this.servo2Raw);
+        writer.name("servo3Raw").value(this.servo3Raw);
+        writer.name("servo4Raw").value(this.servo4Raw);
+        writer.name("servo5Raw").value(this.servo5Raw);
+        writer.name("servo6Raw").value(this.servo6Raw);
+        writer.name("servo7Raw").value(this.servo7Raw);
+        writer.name("servo8Raw").value(this.servo8Raw);
+        writer.name("servo9Raw").value(this.servo9Raw);
+        writer.name("servo10Raw").value(this.servo10Raw);
+        writer.name("servo11Raw").value(this.servo11Raw);
+        writer.name("servo12Raw").value(this.servo12Raw);
+        writer.name("servo13Raw").value(this.servo13Raw);
+        writer.name("servo14Raw").value(this.servo14Raw);
+        writer.name("servo15Raw").value(this.servo15Raw);
+        writer.name("servo16Raw").value(this.servo16Raw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ServoOutputRaw{timeUsec=" + timeUsec
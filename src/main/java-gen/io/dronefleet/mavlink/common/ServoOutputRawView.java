@@ -0,0 +1,137 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ServoOutputRaw} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ServoOutputRawView extends PayloadView<ServoOutputRawView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     */
+    public final long timeUsec() {
+        return readUint32(0);
+    }
+
+    /**
+     * Servo output 1 value 
+     */
+    public final int servo1Raw() {
+        return readUint16(4);
+    }
+
+    /**
+     * Servo output 2 value 
+     */
+    public final int servo2Raw() {
+        return readUint16(6);
+    }
+
+    /**
+     * Servo output 3 value 
+     */
+    public final int servo3Raw() {
+        return readUint16(8);
+    }
+
+    /**
+     * Servo output 4 value 
+     */
+    public final int servo4Raw() {
+        return readUint16(10);
+    }
+
+    /**
+     * Servo output 5 value 
+     */
+    public final int servo5Raw() {
+        return readUint16(12);
+    }
+
+    /**
+     * Servo output 6 value 
+     */
+    public final int servo6Raw() {
+        return readUint16(14);
+    }
+
+    /**
+     * Servo output 7 value 
+     */
+    public final int servo7Raw() {
+        return readUint16(16);
+    }
+
+    /**
+     * Servo output 8 value 
+     */
+    public final int servo8Raw() {
+        return readUint16(18);
+    }
+
+    /**
+     * Servo output port (set of 8 outputs = 1 port). Flight stacks running on Pixhawk should use: 0 = 
+     * MAIN, 1 = AUX. 
+     */
+    public final int port() {
+        return readUint8(20);
+    }
+
+    /**
+     * Servo output 9 value 
+     */
+    public final int servo9Raw() {
+        return readUint16(21);
+    }
+
+    /**
+     * Servo output 10 value 
+     */
+    public final int servo10Raw() {
+        return readUint16(23);
+    }
+
+    /**
+     * Servo output 11 value 
+     */
+    public final int servo11Raw() {
+        return readUint16(25);
+    }
+
+    /**
+     * Servo output 12 value 
+     */
+    public final int servo12Raw() {
+        return readUint16(27);
+    }
+
+    /**
+     * Servo output 13 value 
+     */
+    public final int servo13Raw() {
+        return readUint16(29);
+    }
+
+    /**
+     * Servo output 14 value 
+     */
+    public final int servo14Raw() {
+        return readUint16(31);
+    }
+
+    /**
+     * Servo output 15 value 
+     */
+    public final int servo15Raw() {
+        return readUint16(33);
+    }
+
+    /**
+     * Servo output 16 value 
+     */
+    public final int servo16Raw() {
+        return readUint16(35);
+    }
+}
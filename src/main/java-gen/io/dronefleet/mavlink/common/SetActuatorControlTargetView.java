@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SetActuatorControlTarget} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SetActuatorControlTargetView extends PayloadView<SetActuatorControlTargetView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Actuator controls. Normed to -1..+1 where 0 is neutral position. Throttle for single rotation 
+     * direction motors is 0..1, negative range for reverse direction. Standard mapping for 
+     * attitude controls (group 0): (index 0-7): roll, pitch, yaw, throttle, flaps, spoilers, 
+     * airbrakes, landing gear. Load a pass-through mixer to repurpose them as generic outputs. 
+     */
+    public final float controls(int index) {
+        return readFloat(elementPosition(8, 4, 8, index));
+    }
+
+    /**
+     * Actuator group. The "_mlx" indicates this is a multi-instance message and a MAVLink parser 
+     * should use this field to difference between instances. 
+     */
+    public final int groupMlx() {
+        return readUint8(40);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(41);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(42);
+    }
+}
@@ -3,9 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -22,7 +26,7 @@ import java.util.Objects;
         crc = 49,
         description = "Sets a desired vehicle attitude. Used by an external controller to command the vehicle (manual controller or other system)."
 )
-public final class SetAttitudeTarget {
+public final class SetAttitudeTarget implements JsonWritable {
     private final long timeBootMs;
 
     private final int targetSystem;
@@ -31,7 +35,7 @@ public final class SetAttitudeTarget {
 
     private final EnumValue<AttitudeTargetTypemask> typeMask;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float bodyRollRate;
 
@@ -41,7 +45,7 @@ public final class SetAttitudeTarget {
 
     private final float thrust;
 
-    private final List<Float> thrustBody;
+    private final FloatArrayList thrustBody;
 
     private SetAttitudeTarget(long timeBootMs, int targetSystem, int targetComponent,
             EnumValue<AttitudeTargetTypemask> typeMask, List<Float> q, float bodyRollRate,
@@ -50,12 +54,12 @@ public final class SetAttitudeTarget {
         this.targetSystem = targetSystem;
         this.targetComponent = targetComponent;
         this.typeMask = typeMask;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.bodyRollRate = bodyRollRate;
         this.bodyPitchRate = bodyPitchRate;
         this.bodyYawRate = bodyYawRate;
         this.thrust = thrust;
-        this.thrustBody = thrustBody;
+        this.thrustBody = FloatArrayList.copyOf(thrustBody);
     }
 
     /**
@@ -128,6 +132,25 @@ public final class SetAttitudeTarget {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Body roll rate 
      */
@@ -190,6 +213,25 @@ public final class SetAttitudeTarget {
         return this.thrustBody;
     }
 
+    /**
+     * Returns a copy of {@link #thrustBody()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] thrustBodyArray() {
+        return this.thrustBody != null ? this.thrustBody.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #thrustBody()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float thrustBody(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.thrustBody != null && index < this.thrustBody.size() ? this.thrustBody.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -224,6 +266,22 @@ public final class SetAttitudeTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("typeMask").value(this.typeMask);
+        writer.name("q").value(this.q);
+        writer.name("bodyRollRate").value(this.bodyRollRate);
+        writer.name("bodyPitchRate").value(this.bodyPitchRate);
+        writer.name("bodyYawRate").value(this.bodyYawRate);
+        writer.name("thrust").value(this.thrust);
+        writer.name("thrustBody").value(this.thrustBody);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetAttitudeTarget{timeBootMs=" + timeBootMs
@@ -347,6 +405,13 @@ public final class SetAttitudeTarget {
             return this;
         }
 
+        /**
+         * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0) 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Body roll rate 
          */
@@ -414,6 +479,13 @@ public final class SetAttitudeTarget {
             return this;
         }
 
+        /**
+         * 3D thrust setpoint in the body NED frame, normalized to -1 .. 1 
+         */
+        public final Builder thrustBody(float... thrustBody) {
+            return thrustBody(FloatArrayList.of(thrustBody));
+        }
+
         public final SetAttitudeTarget build() {
             return new SetAttitudeTarget(timeBootMs, targetSystem, targetComponent, typeMask, q, bodyRollRate, bodyPitchRate, bodyYawRate, thrust, thrustBody);
         }
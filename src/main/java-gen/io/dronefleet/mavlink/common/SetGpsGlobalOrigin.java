@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -21,7 +24,7 @@ import java.util.Objects;
         crc = 41,
         description = "Sets the GPS coordinates of the vehicle local origin (0,0,0) position. Vehicle should emit GPS_GLOBAL_ORIGIN irrespective of whether the origin is changed. This enables transform between the local coordinate frame and the global (GPS) coordinate frame, which may be necessary when (for example) indoor and outdoor settings are connected and the MAV should move from in- to outdoor."
 )
-public final class SetGpsGlobalOrigin {
+public final class SetGpsGlobalOrigin implements JsonWritable {
     private final int targetSystem;
 
     private final int latitude;
@@ -138,6 +141,17 @@ public final class SetGpsGlobalOrigin {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitude").value(this.altitude);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetGpsGlobalOrigin{targetSystem=" + targetSystem
@@ -228,6 +242,16 @@ public final class SetGpsGlobalOrigin {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         public final SetGpsGlobalOrigin build() {
             return new SetGpsGlobalOrigin(targetSystem, latitude, longitude, altitude, timeUsec);
         }
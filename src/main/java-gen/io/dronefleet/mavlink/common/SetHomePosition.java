@@ -3,8 +3,13 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Deprecated;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -37,7 +42,7 @@ import java.util.Objects;
                         + "        Note: the current home position may be emitted in a HOME_POSITION message on request (using MAV_CMD_REQUEST_MESSAGE with param1=242)."
 )
 @Deprecated
-public final class SetHomePosition {
+public final class SetHomePosition implements JsonWritable {
     private final int targetSystem;
 
     private final int latitude;
@@ -52,7 +57,7 @@ public final class SetHomePosition {
 
     private final float z;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float approachX;
 
@@ -72,7 +77,7 @@ public final class SetHomePosition {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.approachX = approachX;
         this.approachY = approachY;
         this.approachZ = approachZ;
@@ -188,6 +193,25 @@ public final class SetHomePosition {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * Local X position of the end of the approach vector. Multicopters should set this position based 
      * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
@@ -285,6 +309,24 @@ public final class SetHomePosition {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("altitude").value(this.altitude);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("q").value(this.q);
+        writer.name("approachX").value(this.approachX);
+        writer.name("approachY").value(this.approachY);
+        writer.name("approachZ").value(this.approachZ);
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetHomePosition{targetSystem=" + targetSystem
@@ -435,6 +477,14 @@ public final class SetHomePosition {
             return this;
         }
 
+        /**
+         * World to surface normal and heading transformation of the takeoff position. Used to indicate 
+         * the heading and slope of the ground 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * Local X position of the end of the approach vector. Multicopters should set this position based 
          * on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as 
@@ -498,6 +548,16 @@ public final class SetHomePosition {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         public final SetHomePosition build() {
             return new SetHomePosition(targetSystem, latitude, longitude, altitude, x, y, z, q, approachX, approachY, approachZ, timeUsec);
         }
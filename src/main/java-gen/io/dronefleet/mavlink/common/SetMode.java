@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -24,7 +26,7 @@ import java.util.Objects;
         description = "Set the system mode, as defined by enum MAV_MODE. There is no target component id as the mode is by definition for the overall aircraft, not only for one component."
 )
 @Deprecated
-public final class SetMode {
+public final class SetMode implements JsonWritable {
     private final int targetSystem;
 
     private final EnumValue<MavMode> baseMode;
@@ -102,6 +104,15 @@ public final class SetMode {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("baseMode").value(this.baseMode);
+        writer.name("customMode").value(this.customMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetMode{targetSystem=" + targetSystem
@@ -0,0 +1,34 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link SetMode} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class SetModeView extends PayloadView<SetModeView> {
+    /**
+     * The new autopilot-specific mode. This field can be ignored by an autopilot. 
+     */
+    public final long customMode() {
+        return readUint32(0);
+    }
+
+    /**
+     * The system setting the mode 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * The new base mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavMode}.
+     */
+    public final int baseMode() {
+        return readUint8(5);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 5,
         description = "Sets a desired vehicle position, velocity, and/or acceleration in a global coordinate system (WGS84). Used by an external controller to command the vehicle (manual controller or other system)."
 )
-public final class SetPositionTargetGlobalInt {
+public final class SetPositionTargetGlobalInt implements JsonWritable {
     private final long timeBootMs;
 
     private final int targetSystem;
@@ -329,6 +331,28 @@ public final class SetPositionTargetGlobalInt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("coordinateFrame").value(this.coordinateFrame);
+        writer.name("typeMask").value(this.typeMask);
+        writer.name("latInt").value(this.latInt);
+        writer.name("lonInt").value(this.lonInt);
+        writer.name("alt").value(this.alt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("afx").value(this.afx);
+        writer.name("afy").value(this.afy);
+        writer.name("afz").value(this.afz);
+        writer.name("yaw").value(this.yaw);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetPositionTargetGlobalInt{timeBootMs=" + timeBootMs
@@ -0,0 +1,126 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SetPositionTargetLocalNed} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SetPositionTargetLocalNedView extends PayloadView<SetPositionTargetLocalNedView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * X Position in NED frame 
+     */
+    public final float x() {
+        return readFloat(4);
+    }
+
+    /**
+     * Y Position in NED frame 
+     */
+    public final float y() {
+        return readFloat(8);
+    }
+
+    /**
+     * Z Position in NED frame (note, altitude is negative in NED) 
+     */
+    public final float z() {
+        return readFloat(12);
+    }
+
+    /**
+     * X velocity in NED frame 
+     */
+    public final float vx() {
+        return readFloat(16);
+    }
+
+    /**
+     * Y velocity in NED frame 
+     */
+    public final float vy() {
+        return readFloat(20);
+    }
+
+    /**
+     * Z velocity in NED frame 
+     */
+    public final float vz() {
+        return readFloat(24);
+    }
+
+    /**
+     * X acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N 
+     */
+    public final float afx() {
+        return readFloat(28);
+    }
+
+    /**
+     * Y acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N 
+     */
+    public final float afy() {
+        return readFloat(32);
+    }
+
+    /**
+     * Z acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N 
+     */
+    public final float afz() {
+        return readFloat(36);
+    }
+
+    /**
+     * yaw setpoint 
+     */
+    public final float yaw() {
+        return readFloat(40);
+    }
+
+    /**
+     * yaw rate setpoint 
+     */
+    public final float yawRate() {
+        return readFloat(44);
+    }
+
+    /**
+     * Bitmap to indicate which dimensions should be ignored by the vehicle. 
+     * <p>
+     * This returns the raw value of the field, see {@link PositionTargetTypemask}.
+     */
+    public final int typeMask() {
+        return readUint16(48);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(50);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(51);
+    }
+
+    /**
+     * Valid options are: MAV_FRAME_LOCAL_NED = 1, MAV_FRAME_LOCAL_OFFSET_NED = 7, 
+     * MAV_FRAME_BODY_NED = 8, MAV_FRAME_BODY_OFFSET_NED = 9 
+     * <p>
+     * This returns the raw value of the field, see {@link MavFrame}.
+     */
+    public final int coordinateFrame() {
+        return readUint8(52);
+    }
+}
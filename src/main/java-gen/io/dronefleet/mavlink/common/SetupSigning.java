@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +21,7 @@ import java.util.Objects;
         crc = 71,
         description = "Setup a MAVLink2 signing key. If called with secret_key of all zero and zero initial_timestamp will disable signing"
 )
-public final class SetupSigning {
+public final class SetupSigning implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -114,6 +117,16 @@ public final class SetupSigning {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("secretKey").value(this.secretKey);
+        writer.name("initialTimestamp").value(this.initialTimestamp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SetupSigning{targetSystem=" + targetSystem
@@ -184,6 +197,15 @@ public final class SetupSigning {
             return this;
         }
 
+        /**
+         * initial timestamp 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder initialTimestamp(long initialTimestamp) {
+            return initialTimestamp(UnsignedLongs.toBigInteger(initialTimestamp));
+        }
+
         public final SetupSigning build() {
             return new SetupSigning(targetSystem, targetComponent, secretKey, initialTimestamp);
         }
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SetupSigning} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SetupSigningView extends PayloadView<SetupSigningView> {
+    /**
+     * initial timestamp 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long initialTimestamp() {
+        return readInt64(0);
+    }
+
+    /**
+     * system id of the target 
+     */
+    public final int targetSystem() {
+        return readUint8(8);
+    }
+
+    /**
+     * component ID of the target 
+     */
+    public final int targetComponent() {
+        return readUint8(9);
+    }
+
+    /**
+     * signing key 
+     */
+    public final int secretKey(int index) {
+        return readUint8(elementPosition(10, 1, 32, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 32,
         description = "Status of simulation environment, if used"
 )
-public final class SimState {
+public final class SimState implements JsonWritable {
     private final float q1;
 
     private final float q2;
@@ -442,6 +444,35 @@ public final class SimState {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("q1").value(this.q1);
+        writer.name("q2").value(this.q2);
+        writer.name("q3").value(this.q3);
+        writer.name("q4").value(this.q4);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("xacc").value(this.xacc);
+        writer.name("yacc").value(this.yacc);
+        writer.name("zacc").value(this.zacc);
+        writer.name("xgyro").value(this.xgyro);
+        writer.name("ygyro").value(this.ygyro);
+        writer.name("zgyro").value(this.zgyro);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("stdDevHorz").value(this.stdDevHorz);
+        writer.name("stdDevVert").value(this.stdDevVert);
+        writer.name("vn").value(this.vn);
+        writer.name("ve").value(this.ve);
+        writer.name("vd").value(this.vd);
+        writer.name("latInt").value(this.latInt);
+        writer.name("lonInt").value(this.lonInt);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SimState{q1=" + q1
@@ -0,0 +1,172 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SimState} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SimStateView extends PayloadView<SimStateView> {
+    /**
+     * True attitude quaternion component 1, w (1 in null-rotation) 
+     */
+    public final float q1() {
+        return readFloat(0);
+    }
+
+    /**
+     * True attitude quaternion component 2, x (0 in null-rotation) 
+     */
+    public final float q2() {
+        return readFloat(4);
+    }
+
+    /**
+     * True attitude quaternion component 3, y (0 in null-rotation) 
+     */
+    public final float q3() {
+        return readFloat(8);
+    }
+
+    /**
+     * True attitude quaternion component 4, z (0 in null-rotation) 
+     */
+    public final float q4() {
+        return readFloat(12);
+    }
+
+    /**
+     * Attitude roll expressed as Euler angles, not recommended except for human-readable outputs 
+     */
+    public final float roll() {
+        return readFloat(16);
+    }
+
+    /**
+     * Attitude pitch expressed as Euler angles, not recommended except for human-readable outputs 
+     */
+    public final float pitch() {
+        return readFloat(20);
+    }
+
+    /**
+     * Attitude yaw expressed as Euler angles, not recommended except for human-readable outputs 
+     */
+    public final float yaw() {
+        return readFloat(24);
+    }
+
+    /**
+     * X acceleration 
+     */
+    public final float xacc() {
+        return readFloat(28);
+    }
+
+    /**
+     * Y acceleration 
+     */
+    public final float yacc() {
+        return readFloat(32);
+    }
+
+    /**
+     * Z acceleration 
+     */
+    public final float zacc() {
+        return readFloat(36);
+    }
+
+    /**
+     * Angular speed around X axis 
+     */
+    public final float xgyro() {
+        return readFloat(40);
+    }
+
+    /**
+     * Angular speed around Y axis 
+     */
+    public final float ygyro() {
+        return readFloat(44);
+    }
+
+    /**
+     * Angular speed around Z axis 
+     */
+    public final float zgyro() {
+        return readFloat(48);
+    }
+
+    /**
+     * Latitude (lower precision). Both this and the lat_int field should be set. 
+     */
+    public final float lat() {
+        return readFloat(52);
+    }
+
+    /**
+     * Longitude (lower precision). Both this and the lon_int field should be set. 
+     */
+    public final float lon() {
+        return readFloat(56);
+    }
+
+    /**
+     * Altitude 
+     */
+    public final float alt() {
+        return readFloat(60);
+    }
+
+    /**
+     * Horizontal position standard deviation 
+     */
+    public final float stdDevHorz() {
+        return readFloat(64);
+    }
+
+    /**
+     * Vertical position standard deviation 
+     */
+    public final float stdDevVert() {
+        return readFloat(68);
+    }
+
+    /**
+     * True velocity in north direction in earth-fixed NED frame 
+     */
+    public final float vn() {
+        return readFloat(72);
+    }
+
+    /**
+     * True velocity in east direction in earth-fixed NED frame 
+     */
+    public final float ve() {
+        return readFloat(76);
+    }
+
+    /**
+     * True velocity in down direction in earth-fixed NED frame 
+     */
+    public final float vd() {
+        return readFloat(80);
+    }
+
+    /**
+     * Latitude (higher precision). If 0, recipients should use the lat field value (otherwise this 
+     * field is preferred). 
+     */
+    public final int latInt() {
+        return readInt32(84);
+    }
+
+    /**
+     * Longitude (higher precision). If 0, recipients should use the lon field value (otherwise this 
+     * field is preferred). 
+     */
+    public final int lonInt() {
+        return readInt32(88);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 75,
         description = "Smart Battery information (static/infrequent update). Use for updates from: smart battery to flight stack, flight stack to GCS. Use BATTERY_STATUS for smart battery frequent updates."
 )
-public final class SmartBatteryInfo {
+public final class SmartBatteryInfo implements JsonWritable {
     private final int id;
 
     private final EnumValue<MavBatteryFunction> batteryFunction;
@@ -353,6 +355,29 @@ public final class SmartBatteryInfo {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("id").value(this.id);
+        writer.name("batteryFunction").value(this.batteryFunction);
+        writer.name("type").value(this.type);
+        writer.name("capacityFullSpecification").value(this.capacityFullSpecification);
+        writer.name("capacityFull").value(this.capacityFull);
+        writer.name("cycleCount").value(this.cycleCount);
+        writer.name("serialNumber").value(this.serialNumber);
+        writer.name("deviceName").value(this.deviceName);
+        writer.name("weight").value(this.weight);
+        writer.name("dischargeMinimumVoltage").value(this.dischargeMinimumVoltage);
+        writer.name("chargingMinimumVoltage").value(this.chargingMinimumVoltage);
+        writer.name("restingMinimumVoltage").value(this.restingMinimumVoltage);
+        writer.name("chargingMaximumVoltage").value(this.chargingMaximumVoltage);
+        writer.name("cellsInSeries").value(this.cellsInSeries);
+        writer.name("dischargeMaximumCurrent").value(this.dischargeMaximumCurrent);
+        writer.name("dischargeMaximumBurstCurrent").value(this.dischargeMaximumBurstCurrent);
+        writer.name("manufactureDate").value(this.manufactureDate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SmartBatteryInfo{id=" + id
@@ -0,0 +1,134 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link SmartBatteryInfo} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SmartBatteryInfoView extends PayloadView<SmartBatteryInfoView> {
+    /**
+     * Capacity when full according to manufacturer, -1: field not provided. 
+     */
+    public final int capacityFullSpecification() {
+        return readInt32(0);
+    }
+
+    /**
+     * Capacity when full (accounting for battery degradation), -1: field not provided. 
+     */
+    public final int capacityFull() {
+        return readInt32(4);
+    }
+
+    /**
+     * Charge/discharge cycle count. UINT16_MAX: field not provided. 
+     */
+    public final int cycleCount() {
+        return readUint16(8);
+    }
+
+    /**
+     * Battery weight. 0: field not provided. 
+     */
+    public final int weight() {
+        return readUint16(10);
+    }
+
+    /**
+     * Minimum per-cell voltage when discharging. If not supplied set to UINT16_MAX value. 
+     */
+    public final int dischargeMinimumVoltage() {
+        return readUint16(12);
+    }
+
+    /**
+     * Minimum per-cell voltage when charging. If not supplied set to UINT16_MAX value. 
+     */
+    public final int chargingMinimumVoltage() {
+        return readUint16(14);
+    }
+
+    /**
+     * Minimum per-cell voltage when resting. If not supplied set to UINT16_MAX value. 
+     */
+    public final int restingMinimumVoltage() {
+        return readUint16(16);
+    }
+
+    /**
+     * Battery ID 
+     */
+    public final int id() {
+        return readUint8(18);
+    }
+
+    /**
+     * Function of the battery 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryFunction}.
+     */
+    public final int batteryFunction() {
+        return readUint8(19);
+    }
+
+    /**
+     * Type (chemistry) of the battery 
+     * <p>
+     * This returns the raw value of the field, see {@link MavBatteryType}.
+     */
+    public final int type() {
+        return readUint8(20);
+    }
+
+    /**
+     * Serial number in ASCII characters, 0 terminated. All 0: field not provided. 
+     */
+    public final String serialNumber() {
+        return readString(21, 16);
+    }
+
+    /**
+     * Static device name in ASCII characters, 0 terminated. All 0: field not provided. Encode as 
+     * manufacturer name then product name separated using an underscore. 
+     */
+    public final String deviceName() {
+        return readString(37, 50);
+    }
+
+    /**
+     * Maximum per-cell voltage when charged. 0: field not provided. 
+     */
+    public final int chargingMaximumVoltage() {
+        return readUint16(87);
+    }
+
+    /**
+     * Number of battery cells in series. 0: field not provided. 
+     */
+    public final int cellsInSeries() {
+        return readUint8(89);
+    }
+
+    /**
+     * Maximum pack discharge current. 0: field not provided. 
+     */
+    public final long dischargeMaximumCurrent() {
+        return readUint32(90);
+    }
+
+    /**
+     * Maximum pack discharge burst current. 0: field not provided. 
+     */
+    public final long dischargeMaximumBurstCurrent() {
+        return readUint32(94);
+    }
+
+    /**
+     * Manufacture date (DD/MM/YYYY) in ASCII characters, 0 terminated. All 0: field not provided. 
+     */
+    public final String manufactureDate() {
+        return readString(98, 11);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 83,
         description = "Status text message. These messages are printed in yellow in the COMM console of QGroundControl. WARNING: They consume quite some bandwidth, so use only for important status and error messages. If implemented wisely, these messages are buffered on the MCU and sent only at a limited rate (e.g. 10 Hz)."
 )
-public final class Statustext {
+public final class Statustext implements JsonWritable {
     private final EnumValue<MavSeverity> severity;
 
     private final String text;
@@ -123,6 +125,16 @@ public final class Statustext {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("severity").value(this.severity);
+        writer.name("text").value(this.text);
+        writer.name("id").value(this.id);
+        writer.name("chunkSeq").value(this.chunkSeq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Statustext{severity=" + severity
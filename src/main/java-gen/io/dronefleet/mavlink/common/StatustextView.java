@@ -0,0 +1,43 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link Statustext} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class StatustextView extends PayloadView<StatustextView> {
+    /**
+     * Severity of status. Relies on the definitions within RFC-5424. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSeverity}.
+     */
+    public final int severity() {
+        return readUint8(0);
+    }
+
+    /**
+     * Status text message, without null termination character 
+     */
+    public final String text() {
+        return readString(1, 50);
+    }
+
+    /**
+     * Unique (opaque) identifier for this statustext message. May be used to reassemble a logical 
+     * long-statustext message from a sequence of chunks. A value of zero indicates this is the only 
+     * chunk in the sequence and the message can be emitted immediately. 
+     */
+    public final int id() {
+        return readUint16(51);
+    }
+
+    /**
+     * This chunk's sequence number; indexing is from zero. Any null character in the text field is 
+     * taken to mean this was the last chunk. 
+     */
+    public final int chunkSeq() {
+        return readUint8(53);
+    }
+}
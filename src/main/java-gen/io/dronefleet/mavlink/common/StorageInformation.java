@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 179,
         description = "Information about a storage medium. This message is sent in response to a request with MAV_CMD_REQUEST_MESSAGE and whenever the status of the storage changes (STORAGE_STATUS). Use MAV_CMD_REQUEST_MESSAGE.param2 to indicate the index/id of requested storage: 0 for all, 1 for first, 2 for second, etc."
 )
-public final class StorageInformation {
+public final class StorageInformation implements JsonWritable {
     private final long timeBootMs;
 
     private final int storageId;
@@ -272,6 +274,24 @@ public final class StorageInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("storageId").value(this.storageId);
+        writer.name("storageCount").value(this.storageCount);
+        writer.name("status").value(this.status);
+        writer.name("totalCapacity").value(this.totalCapacity);
+        writer.name("usedCapacity").value(this.usedCapacity);
+        writer.name("availableCapacity").value(this.availableCapacity);
+        writer.name("readSpeed").value(this.readSpeed);
+        writer.name("writeSpeed").value(this.writeSpeed);
+        writer.name("type").value(this.type);
+        writer.name("name").value(this.name);
+        writer.name("storageUsage").value(this.storageUsage);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "StorageInformation{timeBootMs=" + timeBootMs
@@ -0,0 +1,107 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link StorageInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class StorageInformationView extends PayloadView<StorageInformationView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Total capacity. If storage is not ready (STORAGE_STATUS_READY) value will be ignored. 
+     */
+    public final float totalCapacity() {
+        return readFloat(4);
+    }
+
+    /**
+     * Used capacity. If storage is not ready (STORAGE_STATUS_READY) value will be ignored. 
+     */
+    public final float usedCapacity() {
+        return readFloat(8);
+    }
+
+    /**
+     * Available storage capacity. If storage is not ready (STORAGE_STATUS_READY) value will be 
+     * ignored. 
+     */
+    public final float availableCapacity() {
+        return readFloat(12);
+    }
+
+    /**
+     * Read speed. 
+     */
+    public final float readSpeed() {
+        return readFloat(16);
+    }
+
+    /**
+     * Write speed. 
+     */
+    public final float writeSpeed() {
+        return readFloat(20);
+    }
+
+    /**
+     * Storage ID (1 for first, 2 for second, etc.) 
+     */
+    public final int storageId() {
+        return readUint8(24);
+    }
+
+    /**
+     * Number of storage devices 
+     */
+    public final int storageCount() {
+        return readUint8(25);
+    }
+
+    /**
+     * Status of storage 
+     * <p>
+     * This returns the raw value of the field, see {@link StorageStatus}.
+     */
+    public final int status() {
+        return readUint8(26);
+    }
+
+    /**
+     * Type of storage 
+     * <p>
+     * This returns the raw value of the field, see {@link StorageType}.
+     */
+    public final int type() {
+        return readUint8(27);
+    }
+
+    /**
+     * Textual storage name to be used in UI (microSD 1, Internal Memory, etc.) This is a NULL 
+     * terminated string. If it is exactly 32 characters long, add a terminating NULL. If this string 
+     * is empty, the generic type is shown to the user. 
+     */
+    public final String name() {
+        return readString(28, 32);
+    }
+
+    /**
+     * Flags indicating whether this instance is preferred storage for photos, videos, etc. Note: 
+     * Implementations should initially set the flags on the system-default storage id used for 
+     * saving media (if possible/supported). This setting can then be overridden using 
+     * MAV_CMD_SET_STORAGE_USAGE. If the media usage flags are not set, a GCS may assume storage ID 1 
+     * is the default storage for all media types. 
+     * <p>
+     * This returns the raw value of the field, see {@link StorageUsageFlag}.
+     */
+    public final int storageUsage() {
+        return readUint8(60);
+    }
+}
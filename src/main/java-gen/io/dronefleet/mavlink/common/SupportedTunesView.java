@@ -0,0 +1,32 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SupportedTunes} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SupportedTunesView extends PayloadView<SupportedTunesView> {
+    /**
+     * Bitfield of supported tune formats. 
+     * <p>
+     * This returns the raw value of the field, see {@link TuneFormat}.
+     */
+    public final int format() {
+        return readInt32(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -29,7 +31,7 @@ import java.util.Objects;
         crc = 124,
         description = "The general system state. If the system is following the MAVLink standard, the system state is mainly defined by three orthogonal states/modes: The system mode, which is either LOCKED (motors shut down and locked), MANUAL (system under RC control), GUIDED (system with autonomous position control, position setpoint controlled manually) or AUTO (system guided by path/waypoint planner). The NAV_MODE defined the current flight state: LIFTOFF (often an open-loop maneuver), LANDING, WAYPOINTS or VECTOR. This represents the internal navigation state machine. The system status shows whether the system is currently active or not and if an emergency occurred. During the CRITICAL and EMERGENCY states the MAV is still considered to be active, but should start emergency procedures autonomously. After a failure occurred it should first move from active to critical to allow manual intervention and then move to emergency after a certain timeout."
 )
-public final class SysStatus {
+public final class SysStatus implements JsonWritable {
     private final EnumValue<MavSysStatusSensor> onboardControlSensorsPresent;
 
     private final EnumValue<MavSysStatusSensor> onboardControlSensorsEnabled;
@@ -353,6 +355,28 @@ public final class SysStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("onboardControlSensorsPresent").value(this.onboardControlSensorsPresent);
+        writer.name("onboardControlSensorsEnabled").value(this.onboardControlSensorsEnabled);
+        writer.name("onboardControlSensorsHealth").value(this.onboardControlSensorsHealth);
+        writer.name("load").value(this.load);
+        writer.name("voltageBattery").value(this.voltageBattery);
+        writer.name("currentBattery").value(this.currentBattery);
+        writer.name("batteryRemaining").value(this.batteryRemaining);
+        writer.name("dropRateComm").value(this.dropRateComm);
+        writer.name("errorsComm").value(this.errorsComm);
+        writer.name("errorsCount1").value(this.errorsCount1);
+        writer.name("errorsCount2").value(this.errorsCount2);
+        writer.name("errorsCount3").value(this.errorsCount3);
+        writer.name("errorsCount4").value(this.errorsCount4);
+        writer.name("onboardControlSensorsPresentExtended").value(this.onboardControlSensorsPresentExtended);
+        writer.name("onboardControlSensorsEnabledExtended").value(this.onboardControlSensorsEnabledExtended);
+        writer.name("onboardControlSensorsHealthExtended").value(this.onboardControlSensorsHealthExtended);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SysStatus{onboardControlSensorsPresent=" + onboardControlSensorsPresent
@@ -0,0 +1,141 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SysStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SysStatusView extends PayloadView<SysStatusView> {
+    /**
+     * Bitmap showing which onboard controllers and sensors are present. Value of 0: not present. 
+     * Value of 1: present. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensor}.
+     */
+    public final int onboardControlSensorsPresent() {
+        return readInt32(0);
+    }
+
+    /**
+     * Bitmap showing which onboard controllers and sensors are enabled: Value of 0: not enabled. 
+     * Value of 1: enabled. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensor}.
+     */
+    public final int onboardControlSensorsEnabled() {
+        return readInt32(4);
+    }
+
+    /**
+     * Bitmap showing which onboard controllers and sensors have an error (or are operational). 
+     * Value of 0: error. Value of 1: healthy. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensor}.
+     */
+    public final int onboardControlSensorsHealth() {
+        return readInt32(8);
+    }
+
+    /**
+     * Maximum usage in percent of the mainloop time. Values: [0-1000] - should always be below 1000 
+     */
+    public final int load() {
+        return readUint16(12);
+    }
+
+    /**
+     * Battery voltage, UINT16_MAX: Voltage not sent by autopilot 
+     */
+    public final int voltageBattery() {
+        return readUint16(14);
+    }
+
+    /**
+     * Battery current, -1: Current not sent by autopilot 
+     */
+    public final int currentBattery() {
+        return readInt16(16);
+    }
+
+    /**
+     * Communication drop rate, (UART, I2C, SPI, CAN), dropped packets on all links (packets that 
+     * were corrupted on reception on the MAV) 
+     */
+    public final int dropRateComm() {
+        return readUint16(18);
+    }
+
+    /**
+     * Communication errors (UART, I2C, SPI, CAN), dropped packets on all links (packets that were 
+     * corrupted on reception on the MAV) 
+     */
+    public final int errorsComm() {
+        return readUint16(20);
+    }
+
+    /**
+     * Autopilot-specific errors 
+     */
+    public final int errorsCount1() {
+        return readUint16(22);
+    }
+
+    /**
+     * Autopilot-specific errors 
+     */
+    public final int errorsCount2() {
+        return readUint16(24);
+    }
+
+    /**
+     * Autopilot-specific errors 
+     */
+    public final int errorsCount3() {
+        return readUint16(26);
+    }
+
+    /**
+     * Autopilot-specific errors 
+     */
+    public final int errorsCount4() {
+        return readUint16(28);
+    }
+
+    /**
+     * Battery energy remaining, -1: Battery remaining energy not sent by autopilot 
+     */
+    public final int batteryRemaining() {
+        return readInt8(30);
+    }
+
+    /**
+     * Bitmap showing which onboard controllers and sensors are present. Value of 0: not present. 
+     * Value of 1: present. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensorExtended}.
+     */
+    public final int onboardControlSensorsPresentExtended() {
+        return readInt32(31);
+    }
+
+    /**
+     * Bitmap showing which onboard controllers and sensors are enabled: Value of 0: not enabled. 
+     * Value of 1: enabled. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensorExtended}.
+     */
+    public final int onboardControlSensorsEnabledExtended() {
+        return readInt32(35);
+    }
+
+    /**
+     * Bitmap showing which onboard controllers and sensors have an error (or are operational). 
+     * Value of 0: error. Value of 1: healthy. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavSysStatusSensorExtended}.
+     */
+    public final int onboardControlSensorsHealthExtended() {
+        return readInt32(39);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +21,7 @@ import java.util.Objects;
         crc = 137,
         description = "The system time is the time of the master clock, typically the computer clock of the main onboard computer."
 )
-public final class SystemTime {
+public final class SystemTime implements JsonWritable {
     private final BigInteger timeUnixUsec;
 
     private final long timeBootMs;
@@ -78,6 +81,14 @@ public final class SystemTime {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUnixUsec").value(this.timeUnixUsec);
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SystemTime{timeUnixUsec=" + timeUnixUsec
@@ -102,6 +113,15 @@ public final class SystemTime {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX epoch time). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUnixUsec(long timeUnixUsec) {
+            return timeUnixUsec(UnsignedLongs.toBigInteger(timeUnixUsec));
+        }
+
         /**
          * Timestamp (time since system boot). 
          */
@@ -0,0 +1,25 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SystemTime} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SystemTimeView extends PayloadView<SystemTimeView> {
+    /**
+     * Timestamp (UNIX epoch time). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUnixUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(8);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 203,
         description = "Request that the vehicle report terrain height at the given location (expected response is a TERRAIN_REPORT). Used by GCS to check if vehicle has all terrain data needed for a mission."
 )
-public final class TerrainCheck {
+public final class TerrainCheck implements JsonWritable {
     private final int lat;
 
     private final int lon;
@@ -79,6 +81,14 @@ public final class TerrainCheck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TerrainCheck{lat=" + lat
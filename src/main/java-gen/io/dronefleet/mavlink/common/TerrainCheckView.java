@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TerrainCheck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TerrainCheckView extends PayloadView<TerrainCheckView> {
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(4);
+    }
+}
@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +24,7 @@ import java.util.Objects;
         crc = 229,
         description = "Terrain data sent from GCS. The lat/lon and grid_spacing must be the same as a lat/lon from a TERRAIN_REQUEST. See terrain protocol docs: https://mavlink.io/en/services/terrain.html"
 )
-public final class TerrainData {
+public final class TerrainData implements JsonWritable {
     private final int lat;
 
     private final int lon;
@@ -29,14 +33,14 @@ public final class TerrainData {
 
     private final int gridbit;
 
-    private final List<Integer> data;
+    private final IntArrayList data;
 
     private TerrainData(int lat, int lon, int gridSpacing, int gridbit, List<Integer> data) {
         this.lat = lat;
         this.lon = lon;
         this.gridSpacing = gridSpacing;
         this.gridbit = gridbit;
-        this.data = data;
+        this.data = IntArrayList.copyOf(data);
     }
 
     /**
@@ -111,6 +115,25 @@ public final class TerrainData {
         return this.data;
     }
 
+    /**
+     * Returns a copy of {@link #data()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] dataArray() {
+        return this.data != null ? this.data.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #data()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int data(int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.data != null && index < this.data.size() ? this.data.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -135,6 +158,17 @@ public final class TerrainData {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("gridSpacing").value(this.gridSpacing);
+        writer.name("gridbit").value(this.gridbit);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TerrainData{lat=" + lat
@@ -224,6 +258,13 @@ public final class TerrainData {
             return this;
         }
 
+        /**
+         * Terrain data MSL 
+         */
+        public final Builder data(int... data) {
+            return data(IntArrayList.of(data));
+        }
+
         public final TerrainData build() {
             return new TerrainData(lat, lon, gridSpacing, gridbit, data);
         }
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TerrainData} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TerrainDataView extends PayloadView<TerrainDataView> {
+    /**
+     * Latitude of SW corner of first grid 
+     */
+    public final int lat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude of SW corner of first grid 
+     */
+    public final int lon() {
+        return readInt32(4);
+    }
+
+    /**
+     * Grid spacing 
+     */
+    public final int gridSpacing() {
+        return readUint16(8);
+    }
+
+    /**
+     * Terrain data MSL 
+     */
+    public final int data(int index) {
+        return readInt16(elementPosition(10, 2, 16, index));
+    }
+
+    /**
+     * bit within the terrain request mask 
+     */
+    public final int gridbit() {
+        return readUint8(42);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +20,7 @@ import java.util.Objects;
         crc = 1,
         description = "Streamed from drone to report progress of terrain map download (initiated by TERRAIN_REQUEST), or sent as a response to a TERRAIN_CHECK request. See terrain protocol docs: https://mavlink.io/en/services/terrain.html"
 )
-public final class TerrainReport {
+public final class TerrainReport implements JsonWritable {
     private final int lat;
 
     private final int lon;
@@ -166,6 +168,19 @@ public final class TerrainReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("spacing").value(this.spacing);
+        writer.name("terrainHeight").value(this.terrainHeight);
+        writer.name("currentHeight").value(this.currentHeight);
+        writer.name("pending").value(this.pending);
+        writer.name("loaded").value(this.loaded);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TerrainReport{lat=" + lat
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TerrainReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TerrainReportView extends PayloadView<TerrainReportView> {
+    /**
+     * Latitude 
+     */
+    public final int lat() {
+        return readInt32(0);
+    }
+
+    /**
+     * Longitude 
+     */
+    public final int lon() {
+        return readInt32(4);
+    }
+
+    /**
+     * Terrain height MSL 
+     */
+    public final float terrainHeight() {
+        return readFloat(8);
+    }
+
+    /**
+     * Current vehicle height above lat/lon terrain height 
+     */
+    public final float currentHeight() {
+        return readFloat(12);
+    }
+
+    /**
+     * grid spacing (zero if terrain at this location unavailable) 
+     */
+    public final int spacing() {
+        return readUint16(16);
+    }
+
+    /**
+     * Number of 4x4 terrain blocks waiting to be received or read from disk 
+     */
+    public final int pending() {
+        return readUint16(18);
+    }
+
+    /**
+     * Number of 4x4 terrain blocks in memory 
+     */
+    public final int loaded() {
+        return readUint16(20);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -18,7 +21,7 @@ import java.util.Objects;
         crc = 6,
         description = "Request for terrain data and terrain status. See terrain protocol docs: https://mavlink.io/en/services/terrain.html"
 )
-public final class TerrainRequest {
+public final class TerrainRequest implements JsonWritable {
     private final int lat;
 
     private final int lon;
@@ -114,6 +117,16 @@ public final class TerrainRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("gridSpacing").value(this.gridSpacing);
+        writer.name("mask").value(this.mask);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TerrainRequest{lat=" + lat
@@ -185,6 +198,15 @@ public final class TerrainRequest {
             return this;
         }
 
+        /**
+         * Bitmask of requested 4x4 grids (row major 8x7 array of grids, 56 bits) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder mask(long mask) {
+            return mask(UnsignedLongs.toBigInteger(mask));
+        }
+
         public final TerrainRequest build() {
             return new TerrainRequest(lat, lon, gridSpacing, mask);
         }
@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TerrainRequest} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TerrainRequestView extends PayloadView<TerrainRequestView> {
+    /**
+     * Bitmask of requested 4x4 grids (row major 8x7 array of grids, 56 bits) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long mask() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude of SW corner of first grid 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude of SW corner of first grid 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Grid spacing 
+     */
+    public final int gridSpacing() {
+        return readUint16(16);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -24,7 +26,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class TimeEstimateToTarget {
+public final class TimeEstimateToTarget implements JsonWritable {
     private final int safeReturn;
 
     private final int land;
@@ -147,6 +149,17 @@ public final class TimeEstimateToTarget {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("safeReturn").value(this.safeReturn);
+        writer.name("land").value(this.land);
+        writer.name("missionNextItem").value(this.missionNextItem);
+        writer.name("missionEnd").value(this.missionEnd);
+        writer.name("commandedAction").value(this.commandedAction);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TimeEstimateToTarget{safeReturn=" + safeReturn
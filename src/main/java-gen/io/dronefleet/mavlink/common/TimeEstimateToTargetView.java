@@ -0,0 +1,52 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link TimeEstimateToTarget} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class TimeEstimateToTargetView extends PayloadView<TimeEstimateToTargetView> {
+    /**
+     * Estimated time to complete the vehicle's configured "safe return" action from its current 
+     * position (e.g. RTL, Smart RTL, etc.). -1 indicates that the vehicle is landed, or that no time 
+     * estimate available. 
+     */
+    public final int safeReturn() {
+        return readInt32(0);
+    }
+
+    /**
+     * Estimated time for vehicle to complete the LAND action from its current position. -1 indicates 
+     * that the vehicle is landed, or that no time estimate available. 
+     */
+    public final int land() {
+        return readInt32(4);
+    }
+
+    /**
+     * Estimated time for reaching/completing the currently active mission item. -1 means no time 
+     * estimate available. 
+     */
+    public final int missionNextItem() {
+        return readInt32(8);
+    }
+
+    /**
+     * Estimated time for completing the current mission. -1 means no mission active and/or no 
+     * estimate available. 
+     */
+    public final int missionEnd() {
+        return readInt32(12);
+    }
+
+    /**
+     * Estimated time for completing the current commanded action (i.e. Go To, Takeoff, Land, etc.). 
+     * -1 means no action active and/or no estimate available. 
+     */
+    public final int commandedAction() {
+        return readInt32(16);
+    }
+}
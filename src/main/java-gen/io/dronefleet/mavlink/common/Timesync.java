@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -34,7 +36,7 @@ import java.util.Objects;
                         + "        Timestamps are UNIX Epoch time or time since system boot in nanoseconds (the timestamp format can be inferred by checking for the magnitude of the number; generally it doesn't matter as only the offset is used).\n"
                         + "        The message sequence is repeated numerous times with results being filtered/averaged to estimate the offset."
 )
-public final class Timesync {
+public final class Timesync implements JsonWritable {
     private final long tc1;
 
     private final long ts1;
@@ -134,6 +136,16 @@ public final class Timesync {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("tc1").value(this.tc1);
+        writer.name("ts1").value(this.ts1);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Timesync{tc1=" + tc1
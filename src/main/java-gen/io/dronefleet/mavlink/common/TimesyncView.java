@@ -0,0 +1,39 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Timesync} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TimesyncView extends PayloadView<TimesyncView> {
+    /**
+     * Time sync timestamp 1. Syncing: 0. Responding: Timestamp of responding component. 
+     */
+    public final long tc1() {
+        return readInt64(0);
+    }
+
+    /**
+     * Time sync timestamp 2. Timestamp of syncing component (mirrored in response). 
+     */
+    public final long ts1() {
+        return readInt64(8);
+    }
+
+    /**
+     * Target system id. Request: 0 (broadcast) or id of specific system. Response must contain 
+     * system id of the requesting component. 
+     */
+    public final int targetSystem() {
+        return readUint8(16);
+    }
+
+    /**
+     * Target component id. Request: 0 (broadcast) or id of specific component. Response must 
+     * contain component id of the requesting component. 
+     */
+    public final int targetComponent() {
+        return readUint8(17);
+    }
+}
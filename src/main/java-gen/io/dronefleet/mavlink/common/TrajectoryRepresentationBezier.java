@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -20,30 +25,30 @@ import java.util.Objects;
         crc = 231,
         description = "Describe a trajectory using an array of up-to 5 bezier control points in the local frame (MAV_FRAME_LOCAL_NED)."
 )
-public final class TrajectoryRepresentationBezier {
+public final class TrajectoryRepresentationBezier implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int validPoints;
 
-    private final List<Float> posX;
+    private final FloatArrayList posX;
 
-    private final List<Float> posY;
+    private final FloatArrayList posY;
 
-    private final List<Float> posZ;
+    private final FloatArrayList posZ;
 
-    private final List<Float> delta;
+    private final FloatArrayList delta;
 
-    private final List<Float> posYaw;
+    private final FloatArrayList posYaw;
 
     private TrajectoryRepresentationBezier(BigInteger timeUsec, int validPoints, List<Float> posX,
             List<Float> posY, List<Float> posZ, List<Float> delta, List<Float> posYaw) {
         this.timeUsec = timeUsec;
         this.validPoints = validPoints;
-        this.posX = posX;
-        this.posY = posY;
-        this.posZ = posZ;
-        this.delta = delta;
-        this.posYaw = posYaw;
+        this.posX = FloatArrayList.copyOf(posX);
+        this.posY = FloatArrayList.copyOf(posY);
+        this.posZ = FloatArrayList.copyOf(posZ);
+        this.delta = FloatArrayList.copyOf(delta);
+        this.posYaw = FloatArrayList.copyOf(posYaw);
     }
 
     /**
@@ -92,6 +97,25 @@ public final class TrajectoryRepresentationBezier {
         return this.posX;
     }
 
+    /**
+     * Returns a copy of {@link #posX()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posXArray() {
+        return this.posX != null ? this.posX.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posX()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posX(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posX != null && index < this.posX.size() ? this.posX.getFloat(index) : 0;
+    }
+
     /**
      * Y-coordinate of bezier control points. Set to NaN if not being used 
      */
@@ -105,6 +129,25 @@ public final class TrajectoryRepresentationBezier {
         return this.posY;
     }
 
+    /**
+     * Returns a copy of {@link #posY()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posYArray() {
+        return this.posY != null ? this.posY.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posY()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posY(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posY != null && index < this.posY.size() ? this.posY.getFloat(index) : 0;
+    }
+
     /**
      * Z-coordinate of bezier control points. Set to NaN if not being used 
      */
@@ -118,6 +161,25 @@ public final class TrajectoryRepresentationBezier {
         return this.posZ;
     }
 
+    /**
+     * Returns a copy of {@link #posZ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posZArray() {
+        return this.posZ != null ? this.posZ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posZ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posZ(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posZ != null && index < this.posZ.size() ? this.posZ.getFloat(index) : 0;
+    }
+
     /**
      * Bezier time horizon. Set to NaN if velocity/acceleration should not be incorporated 
      */
@@ -131,6 +193,25 @@ public final class TrajectoryRepresentationBezier {
         return this.delta;
     }
 
+    /**
+     * Returns a copy of {@link #delta()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] deltaArray() {
+        return this.delta != null ? this.delta.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #delta()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float delta(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.delta != null && index < this.delta.size() ? this.delta.getFloat(index) : 0;
+    }
+
     /**
      * Yaw. Set to NaN for unchanged 
      */
@@ -144,6 +225,25 @@ public final class TrajectoryRepresentationBezier {
         return this.posYaw;
     }
 
+    /**
+     * Returns a copy of {@link #posYaw()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posYawArray() {
+        return this.posYaw != null ? this.posYaw.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posYaw()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posYaw(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posYaw != null && index < this.posYaw.size() ? this.posYaw.getFloat(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -172,6 +272,19 @@ public final class TrajectoryRepresentationBezier {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("validPoints").value(this.validPoints);
+        writer.name("posX").value(this.posX);
+        writer.name("posY").value(this.posY);
+        writer.name("posZ").value(this.posZ);
+        writer.name("delta").value(this.delta);
+        writer.name("posYaw").value(this.posYaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TrajectoryRepresentationBezier{timeUsec=" + timeUsec
@@ -212,6 +325,16 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Number of valid control points (up-to 5 points are possible) 
          */
@@ -239,6 +362,13 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * X-coordinate of bezier control points. Set to NaN if not being used 
+         */
+        public final Builder posX(float... posX) {
+            return posX(FloatArrayList.of(posX));
+        }
+
         /**
          * Y-coordinate of bezier control points. Set to NaN if not being used 
          */
@@ -253,6 +383,13 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * Y-coordinate of bezier control points. Set to NaN if not being used 
+         */
+        public final Builder posY(float... posY) {
+            return posY(FloatArrayList.of(posY));
+        }
+
         /**
          * Z-coordinate of bezier control points. Set to NaN if not being used 
          */
@@ -267,6 +404,13 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * Z-coordinate of bezier control points. Set to NaN if not being used 
+         */
+        public final Builder posZ(float... posZ) {
+            return posZ(FloatArrayList.of(posZ));
+        }
+
         /**
          * Bezier time horizon. Set to NaN if velocity/acceleration should not be incorporated 
          */
@@ -281,6 +425,13 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * Bezier time horizon. Set to NaN if velocity/acceleration should not be incorporated 
+         */
+        public final Builder delta(float... delta) {
+            return delta(FloatArrayList.of(delta));
+        }
+
         /**
          * Yaw. Set to NaN for unchanged 
          */
@@ -295,6 +446,13 @@ public final class TrajectoryRepresentationBezier {
             return this;
         }
 
+        /**
+         * Yaw. Set to NaN for unchanged 
+         */
+        public final Builder posYaw(float... posYaw) {
+            return posYaw(FloatArrayList.of(posYaw));
+        }
+
         public final TrajectoryRepresentationBezier build() {
             return new TrajectoryRepresentationBezier(timeUsec, validPoints, posX, posY, posZ, delta, posYaw);
         }
@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TrajectoryRepresentationBezier} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TrajectoryRepresentationBezierView extends PayloadView<TrajectoryRepresentationBezierView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X-coordinate of bezier control points. Set to NaN if not being used 
+     */
+    public final float posX(int index) {
+        return readFloat(elementPosition(8, 4, 5, index));
+    }
+
+    /**
+     * Y-coordinate of bezier control points. Set to NaN if not being used 
+     */
+    public final float posY(int index) {
+        return readFloat(elementPosition(28, 4, 5, index));
+    }
+
+    /**
+     * Z-coordinate of bezier control points. Set to NaN if not being used 
+     */
+    public final float posZ(int index) {
+        return readFloat(elementPosition(48, 4, 5, index));
+    }
+
+    /**
+     * Bezier time horizon. Set to NaN if velocity/acceleration should not be incorporated 
+     */
+    public final float delta(int index) {
+        return readFloat(elementPosition(68, 4, 5, index));
+    }
+
+    /**
+     * Yaw. Set to NaN for unchanged 
+     */
+    public final float posYaw(int index) {
+        return readFloat(elementPosition(88, 4, 5, index));
+    }
+
+    /**
+     * Number of valid control points (up-to 5 points are possible) 
+     */
+    public final int validPoints() {
+        return readUint8(108);
+    }
+}
@@ -3,9 +3,14 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,32 +28,32 @@ import java.util.Objects;
         crc = 236,
         description = "Describe a trajectory using an array of up-to 5 waypoints in the local frame (MAV_FRAME_LOCAL_NED)."
 )
-public final class TrajectoryRepresentationWaypoints {
+public final class TrajectoryRepresentationWaypoints implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int validPoints;
 
-    private final List<Float> posX;
+    private final FloatArrayList posX;
 
-    private final List<Float> posY;
+    private final FloatArrayList posY;
 
-    private final List<Float> posZ;
+    private final FloatArrayList posZ;
 
-    private final List<Float> velX;
+    private final FloatArrayList velX;
 
-    private final List<Float> velY;
+    private final FloatArrayList velY;
 
-    private final List<Float> velZ;
+    private final FloatArrayList velZ;
 
-    private final List<Float> accX;
+    private final FloatArrayList accX;
 
-    private final List<Float> accY;
+    private final FloatArrayList accY;
 
-    private final List<Float> accZ;
+    private final FloatArrayList accZ;
 
-    private final List<Float> posYaw;
+    private final FloatArrayList posYaw;
 
-    private final List<Float> velYaw;
+    private final FloatArrayList velYaw;
 
     private final EnumValue<MavCmd> command;
 
@@ -58,17 +63,17 @@ public final class TrajectoryRepresentationWaypoints {
             List<Float> accZ, List<Float> posYaw, List<Float> velYaw, EnumValue<MavCmd> command) {
         this.timeUsec = timeUsec;
         this.validPoints = validPoints;
-        this.posX = posX;
-        this.posY = posY;
-        this.posZ = posZ;
-        this.velX = velX;
-        this.velY = velY;
-        this.velZ = velZ;
-        this.accX = accX;
-        this.accY = accY;
-        this.accZ = accZ;
-        this.posYaw = posYaw;
-        this.velYaw = velYaw;
+        this.posX = FloatArrayList.copyOf(posX);
+        this.posY = FloatArrayList.copyOf(posY);
+        this.posZ = FloatArrayList.copyOf(posZ);
+        this.velX = FloatArrayList.copyOf(velX);
+        this.velY = FloatArrayList.copyOf(velY);
+        this.velZ = FloatArrayList.copyOf(velZ);
+        this.accX = FloatArrayList.copyOf(accX);
+        this.accY = FloatArrayList.copyOf(accY);
+        this.accZ = FloatArrayList.copyOf(accZ);
+        this.posYaw = FloatArrayList.copyOf(posYaw);
+        this.velYaw = FloatArrayList.copyOf(velYaw);
         this.command = command;
     }
 
@@ -118,6 +123,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.posX;
     }
 
+    /**
+     * Returns a copy of {@link #posX()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posXArray() {
+        return this.posX != null ? this.posX.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posX()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posX(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posX != null && index < this.posX.size() ? this.posX.getFloat(index) : 0;
+    }
+
     /**
      * Y-coordinate of waypoint, set to NaN if not being used 
      */
@@ -131,6 +155,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.posY;
     }
 
+    /**
+     * Returns a copy of {@link #posY()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posYArray() {
+        return this.posY != null ? this.posY.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posY()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posY(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posY != null && index < this.posY.size() ? this.posY.getFloat(index) : 0;
+    }
+
     /**
      * Z-coordinate of waypoint, set to NaN if not being used 
      */
@@ -144,6 +187,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.posZ;
     }
 
+    /**
+     * Returns a copy of {@link #posZ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posZArray() {
+        return this.posZ != null ? this.posZ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posZ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posZ(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posZ != null && index < this.posZ.size() ? this.posZ.getFloat(index) : 0;
+    }
+
     /**
      * X-velocity of waypoint, set to NaN if not being used 
      */
@@ -157,6 +219,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.velX;
     }
 
+    /**
+     * Returns a copy of {@link #velX()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velXArray() {
+        return this.velX != null ? this.velX.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velX()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velX(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velX != null && index < this.velX.size() ? this.velX.getFloat(index) : 0;
+    }
+
     /**
      * Y-velocity of waypoint, set to NaN if not being used 
      */
@@ -170,6 +251,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.velY;
     }
 
+    /**
+     * Returns a copy of {@link #velY()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velYArray() {
+        return this.velY != null ? this.velY.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velY()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velY(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velY != null && index < this.velY.size() ? this.velY.getFloat(index) : 0;
+    }
+
     /**
      * Z-velocity of waypoint, set to NaN if not being used 
      */
@@ -183,6 +283,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.velZ;
     }
 
+    /**
+     * Returns a copy of {@link #velZ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velZArray() {
+        return this.velZ != null ? this.velZ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velZ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velZ(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velZ != null && index < this.velZ.size() ? this.velZ.getFloat(index) : 0;
+    }
+
     /**
      * X-acceleration of waypoint, set to NaN if not being used 
      */
@@ -196,6 +315,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.accX;
     }
 
+    /**
+     * Returns a copy of {@link #accX()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] accXArray() {
+        return this.accX != null ? this.accX.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #accX()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float accX(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.accX != null && index < this.accX.size() ? this.accX.getFloat(index) : 0;
+    }
+
     /**
      * Y-acceleration of waypoint, set to NaN if not being used 
      */
@@ -209,6 +347,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.accY;
     }
 
+    /**
+     * Returns a copy of {@link #accY()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] accYArray() {
+        return this.accY != null ? this.accY.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #accY()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float accY(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.accY != null && index < this.accY.size() ? this.accY.getFloat(index) : 0;
+    }
+
     /**
      * Z-acceleration of waypoint, set to NaN if not being used 
      */
@@ -222,6 +379,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.accZ;
     }
 
+    /**
+     * Returns a copy of {@link #accZ()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] accZArray() {
+        return this.accZ != null ? this.accZ.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #accZ()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float accZ(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.accZ != null && index < this.accZ.size() ? this.accZ.getFloat(index) : 0;
+    }
+
     /**
      * Yaw angle, set to NaN if not being used 
      */
@@ -235,6 +411,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.posYaw;
     }
 
+    /**
+     * Returns a copy of {@link #posYaw()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] posYawArray() {
+        return this.posYaw != null ? this.posYaw.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #posYaw()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float posYaw(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.posYaw != null && index < this.posYaw.size() ? this.posYaw.getFloat(index) : 0;
+    }
+
     /**
      * Yaw rate, set to NaN if not being used 
      */
@@ -248,6 +443,25 @@ public final class TrajectoryRepresentationWaypoints {
         return this.velYaw;
     }
 
+    /**
+     * Returns a copy of {@link #velYaw()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] velYawArray() {
+        return this.velYaw != null ? this.velYaw.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #velYaw()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float velYaw(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.velYaw != null && index < this.velYaw.size() ? this.velYaw.getFloat(index) : 0;
+    }
+
     /**
      * {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} command id of waypoint, set to UINT16_MAX if not being used. 
      */
@@ -304,6 +518,26 @@ public final class TrajectoryRepresentationWaypoints {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("validPoints").value(this.validPoints);
+        writer.name("posX").value(this.posX);
+        writer.name("posY").value(this.posY);
+        writer.name("posZ").value(this.posZ);
+        writer.name("velX").value(this.velX);
+        writer.name("velY").value(this.velY);
+        writer.name("velZ").value(this.velZ);
+        writer.name("accX").value(this.accX);
+        writer.name("accY").value(this.accY);
+        writer.name("accZ").value(this.accZ);
+        writer.name("posYaw").value(this.posYaw);
+        writer.name("velYaw").value(this.velYaw);
+        writer.name("command").value(this.command);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "TrajectoryRepresentationWaypoints{timeUsec=" + timeUsec
@@ -365,6 +599,16 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Number of valid points (up-to 5 waypoints are possible) 
          */
@@ -392,6 +636,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * X-coordinate of waypoint, set to NaN if not being used 
+         */
+        public final Builder posX(float... posX) {
+            return posX(FloatArrayList.of(posX));
+        }
+
         /**
          * Y-coordinate of waypoint, set to NaN if not being used 
          */
@@ -406,6 +657,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Y-coordinate of waypoint, set to NaN if not being used 
+         */
+        public final Builder posY(float... posY) {
+            return posY(FloatArrayList.of(posY));
+        }
+
         /**
          * Z-coordinate of waypoint, set to NaN if not being used 
          */
@@ -420,6 +678,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Z-coordinate of waypoint, set to NaN if not being used 
+         */
+        public final Builder posZ(float... posZ) {
+            return posZ(FloatArrayList.of(posZ));
+        }
+
         /**
          * X-velocity of waypoint, set to NaN if not being used 
          */
@@ -434,6 +699,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * X-velocity of waypoint, set to NaN if not being used 
+         */
+        public final Builder velX(float... velX) {
+            return velX(FloatArrayList.of(velX));
+        }
+
         /**
          * Y-velocity of waypoint, set to NaN if not being used 
          */
@@ -448,6 +720,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Y-velocity of waypoint, set to NaN if not being used 
+         */
+        public final Builder velY(float... velY) {
+            return velY(FloatArrayList.of(velY));
+        }
+
         /**
          * Z-velocity of waypoint, set to NaN if not being used 
          */
@@ -462,6 +741,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Z-velocity of waypoint, set to NaN if not being used 
+         */
+        public final Builder velZ(float... velZ) {
+            return velZ(FloatArrayList.of(velZ));
+        }
+
         /**
          * X-acceleration of waypoint, set to NaN if not being used 
          */
@@ -476,6 +762,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * X-acceleration of waypoint, set to NaN if not being used 
+         */
+        public final Builder accX(float... accX) {
+            return accX(FloatArrayList.of(accX));
+        }
+
         /**
          * Y-acceleration of waypoint, set to NaN if not being used 
          */
@@ -490,6 +783,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Y-acceleration of waypoint, set to NaN if not being used 
+         */
+        public final Builder accY(float... accY) {
+            return accY(FloatArrayList.of(accY));
+        }
+
         /**
          * Z-acceleration of waypoint, set to NaN if not being used 
          */
@@ -504,6 +804,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Z-acceleration of waypoint, set to NaN if not being used 
+         */
+        public final Builder accZ(float... accZ) {
+            return accZ(FloatArrayList.of(accZ));
+        }
+
         /**
          * Yaw angle, set to NaN if not being used 
          */
@@ -518,6 +825,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Yaw angle, set to NaN if not being used 
+         */
+        public final Builder posYaw(float... posYaw) {
+            return posYaw(FloatArrayList.of(posYaw));
+        }
+
         /**
          * Yaw rate, set to NaN if not being used 
          */
@@ -532,6 +846,13 @@ public final class TrajectoryRepresentationWaypoints {
             return this;
         }
 
+        /**
+         * Yaw rate, set to NaN if not being used 
+         */
+        public final Builder velYaw(float... velYaw) {
+            return velYaw(FloatArrayList.of(velYaw));
+        }
+
         /**
          * {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} command id of waypoint, set to UINT16_MAX if not being used. 
          */
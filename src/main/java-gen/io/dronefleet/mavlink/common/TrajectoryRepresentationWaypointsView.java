@@ -0,0 +1,112 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link TrajectoryRepresentationWaypoints} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TrajectoryRepresentationWaypointsView extends PayloadView<TrajectoryRepresentationWaypointsView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * X-coordinate of waypoint, set to NaN if not being used 
+     */
+    public final float posX(int index) {
+        return readFloat(elementPosition(8, 4, 5, index));
+    }
+
+    /**
+     * Y-coordinate of waypoint, set to NaN if not being used 
+     */
+    public final float posY(int index) {
+        return readFloat(elementPosition(28, 4, 5, index));
+    }
+
+    /**
+     * Z-coordinate of waypoint, set to NaN if not being used 
+     */
+    public final float posZ(int index) {
+        return readFloat(elementPosition(48, 4, 5, index));
+    }
+
+    /**
+     * X-velocity of waypoint, set to NaN if not being used 
+     */
+    public final float velX(int index) {
+        return readFloat(elementPosition(68, 4, 5, index));
+    }
+
+    /**
+     * Y-velocity of waypoint, set to NaN if not being used 
+     */
+    public final float velY(int index) {
+        return readFloat(elementPosition(88, 4, 5, index));
+    }
+
+    /**
+     * Z-velocity of waypoint, set to NaN if not being used 
+     */
+    public final float velZ(int index) {
+        return readFloat(elementPosition(108, 4, 5, index));
+    }
+
+    /**
+     * X-acceleration of waypoint, set to NaN if not being used 
+     */
+    public final float accX(int index) {
+        return readFloat(elementPosition(128, 4, 5, index));
+    }
+
+    /**
+     * Y-acceleration of waypoint, set to NaN if not being used 
+     */
+    public final float accY(int index) {
+        return readFloat(elementPosition(148, 4, 5, index));
+    }
+
+    /**
+     * Z-acceleration of waypoint, set to NaN if not being used 
+     */
+    public final float accZ(int index) {
+        return readFloat(elementPosition(168, 4, 5, index));
+    }
+
+    /**
+     * Yaw angle, set to NaN if not being used 
+     */
+    public final float posYaw(int index) {
+        return readFloat(elementPosition(188, 4, 5, index));
+    }
+
+    /**
+     * Yaw rate, set to NaN if not being used 
+     */
+    public final float velYaw(int index) {
+        return readFloat(elementPosition(208, 4, 5, index));
+    }
+
+    /**
+     * {@link io.dronefleet.mavlink.common.MavCmd MAV_CMD} command id of waypoint, set to UINT16_MAX if not being used. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavCmd}.
+     */
+    public final int command(int index) {
+        return readUint16(elementPosition(228, 2, 5, index));
+    }
+
+    /**
+     * Number of valid points (up-to 5 waypoints are possible) 
+     */
+    public final int validPoints() {
+        return readUint8(238);
+    }
+}
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Tunnel} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class TunnelView extends PayloadView<TunnelView> {
+    /**
+     * A code that identifies the content of the payload (0 for unknown, which is the default). If this 
+     * code is less than 32768, it is a 'registered' payload type and the corresponding code should be 
+     * added to the {@link io.dronefleet.mavlink.common.MavTunnelPayloadType MAV_TUNNEL_PAYLOAD_TYPE} enum. Software creators can register blocks of types as 
+     * needed. Codes greater than 32767 are considered local experiments and should not be checked in 
+     * to any widely distributed codebase. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavTunnelPayloadType}.
+     */
+    public final int payloadType() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID (can be 0 for broadcast, but this is discouraged) 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID (can be 0 for broadcast, but this is discouraged) 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * Length of the data transported in payload 
+     */
+    public final int payloadLength() {
+        return readUint8(4);
+    }
+
+    /**
+     * Variable length payload. The payload length is defined by payload_length. The entire content 
+     * of this block is opaque unless you understand the encoding specified by payload_type. 
+     */
+    public final int payload(int index) {
+        return readUint8(elementPosition(5, 1, 128, index));
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,7 +26,7 @@ import java.util.Objects;
         crc = 95,
         description = "General information describing a particular UAVCAN node. Please refer to the definition of the UAVCAN service \"uavcan.protocol.GetNodeInfo\" for the background information. This message should be emitted by the system whenever a new node appears online, or an existing node reboots. Additionally, it can be emitted upon request from the other end of the MAVLink channel (see MAV_CMD_UAVCAN_GET_NODE_INFO). It is also not prohibited to emit this message unconditionally at a low frequency. The UAVCAN specification is available at http://uavcan.org."
 )
-public final class UavcanNodeInfo {
+public final class UavcanNodeInfo implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final long uptimeSec;
@@ -207,6 +210,21 @@ public final class UavcanNodeInfo {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("uptimeSec").value(this.uptimeSec);
+        writer.name("name").value(this.name);
+        writer.name("hwVersionMajor").value(this.hwVersionMajor);
+        writer.name("hwVersionMinor").value(this.hwVersionMinor);
+        writer.name("hwUniqueId").value(this.hwUniqueId);
+        writer.name("swVersionMajor").value(this.swVersionMajor);
+        writer.name("swVersionMinor").value(this.swVersionMinor);
+        writer.name("swVcsCommit").value(this.swVcsCommit);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UavcanNodeInfo{timeUsec=" + timeUsec
@@ -253,6 +271,16 @@ public final class UavcanNodeInfo {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Time since the start-up of the node. 
          */
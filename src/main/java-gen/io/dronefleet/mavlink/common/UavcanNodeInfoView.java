@@ -0,0 +1,76 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link UavcanNodeInfo} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavcanNodeInfoView extends PayloadView<UavcanNodeInfoView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Time since the start-up of the node. 
+     */
+    public final long uptimeSec() {
+        return readUint32(8);
+    }
+
+    /**
+     * Version control system (VCS) revision identifier (e.g. git short commit hash). 0 if unknown. 
+     */
+    public final long swVcsCommit() {
+        return readUint32(12);
+    }
+
+    /**
+     * Node name string. For example, "sapog.px4.io". 
+     */
+    public final String name() {
+        return readString(16, 80);
+    }
+
+    /**
+     * Hardware major version number. 
+     */
+    public final int hwVersionMajor() {
+        return readUint8(96);
+    }
+
+    /**
+     * Hardware minor version number. 
+     */
+    public final int hwVersionMinor() {
+        return readUint8(97);
+    }
+
+    /**
+     * Hardware unique 128-bit ID. 
+     */
+    public final int hwUniqueId(int index) {
+        return readUint8(elementPosition(98, 1, 16, index));
+    }
+
+    /**
+     * Software major version number. 
+     */
+    public final int swVersionMajor() {
+        return readUint8(114);
+    }
+
+    /**
+     * Software minor version number. 
+     */
+    public final int swVersionMinor() {
+        return readUint8(115);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -22,7 +25,7 @@ import java.util.Objects;
         crc = 28,
         description = "General status information of an UAVCAN node. Please refer to the definition of the UAVCAN message \"uavcan.protocol.NodeStatus\" for the background information. The UAVCAN specification is available at http://uavcan.org."
 )
-public final class UavcanNodeStatus {
+public final class UavcanNodeStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final long uptimeSec;
@@ -155,6 +158,18 @@ public final class UavcanNodeStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("uptimeSec").value(this.uptimeSec);
+        writer.name("health").value(this.health);
+        writer.name("mode").value(this.mode);
+        writer.name("subMode").value(this.subMode);
+        writer.name("vendorSpecificStatusCode").value(this.vendorSpecificStatusCode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UavcanNodeStatus{timeUsec=" + timeUsec
@@ -192,6 +207,16 @@ public final class UavcanNodeStatus {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Time since the start-up of the node. 
          */
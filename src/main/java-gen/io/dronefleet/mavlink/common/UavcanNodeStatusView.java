@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UavcanNodeStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavcanNodeStatusView extends PayloadView<UavcanNodeStatusView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Time since the start-up of the node. 
+     */
+    public final long uptimeSec() {
+        return readUint32(8);
+    }
+
+    /**
+     * Vendor-specific status information. 
+     */
+    public final int vendorSpecificStatusCode() {
+        return readUint16(12);
+    }
+
+    /**
+     * Generalized node health status. 
+     * <p>
+     * This returns the raw value of the field, see {@link UavcanNodeHealth}.
+     */
+    public final int health() {
+        return readUint8(14);
+    }
+
+    /**
+     * Generalized operating mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link UavcanNodeMode}.
+     */
+    public final int mode() {
+        return readUint8(15);
+    }
+
+    /**
+     * Not used currently. 
+     */
+    public final int subMode() {
+        return readUint8(16);
+    }
+}
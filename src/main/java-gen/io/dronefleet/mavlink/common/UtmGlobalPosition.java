@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 99,
         description = "The global position resulting from GPS and sensor fusion."
 )
-public final class UtmGlobalPosition {
+public final class UtmGlobalPosition implements JsonWritable {
     private final BigInteger time;
 
     private final byte[] uasId;
@@ -368,6 +371,30 @@ public final class UtmGlobalPosition {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("time").value(this.time);
+        writer.name("uasId").value(this.uasId);
+        writer.name("lat").value(this.lat);
+        writer.name("lon").value(this.lon);
+        writer.name("alt").value(this.alt);
+        writer.name("relativeAlt").value(this.relativeAlt);
+        writer.name("vx").value(this.vx);
+        writer.name("vy").value(this.vy);
+        writer.name("vz").value(this.vz);
+        writer.name("hAcc").value(this.hAcc);
+        writer.name("vAcc").value(this.vAcc);
+        writer.name("velAcc").value(this.velAcc);
+        writer.name("nextLat").value(this.nextLat);
+        writer.name("nextLon").value(this.nextLon);
+        writer.name("nextAlt").value(this.nextAlt);
+        writer.name("updateRate").value(this.updateRate);
+        writer.name("flightState").value(this.flightState);
+        writer.name("flags").value(this.flags);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UtmGlobalPosition{time=" + time
@@ -440,6 +467,15 @@ public final class UtmGlobalPosition {
             return this;
         }
 
+        /**
+         * Time of applicability of position (microseconds since UNIX epoch). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder time(long time) {
+            return time(UnsignedLongs.toBigInteger(time));
+        }
+
         /**
          * Unique UAS ID. 
          */
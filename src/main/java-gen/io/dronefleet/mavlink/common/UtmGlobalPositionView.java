@@ -0,0 +1,141 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UtmGlobalPosition} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UtmGlobalPositionView extends PayloadView<UtmGlobalPositionView> {
+    /**
+     * Time of applicability of position (microseconds since UNIX epoch). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long time() {
+        return readInt64(0);
+    }
+
+    /**
+     * Latitude (WGS84) 
+     */
+    public final int lat() {
+        return readInt32(8);
+    }
+
+    /**
+     * Longitude (WGS84) 
+     */
+    public final int lon() {
+        return readInt32(12);
+    }
+
+    /**
+     * Altitude (WGS84) 
+     */
+    public final int alt() {
+        return readInt32(16);
+    }
+
+    /**
+     * Altitude above ground 
+     */
+    public final int relativeAlt() {
+        return readInt32(20);
+    }
+
+    /**
+     * Next waypoint, latitude (WGS84) 
+     */
+    public final int nextLat() {
+        return readInt32(24);
+    }
+
+    /**
+     * Next waypoint, longitude (WGS84) 
+     */
+    public final int nextLon() {
+        return readInt32(28);
+    }
+
+    /**
+     * Next waypoint, altitude (WGS84) 
+     */
+    public final int nextAlt() {
+        return readInt32(32);
+    }
+
+    /**
+     * Ground X speed (latitude, positive north) 
+     */
+    public final int vx() {
+        return readInt16(36);
+    }
+
+    /**
+     * Ground Y speed (longitude, positive east) 
+     */
+    public final int vy() {
+        return readInt16(38);
+    }
+
+    /**
+     * Ground Z speed (altitude, positive down) 
+     */
+    public final int vz() {
+        return readInt16(40);
+    }
+
+    /**
+     * Horizontal position uncertainty (standard deviation) 
+     */
+    public final int hAcc() {
+        return readUint16(42);
+    }
+
+    /**
+     * Altitude uncertainty (standard deviation) 
+     */
+    public final int vAcc() {
+        return readUint16(44);
+    }
+
+    /**
+     * Speed uncertainty (standard deviation) 
+     */
+    public final int velAcc() {
+        return readUint16(46);
+    }
+
+    /**
+     * Time until next update. Set to 0 if unknown or in data driven mode. 
+     */
+    public final int updateRate() {
+        return readUint16(48);
+    }
+
+    /**
+     * Unique UAS ID. 
+     */
+    public final int uasId(int index) {
+        return readUint8(elementPosition(50, 1, 18, index));
+    }
+
+    /**
+     * Flight state 
+     * <p>
+     * This returns the raw value of the field, see {@link UtmFlightState}.
+     */
+    public final int flightState() {
+        return readUint8(68);
+    }
+
+    /**
+     * Bitwise OR combination of the data available flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link UtmDataAvailFlags}.
+     */
+    public final int flags() {
+        return readUint8(69);
+    }
+}
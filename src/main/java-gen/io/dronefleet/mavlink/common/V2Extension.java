@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 8,
         description = "Message implementing parts of the V2 payload specs in V1 frames for transitional support."
 )
-public final class V2Extension {
+public final class V2Extension implements JsonWritable {
     private final int targetNetwork;
 
     private final int targetSystem;
@@ -141,6 +143,17 @@ public final class V2Extension {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetNetwork").value(this.targetNetwork);
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("messageType").value(this.messageType);
+        writer.name("payload").value(this.payload);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "V2Extension{targetNetwork=" + targetNetwork
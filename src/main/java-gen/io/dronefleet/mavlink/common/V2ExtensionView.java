@@ -0,0 +1,56 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link V2Extension} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class V2ExtensionView extends PayloadView<V2ExtensionView> {
+    /**
+     * A code that identifies the software component that understands this message (analogous to USB 
+     * device classes or mime type strings). If this code is less than 32768, it is considered a 
+     * 'registered' protocol extension and the corresponding entry should be added to 
+     * https://github.com/mavlink/mavlink/definition_files/extension_message_ids.xml. 
+     * Software creators can register blocks of message IDs as needed (useful for GCS specific 
+     * metadata, etc...). Message_types greater than 32767 are considered local experiments and 
+     * should not be checked in to any widely distributed codebase. 
+     */
+    public final int messageType() {
+        return readUint16(0);
+    }
+
+    /**
+     * Network ID (0 for broadcast) 
+     */
+    public final int targetNetwork() {
+        return readUint8(2);
+    }
+
+    /**
+     * System ID (0 for broadcast) 
+     */
+    public final int targetSystem() {
+        return readUint8(3);
+    }
+
+    /**
+     * Component ID (0 for broadcast) 
+     */
+    public final int targetComponent() {
+        return readUint8(4);
+    }
+
+    /**
+     * Variable length payload. The length must be encoded in the payload as part of the message_type 
+     * protocol, e.g. by including the length as payload data, or by terminating the payload data with 
+     * a non-zero marker. This is required in order to reconstruct zero-terminated payloads that are 
+     * (or otherwise would be) trimmed by MAVLink 2 empty-byte truncation. The entire content of the 
+     * payload block is opaque unless you understand the encoding message_type. The particular 
+     * encoding used can be extension specific and might not always be documented as part of the 
+     * MAVLink specification. 
+     */
+    public final int payload(int index) {
+        return readUint8(elementPosition(5, 1, 249, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 20,
         description = "Metrics typically displayed on a HUD for fixed wing aircraft."
 )
-public final class VfrHud {
+public final class VfrHud implements JsonWritable {
     private final float airspeed;
 
     private final float groundspeed;
@@ -148,6 +150,18 @@ public final class VfrHud {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("airspeed").value(this.airspeed);
+        writer.name("groundspeed").value(this.groundspeed);
+        writer.name("heading").value(this.heading);
+        writer.name("throttle").value(this.throttle);
+        writer.name("alt").value(this.alt);
+        writer.name("climb").value(this.climb);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VfrHud{airspeed=" + airspeed
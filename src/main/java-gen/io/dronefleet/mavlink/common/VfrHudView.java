@@ -0,0 +1,53 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link VfrHud} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VfrHudView extends PayloadView<VfrHudView> {
+    /**
+     * Vehicle speed in form appropriate for vehicle type. For standard aircraft this is typically 
+     * calibrated airspeed (CAS) or indicated airspeed (IAS) - either of which can be used by a pilot to 
+     * estimate stall speed. 
+     */
+    public final float airspeed() {
+        return readFloat(0);
+    }
+
+    /**
+     * Current ground speed. 
+     */
+    public final float groundspeed() {
+        return readFloat(4);
+    }
+
+    /**
+     * Current altitude (MSL). 
+     */
+    public final float alt() {
+        return readFloat(8);
+    }
+
+    /**
+     * Current climb rate. 
+     */
+    public final float climb() {
+        return readFloat(12);
+    }
+
+    /**
+     * Current heading in compass units (0-360, 0=north). 
+     */
+    public final int heading() {
+        return readInt16(16);
+    }
+
+    /**
+     * Current throttle setting (0 to 100). 
+     */
+    public final int throttle() {
+        return readUint16(18);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 90,
         description = "Vibration levels and accelerometer clipping"
 )
-public final class Vibration {
+public final class Vibration implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float vibrationX;
@@ -164,6 +167,19 @@ public final class Vibration {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("vibrationX").value(this.vibrationX);
+        writer.name("vibrationY").value(this.vibrationY);
+        writer.name("vibrationZ").value(this.vibrationZ);
+        writer.name("clipping0").value(this.clipping0);
+        writer.name("clipping1").value(this.clipping1);
+        writer.name("clipping2").value(this.clipping2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Vibration{timeUsec=" + timeUsec
@@ -204,6 +220,16 @@ public final class Vibration {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Vibration levels on X-axis 
          */
@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Vibration} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VibrationView extends PayloadView<VibrationView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Vibration levels on X-axis 
+     */
+    public final float vibrationX() {
+        return readFloat(8);
+    }
+
+    /**
+     * Vibration levels on Y-axis 
+     */
+    public final float vibrationY() {
+        return readFloat(12);
+    }
+
+    /**
+     * Vibration levels on Z-axis 
+     */
+    public final float vibrationZ() {
+        return readFloat(16);
+    }
+
+    /**
+     * first accelerometer clipping count 
+     */
+    public final long clipping0() {
+        return readUint32(20);
+    }
+
+    /**
+     * second accelerometer clipping count 
+     */
+    public final long clipping1() {
+        return readUint32(24);
+    }
+
+    /**
+     * third accelerometer clipping count 
+     */
+    public final long clipping2() {
+        return readUint32(28);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 109,
         description = "Information about video stream. It may be requested using MAV_CMD_REQUEST_MESSAGE, where param2 indicates the video stream id: 0 for all streams, 1 for first, 2 for second, etc."
 )
-public final class VideoStreamInformation {
+public final class VideoStreamInformation implements JsonWritable {
     private final int streamId;
 
     private final int count;
@@ -257,6 +259,24 @@ public final class VideoStreamInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("streamId").value(this.streamId);
+        writer.name("count").value(this.count);
+        writer.name("type").value(this.type);
+        writer.name("flags").value(this.flags);
+        writer.name("framerate").value(this.framerate);
+        writer.name("resolutionH").value(this.resolutionH);
+        writer.name("resolutionV").value(this.resolutionV);
+        writer.name("bitrate").value(this.bitrate);
+        writer.name("rotation").value(this.rotation);
+        writer.name("hfov").value(this.hfov);
+        writer.name("name").value(this.name);
+        writer.name("uri").value(this.uri);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VideoStreamInformation{streamId=" + streamId
@@ -0,0 +1,99 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link VideoStreamInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VideoStreamInformationView extends PayloadView<VideoStreamInformationView> {
+    /**
+     * Frame rate. 
+     */
+    public final float framerate() {
+        return readFloat(0);
+    }
+
+    /**
+     * Bit rate. 
+     */
+    public final long bitrate() {
+        return readUint32(4);
+    }
+
+    /**
+     * Bitmap of stream status flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link VideoStreamStatusFlags}.
+     */
+    public final int flags() {
+        return readUint16(8);
+    }
+
+    /**
+     * Horizontal resolution. 
+     */
+    public final int resolutionH() {
+        return readUint16(10);
+    }
+
+    /**
+     * Vertical resolution. 
+     */
+    public final int resolutionV() {
+        return readUint16(12);
+    }
+
+    /**
+     * Video image rotation clockwise. 
+     */
+    public final int rotation() {
+        return readUint16(14);
+    }
+
+    /**
+     * Horizontal Field of view. 
+     */
+    public final int hfov() {
+        return readUint16(16);
+    }
+
+    /**
+     * Video Stream ID (1 for first, 2 for second, etc.) 
+     */
+    public final int streamId() {
+        return readUint8(18);
+    }
+
+    /**
+     * Number of streams available. 
+     */
+    public final int count() {
+        return readUint8(19);
+    }
+
+    /**
+     * Type of stream. 
+     * <p>
+     * This returns the raw value of the field, see {@link VideoStreamType}.
+     */
+    public final int type() {
+        return readUint8(20);
+    }
+
+    /**
+     * Stream name. 
+     */
+    public final String name() {
+        return readString(21, 32);
+    }
+
+    /**
+     * Video stream URI (TCP or RTSP URI ground station should connect to) or port number (UDP port 
+     * ground station should listen to). 
+     */
+    public final String uri() {
+        return readString(53, 160);
+    }
+}
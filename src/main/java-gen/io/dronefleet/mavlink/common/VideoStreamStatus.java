@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 59,
         description = "Information about the status of a video stream. It may be requested using MAV_CMD_REQUEST_MESSAGE."
 )
-public final class VideoStreamStatus {
+public final class VideoStreamStatus implements JsonWritable {
     private final int streamId;
 
     private final EnumValue<VideoStreamStatusFlags> flags;
@@ -185,6 +187,20 @@ public final class VideoStreamStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("streamId").value(this.streamId);
+        writer.name("flags").value(this.flags);
+        writer.name("framerate").value(this.framerate);
+        writer.name("resolutionH").value(this.resolutionH);
+        writer.name("resolutionV").value(this.resolutionV);
+        writer.name("bitrate").value(this.bitrate);
+        writer.name("rotation").value(this.rotation);
+        writer.name("hfov").value(this.hfov);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VideoStreamStatus{streamId=" + streamId
@@ -0,0 +1,67 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link VideoStreamStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VideoStreamStatusView extends PayloadView<VideoStreamStatusView> {
+    /**
+     * Frame rate 
+     */
+    public final float framerate() {
+        return readFloat(0);
+    }
+
+    /**
+     * Bit rate 
+     */
+    public final long bitrate() {
+        return readUint32(4);
+    }
+
+    /**
+     * Bitmap of stream status flags 
+     * <p>
+     * This returns the raw value of the field, see {@link VideoStreamStatusFlags}.
+     */
+    public final int flags() {
+        return readUint16(8);
+    }
+
+    /**
+     * Horizontal resolution 
+     */
+    public final int resolutionH() {
+        return readUint16(10);
+    }
+
+    /**
+     * Vertical resolution 
+     */
+    public final int resolutionV() {
+        return readUint16(12);
+    }
+
+    /**
+     * Video image rotation clockwise 
+     */
+    public final int rotation() {
+        return readUint16(14);
+    }
+
+    /**
+     * Horizontal Field of view 
+     */
+    public final int hfov() {
+        return readUint16(16);
+    }
+
+    /**
+     * Video Stream ID (1 for first, 2 for second, etc.) 
+     */
+    public final int streamId() {
+        return readUint8(18);
+    }
+}
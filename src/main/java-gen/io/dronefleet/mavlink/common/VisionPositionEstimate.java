@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +24,7 @@ import java.util.Objects;
         crc = 158,
         description = "Local position/attitude estimate from a vision source."
 )
-public final class VisionPositionEstimate {
+public final class VisionPositionEstimate implements JsonWritable {
     private final BigInteger usec;
 
     private final float x;
@@ -34,7 +39,7 @@ public final class VisionPositionEstimate {
 
     private final float yaw;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private final int resetCounter;
 
@@ -47,7 +52,7 @@ public final class VisionPositionEstimate {
         this.roll = roll;
         this.pitch = pitch;
         this.yaw = yaw;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
         this.resetCounter = resetCounter;
     }
 
@@ -159,6 +164,25 @@ public final class VisionPositionEstimate {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 21) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     /**
      * Estimate reset counter. This should be incremented when the estimate resets in any of the 
      * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
@@ -206,6 +230,21 @@ public final class VisionPositionEstimate {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("usec").value(this.usec);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("roll").value(this.roll);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("covariance").value(this.covariance);
+        writer.name("resetCounter").value(this.resetCounter);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VisionPositionEstimate{usec=" + usec
@@ -251,6 +290,15 @@ public final class VisionPositionEstimate {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX time or time since system boot) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder usec(long usec) {
+            return usec(UnsignedLongs.toBigInteger(usec));
+        }
+
         /**
          * Local X position 
          */
@@ -346,6 +394,15 @@ public final class VisionPositionEstimate {
             return this;
         }
 
+        /**
+         * Row-major representation of pose 6x6 cross-covariance matrix upper right triangle (states: 
+         * x, y, z, roll, pitch, yaw; first six entries are the first ROW, next five entries are the second 
+         * ROW, etc.). If unknown, assign NaN value to first element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         /**
          * Estimate reset counter. This should be incremented when the estimate resets in any of the 
          * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +24,7 @@ import java.util.Objects;
         crc = 208,
         description = "Speed estimate from a vision source."
 )
-public final class VisionSpeedEstimate {
+public final class VisionSpeedEstimate implements JsonWritable {
     private final BigInteger usec;
 
     private final float x;
@@ -28,7 +33,7 @@ public final class VisionSpeedEstimate {
 
     private final float z;
 
-    private final List<Float> covariance;
+    private final FloatArrayList covariance;
 
     private final int resetCounter;
 
@@ -38,7 +43,7 @@ public final class VisionSpeedEstimate {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.covariance = covariance;
+        this.covariance = FloatArrayList.copyOf(covariance);
         this.resetCounter = resetCounter;
     }
 
@@ -113,6 +118,25 @@ public final class VisionSpeedEstimate {
         return this.covariance;
     }
 
+    /**
+     * Returns a copy of {@link #covariance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] covarianceArray() {
+        return this.covariance != null ? this.covariance.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #covariance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float covariance(int index) {
+        if (index < 0 || index >= 9) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.covariance != null && index < this.covariance.size() ? this.covariance.getFloat(index) : 0;
+    }
+
     /**
      * Estimate reset counter. This should be incremented when the estimate resets in any of the 
      * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
@@ -154,6 +178,18 @@ public final class VisionSpeedEstimate {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("usec").value(this.usec);
+        writer.name("x").value(this.x);
+        writer.name("y").value(this.y);
+        writer.name("z").value(this.z);
+        writer.name("covariance").value(this.covariance);
+        writer.name("resetCounter").value(this.resetCounter);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VisionSpeedEstimate{usec=" + usec
@@ -190,6 +226,15 @@ public final class VisionSpeedEstimate {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX time or time since system boot) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder usec(long usec) {
+            return usec(UnsignedLongs.toBigInteger(usec));
+        }
+
         /**
          * Global X speed 
          */
@@ -245,6 +290,14 @@ public final class VisionSpeedEstimate {
             return this;
         }
 
+        /**
+         * Row-major representation of 3x3 linear velocity covariance matrix (states: vx, vy, vz; 1st 
+         * three entries - 1st row, etc.). If unknown, assign NaN value to first element in the array. 
+         */
+        public final Builder covariance(float... covariance) {
+            return covariance(FloatArrayList.of(covariance));
+        }
+
         /**
          * Estimate reset counter. This should be incremented when the estimate resets in any of the 
          * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
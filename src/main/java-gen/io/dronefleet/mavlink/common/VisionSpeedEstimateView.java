@@ -0,0 +1,56 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link VisionSpeedEstimate} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VisionSpeedEstimateView extends PayloadView<VisionSpeedEstimateView> {
+    /**
+     * Timestamp (UNIX time or time since system boot) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long usec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Global X speed 
+     */
+    public final float x() {
+        return readFloat(8);
+    }
+
+    /**
+     * Global Y speed 
+     */
+    public final float y() {
+        return readFloat(12);
+    }
+
+    /**
+     * Global Z speed 
+     */
+    public final float z() {
+        return readFloat(16);
+    }
+
+    /**
+     * Row-major representation of 3x3 linear velocity covariance matrix (states: vx, vy, vz; 1st 
+     * three entries - 1st row, etc.). If unknown, assign NaN value to first element in the array. 
+     */
+    public final float covariance(int index) {
+        return readFloat(elementPosition(20, 4, 9, index));
+    }
+
+    /**
+     * Estimate reset counter. This should be incremented when the estimate resets in any of the 
+     * dimensions (position, velocity, attitude, angular speed). This is designed to be used when 
+     * e.g an external SLAM system detects a loop-closure and the estimate jumps. 
+     */
+    public final int resetCounter() {
+        return readUint8(56);
+    }
+}
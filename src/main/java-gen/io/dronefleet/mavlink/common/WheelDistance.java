@@ -3,7 +3,12 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.DoubleArrayList;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Double;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,17 +24,17 @@ import java.util.Objects;
         crc = 113,
         description = "Cumulative distance traveled for each reported wheel."
 )
-public final class WheelDistance {
+public final class WheelDistance implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final int count;
 
-    private final List<Double> distance;
+    private final DoubleArrayList distance;
 
     private WheelDistance(BigInteger timeUsec, int count, List<Double> distance) {
         this.timeUsec = timeUsec;
         this.count = count;
-        this.distance = distance;
+        this.distance = DoubleArrayList.copyOf(distance);
     }
 
     /**
@@ -79,6 +84,25 @@ public final class WheelDistance {
         return this.distance;
     }
 
+    /**
+     * Returns a copy of {@link #distance()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final double[] distanceArray() {
+        return this.distance != null ? this.distance.toDoubleArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #distance()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final double distance(int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.distance != null && index < this.distance.size() ? this.distance.getDouble(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -99,6 +123,15 @@ public final class WheelDistance {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("count").value(this.count);
+        writer.name("distance").value(this.distance);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "WheelDistance{timeUsec=" + timeUsec
@@ -126,6 +159,15 @@ public final class WheelDistance {
             return this;
         }
 
+        /**
+         * Timestamp (synced to UNIX time or since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Number of wheels reported. 
          */
@@ -155,6 +197,15 @@ public final class WheelDistance {
             return this;
         }
 
+        /**
+         * Distance reported by individual wheel encoders. Forward rotations increase values, reverse 
+         * rotations decrease them. Not all wheels will necessarily have wheel encoders; the mapping of 
+         * encoders to wheel positions must be agreed/understood by the endpoints. 
+         */
+        public final Builder distance(double... distance) {
+            return distance(DoubleArrayList.of(distance));
+        }
+
         public final WheelDistance build() {
             return new WheelDistance(timeUsec, count, distance);
         }
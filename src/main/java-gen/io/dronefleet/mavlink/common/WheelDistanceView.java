@@ -0,0 +1,34 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link WheelDistance} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WheelDistanceView extends PayloadView<WheelDistanceView> {
+    /**
+     * Timestamp (synced to UNIX time or since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Distance reported by individual wheel encoders. Forward rotations increase values, reverse 
+     * rotations decrease them. Not all wheels will necessarily have wheel encoders; the mapping of 
+     * encoders to wheel positions must be agreed/understood by the endpoints. 
+     */
+    public final double distance(int index) {
+        return readDouble(elementPosition(8, 8, 16, index));
+    }
+
+    /**
+     * Number of wheels reported. 
+     */
+    public final int count() {
+        return readUint8(136);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -20,7 +22,7 @@ import java.util.Objects;
         crc = 19,
         description = "Configure WiFi AP SSID, password, and mode. This message is re-emitted as an acknowledgement by the AP. The message may also be explicitly requested using MAV_CMD_REQUEST_MESSAGE"
 )
-public final class WifiConfigAp {
+public final class WifiConfigAp implements JsonWritable {
     private final String ssid;
 
     private final String password;
@@ -124,6 +126,16 @@ public final class WifiConfigAp {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("ssid").value(this.ssid);
+        writer.name("password").value(this.password);
+        writer.name("mode").value(this.mode);
+        writer.name("response").value(this.response);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "WifiConfigAp{ssid=" + ssid
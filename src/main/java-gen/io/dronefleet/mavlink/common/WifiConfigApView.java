@@ -0,0 +1,43 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link WifiConfigAp} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WifiConfigApView extends PayloadView<WifiConfigApView> {
+    /**
+     * Name of Wi-Fi network (SSID). Blank to leave it unchanged when setting. Current SSID when sent 
+     * back as a response. 
+     */
+    public final String ssid() {
+        return readString(0, 32);
+    }
+
+    /**
+     * Password. Blank for an open AP. MD5 hash when message is sent back as a response. 
+     */
+    public final String password() {
+        return readString(32, 64);
+    }
+
+    /**
+     * WiFi Mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link WifiConfigApMode}.
+     */
+    public final int mode() {
+        return readInt8(96);
+    }
+
+    /**
+     * Message acceptance response (sent back to GS). 
+     * <p>
+     * This returns the raw value of the field, see {@link WifiConfigApResponse}.
+     */
+    public final int response() {
+        return readInt8(97);
+    }
+}
@@ -3,7 +3,10 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Enum;
 import java.lang.Object;
 import java.lang.Override;
@@ -20,7 +23,7 @@ import java.util.Objects;
         crc = 117,
         description = "Winch status."
 )
-public final class WinchStatus {
+public final class WinchStatus implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float lineLength;
@@ -186,6 +189,20 @@ public final class WinchStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("lineLength").value(this.lineLength);
+        writer.name("speed").value(this.speed);
+        writer.name("tension").value(this.tension);
+        writer.name("voltage").value(this.voltage);
+        writer.name("current").value(this.current);
+        writer.name("temperature").value(this.temperature);
+        writer.name("status").value(this.status);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "WinchStatus{timeUsec=" + timeUsec
@@ -228,6 +245,15 @@ public final class WinchStatus {
             return this;
         }
 
+        /**
+         * Timestamp (synced to UNIX time or since system boot). 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Length of line released. NaN if unknown 
          */
@@ -0,0 +1,70 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link WinchStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WinchStatusView extends PayloadView<WinchStatusView> {
+    /**
+     * Timestamp (synced to UNIX time or since system boot). 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Length of line released. NaN if unknown 
+     */
+    public final float lineLength() {
+        return readFloat(8);
+    }
+
+    /**
+     * Speed line is being released or retracted. Positive values if being released, negative values 
+     * if being retracted, NaN if unknown 
+     */
+    public final float speed() {
+        return readFloat(12);
+    }
+
+    /**
+     * Tension on the line. NaN if unknown 
+     */
+    public final float tension() {
+        return readFloat(16);
+    }
+
+    /**
+     * Voltage of the battery supplying the winch. NaN if unknown 
+     */
+    public final float voltage() {
+        return readFloat(20);
+    }
+
+    /**
+     * Current draw from the winch. NaN if unknown 
+     */
+    public final float current() {
+        return readFloat(24);
+    }
+
+    /**
+     * Status flags 
+     * <p>
+     * This returns the raw value of the field, see {@link MavWinchStatusFlag}.
+     */
+    public final int status() {
+        return readInt32(28);
+    }
+
+    /**
+     * Temperature of the motor. INT16_MAX if unknown 
+     */
+    public final int temperature() {
+        return readInt16(32);
+    }
+}
@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.common;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -19,7 +22,7 @@ import java.util.Objects;
         crc = 105,
         description = "Wind estimate from vehicle. Note that despite the name, this message does not actually contain any covariances but instead variability and accuracy fields in terms of standard deviation (1-STD)."
 )
-public final class WindCov {
+public final class WindCov implements JsonWritable {
     private final BigInteger timeUsec;
 
     private final float windX;
@@ -200,6 +203,21 @@ public final class WindCov {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeUsec").value(this.timeUsec);
+        writer.name("windX").value(this.windX);
+        writer.name("windY").value(this.windY);
+        writer.name("windZ").value(this.windZ);
+        writer.name("varHoriz").value(this.varHoriz);
+        writer.name("varVert").value(this.varVert);
+        writer.name("windAlt").value(this.windAlt);
+        writer.name("horizAccuracy").value(this.horizAccuracy);
+        writer.name("vertAccuracy").value(this.vertAccuracy);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "WindCov{timeUsec=" + timeUsec
@@ -246,6 +264,16 @@ public final class WindCov {
             return this;
         }
 
+        /**
+         * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+         * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder timeUsec(long timeUsec) {
+            return timeUsec(UnsignedLongs.toBigInteger(timeUsec));
+        }
+
         /**
          * Wind in North (NED) direction (NAN if unknown) 
          */
@@ -0,0 +1,75 @@
+package io.dronefleet.mavlink.common;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link WindCov} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class WindCovView extends PayloadView<WindCovView> {
+    /**
+     * Timestamp (UNIX Epoch time or time since system boot). The receiving end can infer timestamp 
+     * format (since 1.1.1970 or since system boot) by checking for the magnitude of the number. 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long timeUsec() {
+        return readInt64(0);
+    }
+
+    /**
+     * Wind in North (NED) direction (NAN if unknown) 
+     */
+    public final float windX() {
+        return readFloat(8);
+    }
+
+    /**
+     * Wind in East (NED) direction (NAN if unknown) 
+     */
+    public final float windY() {
+        return readFloat(12);
+    }
+
+    /**
+     * Wind in down (NED) direction (NAN if unknown) 
+     */
+    public final float windZ() {
+        return readFloat(16);
+    }
+
+    /**
+     * Variability of wind in XY, 1-STD estimated from a 1 Hz lowpassed wind estimate (NAN if unknown) 
+     */
+    public final float varHoriz() {
+        return readFloat(20);
+    }
+
+    /**
+     * Variability of wind in Z, 1-STD estimated from a 1 Hz lowpassed wind estimate (NAN if unknown) 
+     */
+    public final float varVert() {
+        return readFloat(24);
+    }
+
+    /**
+     * Altitude (MSL) that this measurement was taken at (NAN if unknown) 
+     */
+    public final float windAlt() {
+        return readFloat(28);
+    }
+
+    /**
+     * Horizontal speed 1-STD accuracy (0 if unknown) 
+     */
+    public final float horizAccuracy() {
+        return readFloat(32);
+    }
+
+    /**
+     * Vertical speed 1-STD accuracy (0 if unknown) 
+     */
+    public final float vertAccuracy() {
+        return readFloat(36);
+    }
+}
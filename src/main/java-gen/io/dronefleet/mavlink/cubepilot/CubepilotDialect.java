@@ -2,33 +2,42 @@ package io.dronefleet.mavlink.cubepilot;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class CubepilotDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(50001, CubepilotRawRc.class)
-            .put(50002, HerelinkVideoStreamInformation.class)
-            .put(50003, HerelinkTelem.class)
-            .put(50004, CubepilotFirmwareUpdateStart.class)
-            .put(50005, CubepilotFirmwareUpdateResp.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(50001, "io.dronefleet.mavlink.cubepilot.CubepilotRawRc", 246, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(50002, "io.dronefleet.mavlink.cubepilot.HerelinkVideoStreamInformation", 181, 246, 246, -1, -1),
+            new MavlinkMessageDescriptor(50003, "io.dronefleet.mavlink.cubepilot.HerelinkTelem", 62, 19, 19, -1, -1),
+            new MavlinkMessageDescriptor(50004, "io.dronefleet.mavlink.cubepilot.CubepilotFirmwareUpdateStart", 240, 10, 10, 8, 9),
+            new MavlinkMessageDescriptor(50005, "io.dronefleet.mavlink.cubepilot.CubepilotFirmwareUpdateResp", 152, 6, 6, 4, 5));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final CubepilotDialect instance = new CubepilotDialect();
 
     public CubepilotDialect() {
-        super("cubepilot", dependencies, messages);
+        super("cubepilot", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static CubepilotDialect instance() {
+        return instance;
     }
 }
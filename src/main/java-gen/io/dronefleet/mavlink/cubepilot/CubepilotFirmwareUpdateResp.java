@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.cubepilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 152,
         description = "offset response to encapsulated data."
 )
-public final class CubepilotFirmwareUpdateResp {
+public final class CubepilotFirmwareUpdateResp implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -93,6 +95,15 @@ public final class CubepilotFirmwareUpdateResp {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("offset").value(this.offset);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CubepilotFirmwareUpdateResp{targetSystem=" + targetSystem
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.cubepilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CubepilotFirmwareUpdateResp} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CubepilotFirmwareUpdateRespView extends PayloadView<CubepilotFirmwareUpdateRespView> {
+    /**
+     * FW Offset. 
+     */
+    public final long offset() {
+        return readUint32(0);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.cubepilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 240,
         description = "Start firmware update with encapsulated data."
 )
-public final class CubepilotFirmwareUpdateStart {
+public final class CubepilotFirmwareUpdateStart implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -111,6 +113,16 @@ public final class CubepilotFirmwareUpdateStart {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("size").value(this.size);
+        writer.name("crc").value(this.crc);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CubepilotFirmwareUpdateStart{targetSystem=" + targetSystem
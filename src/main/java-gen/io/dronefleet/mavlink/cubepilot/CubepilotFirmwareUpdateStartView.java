@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.cubepilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CubepilotFirmwareUpdateStart} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CubepilotFirmwareUpdateStartView extends PayloadView<CubepilotFirmwareUpdateStartView> {
+    /**
+     * FW Size. 
+     */
+    public final long size() {
+        return readUint32(0);
+    }
+
+    /**
+     * FW CRC. 
+     */
+    public final long crc() {
+        return readUint32(4);
+    }
+
+    /**
+     * System ID. 
+     */
+    public final int targetSystem() {
+        return readUint8(8);
+    }
+
+    /**
+     * Component ID. 
+     */
+    public final int targetComponent() {
+        return readUint8(9);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.cubepilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 246,
         description = "Raw RC Data"
 )
-public final class CubepilotRawRc {
+public final class CubepilotRawRc implements JsonWritable {
     private final byte[] rcRaw;
 
     private CubepilotRawRc(byte[] rcRaw) {
@@ -59,6 +61,13 @@ public final class CubepilotRawRc {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("rcRaw").value(this.rcRaw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CubepilotRawRc{rcRaw=" + rcRaw + "}";
@@ -0,0 +1,16 @@
+package io.dronefleet.mavlink.cubepilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CubepilotRawRc} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CubepilotRawRcView extends PayloadView<CubepilotRawRcView> {
+    /**
+     *  
+     */
+    public final int rcRaw(int index) {
+        return readUint8(elementPosition(0, 1, 32, index));
+    }
+}
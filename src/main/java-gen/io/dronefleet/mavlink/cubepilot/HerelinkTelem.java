@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.cubepilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 62,
         description = "Herelink Telemetry"
 )
-public final class HerelinkTelem {
+public final class HerelinkTelem implements JsonWritable {
     private final int rssi;
 
     private final int snr;
@@ -158,6 +160,19 @@ public final class HerelinkTelem {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("rssi").value(this.rssi);
+        writer.name("snr").value(this.snr);
+        writer.name("rfFreq").value(this.rfFreq);
+        writer.name("linkBw").value(this.linkBw);
+        writer.name("linkRate").value(this.linkRate);
+        writer.name("cpuTemp").value(this.cpuTemp);
+        writer.name("boardTemp").value(this.boardTemp);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HerelinkTelem{rssi=" + rssi
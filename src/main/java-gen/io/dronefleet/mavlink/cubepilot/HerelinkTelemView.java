@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.cubepilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link HerelinkTelem} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HerelinkTelemView extends PayloadView<HerelinkTelemView> {
+    /**
+     *  
+     */
+    public final long rfFreq() {
+        return readUint32(0);
+    }
+
+    /**
+     *  
+     */
+    public final long linkBw() {
+        return readUint32(4);
+    }
+
+    /**
+     *  
+     */
+    public final long linkRate() {
+        return readUint32(8);
+    }
+
+    /**
+     *  
+     */
+    public final int snr() {
+        return readInt16(12);
+    }
+
+    /**
+     *  
+     */
+    public final int cpuTemp() {
+        return readInt16(14);
+    }
+
+    /**
+     *  
+     */
+    public final int boardTemp() {
+        return readInt16(16);
+    }
+
+    /**
+     *  
+     */
+    public final int rssi() {
+        return readUint8(18);
+    }
+}
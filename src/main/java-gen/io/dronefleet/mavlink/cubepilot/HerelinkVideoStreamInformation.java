@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.cubepilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 181,
         description = "Information about video stream"
 )
-public final class HerelinkVideoStreamInformation {
+public final class HerelinkVideoStreamInformation implements JsonWritable {
     private final int cameraId;
 
     private final int status;
@@ -181,6 +183,20 @@ public final class HerelinkVideoStreamInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("cameraId").value(this.cameraId);
+        writer.name("status").value(this.status);
+        writer.name("framerate").value(this.framerate);
+        writer.name("resolutionH").value(this.resolutionH);
+        writer.name("resolutionV").value(this.resolutionV);
+        writer.name("bitrate").value(this.bitrate);
+        writer.name("rotation").value(this.rotation);
+        writer.name("uri").value(this.uri);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "HerelinkVideoStreamInformation{cameraId=" + cameraId
@@ -0,0 +1,67 @@
+package io.dronefleet.mavlink.cubepilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link HerelinkVideoStreamInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HerelinkVideoStreamInformationView extends PayloadView<HerelinkVideoStreamInformationView> {
+    /**
+     * Frame rate. 
+     */
+    public final float framerate() {
+        return readFloat(0);
+    }
+
+    /**
+     * Bit rate. 
+     */
+    public final long bitrate() {
+        return readUint32(4);
+    }
+
+    /**
+     * Horizontal resolution. 
+     */
+    public final int resolutionH() {
+        return readUint16(8);
+    }
+
+    /**
+     * Vertical resolution. 
+     */
+    public final int resolutionV() {
+        return readUint16(10);
+    }
+
+    /**
+     * Video image rotation clockwise. 
+     */
+    public final int rotation() {
+        return readUint16(12);
+    }
+
+    /**
+     * Video Stream ID (1 for first, 2 for second, etc.) 
+     */
+    public final int cameraId() {
+        return readUint8(14);
+    }
+
+    /**
+     * Number of streams available. 
+     */
+    public final int status() {
+        return readUint8(15);
+    }
+
+    /**
+     * Video stream URI (TCP or RTSP URI ground station should connect to) or port number (UDP port 
+     * ground station should listen to). 
+     */
+    public final String uri() {
+        return readString(16, 230);
+    }
+}
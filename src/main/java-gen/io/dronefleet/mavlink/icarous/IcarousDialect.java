@@ -2,12 +2,10 @@ package io.dronefleet.mavlink.icarous;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public final class IcarousDialect extends AbstractMavlinkDialect {
     /**
@@ -16,14 +14,26 @@ public final class IcarousDialect extends AbstractMavlinkDialect {
     private static final List<MavlinkDialect> dependencies = Collections.emptyList();
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(42000, IcarousHeartbeat.class)
-            .put(42001, IcarousKinematicBands.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(42000, "io.dronefleet.mavlink.icarous.IcarousHeartbeat", 227, 1, 1, -1, -1),
+            new MavlinkMessageDescriptor(42001, "io.dronefleet.mavlink.icarous.IcarousKinematicBands", 239, 46, 46, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final IcarousDialect instance = new IcarousDialect();
 
     public IcarousDialect() {
-        super("icarous", dependencies, messages);
+        super("icarous", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static IcarousDialect instance() {
+        return instance;
     }
 }
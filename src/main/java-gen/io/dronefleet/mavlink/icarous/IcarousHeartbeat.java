@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.icarous;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 227,
         description = "ICAROUS heartbeat"
 )
-public final class IcarousHeartbeat {
+public final class IcarousHeartbeat implements JsonWritable {
     private final EnumValue<IcarousFmsState> status;
 
     private IcarousHeartbeat(EnumValue<IcarousFmsState> status) {
@@ -63,6 +65,13 @@ public final class IcarousHeartbeat {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("status").value(this.status);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "IcarousHeartbeat{status=" + status + "}";
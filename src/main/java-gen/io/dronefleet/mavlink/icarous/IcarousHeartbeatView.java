@@ -0,0 +1,18 @@
+package io.dronefleet.mavlink.icarous;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link IcarousHeartbeat} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class IcarousHeartbeatView extends PayloadView<IcarousHeartbeatView> {
+    /**
+     * See the FMS_STATE enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousFmsState}.
+     */
+    public final int status() {
+        return readUint8(0);
+    }
+}
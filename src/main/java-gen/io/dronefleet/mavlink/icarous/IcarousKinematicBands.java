@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.icarous;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 239,
         description = "Kinematic multi bands (track) output from Daidalus"
 )
-public final class IcarousKinematicBands {
+public final class IcarousKinematicBands implements JsonWritable {
     private final int numbands;
 
     private final EnumValue<IcarousTrackBandTypes> type1;
@@ -327,6 +329,28 @@ public final class IcarousKinematicBands {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("numbands").value(this.numbands);
+        writer.name("type1").value(this.type1);
+        writer.name("min1").value(this.min1);
+        writer.name("max1").value(this.max1);
+        writer.name("type2").value(this.type2);
+        writer.name("min2").value(this.min2);
+        writer.name("max2").value(this.max2);
+        writer.name("type3").value(this.type3);
+        writer.name("min3").value(this.min3);
+        writer.name("max3").value(this.max3);
+        writer.name("type4").value(this.type4);
+        writer.name("min4").value(this.min4);
+        writer.name("max4").value(this.max4);
+        writer.name("type5").value(this.type5);
+        writer.name("min5").value(this.min5);
+        writer.name("max5").value(this.max5);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "IcarousKinematicBands{numbands=" + numbands
@@ -0,0 +1,131 @@
+package io.dronefleet.mavlink.icarous;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link IcarousKinematicBands} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class IcarousKinematicBandsView extends PayloadView<IcarousKinematicBandsView> {
+    /**
+     * min angle (degrees) 
+     */
+    public final float min1() {
+        return readFloat(0);
+    }
+
+    /**
+     * max angle (degrees) 
+     */
+    public final float max1() {
+        return readFloat(4);
+    }
+
+    /**
+     * min angle (degrees) 
+     */
+    public final float min2() {
+        return readFloat(8);
+    }
+
+    /**
+     * max angle (degrees) 
+     */
+    public final float max2() {
+        return readFloat(12);
+    }
+
+    /**
+     * min angle (degrees) 
+     */
+    public final float min3() {
+        return readFloat(16);
+    }
+
+    /**
+     * max angle (degrees) 
+     */
+    public final float max3() {
+        return readFloat(20);
+    }
+
+    /**
+     * min angle (degrees) 
+     */
+    public final float min4() {
+        return readFloat(24);
+    }
+
+    /**
+     * max angle (degrees) 
+     */
+    public final float max4() {
+        return readFloat(28);
+    }
+
+    /**
+     * min angle (degrees) 
+     */
+    public final float min5() {
+        return readFloat(32);
+    }
+
+    /**
+     * max angle (degrees) 
+     */
+    public final float max5() {
+        return readFloat(36);
+    }
+
+    /**
+     * Number of track bands 
+     */
+    public final int numbands() {
+        return readInt8(40);
+    }
+
+    /**
+     * See the TRACK_BAND_TYPES enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousTrackBandTypes}.
+     */
+    public final int type1() {
+        return readUint8(41);
+    }
+
+    /**
+     * See the TRACK_BAND_TYPES enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousTrackBandTypes}.
+     */
+    public final int type2() {
+        return readUint8(42);
+    }
+
+    /**
+     * See the TRACK_BAND_TYPES enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousTrackBandTypes}.
+     */
+    public final int type3() {
+        return readUint8(43);
+    }
+
+    /**
+     * See the TRACK_BAND_TYPES enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousTrackBandTypes}.
+     */
+    public final int type4() {
+        return readUint8(44);
+    }
+
+    /**
+     * See the TRACK_BAND_TYPES enum. 
+     * <p>
+     * This returns the raw value of the field, see {@link IcarousTrackBandTypes}.
+     */
+    public final int type5() {
+        return readUint8(45);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 154,
         description = "The airspeed measured by sensors and IMU"
 )
-public final class Airspeeds {
+public final class Airspeeds implements JsonWritable {
     private final long timeBootMs;
 
     private final int airspeedImu;
@@ -168,6 +170,19 @@ public final class Airspeeds {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("airspeedImu").value(this.airspeedImu);
+        writer.name("airspeedPitot").value(this.airspeedPitot);
+        writer.name("airspeedHotWire").value(this.airspeedHotWire);
+        writer.name("airspeedUltrasonic").value(this.airspeedUltrasonic);
+        writer.name("aoa").value(this.aoa);
+        writer.name("aoy").value(this.aoy);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Airspeeds{timeBootMs=" + timeBootMs
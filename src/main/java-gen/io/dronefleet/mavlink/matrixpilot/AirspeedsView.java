@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Airspeeds} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AirspeedsView extends PayloadView<AirspeedsView> {
+    /**
+     * Timestamp (milliseconds since system boot) 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Airspeed estimate from IMU, cm/s 
+     */
+    public final int airspeedImu() {
+        return readInt16(4);
+    }
+
+    /**
+     * Pitot measured forward airpseed, cm/s 
+     */
+    public final int airspeedPitot() {
+        return readInt16(6);
+    }
+
+    /**
+     * Hot wire anenometer measured airspeed, cm/s 
+     */
+    public final int airspeedHotWire() {
+        return readInt16(8);
+    }
+
+    /**
+     * Ultrasonic measured airspeed, cm/s 
+     */
+    public final int airspeedUltrasonic() {
+        return readInt16(10);
+    }
+
+    /**
+     * Angle of attack sensor, degrees * 10 
+     */
+    public final int aoa() {
+        return readInt16(12);
+    }
+
+    /**
+     * Yaw angle sensor, degrees * 10 
+     */
+    public final int aoy() {
+        return readInt16(14);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 55,
         description = "The altitude measured by sensors and IMU"
 )
-public final class Altitudes {
+public final class Altitudes implements JsonWritable {
     private final long timeBootMs;
 
     private final int altGps;
@@ -168,6 +170,19 @@ public final class Altitudes {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("altGps").value(this.altGps);
+        writer.name("altImu").value(this.altImu);
+        writer.name("altBarometric").value(this.altBarometric);
+        writer.name("altOpticalFlow").value(this.altOpticalFlow);
+        writer.name("altRangeFinder").value(this.altRangeFinder);
+        writer.name("altExtra").value(this.altExtra);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Altitudes{timeBootMs=" + timeBootMs
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Altitudes} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class AltitudesView extends PayloadView<AltitudesView> {
+    /**
+     * Timestamp (milliseconds since system boot) 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * GPS altitude (MSL) in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altGps() {
+        return readInt32(4);
+    }
+
+    /**
+     * IMU altitude above ground in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altImu() {
+        return readInt32(8);
+    }
+
+    /**
+     * barometeric altitude above ground in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altBarometric() {
+        return readInt32(12);
+    }
+
+    /**
+     * Optical flow altitude above ground in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altOpticalFlow() {
+        return readInt32(16);
+    }
+
+    /**
+     * Rangefinder Altitude above ground in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altRangeFinder() {
+        return readInt32(20);
+    }
+
+    /**
+     * Extra altitude above ground in meters, expressed as * 1000 (millimeters) 
+     */
+    public final int altExtra() {
+        return readInt32(24);
+    }
+}
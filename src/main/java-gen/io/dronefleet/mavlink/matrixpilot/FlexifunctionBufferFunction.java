@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -18,7 +22,7 @@ import java.util.Objects;
         crc = 101,
         description = "Flexifunction type and parameters for component at function index from buffer"
 )
-public final class FlexifunctionBufferFunction {
+public final class FlexifunctionBufferFunction implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -31,7 +35,7 @@ public final class FlexifunctionBufferFunction {
 
     private final int dataSize;
 
-    private final List<Integer> data;
+    private final IntArrayList data;
 
     private FlexifunctionBufferFunction(int targetSystem, int targetComponent, int funcIndex,
             int funcCount, int dataAddress, int dataSize, List<Integer> data) {
@@ -41,7 +45,7 @@ public final class FlexifunctionBufferFunction {
         this.funcCount = funcCount;
         this.dataAddress = dataAddress;
         this.dataSize = dataSize;
-        this.data = data;
+        this.data = IntArrayList.copyOf(data);
     }
 
     /**
@@ -138,6 +142,25 @@ public final class FlexifunctionBufferFunction {
         return this.data;
     }
 
+    /**
+     * Returns a copy of {@link #data()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] dataArray() {
+        return this.data != null ? this.data.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #data()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int data(int index) {
+        if (index < 0 || index >= 48) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.data != null && index < this.data.size() ? this.data.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -166,6 +189,19 @@ public final class FlexifunctionBufferFunction {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("funcIndex").value(this.funcIndex);
+        writer.name("funcCount").value(this.funcCount);
+        writer.name("dataAddress").value(this.dataAddress);
+        writer.name("dataSize").value(this.dataSize);
+        writer.name("data").value(this.data);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionBufferFunction{targetSystem=" + targetSystem
@@ -285,6 +321,13 @@ public final class FlexifunctionBufferFunction {
             return this;
         }
 
+        /**
+         * Settings data 
+         */
+        public final Builder data(int... data) {
+            return data(IntArrayList.of(data));
+        }
+
         public final FlexifunctionBufferFunction build() {
             return new FlexifunctionBufferFunction(targetSystem, targetComponent, funcIndex, funcCount, dataAddress, dataSize, data);
         }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 109,
         description = "Flexifunction type and parameters for component at function index from buffer"
 )
-public final class FlexifunctionBufferFunctionAck {
+public final class FlexifunctionBufferFunctionAck implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -111,6 +113,16 @@ public final class FlexifunctionBufferFunctionAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("funcIndex").value(this.funcIndex);
+        writer.name("result").value(this.result);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionBufferFunctionAck{targetSystem=" + targetSystem
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionBufferFunctionAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionBufferFunctionAckView extends PayloadView<FlexifunctionBufferFunctionAckView> {
+    /**
+     * Function index 
+     */
+    public final int funcIndex() {
+        return readUint16(0);
+    }
+
+    /**
+     * result of acknowledge, 0=fail, 1=good 
+     */
+    public final int result() {
+        return readUint16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
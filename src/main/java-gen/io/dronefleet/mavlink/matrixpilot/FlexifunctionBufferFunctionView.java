@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionBufferFunction} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionBufferFunctionView extends PayloadView<FlexifunctionBufferFunctionView> {
+    /**
+     * Function index 
+     */
+    public final int funcIndex() {
+        return readUint16(0);
+    }
+
+    /**
+     * Total count of functions 
+     */
+    public final int funcCount() {
+        return readUint16(2);
+    }
+
+    /**
+     * Address in the flexifunction data, Set to 0xFFFF to use address in target memory 
+     */
+    public final int dataAddress() {
+        return readUint16(4);
+    }
+
+    /**
+     * Size of the 
+     */
+    public final int dataSize() {
+        return readUint16(6);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(8);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(9);
+    }
+
+    /**
+     * Settings data 
+     */
+    public final int data(int index) {
+        return readInt8(elementPosition(10, 1, 48, index));
+    }
+}
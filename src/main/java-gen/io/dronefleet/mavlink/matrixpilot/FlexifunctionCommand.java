@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 133,
         description = "Acknowldge success or failure of a flexifunction command"
 )
-public final class FlexifunctionCommand {
+public final class FlexifunctionCommand implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -93,6 +95,15 @@ public final class FlexifunctionCommand {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("commandType").value(this.commandType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionCommand{targetSystem=" + targetSystem
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 208,
         description = "Acknowldge success or failure of a flexifunction command"
 )
-public final class FlexifunctionCommandAck {
+public final class FlexifunctionCommandAck implements JsonWritable {
     private final int commandType;
 
     private final int result;
@@ -76,6 +78,14 @@ public final class FlexifunctionCommandAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("commandType").value(this.commandType);
+        writer.name("result").value(this.result);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionCommandAck{commandType=" + commandType
@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionCommandAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionCommandAckView extends PayloadView<FlexifunctionCommandAckView> {
+    /**
+     * Command acknowledged 
+     */
+    public final int commandType() {
+        return readUint16(0);
+    }
+
+    /**
+     * result of acknowledge 
+     */
+    public final int result() {
+        return readUint16(2);
+    }
+}
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionCommand} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionCommandView extends PayloadView<FlexifunctionCommandView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * Flexifunction command type 
+     */
+    public final int commandType() {
+        return readUint8(2);
+    }
+}
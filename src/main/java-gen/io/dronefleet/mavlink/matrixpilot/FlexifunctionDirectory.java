@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -18,7 +22,7 @@ import java.util.Objects;
         crc = 12,
         description = "Acknowldge success or failure of a flexifunction command"
 )
-public final class FlexifunctionDirectory {
+public final class FlexifunctionDirectory implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -29,7 +33,7 @@ public final class FlexifunctionDirectory {
 
     private final int count;
 
-    private final List<Integer> directoryData;
+    private final IntArrayList directoryData;
 
     private FlexifunctionDirectory(int targetSystem, int targetComponent, int directoryType,
             int startIndex, int count, List<Integer> directoryData) {
@@ -38,7 +42,7 @@ public final class FlexifunctionDirectory {
         this.directoryType = directoryType;
         this.startIndex = startIndex;
         this.count = count;
-        this.directoryData = directoryData;
+        this.directoryData = IntArrayList.copyOf(directoryData);
     }
 
     /**
@@ -123,6 +127,25 @@ public final class FlexifunctionDirectory {
         return this.directoryData;
     }
 
+    /**
+     * Returns a copy of {@link #directoryData()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] directoryDataArray() {
+        return this.directoryData != null ? this.directoryData.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #directoryData()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int directoryData(int index) {
+        if (index < 0 || index >= 48) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.directoryData != null && index < this.directoryData.size() ? this.directoryData.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -149,6 +172,18 @@ public final class FlexifunctionDirectory {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("directoryType").value(this.directoryType);
+        writer.name("startIndex").value(this.startIndex);
+        writer.name("count").value(this.count);
+        writer.name("directoryData").value(this.directoryData);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionDirectory{targetSystem=" + targetSystem
@@ -252,6 +287,13 @@ public final class FlexifunctionDirectory {
             return this;
         }
 
+        /**
+         * Settings data 
+         */
+        public final Builder directoryData(int... directoryData) {
+            return directoryData(IntArrayList.of(directoryData));
+        }
+
         public final FlexifunctionDirectory build() {
             return new FlexifunctionDirectory(targetSystem, targetComponent, directoryType, startIndex, count, directoryData);
         }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 218,
         description = "Acknowldge success or failure of a flexifunction command"
 )
-public final class FlexifunctionDirectoryAck {
+public final class FlexifunctionDirectoryAck implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -145,6 +147,18 @@ public final class FlexifunctionDirectoryAck {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("directoryType").value(this.directoryType);
+        writer.name("startIndex").value(this.startIndex);
+        writer.name("count").value(this.count);
+        writer.name("result").value(this.result);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionDirectoryAck{targetSystem=" + targetSystem
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionDirectoryAck} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionDirectoryAckView extends PayloadView<FlexifunctionDirectoryAckView> {
+    /**
+     * result of acknowledge, 0=fail, 1=good 
+     */
+    public final int result() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * 0=inputs, 1=outputs 
+     */
+    public final int directoryType() {
+        return readUint8(4);
+    }
+
+    /**
+     * index of first directory entry to write 
+     */
+    public final int startIndex() {
+        return readUint8(5);
+    }
+
+    /**
+     * count of directory entries to write 
+     */
+    public final int count() {
+        return readUint8(6);
+    }
+}
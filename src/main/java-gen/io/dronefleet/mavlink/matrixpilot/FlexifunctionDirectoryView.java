@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionDirectory} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionDirectoryView extends PayloadView<FlexifunctionDirectoryView> {
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(0);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(1);
+    }
+
+    /**
+     * 0=inputs, 1=outputs 
+     */
+    public final int directoryType() {
+        return readUint8(2);
+    }
+
+    /**
+     * index of first directory entry to write 
+     */
+    public final int startIndex() {
+        return readUint8(3);
+    }
+
+    /**
+     * count of directory entries to write 
+     */
+    public final int count() {
+        return readUint8(4);
+    }
+
+    /**
+     * Settings data 
+     */
+    public final int directoryData(int index) {
+        return readInt8(elementPosition(5, 1, 48, index));
+    }
+}
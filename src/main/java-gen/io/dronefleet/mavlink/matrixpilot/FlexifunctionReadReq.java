@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 26,
         description = "Request reading of flexifunction data"
 )
-public final class FlexifunctionReadReq {
+public final class FlexifunctionReadReq implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -113,6 +115,16 @@ public final class FlexifunctionReadReq {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("readReqType").value(this.readReqType);
+        writer.name("dataIndex").value(this.dataIndex);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FlexifunctionReadReq{targetSystem=" + targetSystem
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FlexifunctionReadReq} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FlexifunctionReadReqView extends PayloadView<FlexifunctionReadReqView> {
+    /**
+     * Type of flexifunction data requested 
+     */
+    public final int readReqType() {
+        return readInt16(0);
+    }
+
+    /**
+     * index into data where needed 
+     */
+    public final int dataIndex() {
+        return readInt16(2);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+}
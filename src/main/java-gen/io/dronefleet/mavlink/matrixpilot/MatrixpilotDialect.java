@@ -2,55 +2,64 @@ package io.dronefleet.mavlink.matrixpilot;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class MatrixpilotDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(150, FlexifunctionSet.class)
-            .put(151, FlexifunctionReadReq.class)
-            .put(152, FlexifunctionBufferFunction.class)
-            .put(153, FlexifunctionBufferFunctionAck.class)
-            .put(155, FlexifunctionDirectory.class)
-            .put(156, FlexifunctionDirectoryAck.class)
-            .put(157, FlexifunctionCommand.class)
-            .put(158, FlexifunctionCommandAck.class)
-            .put(170, SerialUdbExtraF2A.class)
-            .put(171, SerialUdbExtraF2B.class)
-            .put(172, SerialUdbExtraF4.class)
-            .put(173, SerialUdbExtraF5.class)
-            .put(174, SerialUdbExtraF6.class)
-            .put(175, SerialUdbExtraF7.class)
-            .put(176, SerialUdbExtraF8.class)
-            .put(177, SerialUdbExtraF13.class)
-            .put(178, SerialUdbExtraF14.class)
-            .put(179, SerialUdbExtraF15.class)
-            .put(180, SerialUdbExtraF16.class)
-            .put(181, Altitudes.class)
-            .put(182, Airspeeds.class)
-            .put(183, SerialUdbExtraF17.class)
-            .put(184, SerialUdbExtraF18.class)
-            .put(185, SerialUdbExtraF19.class)
-            .put(186, SerialUdbExtraF20.class)
-            .put(187, SerialUdbExtraF21.class)
-            .put(188, SerialUdbExtraF22.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(150, "io.dronefleet.mavlink.matrixpilot.FlexifunctionSet", 181, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(151, "io.dronefleet.mavlink.matrixpilot.FlexifunctionReadReq", 26, 6, 6, 4, 5),
+            new MavlinkMessageDescriptor(152, "io.dronefleet.mavlink.matrixpilot.FlexifunctionBufferFunction", 101, 58, 58, 8, 9),
+            new MavlinkMessageDescriptor(153, "io.dronefleet.mavlink.matrixpilot.FlexifunctionBufferFunctionAck", 109, 6, 6, 4, 5),
+            new MavlinkMessageDescriptor(155, "io.dronefleet.mavlink.matrixpilot.FlexifunctionDirectory", 12, 53, 53, 0, 1),
+            new MavlinkMessageDescriptor(156, "io.dronefleet.mavlink.matrixpilot.FlexifunctionDirectoryAck", 218, 7, 7, 2, 3),
+            new MavlinkMessageDescriptor(157, "io.dronefleet.mavlink.matrixpilot.FlexifunctionCommand", 133, 3, 3, 0, 1),
+            new MavlinkMessageDescriptor(158, "io.dronefleet.mavlink.matrixpilot.FlexifunctionCommandAck", 208, 4, 4, -1, -1),
+            new MavlinkMessageDescriptor(170, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF2A", 103, 61, 61, -1, -1),
+            new MavlinkMessageDescriptor(171, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF2B", 245, 108, 108, -1, -1),
+            new MavlinkMessageDescriptor(172, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF4", 191, 10, 10, -1, -1),
+            new MavlinkMessageDescriptor(173, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF5", 54, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(174, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF6", 54, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(175, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF7", 171, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(176, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF8", 142, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(177, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF13", 249, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(178, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF14", 123, 17, 17, -1, -1),
+            new MavlinkMessageDescriptor(179, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF15", 7, 60, 60, -1, -1),
+            new MavlinkMessageDescriptor(180, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF16", 222, 110, 110, -1, -1),
+            new MavlinkMessageDescriptor(181, "io.dronefleet.mavlink.matrixpilot.Altitudes", 55, 28, 28, -1, -1),
+            new MavlinkMessageDescriptor(182, "io.dronefleet.mavlink.matrixpilot.Airspeeds", 154, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(183, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF17", 175, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(184, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF18", 41, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(185, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF19", 87, 8, 8, -1, -1),
+            new MavlinkMessageDescriptor(186, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF20", 144, 25, 25, -1, -1),
+            new MavlinkMessageDescriptor(187, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF21", 134, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(188, "io.dronefleet.mavlink.matrixpilot.SerialUdbExtraF22", 91, 12, 12, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final MatrixpilotDialect instance = new MatrixpilotDialect();
 
     public MatrixpilotDialect() {
-        super("matrixpilot", dependencies, messages);
+        super("matrixpilot", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static MatrixpilotDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 249,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F13: format"
 )
-public final class SerialUdbExtraF13 {
+public final class SerialUdbExtraF13 implements JsonWritable {
     private final int sueWeekNo;
 
     private final int sueLatOrigin;
@@ -114,6 +116,16 @@ public final class SerialUdbExtraF13 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueWeekNo").value(this.sueWeekNo);
+        writer.name("sueLatOrigin").value(this.sueLatOrigin);
+        writer.name("sueLonOrigin").value(this.sueLonOrigin);
+        writer.name("sueAltOrigin").value(this.sueAltOrigin);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF13{sueWeekNo=" + sueWeekNo
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF13} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF13View extends PayloadView<SerialUdbExtraF13View> {
+    /**
+     * Serial UDB Extra MP Origin Latitude 
+     */
+    public final int sueLatOrigin() {
+        return readInt32(0);
+    }
+
+    /**
+     * Serial UDB Extra MP Origin Longitude 
+     */
+    public final int sueLonOrigin() {
+        return readInt32(4);
+    }
+
+    /**
+     * Serial UDB Extra MP Origin Altitude Above Sea Level 
+     */
+    public final int sueAltOrigin() {
+        return readInt32(8);
+    }
+
+    /**
+     * Serial UDB Extra GPS Week Number 
+     */
+    public final int sueWeekNo() {
+        return readInt16(12);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 123,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F14: format"
 )
-public final class SerialUdbExtraF14 {
+public final class SerialUdbExtraF14 implements JsonWritable {
     private final int sueWindEstimation;
 
     private final int sueGpsType;
@@ -234,6 +236,23 @@ public final class SerialUdbExtraF14 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueWindEstimation").value(this.sueWindEstimation);
+        writer.name("sueGpsType").value(this.sueGpsType);
+        writer.name("sueDr").value(this.sueDr);
+        writer.name("sueBoardType").value(this.sueBoardType);
+        writer.name("sueAirframe").value(this.sueAirframe);
+        writer.name("sueRcon").value(this.sueRcon);
+        writer.name("sueTrapFlags").value(this.sueTrapFlags);
+        writer.name("sueTrapSource").value(this.sueTrapSource);
+        writer.name("sueOscFailCount").value(this.sueOscFailCount);
+        writer.name("sueClockConfig").value(this.sueClockConfig);
+        writer.name("sueFlightPlanType").value(this.sueFlightPlanType);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF14{sueWindEstimation=" + sueWindEstimation
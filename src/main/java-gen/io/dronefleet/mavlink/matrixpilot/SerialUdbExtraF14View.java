@@ -0,0 +1,86 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF14} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF14View extends PayloadView<SerialUdbExtraF14View> {
+    /**
+     * Serial UDB Extra Type Program Address of Last Trap 
+     */
+    public final long sueTrapSource() {
+        return readUint32(0);
+    }
+
+    /**
+     * Serial UDB Extra Reboot Register of DSPIC 
+     */
+    public final int sueRcon() {
+        return readInt16(4);
+    }
+
+    /**
+     * Serial UDB Extra Last dspic Trap Flags 
+     */
+    public final int sueTrapFlags() {
+        return readInt16(6);
+    }
+
+    /**
+     * Serial UDB Extra Number of Ocillator Failures 
+     */
+    public final int sueOscFailCount() {
+        return readInt16(8);
+    }
+
+    /**
+     * Serial UDB Extra Wind Estimation Enabled 
+     */
+    public final int sueWindEstimation() {
+        return readUint8(10);
+    }
+
+    /**
+     * Serial UDB Extra Type of GPS Unit 
+     */
+    public final int sueGpsType() {
+        return readUint8(11);
+    }
+
+    /**
+     * Serial UDB Extra Dead Reckoning Enabled 
+     */
+    public final int sueDr() {
+        return readUint8(12);
+    }
+
+    /**
+     * Serial UDB Extra Type of UDB Hardware 
+     */
+    public final int sueBoardType() {
+        return readUint8(13);
+    }
+
+    /**
+     * Serial UDB Extra Type of Airframe 
+     */
+    public final int sueAirframe() {
+        return readUint8(14);
+    }
+
+    /**
+     * Serial UDB Extra UDB Internal Clock Configuration 
+     */
+    public final int sueClockConfig() {
+        return readUint8(15);
+    }
+
+    /**
+     * Serial UDB Extra Type of Flight Plan 
+     */
+    public final int sueFlightPlanType() {
+        return readUint8(16);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 7,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F15 format"
 )
-public final class SerialUdbExtraF15 {
+public final class SerialUdbExtraF15 implements JsonWritable {
     private final byte[] sueIdVehicleModelName;
 
     private final byte[] sueIdVehicleRegistration;
@@ -78,6 +80,14 @@ public final class SerialUdbExtraF15 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueIdVehicleModelName").value(this.sueIdVehicleModelName);
+        writer.name("sueIdVehicleRegistration").value(this.sueIdVehicleRegistration);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF15{sueIdVehicleModelName=" + sueIdVehicleModelName
@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF15} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF15View extends PayloadView<SerialUdbExtraF15View> {
+    /**
+     * Serial UDB Extra Model Name Of Vehicle 
+     */
+    public final int sueIdVehicleModelName(int index) {
+        return readUint8(elementPosition(0, 1, 40, index));
+    }
+
+    /**
+     * Serial UDB Extra Registraton Number of Vehicle 
+     */
+    public final int sueIdVehicleRegistration(int index) {
+        return readUint8(elementPosition(40, 1, 20, index));
+    }
+}
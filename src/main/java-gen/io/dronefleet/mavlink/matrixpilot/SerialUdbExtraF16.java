@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 222,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F16 format"
 )
-public final class SerialUdbExtraF16 {
+public final class SerialUdbExtraF16 implements JsonWritable {
     private final byte[] sueIdLeadPilot;
 
     private final byte[] sueIdDiyDronesUrl;
@@ -78,6 +80,14 @@ public final class SerialUdbExtraF16 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueIdLeadPilot").value(this.sueIdLeadPilot);
+        writer.name("sueIdDiyDronesUrl").value(this.sueIdDiyDronesUrl);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF16{sueIdLeadPilot=" + sueIdLeadPilot
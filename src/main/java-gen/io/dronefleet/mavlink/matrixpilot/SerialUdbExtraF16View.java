@@ -0,0 +1,23 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF16} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF16View extends PayloadView<SerialUdbExtraF16View> {
+    /**
+     * Serial UDB Extra Name of Expected Lead Pilot 
+     */
+    public final int sueIdLeadPilot(int index) {
+        return readUint8(elementPosition(0, 1, 40, index));
+    }
+
+    /**
+     * Serial UDB Extra URL of Lead Pilot or Team 
+     */
+    public final int sueIdDiyDronesUrl(int index) {
+        return readUint8(elementPosition(40, 1, 70, index));
+    }
+}
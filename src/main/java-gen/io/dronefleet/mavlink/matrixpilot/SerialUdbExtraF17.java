@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 175,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F17 format"
 )
-public final class SerialUdbExtraF17 {
+public final class SerialUdbExtraF17 implements JsonWritable {
     private final float sueFeedForward;
 
     private final float sueTurnRateNav;
@@ -93,6 +95,15 @@ public final class SerialUdbExtraF17 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueFeedForward").value(this.sueFeedForward);
+        writer.name("sueTurnRateNav").value(this.sueTurnRateNav);
+        writer.name("sueTurnRateFbw").value(this.sueTurnRateFbw);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF17{sueFeedForward=" + sueFeedForward
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF17} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF17View extends PayloadView<SerialUdbExtraF17View> {
+    /**
+     * SUE Feed Forward Gain 
+     */
+    public final float sueFeedForward() {
+        return readFloat(0);
+    }
+
+    /**
+     * SUE Max Turn Rate when Navigating 
+     */
+    public final float sueTurnRateNav() {
+        return readFloat(4);
+    }
+
+    /**
+     * SUE Max Turn Rate in Fly By Wire Mode 
+     */
+    public final float sueTurnRateFbw() {
+        return readFloat(8);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 41,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F18 format"
 )
-public final class SerialUdbExtraF18 {
+public final class SerialUdbExtraF18 implements JsonWritable {
     private final float angleOfAttackNormal;
 
     private final float angleOfAttackInverted;
@@ -128,6 +130,17 @@ public final class SerialUdbExtraF18 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("angleOfAttackNormal").value(this.angleOfAttackNormal);
+        writer.name("angleOfAttackInverted").value(this.angleOfAttackInverted);
+        writer.name("elevatorTrimNormal").value(this.elevatorTrimNormal);
+        writer.name("elevatorTrimInverted").value(this.elevatorTrimInverted);
+        writer.name("referenceSpeed").value(this.referenceSpeed);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF18{angleOfAttackNormal=" + angleOfAttackNormal
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF18} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF18View extends PayloadView<SerialUdbExtraF18View> {
+    /**
+     * SUE Angle of Attack Normal 
+     */
+    public final float angleOfAttackNormal() {
+        return readFloat(0);
+    }
+
+    /**
+     * SUE Angle of Attack Inverted 
+     */
+    public final float angleOfAttackInverted() {
+        return readFloat(4);
+    }
+
+    /**
+     * SUE Elevator Trim Normal 
+     */
+    public final float elevatorTrimNormal() {
+        return readFloat(8);
+    }
+
+    /**
+     * SUE Elevator Trim Inverted 
+     */
+    public final float elevatorTrimInverted() {
+        return readFloat(12);
+    }
+
+    /**
+     * SUE reference_speed 
+     */
+    public final float referenceSpeed() {
+        return readFloat(16);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 87,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F19 format"
 )
-public final class SerialUdbExtraF19 {
+public final class SerialUdbExtraF19 implements JsonWritable {
     private final int sueAileronOutputChannel;
 
     private final int sueAileronReversed;
@@ -180,6 +182,20 @@ public final class SerialUdbExtraF19 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueAileronOutputChannel").value(this.sueAileronOutputChannel);
+        writer.name("sueAileronReversed").value(this.sueAileronReversed);
+        writer.name("sueElevatorOutputChannel").value(this.sueElevatorOutputChannel);
+        writer.name("sueElevatorReversed").value(this.sueElevatorReversed);
+        writer.name("sueThrottleOutputChannel").value(this.sueThrottleOutputChannel);
+        writer.name("sueThrottleReversed").value(this.sueThrottleReversed);
+        writer.name("sueRudderOutputChannel").value(this.sueRudderOutputChannel);
+        writer.name("sueRudderReversed").value(this.sueRudderReversed);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF19{sueAileronOutputChannel=" + sueAileronOutputChannel
@@ -0,0 +1,65 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF19} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF19View extends PayloadView<SerialUdbExtraF19View> {
+    /**
+     * SUE aileron output channel 
+     */
+    public final int sueAileronOutputChannel() {
+        return readUint8(0);
+    }
+
+    /**
+     * SUE aileron reversed 
+     */
+    public final int sueAileronReversed() {
+        return readUint8(1);
+    }
+
+    /**
+     * SUE elevator output channel 
+     */
+    public final int sueElevatorOutputChannel() {
+        return readUint8(2);
+    }
+
+    /**
+     * SUE elevator reversed 
+     */
+    public final int sueElevatorReversed() {
+        return readUint8(3);
+    }
+
+    /**
+     * SUE throttle output channel 
+     */
+    public final int sueThrottleOutputChannel() {
+        return readUint8(4);
+    }
+
+    /**
+     * SUE throttle reversed 
+     */
+    public final int sueThrottleReversed() {
+        return readUint8(5);
+    }
+
+    /**
+     * SUE rudder output channel 
+     */
+    public final int sueRudderOutputChannel() {
+        return readUint8(6);
+    }
+
+    /**
+     * SUE rudder reversed 
+     */
+    public final int sueRudderReversed() {
+        return readUint8(7);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 144,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F20 format"
 )
-public final class SerialUdbExtraF20 {
+public final class SerialUdbExtraF20 implements JsonWritable {
     private final int sueNumberOfInputs;
 
     private final int sueTrimValueInput1;
@@ -279,6 +281,25 @@ public final class SerialUdbExtraF20 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueNumberOfInputs").value(this.sueNumberOfInputs);
+        writer.name("sueTrimValueInput1").value(this.sueTrimValueInput1);
+        writer.name("sueTrimValueInput2").value(this.sueTrimValueInput2);
+        writer.name("sueTrimValueInput3").value(this.sueTrimValueInput3);
+        writer.name("sueTrimValueInput4").value(this.sueTrimValueInput4);
+        writer.name("sueTrimValueInput5").value(this.sueTrimValueInput5);
+        writer.name("sueTrimValueInput6").value(this.sueTrimValueInput6);
+        writer.name("sueTrimValueInput7").value(this.sueTrimValueInput7);
+        writer.name("sueTrimValueInput8").value(this.sueTrimValueInput8);
+        writer.name("sueTrimValueInput9").value(this.sueTrimValueInput9);
+        writer.name("sueTrimValueInput10").value(this.sueTrimValueInput10);
+        writer.name("sueTrimValueInput11").value(this.sueTrimValueInput11);
+        writer.name("sueTrimValueInput12").value(this.sueTrimValueInput12);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF20{sueNumberOfInputs=" + sueNumberOfInputs
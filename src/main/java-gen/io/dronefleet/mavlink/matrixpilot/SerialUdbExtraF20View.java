@@ -0,0 +1,100 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF20} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF20View extends PayloadView<SerialUdbExtraF20View> {
+    /**
+     * SUE UDB PWM Trim Value on Input 1 
+     */
+    public final int sueTrimValueInput1() {
+        return readInt16(0);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 2 
+     */
+    public final int sueTrimValueInput2() {
+        return readInt16(2);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 3 
+     */
+    public final int sueTrimValueInput3() {
+        return readInt16(4);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 4 
+     */
+    public final int sueTrimValueInput4() {
+        return readInt16(6);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 5 
+     */
+    public final int sueTrimValueInput5() {
+        return readInt16(8);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 6 
+     */
+    public final int sueTrimValueInput6() {
+        return readInt16(10);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 7 
+     */
+    public final int sueTrimValueInput7() {
+        return readInt16(12);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 8 
+     */
+    public final int sueTrimValueInput8() {
+        return readInt16(14);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 9 
+     */
+    public final int sueTrimValueInput9() {
+        return readInt16(16);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 10 
+     */
+    public final int sueTrimValueInput10() {
+        return readInt16(18);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 11 
+     */
+    public final int sueTrimValueInput11() {
+        return readInt16(20);
+    }
+
+    /**
+     * SUE UDB PWM Trim Value on Input 12 
+     */
+    public final int sueTrimValueInput12() {
+        return readInt16(22);
+    }
+
+    /**
+     * SUE Number of Input Channels 
+     */
+    public final int sueNumberOfInputs() {
+        return readUint8(24);
+    }
+}
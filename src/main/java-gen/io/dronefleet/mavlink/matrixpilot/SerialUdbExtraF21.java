@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 134,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F21 format"
 )
-public final class SerialUdbExtraF21 {
+public final class SerialUdbExtraF21 implements JsonWritable {
     private final int sueAccelXOffset;
 
     private final int sueAccelYOffset;
@@ -151,6 +153,18 @@ public final class SerialUdbExtraF21 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueAccelXOffset").value(this.sueAccelXOffset);
+        writer.name("sueAccelYOffset").value(this.sueAccelYOffset);
+        writer.name("sueAccelZOffset").value(this.sueAccelZOffset);
+        writer.name("sueGyroXOffset").value(this.sueGyroXOffset);
+        writer.name("sueGyroYOffset").value(this.sueGyroYOffset);
+        writer.name("sueGyroZOffset").value(this.sueGyroZOffset);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF21{sueAccelXOffset=" + sueAccelXOffset
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF21} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF21View extends PayloadView<SerialUdbExtraF21View> {
+    /**
+     * SUE X accelerometer offset 
+     */
+    public final int sueAccelXOffset() {
+        return readInt16(0);
+    }
+
+    /**
+     * SUE Y accelerometer offset 
+     */
+    public final int sueAccelYOffset() {
+        return readInt16(2);
+    }
+
+    /**
+     * SUE Z accelerometer offset 
+     */
+    public final int sueAccelZOffset() {
+        return readInt16(4);
+    }
+
+    /**
+     * SUE X gyro offset 
+     */
+    public final int sueGyroXOffset() {
+        return readInt16(6);
+    }
+
+    /**
+     * SUE Y gyro offset 
+     */
+    public final int sueGyroYOffset() {
+        return readInt16(8);
+    }
+
+    /**
+     * SUE Z gyro offset 
+     */
+    public final int sueGyroZOffset() {
+        return readInt16(10);
+    }
+}
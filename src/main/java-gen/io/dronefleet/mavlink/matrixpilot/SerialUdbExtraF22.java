@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 91,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F22 format"
 )
-public final class SerialUdbExtraF22 {
+public final class SerialUdbExtraF22 implements JsonWritable {
     private final int sueAccelXAtCalibration;
 
     private final int sueAccelYAtCalibration;
@@ -152,6 +154,18 @@ public final class SerialUdbExtraF22 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueAccelXAtCalibration").value(this.sueAccelXAtCalibration);
+        writer.name("sueAccelYAtCalibration").value(this.sueAccelYAtCalibration);
+        writer.name("sueAccelZAtCalibration").value(this.sueAccelZAtCalibration);
+        writer.name("sueGyroXAtCalibration").value(this.sueGyroXAtCalibration);
+        writer.name("sueGyroYAtCalibration").value(this.sueGyroYAtCalibration);
+        writer.name("sueGyroZAtCalibration").value(this.sueGyroZAtCalibration);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF22{sueAccelXAtCalibration=" + sueAccelXAtCalibration
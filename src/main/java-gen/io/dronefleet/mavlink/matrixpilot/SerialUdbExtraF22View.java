@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF22} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF22View extends PayloadView<SerialUdbExtraF22View> {
+    /**
+     * SUE X accelerometer at calibration time 
+     */
+    public final int sueAccelXAtCalibration() {
+        return readInt16(0);
+    }
+
+    /**
+     * SUE Y accelerometer at calibration time 
+     */
+    public final int sueAccelYAtCalibration() {
+        return readInt16(2);
+    }
+
+    /**
+     * SUE Z accelerometer at calibration time 
+     */
+    public final int sueAccelZAtCalibration() {
+        return readInt16(4);
+    }
+
+    /**
+     * SUE X gyro at calibration time 
+     */
+    public final int sueGyroXAtCalibration() {
+        return readInt16(6);
+    }
+
+    /**
+     * SUE Y gyro at calibration time 
+     */
+    public final int sueGyroYAtCalibration() {
+        return readInt16(8);
+    }
+
+    /**
+     * SUE Z gyro at calibration time 
+     */
+    public final int sueGyroZAtCalibration() {
+        return readInt16(10);
+    }
+}
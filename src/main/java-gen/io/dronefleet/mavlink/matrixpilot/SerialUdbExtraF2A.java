@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 103,
         description = "Backwards compatible MAVLink version of SERIAL_UDB_EXTRA - F2: Format Part A"
 )
-public final class SerialUdbExtraF2A {
+public final class SerialUdbExtraF2A implements JsonWritable {
     private final long sueTime;
 
     private final int sueStatus;
@@ -527,6 +529,39 @@ public final class SerialUdbExtraF2A {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueTime").value(this.sueTime);
+        writer.name("sueStatus").value(this.sueStatus);
+        writer.name("sueLatitude").value(this.sueLatitude);
+        writer.name("sueLongitude").value(this.sueLongitude);
+        writer.name("sueAltitude").value(this.sueAltitude);
+        writer.name("sueWaypointIndex").value(this.sueWaypointIndex);
+        writer.name("sueRmat0").value(this.sueRmat0);
+        writer.name("sueRmat1").value(this.sueRmat1);
+        writer.name("sueRmat2").value(this.sueRmat2);
+        writer.name("sueRmat3").value(this.sueRmat3);
+        writer.name("sueRmat4").value(this.sueRmat4);
+        writer.name("sueRmat5").value(this.sueRmat5);
+        writer.name("sueRmat6").value(this.sueRmat6);
+        writer.name("sueRmat7").value(this.sueRmat7);
+        writer.name("sueRmat8").value(this.sueRmat8);
+        writer.name("sueCog").value(this.sueCog);
+        writer.name("sueSog").value(this.sueSog);
+        writer.name("sueCpuLoad").value(this.sueCpuLoad);
+        writer.name("sueAirSpeed3dimu").value(this.sueAirSpeed3dimu);
+        writer.name("sueEstimatedWind0").value(this.sueEstimatedWind0);
+        writer.name("sueEstimatedWind1").value(this.sueEstimatedWind1);
+        writer.name("sueEstimatedWind2").value(this.sueEstimatedWind2);
+        writer.name("sueMagfieldearth0").value(this.sueMagfieldearth0);
+        writer.name("sueMagfieldearth1").value(this.sueMagfieldearth1);
+        writer.name("sueMagfieldearth2").value(this.sueMagfieldearth2);
+        writer.name("sueSvs").value(this.sueSvs);
+        writer.name("sueHdop").value(this.sueHdop);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF2A{sueTime=" + sueTime
@@ -0,0 +1,198 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF2A} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF2AView extends PayloadView<SerialUdbExtraF2AView> {
+    /**
+     * Serial UDB Extra Time 
+     */
+    public final long sueTime() {
+        return readUint32(0);
+    }
+
+    /**
+     * Serial UDB Extra Latitude 
+     */
+    public final int sueLatitude() {
+        return readInt32(4);
+    }
+
+    /**
+     * Serial UDB Extra Longitude 
+     */
+    public final int sueLongitude() {
+        return readInt32(8);
+    }
+
+    /**
+     * Serial UDB Extra Altitude 
+     */
+    public final int sueAltitude() {
+        return readInt32(12);
+    }
+
+    /**
+     * Serial UDB Extra Waypoint Index 
+     */
+    public final int sueWaypointIndex() {
+        return readUint16(16);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 0 
+     */
+    public final int sueRmat0() {
+        return readInt16(18);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 1 
+     */
+    public final int sueRmat1() {
+        return readInt16(20);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 2 
+     */
+    public final int sueRmat2() {
+        return readInt16(22);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 3 
+     */
+    public final int sueRmat3() {
+        return readInt16(24);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 4 
+     */
+    public final int sueRmat4() {
+        return readInt16(26);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 5 
+     */
+    public final int sueRmat5() {
+        return readInt16(28);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 6 
+     */
+    public final int sueRmat6() {
+        return readInt16(30);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 7 
+     */
+    public final int sueRmat7() {
+        return readInt16(32);
+    }
+
+    /**
+     * Serial UDB Extra Rmat 8 
+     */
+    public final int sueRmat8() {
+        return readInt16(34);
+    }
+
+    /**
+     * Serial UDB Extra GPS Course Over Ground 
+     */
+    public final int sueCog() {
+        return readUint16(36);
+    }
+
+    /**
+     * Serial UDB Extra Speed Over Ground 
+     */
+    public final int sueSog() {
+        return readInt16(38);
+    }
+
+    /**
+     * Serial UDB Extra CPU Load 
+     */
+    public final int sueCpuLoad() {
+        return readUint16(40);
+    }
+
+    /**
+     * Serial UDB Extra 3D IMU Air Speed 
+     */
+    public final int sueAirSpeed3dimu() {
+        return readUint16(42);
+    }
+
+    /**
+     * Serial UDB Extra Estimated Wind 0 
+     */
+    public final int sueEstimatedWind0() {
+        return readInt16(44);
+    }
+
+    /**
+     * Serial UDB Extra Estimated Wind 1 
+     */
+    public final int sueEstimatedWind1() {
+        return readInt16(46);
+    }
+
+    /**
+     * Serial UDB Extra Estimated Wind 2 
+     */
+    public final int sueEstimatedWind2() {
+        return readInt16(48);
+    }
+
+    /**
+     * Serial UDB Extra Magnetic Field Earth 0 
+     */
+    public final int sueMagfieldearth0() {
+        return readInt16(50);
+    }
+
+    /**
+     * Serial UDB Extra Magnetic Field Earth 1 
+     */
+    public final int sueMagfieldearth1() {
+        return readInt16(52);
+    }
+
+    /**
+     * Serial UDB Extra Magnetic Field Earth 2 
+     */
+    public final int sueMagfieldearth2() {
+        return readInt16(54);
+    }
+
+    /**
+     * Serial UDB Extra Number of Satellites in View 
+     */
+    public final int sueSvs() {
+        return readInt16(56);
+    }
+
+    /**
+     * Serial UDB Extra GPS Horizontal Dilution of Precision 
+     */
+    public final int sueHdop() {
+        return readInt16(58);
+    }
+
+    /**
+     * Serial UDB Extra Status 
+     */
+    public final int sueStatus() {
+        return readUint8(60);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 245,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA - F2: Part B"
 )
-public final class SerialUdbExtraF2B {
+public final class SerialUdbExtraF2B implements JsonWritable {
     private final long sueTime;
 
     private final int suePwmInput1;
@@ -952,6 +954,62 @@ public final class SerialUdbExtraF2B {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueTime").value(this.sueTime);
+        writer.name("suePwmInput1").value(this.suePwmInput1);
+        writer.name("suePwmInput2").value(this.suePwmInput2);
+        writer.name("suePwmInput3").value(this.suePwmInput3);
+        writer.name("suePwmInput4").value(this.suePwmInput4);
+        writer.name("suePwmInput5").value(this.suePwmInput5);
+        writer.name("suePwmInput6").value(this.suePwmInput6);
+        writer.name("suePwmInput7").value(this.suePwmInput7);
+        writer.name("suePwmInput8").value(this.suePwmInput8);
+        writer.name("suePwmInput9").value(this.suePwmInput9);
+        writer.name("suePwmInput10").value(this.suePwmInput10);
+        writer.name("suePwmInput11").value(this.suePwmInput11);
+        writer.name("suePwmInput12").value(this.suePwmInput12);
+        writer.name("suePwmOutput1").value(this.suePwmOutput1);
+        writer.name("suePwmOutput2").value(this.suePwmOutput2);
+        writer.name("suePwmOutput3").value(this.suePwmOutput3);
+        writer.name("suePwmOutput4").value(this.suePwmOutput4);
+        writer.name("suePwmOutput5").value(this.suePwmOutput5);
+        writer.name("suePwmOutput6").value(this.suePwmOutput6);
+        writer.name("suePwmOutput7").value(this.suePwmOutput7);
+        writer.name("suePwmOutput8").value(this.suePwmOutput8);
+        writer.name("suePwmOutput9").value(this.suePwmOutput9);
+        writer.name("suePwmOutput10").value(this.suePwmOutput10);
+        writer.name("suePwmOutput11").value(this.suePwmOutput11);
+        writer.name("suePwmOutput12").value(this.suePwmOutput12);
+        writer.name("sueImuLocationX").value(this.sueImuLocationX);
+        writer.name("sueImuLocationY").value(this.sueImuLocationY);
+        writer.name("sueImuLocationZ").value(this.sueImuLocationZ);
+        writer.name("sueLocationErrorEarthX").value(this.sueLocationErrorEarthX);
+        writer.name("sueLocationErrorEarthY").value(this.sueLocationErrorEarthY);
+        writer.name("sueLocationErrorEarthZ").value(this.sueLocationErrorEarthZ);
+        writer.name("sueFlags").value(this.sueFlags);
+        writer.name("sueOscFails").value(this.sueOscFails);
+        writer.name("sueImuVelocityX").value(this.sueImuVelocityX);
+        writer.name("sueImuVelocityY").value(this.sueImuVelocityY);
+        writer.name("sueImuVelocityZ").value(this.sueImuVelocityZ);
+        writer.name("sueWaypointGoalX").value(this.sueWaypointGoalX);
+        writer.name("sueWaypointGoalY").value(this.sueWaypointGoalY);
+        writer.name("sueWaypointGoalZ").value(this.sueWaypointGoalZ);
+        writer.name("sueAeroX").value(this.sueAeroX);
+        writer.name("sueAeroY").value(this.sueAeroY);
+        writer.name("sueAeroZ").value(this.sueAeroZ);
+        writer.name("sueBaromTemp").value(this.sueBaromTemp);
+        writer.name("sueBaromPress").value(this.sueBaromPress);
+        writer.name("sueBaromAlt").value(this.sueBaromAlt);
+        writer.name("sueBatVolt").value(this.sueBatVolt);
+        writer.name("sueBatAmp").value(this.sueBatAmp);
+        writer.name("sueBatAmpHours").value(this.sueBatAmpHours);
+        writer.name("sueDesiredHeight").value(this.sueDesiredHeight);
+        writer.name("sueMemoryStackFree").value(this.sueMemoryStackFree);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF2B{sueTime=" + sueTime
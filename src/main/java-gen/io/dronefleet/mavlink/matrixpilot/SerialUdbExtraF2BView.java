@@ -0,0 +1,359 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF2B} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF2BView extends PayloadView<SerialUdbExtraF2BView> {
+    /**
+     * Serial UDB Extra Time 
+     */
+    public final long sueTime() {
+        return readUint32(0);
+    }
+
+    /**
+     * Serial UDB Extra Status Flags 
+     */
+    public final long sueFlags() {
+        return readUint32(4);
+    }
+
+    /**
+     * SUE barometer pressure 
+     */
+    public final int sueBaromPress() {
+        return readInt32(8);
+    }
+
+    /**
+     * SUE barometer altitude 
+     */
+    public final int sueBaromAlt() {
+        return readInt32(12);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 1 
+     */
+    public final int suePwmInput1() {
+        return readInt16(16);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 2 
+     */
+    public final int suePwmInput2() {
+        return readInt16(18);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 3 
+     */
+    public final int suePwmInput3() {
+        return readInt16(20);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 4 
+     */
+    public final int suePwmInput4() {
+        return readInt16(22);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 5 
+     */
+    public final int suePwmInput5() {
+        return readInt16(24);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 6 
+     */
+    public final int suePwmInput6() {
+        return readInt16(26);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 7 
+     */
+    public final int suePwmInput7() {
+        return readInt16(28);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 8 
+     */
+    public final int suePwmInput8() {
+        return readInt16(30);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 9 
+     */
+    public final int suePwmInput9() {
+        return readInt16(32);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 10 
+     */
+    public final int suePwmInput10() {
+        return readInt16(34);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 11 
+     */
+    public final int suePwmInput11() {
+        return readInt16(36);
+    }
+
+    /**
+     * Serial UDB Extra PWM Input Channel 12 
+     */
+    public final int suePwmInput12() {
+        return readInt16(38);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 1 
+     */
+    public final int suePwmOutput1() {
+        return readInt16(40);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 2 
+     */
+    public final int suePwmOutput2() {
+        return readInt16(42);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 3 
+     */
+    public final int suePwmOutput3() {
+        return readInt16(44);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 4 
+     */
+    public final int suePwmOutput4() {
+        return readInt16(46);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 5 
+     */
+    public final int suePwmOutput5() {
+        return readInt16(48);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 6 
+     */
+    public final int suePwmOutput6() {
+        return readInt16(50);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 7 
+     */
+    public final int suePwmOutput7() {
+        return readInt16(52);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 8 
+     */
+    public final int suePwmOutput8() {
+        return readInt16(54);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 9 
+     */
+    public final int suePwmOutput9() {
+        return readInt16(56);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 10 
+     */
+    public final int suePwmOutput10() {
+        return readInt16(58);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 11 
+     */
+    public final int suePwmOutput11() {
+        return readInt16(60);
+    }
+
+    /**
+     * Serial UDB Extra PWM Output Channel 12 
+     */
+    public final int suePwmOutput12() {
+        return readInt16(62);
+    }
+
+    /**
+     * Serial UDB Extra IMU Location X 
+     */
+    public final int sueImuLocationX() {
+        return readInt16(64);
+    }
+
+    /**
+     * Serial UDB Extra IMU Location Y 
+     */
+    public final int sueImuLocationY() {
+        return readInt16(66);
+    }
+
+    /**
+     * Serial UDB Extra IMU Location Z 
+     */
+    public final int sueImuLocationZ() {
+        return readInt16(68);
+    }
+
+    /**
+     * Serial UDB Location Error Earth X 
+     */
+    public final int sueLocationErrorEarthX() {
+        return readInt16(70);
+    }
+
+    /**
+     * Serial UDB Location Error Earth Y 
+     */
+    public final int sueLocationErrorEarthY() {
+        return readInt16(72);
+    }
+
+    /**
+     * Serial UDB Location Error Earth Z 
+     */
+    public final int sueLocationErrorEarthZ() {
+        return readInt16(74);
+    }
+
+    /**
+     * Serial UDB Extra Oscillator Failure Count 
+     */
+    public final int sueOscFails() {
+        return readInt16(76);
+    }
+
+    /**
+     * Serial UDB Extra IMU Velocity X 
+     */
+    public final int sueImuVelocityX() {
+        return readInt16(78);
+    }
+
+    /**
+     * Serial UDB Extra IMU Velocity Y 
+     */
+    public final int sueImuVelocityY() {
+        return readInt16(80);
+    }
+
+    /**
+     * Serial UDB Extra IMU Velocity Z 
+     */
+    public final int sueImuVelocityZ() {
+        return readInt16(82);
+    }
+
+    /**
+     * Serial UDB Extra Current Waypoint Goal X 
+     */
+    public final int sueWaypointGoalX() {
+        return readInt16(84);
+    }
+
+    /**
+     * Serial UDB Extra Current Waypoint Goal Y 
+     */
+    public final int sueWaypointGoalY() {
+        return readInt16(86);
+    }
+
+    /**
+     * Serial UDB Extra Current Waypoint Goal Z 
+     */
+    public final int sueWaypointGoalZ() {
+        return readInt16(88);
+    }
+
+    /**
+     * Aeroforce in UDB X Axis 
+     */
+    public final int sueAeroX() {
+        return readInt16(90);
+    }
+
+    /**
+     * Aeroforce in UDB Y Axis 
+     */
+    public final int sueAeroY() {
+        return readInt16(92);
+    }
+
+    /**
+     * Aeroforce in UDB Z axis 
+     */
+    public final int sueAeroZ() {
+        return readInt16(94);
+    }
+
+    /**
+     * SUE barometer temperature 
+     */
+    public final int sueBaromTemp() {
+        return readInt16(96);
+    }
+
+    /**
+     * SUE battery voltage 
+     */
+    public final int sueBatVolt() {
+        return readInt16(98);
+    }
+
+    /**
+     * SUE battery current 
+     */
+    public final int sueBatAmp() {
+        return readInt16(100);
+    }
+
+    /**
+     * SUE battery milli amp hours used 
+     */
+    public final int sueBatAmpHours() {
+        return readInt16(102);
+    }
+
+    /**
+     * Sue autopilot desired height 
+     */
+    public final int sueDesiredHeight() {
+        return readInt16(104);
+    }
+
+    /**
+     * Serial UDB Extra Stack Memory Free 
+     */
+    public final int sueMemoryStackFree() {
+        return readInt16(106);
+    }
+}
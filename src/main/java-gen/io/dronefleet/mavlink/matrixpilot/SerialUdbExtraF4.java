@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 191,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F4: format"
 )
-public final class SerialUdbExtraF4 {
+public final class SerialUdbExtraF4 implements JsonWritable {
     private final int sueRollStabilizationAilerons;
 
     private final int sueRollStabilizationRudder;
@@ -215,6 +217,22 @@ public final class SerialUdbExtraF4 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueRollStabilizationAilerons").value(this.sueRollStabilizationAilerons);
+        writer.name("sueRollStabilizationRudder").value(this.sueRollStabilizationRudder);
+        writer.name("suePitchStabilization").value(this.suePitchStabilization);
+        writer.name("sueYawStabilizationRudder").value(this.sueYawStabilizationRudder);
+        writer.name("sueYawStabilizationAileron").value(this.sueYawStabilizationAileron);
+        writer.name("sueAileronNavigation").value(this.sueAileronNavigation);
+        writer.name("sueRudderNavigation").value(this.sueRudderNavigation);
+        writer.name("sueAltitudeholdStabilized").value(this.sueAltitudeholdStabilized);
+        writer.name("sueAltitudeholdWaypoint").value(this.sueAltitudeholdWaypoint);
+        writer.name("sueRacingMode").value(this.sueRacingMode);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF4{sueRollStabilizationAilerons=" + sueRollStabilizationAilerons
@@ -0,0 +1,79 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF4} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF4View extends PayloadView<SerialUdbExtraF4View> {
+    /**
+     * Serial UDB Extra Roll Stabilization with Ailerons Enabled 
+     */
+    public final int sueRollStabilizationAilerons() {
+        return readUint8(0);
+    }
+
+    /**
+     * Serial UDB Extra Roll Stabilization with Rudder Enabled 
+     */
+    public final int sueRollStabilizationRudder() {
+        return readUint8(1);
+    }
+
+    /**
+     * Serial UDB Extra Pitch Stabilization Enabled 
+     */
+    public final int suePitchStabilization() {
+        return readUint8(2);
+    }
+
+    /**
+     * Serial UDB Extra Yaw Stabilization using Rudder Enabled 
+     */
+    public final int sueYawStabilizationRudder() {
+        return readUint8(3);
+    }
+
+    /**
+     * Serial UDB Extra Yaw Stabilization using Ailerons Enabled 
+     */
+    public final int sueYawStabilizationAileron() {
+        return readUint8(4);
+    }
+
+    /**
+     * Serial UDB Extra Navigation with Ailerons Enabled 
+     */
+    public final int sueAileronNavigation() {
+        return readUint8(5);
+    }
+
+    /**
+     * Serial UDB Extra Navigation with Rudder Enabled 
+     */
+    public final int sueRudderNavigation() {
+        return readUint8(6);
+    }
+
+    /**
+     * Serial UDB Extra Type of Alitude Hold when in Stabilized Mode 
+     */
+    public final int sueAltitudeholdStabilized() {
+        return readUint8(7);
+    }
+
+    /**
+     * Serial UDB Extra Type of Alitude Hold when in Waypoint Mode 
+     */
+    public final int sueAltitudeholdWaypoint() {
+        return readUint8(8);
+    }
+
+    /**
+     * Serial UDB Extra Firmware racing mode enabled 
+     */
+    public final int sueRacingMode() {
+        return readUint8(9);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 54,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F5: format"
 )
-public final class SerialUdbExtraF5 {
+public final class SerialUdbExtraF5 implements JsonWritable {
     private final float sueYawkpAileron;
 
     private final float sueYawkdAileron;
@@ -111,6 +113,16 @@ public final class SerialUdbExtraF5 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueYawkpAileron").value(this.sueYawkpAileron);
+        writer.name("sueYawkdAileron").value(this.sueYawkdAileron);
+        writer.name("sueRollkp").value(this.sueRollkp);
+        writer.name("sueRollkd").value(this.sueRollkd);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF5{sueYawkpAileron=" + sueYawkpAileron
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF5} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF5View extends PayloadView<SerialUdbExtraF5View> {
+    /**
+     * Serial UDB YAWKP_AILERON Gain for Proporional control of navigation 
+     */
+    public final float sueYawkpAileron() {
+        return readFloat(0);
+    }
+
+    /**
+     * Serial UDB YAWKD_AILERON Gain for Rate control of navigation 
+     */
+    public final float sueYawkdAileron() {
+        return readFloat(4);
+    }
+
+    /**
+     * Serial UDB Extra ROLLKP Gain for Proportional control of roll stabilization 
+     */
+    public final float sueRollkp() {
+        return readFloat(8);
+    }
+
+    /**
+     * Serial UDB Extra ROLLKD Gain for Rate control of roll stabilization 
+     */
+    public final float sueRollkd() {
+        return readFloat(12);
+    }
+}
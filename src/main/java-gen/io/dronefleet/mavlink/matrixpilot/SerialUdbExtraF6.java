@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 54,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F6: format"
 )
-public final class SerialUdbExtraF6 {
+public final class SerialUdbExtraF6 implements JsonWritable {
     private final float suePitchgain;
 
     private final float suePitchkd;
@@ -128,6 +130,17 @@ public final class SerialUdbExtraF6 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("suePitchgain").value(this.suePitchgain);
+        writer.name("suePitchkd").value(this.suePitchkd);
+        writer.name("sueRudderElevMix").value(this.sueRudderElevMix);
+        writer.name("sueRollElevMix").value(this.sueRollElevMix);
+        writer.name("sueElevatorBoost").value(this.sueElevatorBoost);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF6{suePitchgain=" + suePitchgain
@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF6} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF6View extends PayloadView<SerialUdbExtraF6View> {
+    /**
+     * Serial UDB Extra PITCHGAIN Proportional Control 
+     */
+    public final float suePitchgain() {
+        return readFloat(0);
+    }
+
+    /**
+     * Serial UDB Extra Pitch Rate Control 
+     */
+    public final float suePitchkd() {
+        return readFloat(4);
+    }
+
+    /**
+     * Serial UDB Extra Rudder to Elevator Mix 
+     */
+    public final float sueRudderElevMix() {
+        return readFloat(8);
+    }
+
+    /**
+     * Serial UDB Extra Roll to Elevator Mix 
+     */
+    public final float sueRollElevMix() {
+        return readFloat(12);
+    }
+
+    /**
+     * Gain For Boosting Manual Elevator control When Plane Stabilized 
+     */
+    public final float sueElevatorBoost() {
+        return readFloat(16);
+    }
+}
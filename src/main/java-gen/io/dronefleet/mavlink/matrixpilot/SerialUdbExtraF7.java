@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 171,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F7: format"
 )
-public final class SerialUdbExtraF7 {
+public final class SerialUdbExtraF7 implements JsonWritable {
     private final float sueYawkpRudder;
 
     private final float sueYawkdRudder;
@@ -145,6 +147,18 @@ public final class SerialUdbExtraF7 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueYawkpRudder").value(this.sueYawkpRudder);
+        writer.name("sueYawkdRudder").value(this.sueYawkdRudder);
+        writer.name("sueRollkpRudder").value(this.sueRollkpRudder);
+        writer.name("sueRollkdRudder").value(this.sueRollkdRudder);
+        writer.name("sueRudderBoost").value(this.sueRudderBoost);
+        writer.name("sueRtlPitchDown").value(this.sueRtlPitchDown);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF7{sueYawkpRudder=" + sueYawkpRudder
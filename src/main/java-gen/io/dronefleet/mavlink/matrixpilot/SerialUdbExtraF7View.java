@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF7} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF7View extends PayloadView<SerialUdbExtraF7View> {
+    /**
+     * Serial UDB YAWKP_RUDDER Gain for Proporional control of navigation 
+     */
+    public final float sueYawkpRudder() {
+        return readFloat(0);
+    }
+
+    /**
+     * Serial UDB YAWKD_RUDDER Gain for Rate control of navigation 
+     */
+    public final float sueYawkdRudder() {
+        return readFloat(4);
+    }
+
+    /**
+     * Serial UDB Extra ROLLKP_RUDDER Gain for Proportional control of roll stabilization 
+     */
+    public final float sueRollkpRudder() {
+        return readFloat(8);
+    }
+
+    /**
+     * Serial UDB Extra ROLLKD_RUDDER Gain for Rate control of roll stabilization 
+     */
+    public final float sueRollkdRudder() {
+        return readFloat(12);
+    }
+
+    /**
+     * SERIAL UDB EXTRA Rudder Boost Gain to Manual Control when stabilized 
+     */
+    public final float sueRudderBoost() {
+        return readFloat(16);
+    }
+
+    /**
+     * Serial UDB Extra Return To Landing - Angle to Pitch Plane Down 
+     */
+    public final float sueRtlPitchDown() {
+        return readFloat(20);
+    }
+}
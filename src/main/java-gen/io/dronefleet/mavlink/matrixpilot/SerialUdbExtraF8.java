@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.matrixpilot;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 142,
         description = "Backwards compatible version of SERIAL_UDB_EXTRA F8: format"
 )
-public final class SerialUdbExtraF8 {
+public final class SerialUdbExtraF8 implements JsonWritable {
     private final float sueHeightTargetMax;
 
     private final float sueHeightTargetMin;
@@ -163,6 +165,19 @@ public final class SerialUdbExtraF8 {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sueHeightTargetMax").value(this.sueHeightTargetMax);
+        writer.name("sueHeightTargetMin").value(this.sueHeightTargetMin);
+        writer.name("sueAltHoldThrottleMin").value(this.sueAltHoldThrottleMin);
+        writer.name("sueAltHoldThrottleMax").value(this.sueAltHoldThrottleMax);
+        writer.name("sueAltHoldPitchMin").value(this.sueAltHoldPitchMin);
+        writer.name("sueAltHoldPitchMax").value(this.sueAltHoldPitchMax);
+        writer.name("sueAltHoldPitchHigh").value(this.sueAltHoldPitchHigh);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SerialUdbExtraF8{sueHeightTargetMax=" + sueHeightTargetMax
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.matrixpilot;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SerialUdbExtraF8} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SerialUdbExtraF8View extends PayloadView<SerialUdbExtraF8View> {
+    /**
+     * Serial UDB Extra HEIGHT_TARGET_MAX 
+     */
+    public final float sueHeightTargetMax() {
+        return readFloat(0);
+    }
+
+    /**
+     * Serial UDB Extra HEIGHT_TARGET_MIN 
+     */
+    public final float sueHeightTargetMin() {
+        return readFloat(4);
+    }
+
+    /**
+     * Serial UDB Extra ALT_HOLD_THROTTLE_MIN 
+     */
+    public final float sueAltHoldThrottleMin() {
+        return readFloat(8);
+    }
+
+    /**
+     * Serial UDB Extra ALT_HOLD_THROTTLE_MAX 
+     */
+    public final float sueAltHoldThrottleMax() {
+        return readFloat(12);
+    }
+
+    /**
+     * Serial UDB Extra ALT_HOLD_PITCH_MIN 
+     */
+    public final float sueAltHoldPitchMin() {
+        return readFloat(16);
+    }
+
+    /**
+     * Serial UDB Extra ALT_HOLD_PITCH_MAX 
+     */
+    public final float sueAltHoldPitchMax() {
+        return readFloat(20);
+    }
+
+    /**
+     * Serial UDB Extra ALT_HOLD_PITCH_HIGH 
+     */
+    public final float sueAltHoldPitchHigh() {
+        return readFloat(24);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.minimal;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -23,7 +25,7 @@ import java.util.Objects;
         crc = 50,
         description = "The heartbeat message shows that a system or component is present and responding. The type and autopilot fields (along with the message component id), allow the receiving system to treat further messages from this system appropriately (e.g. by laying out the user interface based on the autopilot). This microservice is documented at https://mavlink.io/en/services/heartbeat.html"
 )
-public final class Heartbeat {
+public final class Heartbeat implements JsonWritable {
     private final EnumValue<MavType> type;
 
     private final EnumValue<MavAutopilot> autopilot;
@@ -161,6 +163,18 @@ public final class Heartbeat {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("type").value(this.type);
+        writer.name("autopilot").value(this.autopilot);
+        writer.name("baseMode").value(this.baseMode);
+        writer.name("customMode").value(this.customMode);
+        writer.name("systemStatus").value(this.systemStatus);
+        writer.name("mavlinkVersion").value(this.mavlinkVersion);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Heartbeat{type=" + type
@@ -0,0 +1,63 @@
+package io.dronefleet.mavlink.minimal;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Heartbeat} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class HeartbeatView extends PayloadView<HeartbeatView> {
+    /**
+     * A bitfield for use for autopilot-specific flags 
+     */
+    public final long customMode() {
+        return readUint32(0);
+    }
+
+    /**
+     * Vehicle or component type. For a flight controller component the vehicle type (quadrotor, 
+     * helicopter, etc.). For other components the component type (e.g. camera, gimbal, etc.). This 
+     * should be used in preference to component id for identifying the component type. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavType}.
+     */
+    public final int type() {
+        return readUint8(4);
+    }
+
+    /**
+     * Autopilot type / class. Use MAV_AUTOPILOT_INVALID for components that are not flight 
+     * controllers. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavAutopilot}.
+     */
+    public final int autopilot() {
+        return readUint8(5);
+    }
+
+    /**
+     * System mode bitmap. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavModeFlag}.
+     */
+    public final int baseMode() {
+        return readUint8(6);
+    }
+
+    /**
+     * System status flag. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavState}.
+     */
+    public final int systemStatus() {
+        return readUint8(7);
+    }
+
+    /**
+     * MAVLink version, not writable by user, gets added by protocol because of magic data type: 
+     * uint8_t_mavlink_version 
+     */
+    public final int mavlinkVersion() {
+        return readUint8(8);
+    }
+}
@@ -2,12 +2,10 @@ package io.dronefleet.mavlink.minimal;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public final class MinimalDialect extends AbstractMavlinkDialect {
     /**
@@ -16,14 +14,26 @@ public final class MinimalDialect extends AbstractMavlinkDialect {
     private static final List<MavlinkDialect> dependencies = Collections.emptyList();
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(0, Heartbeat.class)
-            .put(300, ProtocolVersion.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(0, "io.dronefleet.mavlink.minimal.Heartbeat", 50, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(300, "io.dronefleet.mavlink.minimal.ProtocolVersion", 217, 22, 22, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final MinimalDialect instance = new MinimalDialect();
 
     public MinimalDialect() {
-        super("minimal", dependencies, messages);
+        super("minimal", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static MinimalDialect instance() {
+        return instance;
     }
 }
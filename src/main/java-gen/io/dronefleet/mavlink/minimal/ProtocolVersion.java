@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.minimal;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Deprecated;
 import java.lang.Object;
 import java.lang.Override;
@@ -27,7 +29,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class ProtocolVersion {
+public final class ProtocolVersion implements JsonWritable {
     private final int version;
 
     private final int minVersion;
@@ -141,6 +143,17 @@ public final class ProtocolVersion {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("version").value(this.version);
+        writer.name("minVersion").value(this.minVersion);
+        writer.name("maxVersion").value(this.maxVersion);
+        writer.name("specVersionHash").value(this.specVersionHash);
+        writer.name("libraryVersionHash").value(this.libraryVersionHash);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ProtocolVersion{version=" + version
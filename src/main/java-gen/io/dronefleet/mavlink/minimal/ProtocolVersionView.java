@@ -0,0 +1,46 @@
+package io.dronefleet.mavlink.minimal;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link ProtocolVersion} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class ProtocolVersionView extends PayloadView<ProtocolVersionView> {
+    /**
+     * Currently active MAVLink version number * 100: v1.0 is 100, v2.0 is 200, etc. 
+     */
+    public final int version() {
+        return readUint16(0);
+    }
+
+    /**
+     * Minimum MAVLink version supported 
+     */
+    public final int minVersion() {
+        return readUint16(2);
+    }
+
+    /**
+     * Maximum MAVLink version supported (set to the same value as version by default) 
+     */
+    public final int maxVersion() {
+        return readUint16(4);
+    }
+
+    /**
+     * The first 8 bytes (not characters printed in hex!) of the git hash. 
+     */
+    public final int specVersionHash(int index) {
+        return readUint8(elementPosition(6, 1, 8, index));
+    }
+
+    /**
+     * The first 8 bytes (not characters printed in hex!) of the git hash. 
+     */
+    public final int libraryVersionHash(int index) {
+        return readUint8(elementPosition(14, 1, 8, index));
+    }
+}
@@ -2,33 +2,42 @@ package io.dronefleet.mavlink.paparazzi;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class PaparazziDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(180, ScriptItem.class)
-            .put(181, ScriptRequest.class)
-            .put(182, ScriptRequestList.class)
-            .put(183, ScriptCount.class)
-            .put(184, ScriptCurrent.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(180, "io.dronefleet.mavlink.paparazzi.ScriptItem", 231, 54, 54, 2, 3),
+            new MavlinkMessageDescriptor(181, "io.dronefleet.mavlink.paparazzi.ScriptRequest", 129, 4, 4, 2, 3),
+            new MavlinkMessageDescriptor(182, "io.dronefleet.mavlink.paparazzi.ScriptRequestList", 115, 2, 2, 0, 1),
+            new MavlinkMessageDescriptor(183, "io.dronefleet.mavlink.paparazzi.ScriptCount", 186, 4, 4, 2, 3),
+            new MavlinkMessageDescriptor(184, "io.dronefleet.mavlink.paparazzi.ScriptCurrent", 40, 2, 2, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final PaparazziDialect instance = new PaparazziDialect();
 
     public PaparazziDialect() {
-        super("paparazzi", dependencies, messages);
+        super("paparazzi", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static PaparazziDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.paparazzi;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 186,
         description = "This message is emitted as response to SCRIPT_REQUEST_LIST by the MAV to get the number of mission scripts."
 )
-public final class ScriptCount {
+public final class ScriptCount implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -94,6 +96,15 @@ public final class ScriptCount {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("count").value(this.count);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScriptCount{targetSystem=" + targetSystem
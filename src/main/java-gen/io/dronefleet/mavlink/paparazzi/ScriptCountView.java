@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.paparazzi;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ScriptCount} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScriptCountView extends PayloadView<ScriptCountView> {
+    /**
+     * Number of script items in the sequence 
+     */
+    public final int count() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+}
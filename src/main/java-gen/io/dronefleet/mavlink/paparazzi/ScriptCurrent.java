@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.paparazzi;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 40,
         description = "This message informs about the currently active SCRIPT."
 )
-public final class ScriptCurrent {
+public final class ScriptCurrent implements JsonWritable {
     private final int seq;
 
     private ScriptCurrent(int seq) {
@@ -59,6 +61,13 @@ public final class ScriptCurrent {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("seq").value(this.seq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScriptCurrent{seq=" + seq + "}";
@@ -0,0 +1,16 @@
+package io.dronefleet.mavlink.paparazzi;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ScriptCurrent} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScriptCurrentView extends PayloadView<ScriptCurrentView> {
+    /**
+     * Active Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.paparazzi;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 231,
         description = "Message encoding a mission script item. This message is emitted upon a request for the next script item."
 )
-public final class ScriptItem {
+public final class ScriptItem implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -112,6 +114,16 @@ public final class ScriptItem {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("seq").value(this.seq);
+        writer.name("name").value(this.name);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScriptItem{targetSystem=" + targetSystem
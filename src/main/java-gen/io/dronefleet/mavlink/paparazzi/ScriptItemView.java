@@ -0,0 +1,38 @@
+package io.dronefleet.mavlink.paparazzi;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link ScriptItem} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScriptItemView extends PayloadView<ScriptItemView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+
+    /**
+     * The name of the mission script, NULL terminated. 
+     */
+    public final String name() {
+        return readString(4, 50);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.paparazzi;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 129,
         description = "Request script item with the sequence number seq. The response of the system to this message should be a SCRIPT_ITEM message."
 )
-public final class ScriptRequest {
+public final class ScriptRequest implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -94,6 +96,15 @@ public final class ScriptRequest {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("seq").value(this.seq);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ScriptRequest{targetSystem=" + targetSystem
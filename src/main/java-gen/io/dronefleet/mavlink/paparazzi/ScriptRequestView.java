@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.paparazzi;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ScriptRequest} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ScriptRequestView extends PayloadView<ScriptRequestView> {
+    /**
+     * Sequence 
+     */
+    public final int seq() {
+        return readUint16(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(2);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(3);
+    }
+}
@@ -0,0 +1,16 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Boot} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class BootView extends PayloadView<BootView> {
+    /**
+     * The onboard software version 
+     */
+    public final long version() {
+        return readUint32(0);
+    }
+}
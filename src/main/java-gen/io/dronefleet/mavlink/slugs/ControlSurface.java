@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 113,
         description = "Control for surface; pending and order to origin."
 )
-public final class ControlSurface {
+public final class ControlSurface implements JsonWritable {
     private final int target;
 
     private final int idsurface;
@@ -110,6 +112,16 @@ public final class ControlSurface {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("idsurface").value(this.idsurface);
+        writer.name("mcontrol").value(this.mcontrol);
+        writer.name("bcontrol").value(this.bcontrol);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ControlSurface{target=" + target
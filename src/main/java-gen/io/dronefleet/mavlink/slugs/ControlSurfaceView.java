@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ControlSurface} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ControlSurfaceView extends PayloadView<ControlSurfaceView> {
+    /**
+     * Pending 
+     */
+    public final float mcontrol() {
+        return readFloat(0);
+    }
+
+    /**
+     * Order to origin 
+     */
+    public final float bcontrol() {
+        return readFloat(4);
+    }
+
+    /**
+     * The system setting the commands 
+     */
+    public final int target() {
+        return readUint8(8);
+    }
+
+    /**
+     * ID control surface send 0: throttle 1: aileron 2: elevator 3: rudder 
+     */
+    public final int idsurface() {
+        return readUint8(9);
+    }
+}
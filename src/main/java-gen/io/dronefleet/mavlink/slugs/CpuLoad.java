@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 75,
         description = "Sensor and DSC control loads."
 )
-public final class CpuLoad {
+public final class CpuLoad implements JsonWritable {
     private final int sensload;
 
     private final int ctrlload;
@@ -93,6 +95,15 @@ public final class CpuLoad {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("sensload").value(this.sensload);
+        writer.name("ctrlload").value(this.ctrlload);
+        writer.name("batvolt").value(this.batvolt);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CpuLoad{sensload=" + sensload
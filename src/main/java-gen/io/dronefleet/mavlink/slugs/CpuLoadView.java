@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CpuLoad} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CpuLoadView extends PayloadView<CpuLoadView> {
+    /**
+     * Battery Voltage 
+     */
+    public final int batvolt() {
+        return readUint16(0);
+    }
+
+    /**
+     * Sensor DSC Load 
+     */
+    public final int sensload() {
+        return readUint8(2);
+    }
+
+    /**
+     * Control DSC Load 
+     */
+    public final int ctrlload() {
+        return readUint8(3);
+    }
+}
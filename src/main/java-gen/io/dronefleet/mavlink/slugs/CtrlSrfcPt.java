@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 104,
         description = "This message sets the control surfaces for selective passthrough mode."
 )
-public final class CtrlSrfcPt {
+public final class CtrlSrfcPt implements JsonWritable {
     private final int target;
 
     private final EnumValue<ControlSurfaceFlag> bitfieldpt;
@@ -80,6 +82,14 @@ public final class CtrlSrfcPt {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("bitfieldpt").value(this.bitfieldpt);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "CtrlSrfcPt{target=" + target
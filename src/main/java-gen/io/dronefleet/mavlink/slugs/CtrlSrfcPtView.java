@@ -0,0 +1,25 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link CtrlSrfcPt} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class CtrlSrfcPtView extends PayloadView<CtrlSrfcPtView> {
+    /**
+     * Bitfield containing the passthrough configuration, see {@link io.dronefleet.mavlink.slugs.ControlSurfaceFlag CONTROL_SURFACE_FLAG} ENUM. 
+     * <p>
+     * This returns the raw value of the field, see {@link ControlSurfaceFlag}.
+     */
+    public final int bitfieldpt() {
+        return readUint16(0);
+    }
+
+    /**
+     * The system setting the commands 
+     */
+    public final int target() {
+        return readUint8(2);
+    }
+}
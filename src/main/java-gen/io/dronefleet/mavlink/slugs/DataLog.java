@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 167,
         description = "Configurable data log probes to be used inside Simulink"
 )
-public final class DataLog {
+public final class DataLog implements JsonWritable {
     private final float fl1;
 
     private final float fl2;
@@ -144,6 +146,18 @@ public final class DataLog {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("fl1").value(this.fl1);
+        writer.name("fl2").value(this.fl2);
+        writer.name("fl3").value(this.fl3);
+        writer.name("fl4").value(this.fl4);
+        writer.name("fl5").value(this.fl5);
+        writer.name("fl6").value(this.fl6);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "DataLog{fl1=" + fl1
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link DataLog} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DataLogView extends PayloadView<DataLogView> {
+    /**
+     * Log value 1 
+     */
+    public final float fl1() {
+        return readFloat(0);
+    }
+
+    /**
+     * Log value 2 
+     */
+    public final float fl2() {
+        return readFloat(4);
+    }
+
+    /**
+     * Log value 3 
+     */
+    public final float fl3() {
+        return readFloat(8);
+    }
+
+    /**
+     * Log value 4 
+     */
+    public final float fl4() {
+        return readFloat(12);
+    }
+
+    /**
+     * Log value 5 
+     */
+    public final float fl5() {
+        return readFloat(16);
+    }
+
+    /**
+     * Log value 6 
+     */
+    public final float fl6() {
+        return readFloat(20);
+    }
+}
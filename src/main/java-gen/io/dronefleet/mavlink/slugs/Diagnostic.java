@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 2,
         description = "Configurable diagnostic messages."
 )
-public final class Diagnostic {
+public final class Diagnostic implements JsonWritable {
     private final float diagfl1;
 
     private final float diagfl2;
@@ -148,6 +150,18 @@ public final class Diagnostic {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("diagfl1").value(this.diagfl1);
+        writer.name("diagfl2").value(this.diagfl2);
+        writer.name("diagfl3").value(this.diagfl3);
+        writer.name("diagsh1").value(this.diagsh1);
+        writer.name("diagsh2").value(this.diagsh2);
+        writer.name("diagsh3").value(this.diagsh3);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Diagnostic{diagfl1=" + diagfl1
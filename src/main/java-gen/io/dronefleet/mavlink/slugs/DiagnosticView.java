@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Diagnostic} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class DiagnosticView extends PayloadView<DiagnosticView> {
+    /**
+     * Diagnostic float 1 
+     */
+    public final float diagfl1() {
+        return readFloat(0);
+    }
+
+    /**
+     * Diagnostic float 2 
+     */
+    public final float diagfl2() {
+        return readFloat(4);
+    }
+
+    /**
+     * Diagnostic float 3 
+     */
+    public final float diagfl3() {
+        return readFloat(8);
+    }
+
+    /**
+     * Diagnostic short 1 
+     */
+    public final int diagsh1() {
+        return readInt16(12);
+    }
+
+    /**
+     * Diagnostic short 2 
+     */
+    public final int diagsh2() {
+        return readInt16(14);
+    }
+
+    /**
+     * Diagnostic short 3 
+     */
+    public final int diagsh3() {
+        return readInt16(16);
+    }
+}
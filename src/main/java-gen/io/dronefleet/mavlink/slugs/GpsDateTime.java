@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 132,
         description = "Pilot console PWM messges."
 )
-public final class GpsDateTime {
+public final class GpsDateTime implements JsonWritable {
     private final int year;
 
     private final int month;
@@ -247,6 +249,24 @@ public final class GpsDateTime {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("year").value(this.year);
+        writer.name("month").value(this.month);
+        writer.name("day").value(this.day);
+        writer.name("hour").value(this.hour);
+        writer.name("min").value(this.min);
+        writer.name("sec").value(this.sec);
+        writer.name("clockstat").value(this.clockstat);
+        writer.name("vissat").value(this.vissat);
+        writer.name("usesat").value(this.usesat);
+        writer.name("gppgl").value(this.gppgl);
+        writer.name("sigusedmask").value(this.sigusedmask);
+        writer.name("percentused").value(this.percentused);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "GpsDateTime{year=" + year
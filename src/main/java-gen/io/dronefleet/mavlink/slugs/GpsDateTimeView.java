@@ -0,0 +1,93 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link GpsDateTime} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class GpsDateTimeView extends PayloadView<GpsDateTimeView> {
+    /**
+     * Year reported by Gps 
+     */
+    public final int year() {
+        return readUint8(0);
+    }
+
+    /**
+     * Month reported by Gps 
+     */
+    public final int month() {
+        return readUint8(1);
+    }
+
+    /**
+     * Day reported by Gps 
+     */
+    public final int day() {
+        return readUint8(2);
+    }
+
+    /**
+     * Hour reported by Gps 
+     */
+    public final int hour() {
+        return readUint8(3);
+    }
+
+    /**
+     * Min reported by Gps 
+     */
+    public final int min() {
+        return readUint8(4);
+    }
+
+    /**
+     * Sec reported by Gps 
+     */
+    public final int sec() {
+        return readUint8(5);
+    }
+
+    /**
+     * Clock Status. See table 47 page 211 OEMStar Manual 
+     */
+    public final int clockstat() {
+        return readUint8(6);
+    }
+
+    /**
+     * Visible satellites reported by Gps 
+     */
+    public final int vissat() {
+        return readUint8(7);
+    }
+
+    /**
+     * Used satellites in Solution 
+     */
+    public final int usesat() {
+        return readUint8(8);
+    }
+
+    /**
+     * GPS+GLONASS satellites in Solution 
+     */
+    public final int gppgl() {
+        return readUint8(9);
+    }
+
+    /**
+     * GPS and GLONASS usage mask (bit 0 GPS_used? bit_4 GLONASS_used?) 
+     */
+    public final int sigusedmask() {
+        return readUint8(10);
+    }
+
+    /**
+     * Percent used GPS 
+     */
+    public final int percentused() {
+        return readUint8(11);
+    }
+}
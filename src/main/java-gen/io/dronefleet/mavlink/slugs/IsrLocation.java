@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 246,
         description = "Transmits the position of watch"
 )
-public final class IsrLocation {
+public final class IsrLocation implements JsonWritable {
     private final int target;
 
     private final float latitude;
@@ -162,6 +164,19 @@ public final class IsrLocation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.name("height").value(this.height);
+        writer.name("option1").value(this.option1);
+        writer.name("option2").value(this.option2);
+        writer.name("option3").value(this.option3);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "IsrLocation{target=" + target
@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link IsrLocation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class IsrLocationView extends PayloadView<IsrLocationView> {
+    /**
+     * ISR Latitude 
+     */
+    public final float latitude() {
+        return readFloat(0);
+    }
+
+    /**
+     * ISR Longitude 
+     */
+    public final float longitude() {
+        return readFloat(4);
+    }
+
+    /**
+     * ISR Height 
+     */
+    public final float height() {
+        return readFloat(8);
+    }
+
+    /**
+     * The system reporting the action 
+     */
+    public final int target() {
+        return readUint8(12);
+    }
+
+    /**
+     * Option 1 
+     */
+    public final int option1() {
+        return readUint8(13);
+    }
+
+    /**
+     * Option 2 
+     */
+    public final int option2() {
+        return readUint8(14);
+    }
+
+    /**
+     * Option 3 
+     */
+    public final int option3() {
+        return readUint8(15);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 146,
         description = "Mid Level commands sent from the GS to the autopilot. These are only sent when being operated in mid-level commands mode from the ground."
 )
-public final class MidLvlCmds {
+public final class MidLvlCmds implements JsonWritable {
     private final int target;
 
     private final float hcommand;
@@ -111,6 +113,16 @@ public final class MidLvlCmds {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("hcommand").value(this.hcommand);
+        writer.name("ucommand").value(this.ucommand);
+        writer.name("rcommand").value(this.rcommand);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "MidLvlCmds{target=" + target
@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link MidLvlCmds} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class MidLvlCmdsView extends PayloadView<MidLvlCmdsView> {
+    /**
+     * Commanded altitude (MSL) 
+     */
+    public final float hcommand() {
+        return readFloat(0);
+    }
+
+    /**
+     * Commanded Airspeed 
+     */
+    public final float ucommand() {
+        return readFloat(4);
+    }
+
+    /**
+     * Commanded Turnrate 
+     */
+    public final float rcommand() {
+        return readFloat(8);
+    }
+
+    /**
+     * The system setting the commands 
+     */
+    public final int target() {
+        return readUint8(12);
+    }
+}
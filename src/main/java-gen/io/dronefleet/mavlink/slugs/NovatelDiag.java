@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 59,
         description = "Transmits the diagnostics data from the Novatel OEMStar GPS"
 )
-public final class NovatelDiag {
+public final class NovatelDiag implements JsonWritable {
     private final int timestatus;
 
     private final long receiverstatus;
@@ -162,6 +164,19 @@ public final class NovatelDiag {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timestatus").value(this.timestatus);
+        writer.name("receiverstatus").value(this.receiverstatus);
+        writer.name("solstatus").value(this.solstatus);
+        writer.name("postype").value(this.postype);
+        writer.name("veltype").value(this.veltype);
+        writer.name("possolage").value(this.possolage);
+        writer.name("csfails").value(this.csfails);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "NovatelDiag{timestatus=" + timestatus
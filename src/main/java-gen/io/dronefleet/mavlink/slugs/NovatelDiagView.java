@@ -0,0 +1,58 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link NovatelDiag} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class NovatelDiagView extends PayloadView<NovatelDiagView> {
+    /**
+     * Status Bitfield. See table 69 page 350 Novatel OEMstar Manual 
+     */
+    public final long receiverstatus() {
+        return readUint32(0);
+    }
+
+    /**
+     * Age of the position solution 
+     */
+    public final float possolage() {
+        return readFloat(4);
+    }
+
+    /**
+     * Times the CRC has failed since boot 
+     */
+    public final int csfails() {
+        return readUint16(8);
+    }
+
+    /**
+     * The Time Status. See Table 8 page 27 Novatel OEMStar Manual 
+     */
+    public final int timestatus() {
+        return readUint8(10);
+    }
+
+    /**
+     * solution Status. See table 44 page 197 
+     */
+    public final int solstatus() {
+        return readUint8(11);
+    }
+
+    /**
+     * position type. See table 43 page 196 
+     */
+    public final int postype() {
+        return readUint8(12);
+    }
+
+    /**
+     * velocity type. See table 43 page 196 
+     */
+    public final int veltype() {
+        return readUint8(13);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 187,
         description = "Transmits the actual Pan, Tilt and Zoom values of the camera unit"
 )
-public final class PtzStatus {
+public final class PtzStatus implements JsonWritable {
     private final int zoom;
 
     private final int pan;
@@ -95,6 +97,15 @@ public final class PtzStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("zoom").value(this.zoom);
+        writer.name("pan").value(this.pan);
+        writer.name("tilt").value(this.tilt);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "PtzStatus{zoom=" + zoom
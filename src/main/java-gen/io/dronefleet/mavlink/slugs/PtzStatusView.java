@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link PtzStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class PtzStatusView extends PayloadView<PtzStatusView> {
+    /**
+     * The Pan value in 10ths of degree 
+     */
+    public final int pan() {
+        return readInt16(0);
+    }
+
+    /**
+     * The Tilt value in 10ths of degree 
+     */
+    public final int tilt() {
+        return readInt16(2);
+    }
+
+    /**
+     * The actual Zoom Value 
+     */
+    public final int zoom() {
+        return readUint8(4);
+    }
+}
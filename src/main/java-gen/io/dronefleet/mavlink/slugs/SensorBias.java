@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 168,
         description = "Accelerometer and gyro biases."
 )
-public final class SensorBias {
+public final class SensorBias implements JsonWritable {
     private final float axbias;
 
     private final float aybias;
@@ -145,6 +147,18 @@ public final class SensorBias {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("axbias").value(this.axbias);
+        writer.name("aybias").value(this.aybias);
+        writer.name("azbias").value(this.azbias);
+        writer.name("gxbias").value(this.gxbias);
+        writer.name("gybias").value(this.gybias);
+        writer.name("gzbias").value(this.gzbias);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensorBias{axbias=" + axbias
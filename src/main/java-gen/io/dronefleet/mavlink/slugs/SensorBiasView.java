@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensorBias} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensorBiasView extends PayloadView<SensorBiasView> {
+    /**
+     * Accelerometer X bias 
+     */
+    public final float axbias() {
+        return readFloat(0);
+    }
+
+    /**
+     * Accelerometer Y bias 
+     */
+    public final float aybias() {
+        return readFloat(4);
+    }
+
+    /**
+     * Accelerometer Z bias 
+     */
+    public final float azbias() {
+        return readFloat(8);
+    }
+
+    /**
+     * Gyro X bias 
+     */
+    public final float gxbias() {
+        return readFloat(12);
+    }
+
+    /**
+     * Gyro Y bias 
+     */
+    public final float gybias() {
+        return readFloat(16);
+    }
+
+    /**
+     * Gyro Z bias 
+     */
+    public final float gzbias() {
+        return readFloat(20);
+    }
+}
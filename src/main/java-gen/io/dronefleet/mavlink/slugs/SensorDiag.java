@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 129,
         description = "Diagnostic data Sensor MCU"
 )
-public final class SensorDiag {
+public final class SensorDiag implements JsonWritable {
     private final float float1;
 
     private final float float2;
@@ -112,6 +114,16 @@ public final class SensorDiag {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("float1").value(this.float1);
+        writer.name("float2").value(this.float2);
+        writer.name("int1").value(this.int1);
+        writer.name("char1").value(this.char1);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SensorDiag{float1=" + float1
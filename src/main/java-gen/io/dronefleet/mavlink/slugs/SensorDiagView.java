@@ -0,0 +1,37 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SensorDiag} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SensorDiagView extends PayloadView<SensorDiagView> {
+    /**
+     * Float field 1 
+     */
+    public final float float1() {
+        return readFloat(0);
+    }
+
+    /**
+     * Float field 2 
+     */
+    public final float float2() {
+        return readFloat(4);
+    }
+
+    /**
+     * Int 16 field 1 
+     */
+    public final int int1() {
+        return readInt16(8);
+    }
+
+    /**
+     * Int 8 field 1 
+     */
+    public final int char1() {
+        return readInt8(10);
+    }
+}
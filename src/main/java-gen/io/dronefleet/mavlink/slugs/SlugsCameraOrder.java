@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 45,
         description = "Orders generated to the SLUGS camera mount."
 )
-public final class SlugsCameraOrder {
+public final class SlugsCameraOrder implements JsonWritable {
     private final int target;
 
     private final int pan;
@@ -132,6 +134,17 @@ public final class SlugsCameraOrder {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("pan").value(this.pan);
+        writer.name("tilt").value(this.tilt);
+        writer.name("zoom").value(this.zoom);
+        writer.name("movehome").value(this.movehome);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SlugsCameraOrder{target=" + target
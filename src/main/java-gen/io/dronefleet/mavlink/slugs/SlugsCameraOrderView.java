@@ -0,0 +1,45 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SlugsCameraOrder} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SlugsCameraOrderView extends PayloadView<SlugsCameraOrderView> {
+    /**
+     * The system reporting the action 
+     */
+    public final int target() {
+        return readUint8(0);
+    }
+
+    /**
+     * Order the mount to pan: -1 left, 0 No pan motion, +1 right 
+     */
+    public final int pan() {
+        return readInt8(1);
+    }
+
+    /**
+     * Order the mount to tilt: -1 down, 0 No tilt motion, +1 up 
+     */
+    public final int tilt() {
+        return readInt8(2);
+    }
+
+    /**
+     * Order the zoom values 0 to 10 
+     */
+    public final int zoom() {
+        return readInt8(3);
+    }
+
+    /**
+     * Orders the camera mount to move home. The other fields are ignored when this field is set. 1: move 
+     * home, 0 ignored 
+     */
+    public final int movehome() {
+        return readInt8(4);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 5,
         description = "Control for camara."
 )
-public final class SlugsConfigurationCamera {
+public final class SlugsConfigurationCamera implements JsonWritable {
     private final int target;
 
     private final int idorder;
@@ -93,6 +95,15 @@ public final class SlugsConfigurationCamera {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("idorder").value(this.idorder);
+        writer.name("order").value(this.order);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SlugsConfigurationCamera{target=" + target
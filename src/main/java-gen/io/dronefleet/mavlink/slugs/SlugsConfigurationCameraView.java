@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SlugsConfigurationCamera} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SlugsConfigurationCameraView extends PayloadView<SlugsConfigurationCameraView> {
+    /**
+     * The system setting the commands 
+     */
+    public final int target() {
+        return readUint8(0);
+    }
+
+    /**
+     * ID 0: brightness 1: aperture 2: iris 3: ICR 4: backlight 
+     */
+    public final int idorder() {
+        return readUint8(1);
+    }
+
+    /**
+     * 1: up/on 2: down/off 3: auto/reset/no action 
+     */
+    public final int order() {
+        return readUint8(2);
+    }
+}
@@ -2,48 +2,57 @@ package io.dronefleet.mavlink.slugs;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class SlugsDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(170, CpuLoad.class)
-            .put(172, SensorBias.class)
-            .put(173, Diagnostic.class)
-            .put(176, SlugsNavigation.class)
-            .put(177, DataLog.class)
-            .put(179, GpsDateTime.class)
-            .put(180, MidLvlCmds.class)
-            .put(181, CtrlSrfcPt.class)
-            .put(184, SlugsCameraOrder.class)
-            .put(185, ControlSurface.class)
-            .put(186, SlugsMobileLocation.class)
-            .put(188, SlugsConfigurationCamera.class)
-            .put(189, IsrLocation.class)
-            .put(191, VoltSensor.class)
-            .put(192, PtzStatus.class)
-            .put(193, UavStatus.class)
-            .put(194, StatusGps.class)
-            .put(195, NovatelDiag.class)
-            .put(196, SensorDiag.class)
-            .put(197, Boot.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(170, "io.dronefleet.mavlink.slugs.CpuLoad", 75, 4, 4, -1, -1),
+            new MavlinkMessageDescriptor(172, "io.dronefleet.mavlink.slugs.SensorBias", 168, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(173, "io.dronefleet.mavlink.slugs.Diagnostic", 2, 18, 18, -1, -1),
+            new MavlinkMessageDescriptor(176, "io.dronefleet.mavlink.slugs.SlugsNavigation", 228, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(177, "io.dronefleet.mavlink.slugs.DataLog", 167, 24, 24, -1, -1),
+            new MavlinkMessageDescriptor(179, "io.dronefleet.mavlink.slugs.GpsDateTime", 132, 12, 12, -1, -1),
+            new MavlinkMessageDescriptor(180, "io.dronefleet.mavlink.slugs.MidLvlCmds", 146, 13, 13, -1, -1),
+            new MavlinkMessageDescriptor(181, "io.dronefleet.mavlink.slugs.CtrlSrfcPt", 104, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(184, "io.dronefleet.mavlink.slugs.SlugsCameraOrder", 45, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(185, "io.dronefleet.mavlink.slugs.ControlSurface", 113, 10, 10, -1, -1),
+            new MavlinkMessageDescriptor(186, "io.dronefleet.mavlink.slugs.SlugsMobileLocation", 101, 9, 9, -1, -1),
+            new MavlinkMessageDescriptor(188, "io.dronefleet.mavlink.slugs.SlugsConfigurationCamera", 5, 3, 3, -1, -1),
+            new MavlinkMessageDescriptor(189, "io.dronefleet.mavlink.slugs.IsrLocation", 246, 16, 16, -1, -1),
+            new MavlinkMessageDescriptor(191, "io.dronefleet.mavlink.slugs.VoltSensor", 17, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(192, "io.dronefleet.mavlink.slugs.PtzStatus", 187, 5, 5, -1, -1),
+            new MavlinkMessageDescriptor(193, "io.dronefleet.mavlink.slugs.UavStatus", 160, 21, 21, -1, -1),
+            new MavlinkMessageDescriptor(194, "io.dronefleet.mavlink.slugs.StatusGps", 51, 11, 11, -1, -1),
+            new MavlinkMessageDescriptor(195, "io.dronefleet.mavlink.slugs.NovatelDiag", 59, 14, 14, -1, -1),
+            new MavlinkMessageDescriptor(196, "io.dronefleet.mavlink.slugs.SensorDiag", 129, 11, 11, -1, -1),
+            new MavlinkMessageDescriptor(197, "io.dronefleet.mavlink.slugs.Boot", 39, 4, 4, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final SlugsDialect instance = new SlugsDialect();
 
     public SlugsDialect() {
-        super("slugs", dependencies, messages);
+        super("slugs", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static SlugsDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +19,7 @@ import java.util.Objects;
         crc = 101,
         description = "Transmits the last known position of the mobile GS to the UAV. Very relevant when Track Mobile is enabled"
 )
-public final class SlugsMobileLocation {
+public final class SlugsMobileLocation implements JsonWritable {
     private final int target;
 
     private final float latitude;
@@ -94,6 +96,15 @@ public final class SlugsMobileLocation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("target").value(this.target);
+        writer.name("latitude").value(this.latitude);
+        writer.name("longitude").value(this.longitude);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SlugsMobileLocation{target=" + target
@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SlugsMobileLocation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SlugsMobileLocationView extends PayloadView<SlugsMobileLocationView> {
+    /**
+     * Mobile Latitude 
+     */
+    public final float latitude() {
+        return readFloat(0);
+    }
+
+    /**
+     * Mobile Longitude 
+     */
+    public final float longitude() {
+        return readFloat(4);
+    }
+
+    /**
+     * The system reporting the action 
+     */
+    public final int target() {
+        return readUint8(8);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 228,
         description = "Data used in the navigation algorithm."
 )
-public final class SlugsNavigation {
+public final class SlugsNavigation implements JsonWritable {
     private final float uM;
 
     private final float phiC;
@@ -213,6 +215,22 @@ public final class SlugsNavigation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("uM").value(this.uM);
+        writer.name("phiC").value(this.phiC);
+        writer.name("thetaC").value(this.thetaC);
+        writer.name("psidotC").value(this.psidotC);
+        writer.name("ayBody").value(this.ayBody);
+        writer.name("totaldist").value(this.totaldist);
+        writer.name("dist2go").value(this.dist2go);
+        writer.name("fromwp").value(this.fromwp);
+        writer.name("towp").value(this.towp);
+        writer.name("hC").value(this.hC);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "SlugsNavigation{uM=" + uM
@@ -0,0 +1,79 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link SlugsNavigation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class SlugsNavigationView extends PayloadView<SlugsNavigationView> {
+    /**
+     * Measured Airspeed prior to the nav filter 
+     */
+    public final float uM() {
+        return readFloat(0);
+    }
+
+    /**
+     * Commanded Roll 
+     */
+    public final float phiC() {
+        return readFloat(4);
+    }
+
+    /**
+     * Commanded Pitch 
+     */
+    public final float thetaC() {
+        return readFloat(8);
+    }
+
+    /**
+     * Commanded Turn rate 
+     */
+    public final float psidotC() {
+        return readFloat(12);
+    }
+
+    /**
+     * Y component of the body acceleration 
+     */
+    public final float ayBody() {
+        return readFloat(16);
+    }
+
+    /**
+     * Total Distance to Run on this leg of Navigation 
+     */
+    public final float totaldist() {
+        return readFloat(20);
+    }
+
+    /**
+     * Remaining distance to Run on this leg of Navigation 
+     */
+    public final float dist2go() {
+        return readFloat(24);
+    }
+
+    /**
+     * Commanded altitude (MSL) 
+     */
+    public final int hC() {
+        return readUint16(28);
+    }
+
+    /**
+     * Origin WP 
+     */
+    public final int fromwp() {
+        return readUint8(30);
+    }
+
+    /**
+     * Destination WP 
+     */
+    public final int towp() {
+        return readUint8(31);
+    }
+}
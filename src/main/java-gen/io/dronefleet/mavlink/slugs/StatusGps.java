@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 51,
         description = "This contains the status of the GPS readings"
 )
-public final class StatusGps {
+public final class StatusGps implements JsonWritable {
     private final int csfails;
 
     private final int gpsquality;
@@ -166,6 +168,19 @@ public final class StatusGps {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("csfails").value(this.csfails);
+        writer.name("gpsquality").value(this.gpsquality);
+        writer.name("msgstype").value(this.msgstype);
+        writer.name("posstatus").value(this.posstatus);
+        writer.name("magvar").value(this.magvar);
+        writer.name("magdir").value(this.magdir);
+        writer.name("modeind").value(this.modeind);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "StatusGps{csfails=" + csfails
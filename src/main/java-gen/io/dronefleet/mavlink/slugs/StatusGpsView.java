@@ -0,0 +1,61 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link StatusGps} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class StatusGpsView extends PayloadView<StatusGpsView> {
+    /**
+     * Magnetic variation 
+     */
+    public final float magvar() {
+        return readFloat(0);
+    }
+
+    /**
+     * Number of times checksum has failed 
+     */
+    public final int csfails() {
+        return readUint16(4);
+    }
+
+    /**
+     * The quality indicator, 0=fix not available or invalid, 1=GPS fix, 2=C/A differential GPS, 
+     * 6=Dead reckoning mode, 7=Manual input mode (fixed position), 8=Simulator mode, 9= WAAS a 
+     */
+    public final int gpsquality() {
+        return readUint8(6);
+    }
+
+    /**
+     * Indicates if GN, GL or GP messages are being received 
+     */
+    public final int msgstype() {
+        return readUint8(7);
+    }
+
+    /**
+     * A = data valid, V = data invalid 
+     */
+    public final int posstatus() {
+        return readUint8(8);
+    }
+
+    /**
+     * Magnetic variation direction E/W. Easterly variation (E) subtracts from True course and 
+     * Westerly variation (W) adds to True course 
+     */
+    public final int magdir() {
+        return readInt8(9);
+    }
+
+    /**
+     * Positioning system mode indicator. A - Autonomous;D-Differential; E-Estimated (dead 
+     * reckoning) mode;M-Manual input; N-Data not valid 
+     */
+    public final int modeind() {
+        return readUint8(10);
+    }
+}
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UavStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavStatusView extends PayloadView<UavStatusView> {
+    /**
+     * Latitude UAV 
+     */
+    public final float latitude() {
+        return readFloat(0);
+    }
+
+    /**
+     * Longitude UAV 
+     */
+    public final float longitude() {
+        return readFloat(4);
+    }
+
+    /**
+     * Altitude UAV 
+     */
+    public final float altitude() {
+        return readFloat(8);
+    }
+
+    /**
+     * Speed UAV 
+     */
+    public final float speed() {
+        return readFloat(12);
+    }
+
+    /**
+     * Course UAV 
+     */
+    public final float course() {
+        return readFloat(16);
+    }
+
+    /**
+     * The ID system reporting the action 
+     */
+    public final int target() {
+        return readUint8(20);
+    }
+}
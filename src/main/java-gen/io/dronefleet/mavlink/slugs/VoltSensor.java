@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.slugs;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 17,
         description = "Transmits the readings from the voltage and current sensors"
 )
-public final class VoltSensor {
+public final class VoltSensor implements JsonWritable {
     private final int r2type;
 
     private final int voltage;
@@ -94,6 +96,15 @@ public final class VoltSensor {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("r2type").value(this.r2type);
+        writer.name("voltage").value(this.voltage);
+        writer.name("reading2").value(this.reading2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "VoltSensor{r2type=" + r2type
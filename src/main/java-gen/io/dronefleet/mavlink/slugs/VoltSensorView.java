@@ -0,0 +1,31 @@
+package io.dronefleet.mavlink.slugs;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link VoltSensor} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class VoltSensorView extends PayloadView<VoltSensorView> {
+    /**
+     * Voltage in uS of PWM. 0 uS = 0V, 20 uS = 21.5V 
+     */
+    public final int voltage() {
+        return readUint16(0);
+    }
+
+    /**
+     * Depends on the value of r2Type (0) Current consumption in uS of PWM, 20 uS = 90Amp (1) Distance in 
+     * cm (2) Distance in cm (3) Absolute value 
+     */
+    public final int reading2() {
+        return readUint16(2);
+    }
+
+    /**
+     * It is the value of reading 2: 0 - Current, 1 - Foreward Sonar, 2 - Back Sonar, 3 - RPM 
+     */
+    public final int r2type() {
+        return readUint8(4);
+    }
+}
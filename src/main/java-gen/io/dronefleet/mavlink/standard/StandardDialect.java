@@ -2,27 +2,38 @@ package io.dronefleet.mavlink.standard;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.minimal.MinimalDialect;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public final class StandardDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new MinimalDialect());
+            MinimalDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = Collections.emptyMap();
+    private static final List<MavlinkMessageDescriptor> descriptors = Collections.emptyList();
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final StandardDialect instance = new StandardDialect();
 
     public StandardDialect() {
-        super("standard", dependencies, messages);
+        super("standard", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static StandardDialect instance() {
+        return instance;
     }
 }
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 156,
         description = "Frsky SPort passthrough multi packet container."
 )
-public final class FrskyPassthroughArray {
+public final class FrskyPassthroughArray implements JsonWritable {
     private final long timeBootMs;
 
     private final int count;
@@ -95,6 +97,15 @@ public final class FrskyPassthroughArray {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("timeBootMs").value(this.timeBootMs);
+        writer.name("count").value(this.count);
+        writer.name("packetBuf").value(this.packetBuf);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "FrskyPassthroughArray{timeBootMs=" + timeBootMs
@@ -0,0 +1,31 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link FrskyPassthroughArray} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class FrskyPassthroughArrayView extends PayloadView<FrskyPassthroughArrayView> {
+    /**
+     * Timestamp (time since system boot). 
+     */
+    public final long timeBootMs() {
+        return readUint32(0);
+    }
+
+    /**
+     * Number of passthrough packets in this message. 
+     */
+    public final int count() {
+        return readUint8(4);
+    }
+
+    /**
+     * Passthrough packet buffer. A packet has 6 bytes: uint16_t id + uint32_t data. The array has 
+     * space for 40 packets. 
+     */
+    public final int packetBuf(int index) {
+        return readUint8(elementPosition(5, 1, 240, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 191,
         description = "Parameter multi param value container."
 )
-public final class ParamValueArray {
+public final class ParamValueArray implements JsonWritable {
     private final int paramCount;
 
     private final int paramIndexFirst;
@@ -130,6 +132,17 @@ public final class ParamValueArray {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("paramCount").value(this.paramCount);
+        writer.name("paramIndexFirst").value(this.paramIndexFirst);
+        writer.name("paramArrayLen").value(this.paramArrayLen);
+        writer.name("flags").value(this.flags);
+        writer.name("packetBuf").value(this.packetBuf);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "ParamValueArray{paramCount=" + paramCount
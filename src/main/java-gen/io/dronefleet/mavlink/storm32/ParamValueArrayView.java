@@ -0,0 +1,45 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link ParamValueArray} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class ParamValueArrayView extends PayloadView<ParamValueArrayView> {
+    /**
+     * Total number of onboard parameters. 
+     */
+    public final int paramCount() {
+        return readUint16(0);
+    }
+
+    /**
+     * Index of the first onboard parameter in this array. 
+     */
+    public final int paramIndexFirst() {
+        return readUint16(2);
+    }
+
+    /**
+     * Flags. 
+     */
+    public final int flags() {
+        return readUint16(4);
+    }
+
+    /**
+     * Number of onboard parameters in this array. 
+     */
+    public final int paramArrayLen() {
+        return readUint8(6);
+    }
+
+    /**
+     * Parameters buffer. Contains a series of variable length parameter blocks, one per parameter, 
+     * with format as specifed elsewhere. 
+     */
+    public final int packetBuf(int index) {
+        return readUint8(elementPosition(7, 1, 248, index));
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Deprecated;
 import java.lang.Enum;
@@ -26,7 +28,7 @@ import java.util.Objects;
         workInProgress = true
 )
 @Deprecated
-public final class QshotStatus {
+public final class QshotStatus implements JsonWritable {
     private final EnumValue<MavQshotMode> mode;
 
     private final int shotState;
@@ -87,6 +89,14 @@ public final class QshotStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("mode").value(this.mode);
+        writer.name("shotState").value(this.shotState);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "QshotStatus{mode=" + mode
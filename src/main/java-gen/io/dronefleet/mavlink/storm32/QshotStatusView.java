@@ -0,0 +1,27 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.Deprecated;
+
+/**
+ * A reusable view of the payload of a {@link QshotStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+@Deprecated
+public final class QshotStatusView extends PayloadView<QshotStatusView> {
+    /**
+     * Current shot mode. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavQshotMode}.
+     */
+    public final int mode() {
+        return readUint16(0);
+    }
+
+    /**
+     * Current state in the shot. States are specific to the selected shot mode. 
+     */
+    public final int shotState() {
+        return readUint16(2);
+    }
+}
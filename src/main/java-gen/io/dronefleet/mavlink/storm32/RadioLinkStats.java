@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 238,
         description = "Radio link statistics. Should be emitted only by components with component id MAV_COMP_ID_TELEMETRY_RADIO. Per default, rssi values are in MAVLink units: 0 represents weakest signal, 254 represents maximum signal; can be changed to dBm with the flag RADIO_LINK_STATS_FLAGS_RSSI_DBM."
 )
-public final class RadioLinkStats {
+public final class RadioLinkStats implements JsonWritable {
     private final EnumValue<RadioLinkStatsFlags> flags;
 
     private final int rxLq;
@@ -311,6 +313,27 @@ public final class RadioLinkStats {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("flags").value(this.flags);
+        writer.name("rxLq").value(this.rxLq);
+        writer.name("rxRssi1").value(this.rxRssi1);
+        writer.name("rxSnr1").value(this.rxSnr1);
+        writer.name("rxRssi2").value(this.rxRssi2);
+        writer.name("rxSnr2").value(this.rxSnr2);
+        writer.name("rxReceiveAntenna").value(this.rxReceiveAntenna);
+        writer.name("rxTransmitAntenna").value(this.rxTransmitAntenna);
+        writer.name("txLq").value(this.txLq);
+        writer.name("txRssi1").value(this.txRssi1);
+        writer.name("txSnr1").value(this.txSnr1);
+        writer.name("txRssi2").value(this.txRssi2);
+        writer.name("txSnr2").value(this.txSnr2);
+        writer.name("txReceiveAntenna").value(this.txReceiveAntenna);
+        writer.name("txTransmitAntenna").value(this.txTransmitAntenna);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RadioLinkStats{flags=" + flags
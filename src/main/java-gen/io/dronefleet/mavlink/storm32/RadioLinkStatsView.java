@@ -0,0 +1,116 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RadioLinkStats} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RadioLinkStatsView extends PayloadView<RadioLinkStatsView> {
+    /**
+     * Radio link statistics flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link RadioLinkStatsFlags}.
+     */
+    public final int flags() {
+        return readUint8(0);
+    }
+
+    /**
+     * Values: 0..100. UINT8_MAX: invalid/unknown. 
+     */
+    public final int rxLq() {
+        return readUint8(1);
+    }
+
+    /**
+     * Rssi of antenna1. UINT8_MAX: invalid/unknown. 
+     */
+    public final int rxRssi1() {
+        return readUint8(2);
+    }
+
+    /**
+     * Noise on antenna1. Radio dependent. INT8_MAX: invalid/unknown. 
+     */
+    public final int rxSnr1() {
+        return readInt8(3);
+    }
+
+    /**
+     * Rssi of antenna2. UINT8_MAX: ignore/unknown, use rx_rssi1. 
+     */
+    public final int rxRssi2() {
+        return readUint8(4);
+    }
+
+    /**
+     * Noise on antenna2. Radio dependent. INT8_MAX: ignore/unknown, use rx_snr1. 
+     */
+    public final int rxSnr2() {
+        return readInt8(5);
+    }
+
+    /**
+     * 0: antenna1, 1: antenna2, UINT8_MAX: ignore, no Rx receive diversity, use rx_rssi1, rx_snr1. 
+     */
+    public final int rxReceiveAntenna() {
+        return readUint8(6);
+    }
+
+    /**
+     * 0: antenna1, 1: antenna2, UINT8_MAX: ignore, no Rx transmit diversity. 
+     */
+    public final int rxTransmitAntenna() {
+        return readUint8(7);
+    }
+
+    /**
+     * Values: 0..100. UINT8_MAX: invalid/unknown. 
+     */
+    public final int txLq() {
+        return readUint8(8);
+    }
+
+    /**
+     * Rssi of antenna1. UINT8_MAX: invalid/unknown. 
+     */
+    public final int txRssi1() {
+        return readUint8(9);
+    }
+
+    /**
+     * Noise on antenna1. Radio dependent. INT8_MAX: invalid/unknown. 
+     */
+    public final int txSnr1() {
+        return readInt8(10);
+    }
+
+    /**
+     * Rssi of antenna2. UINT8_MAX: ignore/unknown, use tx_rssi1. 
+     */
+    public final int txRssi2() {
+        return readUint8(11);
+    }
+
+    /**
+     * Noise on antenna2. Radio dependent. INT8_MAX: ignore/unknown, use tx_snr1. 
+     */
+    public final int txSnr2() {
+        return readInt8(12);
+    }
+
+    /**
+     * 0: antenna1, 1: antenna2, UINT8_MAX: ignore, no Tx receive diversity, use tx_rssi1, tx_snr1. 
+     */
+    public final int txReceiveAntenna() {
+        return readUint8(13);
+    }
+
+    /**
+     * 0: antenna1, 1: antenna2, UINT8_MAX: ignore, no Tx transmit diversity. 
+     */
+    public final int txTransmitAntenna() {
+        return readUint8(14);
+    }
+}
@@ -3,8 +3,12 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.IntArrayList;
 import java.lang.Enum;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -23,18 +27,18 @@ import java.util.Objects;
         crc = 89,
         description = "Radio channels. Supports up to 24 channels. Channel values are in centerd 13 bit format. Range is [-4096,4096], center is 0. Conversion to PWM is x * 5/32 + 1500. Should be emitted only by components with component id MAV_COMP_ID_TELEMETRY_RADIO."
 )
-public final class RadioRcChannels {
+public final class RadioRcChannels implements JsonWritable {
     private final int count;
 
     private final EnumValue<RadioRcChannelsFlags> flags;
 
-    private final List<Integer> channels;
+    private final IntArrayList channels;
 
     private RadioRcChannels(int count, EnumValue<RadioRcChannelsFlags> flags,
             List<Integer> channels) {
         this.count = count;
         this.flags = flags;
-        this.channels = channels;
+        this.channels = IntArrayList.copyOf(channels);
     }
 
     /**
@@ -86,6 +90,25 @@ public final class RadioRcChannels {
         return this.channels;
     }
 
+    /**
+     * Returns a copy of {@link #channels()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] channelsArray() {
+        return this.channels != null ? this.channels.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #channels()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int channels(int index) {
+        if (index < 0 || index >= 24) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.channels != null && index < this.channels.size() ? this.channels.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -106,6 +129,15 @@ public final class RadioRcChannels {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("count").value(this.count);
+        writer.name("flags").value(this.flags);
+        writer.name("channels").value(this.channels);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RadioRcChannels{count=" + count
@@ -185,6 +217,13 @@ public final class RadioRcChannels {
             return this;
         }
 
+        /**
+         * RC channels. Channels above count should be set to 0, to benefit from MAVLink's zero padding. 
+         */
+        public final Builder channels(int... channels) {
+            return channels(IntArrayList.of(channels));
+        }
+
         public final RadioRcChannels build() {
             return new RadioRcChannels(count, flags, channels);
         }
@@ -0,0 +1,33 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RadioRcChannels} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RadioRcChannelsView extends PayloadView<RadioRcChannelsView> {
+    /**
+     * Total number of RC channels being received. This can be larger than 24, indicating that more 
+     * channels are available but not given in this message. 
+     */
+    public final int count() {
+        return readUint8(0);
+    }
+
+    /**
+     * Radio channels status flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link RadioRcChannelsFlags}.
+     */
+    public final int flags() {
+        return readUint8(1);
+    }
+
+    /**
+     * RC channels. Channels above count should be set to 0, to benefit from MAVLink's zero padding. 
+     */
+    public final int channels(int index) {
+        return readInt16(elementPosition(2, 2, 24, index));
+    }
+}
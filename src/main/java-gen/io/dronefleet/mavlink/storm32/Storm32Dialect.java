@@ -2,38 +2,47 @@ package io.dronefleet.mavlink.storm32;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.ardupilotmega.ArdupilotmegaDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class Storm32Dialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new ArdupilotmegaDialect());
+            ArdupilotmegaDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(60010, Storm32GimbalManagerInformation.class)
-            .put(60011, Storm32GimbalManagerStatus.class)
-            .put(60012, Storm32GimbalManagerControl.class)
-            .put(60013, Storm32GimbalManagerControlPitchyaw.class)
-            .put(60014, Storm32GimbalManagerCorrectRoll.class)
-            .put(60020, QshotStatus.class)
-            .put(60045, RadioRcChannels.class)
-            .put(60046, RadioLinkStats.class)
-            .put(60040, FrskyPassthroughArray.class)
-            .put(60041, ParamValueArray.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(60010, "io.dronefleet.mavlink.storm32.Storm32GimbalManagerInformation", 208, 33, 33, -1, -1),
+            new MavlinkMessageDescriptor(60011, "io.dronefleet.mavlink.storm32.Storm32GimbalManagerStatus", 183, 7, 7, -1, -1),
+            new MavlinkMessageDescriptor(60012, "io.dronefleet.mavlink.storm32.Storm32GimbalManagerControl", 99, 36, 36, 32, 33),
+            new MavlinkMessageDescriptor(60013, "io.dronefleet.mavlink.storm32.Storm32GimbalManagerControlPitchyaw", 129, 24, 24, 20, 21),
+            new MavlinkMessageDescriptor(60014, "io.dronefleet.mavlink.storm32.Storm32GimbalManagerCorrectRoll", 134, 8, 8, 4, 5),
+            new MavlinkMessageDescriptor(60020, "io.dronefleet.mavlink.storm32.QshotStatus", 202, 4, 4, -1, -1),
+            new MavlinkMessageDescriptor(60045, "io.dronefleet.mavlink.storm32.RadioRcChannels", 89, 2, 50, -1, -1),
+            new MavlinkMessageDescriptor(60046, "io.dronefleet.mavlink.storm32.RadioLinkStats", 238, 15, 15, -1, -1),
+            new MavlinkMessageDescriptor(60040, "io.dronefleet.mavlink.storm32.FrskyPassthroughArray", 156, 245, 245, -1, -1),
+            new MavlinkMessageDescriptor(60041, "io.dronefleet.mavlink.storm32.ParamValueArray", 191, 255, 255, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final Storm32Dialect instance = new Storm32Dialect();
 
     public Storm32Dialect() {
-        super("storm32", dependencies, messages);
+        super("storm32", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static Storm32Dialect instance() {
+        return instance;
     }
 }
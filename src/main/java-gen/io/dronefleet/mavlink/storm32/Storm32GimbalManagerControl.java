@@ -4,9 +4,13 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.GimbalDeviceFlags;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
 import java.lang.Enum;
 import java.lang.Float;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -23,7 +27,7 @@ import java.util.Objects;
         crc = 99,
         description = "Message to a gimbal manager to control the gimbal attitude. Angles and rates can be set to NaN according to use case. A gimbal device is never to react to this message."
 )
-public final class Storm32GimbalManagerControl {
+public final class Storm32GimbalManagerControl implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -36,7 +40,7 @@ public final class Storm32GimbalManagerControl {
 
     private final EnumValue<MavStorm32GimbalManagerFlags> managerFlags;
 
-    private final List<Float> q;
+    private final FloatArrayList q;
 
     private final float angularVelocityX;
 
@@ -55,7 +59,7 @@ public final class Storm32GimbalManagerControl {
         this.client = client;
         this.deviceFlags = deviceFlags;
         this.managerFlags = managerFlags;
-        this.q = q;
+        this.q = FloatArrayList.copyOf(q);
         this.angularVelocityX = angularVelocityX;
         this.angularVelocityY = angularVelocityY;
         this.angularVelocityZ = angularVelocityZ;
@@ -160,6 +164,25 @@ public final class Storm32GimbalManagerControl {
         return this.q;
     }
 
+    /**
+     * Returns a copy of {@link #q()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final float[] qArray() {
+        return this.q != null ? this.q.toFloatArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #q()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final float q(int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.q != null && index < this.q.size() ? this.q.getFloat(index) : 0;
+    }
+
     /**
      * X component of angular velocity (positive: roll to the right). NaN to be ignored. 
      */
@@ -231,6 +254,22 @@ public final class Storm32GimbalManagerControl {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("gimbalId").value(this.gimbalId);
+        writer.name("client").value(this.client);
+        writer.name("deviceFlags").value(this.deviceFlags);
+        writer.name("managerFlags").value(this.managerFlags);
+        writer.name("q").value(this.q);
+        writer.name("angularVelocityX").value(this.angularVelocityX);
+        writer.name("angularVelocityY").value(this.angularVelocityY);
+        writer.name("angularVelocityZ").value(this.angularVelocityZ);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Storm32GimbalManagerControl{targetSystem=" + targetSystem
@@ -430,6 +469,14 @@ public final class Storm32GimbalManagerControl {
             return this;
         }
 
+        /**
+         * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). Set first element to NaN to be 
+         * ignored. The frame is determined by the GIMBAL_DEVICE_FLAGS_YAW_IN_xxx_FRAME flags. 
+         */
+        public final Builder q(float... q) {
+            return q(FloatArrayList.of(q));
+        }
+
         /**
          * X component of angular velocity (positive: roll to the right). NaN to be ignored. 
          */
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.GimbalDeviceFlags;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 129,
         description = "Message to a gimbal manager to control the gimbal tilt and pan angles. Angles and rates can be set to NaN according to use case. A gimbal device is never to react to this message."
 )
-public final class Storm32GimbalManagerControlPitchyaw {
+public final class Storm32GimbalManagerControlPitchyaw implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -228,6 +230,22 @@ public final class Storm32GimbalManagerControlPitchyaw {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("gimbalId").value(this.gimbalId);
+        writer.name("client").value(this.client);
+        writer.name("deviceFlags").value(this.deviceFlags);
+        writer.name("managerFlags").value(this.managerFlags);
+        writer.name("pitch").value(this.pitch);
+        writer.name("yaw").value(this.yaw);
+        writer.name("pitchRate").value(this.pitchRate);
+        writer.name("yawRate").value(this.yawRate);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Storm32GimbalManagerControlPitchyaw{targetSystem=" + targetSystem
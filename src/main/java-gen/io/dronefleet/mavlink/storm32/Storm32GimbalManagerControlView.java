@@ -0,0 +1,89 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Storm32GimbalManagerControl} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Storm32GimbalManagerControlView extends PayloadView<Storm32GimbalManagerControlView> {
+    /**
+     * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation). Set first element to NaN to be 
+     * ignored. The frame is determined by the GIMBAL_DEVICE_FLAGS_YAW_IN_xxx_FRAME flags. 
+     */
+    public final float q(int index) {
+        return readFloat(elementPosition(0, 4, 4, index));
+    }
+
+    /**
+     * X component of angular velocity (positive: roll to the right). NaN to be ignored. 
+     */
+    public final float angularVelocityX() {
+        return readFloat(16);
+    }
+
+    /**
+     * Y component of angular velocity (positive: tilt up). NaN to be ignored. 
+     */
+    public final float angularVelocityY() {
+        return readFloat(20);
+    }
+
+    /**
+     * Z component of angular velocity (positive: pan to the right). NaN to be ignored. The frame is 
+     * determined by the GIMBAL_DEVICE_FLAGS_YAW_IN_xxx_FRAME flags. 
+     */
+    public final float angularVelocityZ() {
+        return readFloat(24);
+    }
+
+    /**
+     * Gimbal device flags to be applied (UINT16_MAX to be ignored). Same flags as used in 
+     * GIMBAL_DEVICE_SET_ATTITUDE. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.GimbalDeviceFlags}.
+     */
+    public final int deviceFlags() {
+        return readUint16(28);
+    }
+
+    /**
+     * Gimbal manager flags to be applied (0 to be ignored). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerFlags}.
+     */
+    public final int managerFlags() {
+        return readUint16(30);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(32);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(33);
+    }
+
+    /**
+     * Gimbal ID of the gimbal manager to address (component ID or 1-6 for non-MAVLink gimbal, 0 for all 
+     * gimbals). Send command multiple times for more than one but not all gimbals. 
+     */
+    public final int gimbalId() {
+        return readUint8(34);
+    }
+
+    /**
+     * Client which is contacting the gimbal manager (must be set). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerClient}.
+     */
+    public final int client() {
+        return readUint8(35);
+    }
+}
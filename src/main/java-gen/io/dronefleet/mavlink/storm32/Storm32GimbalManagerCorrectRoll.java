@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.storm32;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 134,
         description = "Message to a gimbal manager to correct the gimbal roll angle. This message is typically used to manually correct for a tilted horizon in operation. A gimbal device is never to react to this message."
 )
-public final class Storm32GimbalManagerCorrectRoll {
+public final class Storm32GimbalManagerCorrectRoll implements JsonWritable {
     private final int targetSystem;
 
     private final int targetComponent;
@@ -135,6 +137,17 @@ public final class Storm32GimbalManagerCorrectRoll {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("targetSystem").value(this.targetSystem);
+        writer.name("targetComponent").value(this.targetComponent);
+        writer.name("gimbalId").value(this.gimbalId);
+        writer.name("client").value(this.client);
+        writer.name("roll").value(this.roll);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Storm32GimbalManagerCorrectRoll{targetSystem=" + targetSystem
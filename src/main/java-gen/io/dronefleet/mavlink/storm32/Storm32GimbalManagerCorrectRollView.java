@@ -0,0 +1,47 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Storm32GimbalManagerCorrectRoll} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Storm32GimbalManagerCorrectRollView extends PayloadView<Storm32GimbalManagerCorrectRollView> {
+    /**
+     * Roll angle (positive to roll to the right). 
+     */
+    public final float roll() {
+        return readFloat(0);
+    }
+
+    /**
+     * System ID 
+     */
+    public final int targetSystem() {
+        return readUint8(4);
+    }
+
+    /**
+     * Component ID 
+     */
+    public final int targetComponent() {
+        return readUint8(5);
+    }
+
+    /**
+     * Gimbal ID of the gimbal manager to address (component ID or 1-6 for non-MAVLink gimbal, 0 for all 
+     * gimbals). Send command multiple times for more than one but not all gimbals. 
+     */
+    public final int gimbalId() {
+        return readUint8(6);
+    }
+
+    /**
+     * Client which is contacting the gimbal manager (must be set). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerClient}.
+     */
+    public final int client() {
+        return readUint8(7);
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.GimbalDeviceCapFlags;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -23,7 +25,7 @@ import java.util.Objects;
         crc = 208,
         description = "Information about a gimbal manager. This message should be requested by a ground station using MAV_CMD_REQUEST_MESSAGE. It mirrors some fields of the GIMBAL_DEVICE_INFORMATION message, but not all. If the additional information is desired, also GIMBAL_DEVICE_INFORMATION should be requested."
 )
-public final class Storm32GimbalManagerInformation {
+public final class Storm32GimbalManagerInformation implements JsonWritable {
     private final int gimbalId;
 
     private final EnumValue<GimbalDeviceCapFlags> deviceCapFlags;
@@ -211,6 +213,21 @@ public final class Storm32GimbalManagerInformation {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("gimbalId").value(this.gimbalId);
+        writer.name("deviceCapFlags").value(this.deviceCapFlags);
+        writer.name("managerCapFlags").value(this.managerCapFlags);
+        writer.name("rollMin").value(this.rollMin);
+        writer.name("rollMax").value(this.rollMax);
+        writer.name("pitchMin").value(this.pitchMin);
+        writer.name("pitchMax").value(this.pitchMax);
+        writer.name("yawMin").value(this.yawMin);
+        writer.name("yawMax").value(this.yawMax);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Storm32GimbalManagerInformation{gimbalId=" + gimbalId
@@ -0,0 +1,80 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Storm32GimbalManagerInformation} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Storm32GimbalManagerInformationView extends PayloadView<Storm32GimbalManagerInformationView> {
+    /**
+     * Gimbal device capability flags. Same flags as reported by GIMBAL_DEVICE_INFORMATION. The 
+     * flag is only 16 bit wide, but stored in 32 bit, for backwards compatibility (high word is zero). 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.GimbalDeviceCapFlags}.
+     */
+    public final int deviceCapFlags() {
+        return readInt32(0);
+    }
+
+    /**
+     * Gimbal manager capability flags. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerCapFlags}.
+     */
+    public final int managerCapFlags() {
+        return readInt32(4);
+    }
+
+    /**
+     * Hardware minimum roll angle (positive: roll to the right). NaN if unknown. 
+     */
+    public final float rollMin() {
+        return readFloat(8);
+    }
+
+    /**
+     * Hardware maximum roll angle (positive: roll to the right). NaN if unknown. 
+     */
+    public final float rollMax() {
+        return readFloat(12);
+    }
+
+    /**
+     * Hardware minimum pitch/tilt angle (positive: tilt up). NaN if unknown. 
+     */
+    public final float pitchMin() {
+        return readFloat(16);
+    }
+
+    /**
+     * Hardware maximum pitch/tilt angle (positive: tilt up). NaN if unknown. 
+     */
+    public final float pitchMax() {
+        return readFloat(20);
+    }
+
+    /**
+     * Hardware minimum yaw/pan angle (positive: pan to the right, relative to the vehicle/gimbal 
+     * base). NaN if unknown. 
+     */
+    public final float yawMin() {
+        return readFloat(24);
+    }
+
+    /**
+     * Hardware maximum yaw/pan angle (positive: pan to the right, relative to the vehicle/gimbal 
+     * base). NaN if unknown. 
+     */
+    public final float yawMax() {
+        return readFloat(28);
+    }
+
+    /**
+     * Gimbal ID (component ID or 1-6 for non-MAVLink gimbal) that this gimbal manager is responsible 
+     * for. 
+     */
+    public final int gimbalId() {
+        return readUint8(32);
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.GimbalDeviceFlags;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -22,7 +24,7 @@ import java.util.Objects;
         crc = 183,
         description = "Message reporting the current status of a gimbal manager. This message should be broadcast at a low regular rate (e.g. 1 Hz, may be increase momentarily to e.g. 5 Hz for a period of 1 sec after a change)."
 )
-public final class Storm32GimbalManagerStatus {
+public final class Storm32GimbalManagerStatus implements JsonWritable {
     private final int gimbalId;
 
     private final EnumValue<MavStorm32GimbalManagerClient> supervisor;
@@ -143,6 +145,17 @@ public final class Storm32GimbalManagerStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("gimbalId").value(this.gimbalId);
+        writer.name("supervisor").value(this.supervisor);
+        writer.name("deviceFlags").value(this.deviceFlags);
+        writer.name("managerFlags").value(this.managerFlags);
+        writer.name("profile").value(this.profile);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "Storm32GimbalManagerStatus{gimbalId=" + gimbalId
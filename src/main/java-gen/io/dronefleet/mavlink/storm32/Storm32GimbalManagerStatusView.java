@@ -0,0 +1,54 @@
+package io.dronefleet.mavlink.storm32;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link Storm32GimbalManagerStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class Storm32GimbalManagerStatusView extends PayloadView<Storm32GimbalManagerStatusView> {
+    /**
+     * Gimbal device flags currently applied. Same flags as reported by 
+     * GIMBAL_DEVICE_ATTITUDE_STATUS. 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.GimbalDeviceFlags}.
+     */
+    public final int deviceFlags() {
+        return readUint16(0);
+    }
+
+    /**
+     * Gimbal manager flags currently applied. 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerFlags}.
+     */
+    public final int managerFlags() {
+        return readUint16(2);
+    }
+
+    /**
+     * Gimbal ID (component ID or 1-6 for non-MAVLink gimbal) that this gimbal manager is responsible 
+     * for. 
+     */
+    public final int gimbalId() {
+        return readUint8(4);
+    }
+
+    /**
+     * Client who is currently supervisor (0 = none). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerClient}.
+     */
+    public final int supervisor() {
+        return readUint8(5);
+    }
+
+    /**
+     * Profile currently applied (0 = default). 
+     * <p>
+     * This returns the raw value of the field, see {@link MavStorm32GimbalManagerProfile}.
+     */
+    public final int profile() {
+        return readUint8(6);
+    }
+}
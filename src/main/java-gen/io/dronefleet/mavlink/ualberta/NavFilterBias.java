@@ -3,6 +3,9 @@ package io.dronefleet.mavlink.ualberta;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.UnsignedLongs;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -17,7 +20,7 @@ import java.util.Objects;
         crc = 34,
         description = "Accelerometer and Gyro biases from the navigation filter"
 )
-public final class NavFilterBias {
+public final class NavFilterBias implements JsonWritable {
     private final BigInteger usec;
 
     private final float accel0;
@@ -163,6 +166,19 @@ public final class NavFilterBias {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("usec").value(this.usec);
+        writer.name("accel0").value(this.accel0);
+        writer.name("accel1").value(this.accel1);
+        writer.name("accel2").value(this.accel2);
+        writer.name("gyro0").value(this.gyro0);
+        writer.name("gyro1").value(this.gyro1);
+        writer.name("gyro2").value(this.gyro2);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "NavFilterBias{usec=" + usec
@@ -202,6 +218,15 @@ public final class NavFilterBias {
             return this;
         }
 
+        /**
+         * Timestamp (microseconds) 
+         * <p>
+         * The specified long holds the bits of the unsigned value.
+         */
+        public final Builder usec(long usec) {
+            return usec(UnsignedLongs.toBigInteger(usec));
+        }
+
         /**
          * b_f[0] 
          */
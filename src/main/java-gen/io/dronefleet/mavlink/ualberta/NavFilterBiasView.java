@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.ualberta;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link NavFilterBias} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class NavFilterBiasView extends PayloadView<NavFilterBiasView> {
+    /**
+     * Timestamp (microseconds) 
+     * <p>
+     * This returns the bits of the unsigned value, see {@link io.dronefleet.mavlink.util.UnsignedLongs}.
+     */
+    public final long usec() {
+        return readInt64(0);
+    }
+
+    /**
+     * b_f[0] 
+     */
+    public final float accel0() {
+        return readFloat(8);
+    }
+
+    /**
+     * b_f[1] 
+     */
+    public final float accel1() {
+        return readFloat(12);
+    }
+
+    /**
+     * b_f[2] 
+     */
+    public final float accel2() {
+        return readFloat(16);
+    }
+
+    /**
+     * b_f[0] 
+     */
+    public final float gyro0() {
+        return readFloat(20);
+    }
+
+    /**
+     * b_f[1] 
+     */
+    public final float gyro1() {
+        return readFloat(24);
+    }
+
+    /**
+     * b_f[2] 
+     */
+    public final float gyro2() {
+        return readFloat(28);
+    }
+}
@@ -3,6 +3,10 @@ package io.dronefleet.mavlink.ualberta;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
+import io.dronefleet.mavlink.util.IntArrayList;
+import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
 import java.lang.Object;
 import java.lang.Override;
@@ -18,27 +22,27 @@ import java.util.Objects;
         crc = 71,
         description = "Complete set of calibration parameters for the radio"
 )
-public final class RadioCalibration {
-    private final List<Integer> aileron;
+public final class RadioCalibration implements JsonWritable {
+    private final IntArrayList aileron;
 
-    private final List<Integer> elevator;
+    private final IntArrayList elevator;
 
-    private final List<Integer> rudder;
+    private final IntArrayList rudder;
 
-    private final List<Integer> gyro;
+    private final IntArrayList gyro;
 
-    private final List<Integer> pitch;
+    private final IntArrayList pitch;
 
-    private final List<Integer> throttle;
+    private final IntArrayList throttle;
 
     private RadioCalibration(List<Integer> aileron, List<Integer> elevator, List<Integer> rudder,
             List<Integer> gyro, List<Integer> pitch, List<Integer> throttle) {
-        this.aileron = aileron;
-        this.elevator = elevator;
-        this.rudder = rudder;
-        this.gyro = gyro;
-        this.pitch = pitch;
-        this.throttle = throttle;
+        this.aileron = IntArrayList.copyOf(aileron);
+        this.elevator = IntArrayList.copyOf(elevator);
+        this.rudder = IntArrayList.copyOf(rudder);
+        this.gyro = IntArrayList.copyOf(gyro);
+        this.pitch = IntArrayList.copyOf(pitch);
+        this.throttle = IntArrayList.copyOf(throttle);
     }
 
     /**
@@ -62,6 +66,25 @@ public final class RadioCalibration {
         return this.aileron;
     }
 
+    /**
+     * Returns a copy of {@link #aileron()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] aileronArray() {
+        return this.aileron != null ? this.aileron.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #aileron()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int aileron(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.aileron != null && index < this.aileron.size() ? this.aileron.getInt(index) : 0;
+    }
+
     /**
      * Elevator setpoints: nose down, center, nose up 
      */
@@ -75,6 +98,25 @@ public final class RadioCalibration {
         return this.elevator;
     }
 
+    /**
+     * Returns a copy of {@link #elevator()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] elevatorArray() {
+        return this.elevator != null ? this.elevator.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #elevator()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int elevator(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.elevator != null && index < this.elevator.size() ? this.elevator.getInt(index) : 0;
+    }
+
     /**
      * Rudder setpoints: nose left, center, nose right 
      */
@@ -88,6 +130,25 @@ public final class RadioCalibration {
         return this.rudder;
     }
 
+    /**
+     * Returns a copy of {@link #rudder()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] rudderArray() {
+        return this.rudder != null ? this.rudder.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #rudder()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int rudder(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.rudder != null && index < this.rudder.size() ? this.rudder.getInt(index) : 0;
+    }
+
     /**
      * Tail gyro mode/gain setpoints: heading hold, rate mode 
      */
@@ -101,6 +162,25 @@ public final class RadioCalibration {
         return this.gyro;
     }
 
+    /**
+     * Returns a copy of {@link #gyro()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] gyroArray() {
+        return this.gyro != null ? this.gyro.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #gyro()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int gyro(int index) {
+        if (index < 0 || index >= 2) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.gyro != null && index < this.gyro.size() ? this.gyro.getInt(index) : 0;
+    }
+
     /**
      * Pitch curve setpoints (every 25%) 
      */
@@ -114,6 +194,25 @@ public final class RadioCalibration {
         return this.pitch;
     }
 
+    /**
+     * Returns a copy of {@link #pitch()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] pitchArray() {
+        return this.pitch != null ? this.pitch.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #pitch()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int pitch(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.pitch != null && index < this.pitch.size() ? this.pitch.getInt(index) : 0;
+    }
+
     /**
      * Throttle curve setpoints (every 25%) 
      */
@@ -127,6 +226,25 @@ public final class RadioCalibration {
         return this.throttle;
     }
 
+    /**
+     * Returns a copy of {@link #throttle()} as a primitive array, or {@code null} if it is
+     * not set.
+     */
+    public final int[] throttleArray() {
+        return this.throttle != null ? this.throttle.toIntArray() : null;
+    }
+
+    /**
+     * Returns the element of {@link #throttle()} at the specified index, without boxing it.
+     * Elements which are not set read as {@code 0}, as they are sent.
+     */
+    public final int throttle(int index) {
+        if (index < 0 || index >= 5) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return this.throttle != null && index < this.throttle.size() ? this.throttle.getInt(index) : 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -153,6 +271,18 @@ public final class RadioCalibration {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("aileron").value(this.aileron);
+        writer.name("elevator").value(this.elevator);
+        writer.name("rudder").value(this.rudder);
+        writer.name("gyro").value(this.gyro);
+        writer.name("pitch").value(this.pitch);
+        writer.name("throttle").value(this.throttle);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "RadioCalibration{aileron=" + aileron
@@ -190,6 +320,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Aileron setpoints: left, center, right 
+         */
+        public final Builder aileron(int... aileron) {
+            return aileron(IntArrayList.of(aileron));
+        }
+
         /**
          * Elevator setpoints: nose down, center, nose up 
          */
@@ -204,6 +341,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Elevator setpoints: nose down, center, nose up 
+         */
+        public final Builder elevator(int... elevator) {
+            return elevator(IntArrayList.of(elevator));
+        }
+
         /**
          * Rudder setpoints: nose left, center, nose right 
          */
@@ -218,6 +362,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Rudder setpoints: nose left, center, nose right 
+         */
+        public final Builder rudder(int... rudder) {
+            return rudder(IntArrayList.of(rudder));
+        }
+
         /**
          * Tail gyro mode/gain setpoints: heading hold, rate mode 
          */
@@ -232,6 +383,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Tail gyro mode/gain setpoints: heading hold, rate mode 
+         */
+        public final Builder gyro(int... gyro) {
+            return gyro(IntArrayList.of(gyro));
+        }
+
         /**
          * Pitch curve setpoints (every 25%) 
          */
@@ -246,6 +404,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Pitch curve setpoints (every 25%) 
+         */
+        public final Builder pitch(int... pitch) {
+            return pitch(IntArrayList.of(pitch));
+        }
+
         /**
          * Throttle curve setpoints (every 25%) 
          */
@@ -260,6 +425,13 @@ public final class RadioCalibration {
             return this;
         }
 
+        /**
+         * Throttle curve setpoints (every 25%) 
+         */
+        public final Builder throttle(int... throttle) {
+            return throttle(IntArrayList.of(throttle));
+        }
+
         public final RadioCalibration build() {
             return new RadioCalibration(aileron, elevator, rudder, gyro, pitch, throttle);
         }
@@ -0,0 +1,51 @@
+package io.dronefleet.mavlink.ualberta;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link RadioCalibration} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class RadioCalibrationView extends PayloadView<RadioCalibrationView> {
+    /**
+     * Aileron setpoints: left, center, right 
+     */
+    public final int aileron(int index) {
+        return readUint16(elementPosition(0, 2, 3, index));
+    }
+
+    /**
+     * Elevator setpoints: nose down, center, nose up 
+     */
+    public final int elevator(int index) {
+        return readUint16(elementPosition(6, 2, 3, index));
+    }
+
+    /**
+     * Rudder setpoints: nose left, center, nose right 
+     */
+    public final int rudder(int index) {
+        return readUint16(elementPosition(12, 2, 3, index));
+    }
+
+    /**
+     * Tail gyro mode/gain setpoints: heading hold, rate mode 
+     */
+    public final int gyro(int index) {
+        return readUint16(elementPosition(18, 2, 2, index));
+    }
+
+    /**
+     * Pitch curve setpoints (every 25%) 
+     */
+    public final int pitch(int index) {
+        return readUint16(elementPosition(22, 2, 5, index));
+    }
+
+    /**
+     * Throttle curve setpoints (every 25%) 
+     */
+    public final int throttle(int index) {
+        return readUint16(elementPosition(32, 2, 5, index));
+    }
+}
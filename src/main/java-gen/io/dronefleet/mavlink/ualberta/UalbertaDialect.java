@@ -2,31 +2,40 @@ package io.dronefleet.mavlink.ualberta;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class UalbertaDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(220, NavFilterBias.class)
-            .put(221, RadioCalibration.class)
-            .put(222, UalbertaSysStatus.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(220, "io.dronefleet.mavlink.ualberta.NavFilterBias", 34, 32, 32, -1, -1),
+            new MavlinkMessageDescriptor(221, "io.dronefleet.mavlink.ualberta.RadioCalibration", 71, 42, 42, -1, -1),
+            new MavlinkMessageDescriptor(222, "io.dronefleet.mavlink.ualberta.UalbertaSysStatus", 15, 3, 3, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final UalbertaDialect instance = new UalbertaDialect();
 
     public UalbertaDialect() {
-        super("ualberta", dependencies, messages);
+        super("ualberta", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static UalbertaDialect instance() {
+        return instance;
     }
 }
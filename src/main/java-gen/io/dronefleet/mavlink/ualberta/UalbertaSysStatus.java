@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.ualberta;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
@@ -16,7 +18,7 @@ import java.util.Objects;
         crc = 15,
         description = "System status specific to ualberta uav"
 )
-public final class UalbertaSysStatus {
+public final class UalbertaSysStatus implements JsonWritable {
     private final int mode;
 
     private final int navMode;
@@ -93,6 +95,15 @@ public final class UalbertaSysStatus {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("mode").value(this.mode);
+        writer.name("navMode").value(this.navMode);
+        writer.name("pilot").value(this.pilot);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UalbertaSysStatus{mode=" + mode
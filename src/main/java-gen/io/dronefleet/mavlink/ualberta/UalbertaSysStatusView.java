@@ -0,0 +1,30 @@
+package io.dronefleet.mavlink.ualberta;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UalbertaSysStatus} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UalbertaSysStatusView extends PayloadView<UalbertaSysStatusView> {
+    /**
+     * System mode, see {@link io.dronefleet.mavlink.ualberta.UalbertaAutopilotMode UALBERTA_AUTOPILOT_MODE} ENUM 
+     */
+    public final int mode() {
+        return readUint8(0);
+    }
+
+    /**
+     * Navigation mode, see {@link io.dronefleet.mavlink.ualberta.UalbertaNavMode UALBERTA_NAV_MODE} ENUM 
+     */
+    public final int navMode() {
+        return readUint8(1);
+    }
+
+    /**
+     * Pilot mode, see {@link io.dronefleet.mavlink.ualberta.UalbertaPilotMode UALBERTA_PILOT_MODE} 
+     */
+    public final int pilot() {
+        return readUint8(2);
+    }
+}
@@ -4,6 +4,8 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.common.AdsbEmitterType;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -21,7 +23,7 @@ import java.util.Objects;
         crc = 209,
         description = "Static data to configure the ADS-B transponder (send within 10 sec of a POR and every 10 sec thereafter)"
 )
-public final class UavionixAdsbOutCfg {
+public final class UavionixAdsbOutCfg implements JsonWritable {
     private final long icao;
 
     private final String callsign;
@@ -194,6 +196,20 @@ public final class UavionixAdsbOutCfg {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("icao").value(this.icao);
+        writer.name("callsign").value(this.callsign);
+        writer.name("emittertype").value(this.emittertype);
+        writer.name("aircraftsize").value(this.aircraftsize);
+        writer.name("gpsoffsetlat").value(this.gpsoffsetlat);
+        writer.name("gpsoffsetlon").value(this.gpsoffsetlon);
+        writer.name("stallspeed").value(this.stallspeed);
+        writer.name("rfselect").value(this.rfselect);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UavionixAdsbOutCfg{icao=" + icao
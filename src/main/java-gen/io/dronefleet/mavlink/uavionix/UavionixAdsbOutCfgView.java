@@ -0,0 +1,77 @@
+package io.dronefleet.mavlink.uavionix;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+import java.lang.String;
+
+/**
+ * A reusable view of the payload of a {@link UavionixAdsbOutCfg} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavionixAdsbOutCfgView extends PayloadView<UavionixAdsbOutCfgView> {
+    /**
+     * Vehicle address (24 bit) 
+     */
+    public final long icao() {
+        return readUint32(0);
+    }
+
+    /**
+     * Aircraft stall speed in cm/s 
+     */
+    public final int stallspeed() {
+        return readUint16(4);
+    }
+
+    /**
+     * Vehicle identifier (8 characters, null terminated, valid characters are A-Z, 0-9, " " only) 
+     */
+    public final String callsign() {
+        return readString(6, 9);
+    }
+
+    /**
+     * Transmitting vehicle type. See {@link io.dronefleet.mavlink.common.AdsbEmitterType ADSB_EMITTER_TYPE} enum 
+     * <p>
+     * This returns the raw value of the field, see {@link io.dronefleet.mavlink.common.AdsbEmitterType}.
+     */
+    public final int emittertype() {
+        return readUint8(15);
+    }
+
+    /**
+     * Aircraft length and width encoding (table 2-35 of DO-282B) 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutCfgAircraftSize}.
+     */
+    public final int aircraftsize() {
+        return readUint8(16);
+    }
+
+    /**
+     * GPS antenna lateral offset (table 2-36 of DO-282B) 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutCfgGpsOffsetLat}.
+     */
+    public final int gpsoffsetlat() {
+        return readUint8(17);
+    }
+
+    /**
+     * GPS antenna longitudinal offset from nose [if non-zero, take position (in meters) divide by 2 
+     * and add one] (table 2-37 DO-282B) 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutCfgGpsOffsetLon}.
+     */
+    public final int gpsoffsetlon() {
+        return readUint8(18);
+    }
+
+    /**
+     * ADS-B transponder receiver and transmit enable flags 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutRfSelect}.
+     */
+    public final int rfselect() {
+        return readUint8(19);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.uavionix;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 186,
         description = "Dynamic data used to generate ADS-B out transponder data (send at 5Hz)"
 )
-public final class UavionixAdsbOutDynamic {
+public final class UavionixAdsbOutDynamic implements JsonWritable {
     private final long utctime;
 
     private final int gpslat;
@@ -332,6 +334,28 @@ public final class UavionixAdsbOutDynamic {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("utctime").value(this.utctime);
+        writer.name("gpslat").value(this.gpslat);
+        writer.name("gpslon").value(this.gpslon);
+        writer.name("gpsalt").value(this.gpsalt);
+        writer.name("gpsfix").value(this.gpsfix);
+        writer.name("numsats").value(this.numsats);
+        writer.name("baroaltmsl").value(this.baroaltmsl);
+        writer.name("accuracyhor").value(this.accuracyhor);
+        writer.name("accuracyvert").value(this.accuracyvert);
+        writer.name("accuracyvel").value(this.accuracyvel);
+        writer.name("velvert").value(this.velvert);
+        writer.name("velns").value(this.velns);
+        writer.name("velew").value(this.velew);
+        writer.name("emergencystatus").value(this.emergencystatus);
+        writer.name("state").value(this.state);
+        writer.name("squawk").value(this.squawk);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UavionixAdsbOutDynamic{utctime=" + utctime
@@ -0,0 +1,128 @@
+package io.dronefleet.mavlink.uavionix;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UavionixAdsbOutDynamic} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavionixAdsbOutDynamicView extends PayloadView<UavionixAdsbOutDynamicView> {
+    /**
+     * UTC time in seconds since GPS epoch (Jan 6, 1980). If unknown set to UINT32_MAX 
+     */
+    public final long utctime() {
+        return readUint32(0);
+    }
+
+    /**
+     * Latitude WGS84 (deg * 1E7). If unknown set to INT32_MAX 
+     */
+    public final int gpslat() {
+        return readInt32(4);
+    }
+
+    /**
+     * Longitude WGS84 (deg * 1E7). If unknown set to INT32_MAX 
+     */
+    public final int gpslon() {
+        return readInt32(8);
+    }
+
+    /**
+     * Altitude (WGS84). UP +ve. If unknown set to INT32_MAX 
+     */
+    public final int gpsalt() {
+        return readInt32(12);
+    }
+
+    /**
+     * Barometric pressure altitude (MSL) relative to a standard atmosphere of 1013.2 mBar and NOT 
+     * bar corrected altitude (m * 1E-3). (up +ve). If unknown set to INT32_MAX 
+     */
+    public final int baroaltmsl() {
+        return readInt32(16);
+    }
+
+    /**
+     * Horizontal accuracy in mm (m * 1E-3). If unknown set to UINT32_MAX 
+     */
+    public final long accuracyhor() {
+        return readUint32(20);
+    }
+
+    /**
+     * Vertical accuracy in cm. If unknown set to UINT16_MAX 
+     */
+    public final int accuracyvert() {
+        return readUint16(24);
+    }
+
+    /**
+     * Velocity accuracy in mm/s (m * 1E-3). If unknown set to UINT16_MAX 
+     */
+    public final int accuracyvel() {
+        return readUint16(26);
+    }
+
+    /**
+     * GPS vertical speed in cm/s. If unknown set to INT16_MAX 
+     */
+    public final int velvert() {
+        return readInt16(28);
+    }
+
+    /**
+     * North-South velocity over ground in cm/s North +ve. If unknown set to INT16_MAX 
+     */
+    public final int velns() {
+        return readInt16(30);
+    }
+
+    /**
+     * East-West velocity over ground in cm/s East +ve. If unknown set to INT16_MAX 
+     */
+    public final int velew() {
+        return readInt16(32);
+    }
+
+    /**
+     * ADS-B transponder dynamic input state flags 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutDynamicState}.
+     */
+    public final int state() {
+        return readUint16(34);
+    }
+
+    /**
+     * Mode A code (typically 1200 [0x04B0] for VFR) 
+     */
+    public final int squawk() {
+        return readUint16(36);
+    }
+
+    /**
+     * 0-1: no fix, 2: 2D fix, 3: 3D fix, 4: DGPS, 5: RTK 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbOutDynamicGpsFix}.
+     */
+    public final int gpsfix() {
+        return readUint8(38);
+    }
+
+    /**
+     * Number of satellites visible. If unknown set to UINT8_MAX 
+     */
+    public final int numsats() {
+        return readUint8(39);
+    }
+
+    /**
+     * Emergency status 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbEmergencyStatus}.
+     */
+    public final int emergencystatus() {
+        return readUint8(40);
+    }
+}
@@ -3,6 +3,8 @@ package io.dronefleet.mavlink.uavionix;
 import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.json.JsonWritable;
+import io.dronefleet.mavlink.serialization.json.JsonWriter;
 import io.dronefleet.mavlink.util.EnumValue;
 import java.lang.Enum;
 import java.lang.Object;
@@ -19,7 +21,7 @@ import java.util.Objects;
         crc = 4,
         description = "Transceiver heartbeat with health report (updated every 10s)"
 )
-public final class UavionixAdsbTransceiverHealthReport {
+public final class UavionixAdsbTransceiverHealthReport implements JsonWritable {
     private final EnumValue<UavionixAdsbRfHealth> rfhealth;
 
     private UavionixAdsbTransceiverHealthReport(EnumValue<UavionixAdsbRfHealth> rfhealth) {
@@ -63,6 +65,13 @@ public final class UavionixAdsbTransceiverHealthReport {
         return result;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.name("rfhealth").value(this.rfhealth);
+        writer.endObject();
+    }
+
     @Override
     public String toString() {
         return "UavionixAdsbTransceiverHealthReport{rfhealth=" + rfhealth + "}";
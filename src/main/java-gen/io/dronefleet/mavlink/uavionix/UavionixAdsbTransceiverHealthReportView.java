@@ -0,0 +1,18 @@
+package io.dronefleet.mavlink.uavionix;
+
+import io.dronefleet.mavlink.serialization.payload.PayloadView;
+
+/**
+ * A reusable view of the payload of a {@link UavionixAdsbTransceiverHealthReport} message, which decodes fields
+ * when they are accessed without creating the message.
+ */
+public final class UavionixAdsbTransceiverHealthReportView extends PayloadView<UavionixAdsbTransceiverHealthReportView> {
+    /**
+     * ADS-B transponder messages 
+     * <p>
+     * This returns the raw value of the field, see {@link UavionixAdsbRfHealth}.
+     */
+    public final int rfhealth() {
+        return readUint8(0);
+    }
+}
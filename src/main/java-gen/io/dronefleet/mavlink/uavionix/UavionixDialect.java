@@ -2,31 +2,40 @@ package io.dronefleet.mavlink.uavionix;
 
 import io.dronefleet.mavlink.AbstractMavlinkDialect;
 import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
 import io.dronefleet.mavlink.common.CommonDialect;
-import io.dronefleet.mavlink.util.UnmodifiableMapBuilder;
-import java.lang.Class;
-import java.lang.Integer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public final class UavionixDialect extends AbstractMavlinkDialect {
     /**
      * A list of all of the dependencies of this dialect.
      */
     private static final List<MavlinkDialect> dependencies = Arrays.asList(
-            new CommonDialect());
+            CommonDialect.instance());
 
     /**
-     * A list of all message types supported by this dialect.
+     * Descriptors of all message types supported by this dialect.
      */
-    private static final Map<Integer, Class> messages = new UnmodifiableMapBuilder<Integer, Class>()
-            .put(10001, UavionixAdsbOutCfg.class)
-            .put(10002, UavionixAdsbOutDynamic.class)
-            .put(10003, UavionixAdsbTransceiverHealthReport.class)
-            .build();
+    private static final List<MavlinkMessageDescriptor> descriptors = Arrays.asList(
+            new MavlinkMessageDescriptor(10001, "io.dronefleet.mavlink.uavionix.UavionixAdsbOutCfg", 209, 20, 20, -1, -1),
+            new MavlinkMessageDescriptor(10002, "io.dronefleet.mavlink.uavionix.UavionixAdsbOutDynamic", 186, 41, 41, -1, -1),
+            new MavlinkMessageDescriptor(10003, "io.dronefleet.mavlink.uavionix.UavionixAdsbTransceiverHealthReport", 4, 1, 1, -1, -1));
+
+    /**
+     * The shared instance of this dialect.
+     */
+    private static final UavionixDialect instance = new UavionixDialect();
 
     public UavionixDialect() {
-        super("uavionix", dependencies, messages);
+        super("uavionix", dependencies, descriptors);
+    }
+
+    /**
+     * Returns the shared instance of this dialect. Dialects are immutable, so a single
+     * instance can be used by any number of connections.
+     */
+    public static UavionixDialect instance() {
+        return instance;
     }
 }
@@ -1,5 +1,6 @@
 package io.dronefleet.mavlink;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,14 +10,63 @@ public class AbstractMavlinkDialect implements MavlinkDialect {
 
     private final String name;
     private final List<MavlinkDialect> dependencies;
-    private final Map<Integer, Class> messages;
+    private final List<MavlinkMessageDescriptor> messages;
+
+    /**
+     * Descriptors of the messages of this dialect and, when all dependencies are themselves
+     * abstract dialects, of the messages of its dependencies. The table is keyed by message ID
+     * with open addressing, so that lookups neither box IDs nor walk the dependency tree.
+     */
+    private final int[] ids;
+    private final MavlinkMessageDescriptor[] descriptors;
+    private final boolean includesDependencies;
 
     public AbstractMavlinkDialect(
             String name,
             List<MavlinkDialect> dependencies, Map<Integer, Class> messages) {
+        this(name, dependencies, messages.values().stream()
+                .map(MavlinkMessageDescriptor::of)
+                .collect(Collectors.toList()));
+    }
+
+    public AbstractMavlinkDialect(
+            String name,
+            List<MavlinkDialect> dependencies,
+            List<MavlinkMessageDescriptor> descriptors) {
         this.name = name;
         this.dependencies = dependencies;
-        this.messages = messages;
+        this.messages = descriptors;
+
+        Map<Integer, MavlinkMessageDescriptor> table = new LinkedHashMap<>();
+        for (MavlinkMessageDescriptor descriptor : descriptors) {
+            if (table.put(descriptor.id(), descriptor) != null) {
+                throw new IllegalStateException("dialect " + name + " contains message ID "
+                        + descriptor.id() + " more than once");
+            }
+        }
+        includesDependencies = dependencies.stream().allMatch(d -> d instanceof AbstractMavlinkDialect);
+        if (includesDependencies) {
+            for (MavlinkDialect dependency : dependencies) {
+                AbstractMavlinkDialect abstractDependency = (AbstractMavlinkDialect) dependency;
+                for (MavlinkMessageDescriptor descriptor : abstractDependency.descriptors) {
+                    if (descriptor != null) {
+                        table.putIfAbsent(descriptor.id(), descriptor);
+                    }
+                }
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(table.size(), 1) * 4 - 1) << 1;
+        this.ids = new int[capacity];
+        this.descriptors = new MavlinkMessageDescriptor[capacity];
+        for (MavlinkMessageDescriptor descriptor : table.values()) {
+            int slot = slot(descriptor.id());
+            while (this.descriptors[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            this.ids[slot] = descriptor.id();
+            this.descriptors[slot] = descriptor;
+        }
     }
 
     @Override
@@ -26,41 +76,49 @@ public class AbstractMavlinkDialect implements MavlinkDialect {
 
     @Override
     public Class resolve(int messageId) {
-        if (messages.containsKey(messageId)) {
-            return messages.get(messageId);
-        } else {
-            for (MavlinkDialect dependency : dependencies) {
-                Class result = dependency.resolve(messageId);
-                if (result != null) {
-                    return result;
-                }
-            }
-        }
-        return null;
+        MavlinkMessageDescriptor descriptor = describe(messageId);
+        return descriptor != null ? descriptor.messageType() : null;
     }
 
     @Override
     public boolean supports(int messageId) {
-        if (messages.containsKey(messageId)) {
-            return true;
-        } else {
+        return describe(messageId) != null;
+    }
+
+    @Override
+    public MavlinkMessageDescriptor describe(int messageId) {
+        for (int slot = slot(messageId); descriptors[slot] != null; slot = (slot + 1) & (ids.length - 1)) {
+            if (ids[slot] == messageId) {
+                return descriptors[slot];
+            }
+        }
+        if (!includesDependencies) {
             for (MavlinkDialect dependency : dependencies) {
-                if (dependency.supports(messageId)) {
-                    return true;
+                MavlinkMessageDescriptor descriptor = dependency.describe(messageId);
+                if (descriptor != null) {
+                    return descriptor;
                 }
             }
         }
-        return false;
+        return null;
     }
 
+    /**
+     * Returns a list of all of the message types supported by this dialect. This loads the classes
+     * of all of the messages, which is otherwise deferred until a message is resolved.
+     */
     @Override
     public List<Class> messageTypes() {
         return Stream.concat(
-                messages.values().stream(),
+                messages.stream().map(MavlinkMessageDescriptor::messageType),
                 dependencies.stream()
                         .map(MavlinkDialect::messageTypes)
                         .flatMap(List::stream))
                 .distinct()
                 .collect(Collectors.toList());
     }
+
+    private int slot(int messageId) {
+        return (messageId * 0x9E3779B9 >>> 8) & (ids.length - 1);
+    }
 }
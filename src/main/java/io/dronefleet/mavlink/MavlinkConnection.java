@@ -1,6 +1,5 @@
 package io.dronefleet.mavlink;
 
-import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.ardupilotmega.ArdupilotmegaDialect;
 import io.dronefleet.mavlink.asluav.AsluavDialect;
 import io.dronefleet.mavlink.autoquad.AutoquadDialect;
@@ -50,21 +49,21 @@ public class MavlinkConnection {
             this.in = in;
             this.out = out;
             dialects = new HashMap<>();
-            dialect(MavAutopilot.MAV_AUTOPILOT_GENERIC, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_AEROB, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_AIRRAILS, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_UDB, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_SMARTAP, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_SMACCMPILOT, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_OPENPILOT, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_FP, new CommonDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_ARDUPILOTMEGA, new ArdupilotmegaDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_PX4, new ArdupilotmegaDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_AUTOQUAD, new AutoquadDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_ASLUAV, new AsluavDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_SLUGS, new SlugsDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_AUTOQUAD, new AutoquadDialect())
-                    .dialect(MavAutopilot.MAV_AUTOPILOT_PPZ, new PaparazziDialect());
+            dialect(MavAutopilot.MAV_AUTOPILOT_GENERIC, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_AEROB, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_AIRRAILS, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_UDB, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_SMARTAP, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_SMACCMPILOT, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_OPENPILOT, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_FP, CommonDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_ARDUPILOTMEGA, ArdupilotmegaDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_PX4, ArdupilotmegaDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_AUTOQUAD, AutoquadDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_ASLUAV, AsluavDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_SLUGS, SlugsDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_AUTOQUAD, AutoquadDialect.instance())
+                    .dialect(MavAutopilot.MAV_AUTOPILOT_PPZ, PaparazziDialect.instance());
             defaultDialect = COMMON_DIALECT;
         }
 
@@ -113,7 +112,7 @@ public class MavlinkConnection {
      * The default dialect for systems which have not yet been associated
      * with a specific dialect.
      */
-    private static MavlinkDialect COMMON_DIALECT = new CommonDialect();
+    private static final MavlinkDialect COMMON_DIALECT = CommonDialect.instance();
 
     /**
      * Creates a new builder for the specified input/output streams.
@@ -193,6 +192,12 @@ public class MavlinkConnection {
      */
     private final Lock writeLock;
 
+    /**
+     * The buffer which batches of encoded packets are copied to, so that they are written at once.
+     * Guarded by the write lock.
+     */
+    private byte[] batch = new byte[0];
+
     MavlinkConnection(
             MavlinkPacketReader reader,
             OutputStream out,
@@ -275,8 +280,7 @@ public class MavlinkConnection {
      * @throws IOException if an I/O error occurs.
      */
     public void send1(int systemId, int componentId, Object payload) throws IOException {
-        MavlinkMessageInfo messageInfo = payload.getClass()
-                .getAnnotation(MavlinkMessageInfo.class);
+        MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(payload.getClass());
         byte[] serializedPayload = serializer.serialize(payload);
         writeLock.lock();
         try {
@@ -284,8 +288,8 @@ public class MavlinkConnection {
                     sequence++,
                     systemId,
                     componentId,
-                    messageInfo.id(),
-                    messageInfo.crc(),
+                    descriptor.id(),
+                    descriptor.crcExtra(),
                     serializedPayload));
         } finally {
             writeLock.unlock();
@@ -301,8 +305,7 @@ public class MavlinkConnection {
      * @throws IOException if an I/O error occurs.
      */
     public void send2(int systemId, int componentId, Object payload) throws IOException {
-        MavlinkMessageInfo messageInfo = payload.getClass()
-                .getAnnotation(MavlinkMessageInfo.class);
+        MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(payload.getClass());
         byte[] serializedPayload = serializer.serialize(payload);
         writeLock.lock();
         try {
@@ -310,14 +313,94 @@ public class MavlinkConnection {
                     sequence++,
                     systemId,
                     componentId,
-                    messageInfo.id(),
-                    messageInfo.crc(),
+                    descriptor.id(),
+                    descriptor.crcExtra(),
                     serializedPayload));
         } finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * Sends an unsigned Mavlink 2 message with a payload which was serialized beforehand, such
+     * as a payload which is sent repeatedly.
+     *
+     * @param systemId          The system ID that originated this message.
+     * @param componentId       The component ID that originated this message.
+     * @param descriptor        The descriptor of the message.
+     * @param serializedPayload The serialized payload to send.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void send2(int systemId, int componentId, MavlinkMessageDescriptor descriptor,
+                      byte[] serializedPayload) throws IOException {
+        writeLock.lock();
+        try {
+            send(MavlinkPacket.createUnsignedMavlink2Packet(
+                    sequence++,
+                    systemId,
+                    componentId,
+                    descriptor.id(),
+                    descriptor.crcExtra(),
+                    serializedPayload));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Encodes an unsigned Mavlink 2 packet, to be sent later by
+     * {@link #sendEncoded(byte[][], int[], int)}, any number of times.
+     *
+     * @param systemId    The system ID that originated this message.
+     * @param componentId The component ID that originated this message.
+     * @param payload     The payload to encode.
+     * @return The bytes of the packet, which has a sequence of 0 until it is sent.
+     */
+    public byte[] encode2(int systemId, int componentId, Object payload) {
+        MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(payload.getClass());
+        return MavlinkPacket.createUnsignedMavlink2Packet(
+                0,
+                systemId,
+                componentId,
+                descriptor.id(),
+                descriptor.crcExtra(),
+                serializer.serialize(payload)).getRawBytes();
+    }
+
+    /**
+     * Sends unsigned packets which were encoded beforehand, with a single write. Each packet is
+     * given the next sequence of this connection, which is written to its bytes in place along
+     * with its updated CRC, so the bytes of a packet must not be sent by several threads at once.
+     *
+     * @param packets   The bytes of the packets to send, as encoded by
+     *                  {@link #encode2(int, int, Object)}.
+     * @param crcExtras The CRC extra of the message of each packet.
+     * @param count     The number of packets to send, from the start of the arrays.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void sendEncoded(byte[][] packets, int[] crcExtras, int count) throws IOException {
+        writeLock.lock();
+        try {
+            int length = 0;
+            for (int i = 0; i < count; i++) {
+                length += packets[i].length;
+            }
+            if (batch.length < length) {
+                batch = new byte[Math.max(length, batch.length * 2)];
+            }
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                MavlinkPacket.rewriteSequence(packets[i], sequence++, crcExtras[i]);
+                System.arraycopy(packets[i], 0, batch, position, packets[i].length);
+                position += packets[i].length;
+            }
+            out.write(batch, 0, position);
+            out.flush();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     /**
      * Sends a signed Mavlink 2 message using the specified settings.
      *
@@ -331,8 +414,7 @@ public class MavlinkConnection {
      */
     public void send2(int systemId, int componentId, Object payload, int linkId,
                       long timestamp, byte[] secretKey) throws IOException {
-        MavlinkMessageInfo messageInfo = payload.getClass()
-                .getAnnotation(MavlinkMessageInfo.class);
+        MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(payload.getClass());
         byte[] serializedPayload = serializer.serialize(payload);
         writeLock.lock();
         try {
@@ -340,8 +422,8 @@ public class MavlinkConnection {
                     sequence++,
                     systemId,
                     componentId,
-                    messageInfo.id(),
-                    messageInfo.crc(),
+                    descriptor.id(),
+                    descriptor.crcExtra(),
                     serializedPayload,
                     linkId,
                     timestamp,
@@ -400,12 +482,9 @@ public class MavlinkConnection {
      * if the packet does not represent a message of the specified dialect.
      */
     private Class<?> getMessageType(MavlinkPacket packet, MavlinkDialect dialect) {
-        if (dialect.supports(packet.getMessageId())) {
-            Class<?> messageType = dialect.resolve(packet.getMessageId());
-            MavlinkMessageInfo messageInfo = messageType.getAnnotation(MavlinkMessageInfo.class);
-            if (packet.validateCrc(messageInfo.crc())) {
-                return messageType;
-            }
+        MavlinkMessageDescriptor descriptor = dialect.describe(packet.getMessageId());
+        if (descriptor != null && packet.validateCrc(descriptor.crcExtra())) {
+            return descriptor.messageType();
         }
         return null;
     }
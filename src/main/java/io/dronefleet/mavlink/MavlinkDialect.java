@@ -1,11 +1,16 @@
 package io.dronefleet.mavlink;
 
+import io.dronefleet.mavlink.protocol.CrcExtraResolver;
+
 import java.util.List;
 
 /**
- * Serves as an index of a Mavlink dialect.
+ * Serves as an index of a Mavlink dialect. Dialects also resolve the CRC extras of the
+ * messages they support, which allows them to be used by the protocol level utilities that
+ * require CRC validation, such as {@link io.dronefleet.mavlink.protocol.TlogIndex} and
+ * {@link io.dronefleet.mavlink.protocol.ParallelTlogDecoder}.
  */
-public interface MavlinkDialect {
+public interface MavlinkDialect extends CrcExtraResolver {
 
     /**
      * Returns the name of this dialect. The returned name is a lower-case version of the
@@ -34,4 +39,33 @@ public interface MavlinkDialect {
      * Returns a list of all of the message types supported by this dialect.
      */
     List<Class> messageTypes();
+
+    /**
+     * Describes the message of the specified ID. The default implementation computes the
+     * descriptor from the annotations of the resolved message class, while generated dialects
+     * return the descriptors which were generated along with them.
+     *
+     * @param messageId The ID of the message to describe.
+     * @return The descriptor of the message of the specified ID, or {@code null} if this dialect
+     * does not support the message.
+     */
+    default MavlinkMessageDescriptor describe(int messageId) {
+        if (!supports(messageId)) {
+            return null;
+        }
+        return MavlinkMessageDescriptor.of(resolve(messageId));
+    }
+
+    /**
+     * Resolves the CRC extra of a message by its ID.
+     *
+     * @param messageId The ID of the message to resolve the CRC extra for.
+     * @return The CRC extra of the message of the specified ID, or {@code -1} if this dialect
+     * does not support the message.
+     */
+    @Override
+    default int crcExtra(int messageId) {
+        MavlinkMessageDescriptor descriptor = describe(messageId);
+        return descriptor != null ? descriptor.crcExtra() : -1;
+    }
 }
@@ -46,6 +46,20 @@ public class MavlinkMessage<T> {
         return payload;
     }
 
+    /**
+     * Returns the ID of the message type of this message.
+     */
+    public int getMessageId() {
+        return packet.getMessageId();
+    }
+
+    /**
+     * Returns the length of the original raw bytes of this message, without copying them.
+     */
+    public int getLength() {
+        return packet.getRawBytes().length;
+    }
+
     /**
      * Returns a copy of the original raw bytes of this message.
      */
@@ -0,0 +1,221 @@
+package io.dronefleet.mavlink;
+
+import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.serialization.payload.PayloadField;
+import io.dronefleet.mavlink.serialization.payload.PayloadLayout;
+
+/**
+ * <p>
+ * Describes the wire properties of a message type: its ID, CRC extra, payload lengths and the
+ * offsets of its target fields.
+ * <p>
+ * Generated dialects hold a descriptor for each of their messages, which spares the connection
+ * from reading annotations when sending and receiving messages. Generated descriptors refer to
+ * their message class by name, and only load it when {@link #messageType()} is first called, so
+ * that a dialect does not load the classes of messages which are never received. Descriptors of
+ * other message types are computed from their annotations once, through {@link #of(Class)}.
+ */
+public final class MavlinkMessageDescriptor {
+
+    private static final ClassValue<MavlinkMessageDescriptor> descriptors = new ClassValue<MavlinkMessageDescriptor>() {
+        @Override
+        protected MavlinkMessageDescriptor computeValue(Class<?> messageType) {
+            return create(messageType);
+        }
+    };
+
+    /**
+     * Returns the descriptor of the specified message type.
+     *
+     * @param messageType The message type, which is expected to be annotated with
+     *                    {@link MavlinkMessageInfo}.
+     * @return The descriptor of the message type.
+     * @throws IllegalArgumentException if the message type is not annotated with
+     *                                  {@link MavlinkMessageInfo}.
+     */
+    public static MavlinkMessageDescriptor of(Class<?> messageType) {
+        return descriptors.get(messageType);
+    }
+
+    private static MavlinkMessageDescriptor create(Class<?> messageType) {
+        MavlinkMessageInfo messageInfo = messageType.getAnnotation(MavlinkMessageInfo.class);
+        if (messageInfo == null) {
+            throw new IllegalArgumentException(String.format(
+                    "class %s is not annotated with @MavlinkMessageInfo", messageType.getName()));
+        }
+        PayloadLayout layout = PayloadLayout.of(messageType);
+        return new MavlinkMessageDescriptor(
+                messageInfo.id(),
+                messageType,
+                messageInfo.crc(),
+                layout.baseLength(),
+                layout.length(),
+                offsetOf(layout, "targetSystem"),
+                offsetOf(layout, "targetComponent"));
+    }
+
+    private static int offsetOf(PayloadLayout layout, String fieldName) {
+        for (PayloadField field : layout.fields()) {
+            if (field.name().equals(fieldName)) {
+                return field.offset();
+            }
+        }
+        return -1;
+    }
+
+    private final int id;
+    private final String messageTypeName;
+    private volatile Class<?> messageType;
+    private final int crcExtra;
+    private final int baseLength;
+    private final int length;
+    private final int targetSystemOffset;
+    private final int targetComponentOffset;
+
+    /**
+     * @param id                    The ID of the message.
+     * @param messageType           The class of the message.
+     * @param crcExtra              The CRC extra of the message.
+     * @param baseLength            The length of the payload without extension fields.
+     * @param length                The length of the payload including extension fields.
+     * @param targetSystemOffset    The offset of the {@code target_system} field within the
+     *                              payload, or {@code -1} if the message has no such field.
+     * @param targetComponentOffset The offset of the {@code target_component} field within the
+     *                              payload, or {@code -1} if the message has no such field.
+     */
+    public MavlinkMessageDescriptor(
+            int id,
+            Class<?> messageType,
+            int crcExtra,
+            int baseLength,
+            int length,
+            int targetSystemOffset,
+            int targetComponentOffset) {
+        this(id, messageType.getName(), crcExtra, baseLength, length, targetSystemOffset, targetComponentOffset);
+        this.messageType = messageType;
+    }
+
+    /**
+     * @param id                    The ID of the message.
+     * @param messageTypeName       The binary name of the class of the message, which is loaded
+     *                              when it is first needed.
+     * @param crcExtra              The CRC extra of the message.
+     * @param baseLength            The length of the payload without extension fields.
+     * @param length                The length of the payload including extension fields.
+     * @param targetSystemOffset    The offset of the {@code target_system} field within the
+     *                              payload, or {@code -1} if the message has no such field.
+     * @param targetComponentOffset The offset of the {@code target_component} field within the
+     *                              payload, or {@code -1} if the message has no such field.
+     */
+    public MavlinkMessageDescriptor(
+            int id,
+            String messageTypeName,
+            int crcExtra,
+            int baseLength,
+            int length,
+            int targetSystemOffset,
+            int targetComponentOffset) {
+        this.id = id;
+        this.messageTypeName = messageTypeName;
+        this.crcExtra = crcExtra;
+        this.baseLength = baseLength;
+        this.length = length;
+        this.targetSystemOffset = targetSystemOffset;
+        this.targetComponentOffset = targetComponentOffset;
+    }
+
+    /**
+     * Returns the ID of the message.
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Returns the binary name of the class of the message, without loading the class.
+     */
+    public String messageTypeName() {
+        return messageTypeName;
+    }
+
+    /**
+     * Returns the class of the message, loading it if this is the first time it is needed.
+     *
+     * @throws IllegalStateException if the class cannot be found.
+     */
+    public Class<?> messageType() {
+        Class<?> messageType = this.messageType;
+        if (messageType == null) {
+            messageType = load();
+            this.messageType = messageType;
+        }
+        return messageType;
+    }
+
+    private Class<?> load() {
+        try {
+            return Class.forName(messageTypeName);
+        } catch (ClassNotFoundException e) {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try {
+                    return Class.forName(messageTypeName, true, contextClassLoader);
+                } catch (ClassNotFoundException ignored) {
+                    // reported below
+                }
+            }
+            throw new IllegalStateException("unable to load message type " + messageTypeName, e);
+        }
+    }
+
+    /**
+     * Returns the CRC extra of the message.
+     */
+    public int crcExtra() {
+        return crcExtra;
+    }
+
+    /**
+     * Returns the length of the payload without Mavlink 2 extension fields, which is the length
+     * of Mavlink 1 payloads.
+     */
+    public int baseLength() {
+        return baseLength;
+    }
+
+    /**
+     * Returns the length of the payload including all extension fields.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the offset of the {@code target_system} field within the payload, or {@code -1} if
+     * the message has no such field.
+     */
+    public int targetSystemOffset() {
+        return targetSystemOffset;
+    }
+
+    /**
+     * Returns the offset of the {@code target_component} field within the payload, or {@code -1}
+     * if the message has no such field.
+     */
+    public int targetComponentOffset() {
+        return targetComponentOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "MavlinkMessageDescriptor{" +
+                "id=" + id +
+                ", messageType=" + messageTypeName.substring(messageTypeName.lastIndexOf('.') + 1) +
+                ", crcExtra=" + crcExtra +
+                ", baseLength=" + baseLength +
+                ", length=" + length +
+                ", targetSystemOffset=" + targetSystemOffset +
+                ", targetComponentOffset=" + targetComponentOffset +
+                '}';
+    }
+}
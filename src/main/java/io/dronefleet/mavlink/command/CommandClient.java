@@ -0,0 +1,518 @@
+package io.dronefleet.mavlink.command;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.common.CommandAck;
+import io.dronefleet.mavlink.common.CommandInt;
+import io.dronefleet.mavlink.common.CommandLong;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavResult;
+import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadSerializer;
+import io.dronefleet.mavlink.serialization.payload.PayloadField;
+import io.dronefleet.mavlink.serialization.payload.PayloadLayout;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.RttEstimator;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Sends {@code COMMAND_LONG} and {@code COMMAND_INT} messages to any number of vehicles through a
+ * {@link MavlinkConnection}, and completes a future with the {@code COMMAND_ACK} which answers
+ * each command.
+ * <p>
+ * Commands in flight are kept in a table keyed by their target and {@link MavCmd}, which is how
+ * the protocol matches acknowledgements to commands, so only one command of each kind can be in
+ * flight to a component at once. A command which is not acknowledged in time is retransmitted,
+ * with the confirmation field of {@code COMMAND_LONG} incremented, so that the vehicle can tell
+ * retransmissions from new commands. Each command is encoded once, and retransmissions only patch
+ * its confirmation field.
+ * <p>
+ * Long running commands are acknowledged with {@link MavResult#MAV_RESULT_IN_PROGRESS} first.
+ * Such acknowledgements are passed to the progress listener of the command, stop its
+ * retransmission, and wait for the next acknowledgement for up to the
+ * {@link Builder#progressTimeout(long, TimeUnit) progress timeout}.
+ * <p>
+ * Retransmission timeouts adapt to each vehicle's link as they do in the
+ * {@link io.dronefleet.mavlink.mission.MissionClient}, and run on a single
+ * {@link HashedTimerWheel}, so outstanding commands cost no threads. The client does not read
+ * from the connection itself. Every received message should be passed to
+ * {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread safe.
+ */
+public class CommandClient implements Closeable {
+
+    /**
+     * Builds command clients.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int retries = 3;
+        private long initialTimeoutNanos = TimeUnit.SECONDS.toNanos(1);
+        private long minTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        private long maxTimeoutNanos = TimeUnit.SECONDS.toNanos(5);
+        private long progressTimeoutNanos = TimeUnit.SECONDS.toNanos(10);
+        private HashedTimerWheel timer;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets how many times a command is retransmitted before it fails. Defaults to 3.
+         */
+        public Builder retries(int retries) {
+            if (retries < 0 || retries > 255) {
+                throw new IllegalArgumentException("retries must be between 0 and 255");
+            }
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Sets the retransmission timeouts: the timeout used before the round trip time of a
+         * vehicle is measured, and the bounds of the adaptive timeout. Defaults to 1s, 50ms and
+         * 5s.
+         */
+        public Builder timeouts(long initial, long min, long max, TimeUnit unit) {
+            if (min <= 0 || min > max) {
+                throw new IllegalArgumentException("timeouts must be positive, and the minimum must not exceed the maximum");
+            }
+            this.initialTimeoutNanos = unit.toNanos(initial);
+            this.minTimeoutNanos = unit.toNanos(min);
+            this.maxTimeoutNanos = unit.toNanos(max);
+            return this;
+        }
+
+        /**
+         * Sets how long a command which is in progress may go without an acknowledgement before
+         * it fails. Defaults to 10s.
+         */
+        public Builder progressTimeout(long timeout, TimeUnit unit) {
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("progress timeout must be positive");
+            }
+            this.progressTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the timer which runs the timeouts, so that it can be shared with other clients.
+         * By default, each client starts its own timer, which is closed when the client is
+         * closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use client.
+         */
+        public CommandClient build() {
+            return new CommandClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of clients which send messages through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    private static final MavlinkMessageDescriptor COMMAND_LONG = MavlinkMessageDescriptor.of(CommandLong.class);
+    private static final MavlinkMessageDescriptor COMMAND_INT = MavlinkMessageDescriptor.of(CommandInt.class);
+    private static final int CONFIRMATION_OFFSET = confirmationOffset();
+
+    private static int confirmationOffset() {
+        for (PayloadField field : PayloadLayout.of(CommandLong.class).fields()) {
+            if (field.name().equals("confirmation")) {
+                return field.offset();
+            }
+        }
+        throw new IllegalStateException("COMMAND_LONG has no field confirmation");
+    }
+
+    private static final Consumer<CommandAck> NO_PROGRESS = ack -> {
+    };
+
+    private final MavlinkConnection connection;
+    private final MavlinkPayloadSerializer serializer = new ReflectionPayloadSerializer();
+    private final int systemId;
+    private final int componentId;
+    private final int retries;
+    private final long initialTimeoutNanos;
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final long progressTimeoutNanos;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final LongSupplier clock;
+
+    /**
+     * Commands in flight, keyed by {@code (targetSystem << 8 | targetComponent) << 16 | command}.
+     */
+    private final Map<Long, Command> commands = new ConcurrentHashMap<>();
+
+    /**
+     * Round trip estimators, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, RttEstimator> links = new ConcurrentHashMap<>();
+
+    private CommandClient(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        retries = builder.retries;
+        initialTimeoutNanos = builder.initialTimeoutNanos;
+        minTimeoutNanos = builder.minTimeoutNanos;
+        maxTimeoutNanos = builder.maxTimeoutNanos;
+        progressTimeoutNanos = builder.progressTimeoutNanos;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-commands").build() : builder.timer;
+        clock = builder.clock;
+    }
+
+    /**
+     * Sends the specified command to its target.
+     *
+     * @return A future which completes with the final acknowledgement of the command, whatever
+     * its result, or completes exceptionally with a {@link TimeoutException} if the command is
+     * not acknowledged.
+     * @throws IllegalStateException if the same command is already in flight to the same target.
+     */
+    public CompletableFuture<CommandAck> send(CommandLong command) {
+        return send(command, NO_PROGRESS);
+    }
+
+    /**
+     * Sends the specified command to its target, passing each acknowledgement with the result
+     * {@link MavResult#MAV_RESULT_IN_PROGRESS} to the specified listener.
+     *
+     * @return A future which completes as {@link #send(CommandLong)} does.
+     * @throws IllegalStateException if the same command is already in flight to the same target.
+     */
+    public CompletableFuture<CommandAck> send(CommandLong command, Consumer<CommandAck> progress) {
+        return start(new Command(command.targetSystem(), command.targetComponent(), command.command(),
+                COMMAND_LONG, serializer.serialize(command), true, progress));
+    }
+
+    /**
+     * Sends the specified command to its target. {@code COMMAND_INT} has no confirmation field,
+     * so its retransmissions are identical to the first transmission.
+     *
+     * @return A future which completes as {@link #send(CommandLong)} does.
+     * @throws IllegalStateException if the same command is already in flight to the same target.
+     */
+    public CompletableFuture<CommandAck> send(CommandInt command) {
+        return send(command, NO_PROGRESS);
+    }
+
+    /**
+     * Sends the specified command to its target, passing each acknowledgement with the result
+     * {@link MavResult#MAV_RESULT_IN_PROGRESS} to the specified listener.
+     *
+     * @return A future which completes as {@link #send(CommandLong)} does.
+     * @throws IllegalStateException if the same command is already in flight to the same target.
+     */
+    public CompletableFuture<CommandAck> send(CommandInt command, Consumer<CommandAck> progress) {
+        return start(new Command(command.targetSystem(), command.targetComponent(), command.command(),
+                COMMAND_INT, serializer.serialize(command), false, progress));
+    }
+
+    /**
+     * Returns the number of commands in flight.
+     */
+    public int inFlight() {
+        return commands.size();
+    }
+
+    /**
+     * Returns the round trip estimator of the specified vehicle component.
+     */
+    public RttEstimator roundTrip(int systemId, int componentId) {
+        return links.computeIfAbsent(systemId << 8 | componentId, key -> new RttEstimator(
+                initialTimeoutNanos, minTimeoutNanos, maxTimeoutNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Processes a received message. Messages other than {@code COMMAND_ACK}, or addressed to other
+     * systems, are ignored. Acknowledgements are matched to commands sent to the component they
+     * originate from, or otherwise to commands broadcast to all components of its system, to its
+     * component of all systems, or to all components of all systems.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        if (!(message.getPayload() instanceof CommandAck)) {
+            return;
+        }
+        CommandAck ack = (CommandAck) message.getPayload();
+        // the target is an extension, which is 0 in Mavlink 1 messages
+        if (!addressed(ack.targetSystem(), ack.targetComponent()) || ack.command() == null) {
+            return;
+        }
+        int system = message.getOriginSystemId();
+        int component = message.getOriginComponentId();
+        int id = ack.command().value();
+        Command command = commands.get(key(system, component, id));
+        if (command == null) {
+            command = commands.get(key(system, 0, id));
+        }
+        if (command == null) {
+            command = commands.get(key(0, component, id));
+        }
+        if (command == null) {
+            command = commands.get(key(0, 0, id));
+        }
+        if (command != null) {
+            command.onAck(ack);
+            command.settle();
+        }
+    }
+
+    /**
+     * Fails all commands in flight with a {@link CancellationException}, and closes the timer if
+     * it is owned by this client.
+     */
+    @Override
+    public void close() {
+        for (Command command : commands.values()) {
+            command.cancel();
+            command.settle();
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private CompletableFuture<CommandAck> start(Command command) {
+        if (commands.putIfAbsent(command.key, command) != null) {
+            throw new IllegalStateException(String.format("%s is already in flight to %d/%d",
+                    command.describe(), command.systemId, command.componentId));
+        }
+        synchronized (command) {
+            command.start();
+        }
+        command.settle();
+        // a command which is cancelled through its future leaves the table
+        command.future.whenComplete((ack, failure) -> command.finish());
+        return command.future;
+    }
+
+    private static long key(int systemId, int componentId, int command) {
+        return (long) (systemId << 8 | componentId) << 16 | command;
+    }
+
+    private boolean addressed(int targetSystem, int targetComponent) {
+        return (targetSystem == 0 || targetSystem == systemId)
+                && (targetComponent == 0 || targetComponent == componentId);
+    }
+
+    /**
+     * A command in flight. Its synchronized methods record acknowledgements and the outcome of the
+     * command, which {@link #settle()} passes to the progress listener and the future once the
+     * lock is released, so that neither runs under it.
+     */
+    private final class Command {
+        final int systemId;
+        final int componentId;
+        final EnumValue<MavCmd> command;
+        final long key;
+        final CompletableFuture<CommandAck> future = new CompletableFuture<>();
+        private final MavlinkMessageDescriptor descriptor;
+        private final byte[] payload;
+        private final boolean confirmed;
+        private final Consumer<CommandAck> progress;
+        private final RttEstimator rtt;
+        private HashedTimerWheel.Timeout timeout;
+        private int generation;
+        private int attempts;
+        private long sentAt;
+        private boolean inProgress;
+        private CommandAck progressed;
+        private boolean done;
+        private CommandAck result;
+        private Throwable failure;
+
+        Command(int systemId, int componentId, EnumValue<MavCmd> command, MavlinkMessageDescriptor descriptor,
+                byte[] payload, boolean confirmed, Consumer<CommandAck> progress) {
+            if (command == null) {
+                throw new IllegalArgumentException("the command to send has no MAV_CMD");
+            }
+            this.systemId = systemId;
+            this.componentId = componentId;
+            this.command = command;
+            this.key = key(systemId, componentId, command.value());
+            this.descriptor = descriptor;
+            this.payload = payload;
+            this.confirmed = confirmed;
+            this.progress = progress;
+            this.rtt = roundTrip(systemId, componentId);
+        }
+
+        void start() {
+            if (confirmed) {
+                payload[CONFIRMATION_OFFSET] = 0;
+            }
+            transmit();
+            arm(rtt.timeoutNanos());
+        }
+
+        synchronized void onAck(CommandAck ack) {
+            if (done || future.isDone()) {
+                return;
+            }
+            if (attempts == 0 && !inProgress) {
+                rtt.sample(now() - sentAt);
+            }
+            if (ack.result() != null && ack.result().entry() == MavResult.MAV_RESULT_IN_PROGRESS) {
+                // the vehicle has the command, so it is not retransmitted anymore
+                inProgress = true;
+                arm(progressTimeoutNanos);
+                progressed = ack;
+                return;
+            }
+            complete(ack);
+        }
+
+        synchronized void cancel() {
+            fail(new CancellationException("client closed"));
+        }
+
+        /**
+         * Passes the last progress acknowledgement to the listener, and completes the future if the
+         * command is done. Called without holding the lock of the command.
+         */
+        void settle() {
+            CommandAck progressed;
+            CommandAck result;
+            Throwable failure;
+            synchronized (this) {
+                progressed = this.progressed;
+                this.progressed = null;
+                // both are only set once the command is done
+                result = this.result;
+                failure = this.failure;
+            }
+            if (progressed != null) {
+                progress.accept(progressed);
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else if (result != null) {
+                future.complete(result);
+            }
+        }
+
+        private void arm(long delayNanos) {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            int armed = ++generation;
+            timeout = timer.schedule(() -> {
+                expire(armed);
+                settle();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void expire(int armed) {
+            if (armed != generation || done || future.isDone()) {
+                return;
+            }
+            if (inProgress) {
+                fail(new TimeoutException(String.format(
+                        "%s to %d/%d stopped reporting progress", describe(), systemId, componentId)));
+                return;
+            }
+            if (++attempts > retries) {
+                fail(new TimeoutException(String.format(
+                        "%s to %d/%d was not acknowledged after %d attempts", describe(), systemId, componentId, attempts)));
+                return;
+            }
+            rtt.backoff();
+            if (confirmed) {
+                payload[CONFIRMATION_OFFSET] = (byte) attempts;
+            }
+            transmit();
+            arm(rtt.timeoutNanos());
+        }
+
+        private void transmit() {
+            sentAt = now();
+            try {
+                connection.send2(CommandClient.this.systemId, CommandClient.this.componentId, descriptor, payload);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        private void complete(CommandAck ack) {
+            if (!done) {
+                done = true;
+                result = ack;
+                finish();
+            }
+        }
+
+        private void fail(Throwable cause) {
+            if (!done) {
+                done = true;
+                failure = cause;
+                finish();
+            }
+        }
+
+        synchronized void finish() {
+            commands.remove(key, this);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        String describe() {
+            return command.entry() != null ? command.entry().name() : "command " + command.value();
+        }
+
+        private long now() {
+            return clock.getAsLong();
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package io.dronefleet.mavlink.export;
+
+import io.dronefleet.mavlink.MavlinkDialect;
+import io.dronefleet.mavlink.common.CommonDialect;
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+import io.dronefleet.mavlink.protocol.MavlinkPacketReader;
+import io.dronefleet.mavlink.protocol.TlogPacketReader;
+import io.dronefleet.mavlink.serialization.payload.PayloadField;
+import io.dronefleet.mavlink.serialization.payload.PayloadLayout;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Exports telemetry into a column-per-field layout, for analytics.
+ * <p>
+ * Every exported message type gets its own directory, named after the simple name of the message
+ * class. Within it, each field of the message is written to its own column file, named after the
+ * field, holding the field's raw little-endian values in their wire type. Array fields hold
+ * {@code arraySize} consecutive values per row. Three additional columns are written for every
+ * type: {@code _timestamp} (int64, microseconds since the epoch), {@code _systemId} (uint8) and
+ * {@code _componentId} (uint8). A {@code schema.txt} file describes the columns of each type.
+ * <p>
+ * Fields are copied straight from packet payloads using their {@link PayloadLayout}, so no
+ * message objects are created. Truncated Mavlink 2 payloads are zero filled, as the protocol
+ * requires.
+ * <p>
+ * Packets can be exported from any source: {@link #export(TlogPacketReader) telemetry logs},
+ * {@link #export(MavlinkPacketReader) streams}, or individually through
+ * {@link #accept(long, MavlinkPacket)}. Instances of this class are not thread safe.
+ * <p>
+ * At most {@link Builder#maxOpenFiles(int) maxOpenFiles} column files are open at once. When a
+ * type is exported while the limit is reached, the columns of the least recently exported types
+ * are flushed and closed, and reopened in append mode once those types are exported again. Write
+ * buffers are handed over from closed columns to opened ones, so that the buffer memory is
+ * bounded along with the open files.
+ */
+public class ColumnarExporter implements Closeable {
+
+    /**
+     * Builds columnar exporters.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private MavlinkDialect dialect = CommonDialect.instance();
+        private Set<Class<?>> messageTypes;
+        private int bufferSize = 16 * 1024;
+        private int maxOpenFiles = 256;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Sets the dialect used to resolve and validate messages. Defaults to the common dialect.
+         */
+        public Builder dialect(MavlinkDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        /**
+         * Restricts the export to the specified message types. By default, all messages supported
+         * by the dialect are exported.
+         */
+        public Builder messageTypes(Class<?>... messageTypes) {
+            this.messageTypes = new HashSet<>(Arrays.asList(messageTypes));
+            return this;
+        }
+
+        /**
+         * Sets the size of the write buffer of each column. Defaults to 16KB.
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of column files which are open at once. Every exported type has
+         * one column per field, plus three. A type with more columns than this limit is still
+         * exported, with all other types closed. Defaults to 256.
+         */
+        public Builder maxOpenFiles(int maxOpenFiles) {
+            if (maxOpenFiles < 1) {
+                throw new IllegalArgumentException("maxOpenFiles must be positive");
+            }
+            this.maxOpenFiles = maxOpenFiles;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use exporter.
+         */
+        public ColumnarExporter build() throws IOException {
+            Files.createDirectories(directory);
+            return new ColumnarExporter(directory, dialect, messageTypes, bufferSize, maxOpenFiles);
+        }
+    }
+
+    /**
+     * Creates a new builder of exporters which write to the specified directory.
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Marks message IDs which are not exported.
+     */
+    private static final TypeWriter SKIPPED = new TypeWriter();
+
+    private final Path directory;
+    private final MavlinkDialect dialect;
+    private final Set<Class<?>> messageTypes;
+    private final int bufferSize;
+    private final int maxOpenFiles;
+    private final List<TypeWriter> open = new ArrayList<>();
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private TypeWriter[] writers = new TypeWriter[256];
+    private int openFiles;
+    private long uses;
+
+    private ColumnarExporter(Path directory, MavlinkDialect dialect, Set<Class<?>> messageTypes,
+                             int bufferSize, int maxOpenFiles) {
+        this.directory = directory;
+        this.dialect = dialect;
+        this.messageTypes = messageTypes;
+        this.bufferSize = Math.max(bufferSize, 256);
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    /**
+     * Exports all packets of the specified log.
+     *
+     * @param reader The reader of the log to export.
+     * @throws IOException if an IO error occurs.
+     */
+    public void export(TlogPacketReader reader) throws IOException {
+        try {
+            //noinspection InfiniteLoopStatement
+            while (true) {
+                MavlinkPacket packet = reader.next();
+                accept(reader.timestamp(), packet);
+            }
+        } catch (EOFException e) {
+            // The log has ended.
+        }
+    }
+
+    /**
+     * Exports packets from the specified reader until the stream ends, dropping packets
+     * which fail CRC validation. Packets are timestamped with the time at which they were read.
+     *
+     * @param reader The reader to export packets from.
+     * @throws IOException if an IO error occurs.
+     */
+    public void export(MavlinkPacketReader reader) throws IOException {
+        try {
+            //noinspection InfiniteLoopStatement
+            while (true) {
+                MavlinkPacket packet = reader.next();
+                if (!accept(System.currentTimeMillis() * 1000, packet)) {
+                    reader.drop();
+                }
+            }
+        } catch (EOFException e) {
+            // The stream has ended.
+        }
+    }
+
+    /**
+     * Exports a single packet.
+     *
+     * @param timestamp The timestamp of the packet, in microseconds since the epoch.
+     * @param packet    The packet to export.
+     * @return {@code false} if the packet failed CRC validation, or {@code true} otherwise, including
+     * when the packet's message is not exported.
+     * @throws IOException if an IO error occurs.
+     */
+    public boolean accept(long timestamp, MavlinkPacket packet) throws IOException {
+        TypeWriter writer = writer(packet.getMessageId());
+        if (writer == SKIPPED) {
+            return true;
+        }
+        if (!packet.validateCrc(writer.crcExtra)) {
+            return false;
+        }
+        if (!writer.isOpen()) {
+            open(writer);
+        }
+        writer.lastUse = ++uses;
+        writer.write(timestamp, packet.getSystemId(), packet.getComponentId(), packet.getPayload());
+        return true;
+    }
+
+    /**
+     * Flushes all columns and writes the schema of every exported type.
+     *
+     * @throws IOException if an IO error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        for (TypeWriter writer : writers) {
+            if (writer != null && writer != SKIPPED) {
+                writer.close(buffers);
+            }
+        }
+        open.clear();
+        openFiles = 0;
+        buffers.clear();
+    }
+
+    /**
+     * Opens the columns of the specified type, first closing the least recently exported types
+     * for as long as the open files would exceed the limit.
+     */
+    private void open(TypeWriter writer) throws IOException {
+        while (!open.isEmpty() && openFiles + writer.files() > maxOpenFiles) {
+            TypeWriter leastRecent = open.get(0);
+            for (TypeWriter candidate : open) {
+                if (candidate.lastUse < leastRecent.lastUse) {
+                    leastRecent = candidate;
+                }
+            }
+            open.remove(leastRecent);
+            openFiles -= leastRecent.files();
+            leastRecent.suspend(buffers);
+        }
+        writer.open(buffers, bufferSize);
+        open.add(writer);
+        openFiles += writer.files();
+    }
+
+    private TypeWriter writer(int messageId) throws IOException {
+        if (messageId >= writers.length) {
+            writers = Arrays.copyOf(writers, Math.max(messageId + 1, writers.length * 2));
+        }
+        TypeWriter writer = writers[messageId];
+        if (writer == null) {
+            writer = SKIPPED;
+            if (dialect.supports(messageId)) {
+                Class<?> messageType = dialect.resolve(messageId);
+                if (messageTypes == null || messageTypes.contains(messageType)) {
+                    writer = new TypeWriter(
+                            directory.resolve(messageType.getSimpleName()),
+                            PayloadLayout.of(messageType),
+                            dialect.crcExtra(messageId));
+                }
+            }
+            writers[messageId] = writer;
+        }
+        return writer;
+    }
+
+    /**
+     * Writes the columns of a single message type.
+     */
+    private static final class TypeWriter {
+        private final Path directory;
+        private final PayloadLayout layout;
+        private final int crcExtra;
+        private final Column timestamps;
+        private final Column systemIds;
+        private final Column componentIds;
+        private final Column[] fields;
+        private long rows;
+        private long lastUse;
+        private boolean open;
+
+        private TypeWriter() {
+            directory = null;
+            layout = null;
+            crcExtra = -1;
+            timestamps = systemIds = componentIds = null;
+            fields = null;
+        }
+
+        private TypeWriter(Path directory, PayloadLayout layout, int crcExtra) throws IOException {
+            Files.createDirectories(directory);
+            this.directory = directory;
+            this.layout = layout;
+            this.crcExtra = crcExtra;
+            timestamps = new Column(directory.resolve("_timestamp.bin"));
+            systemIds = new Column(directory.resolve("_systemId.bin"));
+            componentIds = new Column(directory.resolve("_componentId.bin"));
+            fields = new Column[layout.fields().size()];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new Column(directory.resolve(layout.fields().get(i).name() + ".bin"));
+            }
+        }
+
+        private int files() {
+            return fields.length + 3;
+        }
+
+        private boolean isOpen() {
+            return open;
+        }
+
+        /**
+         * Opens all columns, taking their buffers from the specified pool where possible.
+         */
+        private void open(Deque<ByteBuffer> buffers, int bufferSize) throws IOException {
+            open = true;
+            timestamps.open(buffers, bufferSize);
+            systemIds.open(buffers, bufferSize);
+            componentIds.open(buffers, bufferSize);
+            for (Column column : fields) {
+                column.open(buffers, bufferSize);
+            }
+        }
+
+        /**
+         * Flushes and closes all columns, returning their buffers to the specified pool.
+         */
+        private void suspend(Deque<ByteBuffer> buffers) throws IOException {
+            open = false;
+            timestamps.close(buffers);
+            systemIds.close(buffers);
+            componentIds.close(buffers);
+            for (Column column : fields) {
+                column.close(buffers);
+            }
+        }
+
+        private void write(long timestamp, int systemId, int componentId, byte[] payload) throws IOException {
+            timestamps.reserve(8).putLong(timestamp);
+            systemIds.reserve(1).put((byte) systemId);
+            componentIds.reserve(1).put((byte) componentId);
+            for (int i = 0; i < fields.length; i++) {
+                PayloadField field = layout.fields().get(i);
+                int length = field.length();
+                ByteBuffer buffer = fields[i].reserve(length);
+                int available = Math.max(0, Math.min(length, payload.length - field.offset()));
+                if (available > 0) {
+                    buffer.put(payload, field.offset(), available);
+                }
+                for (int j = available; j < length; j++) {
+                    buffer.put((byte) 0);
+                }
+            }
+            rows++;
+        }
+
+        private void close(Deque<ByteBuffer> buffers) throws IOException {
+            if (open) {
+                suspend(buffers);
+            }
+            try (Writer schema = Files.newBufferedWriter(directory.resolve("schema.txt"), StandardCharsets.UTF_8)) {
+                schema.write("message " + layout.messageType().getSimpleName() + "\n");
+                schema.write("id " + layout.messageId() + "\n");
+                schema.write("rows " + rows + "\n");
+                schema.write("column _timestamp int64 1\n");
+                schema.write("column _systemId uint8 1\n");
+                schema.write("column _componentId uint8 1\n");
+                for (PayloadField field : layout.fields()) {
+                    schema.write("column " + field.name() + " " + field.type().wireName() + " " + field.elements() + "\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * A buffered, append-only column file. The file is truncated when first opened, and appended
+     * to when reopened.
+     */
+    private static final class Column {
+        private final Path path;
+        private FileChannel channel;
+        private ByteBuffer buffer;
+        private boolean created;
+
+        private Column(Path path) {
+            this.path = path;
+        }
+
+        private void open(Deque<ByteBuffer> buffers, int bufferSize) throws IOException {
+            if (created) {
+                channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            } else {
+                channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                created = true;
+            }
+            buffer = buffers.isEmpty()
+                    ? ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN)
+                    : buffers.pop();
+        }
+
+        /**
+         * Ensures that the buffer has room for the specified number of bytes.
+         */
+        private ByteBuffer reserve(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void close(Deque<ByteBuffer> buffers) throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+                channel = null;
+                buffers.push((ByteBuffer) buffer.clear());
+                buffer = null;
+            }
+        }
+    }
+}
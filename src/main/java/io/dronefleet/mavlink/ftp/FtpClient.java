@@ -0,0 +1,693 @@
+package io.dronefleet.mavlink.ftp;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.FileTransferProtocol;
+import io.dronefleet.mavlink.common.MavFtpErr;
+import io.dronefleet.mavlink.common.MavFtpOpcode;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.RttEstimator;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Downloads files from any number of vehicles through a {@link MavlinkConnection}, using the
+ * MAVLink file transfer protocol.
+ * <p>
+ * A download opens the file and reads it with a burst, in which the vehicle streams the file
+ * without waiting for a request per chunk. Chunks which are lost during the burst leave holes,
+ * which are tracked as {@link ReceivedRanges ranges of received bytes}. Once the burst ends, the
+ * holes are requested with up to {@link Builder#window(int) window} reads in flight at once, and
+ * the rest of the file, if the burst ended early, is read with another burst.
+ * <p>
+ * Each chunk is written straight to its position in the file, so a download needs no more memory
+ * than the chunks waiting to be written, regardless of the size of the file. Writes run on the
+ * {@link Builder#executor(Executor) executor}, which can be shared by the downloads of many
+ * vehicles, and all retransmission timeouts run on a single {@link HashedTimerWheel}, which can be
+ * shared with other clients. Retransmission timeouts adapt to each vehicle's link as they do in
+ * the {@link io.dronefleet.mavlink.mission.MissionClient}.
+ * <p>
+ * The client does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread
+ * safe.
+ */
+public class FtpClient implements Closeable {
+
+    /**
+     * Builds file transfer clients.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int window = 4;
+        private int retries = 5;
+        private long initialTimeoutNanos = TimeUnit.SECONDS.toNanos(1);
+        private long minTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        private long maxTimeoutNanos = TimeUnit.SECONDS.toNanos(5);
+        private HashedTimerWheel timer;
+        private Executor executor = Runnable::run;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of reads which are in flight at once while the holes left by a
+         * burst are filled. Defaults to 4.
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets how many consecutive retransmissions are made before a download fails. Defaults
+         * to 5.
+         */
+        public Builder retries(int retries) {
+            if (retries < 0) {
+                throw new IllegalArgumentException("retries must not be negative");
+            }
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Sets the retransmission timeouts: the timeout used before the round trip time of a
+         * vehicle is measured, and the bounds of the adaptive timeout. Defaults to 1s, 50ms and
+         * 5s.
+         */
+        public Builder timeouts(long initial, long min, long max, TimeUnit unit) {
+            if (min <= 0 || min > max) {
+                throw new IllegalArgumentException("timeouts must be positive, and the minimum must not exceed the maximum");
+            }
+            this.initialTimeoutNanos = unit.toNanos(initial);
+            this.minTimeoutNanos = unit.toNanos(min);
+            this.maxTimeoutNanos = unit.toNanos(max);
+            return this;
+        }
+
+        /**
+         * Sets the timer which runs the retransmission timeouts, so that it can be shared with
+         * other clients. By default, each client starts its own timer, which is closed when the
+         * client is closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the executor which writes received chunks to their files. Writes of a download
+         * may run concurrently, since each chunk is written to its own position. By default,
+         * chunks are written by the thread which {@link #handle(MavlinkMessage) handles} them.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use client.
+         */
+        public FtpClient build() {
+            return new FtpClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of clients which send messages through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    private static final int TERMINATE_SESSION = opcode(MavFtpOpcode.MAV_FTP_OPCODE_TERMINATESESSION);
+    private static final int OPEN_FILE_RO = opcode(MavFtpOpcode.MAV_FTP_OPCODE_OPENFILERO);
+    private static final int READ_FILE = opcode(MavFtpOpcode.MAV_FTP_OPCODE_READFILE);
+    private static final int BURST_READ_FILE = opcode(MavFtpOpcode.MAV_FTP_OPCODE_BURSTREADFILE);
+    private static final int ACK = opcode(MavFtpOpcode.MAV_FTP_OPCODE_ACK);
+    private static final int NAK = opcode(MavFtpOpcode.MAV_FTP_OPCODE_NAK);
+    private static final int EOF = EnumValue.of(MavFtpErr.MAV_FTP_ERR_EOF).value();
+
+    private static int opcode(MavFtpOpcode opcode) {
+        return EnumValue.of(opcode).value();
+    }
+
+    private final MavlinkConnection connection;
+    private final int systemId;
+    private final int componentId;
+    private final int window;
+    private final int retries;
+    private final long initialTimeoutNanos;
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final Executor executor;
+    private final LongSupplier clock;
+
+    /**
+     * Downloads in progress, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, Download> downloads = new ConcurrentHashMap<>();
+
+    /**
+     * Round trip estimators, keyed like downloads.
+     */
+    private final Map<Integer, RttEstimator> links = new ConcurrentHashMap<>();
+
+    private FtpClient(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        window = builder.window;
+        retries = builder.retries;
+        initialTimeoutNanos = builder.initialTimeoutNanos;
+        minTimeoutNanos = builder.minTimeoutNanos;
+        maxTimeoutNanos = builder.maxTimeoutNanos;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-ftp").build() : builder.timer;
+        executor = builder.executor;
+        clock = builder.clock;
+    }
+
+    /**
+     * Downloads the specified file of the specified vehicle component to the specified local file,
+     * which is created or truncated. The local file is closed once the download completes.
+     *
+     * @return A future which completes as {@link #download(int, int, String, FileChannel)} does.
+     * @throws IOException           if the local file cannot be opened.
+     * @throws IllegalStateException if a download from the same vehicle component is already in
+     *                               progress.
+     */
+    public CompletableFuture<Long> download(int systemId, int componentId, String path, Path file)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        CompletableFuture<Long> downloaded;
+        try {
+            downloaded = download(systemId, componentId, path, channel);
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        CompletableFuture<Long> closed = new CompletableFuture<>();
+        downloaded.whenComplete((size, failure) -> {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                closed.completeExceptionally(failure);
+            } else {
+                closed.complete(size);
+            }
+        });
+        return closed;
+    }
+
+    /**
+     * Downloads the specified file of the specified vehicle component, writing each byte to the
+     * position of the channel which equals its offset in the file. The channel is not closed.
+     *
+     * @return A future which completes with the size of the file once all of it is written, or
+     * completes exceptionally with an {@link FtpException} if the vehicle rejects a request, with
+     * a {@link TimeoutException} if the vehicle stops answering, or with the {@link IOException}
+     * of a failed write.
+     * @throws IllegalArgumentException if the path is longer than a request can carry.
+     * @throws IllegalStateException    if a download from the same vehicle component is already in
+     *                                  progress.
+     */
+    public CompletableFuture<Long> download(int systemId, int componentId, String path, FileChannel channel) {
+        Download download = new Download(systemId, componentId, path, channel);
+        if (downloads.putIfAbsent(download.key, download) != null) {
+            throw new IllegalStateException(String.format("a download from %d/%d is already in progress",
+                    systemId, componentId));
+        }
+        synchronized (download) {
+            download.start();
+        }
+        download.settle();
+        return download.future;
+    }
+
+    /**
+     * Returns the round trip estimator of the specified vehicle component.
+     */
+    public RttEstimator roundTrip(int systemId, int componentId) {
+        return links.computeIfAbsent(systemId << 8 | componentId, key -> new RttEstimator(
+                initialTimeoutNanos, minTimeoutNanos, maxTimeoutNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Processes a received message. Messages which are not part of the file transfer protocol,
+     * or are addressed to other systems, are ignored.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        if (!(message.getPayload() instanceof FileTransferProtocol)) {
+            return;
+        }
+        FileTransferProtocol reply = (FileTransferProtocol) message.getPayload();
+        if (addressed(reply.targetSystem(), reply.targetComponent()) && reply.payload() != null) {
+            Download download = downloads.get(message.getOriginSystemId() << 8 | message.getOriginComponentId());
+            if (download != null) {
+                download.onReply(reply.payload());
+                download.settle();
+            }
+        }
+    }
+
+    /**
+     * Fails all downloads in progress with a {@link CancellationException}, and closes the timer
+     * if it is owned by this client.
+     */
+    @Override
+    public void close() {
+        for (Download download : downloads.values()) {
+            download.cancel();
+            download.settle();
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private boolean addressed(int targetSystem, int targetComponent) {
+        return (targetSystem == 0 || targetSystem == systemId)
+                && (targetComponent == 0 || targetComponent == componentId);
+    }
+
+    private enum Phase {
+        OPEN, BURST, READ, DONE
+    }
+
+    /**
+     * A download in progress. All methods but {@link #settle()} are called while holding the lock
+     * of the download, and record the outcome of the download, which {@link #settle()} completes
+     * the future with once the lock is released, so that dependent stages do not run under it.
+     */
+    private final class Download {
+        final int systemId;
+        final int componentId;
+        final int key;
+        final String path;
+        final FileChannel channel;
+        final RttEstimator rtt;
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final ReceivedRanges received = new ReceivedRanges();
+
+        /**
+         * The reads in flight, keyed by offset.
+         */
+        private final Map<Long, Read> reads = new HashMap<>();
+        private Phase phase = Phase.OPEN;
+        private int seq;
+        private int session = -1;
+        private long size;
+        private long cursor;
+        private int pendingWrites;
+
+        /**
+         * The open or burst request which is awaiting its first answer.
+         */
+        private byte[] request;
+        private long sentAt;
+        private boolean timed;
+        private boolean burstData;
+
+        private HashedTimerWheel.Timeout timeout;
+        private int generation;
+        private int attempts;
+        private boolean done;
+        private Throwable failure;
+
+        Download(int systemId, int componentId, String path, FileChannel channel) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+            this.key = systemId << 8 | componentId;
+            this.path = path;
+            this.channel = channel;
+            this.rtt = roundTrip(systemId, componentId);
+            request = FtpPacket.request(seq++, 0, OPEN_FILE_RO, path);
+        }
+
+        void start() {
+            sendRequest();
+            arm();
+        }
+
+        synchronized void onReply(byte[] reply) {
+            if (over()) {
+                return;
+            }
+            int opcode = FtpPacket.opcode(reply);
+            int requestOpcode = FtpPacket.requestOpcode(reply);
+            if (phase == Phase.OPEN && requestOpcode == OPEN_FILE_RO) {
+                if (opcode == ACK) {
+                    sample();
+                    session = FtpPacket.session(reply);
+                    size = FtpPacket.dataUint32(reply);
+                    if (size > 0) {
+                        burst(0);
+                    } else {
+                        read();
+                    }
+                    progress();
+                } else if (opcode == NAK) {
+                    fail(nak("open of " + path, reply));
+                }
+            } else if (FtpPacket.session(reply) != session) {
+                return;
+            } else if (phase == Phase.BURST && requestOpcode == BURST_READ_FILE) {
+                if (opcode == ACK) {
+                    sample();
+                    burstData = true;
+                    onData(reply);
+                    if (over()) {
+                        return;
+                    }
+                    if (FtpPacket.burstComplete(reply)) {
+                        read();
+                    }
+                    progress();
+                } else if (opcode == NAK) {
+                    if (FtpPacket.dataUint8(reply, 0) != EOF || !burstData) {
+                        // a burst which reaches the end of the file before its first chunk
+                        // means that the file is shorter than it was when it was opened
+                        fail(nak("read of " + path, reply));
+                        return;
+                    }
+                    read();
+                    progress();
+                }
+            } else if (phase == Phase.READ && requestOpcode == READ_FILE) {
+                if (opcode == ACK) {
+                    Read read = reads.remove(FtpPacket.offset(reply));
+                    if (read != null && !read.retransmitted) {
+                        rtt.sample(now() - read.sentAt);
+                    }
+                    onData(reply);
+                    if (over()) {
+                        return;
+                    }
+                    read();
+                    progress();
+                } else if (opcode == NAK) {
+                    fail(nak("read of " + path, reply));
+                }
+            }
+        }
+
+        synchronized void cancel() {
+            fail(new CancellationException("client closed"));
+        }
+
+        private void onData(byte[] reply) {
+            long offset = FtpPacket.offset(reply);
+            long end = Math.min(offset + FtpPacket.size(reply), size);
+            if (offset < end && !received.contains(offset, end)) {
+                received.add(offset, end);
+                write(reply, offset, (int) (end - offset));
+            }
+        }
+
+        /**
+         * Requests the holes below the end of the received data, or the rest of the file with
+         * another burst once there are none.
+         */
+        private void read() {
+            if (received.contains(0, size)) {
+                phase = Phase.DONE;
+                disarm();
+                completeIfWritten();
+                return;
+            }
+            phase = Phase.READ;
+            long tail = received.end();
+            if (reads.isEmpty() && received.nextGap(cursor, tail) == null) {
+                // reads which were answered with less data than requested leave holes behind
+                cursor = 0;
+                if (received.nextGap(0, tail) == null) {
+                    burst(tail);
+                    return;
+                }
+            }
+            while (reads.size() < window) {
+                long[] gap = received.nextGap(cursor, tail);
+                if (gap == null) {
+                    return;
+                }
+                int length = (int) Math.min(FtpPacket.MAX_DATA_LENGTH, gap[1] - gap[0]);
+                Read read = new Read(FtpPacket.request(seq++, session, READ_FILE, gap[0], length));
+                reads.put(gap[0], read);
+                cursor = gap[0] + length;
+                send(read.request);
+            }
+        }
+
+        private void burst(long offset) {
+            phase = Phase.BURST;
+            burstData = false;
+            request = FtpPacket.request(seq++, session, BURST_READ_FILE, offset, FtpPacket.MAX_DATA_LENGTH);
+            sendRequest();
+        }
+
+        private void retransmit() {
+            if (phase == Phase.READ) {
+                for (Read read : reads.values()) {
+                    read.retransmitted = true;
+                    send(read.request);
+                }
+            } else if (phase == Phase.BURST && burstData) {
+                // the burst stalled, so whatever it did not deliver is read again
+                read();
+            } else {
+                timed = false;
+                send(request);
+            }
+        }
+
+        private void sendRequest() {
+            sentAt = now();
+            timed = true;
+            send(request);
+        }
+
+        /**
+         * Samples the round trip of the open or burst request, unless it was retransmitted.
+         */
+        private void sample() {
+            if (timed) {
+                rtt.sample(now() - sentAt);
+                timed = false;
+            }
+        }
+
+        private void write(byte[] reply, long offset, int length) {
+            pendingWrites++;
+            executor.execute(() -> {
+                IOException failure = null;
+                try {
+                    ByteBuffer data = ByteBuffer.wrap(reply, FtpPacket.DATA_OFFSET, length);
+                    while (data.hasRemaining()) {
+                        channel.write(data, offset + data.position() - FtpPacket.DATA_OFFSET);
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+                written(failure);
+                settle();
+            });
+        }
+
+        private synchronized void written(IOException failure) {
+            pendingWrites--;
+            if (failure != null) {
+                fail(failure);
+            } else if (phase == Phase.DONE) {
+                completeIfWritten();
+            }
+        }
+
+        private void completeIfWritten() {
+            if (pendingWrites == 0 && !done) {
+                done = true;
+                finish();
+            }
+        }
+
+        /**
+         * Completes the future with the outcome of the download, if it is done. Does nothing when
+         * called while holding the lock of the download, such as by a write which runs on the
+         * thread which handles the chunk, as the caller which took the lock settles once it is
+         * released.
+         */
+        void settle() {
+            if (Thread.holdsLock(this)) {
+                return;
+            }
+            Throwable failure;
+            long size;
+            synchronized (this) {
+                if (!done) {
+                    return;
+                }
+                failure = this.failure;
+                size = this.size;
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(size);
+            }
+        }
+
+        private void progress() {
+            attempts = 0;
+            arm();
+        }
+
+        private void arm() {
+            disarm();
+            if (phase == Phase.DONE || over()) {
+                return;
+            }
+            int armed = ++generation;
+            timeout = timer.schedule(() -> {
+                expire(armed);
+                settle();
+            }, rtt.timeoutNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private void disarm() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+
+        private synchronized void expire(int armed) {
+            if (armed != generation || phase == Phase.DONE || over()) {
+                return;
+            }
+            if (++attempts > retries) {
+                fail(new TimeoutException(String.format("download of %s from %d/%d timed out after %d attempts",
+                        path, systemId, componentId, attempts)));
+                return;
+            }
+            rtt.backoff();
+            retransmit();
+            arm();
+        }
+
+        private FtpException nak(String operation, byte[] reply) {
+            return new FtpException(String.format("%s on %d/%d failed", operation, systemId, componentId),
+                    EnumValue.create(MavFtpErr.class, FtpPacket.dataUint8(reply, 0)));
+        }
+
+        private void send(byte[] payload) {
+            try {
+                connection.send2(FtpClient.this.systemId, FtpClient.this.componentId, FileTransferProtocol.builder()
+                        .targetSystem(systemId)
+                        .targetComponent(componentId)
+                        .payload(payload)
+                        .build());
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable cause) {
+            if (done) {
+                return;
+            }
+            done = true;
+            failure = cause;
+            finish();
+        }
+
+        private void finish() {
+            downloads.remove(key, this);
+            disarm();
+            if (session >= 0) {
+                int terminated = session;
+                session = -1;
+                send(FtpPacket.request(seq++, terminated, TERMINATE_SESSION, 0, 0));
+            }
+        }
+
+        /**
+         * Returns whether the download is done, or its future was completed by its caller, such
+         * as by cancelling it.
+         */
+        private boolean over() {
+            return done || future.isDone();
+        }
+
+        private long now() {
+            return clock.getAsLong();
+        }
+    }
+
+    /**
+     * A read in flight.
+     */
+    private final class Read {
+        private final byte[] request;
+        private final long sentAt = clock.getAsLong();
+        private boolean retransmitted;
+
+        private Read(byte[] request) {
+            this.request = request;
+        }
+    }
+}
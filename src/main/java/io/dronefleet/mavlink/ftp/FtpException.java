@@ -0,0 +1,26 @@
+package io.dronefleet.mavlink.ftp;
+
+import io.dronefleet.mavlink.common.MavFtpErr;
+import io.dronefleet.mavlink.util.EnumValue;
+
+/**
+ * Thrown when a vehicle answers a file transfer request with a NAK.
+ */
+public class FtpException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EnumValue<MavFtpErr> error;
+
+    public FtpException(String message, EnumValue<MavFtpErr> error) {
+        super(message + ": " + (error.entry() != null ? error.entry() : error.value()));
+        this.error = error;
+    }
+
+    /**
+     * Returns the error reported by the vehicle.
+     */
+    public EnumValue<MavFtpErr> error() {
+        return error;
+    }
+}
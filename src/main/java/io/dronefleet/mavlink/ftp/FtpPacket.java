@@ -0,0 +1,102 @@
+package io.dronefleet.mavlink.ftp;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes the fields of the payload of {@code FILE_TRANSFER_PROTOCOL} messages, which is
+ * laid out as follows:
+ * <pre>
+ * 0  seq_number     uint16
+ * 2  session        uint8
+ * 3  opcode         uint8
+ * 4  size           uint8, the length of the data
+ * 5  req_opcode     uint8, the opcode of the request an ACK or NAK answers
+ * 6  burst_complete uint8
+ * 7  padding        uint8
+ * 8  offset         uint32
+ * 12 data           up to 239 bytes
+ * </pre>
+ * Bytes beyond the end of a payload, as truncated by Mavlink 2, read as zero.
+ */
+final class FtpPacket {
+
+    static final int PAYLOAD_LENGTH = 251;
+    static final int DATA_OFFSET = 12;
+    static final int MAX_DATA_LENGTH = PAYLOAD_LENGTH - DATA_OFFSET;
+
+    private FtpPacket() {
+    }
+
+    static byte[] request(int seq, int session, int opcode, long offset, int size) {
+        byte[] payload = new byte[PAYLOAD_LENGTH];
+        payload[0] = (byte) seq;
+        payload[1] = (byte) (seq >> 8);
+        payload[2] = (byte) session;
+        payload[3] = (byte) opcode;
+        payload[4] = (byte) size;
+        payload[8] = (byte) offset;
+        payload[9] = (byte) (offset >> 8);
+        payload[10] = (byte) (offset >> 16);
+        payload[11] = (byte) (offset >> 24);
+        return payload;
+    }
+
+    static byte[] request(int seq, int session, int opcode, String path) {
+        byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_DATA_LENGTH) {
+            throw new IllegalArgumentException("path longer than " + MAX_DATA_LENGTH + " bytes: " + path);
+        }
+        byte[] payload = request(seq, session, opcode, 0, bytes.length);
+        System.arraycopy(bytes, 0, payload, DATA_OFFSET, bytes.length);
+        return payload;
+    }
+
+    static int seq(byte[] payload) {
+        return uint8(payload, 0) | uint8(payload, 1) << 8;
+    }
+
+    static int session(byte[] payload) {
+        return uint8(payload, 2);
+    }
+
+    static int opcode(byte[] payload) {
+        return uint8(payload, 3);
+    }
+
+    /**
+     * Returns the length of the data, limited to the data which is actually present.
+     */
+    static int size(byte[] payload) {
+        return Math.min(uint8(payload, 4), Math.max(payload.length - DATA_OFFSET, 0));
+    }
+
+    static int requestOpcode(byte[] payload) {
+        return uint8(payload, 5);
+    }
+
+    static boolean burstComplete(byte[] payload) {
+        return uint8(payload, 6) != 0;
+    }
+
+    static long offset(byte[] payload) {
+        return (uint8(payload, 8) | uint8(payload, 9) << 8 | uint8(payload, 10) << 16
+                | (long) uint8(payload, 11) << 24);
+    }
+
+    /**
+     * Returns the unsigned 32 bit integer at the start of the data, such as the size of an opened
+     * file.
+     */
+    static long dataUint32(byte[] payload) {
+        return (uint8(payload, DATA_OFFSET) | uint8(payload, DATA_OFFSET + 1) << 8
+                | uint8(payload, DATA_OFFSET + 2) << 16 | (long) uint8(payload, DATA_OFFSET + 3) << 24);
+    }
+
+    static int dataUint8(byte[] payload, int index) {
+        return uint8(payload, DATA_OFFSET + index);
+    }
+
+    private static int uint8(byte[] payload, int index) {
+        return index < payload.length ? payload[index] & 0xff : 0;
+    }
+}
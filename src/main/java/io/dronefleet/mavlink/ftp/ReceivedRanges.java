@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.ftp;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The byte ranges of a file which have been received, kept as disjoint, coalesced intervals, so
+ * that a file which arrives mostly in order takes a single interval regardless of its size.
+ */
+final class ReceivedRanges {
+
+    /**
+     * The start of each interval, mapped to its exclusive end.
+     */
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+    private long received;
+
+    /**
+     * Records the range {@code [start, end)}.
+     */
+    void add(long start, long end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+        if (floor != null && floor.getValue() >= start) {
+            if (floor.getValue() >= end) {
+                return;
+            }
+            // extends the range which the new range starts in
+            start = floor.getKey();
+            ranges.remove(start);
+            received -= floor.getValue() - start;
+        }
+        for (Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+             next != null && next.getKey() <= end;
+             next = ranges.ceilingEntry(start)) {
+            ranges.remove(next.getKey());
+            received -= next.getValue() - next.getKey();
+            end = Math.max(end, next.getValue());
+        }
+        ranges.put(start, end);
+        received += end - start;
+    }
+
+    /**
+     * Returns the first missing range at or after {@code from} and before {@code limit}, as
+     * {@code [start, end)}, or {@code null} if there is none.
+     */
+    long[] nextGap(long from, long limit) {
+        Map.Entry<Long, Long> floor = ranges.floorEntry(from);
+        long start = floor != null && floor.getValue() > from ? floor.getValue() : from;
+        if (start >= limit) {
+            return null;
+        }
+        Long next = ranges.higherKey(start);
+        return new long[]{start, next != null ? Math.min(next, limit) : limit};
+    }
+
+    /**
+     * Returns whether the whole range {@code [start, end)} has been received.
+     */
+    boolean contains(long start, long end) {
+        if (start >= end) {
+            return true;
+        }
+        Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+        return floor != null && floor.getValue() >= end;
+    }
+
+    /**
+     * Returns the exclusive end of the last received range, or 0 if nothing has been received.
+     */
+    long end() {
+        Map.Entry<Long, Long> last = ranges.lastEntry();
+        return last != null ? last.getValue() : 0;
+    }
+
+    /**
+     * Returns the number of bytes received.
+     */
+    long received() {
+        return received;
+    }
+
+    /**
+     * Returns the number of disjoint ranges.
+     */
+    int size() {
+        return ranges.size();
+    }
+}
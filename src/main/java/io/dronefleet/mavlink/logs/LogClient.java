@@ -0,0 +1,748 @@
+package io.dronefleet.mavlink.logs;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.LogData;
+import io.dronefleet.mavlink.common.LogEntry;
+import io.dronefleet.mavlink.common.LogRequestData;
+import io.dronefleet.mavlink.common.LogRequestEnd;
+import io.dronefleet.mavlink.common.LogRequestList;
+import io.dronefleet.mavlink.util.RttEstimator;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Lists and downloads the onboard logs of any number of vehicles through a
+ * {@link MavlinkConnection}, using the {@code LOG_*} messages.
+ * <p>
+ * A download requests the whole log at once, and the vehicle streams it as {@code LOG_DATA}
+ * messages of 90 bytes each. Every block of 90 bytes which arrives is recorded in a bitmap of one
+ * bit per block, and is written straight to its position in the file, so that a download needs
+ * no more memory than its bitmap and the blocks waiting to be written. Once the requested range
+ * has been streamed, or the stream stalls, the runs of missing blocks are requested one after the
+ * other. Runs which are separated by only a few received blocks are requested as one range,
+ * since resending a few blocks is cheaper than another request.
+ * <p>
+ * The {@link LogDownload} returned for each download reports its progress and throughput. Writes
+ * run on the {@link Builder#executor(Executor) executor}, which can be shared by the downloads of
+ * many vehicles, and all timeouts run on a single {@link HashedTimerWheel}, which can be shared
+ * with other clients.
+ * <p>
+ * The client does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread
+ * safe.
+ */
+public class LogClient implements Closeable {
+
+    /**
+     * Builds log clients.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int retries = 5;
+        private long initialTimeoutNanos = TimeUnit.SECONDS.toNanos(1);
+        private long minTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private long maxTimeoutNanos = TimeUnit.SECONDS.toNanos(5);
+        private HashedTimerWheel timer;
+        private Executor executor = Runnable::run;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets how many consecutive requests are made without an answer before a transfer
+         * fails. Defaults to 5.
+         */
+        public Builder retries(int retries) {
+            if (retries < 0) {
+                throw new IllegalArgumentException("retries must not be negative");
+            }
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Sets the timeouts after which a silent vehicle is asked again: the timeout used before
+         * the round trip time of a vehicle is measured, and the bounds of the adaptive timeout.
+         * Defaults to 1s, 100ms and 5s.
+         */
+        public Builder timeouts(long initial, long min, long max, TimeUnit unit) {
+            if (min <= 0 || min > max) {
+                throw new IllegalArgumentException("timeouts must be positive, and the minimum must not exceed the maximum");
+            }
+            this.initialTimeoutNanos = unit.toNanos(initial);
+            this.minTimeoutNanos = unit.toNanos(min);
+            this.maxTimeoutNanos = unit.toNanos(max);
+            return this;
+        }
+
+        /**
+         * Sets the timer which runs the timeouts, so that it can be shared with other clients.
+         * By default, each client starts its own timer, which is closed when the client is
+         * closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the executor which writes received blocks to their files. Writes of a download
+         * may run concurrently, since each block is written to its own position. By default,
+         * blocks are written by the thread which {@link #handle(MavlinkMessage) handles} them.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use client.
+         */
+        public LogClient build() {
+            return new LogClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of clients which send messages through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    /**
+     * The length of the data of a {@code LOG_DATA} message.
+     */
+    static final int BLOCK_LENGTH = 90;
+
+    /**
+     * The largest number of received blocks between two missing runs which are requested as one
+     * range.
+     */
+    static final int MERGE_BLOCKS = 8;
+
+    private final MavlinkConnection connection;
+    private final int systemId;
+    private final int componentId;
+    private final int retries;
+    private final long initialTimeoutNanos;
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final Executor executor;
+    private final LongSupplier clock;
+
+    /**
+     * Listings in progress, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, Listing> listings = new ConcurrentHashMap<>();
+
+    /**
+     * Downloads in progress, keyed like listings.
+     */
+    private final Map<Integer, Download> downloads = new ConcurrentHashMap<>();
+
+    /**
+     * Round trip estimators, keyed like listings.
+     */
+    private final Map<Integer, RttEstimator> links = new ConcurrentHashMap<>();
+
+    private LogClient(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        retries = builder.retries;
+        initialTimeoutNanos = builder.initialTimeoutNanos;
+        minTimeoutNanos = builder.minTimeoutNanos;
+        maxTimeoutNanos = builder.maxTimeoutNanos;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-logs").build() : builder.timer;
+        executor = builder.executor;
+        clock = builder.clock;
+    }
+
+    /**
+     * Lists the logs of the specified vehicle component.
+     *
+     * @return A future which completes with the entries of the logs, ordered by ID, or completes
+     * exceptionally with a {@link TimeoutException} if the vehicle stops answering.
+     * @throws IllegalStateException if a listing of the same vehicle component is already in
+     *                               progress.
+     */
+    public CompletableFuture<List<LogEntry>> entries(int systemId, int componentId) {
+        Listing listing = new Listing(systemId, componentId);
+        if (listings.putIfAbsent(listing.key, listing) != null) {
+            throw new IllegalStateException(String.format("a listing of %d/%d is already in progress",
+                    systemId, componentId));
+        }
+        synchronized (listing) {
+            listing.start();
+        }
+        listing.settle();
+        return listing.future;
+    }
+
+    /**
+     * Downloads the specified log of the specified vehicle component to the specified local file,
+     * which is created or truncated. The local file is closed once the download completes.
+     *
+     * @return The download, which completes as {@link #download(int, int, LogEntry, FileChannel)}
+     * does, but only once the file is closed.
+     * @throws IOException           if the local file cannot be opened.
+     * @throws IllegalStateException if a download from the same vehicle component is already in
+     *                               progress.
+     */
+    public LogDownload download(int systemId, int componentId, LogEntry entry, Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return download(systemId, componentId, entry, channel, true);
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Downloads the specified log of the specified vehicle component, writing each byte to the
+     * position of the channel which equals its offset in the log. The channel is not closed.
+     *
+     * @return The download, which reports the progress and completion of the download.
+     * @throws IllegalStateException if a download from the same vehicle component is already in
+     *                               progress.
+     */
+    public LogDownload download(int systemId, int componentId, LogEntry entry, FileChannel channel) {
+        return download(systemId, componentId, entry, channel, false);
+    }
+
+    private LogDownload download(int systemId, int componentId, LogEntry entry, FileChannel channel, boolean close) {
+        Download download = new Download(systemId, componentId, entry, channel, close);
+        if (downloads.putIfAbsent(download.key, download) != null) {
+            throw new IllegalStateException(String.format("a log download from %d/%d is already in progress",
+                    systemId, componentId));
+        }
+        synchronized (download) {
+            download.start();
+        }
+        download.settle();
+        return download.status;
+    }
+
+    /**
+     * Returns the round trip estimator of the specified vehicle component.
+     */
+    public RttEstimator roundTrip(int systemId, int componentId) {
+        return links.computeIfAbsent(systemId << 8 | componentId, key -> new RttEstimator(
+                initialTimeoutNanos, minTimeoutNanos, maxTimeoutNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Processes a received message. Messages which are not part of the log protocol are ignored.
+     * Log messages carry no target, so they are attributed to the transfers with their origin.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        Object payload = message.getPayload();
+        int origin = message.getOriginSystemId() << 8 | message.getOriginComponentId();
+        if (payload instanceof LogData) {
+            Download download = downloads.get(origin);
+            if (download != null) {
+                download.onData((LogData) payload);
+                download.settle();
+            }
+        } else if (payload instanceof LogEntry) {
+            Listing listing = listings.get(origin);
+            if (listing != null) {
+                listing.onEntry((LogEntry) payload);
+                listing.settle();
+            }
+        }
+    }
+
+    /**
+     * Fails all transfers in progress with a {@link CancellationException}, and closes the timer
+     * if it is owned by this client.
+     */
+    @Override
+    public void close() {
+        for (Listing listing : listings.values()) {
+            listing.cancel();
+            listing.settle();
+        }
+        for (Download download : downloads.values()) {
+            download.cancel();
+            download.settle();
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    /**
+     * A transfer in progress. All methods but {@link #settle()} are called while holding the lock
+     * of the transfer, and record the outcome of the transfer, which {@link #settle()} publishes
+     * once the lock is released, so that dependent stages do not run under it.
+     */
+    private abstract class Transfer {
+        final int systemId;
+        final int componentId;
+        final int key;
+        final RttEstimator rtt;
+        private HashedTimerWheel.Timeout timeout;
+        private int generation;
+        private int attempts;
+        private long sentAt;
+        private boolean timed;
+        boolean done;
+        private Throwable failure;
+
+        Transfer(int systemId, int componentId) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+            this.key = systemId << 8 | componentId;
+            this.rtt = roundTrip(systemId, componentId);
+        }
+
+        abstract void start();
+
+        abstract void retransmit();
+
+        abstract boolean isDone();
+
+        abstract void fail(Throwable cause);
+
+        abstract String describe();
+
+        /**
+         * Completes the future of the transfer, successfully if the failure is {@code null}.
+         */
+        abstract void publish(Throwable failure);
+
+        synchronized void cancel() {
+            fail(new CancellationException("client closed"));
+        }
+
+        /**
+         * Records the outcome of the transfer, unless it was already recorded.
+         */
+        void end(Throwable cause) {
+            if (!done) {
+                done = true;
+                failure = cause;
+            }
+        }
+
+        /**
+         * Publishes the outcome of the transfer, if it is done. Does nothing when called while
+         * holding the lock of the transfer, such as by a write which runs on the thread which
+         * handles the data, as the caller which took the lock settles once it is released.
+         */
+        void settle() {
+            if (Thread.holdsLock(this)) {
+                return;
+            }
+            Throwable failure;
+            synchronized (this) {
+                if (!done) {
+                    return;
+                }
+                failure = this.failure;
+            }
+            publish(failure);
+        }
+
+        /**
+         * Restarts the timer after the vehicle answered, sampling the round trip of the last
+         * request if it is the first answer to it and it was not retransmitted.
+         */
+        void progress() {
+            if (timed) {
+                rtt.sample(now() - sentAt);
+                timed = false;
+            }
+            attempts = 0;
+            arm();
+        }
+
+        void arm() {
+            disarm();
+            if (isDone()) {
+                return;
+            }
+            int armed = ++generation;
+            timeout = timer.schedule(() -> {
+                expire(armed);
+                settle();
+            }, rtt.timeoutNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        void disarm() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+
+        private synchronized void expire(int armed) {
+            if (armed != generation || isDone()) {
+                return;
+            }
+            if (++attempts > retries) {
+                fail(new TimeoutException(String.format("%s timed out after %d attempts", describe(), attempts)));
+                return;
+            }
+            rtt.backoff();
+            retransmit();
+            timed = false;
+            arm();
+        }
+
+        void send(Object payload, boolean request) {
+            if (request) {
+                sentAt = now();
+                timed = true;
+            }
+            try {
+                connection.send2(LogClient.this.systemId, LogClient.this.componentId, payload);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        long now() {
+            return clock.getAsLong();
+        }
+    }
+
+    private final class Listing extends Transfer {
+        final CompletableFuture<List<LogEntry>> future = new CompletableFuture<>();
+        private final Map<Integer, LogEntry> entries = new TreeMap<>();
+        private int count = -1;
+        private List<LogEntry> result;
+
+        Listing(int systemId, int componentId) {
+            super(systemId, componentId);
+        }
+
+        @Override
+        void start() {
+            retransmit();
+            arm();
+        }
+
+        synchronized void onEntry(LogEntry entry) {
+            if (isDone()) {
+                return;
+            }
+            count = entry.numLogs();
+            if (count > 0) {
+                entries.put(entry.id(), entry);
+            }
+            if (entries.size() >= count) {
+                result = Collections.unmodifiableList(new ArrayList<>(entries.values()));
+                end(null);
+                finish();
+                return;
+            }
+            progress();
+        }
+
+        @Override
+        void retransmit() {
+            send(LogRequestList.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .start(0)
+                    .end(0xffff)
+                    .build(), true);
+        }
+
+        @Override
+        boolean isDone() {
+            return done || future.isDone();
+        }
+
+        @Override
+        void fail(Throwable cause) {
+            end(cause);
+            finish();
+        }
+
+        @Override
+        void publish(Throwable failure) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        @Override
+        String describe() {
+            return String.format("log listing of %d/%d", systemId, componentId);
+        }
+
+        private void finish() {
+            listings.remove(key, this);
+            disarm();
+        }
+    }
+
+    private final class Download extends Transfer {
+        final LogDownload status;
+        private final int id;
+        private final long size;
+        private final FileChannel channel;
+        private final boolean close;
+
+        /**
+         * One bit per block of the log, set once the block is received.
+         */
+        private final BitSet blocks;
+        private final int blockCount;
+        private int receivedBlocks;
+
+        /**
+         * The exclusive end of the blocks which were last requested.
+         */
+        private int requestEnd;
+        private int pendingWrites;
+        private boolean received;
+        private boolean finished;
+
+        Download(int systemId, int componentId, LogEntry entry, FileChannel channel, boolean close) {
+            super(systemId, componentId);
+            this.id = entry.id();
+            this.size = entry.size();
+            this.channel = channel;
+            this.close = close;
+            this.status = new LogDownload(systemId, componentId, id, size, clock);
+            long count = (size + BLOCK_LENGTH - 1) / BLOCK_LENGTH;
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("log " + id + " of " + size + " bytes is too large");
+            }
+            blockCount = (int) count;
+            blocks = new BitSet(blockCount);
+        }
+
+        @Override
+        void start() {
+            if (blockCount == 0) {
+                received = true;
+                completeIfWritten();
+                return;
+            }
+            request(0, blockCount);
+            arm();
+        }
+
+        synchronized void onData(LogData data) {
+            if (data.id() != id || received || isDone()) {
+                return;
+            }
+            long offset = data.ofs();
+            if (data.count() == 0 || offset >= size) {
+                // the vehicle reached the end of the log
+                next();
+                progress();
+                return;
+            }
+            if (offset % BLOCK_LENGTH != 0) {
+                return;
+            }
+            int block = (int) (offset / BLOCK_LENGTH);
+            if (blocks.get(block)) {
+                status.duplicate();
+            } else {
+                int length = (int) Math.min(Math.min(data.count(), data.data().length), size - offset);
+                blocks.set(block);
+                receivedBlocks++;
+                status.received(length);
+                write(data.data(), offset, length);
+                if (receivedBlocks == blockCount) {
+                    received = true;
+                    disarm();
+                    completeIfWritten();
+                    return;
+                }
+            }
+            if (block + 1 >= requestEnd) {
+                // the requested range has been streamed, so what it lost is requested next
+                next();
+            }
+            progress();
+        }
+
+        @Override
+        void retransmit() {
+            next();
+        }
+
+        /**
+         * Requests the first run of missing blocks, merged with the following runs which are
+         * separated from it by at most {@link #MERGE_BLOCKS} received blocks.
+         */
+        private void next() {
+            int first = blocks.nextClearBit(0);
+            int end = blocks.nextSetBit(first);
+            while (end >= 0) {
+                int nextMissing = blocks.nextClearBit(end);
+                if (nextMissing >= blockCount || nextMissing - end > MERGE_BLOCKS) {
+                    break;
+                }
+                end = blocks.nextSetBit(nextMissing);
+            }
+            request(first, end >= 0 ? end : blockCount);
+        }
+
+        private void request(int first, int end) {
+            requestEnd = end;
+            long offset = (long) first * BLOCK_LENGTH;
+            status.requested();
+            send(LogRequestData.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .id(id)
+                    .ofs(offset)
+                    .count(Math.min((long) end * BLOCK_LENGTH, size) - offset)
+                    .build(), true);
+        }
+
+        private void write(byte[] data, long offset, int length) {
+            pendingWrites++;
+            executor.execute(() -> {
+                IOException failure = null;
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer, offset + buffer.position());
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+                written(failure);
+                settle();
+            });
+        }
+
+        private synchronized void written(IOException failure) {
+            pendingWrites--;
+            if (failure != null) {
+                fail(failure);
+            } else if (received) {
+                completeIfWritten();
+            }
+        }
+
+        private void completeIfWritten() {
+            if (pendingWrites > 0 || isDone()) {
+                return;
+            }
+            end(finish());
+        }
+
+        @Override
+        boolean isDone() {
+            return done || status.completion().isDone();
+        }
+
+        @Override
+        void fail(Throwable cause) {
+            if (isDone()) {
+                return;
+            }
+            finish();
+            end(cause);
+        }
+
+        @Override
+        void publish(Throwable failure) {
+            if (failure != null) {
+                status.fail(failure);
+            } else {
+                status.complete();
+            }
+        }
+
+        @Override
+        String describe() {
+            return String.format("download of log %d from %d/%d", id, systemId, componentId);
+        }
+
+        /**
+         * Ends the transfer, and returns the failure to close the file, if any.
+         */
+        private IOException finish() {
+            if (finished) {
+                return null;
+            }
+            finished = true;
+            downloads.remove(key, this);
+            disarm();
+            if (blockCount > 0) {
+                // lets the vehicle resume logging
+                send(LogRequestEnd.builder()
+                        .targetSystem(systemId)
+                        .targetComponent(componentId)
+                        .build(), false);
+            }
+            if (close) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    return e;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.dronefleet.mavlink.logs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The progress of a log download started by a {@link LogClient}. The counters may be read from
+ * any thread while the download is in progress.
+ */
+public final class LogDownload {
+
+    private final int systemId;
+    private final int componentId;
+    private final int id;
+    private final long size;
+    private final LongSupplier clock;
+    private final long startedAt;
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private volatile long received;
+    private volatile long duplicates;
+    private volatile int requests;
+    private volatile long finishedAt;
+    private volatile boolean finished;
+
+    LogDownload(int systemId, int componentId, int id, long size, LongSupplier clock) {
+        this.systemId = systemId;
+        this.componentId = componentId;
+        this.id = id;
+        this.size = size;
+        this.clock = clock;
+        this.startedAt = clock.getAsLong();
+    }
+
+    /**
+     * Returns the system ID of the vehicle the log is downloaded from.
+     */
+    public int systemId() {
+        return systemId;
+    }
+
+    /**
+     * Returns the component ID of the vehicle the log is downloaded from.
+     */
+    public int componentId() {
+        return componentId;
+    }
+
+    /**
+     * Returns the ID of the log.
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Returns the size of the log in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct bytes of the log which were received.
+     */
+    public long received() {
+        return received;
+    }
+
+    /**
+     * Returns the fraction of the log which was received, between 0 and 1.
+     */
+    public double progress() {
+        return size == 0 ? 1 : (double) received / size;
+    }
+
+    /**
+     * Returns the average rate at which distinct bytes were received since the download started,
+     * in bytes per second.
+     */
+    public double throughput() {
+        long elapsed = elapsed(TimeUnit.NANOSECONDS);
+        return elapsed > 0 ? received * 1e9 / elapsed : 0;
+    }
+
+    /**
+     * Returns the time since the download started, or the duration of the download once it is
+     * complete.
+     */
+    public long elapsed(TimeUnit unit) {
+        long end = finished ? finishedAt : clock.getAsLong();
+        return unit.convert(end - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of {@code LOG_DATA} messages which carried data that was already
+     * received.
+     */
+    public long duplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Returns the number of {@code LOG_REQUEST_DATA} messages sent, which is 1 for a download
+     * without losses.
+     */
+    public int requests() {
+        return requests;
+    }
+
+    /**
+     * Returns a future which completes with the size of the log once all of it is written, or
+     * completes exceptionally with a {@link java.util.concurrent.TimeoutException} if the vehicle
+     * stops answering, or with the {@link java.io.IOException} of a failed write.
+     */
+    public CompletableFuture<Long> completion() {
+        return completion;
+    }
+
+    void received(long bytes) {
+        received += bytes;
+    }
+
+    void duplicate() {
+        duplicates++;
+    }
+
+    void requested() {
+        requests++;
+    }
+
+    void complete() {
+        finishedAt = clock.getAsLong();
+        finished = true;
+        completion.complete(size);
+    }
+
+    void fail(Throwable cause) {
+        finishedAt = clock.getAsLong();
+        finished = true;
+        completion.completeExceptionally(cause);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LogDownload{systemId=%d, componentId=%d, id=%d, received=%d/%d, throughput=%.0fB/s}",
+                systemId, componentId, id, received, size, throughput());
+    }
+}
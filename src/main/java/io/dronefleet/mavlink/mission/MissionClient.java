@@ -0,0 +1,853 @@
+package io.dronefleet.mavlink.mission;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.common.MavMissionResult;
+import io.dronefleet.mavlink.common.MavMissionType;
+import io.dronefleet.mavlink.common.MissionAck;
+import io.dronefleet.mavlink.common.MissionCount;
+import io.dronefleet.mavlink.common.MissionItemInt;
+import io.dronefleet.mavlink.common.MissionRequest;
+import io.dronefleet.mavlink.common.MissionRequestInt;
+import io.dronefleet.mavlink.common.MissionRequestList;
+import io.dronefleet.mavlink.common.MissionWritePartialList;
+import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadSerializer;
+import io.dronefleet.mavlink.serialization.payload.PayloadField;
+import io.dronefleet.mavlink.serialization.payload.PayloadLayout;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.RttEstimator;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Uploads and downloads missions, geofences and rally points of any number of vehicles through a
+ * {@link MavlinkConnection}, using the {@code MISSION_ITEM_INT} variant of the mission protocol.
+ * <p>
+ * Each transfer is a small state machine, keyed by vehicle component and {@link MavMissionType},
+ * so transfers of different vehicles and of different mission types run concurrently.
+ * <ul>
+ * <li>Uploads encode every item once when they start. The vehicle drives the transfer by
+ * requesting items, and each request, including duplicates caused by lost items, is answered
+ * with the pre-encoded item. An upload is only accepted once the vehicle requested its last
+ * item, and {@code MAV_MISSION_INVALID_SEQUENCE} answers resend what was requested last.</li>
+ * <li>Downloads keep up to {@link Builder#window(int) window} item requests in flight, so that a
+ * link with a long round trip is not idle while each item is requested in turn. Items may arrive
+ * in any order.</li>
+ * <li>{@link #sync(int, int, MavMissionType, List) Syncs} compare the new items with the items the
+ * vehicle is known to hold, and only write the ranges which changed with
+ * {@code MISSION_WRITE_PARTIAL_LIST}.</li>
+ * </ul>
+ * <p>
+ * Retransmission timeouts adapt to each vehicle's link: round trips are measured from requests
+ * which were answered without retransmission, and are smoothed by an {@link RttEstimator}. All
+ * timeouts of all transfers run on a single {@link HashedTimerWheel}, which can be shared with
+ * other clients.
+ * <p>
+ * The client does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread
+ * safe.
+ */
+public class MissionClient implements Closeable {
+
+    /**
+     * Builds mission clients.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int window = 4;
+        private int mergeGap = 2;
+        private int retries = 5;
+        private long initialTimeoutNanos = TimeUnit.SECONDS.toNanos(1);
+        private long minTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        private long maxTimeoutNanos = TimeUnit.SECONDS.toNanos(5);
+        private HashedTimerWheel timer;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of item requests which are in flight at once during a download.
+         * Defaults to 4. A window of 1 is the stop-and-wait behavior of the protocol.
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of unchanged items between two changed ranges which a sync
+         * writes as a single range, since resending a few items is cheaper than another partial
+         * write handshake. Defaults to 2.
+         */
+        public Builder mergeGap(int mergeGap) {
+            if (mergeGap < 0) {
+                throw new IllegalArgumentException("merge gap must not be negative");
+            }
+            this.mergeGap = mergeGap;
+            return this;
+        }
+
+        /**
+         * Sets how many consecutive retransmissions are made before a transfer fails. Defaults
+         * to 5.
+         */
+        public Builder retries(int retries) {
+            if (retries < 0) {
+                throw new IllegalArgumentException("retries must not be negative");
+            }
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Sets the retransmission timeouts: the timeout used before the round trip time of a
+         * vehicle is measured, and the bounds of the adaptive timeout. Defaults to 1s, 50ms and
+         * 5s.
+         */
+        public Builder timeouts(long initial, long min, long max, TimeUnit unit) {
+            if (min <= 0 || min > max) {
+                throw new IllegalArgumentException("timeouts must be positive, and the minimum must not exceed the maximum");
+            }
+            this.initialTimeoutNanos = unit.toNanos(initial);
+            this.minTimeoutNanos = unit.toNanos(min);
+            this.maxTimeoutNanos = unit.toNanos(max);
+            return this;
+        }
+
+        /**
+         * Sets the timer which runs the retransmission timeouts, so that it can be shared with
+         * other clients. By default, each client starts its own timer, which is closed when the
+         * client is closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use client.
+         */
+        public MissionClient build() {
+            return new MissionClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of clients which send messages through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    private static final MavlinkMessageDescriptor ITEM = MavlinkMessageDescriptor.of(MissionItemInt.class);
+    private static final int SEQ_OFFSET = offsetOf("seq");
+    private static final int MISSION_TYPE_OFFSET = offsetOf("missionType");
+
+    private static int offsetOf(String fieldName) {
+        for (PayloadField field : PayloadLayout.of(MissionItemInt.class).fields()) {
+            if (field.name().equals(fieldName)) {
+                return field.offset();
+            }
+        }
+        throw new IllegalStateException("MISSION_ITEM_INT has no field " + fieldName);
+    }
+
+    private final MavlinkConnection connection;
+    private final MavlinkPayloadSerializer serializer = new ReflectionPayloadSerializer();
+    private final int systemId;
+    private final int componentId;
+    private final int window;
+    private final int mergeGap;
+    private final int retries;
+    private final long initialTimeoutNanos;
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final LongSupplier clock;
+
+    /**
+     * Transfers in progress, keyed by {@code systemId << 16 | componentId << 8 | missionType}.
+     */
+    private final Map<Integer, Transfer<?>> transfers = new ConcurrentHashMap<>();
+
+    /**
+     * The items each vehicle component is known to hold, as of the last completed transfer, keyed
+     * like transfers.
+     */
+    private final Map<Integer, Mission> missions = new ConcurrentHashMap<>();
+
+    /**
+     * Round trip estimators, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, RttEstimator> links = new ConcurrentHashMap<>();
+
+    private MissionClient(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        window = builder.window;
+        mergeGap = builder.mergeGap;
+        retries = builder.retries;
+        initialTimeoutNanos = builder.initialTimeoutNanos;
+        minTimeoutNanos = builder.minTimeoutNanos;
+        maxTimeoutNanos = builder.maxTimeoutNanos;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-missions").build() : builder.timer;
+        clock = builder.clock;
+    }
+
+    /**
+     * Downloads the items of the specified type from the specified vehicle component.
+     *
+     * @return A future which completes with the items, ordered by sequence number, or completes
+     * exceptionally with a {@link MissionTransferException} if the vehicle rejects the transfer,
+     * or with a {@link TimeoutException} if the vehicle stops answering.
+     * @throws IllegalStateException if a transfer of the same type with the same vehicle
+     *                               component is already in progress.
+     */
+    public CompletableFuture<List<MissionItemInt>> download(int systemId, int componentId, MavMissionType type) {
+        return start(new Download(systemId, componentId, type));
+    }
+
+    /**
+     * Uploads the specified items to the specified vehicle component, replacing all of its items
+     * of the specified type. The items are sent with their position in the list as their
+     * sequence number, and with the target and mission type of the transfer, regardless of the
+     * values they were built with.
+     *
+     * @return A future which completes once the vehicle accepts the items, or completes
+     * exceptionally with a {@link MissionTransferException} if the vehicle rejects them, or with
+     * a {@link TimeoutException} if the vehicle stops answering.
+     * @throws IllegalStateException if a transfer of the same type with the same vehicle
+     *                               component is already in progress.
+     */
+    public CompletableFuture<Void> upload(
+            int systemId, int componentId, MavMissionType type, List<MissionItemInt> items) {
+        byte[][] encoded = encode(systemId, componentId, type, items);
+        return start(new Upload(systemId, componentId, type, items, encoded, 0, encoded.length - 1, false));
+    }
+
+    /**
+     * <p>
+     * Makes the specified vehicle component hold the specified items, sending as few of them as
+     * possible.
+     * <p>
+     * The items are compared one by one with the items the component is known to hold from the
+     * last completed transfer. Only the ranges of items which changed are written, each with
+     * {@code MISSION_WRITE_PARTIAL_LIST}, one range after the other. The items are
+     * {@link #upload(int, int, MavMissionType, List) uploaded} in full if the number of items
+     * changed, if no transfer with the component completed yet, or if the component does not
+     * support partial writes, which it shows by rejecting the first partial write or by leaving it
+     * unanswered until it times out.
+     *
+     * @return A future which completes once the component holds the items, or completes
+     * exceptionally as {@link #upload(int, int, MavMissionType, List)} does.
+     * @throws IllegalStateException if a transfer of the same type with the same vehicle
+     *                               component is already in progress.
+     */
+    public CompletableFuture<Void> sync(
+            int systemId, int componentId, MavMissionType type, List<MissionItemInt> items) {
+        Mission known = missions.get(key(systemId, componentId, type));
+        byte[][] encoded = encode(systemId, componentId, type, items);
+        if (known == null || known.encoded.length != encoded.length) {
+            return start(new Upload(systemId, componentId, type, items, encoded, 0, encoded.length - 1, false));
+        }
+        CompletableFuture<Void> first = null;
+        CompletableFuture<Void> synced = null;
+        for (int[] range : MissionDiff.changedRanges(known.encoded, encoded, mergeGap)) {
+            if (synced == null) {
+                first = synced = start(new Upload(systemId, componentId, type, items, encoded, range[0], range[1], true));
+            } else {
+                synced = synced.thenCompose(done -> start(
+                        new Upload(systemId, componentId, type, items, encoded, range[0], range[1], true)));
+            }
+        }
+        if (synced == null) {
+            missions.put(key(systemId, componentId, type), new Mission(items, encoded));
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> firstRange = first;
+        return synced.handle((done, failure) -> {
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            if (cause instanceof MissionTransferException
+                    || cause instanceof TimeoutException && firstRange.isCompletedExceptionally()) {
+                // the component does not support partial writes
+                return upload(systemId, componentId, type, items);
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(null);
+            }
+            return result;
+        }).thenCompose(result -> result);
+    }
+
+    /**
+     * Returns the items of the specified type which the specified vehicle component is known to
+     * hold, as of the last completed transfer, or {@code null} if no transfer completed.
+     */
+    public List<MissionItemInt> mission(int systemId, int componentId, MavMissionType type) {
+        Mission known = missions.get(key(systemId, componentId, type));
+        return known != null ? known.items : null;
+    }
+
+    /**
+     * Returns the round trip estimator of the specified vehicle component.
+     */
+    public RttEstimator roundTrip(int systemId, int componentId) {
+        return links.computeIfAbsent(systemId << 8 | componentId, key -> new RttEstimator(
+                initialTimeoutNanos, minTimeoutNanos, maxTimeoutNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Processes a received message. Messages which are not part of the mission protocol, or are
+     * addressed to other systems, are ignored.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        Object payload = message.getPayload();
+        int origin = message.getOriginSystemId() << 8 | message.getOriginComponentId();
+        Transfer<?> transfer = null;
+        if (payload instanceof MissionRequestInt) {
+            MissionRequestInt request = (MissionRequestInt) payload;
+            if (addressed(request.targetSystem(), request.targetComponent())) {
+                transfer = transfer(origin, request.missionType());
+                if (transfer instanceof Upload) {
+                    ((Upload) transfer).onRequest(request.seq());
+                }
+            }
+        } else if (payload instanceof MissionRequest) {
+            MissionRequest request = (MissionRequest) payload;
+            if (addressed(request.targetSystem(), request.targetComponent())) {
+                transfer = transfer(origin, request.missionType());
+                if (transfer instanceof Upload) {
+                    ((Upload) transfer).onRequest(request.seq());
+                }
+            }
+        } else if (payload instanceof MissionCount) {
+            MissionCount count = (MissionCount) payload;
+            if (addressed(count.targetSystem(), count.targetComponent())) {
+                transfer = transfer(origin, count.missionType());
+                if (transfer instanceof Download) {
+                    ((Download) transfer).onCount(count.count());
+                }
+            }
+        } else if (payload instanceof MissionItemInt) {
+            MissionItemInt item = (MissionItemInt) payload;
+            if (addressed(item.targetSystem(), item.targetComponent())) {
+                transfer = transfer(origin, item.missionType());
+                if (transfer instanceof Download) {
+                    ((Download) transfer).onItem(item);
+                }
+            }
+        } else if (payload instanceof MissionAck) {
+            MissionAck ack = (MissionAck) payload;
+            if (addressed(ack.targetSystem(), ack.targetComponent())) {
+                transfer = transfer(origin, ack.missionType());
+                if (transfer != null) {
+                    transfer.onAck(ack.type());
+                }
+            }
+        }
+        if (transfer != null) {
+            transfer.settle();
+        }
+    }
+
+    /**
+     * Fails all transfers in progress with a {@link CancellationException}, and closes the timer
+     * if it is owned by this client.
+     */
+    @Override
+    public void close() {
+        for (Transfer<?> transfer : transfers.values()) {
+            transfer.cancel();
+            transfer.settle();
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private <T> CompletableFuture<T> start(Transfer<T> transfer) {
+        if (transfers.putIfAbsent(transfer.key, transfer) != null) {
+            throw new IllegalStateException(String.format("a %s transfer with %d/%d is already in progress",
+                    transfer.type, transfer.systemId, transfer.componentId));
+        }
+        synchronized (transfer) {
+            transfer.start();
+        }
+        transfer.settle();
+        return transfer.future;
+    }
+
+    /**
+     * Encodes the specified items as they are sent to the specified component, which makes
+     * encoded items comparable regardless of the target, sequence and type they were built with.
+     */
+    private byte[][] encode(int systemId, int componentId, MavMissionType type, List<MissionItemInt> items) {
+        byte[][] encoded = new byte[items.size()][];
+        for (int seq = 0; seq < encoded.length; seq++) {
+            byte[] item = serializer.serialize(items.get(seq));
+            item[ITEM.targetSystemOffset()] = (byte) systemId;
+            item[ITEM.targetComponentOffset()] = (byte) componentId;
+            item[SEQ_OFFSET] = (byte) seq;
+            item[SEQ_OFFSET + 1] = (byte) (seq >> 8);
+            item[MISSION_TYPE_OFFSET] = (byte) EnumValue.of(type).value();
+            encoded[seq] = item;
+        }
+        return encoded;
+    }
+
+    private static int key(int systemId, int componentId, MavMissionType type) {
+        return (systemId << 8 | componentId) << 8 | EnumValue.of(type).value();
+    }
+
+    private Transfer<?> transfer(int origin, EnumValue<MavMissionType> type) {
+        // the mission type is an extension, which is absent from Mavlink 1 messages
+        return transfers.get(origin << 8 | (type != null ? type.value() : 0));
+    }
+
+    private boolean addressed(int targetSystem, int targetComponent) {
+        return (targetSystem == 0 || targetSystem == systemId)
+                && (targetComponent == 0 || targetComponent == componentId);
+    }
+
+    /**
+     * A transfer in progress. All methods but {@link #settle()} are called while holding the lock
+     * of the transfer, and record the outcome of the transfer, which {@link #settle()} completes
+     * the future with once the lock is released, so that dependent stages do not run under it.
+     */
+    private abstract class Transfer<T> {
+        final int systemId;
+        final int componentId;
+        final MavMissionType type;
+        final int key;
+        final RttEstimator rtt;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        private HashedTimerWheel.Timeout timeout;
+        private int generation;
+        private int attempts;
+        boolean done;
+        private T result;
+        private Throwable failure;
+
+        Transfer(int systemId, int componentId, MavMissionType type) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+            this.type = type;
+            this.key = key(systemId, componentId, type);
+            this.rtt = roundTrip(systemId, componentId);
+        }
+
+        abstract void start();
+
+        abstract void retransmit();
+
+        synchronized void onAck(EnumValue<MavMissionResult> result) {
+            if (result.entry() != MavMissionResult.MAV_MISSION_ACCEPTED) {
+                fail(new MissionTransferException(String.format("%s transfer with %d/%d rejected",
+                        type, systemId, componentId), result));
+            }
+        }
+
+        synchronized void cancel() {
+            fail(new CancellationException("client closed"));
+        }
+
+        /**
+         * Restarts the retransmission timer after the vehicle answered.
+         */
+        void progress() {
+            attempts = 0;
+            arm();
+        }
+
+        void arm() {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            int armed = ++generation;
+            timeout = timer.schedule(() -> {
+                expire(armed);
+                settle();
+            }, rtt.timeoutNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void expire(int armed) {
+            if (armed != generation || done) {
+                return;
+            }
+            if (++attempts > retries) {
+                fail(new TimeoutException(String.format("%s transfer with %d/%d timed out after %d attempts",
+                        type, systemId, componentId, attempts)));
+                return;
+            }
+            rtt.backoff();
+            retransmit();
+            arm();
+        }
+
+        void send(Object payload) {
+            try {
+                connection.send2(MissionClient.this.systemId, MissionClient.this.componentId, payload);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void send(byte[] serializedItem) {
+            try {
+                connection.send2(MissionClient.this.systemId, MissionClient.this.componentId, ITEM, serializedItem);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void complete(T value) {
+            if (finish()) {
+                result = value;
+            }
+        }
+
+        void fail(Throwable cause) {
+            if (finish()) {
+                failure = cause;
+            }
+        }
+
+        /**
+         * Completes the future with the outcome of the transfer, if it is done. Called without
+         * holding the lock of the transfer.
+         */
+        void settle() {
+            T result;
+            Throwable failure;
+            synchronized (this) {
+                if (!done) {
+                    return;
+                }
+                result = this.result;
+                failure = this.failure;
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        private boolean finish() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            transfers.remove(key, this);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            return true;
+        }
+
+        long now() {
+            return clock.getAsLong();
+        }
+    }
+
+    /**
+     * Writes the items in {@code [first, last]}, which is all items unless the upload is partial.
+     */
+    private final class Upload extends Transfer<Void> {
+        private final List<MissionItemInt> source;
+        private final byte[][] items;
+        private final int first;
+        private final int last;
+        private final boolean partial;
+        private int lastRequested;
+        private long sentAt;
+        private boolean retransmitted;
+
+        Upload(int systemId, int componentId, MavMissionType type, List<MissionItemInt> source,
+               byte[][] items, int first, int last, boolean partial) {
+            super(systemId, componentId, type);
+            this.source = source;
+            this.items = items;
+            this.first = first;
+            this.last = last;
+            this.partial = partial;
+            lastRequested = first - 1;
+        }
+
+        @Override
+        void start() {
+            sendCount();
+            arm();
+        }
+
+        synchronized void onRequest(int seq) {
+            if (seq < first || seq > last || done) {
+                return;
+            }
+            long now = now();
+            if (seq == lastRequested + 1 && !retransmitted) {
+                // the request answers the count or the previous item, whichever was sent last
+                rtt.sample(now - sentAt);
+            }
+            lastRequested = seq;
+            sentAt = now;
+            retransmitted = false;
+            send(items[seq]);
+            progress();
+        }
+
+        @Override
+        synchronized void onAck(EnumValue<MavMissionResult> result) {
+            if (done) {
+                return;
+            }
+            if (result.entry() == MavMissionResult.MAV_MISSION_INVALID_SEQUENCE) {
+                // the vehicle did not receive what it asked for last, rather than rejecting the items
+                retransmit();
+                return;
+            }
+            if (result.entry() == MavMissionResult.MAV_MISSION_ACCEPTED && lastRequested != last) {
+                // the vehicle did not request every item yet, so this acknowledges an earlier transfer
+                return;
+            }
+            super.onAck(result);
+            if (done) {
+                return;
+            }
+            Mission known = missions.get(key);
+            if (partial && known != null) {
+                missions.put(key, known.replace(first, last, source, items));
+            } else if (!partial) {
+                missions.put(key, new Mission(source, items));
+            }
+            complete(null);
+        }
+
+        @Override
+        void retransmit() {
+            retransmitted = true;
+            if (lastRequested < first) {
+                sendCount();
+            } else {
+                send(items[lastRequested]);
+            }
+        }
+
+        private void sendCount() {
+            sentAt = now();
+            if (partial) {
+                send(MissionWritePartialList.builder()
+                        .targetSystem(systemId)
+                        .targetComponent(componentId)
+                        .startIndex(first)
+                        .endIndex(last)
+                        .missionType(type)
+                        .build());
+                return;
+            }
+            send(MissionCount.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .count(items.length)
+                    .missionType(type)
+                    .build());
+        }
+    }
+
+    private final class Download extends Transfer<List<MissionItemInt>> {
+        private MissionItemInt[] items;
+        private long[] sentAt;
+        private final BitSet inFlight = new BitSet();
+        private final BitSet retransmitted = new BitSet();
+        private int inFlightCount;
+        private int received;
+        private int next;
+        private long listSentAt;
+        private boolean listRetransmitted;
+
+        Download(int systemId, int componentId, MavMissionType type) {
+            super(systemId, componentId, type);
+        }
+
+        @Override
+        void start() {
+            sendList();
+            arm();
+        }
+
+        synchronized void onCount(int count) {
+            if (items != null || done) {
+                // a duplicate count, which is answered by the items already requested
+                return;
+            }
+            if (!listRetransmitted) {
+                rtt.sample(now() - listSentAt);
+            }
+            items = new MissionItemInt[count];
+            sentAt = new long[count];
+            if (count == 0) {
+                sendAck();
+                missions.put(key, new Mission(Collections.emptyList(), new byte[0][]));
+                complete(Collections.emptyList());
+                return;
+            }
+            fill();
+            progress();
+        }
+
+        synchronized void onItem(MissionItemInt item) {
+            int seq = item.seq();
+            if (items == null || seq >= items.length || items[seq] != null || done) {
+                return;
+            }
+            items[seq] = item;
+            received++;
+            if (inFlight.get(seq)) {
+                inFlight.clear(seq);
+                inFlightCount--;
+                if (!retransmitted.get(seq)) {
+                    rtt.sample(now() - sentAt[seq]);
+                }
+            }
+            if (received == items.length) {
+                sendAck();
+                List<MissionItemInt> downloaded = Collections.unmodifiableList(Arrays.asList(items));
+                missions.put(key, new Mission(downloaded, encode(systemId, componentId, type, downloaded)));
+                complete(downloaded);
+                return;
+            }
+            fill();
+            progress();
+        }
+
+        @Override
+        void retransmit() {
+            if (items == null) {
+                listRetransmitted = true;
+                sendList();
+                return;
+            }
+            for (int seq = inFlight.nextSetBit(0); seq >= 0; seq = inFlight.nextSetBit(seq + 1)) {
+                retransmitted.set(seq);
+                request(seq);
+            }
+        }
+
+        private void fill() {
+            while (inFlightCount < window && next < items.length) {
+                int seq = next++;
+                if (items[seq] == null) {
+                    inFlight.set(seq);
+                    inFlightCount++;
+                    request(seq);
+                }
+            }
+        }
+
+        private void request(int seq) {
+            sentAt[seq] = now();
+            send(MissionRequestInt.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .seq(seq)
+                    .missionType(type)
+                    .build());
+        }
+
+        private void sendList() {
+            listSentAt = now();
+            send(MissionRequestList.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .missionType(type)
+                    .build());
+        }
+
+        private void sendAck() {
+            send(MissionAck.builder()
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .type(MavMissionResult.MAV_MISSION_ACCEPTED)
+                    .missionType(type)
+                    .build());
+        }
+    }
+
+    /**
+     * The items a vehicle component is known to hold, with their encoded payloads.
+     */
+    private static final class Mission {
+        private final List<MissionItemInt> items;
+        private final byte[][] encoded;
+
+        private Mission(List<MissionItemInt> items, byte[][] encoded) {
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+            this.encoded = encoded;
+        }
+
+        private Mission replace(int first, int last, List<MissionItemInt> items, byte[][] encoded) {
+            List<MissionItemInt> replacedItems = new ArrayList<>(this.items);
+            byte[][] replacedEncoded = this.encoded.clone();
+            for (int seq = first; seq <= last; seq++) {
+                replacedItems.set(seq, items.get(seq));
+                replacedEncoded[seq] = encoded[seq];
+            }
+            return new Mission(replacedItems, replacedEncoded);
+        }
+    }
+}
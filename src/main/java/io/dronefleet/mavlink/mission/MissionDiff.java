@@ -0,0 +1,44 @@
+package io.dronefleet.mavlink.mission;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares two versions of a mission of the same length item by item, to find the ranges of items
+ * which changed. Items are compared by their encoded payloads, so that two items are equal exactly
+ * when the vehicle would receive the same bytes for them.
+ */
+final class MissionDiff {
+
+    private MissionDiff() {
+    }
+
+    /**
+     * Returns the inclusive {@code [start, end]} ranges of the items which differ, in ascending
+     * order. Ranges which are separated by at most {@code mergeGap} unchanged items are merged,
+     * since resending a few unchanged items is cheaper than another partial write handshake.
+     *
+     * @throws IllegalArgumentException if the missions differ in length.
+     */
+    static List<int[]> changedRanges(byte[][] current, byte[][] next, int mergeGap) {
+        if (current.length != next.length) {
+            throw new IllegalArgumentException("missions of " + current.length + " and "
+                    + next.length + " items cannot be compared item by item");
+        }
+        List<int[]> ranges = new ArrayList<>();
+        int[] range = null;
+        for (int seq = 0; seq < next.length; seq++) {
+            if (Arrays.equals(current[seq], next[seq])) {
+                continue;
+            }
+            if (range != null && seq - range[1] - 1 <= mergeGap) {
+                range[1] = seq;
+            } else {
+                range = new int[]{seq, seq};
+                ranges.add(range);
+            }
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,24 @@
+package io.dronefleet.mavlink.mission;
+
+import io.dronefleet.mavlink.common.MavMissionResult;
+import io.dronefleet.mavlink.util.EnumValue;
+
+/**
+ * Thrown when a vehicle rejects a mission transfer with a {@code MISSION_ACK}.
+ */
+public class MissionTransferException extends RuntimeException {
+
+    private final EnumValue<MavMissionResult> result;
+
+    public MissionTransferException(String message, EnumValue<MavMissionResult> result) {
+        super(message + ": " + (result.entry() != null ? result.entry() : result.value()));
+        this.result = result;
+    }
+
+    /**
+     * Returns the result reported by the vehicle.
+     */
+    public EnumValue<MavMissionResult> result() {
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package io.dronefleet.mavlink.parameters;
+
+import io.dronefleet.mavlink.common.ParamValue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The parameters of a single component of a vehicle, as last reported by the component, keyed by
+ * parameter ID.
+ * <p>
+ * Caches are maintained by a {@link ParameterClient}, which records every received
+ * {@link ParamValue} and the indices received since the last full download. Caches can be read
+ * from any thread.
+ */
+public final class ParameterCache {
+
+    private final int systemId;
+    private final int componentId;
+    private final Map<String, ParamValue> values = new LinkedHashMap<>();
+    private final BitSet received = new BitSet();
+    private int count = -1;
+
+    ParameterCache(int systemId, int componentId) {
+        this.systemId = systemId;
+        this.componentId = componentId;
+    }
+
+    /**
+     * Returns the system ID of the component.
+     */
+    public int systemId() {
+        return systemId;
+    }
+
+    /**
+     * Returns the ID of the component.
+     */
+    public int componentId() {
+        return componentId;
+    }
+
+    /**
+     * Returns the last reported value of the specified parameter, or {@code null} if the
+     * parameter has not been received.
+     */
+    public synchronized ParamValue get(String paramId) {
+        return values.get(paramId);
+    }
+
+    /**
+     * Returns a snapshot of all received parameters, in the order they were first received.
+     */
+    public synchronized List<ParamValue> values() {
+        return Collections.unmodifiableList(new ArrayList<>(values.values()));
+    }
+
+    /**
+     * Returns the total number of parameters reported by the component, or {@code -1} if no
+     * parameter has been received yet.
+     */
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of distinct parameter indices received since the last full download
+     * was started.
+     */
+    public synchronized int received() {
+        return received.cardinality();
+    }
+
+    /**
+     * Returns whether every parameter index has been received since the last full download was
+     * started.
+     */
+    public synchronized boolean isComplete() {
+        return count >= 0 && received.cardinality() == count;
+    }
+
+    synchronized void put(ParamValue value) {
+        values.put(value.paramId(), value);
+        if (value.paramCount() != count && value.paramCount() > 0 && value.paramCount() != 0xffff) {
+            count = value.paramCount();
+            if (received.length() > count) {
+                received.clear(count, received.length());
+            }
+        }
+        if (value.paramIndex() < count) {
+            received.set(value.paramIndex());
+        }
+    }
+
+    synchronized boolean isReceived(int index) {
+        return received.get(index);
+    }
+
+    /**
+     * Returns the first index at or after the specified index which has not been received, or
+     * {@code -1} if there is no such index.
+     */
+    synchronized int nextMissing(int fromIndex) {
+        int index = received.nextClearBit(fromIndex);
+        return index < count ? index : -1;
+    }
+
+    synchronized void clearReceived() {
+        received.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ParameterCache{" +
+                "systemId=" + systemId +
+                ", componentId=" + componentId +
+                ", count=" + count +
+                ", received=" + received.cardinality() +
+                '}';
+    }
+}
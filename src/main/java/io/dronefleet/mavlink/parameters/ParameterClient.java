@@ -0,0 +1,575 @@
+package io.dronefleet.mavlink.parameters;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.MavParamType;
+import io.dronefleet.mavlink.common.ParamRequestList;
+import io.dronefleet.mavlink.common.ParamRequestRead;
+import io.dronefleet.mavlink.common.ParamSet;
+import io.dronefleet.mavlink.common.ParamValue;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Reads and writes the parameters of vehicles through a {@link MavlinkConnection}, keeping a
+ * {@link ParameterCache} per vehicle component.
+ * <p>
+ * A {@link #fetchAll(int, int) full download} starts with {@code PARAM_REQUEST_LIST}, and records
+ * the index of every {@code PARAM_VALUE} the vehicle streams back. Once the stream ends, or stalls
+ * for longer than the timeout, the indices which were lost are requested individually with
+ * {@code PARAM_REQUEST_READ}. Up to {@link Builder#window(int) window} of these requests are kept
+ * in flight at once, and each received value immediately releases the request of the next missing
+ * index, so that a lossy link costs a few round trips rather than a request per parameter.
+ * <p>
+ * {@link #read(int, int, String) Reads} are served from the cache when possible.
+ * {@link #write(int, int, String, float, MavParamType) Writes} send {@code PARAM_SET} and complete
+ * when the vehicle reports the parameter back, so any number of writes can be outstanding at once.
+ * Unanswered requests are retransmitted after the timeout, up to the configured number of retries.
+ * <p>
+ * The client does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread:
+ * <pre>{@code
+ * ParameterClient parameters = ParameterClient.builder(connection).build();
+ * CompletableFuture<ParameterCache> download = parameters.fetchAll(1, 1);
+ * while (!download.isDone()) {
+ *     parameters.handle(connection.next());
+ * }
+ * }</pre>
+ * <p>
+ * Instances of this class are thread safe. Futures are completed by the thread which calls
+ * {@link #handle(MavlinkMessage)}, or by the timer thread.
+ */
+public class ParameterClient implements Closeable {
+
+    /**
+     * Builds parameter clients.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int window = 8;
+        private long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(500);
+        private int retries = 5;
+        private HashedTimerWheel timer;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which requests are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which requests are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of {@code PARAM_REQUEST_READ} requests which are in flight at
+         * once per vehicle while missing indices are filled. Defaults to 8.
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for an answer before a request is retransmitted, which is also how
+         * long a parameter stream may stall before it is considered to have ended. Defaults to
+         * 500ms.
+         */
+        public Builder timeout(long timeout, TimeUnit unit) {
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("timeout must be positive");
+            }
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Sets how many times an unanswered request is retransmitted before the operation fails.
+         * Defaults to 5.
+         */
+        public Builder retries(int retries) {
+            if (retries < 0) {
+                throw new IllegalArgumentException("retries must not be negative");
+            }
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Sets the timer which checks for timed out requests, so that it can be shared with other
+         * clients. By default, each client starts its own timer, which is closed when the client
+         * is closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use client.
+         */
+        public ParameterClient build() {
+            return new ParameterClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of clients which send requests through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    private final MavlinkConnection connection;
+    private final int systemId;
+    private final int componentId;
+    private final int window;
+    private final long timeoutNanos;
+    private final int retries;
+    private final LongSupplier clock;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final long periodNanos;
+
+    /**
+     * The state of each vehicle component, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, Vehicle> vehicles = new HashMap<>();
+    private HashedTimerWheel.Timeout periodic;
+    private boolean closed;
+
+    private ParameterClient(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        window = builder.window;
+        timeoutNanos = builder.timeoutNanos;
+        retries = builder.retries;
+        clock = builder.clock;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-parameters").build() : builder.timer;
+        periodNanos = Math.max(timeoutNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        synchronized (this) {
+            periodic = timer.schedule(this::check, periodNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the cache of the specified vehicle component, which is empty until parameters of
+     * the component are received.
+     */
+    public synchronized ParameterCache cache(int systemId, int componentId) {
+        return vehicle(systemId, componentId).cache;
+    }
+
+    /**
+     * Downloads all parameters of the specified vehicle component. If a download of the component
+     * is already in progress, its future is returned.
+     *
+     * @return A future which completes with the cache of the component once every parameter index
+     * has been received, or completes exceptionally with a {@link TimeoutException} if some
+     * parameters did not arrive within the configured retries.
+     */
+    public CompletableFuture<ParameterCache> fetchAll(int systemId, int componentId) {
+        Vehicle vehicle;
+        CompletableFuture<ParameterCache> future;
+        synchronized (this) {
+            checkOpen();
+            vehicle = vehicle(systemId, componentId);
+            if (vehicle.fetch != null) {
+                return vehicle.fetch;
+            }
+            future = vehicle.fetch = new CompletableFuture<>();
+            vehicle.cache.clearReceived();
+            vehicle.filling = false;
+            vehicle.cursor = 0;
+            vehicle.listAttempts = 1;
+            vehicle.deadline = clock.getAsLong() + timeoutNanos;
+        }
+        send(vehicle, requestList(vehicle));
+        return future;
+    }
+
+    /**
+     * Reads the specified parameter, from the cache if it has been received before, or from the
+     * vehicle otherwise.
+     *
+     * @return A future which completes with the value of the parameter.
+     */
+    public CompletableFuture<ParamValue> read(int systemId, int componentId, String paramId) {
+        ParamValue cached = cache(systemId, componentId).get(paramId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return request(systemId, componentId, paramId, ParamRequestRead.builder()
+                .targetSystem(systemId)
+                .targetComponent(componentId)
+                .paramId(paramId)
+                .paramIndex(-1)
+                .build(), false);
+    }
+
+    /**
+     * Writes the specified parameter, using the type it was last reported with.
+     *
+     * @throws IllegalStateException if the parameter has not been received before, in which case
+     *                               its type is unknown.
+     * @see #write(int, int, String, float, MavParamType)
+     */
+    public CompletableFuture<ParamValue> write(int systemId, int componentId, String paramId, float value) {
+        ParamValue cached = cache(systemId, componentId).get(paramId);
+        if (cached == null) {
+            throw new IllegalStateException("the type of parameter " + paramId + " is unknown");
+        }
+        return write(systemId, componentId, paramId, value, cached.paramType());
+    }
+
+    /**
+     * Writes the specified parameter. A write which is sent while an earlier write of the same
+     * parameter is unanswered replaces it, and both complete with the vehicle's answer.
+     *
+     * @return A future which completes with the value reported back by the vehicle, which differs
+     * from the written value if the vehicle rejected or adjusted it.
+     */
+    public CompletableFuture<ParamValue> write(
+            int systemId, int componentId, String paramId, float value, MavParamType type) {
+        return write(systemId, componentId, paramId, value, EnumValue.of(type));
+    }
+
+    private CompletableFuture<ParamValue> write(
+            int systemId, int componentId, String paramId, float value, EnumValue<MavParamType> type) {
+        return request(systemId, componentId, paramId, ParamSet.builder()
+                .targetSystem(systemId)
+                .targetComponent(componentId)
+                .paramId(paramId)
+                .paramValue(value)
+                .paramType(type)
+                .build(), true);
+    }
+
+    /**
+     * Processes a received message. Messages other than {@code PARAM_VALUE} are ignored.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        if (!(message.getPayload() instanceof ParamValue)) {
+            return;
+        }
+        ParamValue value = (ParamValue) message.getPayload();
+        List<CompletableFuture<ParamValue>> answered = null;
+        List<Object> outbound = null;
+        CompletableFuture<ParameterCache> fetched = null;
+        Vehicle vehicle;
+        synchronized (this) {
+            vehicle = vehicle(message.getOriginSystemId(), message.getOriginComponentId());
+            vehicle.cache.put(value);
+            Request request = vehicle.byId.remove(value.paramId());
+            if (request != null) {
+                answered = request.futures;
+            }
+            if (vehicle.fetch != null) {
+                vehicle.byIndex.remove(value.paramIndex());
+                if (!vehicle.filling) {
+                    vehicle.deadline = clock.getAsLong() + timeoutNanos;
+                    vehicle.filling = value.paramIndex() == vehicle.cache.count() - 1;
+                }
+                if (vehicle.cache.isComplete()) {
+                    fetched = vehicle.fetch;
+                    vehicle.endFetch();
+                } else if (vehicle.filling) {
+                    outbound = new ArrayList<>();
+                    refill(vehicle, outbound);
+                }
+            }
+        }
+        if (answered != null) {
+            answered.forEach(future -> future.complete(value));
+        }
+        if (fetched != null) {
+            fetched.complete(vehicle.cache);
+        }
+        if (outbound != null) {
+            outbound.forEach(payload -> send(vehicle, payload));
+        }
+    }
+
+    /**
+     * Fails all outstanding operations with a {@link CancellationException}, and closes the timer
+     * if it is owned by this client.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<?>> cancelled = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            periodic.cancel();
+            for (Vehicle vehicle : vehicles.values()) {
+                if (vehicle.fetch != null) {
+                    cancelled.add(vehicle.fetch);
+                    vehicle.endFetch();
+                }
+                vehicle.byId.values().forEach(request -> cancelled.addAll(request.futures));
+                vehicle.byId.clear();
+            }
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+        cancelled.forEach(future -> future.completeExceptionally(new CancellationException("client closed")));
+    }
+
+    /**
+     * Retransmits timed out requests, and fails operations which ran out of retries.
+     */
+    private void check() {
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            long now = clock.getAsLong();
+            for (Vehicle vehicle : vehicles.values()) {
+                if (vehicle.fetch != null) {
+                    checkFetch(vehicle, now, actions);
+                }
+                for (Iterator<Request> iterator = vehicle.byId.values().iterator(); iterator.hasNext(); ) {
+                    Request request = iterator.next();
+                    if (now - request.deadline < 0) {
+                        continue;
+                    }
+                    if (request.attempts > retries) {
+                        iterator.remove();
+                        TimeoutException timeout = new TimeoutException(String.format(
+                                "no answer from %d/%d about parameter %s after %d attempts",
+                                vehicle.systemId, vehicle.componentId, request.paramId, request.attempts));
+                        actions.add(() -> request.futures.forEach(f -> f.completeExceptionally(timeout)));
+                    } else {
+                        request.attempts++;
+                        request.deadline = now + timeoutNanos;
+                        actions.add(() -> send(vehicle, request.payload));
+                    }
+                }
+            }
+            periodic = timer.schedule(this::check, periodNanos, TimeUnit.NANOSECONDS);
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    private void checkFetch(Vehicle vehicle, long now, List<Runnable> actions) {
+        if (!vehicle.filling && now - vehicle.deadline >= 0) {
+            if (vehicle.cache.count() >= 0) {
+                // the stream stalled, so whatever is still missing was lost
+                vehicle.filling = true;
+            } else if (vehicle.listAttempts > retries) {
+                failFetch(vehicle, actions, "no parameters received from %d/%d after %d attempts",
+                        vehicle.systemId, vehicle.componentId, vehicle.listAttempts);
+                return;
+            } else {
+                vehicle.listAttempts++;
+                vehicle.deadline = now + timeoutNanos;
+                ParamRequestList requestList = requestList(vehicle);
+                actions.add(() -> send(vehicle, requestList));
+                return;
+            }
+        }
+        if (!vehicle.filling) {
+            return;
+        }
+        List<Object> outbound = new ArrayList<>();
+        for (Request request : vehicle.byIndex.values()) {
+            if (now - request.deadline < 0) {
+                continue;
+            }
+            if (request.attempts > retries) {
+                failFetch(vehicle, actions, "parameter %d of %d/%d did not arrive after %d attempts",
+                        request.index, vehicle.systemId, vehicle.componentId, request.attempts);
+                return;
+            }
+            request.attempts++;
+            request.deadline = now + timeoutNanos;
+            outbound.add(request.payload);
+        }
+        refill(vehicle, outbound);
+        outbound.forEach(payload -> actions.add(() -> send(vehicle, payload)));
+    }
+
+    /**
+     * Requests missing indices until the window is full.
+     */
+    private void refill(Vehicle vehicle, List<Object> outbound) {
+        long deadline = clock.getAsLong() + timeoutNanos;
+        while (vehicle.byIndex.size() < window) {
+            int index = vehicle.cache.nextMissing(vehicle.cursor);
+            if (index < 0) {
+                break;
+            }
+            vehicle.cursor = index + 1;
+            Request request = new Request(null, index, ParamRequestRead.builder()
+                    .targetSystem(vehicle.systemId)
+                    .targetComponent(vehicle.componentId)
+                    .paramId("")
+                    .paramIndex(index)
+                    .build(), deadline);
+            vehicle.byIndex.put(index, request);
+            outbound.add(request.payload);
+        }
+    }
+
+    private void failFetch(Vehicle vehicle, List<Runnable> actions, String format, Object... args) {
+        CompletableFuture<ParameterCache> fetch = vehicle.fetch;
+        vehicle.endFetch();
+        TimeoutException timeout = new TimeoutException(String.format(format, args));
+        actions.add(() -> fetch.completeExceptionally(timeout));
+    }
+
+    private CompletableFuture<ParamValue> request(
+            int systemId, int componentId, String paramId, Object payload, boolean replace) {
+        CompletableFuture<ParamValue> future = new CompletableFuture<>();
+        Vehicle vehicle;
+        synchronized (this) {
+            checkOpen();
+            vehicle = vehicle(systemId, componentId);
+            Request request = vehicle.byId.get(paramId);
+            if (request == null) {
+                request = new Request(paramId, -1, payload, 0);
+                vehicle.byId.put(paramId, request);
+            } else if (!replace) {
+                // the outstanding request will be answered with the same parameter
+                request.futures.add(future);
+                return future;
+            }
+            request.payload = payload;
+            request.attempts = 1;
+            request.deadline = clock.getAsLong() + timeoutNanos;
+            request.futures.add(future);
+        }
+        send(vehicle, payload);
+        return future;
+    }
+
+    private ParamRequestList requestList(Vehicle vehicle) {
+        return ParamRequestList.builder()
+                .targetSystem(vehicle.systemId)
+                .targetComponent(vehicle.componentId)
+                .build();
+    }
+
+    /**
+     * Sends the specified payload, failing all operations of the vehicle if the connection fails.
+     */
+    private void send(Vehicle vehicle, Object payload) {
+        try {
+            connection.send2(systemId, componentId, payload);
+        } catch (IOException e) {
+            List<CompletableFuture<?>> failed = new ArrayList<>();
+            synchronized (this) {
+                if (vehicle.fetch != null) {
+                    failed.add(vehicle.fetch);
+                    vehicle.endFetch();
+                }
+                vehicle.byId.values().forEach(request -> failed.addAll(request.futures));
+                vehicle.byId.clear();
+            }
+            failed.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Vehicle vehicle(int systemId, int componentId) {
+        return vehicles.computeIfAbsent(systemId << 8 | componentId, key -> new Vehicle(systemId, componentId));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("client closed");
+        }
+    }
+
+    private static final class Vehicle {
+        private final int systemId;
+        private final int componentId;
+        private final ParameterCache cache;
+
+        /**
+         * Outstanding reads and writes, keyed by parameter ID.
+         */
+        private final Map<String, Request> byId = new HashMap<>();
+
+        /**
+         * Outstanding requests of missing indices of the current download, keyed by index.
+         */
+        private final Map<Integer, Request> byIndex = new HashMap<>();
+
+        private CompletableFuture<ParameterCache> fetch;
+        private boolean filling;
+        private int cursor;
+        private int listAttempts;
+        private long deadline;
+
+        private Vehicle(int systemId, int componentId) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+            cache = new ParameterCache(systemId, componentId);
+        }
+
+        private void endFetch() {
+            fetch = null;
+            byIndex.clear();
+        }
+    }
+
+    private static final class Request {
+        private final String paramId;
+        private final int index;
+        private final List<CompletableFuture<ParamValue>> futures = new ArrayList<>(1);
+        private Object payload;
+        private int attempts = 1;
+        private long deadline;
+
+        private Request(String paramId, int index, Object payload, long deadline) {
+            this.paramId = paramId;
+            this.index = index;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+    }
+}
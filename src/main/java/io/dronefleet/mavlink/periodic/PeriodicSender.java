@@ -0,0 +1,313 @@
+package io.dronefleet.mavlink.periodic;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Sends messages periodically, such as heartbeats and manual control, to any number of vehicles
+ * through any number of {@link MavlinkConnection connections}, from the single thread of a
+ * {@link HashedTimerWheel}.
+ * <p>
+ * Each {@link Stream stream} encodes its message once when it is scheduled or
+ * {@link Stream#update(Object) updated}. Each time it is due, the encoded packet is queued on its
+ * connection, and once all streams due in a tick are queued, each connection writes its queued
+ * packets at once with {@link MavlinkConnection#sendEncoded(byte[][], int[], int)}, which only
+ * patches the sequence and CRC of each packet. The cost of a tick therefore grows with the number
+ * of packets which are due, rather than with the number of streams, and each connection is written
+ * to at most once per tick.
+ * <p>
+ * A stream which falls behind, because the timer was blocked, skips the sends it missed rather
+ * than sending them in a burst. Instances of this class are thread safe.
+ */
+public class PeriodicSender implements Closeable {
+
+    /**
+     * Builds periodic senders.
+     */
+    public static final class Builder {
+        private HashedTimerWheel timer;
+        private BiConsumer<MavlinkConnection, IOException> errorHandler;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the timer which sends the streams, so that it can be shared with other clients.
+         * By default, each sender starts its own timer, which is closed when the sender is
+         * closed. The tick of the timer bounds the precision of the periods.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the handler of failed writes, which is called on the timer thread. Streams of a
+         * connection which failed to write are still sent on the following ticks. By default,
+         * failures are passed to the uncaught exception handler of the timer thread.
+         */
+        public Builder errorHandler(BiConsumer<MavlinkConnection, IOException> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use sender.
+         */
+        public PeriodicSender build() {
+            return new PeriodicSender(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of periodic senders.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final BiConsumer<MavlinkConnection, IOException> errorHandler;
+    private final LongSupplier clock;
+    private final Runnable flush = this::flush;
+    private final Set<Stream> streams = ConcurrentHashMap.newKeySet();
+    private final Map<MavlinkConnection, Link> links = new ConcurrentHashMap<>();
+
+    /**
+     * The links which have packets queued during the current tick. Only accessed by the timer
+     * thread.
+     */
+    private final List<Link> queued = new ArrayList<>();
+
+    private PeriodicSender(Builder builder) {
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-periodic").build() : builder.timer;
+        errorHandler = builder.errorHandler != null ? builder.errorHandler : (connection, e) -> {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        };
+        clock = builder.clock;
+        timer.addTickListener(flush);
+    }
+
+    /**
+     * Starts sending the specified message through the specified connection on the next tick,
+     * and then once per period.
+     *
+     * @param connection  The connection to send the message through.
+     * @param systemId    The system ID that originates the message.
+     * @param componentId The component ID that originates the message.
+     * @param payload     The message to send.
+     * @param period      The interval between sends.
+     * @param unit        The unit of the period.
+     * @return The stream, which can be updated and cancelled.
+     */
+    public Stream schedule(MavlinkConnection connection, int systemId, int componentId,
+                           Object payload, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        Link link = links.compute(connection, (key, existing) -> {
+            Link scheduled = existing != null ? existing : new Link(key);
+            scheduled.streams++;
+            return scheduled;
+        });
+        Stream stream = new Stream(link, systemId, componentId, payload, unit.toNanos(period));
+        streams.add(stream);
+        synchronized (stream) {
+            stream.timeout = timer.schedule(stream::send, 0, TimeUnit.NANOSECONDS);
+        }
+        return stream;
+    }
+
+    /**
+     * Returns the number of streams which are scheduled.
+     */
+    public int streams() {
+        return streams.size();
+    }
+
+    /**
+     * Returns the number of connections which streams are scheduled on.
+     */
+    public int connections() {
+        return links.size();
+    }
+
+    /**
+     * Cancels all streams, and closes the timer if it is owned by this sender.
+     */
+    @Override
+    public void close() {
+        for (Stream stream : streams) {
+            stream.cancel();
+        }
+        timer.removeTickListener(flush);
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private void flush() {
+        if (queued.isEmpty()) {
+            return;
+        }
+        try {
+            for (Link link : queued) {
+                try {
+                    link.connection.sendEncoded(link.packets, link.crcExtras, link.count);
+                } catch (IOException e) {
+                    errorHandler.accept(link.connection, e);
+                }
+            }
+        } finally {
+            // if a write throws, the links after it drop the packets of this tick rather than
+            // staying out of the queue for good
+            for (Link link : queued) {
+                Arrays.fill(link.packets, 0, link.count, null);
+                link.count = 0;
+            }
+            queued.clear();
+        }
+    }
+
+    /**
+     * A message which is sent periodically.
+     */
+    public final class Stream {
+        private final Link link;
+        private final int systemId;
+        private final int componentId;
+        private final Class<?> messageType;
+        private final int crcExtra;
+        private final long periodNanos;
+        private volatile byte[] packet;
+        private volatile boolean cancelled;
+        private volatile long sent;
+        private HashedTimerWheel.Timeout timeout;
+        private long due;
+
+        private Stream(Link link, int systemId, int componentId, Object payload, long periodNanos) {
+            this.link = link;
+            this.systemId = systemId;
+            this.componentId = componentId;
+            this.messageType = payload.getClass();
+            this.crcExtra = MavlinkMessageDescriptor.of(messageType).crcExtra();
+            this.periodNanos = periodNanos;
+            this.packet = link.connection.encode2(systemId, componentId, payload);
+            this.due = clock.getAsLong();
+        }
+
+        /**
+         * Replaces the message which is sent, from the next send on, with the specified message
+         * of the same type.
+         *
+         * @throws IllegalArgumentException if the message is of another type.
+         */
+        public void update(Object payload) {
+            if (payload.getClass() != messageType) {
+                throw new IllegalArgumentException("a stream of " + messageType.getSimpleName()
+                        + " cannot send " + payload.getClass().getSimpleName());
+            }
+            packet = link.connection.encode2(systemId, componentId, payload);
+        }
+
+        /**
+         * Stops sending the message.
+         */
+        public synchronized void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            streams.remove(this);
+            links.computeIfPresent(link.connection, (key, existing) -> --existing.streams > 0 ? existing : null);
+        }
+
+        /**
+         * Returns whether the stream was cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns the number of times the message was queued for sending.
+         */
+        public long sent() {
+            return sent;
+        }
+
+        private synchronized void send() {
+            if (cancelled) {
+                return;
+            }
+            link.queue(packet, crcExtra);
+            sent++;
+            long now = clock.getAsLong();
+            do {
+                due += periodNanos;
+            } while (due <= now);
+            timeout = timer.schedule(this::send, due - now, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The packets queued for a connection during the current tick, which are only accessed by the
+     * timer thread. A link is removed from {@link #links} once the last of its streams is
+     * cancelled.
+     */
+    private final class Link {
+        private final MavlinkConnection connection;
+        private byte[][] packets = new byte[4][];
+        private int[] crcExtras = new int[4];
+        private int count;
+
+        /**
+         * The number of streams which are scheduled on the link, which is only changed while
+         * computing its entry of {@link #links}.
+         */
+        private int streams;
+
+        private Link(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        private void queue(byte[] packet, int crcExtra) {
+            if (count == 0) {
+                queued.add(this);
+            }
+            if (count == packets.length) {
+                packets = Arrays.copyOf(packets, count * 2);
+                crcExtras = Arrays.copyOf(crcExtras, count * 2);
+            }
+            packets[count] = packet;
+            crcExtras[count] = crcExtra;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.dronefleet.mavlink.rates;
+
+/**
+ * The measured rate and bandwidth of a message of a vehicle component, and the rate requested
+ * for it, if any. Instances of this class are immutable.
+ */
+public final class MessageRate {
+
+    private final int systemId;
+    private final int componentId;
+    private final int messageId;
+    private final Class<?> messageType;
+    private final double desiredRate;
+    private final double measuredRate;
+    private final double bytesPerSecond;
+    private final int requests;
+
+    MessageRate(int systemId, int componentId, int messageId, Class<?> messageType,
+                double desiredRate, double measuredRate, double bytesPerSecond, int requests) {
+        this.systemId = systemId;
+        this.componentId = componentId;
+        this.messageId = messageId;
+        this.messageType = messageType;
+        this.desiredRate = desiredRate;
+        this.measuredRate = measuredRate;
+        this.bytesPerSecond = bytesPerSecond;
+        this.requests = requests;
+    }
+
+    /**
+     * Returns the ID of the system which sends the message.
+     */
+    public int systemId() {
+        return systemId;
+    }
+
+    /**
+     * Returns the ID of the component which sends the message.
+     */
+    public int componentId() {
+        return componentId;
+    }
+
+    /**
+     * Returns the ID of the message.
+     */
+    public int messageId() {
+        return messageId;
+    }
+
+    /**
+     * Returns the type of the message.
+     */
+    public Class<?> messageType() {
+        return messageType;
+    }
+
+    /**
+     * Returns whether a rate was requested for the message.
+     */
+    public boolean isManaged() {
+        return !Double.isNaN(desiredRate);
+    }
+
+    /**
+     * Returns the requested rate in messages per second, or {@code NaN} if no rate was requested.
+     */
+    public double desiredRate() {
+        return desiredRate;
+    }
+
+    /**
+     * Returns the measured rate in messages per second.
+     */
+    public double measuredRate() {
+        return measuredRate;
+    }
+
+    /**
+     * Returns the measured bandwidth of the message, in bytes per second, including the headers
+     * and checksums of its packets.
+     */
+    public double bytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns the number of times the rate was requested from the vehicle.
+     */
+    public int requests() {
+        return requests;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageRate{system=" + systemId
+                + ", component=" + componentId
+                + ", message=" + messageType.getSimpleName()
+                + ", desiredRate=" + desiredRate
+                + ", measuredRate=" + measuredRate
+                + ", bytesPerSecond=" + bytesPerSecond
+                + ", requests=" + requests
+                + "}";
+    }
+}
@@ -0,0 +1,82 @@
+package io.dronefleet.mavlink.rates;
+
+/**
+ * <p>
+ * Estimates the rate at which a message arrives, and the bytes per second it takes, as
+ * exponentially weighted moving averages over a time constant. Arrivals are counted with a weight
+ * which decays by {@code e^(-t/timeConstant)}, and the count is divided by the decayed weight of
+ * the time observed; unlike an average of intervals, this does not depend on how regularly
+ * messages arrive, and until a time constant elapsed it averages over the time observed.
+ * <p>
+ * The estimate is taken at each arrival, counting the arrivals which bound the time observed by
+ * half, as the trapezoidal rule does, so that it does not rise and fall between the arrivals of
+ * slow messages. Between arrivals it is held, but never exceeds two messages per time since the
+ * last arrival, so that it decays once messages stop, while a late message of a jittery stream
+ * does not show as a drop of its rate. Instances of this class are thread safe.
+ */
+final class RateEstimator {
+
+    private double timeConstantNanos;
+    private boolean started;
+    private long startedAt;
+    private long lastAt;
+    private double count;
+    private double bytes;
+    private double rate;
+
+    RateEstimator(long timeConstantNanos) {
+        this.timeConstantNanos = timeConstantNanos;
+    }
+
+    /**
+     * Adds an arrival of a message of the specified length.
+     */
+    synchronized void add(long now, int length) {
+        if (!started) {
+            // the first arrival only starts the time observed
+            started = true;
+            startedAt = now;
+            lastAt = now;
+            return;
+        }
+        double decay = Math.exp(-Math.max(now - lastAt, 0) / timeConstantNanos);
+        count = count * decay + 1;
+        bytes = bytes * decay + length;
+        lastAt = Math.max(now, lastAt);
+        double age = lastAt - startedAt;
+        if (age > 0) {
+            double start = Math.exp(-age / timeConstantNanos);
+            rate = (count - 0.5 + 0.5 * start) / (timeConstantNanos * (1 - start)) * 1e9;
+        }
+    }
+
+    /**
+     * Restarts the estimate with the specified time constant, such as when the rate is expected
+     * to change.
+     */
+    synchronized void reset(long timeConstantNanos) {
+        this.timeConstantNanos = timeConstantNanos;
+        started = false;
+        count = 0;
+        bytes = 0;
+        rate = 0;
+    }
+
+    /**
+     * Returns the estimated rate, in messages per second.
+     */
+    synchronized double rate(long now) {
+        if (rate == 0) {
+            return 0;
+        }
+        long silence = now - lastAt;
+        return silence > 0 ? Math.min(rate, 2e9 / silence) : rate;
+    }
+
+    /**
+     * Returns the estimated bandwidth, in bytes per second.
+     */
+    synchronized double bytesPerSecond(long now) {
+        return count > 0 ? rate(now) * bytes / count : 0;
+    }
+}
@@ -0,0 +1,471 @@
+package io.dronefleet.mavlink.rates;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.common.CommandLong;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavDataStream;
+import io.dronefleet.mavlink.common.RequestDataStream;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Requests the rates at which vehicle components stream their messages, measures the rates at
+ * which the messages actually arrive, and requests them again when they drift, such as when an
+ * autopilot reboots and reverts to its default rates.
+ * <p>
+ * Rates are requested with {@code MAV_CMD_SET_MESSAGE_INTERVAL}, or with the legacy
+ * {@code REQUEST_DATA_STREAM} for autopilots which only support data streams. Requests are not
+ * acknowledged reliably by all autopilots, so the measured rate is what confirms them: once a
+ * request had time to take effect, a measured rate which differs from the requested rate by more
+ * than the tolerance is requested again. Repeated requests back off exponentially, so that a
+ * vehicle which ignores them does not take up a constrained link with commands, and requests are
+ * only sent to vehicles which were heard from recently.
+ * <p>
+ * The rate and bandwidth of every received message are measured, whether a rate was requested
+ * for it or not, and {@link #report()} lists them by bandwidth, which shows where the bandwidth
+ * of a link goes.
+ * <p>
+ * The service does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread
+ * safe.
+ */
+public class RateManager implements Closeable {
+
+    /**
+     * Builds rate managers.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private long timeConstantNanos = TimeUnit.SECONDS.toNanos(2);
+        private double tolerance = 0.2;
+        private long intervalNanos = TimeUnit.SECONDS.toNanos(1);
+        private long initialHoldoffNanos = TimeUnit.SECONDS.toNanos(5);
+        private long maxHoldoffNanos = TimeUnit.SECONDS.toNanos(60);
+        private HashedTimerWheel timer;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the time constant of the moving averages of rates, which is about how long a
+         * change of rate takes to show. Defaults to 2s. The time constant of a message which is
+         * requested at a rate is at least five of its periods, since an average over fewer
+         * arrivals overestimates the rate right after each arrival.
+         */
+        public Builder timeConstant(long timeConstant, TimeUnit unit) {
+            if (timeConstant <= 0) {
+                throw new IllegalArgumentException("time constant must be positive");
+            }
+            this.timeConstantNanos = unit.toNanos(timeConstant);
+            return this;
+        }
+
+        /**
+         * Sets the relative difference between the measured and requested rates above which a
+         * rate is requested again. Defaults to 0.2.
+         */
+        public Builder tolerance(double tolerance) {
+            if (!(tolerance > 0)) {
+                throw new IllegalArgumentException("tolerance must be positive");
+            }
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        /**
+         * Sets the interval between checks of the measured rates. Defaults to 1s.
+         */
+        public Builder interval(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("interval must be positive");
+            }
+            this.intervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * Sets how long a request is given to take effect before the measured rate is checked
+         * again, which doubles with every request which did not take effect, up to the maximum.
+         * Defaults to 5s and 60s. The holdoff of a message is at least five of its periods.
+         */
+        public Builder holdoff(long initial, long max, TimeUnit unit) {
+            if (initial <= 0 || initial > max) {
+                throw new IllegalArgumentException("holdoffs must be positive, and the initial must not exceed the maximum");
+            }
+            this.initialHoldoffNanos = unit.toNanos(initial);
+            this.maxHoldoffNanos = unit.toNanos(max);
+            return this;
+        }
+
+        /**
+         * Sets the timer which checks the rates, so that it can be shared with other clients. By
+         * default, each manager starts its own timer, which is closed when the manager is closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use manager.
+         */
+        public RateManager build() {
+            return new RateManager(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of managers which send requests through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    private final MavlinkConnection connection;
+    private final int systemId;
+    private final int componentId;
+    private final long timeConstantNanos;
+    private final double tolerance;
+    private final long intervalNanos;
+    private final long initialHoldoffNanos;
+    private final long maxHoldoffNanos;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final LongSupplier clock;
+
+    /**
+     * Vehicle components, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, Vehicle> vehicles = new ConcurrentHashMap<>();
+
+    private HashedTimerWheel.Timeout periodic;
+    private boolean closed;
+
+    private RateManager(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        timeConstantNanos = builder.timeConstantNanos;
+        tolerance = builder.tolerance;
+        intervalNanos = builder.intervalNanos;
+        initialHoldoffNanos = builder.initialHoldoffNanos;
+        maxHoldoffNanos = builder.maxHoldoffNanos;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-rates").build() : builder.timer;
+        clock = builder.clock;
+        synchronized (this) {
+            periodic = timer.schedule(this::check, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Requests the specified vehicle component to send the specified message at the specified
+     * rate, with {@code MAV_CMD_SET_MESSAGE_INTERVAL}, and keeps it at that rate.
+     *
+     * @param messageType The type of the message.
+     * @param rate        The rate in messages per second, or 0 to stop the message.
+     * @throws UncheckedIOException if the request cannot be sent.
+     */
+    public void setRate(int systemId, int componentId, Class<?> messageType, double rate) {
+        manage(systemId, componentId, messageType, rate, null);
+    }
+
+    /**
+     * Requests the specified vehicle component to send the data stream which includes the
+     * specified message at the specified rate, with the legacy {@code REQUEST_DATA_STREAM}, and
+     * keeps the message at that rate. Data streams only support whole rates, so positive rates
+     * are rounded, to at least 1.
+     *
+     * @param messageType The type of the message, which is measured.
+     * @param rate        The rate in messages per second, or 0 to stop the stream.
+     * @param stream      The data stream which includes the message.
+     * @throws UncheckedIOException if the request cannot be sent.
+     */
+    public void setRate(int systemId, int componentId, Class<?> messageType, double rate, MavDataStream stream) {
+        manage(systemId, componentId, messageType, rate, stream);
+    }
+
+    /**
+     * Stops keeping the specified message at a rate. The message is still measured, and the
+     * vehicle is not asked to change its rate.
+     */
+    public void clearRate(int systemId, int componentId, Class<?> messageType) {
+        Vehicle vehicle = vehicles.get(systemId << 8 | componentId);
+        Message message = vehicle != null
+                ? vehicle.messages.get(MavlinkMessageDescriptor.of(messageType).id())
+                : null;
+        if (message != null) {
+            synchronized (message) {
+                message.desiredRate = Double.NaN;
+                message.stream = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the rate of the specified message of the specified vehicle component, or
+     * {@code null} if it was neither received nor requested.
+     */
+    public MessageRate rate(int systemId, int componentId, Class<?> messageType) {
+        Vehicle vehicle = vehicles.get(systemId << 8 | componentId);
+        Message message = vehicle != null
+                ? vehicle.messages.get(MavlinkMessageDescriptor.of(messageType).id())
+                : null;
+        return message != null ? message.snapshot(clock.getAsLong()) : null;
+    }
+
+    /**
+     * Returns the rates of all messages which were received or requested, with those which take
+     * the most bandwidth first.
+     */
+    public List<MessageRate> report() {
+        long now = clock.getAsLong();
+        List<MessageRate> report = new ArrayList<>();
+        for (Vehicle vehicle : vehicles.values()) {
+            for (Message message : vehicle.messages.values()) {
+                report.add(message.snapshot(now));
+            }
+        }
+        report.sort(Comparator.comparingDouble(MessageRate::bytesPerSecond).reversed());
+        return report;
+    }
+
+    /**
+     * Returns the total measured bandwidth of all messages received, in bytes per second.
+     */
+    public double bytesPerSecond() {
+        long now = clock.getAsLong();
+        double total = 0;
+        for (Vehicle vehicle : vehicles.values()) {
+            for (Message message : vehicle.messages.values()) {
+                total += message.estimator.bytesPerSecond(now);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Measures a received message.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        long now = clock.getAsLong();
+        Vehicle vehicle = vehicle(message.getOriginSystemId(), message.getOriginComponentId());
+        vehicle.heardAt = now;
+        Message measured = vehicle.messages.get(message.getMessageId());
+        if (measured == null) {
+            Class<?> messageType = message.getPayload().getClass();
+            measured = vehicle.messages.computeIfAbsent(message.getMessageId(),
+                    id -> new Message(vehicle, id, messageType));
+        }
+        measured.estimator.add(now, message.getLength());
+    }
+
+    /**
+     * Stops checking the rates, and closes the timer if it is owned by this manager. The vehicles
+     * keep the rates which were requested.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            periodic.cancel();
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private void manage(int systemId, int componentId, Class<?> messageType, double rate, MavDataStream stream) {
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("rate must be positive or 0");
+        }
+        int messageId = MavlinkMessageDescriptor.of(messageType).id();
+        Vehicle vehicle = vehicle(systemId, componentId);
+        Message message = vehicle.messages.computeIfAbsent(messageId, id -> new Message(vehicle, id, messageType));
+        synchronized (message) {
+            message.desiredRate = rate;
+            message.stream = stream;
+            message.holdoffNanos = initialHoldoffNanos;
+            message.request(clock.getAsLong());
+        }
+    }
+
+    private Vehicle vehicle(int systemId, int componentId) {
+        int key = systemId << 8 | componentId;
+        Vehicle vehicle = vehicles.get(key);
+        return vehicle != null ? vehicle : vehicles.computeIfAbsent(key, k -> new Vehicle(systemId, componentId));
+    }
+
+    private synchronized void check() {
+        if (closed) {
+            return;
+        }
+        long now = clock.getAsLong();
+        for (Vehicle vehicle : vehicles.values()) {
+            // a vehicle which is not heard from cannot be measured, and requests may not reach it
+            if (now - vehicle.heardAt > timeConstantNanos) {
+                continue;
+            }
+            for (Message message : vehicle.messages.values()) {
+                synchronized (message) {
+                    message.check(now);
+                }
+            }
+        }
+        periodic = timer.schedule(this::check, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void send(Object payload) throws IOException {
+        connection.send2(systemId, componentId, payload);
+    }
+
+    private static final class Vehicle {
+        final int systemId;
+        final int componentId;
+        final Map<Integer, Message> messages = new ConcurrentHashMap<>();
+        volatile long heardAt = Long.MIN_VALUE / 2;
+
+        Vehicle(int systemId, int componentId) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+        }
+    }
+
+    /**
+     * A message of a vehicle component. Methods other than those of the estimator are called
+     * while holding the lock of the message.
+     */
+    private final class Message {
+        final Vehicle vehicle;
+        final int messageId;
+        final Class<?> messageType;
+        final RateEstimator estimator = new RateEstimator(timeConstantNanos);
+        double desiredRate = Double.NaN;
+        MavDataStream stream;
+        long holdoffNanos;
+        long checkAt;
+        int requests;
+
+        Message(Vehicle vehicle, int messageId, Class<?> messageType) {
+            this.vehicle = vehicle;
+            this.messageId = messageId;
+            this.messageType = messageType;
+        }
+
+        void check(long now) {
+            if (Double.isNaN(desiredRate) || now < checkAt) {
+                return;
+            }
+            double measured = estimator.rate(now);
+            // a rate of 0 is only told apart from a slow rate by the time constant
+            double allowed = tolerance * Math.max(desiredRate, 1e9 / timeConstant());
+            if (Math.abs(measured - desiredRate) <= allowed) {
+                holdoffNanos = initialHoldoffNanos;
+                return;
+            }
+            holdoffNanos = Math.min(holdoffNanos * 2, maxHoldoffNanos);
+            try {
+                request(now);
+            } catch (UncheckedIOException e) {
+                // the link may recover, and the rate is checked again regardless
+            }
+        }
+
+        void request(long now) {
+            requests++;
+            estimator.reset(timeConstant());
+            long holdoff = holdoffNanos;
+            if (desiredRate > 0) {
+                holdoff = Math.max(holdoff, (long) (5e9 / desiredRate));
+            }
+            checkAt = now + holdoff;
+            try {
+                send(stream == null ? setMessageInterval() : requestDataStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns the time constant of the estimate of the message, which spans at least five of
+         * its requested periods.
+         */
+        private long timeConstant() {
+            return desiredRate > 0 ? Math.max(timeConstantNanos, (long) (5e9 / desiredRate)) : timeConstantNanos;
+        }
+
+        private CommandLong setMessageInterval() {
+            return CommandLong.builder()
+                    .targetSystem(vehicle.systemId)
+                    .targetComponent(vehicle.componentId)
+                    .command(MavCmd.MAV_CMD_SET_MESSAGE_INTERVAL)
+                    .param1(messageId)
+                    // the interval in microseconds, where -1 disables the message
+                    .param2(desiredRate > 0 ? (float) (1e6 / desiredRate) : -1)
+                    .build();
+        }
+
+        private RequestDataStream requestDataStream() {
+            return RequestDataStream.builder()
+                    .targetSystem(vehicle.systemId)
+                    .targetComponent(vehicle.componentId)
+                    .reqStreamId(EnumValue.of(stream).value())
+                    .reqMessageRate(desiredRate > 0 ? (int) Math.max(Math.round(desiredRate), 1) : 0)
+                    .startStop(desiredRate > 0 ? 1 : 0)
+                    .build();
+        }
+
+        MessageRate snapshot(long now) {
+            double desired;
+            int requested;
+            synchronized (this) {
+                desired = desiredRate;
+                requested = requests;
+            }
+            return new MessageRate(vehicle.systemId, vehicle.componentId, messageId, messageType,
+                    desired, estimator.rate(now), estimator.bytesPerSecond(now), requested);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.dronefleet.mavlink.rtcm;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.common.GpsRtcmData;
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Injects RTK corrections from a base station into any number of vehicles, as
+ * {@code GPS_RTCM_DATA} messages sent through every subscribed {@link MavlinkConnection}.
+ * <p>
+ * Each correction is split into fragments of up to {@value #FRAGMENT_LENGTH} bytes, which carry
+ * their fragment ID and the sequence ID of the correction in their flags, and the fragments are
+ * encoded into packets once. The same packets are then written to every connection, each with a
+ * single write, which only patches the sequence and CRC of each packet for the connection. The
+ * payloads of the packets are truncated after their last non-zero byte, as Mavlink 2 allows, so
+ * that the short last fragment of a correction does not take up the whole data field.
+ * <p>
+ * Corrections are written by the thread which injects them, without queueing, so that they reach
+ * the links as soon as they are read from the base station, and a connection which blocks delays
+ * the connections after it. Instances of this class are thread safe.
+ */
+public class RtcmInjector {
+
+    /**
+     * Builds RTCM injectors.
+     */
+    public static final class Builder {
+        private int systemId = 255;
+        private int componentId = 190;
+        private BiConsumer<MavlinkConnection, IOException> errorHandler;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the handler of failed writes, which is called by the injecting thread. By
+         * default, {@link #inject(byte[], int, int)} throws the first failure once the correction
+         * was written to all other connections.
+         */
+        public Builder errorHandler(BiConsumer<MavlinkConnection, IOException> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use injector.
+         */
+        public RtcmInjector build() {
+            return new RtcmInjector(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of RTCM injectors.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The length of the data field of {@code GPS_RTCM_DATA}.
+     */
+    public static final int FRAGMENT_LENGTH = 180;
+
+    /**
+     * The longest correction which can be injected. A correction is sent in at most 4 fragments,
+     * and its last fragment must be shorter than the data field to end it.
+     */
+    public static final int MAX_LENGTH = 4 * FRAGMENT_LENGTH - 1;
+
+    private static final MavlinkMessageDescriptor DESCRIPTOR = MavlinkMessageDescriptor.of(GpsRtcmData.class);
+
+    private final int systemId;
+    private final int componentId;
+    private final BiConsumer<MavlinkConnection, IOException> errorHandler;
+    private final CopyOnWriteArrayList<MavlinkConnection> connections = new CopyOnWriteArrayList<>();
+
+    /**
+     * The packets of the correction being injected, which are patched for each connection in
+     * turn. Guarded by the lock of the injector.
+     */
+    private final byte[][] packets = new byte[4][];
+    private final int[] crcExtras = new int[4];
+    private int sequence;
+
+    private RtcmInjector(Builder builder) {
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        errorHandler = builder.errorHandler;
+        Arrays.fill(crcExtras, DESCRIPTOR.crcExtra());
+    }
+
+    /**
+     * Starts sending corrections through the specified connection, from the next correction on.
+     */
+    public void subscribe(MavlinkConnection connection) {
+        connections.addIfAbsent(connection);
+    }
+
+    /**
+     * Stops sending corrections through the specified connection.
+     */
+    public void unsubscribe(MavlinkConnection connection) {
+        connections.remove(connection);
+    }
+
+    /**
+     * Returns the number of subscribed connections.
+     */
+    public int subscribers() {
+        return connections.size();
+    }
+
+    /**
+     * Injects a correction.
+     *
+     * @see #inject(byte[], int, int)
+     */
+    public int inject(byte[] correction) {
+        return inject(correction, 0, correction.length);
+    }
+
+    /**
+     * Sends a correction through all subscribed connections.
+     *
+     * @param correction The buffer which holds the correction, such as a complete RTCM frame.
+     * @param offset     The offset of the correction in the buffer.
+     * @param length     The length of the correction, of at most {@value #MAX_LENGTH} bytes.
+     * @return The number of fragments the correction was sent as.
+     * @throws IllegalArgumentException if the correction is too long, or is not within the buffer.
+     * @throws UncheckedIOException     if no error handler is set, and the correction cannot be
+     *                                  written to a connection.
+     */
+    public synchronized int inject(byte[] correction, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > correction.length - length) {
+            throw new IllegalArgumentException("correction [" + offset + ", " + ((long) offset + length)
+                    + ") is outside of a buffer of " + correction.length + " bytes");
+        }
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("corrections are limited to " + MAX_LENGTH + " bytes, got " + length);
+        }
+        int count = fragment(correction, offset, length);
+        IOException failure = null;
+        for (MavlinkConnection connection : connections) {
+            try {
+                connection.sendEncoded(packets, crcExtras, count);
+            } catch (IOException e) {
+                if (errorHandler != null) {
+                    errorHandler.accept(connection, e);
+                } else if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+        return count;
+    }
+
+    /**
+     * Encodes the fragments of a correction into {@link #packets}.
+     *
+     * @return The number of fragments.
+     */
+    private int fragment(byte[] correction, int offset, int length) {
+        int id = sequence++ & 0x1f;
+        if (length <= FRAGMENT_LENGTH) {
+            packets[0] = encode(id << 3, correction, offset, length);
+            return 1;
+        }
+        // a fragment shorter than the data field ends the correction, so a correction of whole
+        // fragments ends with an empty one
+        int count = length / FRAGMENT_LENGTH + 1;
+        for (int fragment = 0; fragment < count; fragment++) {
+            int start = fragment * FRAGMENT_LENGTH;
+            int fragmentLength = Math.min(FRAGMENT_LENGTH, length - start);
+            packets[fragment] = encode(id << 3 | fragment << 1 | 1, correction, offset + start, fragmentLength);
+        }
+        return count;
+    }
+
+    private byte[] encode(int flags, byte[] correction, int offset, int length) {
+        // the fields are all single bytes, so they are on the wire in the order they are declared
+        byte[] payload = new byte[2 + length];
+        payload[0] = (byte) flags;
+        payload[1] = (byte) length;
+        System.arraycopy(correction, offset, payload, 2, length);
+        int end = payload.length;
+        while (end > 1 && payload[end - 1] == 0) {
+            end--;
+        }
+        return MavlinkPacket.createUnsignedMavlink2Packet(0, systemId, componentId, DESCRIPTOR.id(),
+                DESCRIPTOR.crcExtra(), end < payload.length ? Arrays.copyOf(payload, end) : payload)
+                .getRawBytes();
+    }
+}
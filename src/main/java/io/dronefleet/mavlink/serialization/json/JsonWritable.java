@@ -0,0 +1,16 @@
+package io.dronefleet.mavlink.serialization.json;
+
+/**
+ * Implemented by generated messages, which write their fields to a {@link JsonWriter} through
+ * generated code rather than through reflection.
+ */
+public interface JsonWritable {
+
+    /**
+     * Writes this message as a JSON object, with a member per field named after the accessor of
+     * the field.
+     *
+     * @param writer The writer to write to.
+     */
+    void writeJson(JsonWriter writer);
+}
@@ -0,0 +1,486 @@
+package io.dronefleet.mavlink.serialization.json;
+
+import io.dronefleet.mavlink.util.DoubleArrayList;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * A reusable, streaming writer of UTF-8 encoded JSON, which generated messages write themselves to
+ * through {@link JsonWritable#writeJson(JsonWriter)} without reflection.
+ * <p>
+ * Values are encoded directly into an internal byte buffer which grows as needed, and which is
+ * kept across calls to {@link #reset()}, so that encoding a stream of messages with a single
+ * writer does not allocate per message beyond the formatting of floating point numbers. Enum
+ * values are written as the names of their entries, or as numbers when they do not match a single
+ * entry, such as with bitmasks. Non-finite floating point numbers are written as {@code null},
+ * since JSON cannot represent them. For example:
+ * <pre>{@code
+ * JsonWriter writer = new JsonWriter();
+ * while (true) {
+ *     MavlinkMessage message = connection.next();
+ *     writer.reset();
+ *     writer.value((JsonWritable) message.getPayload());
+ *     writer.writeTo(out);
+ * }
+ * }</pre>
+ * Writers are not thread safe, and do not validate that names and values are nested correctly.
+ */
+public final class JsonWriter {
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_DEPTH = 63;
+
+    private final StringBuilder scratch = new StringBuilder(32);
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * A bit per nesting level, set when the level already holds a value and the next value must
+     * be preceded by a comma.
+     */
+    private long separators;
+    private int depth;
+    private boolean afterName;
+
+    public JsonWriter() {
+        this(256);
+    }
+
+    /**
+     * @param initialCapacity The initial capacity of the buffer, in bytes.
+     */
+    public JsonWriter(int initialCapacity) {
+        buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Discards everything written so far, keeping the buffer for reuse.
+     *
+     * @return This writer.
+     */
+    public JsonWriter reset() {
+        size = 0;
+        separators = 0;
+        depth = 0;
+        afterName = false;
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name The name to write.
+     * @return This writer.
+     */
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        write((byte) ':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        separate();
+        write(NULL);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separate();
+        write(value ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonWriter value(int value) {
+        return value((long) value);
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Writes the unsigned value of the specified bits, as held by {@code uint64_t} fields which
+     * are generated as {@code long}.
+     */
+    public JsonWriter unsignedValue(long value) {
+        if (value >= 0) {
+            return value(value);
+        }
+        separate();
+        // the quotient is positive, and the remainder is a single digit
+        long quotient = (value >>> 1) / 5;
+        writeLong(quotient);
+        write((byte) ('0' + (value - quotient * 10)));
+        return this;
+    }
+
+    public JsonWriter value(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return nullValue();
+        }
+        separate();
+        scratch.setLength(0);
+        scratch.append(value);
+        writeAscii(scratch);
+        return this;
+    }
+
+    public JsonWriter value(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        separate();
+        scratch.setLength(0);
+        scratch.append(value);
+        writeAscii(scratch);
+        return this;
+    }
+
+    public JsonWriter value(BigInteger value) {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value.bitLength() < 64) {
+            return value(value.longValue());
+        }
+        separate();
+        scratch.setLength(0);
+        scratch.append(value);
+        writeAscii(scratch);
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes the name of the entry of the specified value, or its numeric value if it does not
+     * match a single entry.
+     */
+    public JsonWriter value(EnumValue<?> value) {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value.entry() != null) {
+            return value(value.entry().name());
+        }
+        return value(value.value());
+    }
+
+    /**
+     * Writes an array of the unsigned bytes of the specified array.
+     */
+    public JsonWriter value(byte[] values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (byte value : values) {
+            value(value & 0xff);
+        }
+        return endArray();
+    }
+
+    public JsonWriter value(IntArrayList values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (int i = 0; i < values.size(); i++) {
+            value(values.getInt(i));
+        }
+        return endArray();
+    }
+
+    public JsonWriter value(LongArrayList values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (int i = 0; i < values.size(); i++) {
+            value(values.getLong(i));
+        }
+        return endArray();
+    }
+
+    public JsonWriter value(FloatArrayList values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (int i = 0; i < values.size(); i++) {
+            value(values.getFloat(i));
+        }
+        return endArray();
+    }
+
+    public JsonWriter value(DoubleArrayList values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (int i = 0; i < values.size(); i++) {
+            value(values.getDouble(i));
+        }
+        return endArray();
+    }
+
+    /**
+     * Writes an array of the specified values, which may be numbers, strings, enum values or
+     * {@code null}.
+     */
+    public JsonWriter value(List<?> values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (Object value : values) {
+            if (value == null) {
+                nullValue();
+            } else if (value instanceof EnumValue) {
+                value((EnumValue<?>) value);
+            } else if (value instanceof BigInteger) {
+                value((BigInteger) value);
+            } else if (value instanceof Float || value instanceof Double) {
+                value(((Number) value).doubleValue());
+            } else if (value instanceof Number) {
+                value(((Number) value).longValue());
+            } else {
+                value(value.toString());
+            }
+        }
+        return endArray();
+    }
+
+    /**
+     * Writes the specified message as an object.
+     */
+    public JsonWriter value(JsonWritable value) {
+        if (value == null) {
+            return nullValue();
+        }
+        value.writeJson(this);
+        return this;
+    }
+
+    /**
+     * Writes a line feed, which separates top-level values when writing newline delimited JSON.
+     *
+     * @return This writer.
+     */
+    public JsonWriter newLine() {
+        write((byte) '\n');
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written since the last reset.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the internal buffer, which holds the written bytes in the range {@code [0, size())}.
+     * The buffer is only valid until the next write.
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Copies the written bytes into the specified buffer.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.put(buffer, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private JsonWriter open(char bracket) {
+        separate();
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON nested deeper than " + MAX_DEPTH + " levels");
+        }
+        write((byte) bracket);
+        depth++;
+        separators &= ~(1L << depth);
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) {
+            throw new IllegalStateException("no open object or array to close");
+        }
+        depth--;
+        write((byte) bracket);
+        return this;
+    }
+
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        long bit = 1L << depth;
+        if ((separators & bit) != 0 && depth > 0) {
+            write((byte) ',');
+        }
+        separators |= bit;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii("-9223372036854775808");
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        int position = size + digits;
+        do {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        size += digits;
+    }
+
+    private void writeString(String value) {
+        ensureCapacity(value.length() + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                write((byte) '\\');
+                write((byte) c);
+            } else if (c < 0x20) {
+                writeEscaped(c);
+            } else if (c < 0x80) {
+                write((byte) c);
+            } else if (c < 0x800) {
+                write((byte) (0xc0 | (c >> 6)));
+                write((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                write((byte) (0xf0 | (codePoint >> 18)));
+                write((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                write((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                write((byte) (0x80 | (codePoint & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates cannot be encoded
+                write((byte) '?');
+            } else {
+                write((byte) (0xe0 | (c >> 12)));
+                write((byte) (0x80 | ((c >> 6) & 0x3f)));
+                write((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        write((byte) '"');
+    }
+
+    private void writeEscaped(char c) {
+        write((byte) '\\');
+        switch (c) {
+            case '\n':
+                write((byte) 'n');
+                break;
+            case '\r':
+                write((byte) 'r');
+                break;
+            case '\t':
+                write((byte) 't');
+                break;
+            default:
+                write((byte) 'u');
+                write((byte) '0');
+                write((byte) '0');
+                write(HEX[c >> 4]);
+                write(HEX[c & 0xf]);
+        }
+    }
+
+    private void writeAscii(CharSequence value) {
+        ensureCapacity(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void write(byte b) {
+        if (size == buffer.length) {
+            ensureCapacity(1);
+        }
+        buffer[size++] = b;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+/**
+ * <p>
+ * Describes where a single field of a message is located within the message's payload, and reads
+ * its values directly from payload bytes.
+ * <p>
+ * Reading a field does not allocate, which makes fields suitable for filtering and projecting
+ * packets without deserializing them. Bytes beyond the end of a truncated Mavlink 2 payload are
+ * read as zeros, as the protocol requires. For example:
+ * <pre>{@code
+ * PayloadField lat = PayloadLayout.of(GlobalPositionInt.class).field("lat");
+ * int value = lat.getInt(packet.getPayload());
+ * }</pre>
+ */
+public final class PayloadField {
+    private final String name;
+    private final PayloadFieldType type;
+    private final int offset;
+    private final int arraySize;
+    private final boolean extension;
+
+    PayloadField(String name, PayloadFieldType type, int offset, int arraySize, boolean extension) {
+        this.name = name;
+        this.type = type;
+        this.offset = offset;
+        this.arraySize = arraySize;
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the name of this field, which is the name of its accessor method.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the wire type of this field, or of its elements if this field is an array.
+     */
+    public PayloadFieldType type() {
+        return type;
+    }
+
+    /**
+     * Returns the offset of this field within the payload.
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of elements of this field if it is an array, or {@code 0} otherwise.
+     */
+    public int arraySize() {
+        return arraySize;
+    }
+
+    /**
+     * Returns the number of elements of this field, which is {@code 1} for non-array fields.
+     */
+    public int elements() {
+        return Math.max(arraySize, 1);
+    }
+
+    /**
+     * Returns the length of this field within the payload, in bytes.
+     */
+    public int length() {
+        return type.size() * elements();
+    }
+
+    /**
+     * Returns {@code true} if this field is a Mavlink 2 extension field, or {@code false} otherwise.
+     */
+    public boolean extension() {
+        return extension;
+    }
+
+    /**
+     * Reads the value of this field as an {@code int}.
+     *
+     * @param payload The payload to read from.
+     * @return The value of this field.
+     * @throws IllegalStateException if the type of this field does not fit in an {@code int}.
+     */
+    public int getInt(byte[] payload) {
+        return getInt(payload, 0);
+    }
+
+    /**
+     * Reads the element at the specified index of this array field as an {@code int}.
+     *
+     * @param payload The payload to read from.
+     * @param index   The index of the element to read.
+     * @return The value of the element.
+     * @throws IllegalStateException     if the type of this field does not fit in an {@code int}.
+     * @throws IndexOutOfBoundsException if the index is outside of this field.
+     */
+    public int getInt(byte[] payload, int index) {
+        switch (type) {
+            case INT8:
+            case UINT8:
+            case INT16:
+            case UINT16:
+            case INT32:
+            case CHAR:
+                return (int) read(payload, index);
+            default:
+                throw new IllegalStateException(name + " is of type " + type.wireName() + ", which does not fit in an int");
+        }
+    }
+
+    /**
+     * Reads the value of this integer field as a {@code long}. Values of {@code uint64} fields are
+     * returned as their raw 64 bits.
+     *
+     * @param payload The payload to read from.
+     * @return The value of this field.
+     * @throws IllegalStateException if this field is not an integer field.
+     */
+    public long getLong(byte[] payload) {
+        return getLong(payload, 0);
+    }
+
+    /**
+     * Reads the element at the specified index of this integer array field as a {@code long}.
+     * Values of {@code uint64} fields are returned as their raw 64 bits.
+     *
+     * @param payload The payload to read from.
+     * @param index   The index of the element to read.
+     * @return The value of the element.
+     * @throws IllegalStateException     if this field is not an integer field.
+     * @throws IndexOutOfBoundsException if the index is outside of this field.
+     */
+    public long getLong(byte[] payload, int index) {
+        if (type == PayloadFieldType.FLOAT || type == PayloadFieldType.DOUBLE) {
+            throw new IllegalStateException(name + " is of type " + type.wireName() + ", which is not an integer type");
+        }
+        return read(payload, index);
+    }
+
+    /**
+     * Reads the value of this {@code float} field.
+     *
+     * @param payload The payload to read from.
+     * @return The value of this field.
+     * @throws IllegalStateException if this field is not a {@code float} field.
+     */
+    public float getFloat(byte[] payload) {
+        return getFloat(payload, 0);
+    }
+
+    /**
+     * Reads the element at the specified index of this {@code float} array field.
+     *
+     * @param payload The payload to read from.
+     * @param index   The index of the element to read.
+     * @return The value of the element.
+     * @throws IllegalStateException     if this field is not a {@code float} field.
+     * @throws IndexOutOfBoundsException if the index is outside of this field.
+     */
+    public float getFloat(byte[] payload, int index) {
+        if (type != PayloadFieldType.FLOAT) {
+            throw new IllegalStateException(name + " is of type " + type.wireName() + ", not float");
+        }
+        return Float.intBitsToFloat((int) read(payload, index));
+    }
+
+    /**
+     * Reads the value of this field as a {@code double}, converting integer and {@code float}
+     * values as needed.
+     *
+     * @param payload The payload to read from.
+     * @return The value of this field.
+     */
+    public double getDouble(byte[] payload) {
+        return getDouble(payload, 0);
+    }
+
+    /**
+     * Reads the element at the specified index of this array field as a {@code double}, converting
+     * integer and {@code float} values as needed.
+     *
+     * @param payload The payload to read from.
+     * @param index   The index of the element to read.
+     * @return The value of the element.
+     * @throws IndexOutOfBoundsException if the index is outside of this field.
+     */
+    public double getDouble(byte[] payload, int index) {
+        long bits = read(payload, index);
+        switch (type) {
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case UINT64:
+                return bits >= 0 ? bits : (double) (bits >>> 1 | (bits & 1)) * 2.0;
+            default:
+                return bits;
+        }
+    }
+
+    /**
+     * Reads the raw little-endian bits of an element of this field, sign extending signed integer
+     * types. Bytes beyond the end of the payload are read as zeros.
+     */
+    private long read(byte[] payload, int index) {
+        if (index < 0 || index >= elements()) {
+            throw new IndexOutOfBoundsException("index " + index + " is outside of " + name
+                    + ", which has " + elements() + " elements");
+        }
+        int size = type.size();
+        int start = offset + index * size;
+        int end = Math.min(start + size, payload.length);
+        long value = 0;
+        for (int i = end - 1; i >= start; i--) {
+            value = (value << 8) | (payload[i] & 0xff);
+        }
+        if (type.signed() && size < 8) {
+            int shift = 64 - size * 8;
+            value = (value << shift) >> shift;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "PayloadField{" +
+                "name=" + name +
+                ", type=" + type +
+                ", offset=" + offset +
+                ", arraySize=" + arraySize +
+                ", extension=" + extension +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+/**
+ * The wire types of Mavlink message fields. All multi-byte types are little-endian on the wire.
+ */
+public enum PayloadFieldType {
+    INT8(1, true),
+    UINT8(1, false),
+    INT16(2, true),
+    UINT16(2, false),
+    INT32(4, true),
+    UINT32(4, false),
+    INT64(8, true),
+    UINT64(8, false),
+    FLOAT(4, true),
+    DOUBLE(8, true),
+    CHAR(1, false);
+
+    private final int size;
+    private final boolean signed;
+
+    PayloadFieldType(int size, boolean signed) {
+        this.size = size;
+        this.signed = signed;
+    }
+
+    /**
+     * Returns the size of a single value of this type, in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this type is signed, or {@code false} otherwise.
+     */
+    public boolean signed() {
+        return signed;
+    }
+
+    /**
+     * Returns the name of this type as it appears in Mavlink definitions, without the
+     * {@code _t} suffix. For instance, {@code uint16}.
+     */
+    public String wireName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Resolves the type of an integer field.
+     *
+     * @param size   The size of the field in bytes.
+     * @param signed Whether the field is signed.
+     * @return The resolved type.
+     */
+    static PayloadFieldType integer(int size, boolean signed) {
+        switch (size) {
+            case 1:
+                return signed ? INT8 : UINT8;
+            case 2:
+                return signed ? INT16 : UINT16;
+            case 4:
+                return signed ? INT32 : UINT32;
+            case 8:
+                return signed ? INT64 : UINT64;
+            default:
+                throw new IllegalArgumentException("unsupported integer size " + size);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
+import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
+import io.dronefleet.mavlink.util.WireFieldInfoComparator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The wire layout of the payload of a message type, as described by the {@link MavlinkFieldInfo}
+ * annotations of the message and ordered according to {@link WireFieldInfoComparator}.
+ * <p>
+ * Layouts are computed once per message type, and allow reading and copying fields directly from
+ * payload bytes without deserializing messages.
+ */
+public final class PayloadLayout {
+
+    private static final WireFieldInfoComparator wireComparator = new WireFieldInfoComparator();
+
+    private static final ClassValue<PayloadLayout> layouts = new ClassValue<PayloadLayout>() {
+        @Override
+        protected PayloadLayout computeValue(Class<?> messageType) {
+            return create(messageType);
+        }
+    };
+
+    /**
+     * Returns the payload layout of the specified message type.
+     *
+     * @param messageType The message type, which is expected to be annotated with
+     *                    {@link MavlinkMessageInfo}.
+     * @return The payload layout of the message type.
+     */
+    public static PayloadLayout of(Class<?> messageType) {
+        return layouts.get(messageType);
+    }
+
+    private static PayloadLayout create(Class<?> messageType) {
+        MavlinkMessageInfo messageInfo = messageType.getAnnotation(MavlinkMessageInfo.class);
+        if (messageInfo == null) {
+            throw new IllegalArgumentException(String.format(
+                    "class %s is not annotated with @MavlinkMessageInfo", messageType.getName()));
+        }
+
+        Method[] methods = Arrays.stream(messageType.getMethods())
+                .filter(m -> m.isAnnotationPresent(MavlinkFieldInfo.class))
+                .sorted((a, b) -> wireComparator.compare(
+                        a.getAnnotation(MavlinkFieldInfo.class),
+                        b.getAnnotation(MavlinkFieldInfo.class)))
+                .toArray(Method[]::new);
+
+        Map<String, PayloadField> fields = new LinkedHashMap<>();
+        int offset = 0;
+        int baseLength = 0;
+        for (Method method : methods) {
+            MavlinkFieldInfo fieldInfo = method.getAnnotation(MavlinkFieldInfo.class);
+            PayloadField field = new PayloadField(
+                    method.getName(),
+                    typeOf(method.getGenericReturnType(), fieldInfo),
+                    offset,
+                    fieldInfo.arraySize(),
+                    fieldInfo.extension());
+            fields.put(field.name(), field);
+            offset += fieldInfo.unitSize() * Math.max(fieldInfo.arraySize(), 1);
+            if (!fieldInfo.extension()) {
+                baseLength = offset;
+            }
+        }
+        return new PayloadLayout(messageType, messageInfo.id(), fields, baseLength, offset);
+    }
+
+    private static PayloadFieldType typeOf(Type javaType, MavlinkFieldInfo fieldInfo) {
+        Type elementType = javaType;
+        if (javaType instanceof ParameterizedType
+                && List.class.equals(((ParameterizedType) javaType).getRawType())) {
+            elementType = ((ParameterizedType) javaType).getActualTypeArguments()[0];
+        }
+        if (String.class.equals(elementType)) {
+            return PayloadFieldType.CHAR;
+        } else if (float.class.equals(elementType) || Float.class.equals(elementType)) {
+            return PayloadFieldType.FLOAT;
+        } else if (double.class.equals(elementType) || Double.class.equals(elementType)) {
+            return PayloadFieldType.DOUBLE;
+        }
+        return PayloadFieldType.integer(fieldInfo.unitSize(), fieldInfo.signed());
+    }
+
+    private final Class<?> messageType;
+    private final int messageId;
+    private final Map<String, PayloadField> fields;
+    private final List<PayloadField> fieldList;
+    private final int baseLength;
+    private final int length;
+
+    private PayloadLayout(
+            Class<?> messageType,
+            int messageId,
+            Map<String, PayloadField> fields,
+            int baseLength,
+            int length) {
+        this.messageType = messageType;
+        this.messageId = messageId;
+        this.fields = fields;
+        this.fieldList = Collections.unmodifiableList(new ArrayList<>(fields.values()));
+        this.baseLength = baseLength;
+        this.length = length;
+    }
+
+    /**
+     * Returns the message type that this layout describes.
+     */
+    public Class<?> messageType() {
+        return messageType;
+    }
+
+    /**
+     * Returns the ID of the message that this layout describes.
+     */
+    public int messageId() {
+        return messageId;
+    }
+
+    /**
+     * Returns the fields of the payload, in wire order.
+     */
+    public List<PayloadField> fields() {
+        return fieldList;
+    }
+
+    /**
+     * Returns the field of the specified name.
+     *
+     * @param name The name of the field, which is the name of its accessor method.
+     * @return The field of the specified name.
+     * @throws IllegalArgumentException if the message does not have a field of the specified name.
+     */
+    public PayloadField field(String name) {
+        PayloadField field = fields.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException(messageType.getName() + " does not have a field named " + name);
+        }
+        return field;
+    }
+
+    /**
+     * Returns the length of the payload without Mavlink 2 extension fields. This is the length of
+     * Mavlink 1 payloads.
+     */
+    public int baseLength() {
+        return baseLength;
+    }
+
+    /**
+     * Returns the length of the payload including all extension fields.
+     */
+    public int length() {
+        return length;
+    }
+}
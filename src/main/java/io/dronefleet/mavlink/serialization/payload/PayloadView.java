@@ -0,0 +1,202 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Base class of the generated message views, which are read-only flyweights that decode the
+ * fields of a message directly from its payload bytes whenever they are accessed.
+ * <p>
+ * A view does not copy the payload. Instead, it can be re-pointed at any region of a byte array or
+ * of a {@link ByteBuffer} through one of the {@code wrap} methods, so that a single instance can
+ * be reused to read an entire stream of messages without allocating per message. For example:
+ * <pre>{@code
+ * GlobalPositionIntView position = new GlobalPositionIntView();
+ * MavlinkPacket packet;
+ * while ((packet = reader.next()) != null) {
+ *     if (packet.getMessageId() == 33) {
+ *         int lat = position.wrap(packet.getPayload()).lat();
+ *     }
+ * }
+ * }</pre>
+ * Bytes beyond the end of the wrapped region read as zeros, as required for truncated Mavlink 2
+ * payloads and for the extension fields of Mavlink 1 payloads. Views are not thread safe, and
+ * reflect any changes made to the wrapped bytes.
+ *
+ * @param <V> The type of the view, which is returned from the {@code wrap} methods for chaining.
+ */
+public abstract class PayloadView<V extends PayloadView<V>> {
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * Points this view at the specified payload.
+     *
+     * @param payload The payload to read.
+     * @return This view.
+     */
+    public final V wrap(byte[] payload) {
+        return wrap(payload, 0, payload.length);
+    }
+
+    /**
+     * Points this view at a region of the specified array.
+     *
+     * @param array  The array holding the payload.
+     * @param offset The offset of the payload within the array.
+     * @param length The length of the payload, which may be shorter than the full payload of the
+     *               message if it was truncated.
+     * @return This view.
+     */
+    public final V wrap(byte[] array, int offset, int length) {
+        checkRegion(array.length, offset, length);
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+        return self();
+    }
+
+    /**
+     * Points this view at the remaining bytes of the specified buffer. The position of the buffer
+     * is not modified.
+     *
+     * @param buffer The buffer holding the payload.
+     * @return This view.
+     */
+    public final V wrap(ByteBuffer buffer) {
+        return wrap(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Points this view at a region of the specified buffer. The position of the buffer is not
+     * modified.
+     *
+     * @param buffer The buffer holding the payload.
+     * @param offset The absolute offset of the payload within the buffer.
+     * @param length The length of the payload, which may be shorter than the full payload of the
+     *               message if it was truncated.
+     * @return This view.
+     */
+    public final V wrap(ByteBuffer buffer, int offset, int length) {
+        checkRegion(buffer.limit(), offset, length);
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.buffer = null;
+            this.offset = buffer.arrayOffset() + offset;
+        } else {
+            this.array = null;
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+        this.length = length;
+        return self();
+    }
+
+    /**
+     * Returns the length of the wrapped payload.
+     */
+    public final int payloadSize() {
+        return length;
+    }
+
+    protected final int readUint8(int position) {
+        return byteAt(position) & 0xff;
+    }
+
+    protected final int readInt8(int position) {
+        return byteAt(position);
+    }
+
+    protected final int readUint16(int position) {
+        return (int) read(position, 2);
+    }
+
+    protected final int readInt16(int position) {
+        return (short) read(position, 2);
+    }
+
+    protected final long readUint32(int position) {
+        return read(position, 4);
+    }
+
+    protected final int readInt32(int position) {
+        return (int) read(position, 4);
+    }
+
+    protected final long readInt64(int position) {
+        return read(position, 8);
+    }
+
+    protected final float readFloat(int position) {
+        return Float.intBitsToFloat((int) read(position, 4));
+    }
+
+    protected final double readDouble(int position) {
+        return Double.longBitsToDouble(read(position, 8));
+    }
+
+    /**
+     * Reads a null terminated string of at most {@code size} bytes. Unlike the other readers, this
+     * allocates the returned string.
+     */
+    protected final String readString(int position, int size) {
+        int end = Math.min(position + size, length);
+        int stringLength = 0;
+        while (position + stringLength < end && byteAt(position + stringLength) != 0) {
+            stringLength++;
+        }
+        byte[] bytes = new byte[stringLength];
+        for (int i = 0; i < stringLength; i++) {
+            bytes[i] = byteAt(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks the index of an element of an array field, and returns the position of the element.
+     */
+    protected static int elementPosition(int position, int unitSize, int arraySize, int index) {
+        if (index < 0 || index >= arraySize) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return position + index * unitSize;
+    }
+
+    private long read(int position, int size) {
+        long value = 0;
+        if (array != null && position + size <= length) {
+            int start = offset + position;
+            for (int i = start + size - 1; i >= start; i--) {
+                value = (value << 8) | (array[i] & 0xff);
+            }
+            return value;
+        }
+        for (int i = position + size - 1; i >= position; i--) {
+            value = (value << 8) | (byteAt(i) & 0xff);
+        }
+        return value;
+    }
+
+    private byte byteAt(int position) {
+        if (position >= length) {
+            return 0;
+        }
+        return array != null ? array[offset + position] : buffer.get(offset + position);
+    }
+
+    private static void checkRegion(int capacity, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > capacity) {
+            throw new IndexOutOfBoundsException("region [" + offset + ", " + (offset + length)
+                    + ") is outside of [0, " + capacity + ")");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V self() {
+        return (V) this;
+    }
+}
@@ -5,7 +5,11 @@ import io.dronefleet.mavlink.annotations.MavlinkMessageBuilder;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.serialization.MavlinkSerializationException;
 import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadDeserializer;
+import io.dronefleet.mavlink.util.DoubleArrayList;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
 import io.dronefleet.mavlink.util.WireFieldInfoComparator;
 
 import java.lang.reflect.InvocationTargetException;
@@ -161,14 +165,8 @@ public class ReflectionPayloadDeserializer implements MavlinkPayloadDeserializer
 
 
     private BigInteger bigIntValue(byte[] data) {
-        // Invert to big-endian, for BigInteger constructor
-        for (int i = 0; i < data.length / 2; ++i) {
-            byte tmp = data[i];
-            data[i] = data[data.length - 1 - i];
-            data[data.length - 1 - i] = tmp;
-        }
-
-        return new BigInteger(data);
+        // Same signed interpretation as new BigInteger(bigEndianBytes), without reordering the bytes
+        return BigInteger.valueOf(signedIntegerValue(data, 0, data.length));
     }
 
     private Object enumValue(Class<?> enumType, byte[] data, int offset, int length, boolean signed) {
@@ -179,6 +177,34 @@ public class ReflectionPayloadDeserializer implements MavlinkPayloadDeserializer
 
     private List<?> listValue(Class<?> listType, byte[] data, MavlinkFieldInfo field) {
         int unitSize = field.unitSize();
+        int size = data.length / unitSize;
+        if (Integer.class.equals(listType)) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (int) integerValue(data, i * unitSize, (i + 1) * unitSize, field.signed());
+            }
+            return IntArrayList.wrap(values);
+        } else if (Long.class.equals(listType)) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = integerValue(data, i * unitSize, (i + 1) * unitSize, field.signed());
+            }
+            return LongArrayList.wrap(values);
+        } else if (Float.class.equals(listType)) {
+            float[] values = new float[size];
+            ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < size; i++) {
+                values[i] = buffer.getFloat(i * unitSize);
+            }
+            return FloatArrayList.wrap(values);
+        } else if (Double.class.equals(listType)) {
+            double[] values = new double[size];
+            ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < size; i++) {
+                values[i] = buffer.getDouble(i * unitSize);
+            }
+            return DoubleArrayList.wrap(values);
+        }
         List<Object> result = new ArrayList<>(data.length / unitSize);
         for (int offset = 0; offset < data.length; offset += unitSize) {
             Object value = deserialize(listType, data, offset, offset + unitSize, field);
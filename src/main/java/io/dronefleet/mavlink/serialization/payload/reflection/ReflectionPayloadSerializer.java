@@ -5,7 +5,11 @@ import io.dronefleet.mavlink.annotations.MavlinkFieldInfo;
 import io.dronefleet.mavlink.annotations.MavlinkMessageInfo;
 import io.dronefleet.mavlink.serialization.MavlinkSerializationException;
 import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadSerializer;
+import io.dronefleet.mavlink.util.DoubleArrayList;
 import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.IntArrayList;
+import io.dronefleet.mavlink.util.LongArrayList;
 import io.dronefleet.mavlink.util.WireFieldInfoComparator;
 import io.dronefleet.mavlink.util.reflection.MavlinkReflection;
 
@@ -139,6 +143,31 @@ public class ReflectionPayloadSerializer implements MavlinkPayloadSerializer {
         if (list.size() > (length / unitSize)) {
             throw new IllegalStateException("too many items in list");
         }
+        if (list instanceof IntArrayList) {
+            IntArrayList values = (IntArrayList) list;
+            for (int i = 0; i < values.size(); i++, offset += unitSize) {
+                write(values.getInt(i), buffer, offset, offset + unitSize);
+            }
+            return;
+        } else if (list instanceof LongArrayList) {
+            LongArrayList values = (LongArrayList) list;
+            for (int i = 0; i < values.size(); i++, offset += unitSize) {
+                write(values.getLong(i), buffer, offset, offset + unitSize);
+            }
+            return;
+        } else if (list instanceof FloatArrayList) {
+            FloatArrayList values = (FloatArrayList) list;
+            for (int i = 0; i < values.size(); i++, offset += unitSize) {
+                write(values.getFloat(i), buffer, offset, offset + unitSize);
+            }
+            return;
+        } else if (list instanceof DoubleArrayList) {
+            DoubleArrayList values = (DoubleArrayList) list;
+            for (int i = 0; i < values.size(); i++, offset += unitSize) {
+                write(values.getDouble(i), buffer, offset, offset + unitSize);
+            }
+            return;
+        }
         for (Object value : list) {
             write(value, buffer, offset, offset + unitSize, 1);
             offset += unitSize;
@@ -0,0 +1,93 @@
+package io.dronefleet.mavlink.timesync;
+
+/**
+ * An estimate of the clock of a vehicle component relative to the local clock, as a linear
+ * function of local time: {@code vehicle = local + offset + drift * (local - reference)}.
+ * Instances of this class are immutable.
+ */
+public final class ClockEstimate {
+
+    private final long referenceNanos;
+    private final long offsetNanos;
+    private final double drift;
+    private final long roundTripNanos;
+    private final int samples;
+
+    ClockEstimate(long referenceNanos, long offsetNanos, double drift, long roundTripNanos, int samples) {
+        this.referenceNanos = referenceNanos;
+        this.offsetNanos = offsetNanos;
+        this.drift = drift;
+        this.roundTripNanos = roundTripNanos;
+        this.samples = samples;
+    }
+
+    /**
+     * Returns the local time at which {@link #offsetNanos()} was estimated.
+     */
+    public long referenceNanos() {
+        return referenceNanos;
+    }
+
+    /**
+     * Returns the difference between the vehicle clock and the local clock at the
+     * {@link #referenceNanos() reference time}.
+     */
+    public long offsetNanos() {
+        return offsetNanos;
+    }
+
+    /**
+     * Returns how many nanoseconds the vehicle clock gains per nanosecond of local time, which is
+     * 0 if it runs at the rate of the local clock, or until enough samples are taken to tell.
+     */
+    public double drift() {
+        return drift;
+    }
+
+    /**
+     * Returns the smallest round trip among the samples of the estimate, which bounds the error
+     * of the offset to half its value.
+     */
+    public long roundTripNanos() {
+        return roundTripNanos;
+    }
+
+    /**
+     * Returns the number of samples the estimate is based on.
+     */
+    public int samples() {
+        return samples;
+    }
+
+    /**
+     * Returns the difference between the vehicle clock and the local clock at the specified
+     * local time.
+     */
+    public long offsetAt(long localNanos) {
+        return offsetNanos + (long) (drift * (localNanos - referenceNanos));
+    }
+
+    /**
+     * Converts a time of the vehicle clock to the local clock.
+     */
+    public long toLocalNanos(long vehicleNanos) {
+        // the offset changes slowly enough to be evaluated at the uncorrected local time
+        return vehicleNanos - offsetAt(vehicleNanos - offsetNanos);
+    }
+
+    /**
+     * Converts a time of the local clock to the vehicle clock.
+     */
+    public long toVehicleNanos(long localNanos) {
+        return localNanos + offsetAt(localNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "ClockEstimate{offsetNanos=" + offsetNanos
+                + ", drift=" + drift
+                + ", roundTripNanos=" + roundTripNanos
+                + ", samples=" + samples
+                + "}";
+    }
+}
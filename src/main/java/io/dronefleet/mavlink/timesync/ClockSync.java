@@ -0,0 +1,444 @@
+package io.dronefleet.mavlink.timesync;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.Timesync;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Estimates the clocks of any number of vehicle components relative to the local clock, by
+ * exchanging {@code TIMESYNC} messages through a {@link MavlinkConnection}, so that the times
+ * vehicles report in their messages can be converted to local time.
+ * <p>
+ * Each answered request is a sample of the offset between the clocks, which is accurate to half
+ * its round trip. Samples are filtered by an {@link OffsetFilter}, which discards those delayed by
+ * queueing, fits the offset and drift of the clock to the rest, and restarts when the vehicle
+ * clock jumps. Conversions only read the latest {@link ClockEstimate}, so they cost no messages,
+ * no locks and no allocation.
+ * <p>
+ * Vehicle times must be on the clock the vehicle answers {@code TIMESYNC} with, in nanoseconds,
+ * which for most autopilots is the time since boot: a {@code timeBootMs} field converts as
+ * {@code toLocalNanos(systemId, timeBootMs * 1_000_000L)}.
+ * <p>
+ * The service does not read from the connection itself. Every received message should be passed
+ * to {@link #handle(MavlinkMessage)} by the reading thread. Instances of this class are thread
+ * safe.
+ */
+public class ClockSync implements Closeable {
+
+    /**
+     * Builds clock synchronization services.
+     */
+    public static final class Builder {
+        private final MavlinkConnection connection;
+        private int systemId = 255;
+        private int componentId = 190;
+        private int window = 32;
+        private long intervalNanos = TimeUnit.SECONDS.toNanos(1);
+        private boolean respond = true;
+        private HashedTimerWheel timer;
+        private BiConsumer<MavlinkConnection, IOException> errorHandler;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(MavlinkConnection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Sets the system ID which messages are sent from. Defaults to 255.
+         */
+        public Builder systemId(int systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which messages are sent from. Defaults to 190
+         * ({@code MAV_COMP_ID_MISSIONPLANNER}).
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Sets the number of recent samples each estimate is based on. Defaults to 32.
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the interval between the requests sent to each {@link #start(int, int) started}
+         * vehicle component. Defaults to 1s.
+         */
+        public Builder interval(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("interval must be positive");
+            }
+            this.intervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * Sets whether requests of vehicles are answered with the local time, which lets vehicles
+         * estimate the local clock in turn. Defaults to {@code true}.
+         */
+        public Builder respond(boolean respond) {
+            this.respond = respond;
+            return this;
+        }
+
+        /**
+         * Sets the timer which sends periodic requests, so that it can be shared with other
+         * clients. By default, each service starts its own timer, which is closed when the
+         * service is closed.
+         */
+        public Builder timer(HashedTimerWheel timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the handler of failed writes of periodic requests and of answers to vehicle
+         * requests, which is called on the timer thread and on the thread which handles messages
+         * respectively. By default, failures are passed to the uncaught exception handler of the
+         * calling thread.
+         */
+        public Builder errorHandler(BiConsumer<MavlinkConnection, IOException> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        /**
+         * Sets the local clock, in nanoseconds, which vehicle times are converted to. Defaults to
+         * {@link System#nanoTime()}.
+         */
+        public Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a ready to use service.
+         */
+        public ClockSync build() {
+            return new ClockSync(this);
+        }
+    }
+
+    /**
+     * Creates a new builder of services which send messages through the specified connection.
+     */
+    public static Builder builder(MavlinkConnection connection) {
+        return new Builder(connection);
+    }
+
+    /**
+     * Answers which take longer are not attributed to their request.
+     */
+    private static final long MAX_ROUND_TRIP_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * The number of recent requests to each vehicle component which answers are accepted for.
+     */
+    private static final int REQUESTS = 4;
+
+    private final MavlinkConnection connection;
+    private final int systemId;
+    private final int componentId;
+    private final int window;
+    private final long intervalNanos;
+    private final boolean respond;
+    private final HashedTimerWheel timer;
+    private final boolean ownsTimer;
+    private final BiConsumer<MavlinkConnection, IOException> errorHandler;
+    private final LongSupplier clock;
+
+    /**
+     * Vehicle components, keyed by {@code systemId << 8 | componentId}.
+     */
+    private final Map<Integer, Vehicle> vehicles = new ConcurrentHashMap<>();
+
+    /**
+     * The component of each system whose estimate is used for the system, keyed by system ID.
+     */
+    private final Map<Integer, Vehicle> systems = new ConcurrentHashMap<>();
+
+    private ClockSync(Builder builder) {
+        connection = builder.connection;
+        systemId = builder.systemId;
+        componentId = builder.componentId;
+        window = builder.window;
+        intervalNanos = builder.intervalNanos;
+        respond = builder.respond;
+        ownsTimer = builder.timer == null;
+        timer = ownsTimer ? HashedTimerWheel.builder().threadName("mavlink-timesync").build() : builder.timer;
+        errorHandler = builder.errorHandler != null ? builder.errorHandler : (connection, e) -> {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        };
+        clock = builder.clock;
+    }
+
+    /**
+     * Starts sending requests to the specified vehicle component periodically, starting now.
+     * Starting a component which is already started has no effect.
+     */
+    public void start(int systemId, int componentId) {
+        Vehicle vehicle = vehicle(systemId, componentId);
+        synchronized (vehicle) {
+            if (vehicle.periodic == null) {
+                vehicle.schedule(0);
+            }
+        }
+    }
+
+    /**
+     * Stops sending periodic requests to the specified vehicle component. Its estimate is kept.
+     */
+    public void stop(int systemId, int componentId) {
+        Vehicle vehicle = vehicles.get(systemId << 8 | componentId);
+        if (vehicle != null) {
+            synchronized (vehicle) {
+                if (vehicle.periodic != null) {
+                    vehicle.periodic.cancel();
+                    vehicle.periodic = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a single request to the specified vehicle component.
+     *
+     * @throws UncheckedIOException if the request cannot be sent.
+     */
+    public void request(int systemId, int componentId) {
+        Vehicle vehicle = vehicle(systemId, componentId);
+        synchronized (vehicle) {
+            vehicle.request();
+        }
+    }
+
+    /**
+     * Returns the estimate of the clock of the specified vehicle component, or {@code null} if no
+     * request was answered yet.
+     */
+    public ClockEstimate estimate(int systemId, int componentId) {
+        Vehicle vehicle = vehicles.get(systemId << 8 | componentId);
+        return vehicle != null ? vehicle.estimate : null;
+    }
+
+    /**
+     * Returns the estimate of the clock of the component of the specified system which answered
+     * first, usually its autopilot, or {@code null} if no request was answered yet. Once that
+     * component stops answering for four request intervals, such as when the vehicle
+     * is replaced by one with another component ID, the next component to answer takes its place.
+     */
+    public ClockEstimate estimate(int systemId) {
+        Vehicle vehicle = systems.get(systemId);
+        return vehicle != null ? vehicle.estimate : null;
+    }
+
+    /**
+     * Converts a time of the clock of the specified vehicle component to the local clock.
+     *
+     * @throws IllegalStateException if the clock of the component is not estimated yet.
+     */
+    public long toLocalNanos(int systemId, int componentId, long vehicleNanos) {
+        return require(estimate(systemId, componentId), systemId, componentId).toLocalNanos(vehicleNanos);
+    }
+
+    /**
+     * Converts a time of the clock of the specified system to the local clock, using the
+     * estimate of {@link #estimate(int)}.
+     *
+     * @throws IllegalStateException if the clock of the system is not estimated yet.
+     */
+    public long toLocalNanos(int systemId, long vehicleNanos) {
+        return require(estimate(systemId), systemId, 0).toLocalNanos(vehicleNanos);
+    }
+
+    /**
+     * Processes a received message. Messages other than {@code TIMESYNC}, or addressed to other
+     * systems, are ignored. Failures to answer requests are passed to the error handler.
+     *
+     * @param message The received message.
+     */
+    public void handle(MavlinkMessage<?> message) {
+        if (!(message.getPayload() instanceof Timesync)) {
+            return;
+        }
+        Timesync timesync = (Timesync) message.getPayload();
+        // the target is an extension, which is 0 in Mavlink 1 messages
+        if (!addressed(timesync.targetSystem(), timesync.targetComponent())) {
+            return;
+        }
+        long now = clock.getAsLong();
+        int origin = message.getOriginSystemId() << 8 | message.getOriginComponentId();
+        if (timesync.tc1() == 0) {
+            if (respond) {
+                try {
+                    send(Timesync.builder()
+                            .tc1(now)
+                            .ts1(timesync.ts1())
+                            .targetSystem(message.getOriginSystemId())
+                            .targetComponent(message.getOriginComponentId())
+                            .build());
+                } catch (UncheckedIOException e) {
+                    errorHandler.accept(connection, e.getCause());
+                }
+            }
+            return;
+        }
+        Vehicle vehicle = vehicles.get(origin);
+        if (vehicle != null) {
+            synchronized (vehicle) {
+                vehicle.onAnswer(timesync.ts1(), timesync.tc1(), now);
+            }
+        }
+    }
+
+    /**
+     * Stops all periodic requests, and closes the timer if it is owned by this service.
+     */
+    @Override
+    public void close() {
+        for (Vehicle vehicle : vehicles.values()) {
+            stop(vehicle.systemId, vehicle.componentId);
+        }
+        if (ownsTimer) {
+            timer.close();
+        }
+    }
+
+    private Vehicle vehicle(int systemId, int componentId) {
+        return vehicles.computeIfAbsent(systemId << 8 | componentId, key -> new Vehicle(systemId, componentId));
+    }
+
+    private static ClockEstimate require(ClockEstimate estimate, int systemId, int componentId) {
+        if (estimate == null) {
+            throw new IllegalStateException(String.format("the clock of %d/%d is not estimated yet",
+                    systemId, componentId));
+        }
+        return estimate;
+    }
+
+    private boolean addressed(int targetSystem, int targetComponent) {
+        return (targetSystem == 0 || targetSystem == systemId)
+                && (targetComponent == 0 || targetComponent == componentId);
+    }
+
+    private void send(Timesync timesync) {
+        try {
+            connection.send2(systemId, componentId, timesync);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A vehicle component. All methods are called while holding the lock of the component.
+     */
+    private final class Vehicle {
+        final int systemId;
+        final int componentId;
+        final OffsetFilter filter = new OffsetFilter(window);
+        volatile ClockEstimate estimate;
+        volatile long answeredAt;
+        HashedTimerWheel.Timeout periodic;
+
+        /**
+         * The local times of the latest requests, which answers echo.
+         */
+        private final long[] requests = new long[REQUESTS];
+        private int next;
+
+        Vehicle(int systemId, int componentId) {
+            this.systemId = systemId;
+            this.componentId = componentId;
+            Arrays.fill(requests, Long.MIN_VALUE);
+        }
+
+        void schedule(long delayNanos) {
+            periodic = timer.schedule(this::tick, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void tick() {
+            if (periodic == null) {
+                return;
+            }
+            try {
+                request();
+            } catch (UncheckedIOException e) {
+                // the link may recover, and the next request is sent regardless
+                errorHandler.accept(connection, e.getCause());
+            }
+            schedule(intervalNanos);
+        }
+
+        void request() {
+            long now = clock.getAsLong();
+            requests[next] = now;
+            next = (next + 1) % REQUESTS;
+            send(Timesync.builder()
+                    .tc1(0)
+                    .ts1(now)
+                    .targetSystem(systemId)
+                    .targetComponent(componentId)
+                    .build());
+        }
+
+        void onAnswer(long sentAt, long vehicleNanos, long now) {
+            long roundTrip = now - sentAt;
+            if (!requested(sentAt) || roundTrip < 0 || roundTrip > MAX_ROUND_TRIP_NANOS) {
+                // answers to other stations, and duplicate or late answers
+                return;
+            }
+            forget(sentAt);
+            long middle = sentAt + roundTrip / 2;
+            estimate = filter.add(middle, vehicleNanos - middle, roundTrip);
+            answeredAt = now;
+            Vehicle current = systems.get(systemId);
+            if (current == null) {
+                systems.putIfAbsent(systemId, this);
+            } else if (current != this && now - current.answeredAt > REQUESTS * intervalNanos) {
+                // the component stopped answering, such as when the vehicle was replaced
+                systems.replace(systemId, current, this);
+            }
+        }
+
+        private boolean requested(long sentAt) {
+            for (long request : requests) {
+                if (request == sentAt) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void forget(long sentAt) {
+            for (int i = 0; i < REQUESTS; i++) {
+                if (requests[i] == sentAt) {
+                    requests[i] = Long.MIN_VALUE;
+                }
+            }
+        }
+    }
+}
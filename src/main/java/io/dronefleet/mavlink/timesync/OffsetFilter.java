@@ -0,0 +1,145 @@
+package io.dronefleet.mavlink.timesync;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Estimates the clock of a vehicle component from a window of recent {@code TIMESYNC} samples.
+ * <p>
+ * The error of a sample is at most half its round trip, and grows with queueing on the link in
+ * either direction, so only the quarter of the window with the shortest round trips is used. The
+ * offset and drift are fitted to those samples by least squares. Drift is only estimated once the
+ * samples span enough time for it to be distinguishable from the error of the offsets.
+ * <p>
+ * A sample which disagrees with the estimate by more than its own round trip allows is an outlier,
+ * unless several samples in a row disagree, which happens when the vehicle reboots or its clock is
+ * set. The window is then restarted from the disagreeing samples.
+ */
+final class OffsetFilter {
+
+    private static final long MIN_DRIFT_SPAN_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long OUTLIER_MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int RESET_SAMPLES = 3;
+
+    /**
+     * The largest plausible drift, of 1000 ppm. Crystal oscillators drift by less than 100 ppm.
+     */
+    private static final double MAX_DRIFT = 1e-3;
+
+    private final long[] times;
+    private final long[] offsets;
+    private final long[] roundTrips;
+    private int count;
+    private int next;
+    private int disagreements;
+    private ClockEstimate estimate;
+
+    /**
+     * The samples which disagreed with the estimate since the last one which agreed.
+     */
+    private final long[] disagreeingTimes = new long[RESET_SAMPLES - 1];
+    private final long[] disagreeingOffsets = new long[RESET_SAMPLES - 1];
+    private final long[] disagreeingRoundTrips = new long[RESET_SAMPLES - 1];
+
+    OffsetFilter(int window) {
+        times = new long[window];
+        offsets = new long[window];
+        roundTrips = new long[window];
+    }
+
+    /**
+     * Adds a sample, and returns the updated estimate.
+     *
+     * @param localNanos     The local time at the middle of the round trip.
+     * @param offsetNanos    The vehicle time minus the local time.
+     * @param roundTripNanos The round trip of the sample.
+     */
+    ClockEstimate add(long localNanos, long offsetNanos, long roundTripNanos) {
+        if (estimate != null
+                && Math.abs(offsetNanos - estimate.offsetAt(localNanos)) > roundTripNanos + OUTLIER_MARGIN_NANOS) {
+            if (disagreements < RESET_SAMPLES - 1) {
+                disagreeingTimes[disagreements] = localNanos;
+                disagreeingOffsets[disagreements] = offsetNanos;
+                disagreeingRoundTrips[disagreements] = roundTripNanos;
+                disagreements++;
+                return estimate;
+            }
+            // the vehicle clock jumped, so the samples of the old clock are discarded
+            count = 0;
+            next = 0;
+            for (int i = 0; i < disagreements; i++) {
+                store(disagreeingTimes[i], disagreeingOffsets[i], disagreeingRoundTrips[i]);
+            }
+        }
+        disagreements = 0;
+        store(localNanos, offsetNanos, roundTripNanos);
+        estimate = fit();
+        return estimate;
+    }
+
+    private void store(long localNanos, long offsetNanos, long roundTripNanos) {
+        times[next] = localNanos;
+        offsets[next] = offsetNanos;
+        roundTrips[next] = roundTripNanos;
+        next = (next + 1) % times.length;
+        count = Math.min(count + 1, times.length);
+    }
+
+    ClockEstimate estimate() {
+        return estimate;
+    }
+
+    private ClockEstimate fit() {
+        long[] sorted = Arrays.copyOf(roundTrips, count);
+        Arrays.sort(sorted);
+        long threshold = sorted[(count - 1) / 4];
+
+        // the newest usable sample is the reference, which keeps the fitted values small
+        int newest = -1;
+        int best = -1;
+        long first = Long.MAX_VALUE;
+        int kept = 0;
+        for (int age = 1; age <= count; age++) {
+            int i = Math.floorMod(next - age, times.length);
+            if (roundTrips[i] > threshold) {
+                continue;
+            }
+            kept++;
+            if (newest < 0) {
+                newest = i;
+            }
+            if (best < 0 || roundTrips[i] < roundTrips[best]) {
+                best = i;
+            }
+            first = Math.min(first, times[i]);
+        }
+        long reference = times[newest];
+        if (kept < 3 || reference - first < MIN_DRIFT_SPAN_NANOS) {
+            return new ClockEstimate(times[best], offsets[best], 0, roundTrips[best], kept);
+        }
+
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < count; i++) {
+            if (roundTrips[i] <= threshold) {
+                meanX += times[i] - reference;
+                meanY += offsets[i] - offsets[newest];
+            }
+        }
+        meanX /= kept;
+        meanY /= kept;
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < count; i++) {
+            if (roundTrips[i] <= threshold) {
+                double x = times[i] - reference - meanX;
+                covariance += x * (offsets[i] - offsets[newest] - meanY);
+                variance += x * x;
+            }
+        }
+        double drift = Math.max(-MAX_DRIFT, Math.min(MAX_DRIFT, covariance / variance));
+        long offset = offsets[newest] + Math.round(meanY - drift * meanX);
+        return new ClockEstimate(reference, offset, drift, roundTrips[best], kept);
+    }
+}
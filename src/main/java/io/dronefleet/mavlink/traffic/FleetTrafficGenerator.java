@@ -0,0 +1,499 @@
+package io.dronefleet.mavlink.traffic;
+
+import io.dronefleet.mavlink.MavlinkMessageDescriptor;
+import io.dronefleet.mavlink.common.Attitude;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.common.GpsFixType;
+import io.dronefleet.mavlink.common.GpsRawInt;
+import io.dronefleet.mavlink.common.MavSysStatusSensor;
+import io.dronefleet.mavlink.common.SysStatus;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.minimal.MavAutopilot;
+import io.dronefleet.mavlink.minimal.MavModeFlag;
+import io.dronefleet.mavlink.minimal.MavState;
+import io.dronefleet.mavlink.minimal.MavType;
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+import io.dronefleet.mavlink.serialization.payload.MavlinkPayloadSerializer;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Generates synthetic Mavlink traffic of a fleet of simulated vehicles, for load testing.
+ * <p>
+ * Each vehicle sends a configurable mix of message streams, each at its own rate. All messages
+ * are serialized and framed once when the generator is built. While generating, frames are only
+ * patched with their vehicle's sequence and a new CRC, so that the generator can saturate the
+ * systems under test. Optionally, packet loss, corrupted packets, garbage bytes between packets
+ * and reordering of adjacent packets can be injected.
+ * <p>
+ * Traffic is generated in simulated time, either as fast as possible or {@link Builder#paced(boolean)
+ * paced} in real time, into a {@link TrafficSink} such as a stream, a telemetry log or a UDP socket:
+ * <pre>{@code
+ * FleetTrafficGenerator generator = FleetTrafficGenerator.builder()
+ *         .vehicles(100)
+ *         .defaultMix()
+ *         .lossRate(0.01)
+ *         .build();
+ * generator.generate(TimeUnit.MINUTES.toMicros(10), TrafficSink.udp(channel, gateway));
+ * }</pre>
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public class FleetTrafficGenerator {
+
+    /**
+     * Builds fleet traffic generators.
+     */
+    public static final class Builder {
+        private final List<MessageStream> streams = new ArrayList<>();
+        private int vehicles = 1;
+        private int firstSystemId = 1;
+        private int componentId = 1;
+        private int variants = 64;
+        private boolean mavlink2 = true;
+        private boolean paced;
+        private long seed;
+        private double lossRate;
+        private double corruptionRate;
+        private double garbageRate;
+        private double reorderRate;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of simulated vehicles. Defaults to 1.
+         */
+        public Builder vehicles(int vehicles) {
+            if (vehicles < 1) {
+                throw new IllegalArgumentException("vehicles must be positive");
+            }
+            this.vehicles = vehicles;
+            return this;
+        }
+
+        /**
+         * Sets the system ID of the first vehicle. The rest of the vehicles take consecutive
+         * system IDs. Defaults to 1.
+         */
+        public Builder firstSystemId(int firstSystemId) {
+            this.firstSystemId = firstSystemId;
+            return this;
+        }
+
+        /**
+         * Sets the component ID which all vehicles send from. Defaults to 1.
+         */
+        public Builder componentId(int componentId) {
+            this.componentId = componentId;
+            return this;
+        }
+
+        /**
+         * Adds a message stream which every vehicle sends.
+         *
+         * @param rate    The rate of the stream, in Hz.
+         * @param factory The factory of the messages of the stream.
+         */
+        public Builder message(double rate, MessageFactory factory) {
+            if (rate <= 0 || rate > 1_000_000) {
+                throw new IllegalArgumentException("rate must be positive and at most 1MHz, but was " + rate);
+            }
+            streams.add(new MessageStream(rate, factory));
+            return this;
+        }
+
+        /**
+         * Adds the message streams of a typical multirotor: {@code HEARTBEAT} and
+         * {@code SYS_STATUS} at 1Hz, {@code GPS_RAW_INT} at 5Hz, {@code GLOBAL_POSITION_INT} at
+         * 10Hz and {@code ATTITUDE} at 50Hz. Vehicles fly in circles around their own home
+         * positions.
+         */
+        public Builder defaultMix() {
+            return message(1, FleetTrafficGenerator::heartbeat)
+                    .message(1, FleetTrafficGenerator::sysStatus)
+                    .message(5, FleetTrafficGenerator::gpsRawInt)
+                    .message(10, FleetTrafficGenerator::globalPositionInt)
+                    .message(50, FleetTrafficGenerator::attitude);
+        }
+
+        /**
+         * Sets the number of distinct messages pre-encoded per stream of each vehicle, which the
+         * stream cycles through. Defaults to 64.
+         */
+        public Builder variants(int variants) {
+            if (variants < 1) {
+                throw new IllegalArgumentException("variants must be positive");
+            }
+            this.variants = variants;
+            return this;
+        }
+
+        /**
+         * Sets whether to send Mavlink 2 packets. Mavlink 1 packets are sent otherwise.
+         * Defaults to {@code true}.
+         */
+        public Builder mavlink2(boolean mavlink2) {
+            this.mavlink2 = mavlink2;
+            return this;
+        }
+
+        /**
+         * Sets whether to pace generation in real time, rather than generating as fast as the
+         * sink accepts frames. Defaults to {@code false}.
+         */
+        public Builder paced(boolean paced) {
+            this.paced = paced;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random decisions of the generator, such as stream phases and
+         * injected noise. Defaults to 0, so that generation is reproducible.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the probability of a packet being lost. Lost packets still consume a sequence
+         * number, as they would on a lossy link. Defaults to 0.
+         */
+        public Builder lossRate(double lossRate) {
+            this.lossRate = probability(lossRate);
+            return this;
+        }
+
+        /**
+         * Sets the probability of a packet having a single corrupted byte. Defaults to 0.
+         */
+        public Builder corruptionRate(double corruptionRate) {
+            this.corruptionRate = probability(corruptionRate);
+            return this;
+        }
+
+        /**
+         * Sets the probability of a packet being preceded by random garbage bytes. Defaults to 0.
+         */
+        public Builder garbageRate(double garbageRate) {
+            this.garbageRate = probability(garbageRate);
+            return this;
+        }
+
+        /**
+         * Sets the probability of a packet being swapped with the packet that follows it.
+         * Defaults to 0.
+         */
+        public Builder reorderRate(double reorderRate) {
+            this.reorderRate = probability(reorderRate);
+            return this;
+        }
+
+        /**
+         * Pre-encodes all streams and builds a ready to use generator.
+         */
+        public FleetTrafficGenerator build() {
+            if (streams.isEmpty()) {
+                throw new IllegalStateException("at least one message stream is required");
+            }
+            return new FleetTrafficGenerator(this);
+        }
+
+        private static double probability(double p) {
+            if (p < 0 || p > 1) {
+                throw new IllegalArgumentException("probability must be between 0 and 1, but was " + p);
+            }
+            return p;
+        }
+    }
+
+    /**
+     * Creates a new builder of generators.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final int MAX_FRAME_LENGTH = 280;
+    private static final int MAX_GARBAGE_LENGTH = 32;
+
+    private final Random random;
+    private final boolean paced;
+    private final double lossRate;
+    private final double corruptionRate;
+    private final double garbageRate;
+    private final double reorderRate;
+
+    // Every (vehicle, stream) pair is an event, and the arrays below are indexed by event.
+    private final byte[][][] frames;
+    private final int[] vehicleOf;
+    private final int[] crcExtras;
+    private final long[] intervals;
+    private final long[] dues;
+    private final int[] steps;
+
+    /**
+     * A binary min-heap of events, ordered by their due time.
+     */
+    private final int[] heap;
+
+    private final int[] sequences;
+    private final byte[] scratch = new byte[MAX_FRAME_LENGTH];
+    private final byte[] held = new byte[MAX_FRAME_LENGTH];
+    private int heldLength;
+    private long heldTimestamp;
+
+    private FleetTrafficGenerator(Builder builder) {
+        random = new Random(builder.seed);
+        paced = builder.paced;
+        lossRate = builder.lossRate;
+        corruptionRate = builder.corruptionRate;
+        garbageRate = builder.garbageRate;
+        reorderRate = builder.reorderRate;
+
+        int events = builder.vehicles * builder.streams.size();
+        frames = new byte[events][][];
+        vehicleOf = new int[events];
+        crcExtras = new int[events];
+        intervals = new long[events];
+        dues = new long[events];
+        steps = new int[events];
+        heap = new int[events];
+        sequences = new int[builder.vehicles];
+
+        MavlinkPayloadSerializer serializer = new ReflectionPayloadSerializer();
+        int event = 0;
+        for (int vehicle = 0; vehicle < builder.vehicles; vehicle++) {
+            int systemId = builder.firstSystemId + vehicle;
+            for (MessageStream stream : builder.streams) {
+                frames[event] = new byte[builder.variants][];
+                for (int step = 0; step < builder.variants; step++) {
+                    Object message = stream.factory.create(systemId, step);
+                    MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(message.getClass());
+                    byte[] payload = serializer.serialize(message);
+                    frames[event][step] = (builder.mavlink2
+                            ? MavlinkPacket.createUnsignedMavlink2Packet(0, systemId, builder.componentId,
+                            descriptor.id(), descriptor.crcExtra(), payload)
+                            : MavlinkPacket.createMavlink1Packet(0, systemId, builder.componentId,
+                            descriptor.id(), descriptor.crcExtra(), payload))
+                            .getRawBytes();
+                    crcExtras[event] = descriptor.crcExtra();
+                }
+                vehicleOf[event] = vehicle;
+                intervals[event] = Math.max(1, Math.round(1_000_000 / stream.rate));
+                event++;
+            }
+        }
+    }
+
+    /**
+     * Generates traffic starting at the current time.
+     *
+     * @param duration The duration of traffic to generate, in microseconds of simulated time.
+     * @param sink     The sink to write frames to.
+     * @return The number of frames written, excluding lost frames.
+     * @throws IOException if the sink fails.
+     */
+    public long generate(long duration, TrafficSink sink) throws IOException {
+        return generate(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()), duration, sink);
+    }
+
+    /**
+     * Generates traffic. Streams start at random phases, and subsequent calls continue the
+     * sequences of the vehicles.
+     *
+     * @param start    The simulated time to start at, in microseconds since the epoch.
+     * @param duration The duration of traffic to generate, in microseconds of simulated time.
+     * @param sink     The sink to write frames to.
+     * @return The number of frames written, excluding lost frames.
+     * @throws IOException if the sink fails.
+     */
+    public long generate(long start, long duration, TrafficSink sink) throws IOException {
+        for (int event = 0; event < heap.length; event++) {
+            dues[event] = (long) (random.nextDouble() * intervals[event]);
+            heap[event] = event;
+        }
+        for (int i = heap.length / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+
+        long wallStart = System.nanoTime();
+        long written = 0;
+        while (dues[heap[0]] < duration) {
+            int event = heap[0];
+            long due = dues[event];
+            if (paced) {
+                awaitWallTime(wallStart + TimeUnit.MICROSECONDS.toNanos(due));
+            }
+            written += emit(event, start + due, sink);
+            dues[event] = due + intervals[event];
+            siftDown(0);
+        }
+        if (heldLength > 0) {
+            sink.accept(heldTimestamp, held, 0, heldLength);
+            heldLength = 0;
+            written++;
+        }
+        return written;
+    }
+
+    private int emit(int event, long timestamp, TrafficSink sink) throws IOException {
+        int vehicle = vehicleOf[event];
+        int sequence = sequences[vehicle];
+        sequences[vehicle] = (sequence + 1) & 0xff;
+        byte[][] variants = frames[event];
+        byte[] frame = variants[steps[event]];
+        steps[event] = (steps[event] + 1) % variants.length;
+
+        if (lossRate > 0 && random.nextDouble() < lossRate) {
+            return 0;
+        }
+        MavlinkPacket.rewriteSequence(frame, sequence, crcExtras[event]);
+        int length = frame.length;
+        if (garbageRate > 0 && random.nextDouble() < garbageRate) {
+            int garbage = 1 + random.nextInt(MAX_GARBAGE_LENGTH);
+            for (int i = 0; i < garbage; i++) {
+                scratch[i] = (byte) random.nextInt(256);
+            }
+            sink.accept(timestamp, scratch, 0, garbage);
+        }
+        if (corruptionRate > 0 && random.nextDouble() < corruptionRate) {
+            System.arraycopy(frame, 0, scratch, 0, length);
+            scratch[1 + random.nextInt(length - 1)] ^= (byte) (1 + random.nextInt(255));
+            frame = scratch;
+        }
+        if (heldLength > 0) {
+            sink.accept(timestamp, frame, 0, length);
+            sink.accept(heldTimestamp, held, 0, heldLength);
+            heldLength = 0;
+            return 2;
+        }
+        if (reorderRate > 0 && random.nextDouble() < reorderRate) {
+            System.arraycopy(frame, 0, held, 0, length);
+            heldLength = length;
+            heldTimestamp = timestamp;
+            return 0;
+        }
+        sink.accept(timestamp, frame, 0, length);
+        return 1;
+    }
+
+    private void siftDown(int index) {
+        int event = heap[index];
+        long due = dues[event];
+        int half = heap.length >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heap.length && dues[heap[right]] < dues[heap[child]]) {
+                child = right;
+            }
+            if (due <= dues[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = event;
+    }
+
+    private static void awaitWallTime(long nanoTime) throws InterruptedIOException {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private static final class MessageStream {
+        private final double rate;
+        private final MessageFactory factory;
+
+        private MessageStream(double rate, MessageFactory factory) {
+            this.rate = rate;
+            this.factory = factory;
+        }
+    }
+
+    private static Object heartbeat(int systemId, int step) {
+        return Heartbeat.builder()
+                .type(MavType.MAV_TYPE_QUADROTOR)
+                .autopilot(MavAutopilot.MAV_AUTOPILOT_ARDUPILOTMEGA)
+                .baseMode(MavModeFlag.MAV_MODE_FLAG_CUSTOM_MODE_ENABLED, MavModeFlag.MAV_MODE_FLAG_SAFETY_ARMED)
+                .customMode(4)
+                .systemStatus(MavState.MAV_STATE_ACTIVE)
+                .mavlinkVersion(3)
+                .build();
+    }
+
+    private static Object sysStatus(int systemId, int step) {
+        return SysStatus.builder()
+                .onboardControlSensorsPresent(MavSysStatusSensor.MAV_SYS_STATUS_SENSOR_3D_GYRO)
+                .onboardControlSensorsEnabled(MavSysStatusSensor.MAV_SYS_STATUS_SENSOR_3D_GYRO)
+                .onboardControlSensorsHealth(MavSysStatusSensor.MAV_SYS_STATUS_SENSOR_3D_GYRO)
+                .load(350 + step % 100)
+                .voltageBattery(16_800 - step * 10)
+                .currentBattery(1_500)
+                .batteryRemaining(Math.max(0, 100 - step))
+                .build();
+    }
+
+    private static Object gpsRawInt(int systemId, int step) {
+        return GpsRawInt.builder()
+                .timeUsec(BigInteger.valueOf(step * 200_000L))
+                .fixType(GpsFixType.GPS_FIX_TYPE_3D_FIX)
+                .lat(latitude(systemId, step))
+                .lon(longitude(systemId, step))
+                .alt(520_000)
+                .eph(80)
+                .epv(120)
+                .vel(500)
+                .cog(0)
+                .satellitesVisible(14)
+                .build();
+    }
+
+    private static Object globalPositionInt(int systemId, int step) {
+        return GlobalPositionInt.builder()
+                .timeBootMs(step * 100L)
+                .lat(latitude(systemId, step))
+                .lon(longitude(systemId, step))
+                .alt(520_000)
+                .relativeAlt(30_000)
+                .vx(500)
+                .hdg((step * 5_625) % 36_000)
+                .build();
+    }
+
+    private static Object attitude(int systemId, int step) {
+        return Attitude.builder()
+                .timeBootMs(step * 20L)
+                .roll(0.05f * (float) Math.sin(step * 0.1))
+                .pitch(-0.1f)
+                .yaw((float) (step * 2 * Math.PI / 64))
+                .build();
+    }
+
+    /**
+     * Vehicles circle around home positions which are ~100m apart, with a radius of ~50m.
+     */
+    private static int latitude(int systemId, int step) {
+        return 473_977_420 + systemId * 9_000 + (int) (4_500 * Math.sin(step * 2 * Math.PI / 64));
+    }
+
+    private static int longitude(int systemId, int step) {
+        return 85_455_940 + (int) (6_600 * Math.cos(step * 2 * Math.PI / 64));
+    }
+}
@@ -0,0 +1,20 @@
+package io.dronefleet.mavlink.traffic;
+
+/**
+ * Creates the messages of a single stream of a simulated vehicle.
+ */
+@FunctionalInterface
+public interface MessageFactory {
+
+    /**
+     * Creates a message.
+     *
+     * @param systemId The system ID of the vehicle which sends the message.
+     * @param step     The index of the message within the stream, which allows varying
+     *                 messages over time. Steps are in the range {@code [0, variants)}, where
+     *                 {@code variants} is configured through
+     *                 {@link FleetTrafficGenerator.Builder#variants(int)}.
+     * @return The created message, which is an instance of a generated message class.
+     */
+    Object create(int systemId, int step);
+}
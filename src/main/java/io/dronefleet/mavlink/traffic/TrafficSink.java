@@ -0,0 +1,72 @@
+package io.dronefleet.mavlink.traffic;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Receives the encoded frames produced by a {@link FleetTrafficGenerator}.
+ */
+@FunctionalInterface
+public interface TrafficSink {
+
+    /**
+     * Accepts a single frame. The frame bytes are only valid for the duration of this call, and
+     * should be copied if retained.
+     *
+     * @param timestamp The simulated time of the frame, in microseconds since the epoch.
+     * @param frame     The array holding the frame.
+     * @param offset    The offset of the frame within the array.
+     * @param length    The length of the frame.
+     * @throws IOException if an IO error occurs.
+     */
+    void accept(long timestamp, byte[] frame, int offset, int length) throws IOException;
+
+    /**
+     * Creates a sink which writes frames to the specified stream, back to back.
+     *
+     * @param out The stream to write to.
+     * @return The created sink.
+     */
+    static TrafficSink stream(OutputStream out) {
+        return (timestamp, frame, offset, length) -> out.write(frame, offset, length);
+    }
+
+    /**
+     * Creates a sink which writes frames to the specified stream in the telemetry log format, with
+     * each frame preceded by its big-endian timestamp.
+     *
+     * @param out The stream to write to.
+     * @return The created sink.
+     */
+    static TrafficSink tlog(OutputStream out) {
+        byte[] entryTimestamp = new byte[8];
+        return (timestamp, frame, offset, length) -> {
+            for (int i = 7; i >= 0; i--) {
+                entryTimestamp[i] = (byte) timestamp;
+                timestamp >>>= 8;
+            }
+            out.write(entryTimestamp);
+            out.write(frame, offset, length);
+        };
+    }
+
+    /**
+     * Creates a sink which sends each frame as a datagram to the specified address.
+     *
+     * @param channel The channel to send datagrams through.
+     * @param target  The address to send datagrams to.
+     * @return The created sink.
+     */
+    static TrafficSink udp(DatagramChannel channel, SocketAddress target) {
+        ByteBuffer datagram = ByteBuffer.allocateDirect(512);
+        return (timestamp, frame, offset, length) -> {
+            datagram.clear();
+            datagram.put(frame, offset, length);
+            datagram.flip();
+            channel.send(datagram, target);
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@code double} values, backed by a primitive array. Elements are only boxed
+ * when accessed through the {@link List} interface, and can be read without boxing through
+ * {@link #getDouble(int)} and {@link #toDoubleArray()}.
+ */
+public final class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+
+    /**
+     * Creates a list holding a copy of the specified values.
+     */
+    public static DoubleArrayList of(double... values) {
+        return new DoubleArrayList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the specified array, without copying it. The array must not be
+     * modified afterwards.
+     */
+    public static DoubleArrayList wrap(double[] values) {
+        return new DoubleArrayList(values);
+    }
+
+    /**
+     * Returns an immutable copy of the specified list, or the list itself if it is already a
+     * {@code DoubleArrayList}.
+     *
+     * @param values The list to copy, which may be {@code null}.
+     * @return The copied list, or {@code null} if the specified list is {@code null}.
+     */
+    public static DoubleArrayList copyOf(Collection<? extends Double> values) {
+        if (values == null || values instanceof DoubleArrayList) {
+            return (DoubleArrayList) values;
+        }
+        double[] array = new double[values.size()];
+        int i = 0;
+        for (Double value : values) {
+            array[i++] = value;
+        }
+        return new DoubleArrayList(array);
+    }
+
+    private final double[] values;
+
+    private DoubleArrayList(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the element at the specified index, without boxing it.
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the elements of this list.
+     */
+    public double[] toDoubleArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Double get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoubleArrayList) {
+            return Arrays.equals(values, ((DoubleArrayList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@code float} values, backed by a primitive array. Elements are only boxed
+ * when accessed through the {@link List} interface, and can be read without boxing through
+ * {@link #getFloat(int)} and {@link #toFloatArray()}.
+ */
+public final class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+
+    /**
+     * Creates a list holding a copy of the specified values.
+     */
+    public static FloatArrayList of(float... values) {
+        return new FloatArrayList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the specified array, without copying it. The array must not be
+     * modified afterwards.
+     */
+    public static FloatArrayList wrap(float[] values) {
+        return new FloatArrayList(values);
+    }
+
+    /**
+     * Returns an immutable copy of the specified list, or the list itself if it is already a
+     * {@code FloatArrayList}.
+     *
+     * @param values The list to copy, which may be {@code null}.
+     * @return The copied list, or {@code null} if the specified list is {@code null}.
+     */
+    public static FloatArrayList copyOf(Collection<? extends Float> values) {
+        if (values == null || values instanceof FloatArrayList) {
+            return (FloatArrayList) values;
+        }
+        float[] array = new float[values.size()];
+        int i = 0;
+        for (Float value : values) {
+            array[i++] = value;
+        }
+        return new FloatArrayList(array);
+    }
+
+    private final float[] values;
+
+    private FloatArrayList(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the element at the specified index, without boxing it.
+     */
+    public float getFloat(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the elements of this list.
+     */
+    public float[] toFloatArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Float get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof FloatArrayList) {
+            return Arrays.equals(values, ((FloatArrayList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
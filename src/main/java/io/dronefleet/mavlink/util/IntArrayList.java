@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@code int} values, backed by a primitive array. Elements are only boxed
+ * when accessed through the {@link List} interface, and can be read without boxing through
+ * {@link #getInt(int)} and {@link #toIntArray()}.
+ */
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+    /**
+     * Creates a list holding a copy of the specified values.
+     */
+    public static IntArrayList of(int... values) {
+        return new IntArrayList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the specified array, without copying it. The array must not be
+     * modified afterwards.
+     */
+    public static IntArrayList wrap(int[] values) {
+        return new IntArrayList(values);
+    }
+
+    /**
+     * Returns an immutable copy of the specified list, or the list itself if it is already a
+     * {@code IntArrayList}.
+     *
+     * @param values The list to copy, which may be {@code null}.
+     * @return The copied list, or {@code null} if the specified list is {@code null}.
+     */
+    public static IntArrayList copyOf(Collection<? extends Integer> values) {
+        if (values == null || values instanceof IntArrayList) {
+            return (IntArrayList) values;
+        }
+        int[] array = new int[values.size()];
+        int i = 0;
+        for (Integer value : values) {
+            array[i++] = value;
+        }
+        return new IntArrayList(array);
+    }
+
+    private final int[] values;
+
+    private IntArrayList(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the element at the specified index, without boxing it.
+     */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the elements of this list.
+     */
+    public int[] toIntArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IntArrayList) {
+            return Arrays.equals(values, ((IntArrayList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,92 @@
+package io.dronefleet.mavlink.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@code long} values, backed by a primitive array. Elements are only boxed
+ * when accessed through the {@link List} interface, and can be read without boxing through
+ * {@link #getLong(int)} and {@link #toLongArray()}.
+ */
+public final class LongArrayList extends AbstractList<Long> implements RandomAccess {
+
+    /**
+     * Creates a list holding a copy of the specified values.
+     */
+    public static LongArrayList of(long... values) {
+        return new LongArrayList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the specified array, without copying it. The array must not be
+     * modified afterwards.
+     */
+    public static LongArrayList wrap(long[] values) {
+        return new LongArrayList(values);
+    }
+
+    /**
+     * Returns an immutable copy of the specified list, or the list itself if it is already a
+     * {@code LongArrayList}.
+     *
+     * @param values The list to copy, which may be {@code null}.
+     * @return The copied list, or {@code null} if the specified list is {@code null}.
+     */
+    public static LongArrayList copyOf(Collection<? extends Long> values) {
+        if (values == null || values instanceof LongArrayList) {
+            return (LongArrayList) values;
+        }
+        long[] array = new long[values.size()];
+        int i = 0;
+        for (Long value : values) {
+            array[i++] = value;
+        }
+        return new LongArrayList(array);
+    }
+
+    private final long[] values;
+
+    private LongArrayList(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the element at the specified index, without boxing it.
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the elements of this list.
+     */
+    public long[] toLongArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Long get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongArrayList) {
+            return Arrays.equals(values, ((LongArrayList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,97 @@
+package io.dronefleet.mavlink.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Estimates the round trip time of a link from measured samples, and derives a retransmission
+ * timeout from it as TCP does (RFC 6298): the timeout is the smoothed round trip time plus four
+ * times its smoothed variation, and doubles with every consecutive retransmission until a new
+ * sample is taken.
+ * <p>
+ * Samples should only be taken from requests which were not retransmitted, since the answer of a
+ * retransmitted request cannot be attributed to a specific transmission. Instances of this class
+ * are thread safe.
+ */
+public final class RttEstimator {
+
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private long smoothedNanos;
+    private long variationNanos;
+    private long timeoutNanos;
+    private int samples;
+
+    /**
+     * @param initialTimeout The timeout to use until the first sample is taken.
+     * @param minTimeout     The lower bound of the timeout.
+     * @param maxTimeout     The upper bound of the timeout, including backoff.
+     * @param unit           The unit of the timeouts.
+     */
+    public RttEstimator(long initialTimeout, long minTimeout, long maxTimeout, TimeUnit unit) {
+        if (minTimeout <= 0 || minTimeout > maxTimeout) {
+            throw new IllegalArgumentException("timeouts must be positive, and the minimum must not exceed the maximum");
+        }
+        this.minTimeoutNanos = unit.toNanos(minTimeout);
+        this.maxTimeoutNanos = unit.toNanos(maxTimeout);
+        this.timeoutNanos = clamp(unit.toNanos(initialTimeout));
+    }
+
+    /**
+     * Adds a round trip time sample, which resets any backoff.
+     *
+     * @param rttNanos The measured round trip time, in nanoseconds.
+     */
+    public synchronized void sample(long rttNanos) {
+        rttNanos = Math.max(rttNanos, 0);
+        if (samples++ == 0) {
+            smoothedNanos = rttNanos;
+            variationNanos = rttNanos / 2;
+        } else {
+            variationNanos += (Math.abs(smoothedNanos - rttNanos) - variationNanos) / 4;
+            smoothedNanos += (rttNanos - smoothedNanos) / 8;
+        }
+        timeoutNanos = clamp(smoothedNanos + 4 * variationNanos);
+    }
+
+    /**
+     * Doubles the timeout, up to the maximum, after a retransmission.
+     */
+    public synchronized void backoff() {
+        timeoutNanos = clamp(timeoutNanos * 2);
+    }
+
+    /**
+     * Returns the current retransmission timeout, in nanoseconds.
+     */
+    public synchronized long timeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * Returns the smoothed round trip time in nanoseconds, or {@code -1} if no sample was taken.
+     */
+    public synchronized long smoothedNanos() {
+        return samples > 0 ? smoothedNanos : -1;
+    }
+
+    /**
+     * Returns the number of samples taken.
+     */
+    public synchronized int samples() {
+        return samples;
+    }
+
+    private long clamp(long nanos) {
+        return Math.min(Math.max(nanos, minTimeoutNanos), maxTimeoutNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RttEstimator{" +
+                "smoothed=" + TimeUnit.NANOSECONDS.toMillis(smoothedNanos) + "ms" +
+                ", variation=" + TimeUnit.NANOSECONDS.toMillis(variationNanos) + "ms" +
+                ", timeout=" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms" +
+                '}';
+    }
+}
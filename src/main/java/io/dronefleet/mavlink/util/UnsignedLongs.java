@@ -0,0 +1,54 @@
+package io.dronefleet.mavlink.util;
+
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * Helpers for {@code uint64_t} values which are held in a primitive {@code long}, as generated
+ * when the {@code unsignedLongs} option of the generator is enabled, and as returned by the
+ * generated message views.
+ * <p>
+ * The long holds the bits of the unsigned value, so values above {@link Long#MAX_VALUE} appear
+ * negative. Comparison, division and formatting should therefore go through the unsigned methods
+ * of {@link Long}, such as {@link Long#compareUnsigned(long, long)} and
+ * {@link Long#toUnsignedString(long)}, or through the conversions below.
+ */
+public final class UnsignedLongs {
+
+    private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+    private UnsignedLongs() {
+    }
+
+    /**
+     * Returns the unsigned value of the specified bits.
+     */
+    public static BigInteger toBigInteger(long value) {
+        BigInteger bigInteger = BigInteger.valueOf(value);
+        return value >= 0 ? bigInteger : bigInteger.add(TWO_TO_THE_64);
+    }
+
+    /**
+     * Returns the bits of the specified value, which must be in the range of either a signed or an
+     * unsigned 64 bit integer.
+     *
+     * @throws IllegalArgumentException if the value does not fit in 64 bits.
+     */
+    public static long valueOf(BigInteger value) {
+        if (value.bitLength() > 64 || (value.signum() < 0 && value.bitLength() > 63)) {
+            throw new IllegalArgumentException(value + " does not fit in 64 bits");
+        }
+        return value.longValue();
+    }
+
+    /**
+     * Returns the unsigned value of the specified bits as a double, rounding if needed.
+     */
+    public static double toDouble(long value) {
+        if (value >= 0) {
+            return value;
+        }
+        // halve the value so that it is positive, keeping the lowest bit for correct rounding
+        return (double) ((value >>> 1) | (value & 1)) * 2.0;
+    }
+}
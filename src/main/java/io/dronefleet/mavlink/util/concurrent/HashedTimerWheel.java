@@ -0,0 +1,334 @@
+package io.dronefleet.mavlink.util.concurrent;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * A timer which runs any number of timeouts from a single thread, for protocol clients which keep
+ * a retransmission timer per outstanding request.
+ * <p>
+ * Time is divided into ticks, and timeouts are hashed into a ring of buckets by the tick they
+ * expire at. Scheduling and cancelling take constant time regardless of how many timeouts are
+ * pending, and each tick only visits a single bucket. Timeouts therefore expire up to a tick late,
+ * which is of no consequence for retransmission timers, whose timeouts are much longer than a
+ * tick.
+ * <p>
+ * Tasks run on the timer thread, one after the other, and should be short. They may write to a
+ * connection, as the retransmissions of protocol clients do, which blocks while the link is
+ * congested and delays the tasks behind them by as long, but must not wait for other tasks or for
+ * answers, which would deadlock the timer. Wheels built without a
+ * {@link Builder#thread(boolean) thread} only run timeouts when {@link #advance()} is called,
+ * which makes the expiry of timeouts deterministic in tests and simulations.
+ */
+public final class HashedTimerWheel implements Closeable {
+
+    /**
+     * Builds timer wheels.
+     */
+    public static final class Builder {
+        private long tickNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        private int wheelSize = 512;
+        private LongSupplier clock = System::nanoTime;
+        private boolean thread = true;
+        private String threadName = "mavlink-timer";
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the duration of a tick, which is the resolution of the timer. Defaults to 10ms.
+         */
+        public Builder tickDuration(long tickDuration, TimeUnit unit) {
+            if (tickDuration <= 0) {
+                throw new IllegalArgumentException("tick duration must be positive");
+            }
+            this.tickNanos = unit.toNanos(tickDuration);
+            return this;
+        }
+
+        /**
+         * Sets the number of buckets of the wheel, which is rounded up to a power of two.
+         * Timeouts which are further away than a full turn of the wheel stay in their bucket for
+         * several turns. Defaults to 512.
+         */
+        public Builder wheelSize(int wheelSize) {
+            if (wheelSize < 1 || wheelSize > 1 << 30) {
+                throw new IllegalArgumentException("wheel size must be between 1 and 2^30");
+            }
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * Sets the clock of the wheel, in nanoseconds. Defaults to {@link System#nanoTime()}.
+         */
+        public Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets whether the wheel runs its own daemon thread. Wheels without a thread only run
+         * timeouts when {@link #advance()} is called. Defaults to {@code true}.
+         */
+        public Builder thread(boolean thread) {
+            this.thread = thread;
+            return this;
+        }
+
+        /**
+         * Sets the name of the thread of the wheel. Defaults to {@code mavlink-timer}.
+         */
+        public Builder threadName(String threadName) {
+            this.threadName = threadName;
+            return this;
+        }
+
+        /**
+         * Builds a wheel, starting its thread if it has one.
+         */
+        public HashedTimerWheel build() {
+            return new HashedTimerWheel(this);
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the timeout, unless it already expired.
+         *
+         * @return {@code true} if the timeout was cancelled by this call.
+         */
+        boolean cancel();
+
+        /**
+         * Returns whether the timeout was cancelled.
+         */
+        boolean isCancelled();
+
+        /**
+         * Returns whether the task of the timeout has been run, or is running.
+         */
+        boolean isExpired();
+    }
+
+    /**
+     * Creates a new builder of timer wheels.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final Entry[] buckets;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Queue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final List<Runnable> tickListeners = new CopyOnWriteArrayList<>();
+    private final Thread thread;
+    private final Object advanceLock = new Object();
+    private long tick;
+    private volatile boolean closed;
+
+    private HashedTimerWheel(Builder builder) {
+        tickNanos = builder.tickNanos;
+        int size = Integer.highestOneBit(builder.wheelSize * 2 - 1);
+        mask = size - 1;
+        buckets = new Entry[size];
+        clock = builder.clock;
+        startNanos = clock.getAsLong();
+        if (builder.thread) {
+            thread = new Thread(this::run, builder.threadName);
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            thread = null;
+        }
+    }
+
+    /**
+     * Schedules the specified task to run once the specified delay elapses.
+     *
+     * @return The timeout, which can be used to cancel the task.
+     * @throws IllegalStateException if the wheel has been closed.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("timer wheel closed");
+        }
+        long deadline = clock.getAsLong() - startNanos + Math.max(unit.toNanos(delay), 0);
+        // rounded up, so that timeouts never expire early
+        Entry entry = new Entry(task, (deadline + tickNanos - 1) / tickNanos);
+        scheduled.add(entry);
+        return entry;
+    }
+
+    /**
+     * Runs the tasks of all timeouts which expired by now. This is called by the thread of the
+     * wheel, and should only be called directly when the wheel has no thread.
+     */
+    public void advance() {
+        synchronized (advanceLock) {
+            long now = (clock.getAsLong() - startNanos) / tickNanos;
+            while (tick <= now && !closed) {
+                for (Entry entry; (entry = scheduled.poll()) != null; ) {
+                    if (entry.state == Entry.PENDING) {
+                        int bucket = (int) (Math.max(entry.deadlineTick, tick) & mask);
+                        entry.next = buckets[bucket];
+                        buckets[bucket] = entry;
+                    }
+                }
+                expire((int) (tick & mask));
+                for (Runnable listener : tickListeners) {
+                    run(listener);
+                }
+                tick++;
+            }
+        }
+    }
+
+    /**
+     * Adds a task which runs on the timer thread after the timeouts of each tick expired, such as
+     * a task which flushes the output of the timeouts of a tick at once.
+     */
+    public void addTickListener(Runnable listener) {
+        tickListeners.add(listener);
+    }
+
+    /**
+     * Removes a task added by {@link #addTickListener(Runnable)}.
+     */
+    public void removeTickListener(Runnable listener) {
+        tickListeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of timeouts which are scheduled and were not cancelled. This walks all
+     * buckets, and is intended for monitoring and tests.
+     */
+    public int pending() {
+        synchronized (advanceLock) {
+            int pending = 0;
+            for (Entry entry : scheduled) {
+                if (entry.state == Entry.PENDING) {
+                    pending++;
+                }
+            }
+            for (Entry bucket : buckets) {
+                for (Entry entry = bucket; entry != null; entry = entry.next) {
+                    if (entry.state == Entry.PENDING) {
+                        pending++;
+                    }
+                }
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * Stops the wheel. Pending timeouts never run.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void expire(int bucket) {
+        Entry previous = null;
+        Entry entry = buckets[bucket];
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.state == Entry.CANCELLED || entry.deadlineTick <= tick) {
+                if (previous == null) {
+                    buckets[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                entry.next = null;
+                if (entry.expire()) {
+                    run(entry.task);
+                }
+            } else {
+                previous = entry;
+            }
+            entry = next;
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            advance();
+            long nextTick;
+            synchronized (advanceLock) {
+                nextTick = startNanos + tick * tickNanos;
+            }
+            long delay = nextTick - clock.getAsLong();
+            if (delay > 0) {
+                LockSupport.parkNanos(this, delay);
+            }
+        }
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // a failing task must not stop the timer, nor the tasks which follow it
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        }
+    }
+
+    private static final class Entry implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Entry> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile int state;
+        private Entry next;
+
+        private Entry(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private boolean expire() {
+            return STATE.compareAndSet(this, PENDING, EXPIRED);
+        }
+
+        @Override
+        public boolean cancel() {
+            // cancelled entries are unlinked when their bucket is next visited
+            return STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+}
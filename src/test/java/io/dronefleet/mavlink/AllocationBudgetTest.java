@@ -0,0 +1,201 @@
+package io.dronefleet.mavlink;
+
+import io.dronefleet.mavlink.common.CommonDialect;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Guards the steady-state allocation of receiving and sending messages. Each common message is sent
+ * and received repeatedly until warmed up, after which the bytes allocated per message by the
+ * current thread are measured over several windows.
+ * <p>
+ * Every window must stay within the budget of the message type, which is its committed baseline in
+ * {@value #BASELINES} times {@link #HEADROOM}, leaving room for JVMs which allocate more than the
+ * one the baselines were recorded on. The {@code mavlink.allocation.receive} and
+ * {@code mavlink.allocation.send} system properties replace the budgets of all message types with
+ * a single number of bytes per message. In addition, the windows after the first must not allocate
+ * more than the first plus a tolerance, which catches allocation which grows with the number of
+ * messages handled.
+ * <p>
+ * Running with {@code -Dmavlink.allocation.record=<file>} appends the first window of every message
+ * type to the specified file instead of enforcing the budgets, which records new baselines.
+ */
+@RunWith(Parameterized.class)
+public class AllocationBudgetTest {
+
+    private static final Long RECEIVE_BUDGET = Long.getLong("mavlink.allocation.receive");
+    private static final Long SEND_BUDGET = Long.getLong("mavlink.allocation.send");
+    private static final String RECORD = System.getProperty("mavlink.allocation.record");
+
+    private static final String BASELINES = "allocation-baselines.properties";
+    private static final Properties baselines = loadBaselines();
+
+    /**
+     * How many times its baseline a message type may allocate.
+     */
+    private static final double HEADROOM = 3;
+
+    private static final int WARMUP_MESSAGES = 2_000;
+    private static final int WINDOW_MESSAGES = 500;
+    private static final int WINDOWS = 4;
+
+    /**
+     * The growth allowed over the baseline, relative to it and in bytes per message, which absorbs
+     * the noise of allocation accounting.
+     */
+    private static final double GROWTH = 0.25;
+    private static final long SLACK = 64;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return CommonDialect.instance().messageTypes().stream()
+                .map(type -> new Object[]{((Class<?>) type).getSimpleName(), type})
+                .collect(Collectors.toList());
+    }
+
+    private final Class<?> messageType;
+    private com.sun.management.ThreadMXBean threads;
+    private Object message;
+
+    public AllocationBudgetTest(String name, Class<?> messageType) {
+        this.messageType = messageType;
+    }
+
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("allocation measurement is not supported by this JVM",
+                bean instanceof com.sun.management.ThreadMXBean
+                        && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Object builder = messageType.getMethod("builder").invoke(null);
+        message = builder.getClass().getMethod("build").invoke(builder);
+    }
+
+    @Test
+    public void receivingStaysWithinBudget() throws IOException {
+        MavlinkConnection connection = MavlinkConnection.create(
+                new ByteArrayInputStream(encode(WARMUP_MESSAGES + WINDOWS * WINDOW_MESSAGES)),
+                new NullOutputStream());
+        assertSteady("receive", RECEIVE_BUDGET, connection::next);
+    }
+
+    @Test
+    public void sendingStaysWithinBudget() throws IOException {
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), new NullOutputStream());
+        assertSteady("send", SEND_BUDGET, () -> connection.send2(1, 1, message));
+    }
+
+    private void assertSteady(String action, Long override, Step step) throws IOException {
+        String key = messageType.getSimpleName() + "." + action;
+        for (int i = 0; i < WARMUP_MESSAGES; i++) {
+            step.run();
+        }
+        long first = measure(step);
+        if (RECORD != null) {
+            record(key, first);
+            return;
+        }
+        long budget = budget(key, override);
+        assertWithinBudget(key, first, budget);
+        for (int window = 1; window < WINDOWS; window++) {
+            long perMessage = measure(step);
+            assertWithinBudget(key, perMessage, budget);
+            assertTrue(String.format("%s allocates %d bytes per message, growing from %d in the first window",
+                    key, perMessage, first), perMessage <= first * (1 + GROWTH) + SLACK);
+        }
+    }
+
+    private long budget(String key, Long override) {
+        if (override != null) {
+            return override;
+        }
+        String baseline = baselines.getProperty(key);
+        assertNotNull(String.format("%s has no allocation baseline in %s", key, BASELINES), baseline);
+        return (long) (Long.parseLong(baseline) * HEADROOM);
+    }
+
+    private static void assertWithinBudget(String key, long perMessage, long budget) {
+        assertTrue(String.format("%s allocates %d bytes per message, exceeding its budget of %d",
+                key, perMessage, budget), perMessage <= budget);
+    }
+
+    /**
+     * Returns the bytes allocated per message over a window.
+     */
+    private long measure(Step step) throws IOException {
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < WINDOW_MESSAGES; i++) {
+            step.run();
+        }
+        return (threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before) / WINDOW_MESSAGES;
+    }
+
+    private byte[] encode(int messages) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), out);
+        for (int i = 0; i < messages; i++) {
+            connection.send2(1, 1, message);
+        }
+        return out.toByteArray();
+    }
+
+    private static Properties loadBaselines() {
+        Properties properties = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BASELINES)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    private static synchronized void record(String key, long perMessage) {
+        try {
+            Files.write(Paths.get(RECORD), Collections.singletonList(key + "=" + perMessage),
+                    StandardCharsets.ISO_8859_1, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface Step {
+        void run() throws IOException;
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
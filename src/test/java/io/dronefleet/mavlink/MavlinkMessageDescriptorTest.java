@@ -0,0 +1,110 @@
+package io.dronefleet.mavlink;
+
+import io.dronefleet.mavlink.ardupilotmega.ArdupilotmegaDialect;
+import io.dronefleet.mavlink.asluav.AsluavDialect;
+import io.dronefleet.mavlink.common.CommandLong;
+import io.dronefleet.mavlink.common.CommonDialect;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.minimal.ProtocolVersion;
+import io.dronefleet.mavlink.paparazzi.PaparazziDialect;
+import io.dronefleet.mavlink.slugs.SlugsDialect;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MavlinkMessageDescriptorTest {
+
+    @Test
+    public void generatedDescriptorsMatchAnnotations() {
+        for (MavlinkDialect dialect : Arrays.asList(
+                new ArdupilotmegaDialect(),
+                new AsluavDialect(),
+                new PaparazziDialect(),
+                new SlugsDialect())) {
+            for (Class<?> messageType : dialect.messageTypes()) {
+                MavlinkMessageDescriptor expected = MavlinkMessageDescriptor.of(messageType);
+                MavlinkMessageDescriptor actual = dialect.describe(expected.id());
+                if (actual.messageType() != messageType) {
+                    // shadowed by a message of the same ID which takes priority
+                    continue;
+                }
+
+                assertEquals(expected.toString(), actual.toString());
+                assertEquals(expected.crcExtra(), dialect.crcExtra(expected.id()));
+            }
+        }
+    }
+
+    @Test
+    public void itDescribesTargetFields() {
+        MavlinkMessageDescriptor descriptor = new CommonDialect().describe(76);
+
+        assertSame(CommandLong.class, descriptor.messageType());
+        assertEquals(33, descriptor.length());
+        assertEquals(30, descriptor.targetSystemOffset());
+        assertEquals(31, descriptor.targetComponentOffset());
+        assertEquals(-1, MavlinkMessageDescriptor.of(Heartbeat.class).targetSystemOffset());
+    }
+
+    @Test
+    public void dialectsResolveMessagesOfTheirDependencies() {
+        MavlinkDialect dialect = new ArdupilotmegaDialect();
+
+        assertSame(Heartbeat.class, dialect.resolve(0));
+        assertEquals(-1, dialect.crcExtra(Integer.MAX_VALUE));
+        assertNull(dialect.describe(-5));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void dialectsRejectDuplicateIds() {
+        new AbstractMavlinkDialect("duplicate", Collections.emptyList(), Arrays.asList(
+                MavlinkMessageDescriptor.of(Heartbeat.class),
+                MavlinkMessageDescriptor.of(ProtocolVersion.class),
+                MavlinkMessageDescriptor.of(Heartbeat.class)));
+    }
+
+    @Test
+    public void dialectsLoadMessageClassesOnDemand() throws Exception {
+        String[] classPath = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[classPath.length];
+        for (int i = 0; i < classPath.length; i++) {
+            urls[i] = new File(classPath[i]).toURI().toURL();
+        }
+        try (IsolatedClassLoader loader = new IsolatedClassLoader(urls)) {
+            Object dialect = loader.loadClass(ArdupilotmegaDialect.class.getName())
+                    .getMethod("instance")
+                    .invoke(null);
+
+            assertFalse(loader.isLoaded(CommandLong.class.getName()));
+            Class<?> resolved = (Class<?>) dialect.getClass().getMethod("resolve", int.class).invoke(dialect, 76);
+            assertEquals(CommandLong.class.getName(), resolved.getName());
+            assertTrue(loader.isLoaded(CommandLong.class.getName()));
+        }
+    }
+
+    @Test
+    public void dialectsAreShared() {
+        assertSame(CommonDialect.instance(), CommonDialect.instance());
+    }
+
+    private static class IsolatedClassLoader extends URLClassLoader {
+
+        IsolatedClassLoader(URL[] urls) {
+            super(urls, null);
+        }
+
+        boolean isLoaded(String name) {
+            return findLoadedClass(name) != null;
+        }
+    }
+}
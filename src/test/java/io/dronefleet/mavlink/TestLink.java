@@ -0,0 +1,75 @@
+package io.dronefleet.mavlink;
+
+import io.dronefleet.mavlink.protocol.MavlinkPacket;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A connection which records the messages sent through it, and creates the messages a vehicle
+ * would send back, for testing clients of the connection.
+ */
+public class TestLink {
+
+    private static final ReflectionPayloadSerializer serializer = new ReflectionPayloadSerializer();
+
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    private final MavlinkConnection connection = MavlinkConnection.create(
+            new ByteArrayInputStream(new byte[0]), sent);
+
+    public MavlinkConnection connection() {
+        return connection;
+    }
+
+    /**
+     * Returns the messages sent since the last call, removing them from the link.
+     */
+    public List<MavlinkMessage<?>> drain() {
+        byte[] bytes;
+        synchronized (sent) {
+            bytes = sent.toByteArray();
+            sent.reset();
+        }
+        MavlinkConnection reader = MavlinkConnection.create(new ByteArrayInputStream(bytes), null);
+        List<MavlinkMessage<?>> messages = new ArrayList<>();
+        try {
+            //noinspection InfiniteLoopStatement
+            while (true) {
+                messages.add(reader.next());
+            }
+        } catch (EOFException e) {
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the payloads of the messages sent since the last call which are of the specified
+     * type, removing all sent messages from the link.
+     */
+    public <T> List<T> drain(Class<T> payloadType) {
+        return drain().stream()
+                .map(MavlinkMessage::getPayload)
+                .filter(payloadType::isInstance)
+                .map(payloadType::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a Mavlink 2 message as received from the specified origin.
+     */
+    public static <T> MavlinkMessage<T> message(int systemId, int componentId, T payload) {
+        MavlinkMessageDescriptor descriptor = MavlinkMessageDescriptor.of(payload.getClass());
+        return new Mavlink2Message<>(MavlinkPacket.createUnsignedMavlink2Packet(
+                0, systemId, componentId, descriptor.id(), descriptor.crcExtra(),
+                serializer.serialize(payload)), payload);
+    }
+}
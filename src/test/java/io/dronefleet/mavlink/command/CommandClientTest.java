@@ -0,0 +1,172 @@
+package io.dronefleet.mavlink.command;
+
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.CommandAck;
+import io.dronefleet.mavlink.common.CommandInt;
+import io.dronefleet.mavlink.common.CommandLong;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavResult;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CommandClientTest {
+
+    private long now;
+    private final TestLink link = new TestLink();
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final CommandClient client = CommandClient.builder(link.connection())
+            .timeouts(100, 50, 1000, TimeUnit.MILLISECONDS)
+            .progressTimeout(500, TimeUnit.MILLISECONDS)
+            .retries(2)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    @After
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void commandsCompleteWithTheirAck() throws Exception {
+        CompletableFuture<CommandAck> arm = client.send(arm(1));
+        CompletableFuture<CommandAck> reposition = client.send(CommandInt.builder()
+                .targetSystem(2)
+                .targetComponent(1)
+                .command(MavCmd.MAV_CMD_DO_REPOSITION)
+                .x(473977418)
+                .y(85455938)
+                .build());
+        assertEquals(2, client.inFlight());
+        List<CommandLong> sent = link.drain(CommandLong.class);
+        assertEquals(1, sent.size());
+        assertEquals(0, sent.get(0).confirmation());
+        try {
+            client.send(arm(1));
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        receive(2, ack(MavCmd.MAV_CMD_DO_REPOSITION, MavResult.MAV_RESULT_DENIED));
+        assertEquals(MavResult.MAV_RESULT_DENIED, reposition.get().result().entry());
+        assertFalse(arm.isDone());
+        receive(1, ack(MavCmd.MAV_CMD_COMPONENT_ARM_DISARM, MavResult.MAV_RESULT_ACCEPTED));
+        assertEquals(MavResult.MAV_RESULT_ACCEPTED, arm.get().result().entry());
+        assertEquals(0, client.inFlight());
+        assertEquals(1, client.roundTrip(1, 1).samples());
+    }
+
+    @Test
+    public void retransmissionsIncrementTheConfirmation() throws Exception {
+        CompletableFuture<CommandAck> arm = client.send(arm(1));
+        advance(110);
+        advance(210);
+        advance(410);
+        List<Integer> confirmations = link.drain(CommandLong.class).stream()
+                .map(CommandLong::confirmation)
+                .collect(Collectors.toList());
+        assertEquals(asList(0, 1, 2), confirmations);
+        try {
+            arm.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertEquals(0, client.inFlight());
+    }
+
+    @Test
+    public void progressStopsRetransmissionUntilTheFinalAck() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+        CompletableFuture<CommandAck> calibration = client.send(CommandLong.builder()
+                .targetSystem(1)
+                .targetComponent(0)
+                .command(MavCmd.MAV_CMD_PREFLIGHT_CALIBRATION)
+                .param1(1)
+                .build(), ack -> progress.add(ack.progress()));
+        link.drain();
+
+        // the acknowledgements of a command broadcast to the system come from the component
+        receive(1, CommandAck.builder()
+                .command(MavCmd.MAV_CMD_PREFLIGHT_CALIBRATION)
+                .result(MavResult.MAV_RESULT_IN_PROGRESS)
+                .progress(40)
+                .build());
+        advance(300);
+        assertTrue(link.drain().isEmpty());
+        receive(1, CommandAck.builder()
+                .command(MavCmd.MAV_CMD_PREFLIGHT_CALIBRATION)
+                .result(MavResult.MAV_RESULT_IN_PROGRESS)
+                .progress(80)
+                .build());
+        advance(300);
+        assertFalse(calibration.isDone());
+
+        CommandAck done = ack(MavCmd.MAV_CMD_PREFLIGHT_CALIBRATION, MavResult.MAV_RESULT_ACCEPTED);
+        receive(1, done);
+        assertSame(done, calibration.get());
+        assertEquals(asList(40, 80), progress);
+    }
+
+    @Test
+    public void commandsBroadcastToAllSystemsMatchTheAcksOfAnySystem() throws Exception {
+        CompletableFuture<CommandAck> arm = client.send(CommandLong.builder()
+                .targetSystem(0)
+                .targetComponent(0)
+                .command(MavCmd.MAV_CMD_COMPONENT_ARM_DISARM)
+                .param1(1)
+                .build());
+        receive(3, ack(MavCmd.MAV_CMD_COMPONENT_ARM_DISARM, MavResult.MAV_RESULT_ACCEPTED));
+        assertEquals(MavResult.MAV_RESULT_ACCEPTED, arm.get().result().entry());
+        assertEquals(0, client.inFlight());
+    }
+
+    private static CommandLong arm(int systemId) {
+        return CommandLong.builder()
+                .targetSystem(systemId)
+                .targetComponent(1)
+                .command(MavCmd.MAV_CMD_COMPONENT_ARM_DISARM)
+                .param1(1)
+                .build();
+    }
+
+    private static CommandAck ack(MavCmd command, MavResult result) {
+        return CommandAck.builder()
+                .command(command)
+                .result(result)
+                .targetSystem(255)
+                .targetComponent(190)
+                .build();
+    }
+
+    private void receive(int systemId, CommandAck ack) {
+        client.handle(TestLink.message(systemId, 1, ack));
+    }
+
+    private void advance(long millis) {
+        for (long step = 0; step < millis; step += 10) {
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            timer.advance();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.dronefleet.mavlink.export;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.protocol.MavlinkPacketReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarExporterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void itWritesOneColumnPerField() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), bytes);
+        for (int i = 0; i < 100; i++) {
+            // hdg is left at 0, so that Mavlink 2 payloads are truncated.
+            connection.send2(i % 2 + 1, 1, GlobalPositionInt.builder()
+                    .timeBootMs(i * 100)
+                    .lat(i)
+                    .lon(-i)
+                    .alt(1000)
+                    .vx(-i)
+                    .build());
+            connection.send2(1, 1, Heartbeat.builder().build());
+        }
+
+        Path directory = folder.getRoot().toPath();
+        try (ColumnarExporter exporter = ColumnarExporter.builder(directory)
+                .messageTypes(GlobalPositionInt.class)
+                .build()) {
+            exporter.export(new MavlinkPacketReader(new ByteArrayInputStream(bytes.toByteArray())));
+        }
+
+        assertFalse(Files.exists(directory.resolve("Heartbeat")));
+        Path type = directory.resolve("GlobalPositionInt");
+        List<String> schema = Files.readAllLines(type.resolve("schema.txt"));
+        assertTrue(schema.contains("rows 100"));
+        assertTrue(schema.contains("column lat int32 1"));
+
+        ByteBuffer lon = column(type, "lon");
+        ByteBuffer vx = column(type, "vx");
+        ByteBuffer hdg = column(type, "hdg");
+        ByteBuffer systemIds = column(type, "_systemId");
+        assertEquals(400, lon.remaining());
+        assertEquals(200, hdg.remaining());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(-i, lon.getInt());
+            assertEquals(-i, vx.getShort());
+            assertEquals(0, hdg.getShort());
+            assertEquals(i % 2 + 1, systemIds.get());
+        }
+    }
+
+    @Test
+    public void itReopensClosedColumnsInAppendMode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), bytes);
+        for (int i = 0; i < 50; i++) {
+            connection.send2(1, 1, GlobalPositionInt.builder().lat(i).build());
+            connection.send2(1, 1, Heartbeat.builder().customMode(i).build());
+        }
+
+        Path directory = folder.getRoot().toPath();
+        // Each type alone exceeds the limit, so every packet closes the columns of the other type.
+        try (ColumnarExporter exporter = ColumnarExporter.builder(directory)
+                .maxOpenFiles(1)
+                .build()) {
+            exporter.export(new MavlinkPacketReader(new ByteArrayInputStream(bytes.toByteArray())));
+        }
+
+        ByteBuffer lat = column(directory.resolve("GlobalPositionInt"), "lat");
+        ByteBuffer customMode = column(directory.resolve("Heartbeat"), "customMode");
+        assertEquals(200, lat.remaining());
+        assertEquals(200, customMode.remaining());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, lat.getInt());
+            assertEquals(i, customMode.getInt());
+        }
+        assertTrue(Files.readAllLines(directory.resolve("Heartbeat").resolve("schema.txt")).contains("rows 50"));
+    }
+
+    private ByteBuffer column(Path type, String name) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(type.resolve(name + ".bin")))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,191 @@
+package io.dronefleet.mavlink.ftp;
+
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.FileTransferProtocol;
+import io.dronefleet.mavlink.common.MavFtpErr;
+import io.dronefleet.mavlink.common.MavFtpOpcode;
+import io.dronefleet.mavlink.util.EnumValue;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FtpClientTest {
+
+    private static final int OPEN_FILE_RO = opcode(MavFtpOpcode.MAV_FTP_OPCODE_OPENFILERO);
+    private static final int READ_FILE = opcode(MavFtpOpcode.MAV_FTP_OPCODE_READFILE);
+    private static final int BURST_READ_FILE = opcode(MavFtpOpcode.MAV_FTP_OPCODE_BURSTREADFILE);
+    private static final int TERMINATE_SESSION = opcode(MavFtpOpcode.MAV_FTP_OPCODE_TERMINATESESSION);
+    private static final int ACK = opcode(MavFtpOpcode.MAV_FTP_OPCODE_ACK);
+    private static final int NAK = opcode(MavFtpOpcode.MAV_FTP_OPCODE_NAK);
+    private static final int SESSION = 3;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private long now;
+    private final TestLink link = new TestLink();
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final FtpClient client = FtpClient.builder(link.connection())
+            .timeouts(100, 50, 1000, TimeUnit.MILLISECONDS)
+            .retries(2)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+    private final byte[] file = new byte[1000];
+
+    @After
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void holesLeftByABurstAreRead() throws Exception {
+        new Random(1).nextBytes(file);
+        Path local = folder.getRoot().toPath().resolve("log.bin");
+        CompletableFuture<Long> download = client.download(1, 1, "/fs/microsd/log.bin", local);
+        byte[] open = single();
+        assertEquals(OPEN_FILE_RO, FtpPacket.opcode(open));
+        assertEquals("/fs/microsd/log.bin", new String(open, FtpPacket.DATA_OFFSET, FtpPacket.size(open), "UTF-8"));
+
+        receive(reply(ACK, OPEN_FILE_RO, 0, 4, false, new byte[]{(byte) 0xe8, 0x03, 0, 0}));
+        byte[] burst = single();
+        assertEquals(BURST_READ_FILE, FtpPacket.opcode(burst));
+        assertEquals(SESSION, FtpPacket.session(burst));
+        assertEquals(0, FtpPacket.offset(burst));
+
+        // the second and fourth chunks are lost
+        receive(chunk(BURST_READ_FILE, 0, false));
+        receive(chunk(BURST_READ_FILE, 478, false));
+        receive(chunk(BURST_READ_FILE, 956, true));
+        List<byte[]> reads = sent();
+        assertEquals(asList(239L, 717L), reads.stream().map(FtpPacket::offset).collect(Collectors.toList()));
+        assertEquals(READ_FILE, FtpPacket.opcode(reads.get(0)));
+        assertEquals(239, FtpPacket.size(reads.get(1)));
+        assertFalse(download.isDone());
+
+        receive(chunk(READ_FILE, 717, false));
+        receive(chunk(READ_FILE, 239, false));
+        assertEquals(1000L, (long) download.get());
+        assertEquals(TERMINATE_SESSION, FtpPacket.opcode(single()));
+        assertArrayEquals(file, Files.readAllBytes(local));
+    }
+
+    @Test
+    public void stalledBurstsAreResumedUntilTheRetriesRunOut() throws Exception {
+        Path local = folder.getRoot().toPath().resolve("params.bin");
+        CompletableFuture<Long> download = client.download(1, 1, "/params.bin", local);
+        single();
+        receive(reply(ACK, OPEN_FILE_RO, 0, 4, false, new byte[]{(byte) 0xe8, 0x03, 0, 0}));
+        single();
+        receive(chunk(BURST_READ_FILE, 0, false));
+        receive(chunk(BURST_READ_FILE, 239, false));
+        assertTrue(sent().isEmpty());
+
+        // the burst stalls, and the rest of the file is requested with another burst
+        advance(60);
+        byte[] burst = single();
+        assertEquals(BURST_READ_FILE, FtpPacket.opcode(burst));
+        assertEquals(478, FtpPacket.offset(burst));
+
+        advance(110);
+        assertEquals(BURST_READ_FILE, FtpPacket.opcode(single()));
+        advance(210);
+        assertEquals(TERMINATE_SESSION, FtpPacket.opcode(single()));
+        try {
+            download.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void naksFailTheDownload() throws Exception {
+        CompletableFuture<Long> download = client.download(1, 1, "/missing", folder.newFile().toPath());
+        try {
+            client.download(1, 1, "/other", folder.newFile().toPath());
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        single();
+        int error = EnumValue.of(MavFtpErr.MAV_FTP_ERR_FAILERRNO).value();
+        receive(reply(NAK, OPEN_FILE_RO, 0, 2, false, new byte[]{(byte) error, 2}));
+        try {
+            download.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals(MavFtpErr.MAV_FTP_ERR_FAILERRNO, ((FtpException) e.getCause()).error().entry());
+        }
+        // a failed open leaves no session to terminate
+        assertTrue(sent().isEmpty());
+    }
+
+    private byte[] chunk(int requestOpcode, int offset, boolean burstComplete) {
+        int size = Math.min(FtpPacket.MAX_DATA_LENGTH, file.length - offset);
+        byte[] data = new byte[size];
+        System.arraycopy(file, offset, data, 0, size);
+        return reply(ACK, requestOpcode, offset, size, burstComplete, data);
+    }
+
+    private byte[] reply(int opcode, int requestOpcode, long offset, int size, boolean burstComplete, byte[] data) {
+        byte[] payload = FtpPacket.request(0, SESSION, opcode, offset, size);
+        payload[5] = (byte) requestOpcode;
+        payload[6] = (byte) (burstComplete ? 1 : 0);
+        System.arraycopy(data, 0, payload, FtpPacket.DATA_OFFSET, data.length);
+        return payload;
+    }
+
+    private void receive(byte[] payload) {
+        client.handle(TestLink.message(1, 1, FileTransferProtocol.builder()
+                .targetSystem(255)
+                .targetComponent(190)
+                .payload(payload)
+                .build()));
+    }
+
+    private List<byte[]> sent() {
+        return link.drain(FileTransferProtocol.class).stream()
+                .map(FileTransferProtocol::payload)
+                .collect(Collectors.toList());
+    }
+
+    private byte[] single() {
+        List<byte[]> sent = sent();
+        assertEquals(1, sent.size());
+        return sent.get(0);
+    }
+
+    private void advance(long millis) {
+        for (long step = 0; step < millis; step += 10) {
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            timer.advance();
+        }
+    }
+
+    private static int opcode(MavFtpOpcode opcode) {
+        return EnumValue.of(opcode).value();
+    }
+}
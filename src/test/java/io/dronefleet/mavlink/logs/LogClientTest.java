@@ -0,0 +1,152 @@
+package io.dronefleet.mavlink.logs;
+
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.LogData;
+import io.dronefleet.mavlink.common.LogEntry;
+import io.dronefleet.mavlink.common.LogRequestData;
+import io.dronefleet.mavlink.common.LogRequestEnd;
+import io.dronefleet.mavlink.common.LogRequestList;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LogClientTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private long now;
+    private final TestLink link = new TestLink();
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final LogClient client = LogClient.builder(link.connection())
+            .timeouts(100, 50, 1000, TimeUnit.MILLISECONDS)
+            .retries(1)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+    private final byte[] log = new byte[1000];
+    private final LogEntry entry = LogEntry.builder().id(7).numLogs(1).lastLogNum(7).size(log.length).build();
+
+    @After
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void logsAreListed() throws Exception {
+        CompletableFuture<List<LogEntry>> entries = client.entries(1, 1);
+        assertEquals(1, link.drain(LogRequestList.class).size());
+        receive(LogEntry.builder().id(2).numLogs(2).lastLogNum(2).size(100).build());
+        assertFalse(entries.isDone());
+        receive(LogEntry.builder().id(1).numLogs(2).lastLogNum(2).size(200).build());
+        assertEquals(asList(1, 2), entries.get().stream().map(LogEntry::id).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void missingRunsAreRequestedOnceTheLogIsStreamed() throws Exception {
+        new Random(1).nextBytes(log);
+        Path file = folder.getRoot().toPath().resolve("7.bin");
+        LogDownload download = client.download(1, 1, entry, file);
+        LogRequestData request = single();
+        assertEquals(7, request.id());
+        assertEquals(0, request.ofs());
+        assertEquals(1000, request.count());
+
+        // blocks 3, 4 and 7 are lost, and the runs between are close enough to be requested as one
+        for (int block = 0; block < 12; block++) {
+            if (block != 3 && block != 4 && block != 7) {
+                receive(block(block));
+            }
+        }
+        request = single();
+        assertEquals(270, request.ofs());
+        assertEquals(450, request.count());
+        assertEquals(730, download.received());
+
+        receive(block(3));
+        receive(block(4));
+        receive(block(5));
+        assertTrue(link.drain().isEmpty());
+        receive(block(7));
+        assertEquals(1000L, (long) download.completion().get());
+        assertEquals(1, link.drain(LogRequestEnd.class).size());
+        assertArrayEquals(log, Files.readAllBytes(file));
+        assertEquals(1.0, download.progress(), 0);
+        assertEquals(2, download.requests());
+        assertEquals(1, download.duplicates());
+    }
+
+    @Test
+    public void stalledDownloadsAreResumedUntilTheRetriesRunOut() throws Exception {
+        LogDownload download = client.download(1, 1, entry, folder.newFile().toPath());
+        single();
+        receive(block(0));
+        receive(block(1));
+
+        advance(60);
+        LogRequestData request = single();
+        assertEquals(180, request.ofs());
+        assertEquals(820, request.count());
+
+        advance(110);
+        assertEquals(1, link.drain(LogRequestEnd.class).size());
+        try {
+            download.completion().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    private LogData block(int block) {
+        int offset = block * LogClient.BLOCK_LENGTH;
+        int count = Math.min(LogClient.BLOCK_LENGTH, log.length - offset);
+        return LogData.builder()
+                .id(7)
+                .ofs(offset)
+                .count(count)
+                .data(Arrays.copyOf(Arrays.copyOfRange(log, offset, offset + count), LogClient.BLOCK_LENGTH))
+                .build();
+    }
+
+    private void receive(Object payload) {
+        client.handle(TestLink.message(1, 1, payload));
+    }
+
+    private LogRequestData single() {
+        List<LogRequestData> sent = link.drain(LogRequestData.class);
+        assertEquals(1, sent.size());
+        return sent.get(0);
+    }
+
+    private void advance(long millis) {
+        for (long step = 0; step < millis; step += 10) {
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            timer.advance();
+        }
+    }
+}
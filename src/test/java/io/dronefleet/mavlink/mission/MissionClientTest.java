@@ -0,0 +1,403 @@
+package io.dronefleet.mavlink.mission;
+
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavFrame;
+import io.dronefleet.mavlink.common.MavMissionResult;
+import io.dronefleet.mavlink.common.MavMissionType;
+import io.dronefleet.mavlink.common.MissionAck;
+import io.dronefleet.mavlink.common.MissionCount;
+import io.dronefleet.mavlink.common.MissionItemInt;
+import io.dronefleet.mavlink.common.MissionRequestInt;
+import io.dronefleet.mavlink.common.MissionRequestList;
+import io.dronefleet.mavlink.common.MissionWritePartialList;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MissionClientTest {
+
+    private final TestLink link = new TestLink();
+    private long now;
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(1, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final MissionClient client = MissionClient.builder(link.connection())
+            .retries(2)
+            .timeouts(100, 10, 1000, TimeUnit.MILLISECONDS)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void uploadsAnswerRequestsFromEncodedItems() throws Exception {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_FENCE, items(3));
+        MissionCount count = single(MissionCount.class);
+        assertEquals(3, count.count());
+        assertEquals(MavMissionType.MAV_MISSION_TYPE_FENCE, count.missionType().entry());
+
+        request(0, MavMissionType.MAV_MISSION_TYPE_FENCE);
+        request(1, MavMissionType.MAV_MISSION_TYPE_FENCE);
+        List<MavlinkMessage<?>> first = link.drain();
+        // a duplicate request, as sent by a vehicle which did not receive the item
+        request(1, MavMissionType.MAV_MISSION_TYPE_FENCE);
+        List<MavlinkMessage<?>> duplicate = link.drain();
+        assertEquals(1, duplicate.size());
+        assertEquals(first.get(1).getPayload(), duplicate.get(0).getPayload());
+
+        request(2, MavMissionType.MAV_MISSION_TYPE_FENCE);
+        MissionItemInt last = single(MissionItemInt.class);
+        assertEquals(2, last.seq());
+        assertEquals(1, last.targetSystem());
+        assertEquals(1, last.targetComponent());
+        assertEquals(MavMissionType.MAV_MISSION_TYPE_FENCE, last.missionType().entry());
+        assertEquals(20, last.x());
+
+        assertFalse(upload.isDone());
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_FENCE);
+        upload.get();
+    }
+
+    @Test
+    public void uploadsRetransmitAndTimeOut() throws Exception {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(2));
+        single(MissionCount.class);
+        advance(99);
+        assertEquals(0, link.drain().size());
+        advance(1);
+        single(MissionCount.class);
+        // the timeout backs off
+        advance(199);
+        assertEquals(0, link.drain().size());
+        advance(1);
+        single(MissionCount.class);
+        advance(400);
+        try {
+            upload.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void rejectedUploadsFail() throws Exception {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(2));
+        request(0, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        ack(MavMissionResult.MAV_MISSION_NO_SPACE, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        try {
+            upload.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals(MavMissionResult.MAV_MISSION_NO_SPACE,
+                    ((MissionTransferException) e.getCause()).result().entry());
+        }
+        // the transfer is over, so another can start
+        client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(2));
+    }
+
+    @Test
+    public void uploadsOnlyCompleteOnceEveryItemWasRequested() throws Exception {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(2));
+        single(MissionCount.class);
+        // a late acknowledgement of an earlier upload
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertFalse(upload.isDone());
+
+        request(0, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        single(MissionItemInt.class);
+        // the vehicle lost the item it requested
+        ack(MavMissionResult.MAV_MISSION_INVALID_SEQUENCE, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertEquals(0, single(MissionItemInt.class).seq());
+        assertFalse(upload.isDone());
+
+        request(1, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        upload.get();
+        assertEquals(2, client.mission(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION).size());
+    }
+
+    @Test
+    public void downloadsKeepAWindowOfRequestsInFlight() throws Exception {
+        CompletableFuture<List<MissionItemInt>> download = client.download(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        single(MissionRequestList.class);
+
+        advance(20);
+        receive(MissionCount.builder()
+                .targetSystem(255)
+                .targetComponent(190)
+                .count(10)
+                .build());
+        assertEquals(asList(0, 1, 2, 3), requested());
+        // the round trip of the list request was measured
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(20), client.roundTrip(1, 1).smoothedNanos());
+
+        item(2);
+        item(0);
+        assertEquals(asList(4, 5), requested());
+        item(1);
+        item(4);
+        item(5);
+        assertEquals(asList(6, 7, 8), requested());
+
+        // item 3 was lost, and is requested again once the retransmission timeout elapses
+        item(6);
+        item(7);
+        item(8);
+        assertEquals(asList(9), requested());
+        item(9);
+        advance((client.roundTrip(1, 1).timeoutNanos() + 999_999) / 1_000_000);
+        assertEquals(asList(3), requested());
+        item(3);
+
+        List<MissionItemInt> items = download.get();
+        assertEquals(10, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).seq());
+        }
+        MissionAck ack = single(MissionAck.class);
+        assertEquals(MavMissionResult.MAV_MISSION_ACCEPTED, ack.type().entry());
+    }
+
+    @Test
+    public void transfersOfDifferentTypesRunConcurrently() throws Exception {
+        CompletableFuture<List<MissionItemInt>> rally = client.download(1, 1, MavMissionType.MAV_MISSION_TYPE_RALLY);
+        CompletableFuture<Void> mission = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(1));
+        CompletableFuture<Void> other = client.upload(2, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(1));
+        try {
+            client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(1));
+            fail();
+        } catch (IllegalStateException expected) {
+            // a transfer is already in progress
+        }
+        link.drain();
+
+        receive(MissionCount.builder()
+                .targetSystem(255)
+                .count(0)
+                .missionType(MavMissionType.MAV_MISSION_TYPE_RALLY)
+                .build());
+        assertEquals(0, rally.get().size());
+        request(0, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        mission.get();
+        assertFalse(other.isDone());
+    }
+
+    @Test
+    public void messagesToOtherSystemsAreIgnored() {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(1));
+        link.drain();
+        client.handle(TestLink.message(1, 1, MissionRequestInt.builder()
+                .targetSystem(254)
+                .seq(0)
+                .build()));
+        assertEquals(0, link.drain().size());
+        assertFalse(upload.isDone());
+    }
+
+    @Test
+    public void syncWritesOnlyChangedRanges() throws Exception {
+        List<MissionItemInt> items = items(10);
+        uploadAll(items);
+
+        List<MissionItemInt> edited = new ArrayList<>(items);
+        edited.set(2, waypoint(200));
+        edited.set(4, waypoint(400));
+        edited.set(8, waypoint(800));
+        CompletableFuture<Void> sync = client.sync(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, edited);
+
+        // items 2 and 4 are written together, since only a single item between them is unchanged
+        MissionWritePartialList write = single(MissionWritePartialList.class);
+        assertEquals(2, write.startIndex());
+        assertEquals(4, write.endIndex());
+        request(1, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertEquals(0, link.drain().size());
+        for (int seq = 2; seq <= 4; seq++) {
+            request(seq, MavMissionType.MAV_MISSION_TYPE_MISSION);
+            assertEquals(seq, single(MissionItemInt.class).seq());
+        }
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+
+        write = single(MissionWritePartialList.class);
+        assertEquals(8, write.startIndex());
+        assertEquals(8, write.endIndex());
+        request(8, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertEquals(8000, single(MissionItemInt.class).x());
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+
+        sync.get();
+        assertEquals(edited, client.mission(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION));
+
+        // nothing changed since
+        client.sync(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, edited).get();
+        assertEquals(0, link.drain().size());
+    }
+
+    @Test
+    public void syncUploadsEverythingWhenTheCountChanges() {
+        uploadAll(items(3));
+        client.sync(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items(4));
+        assertEquals(4, single(MissionCount.class).count());
+    }
+
+    @Test
+    public void syncUploadsEverythingWhenPartialWritesAreRejected() throws Exception {
+        List<MissionItemInt> items = items(3);
+        uploadAll(items);
+        List<MissionItemInt> edited = new ArrayList<>(items);
+        edited.set(1, waypoint(100));
+
+        CompletableFuture<Void> sync = client.sync(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, edited);
+        single(MissionWritePartialList.class);
+        ack(MavMissionResult.MAV_MISSION_UNSUPPORTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertEquals(3, single(MissionCount.class).count());
+        for (int seq = 0; seq < 3; seq++) {
+            request(seq, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        }
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        sync.get();
+    }
+
+    @Test
+    public void syncUploadsEverythingWhenPartialWritesAreIgnored() throws Exception {
+        List<MissionItemInt> items = items(3);
+        uploadAll(items);
+        List<MissionItemInt> edited = new ArrayList<>(items);
+        edited.set(1, waypoint(100));
+
+        CompletableFuture<Void> sync = client.sync(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, edited);
+        single(MissionWritePartialList.class);
+        // the partial write times out, after which everything is uploaded
+        List<MissionCount> counts;
+        do {
+            assertFalse(sync.isDone());
+            advance(10);
+            counts = link.drain(MissionCount.class);
+        } while (counts.isEmpty());
+        assertEquals(3, counts.get(0).count());
+        for (int seq = 0; seq < 3; seq++) {
+            request(seq, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        }
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        sync.get();
+        assertEquals(edited, client.mission(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION));
+    }
+
+    @Test
+    public void rangesAreMergedAcrossSmallGaps() {
+        byte[][] current = new byte[10][];
+        byte[][] next = new byte[10][];
+        for (int i = 0; i < 10; i++) {
+            current[i] = new byte[]{(byte) i};
+            next[i] = new byte[]{(byte) (i == 0 || i == 3 || i == 4 || i == 9 ? -i - 1 : i)};
+        }
+        List<int[]> ranges = MissionDiff.changedRanges(current, next, 2);
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new int[]{0, 4}, ranges.get(0));
+        assertArrayEquals(new int[]{9, 9}, ranges.get(1));
+        assertEquals(3, MissionDiff.changedRanges(current, next, 1).size());
+        assertEquals(0, MissionDiff.changedRanges(current, current, 0).size());
+    }
+
+    private void uploadAll(List<MissionItemInt> items) {
+        CompletableFuture<Void> upload = client.upload(1, 1, MavMissionType.MAV_MISSION_TYPE_MISSION, items);
+        for (int seq = 0; seq < items.size(); seq++) {
+            request(seq, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        }
+        ack(MavMissionResult.MAV_MISSION_ACCEPTED, MavMissionType.MAV_MISSION_TYPE_MISSION);
+        assertTrue(upload.isDone());
+        link.drain();
+    }
+
+    private MissionItemInt waypoint(int position) {
+        return MissionItemInt.builder()
+                .frame(MavFrame.MAV_FRAME_GLOBAL_RELATIVE_ALT_INT)
+                .command(MavCmd.MAV_CMD_NAV_WAYPOINT)
+                .autocontinue(1)
+                .x(position * 10)
+                .y(position * 10)
+                .z(50)
+                .build();
+    }
+
+    private List<MissionItemInt> items(int count) {
+        List<MissionItemInt> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(waypoint(i));
+        }
+        return items;
+    }
+
+    private void request(int seq, MavMissionType type) {
+        receive(MissionRequestInt.builder()
+                .targetSystem(255)
+                .targetComponent(190)
+                .seq(seq)
+                .missionType(type)
+                .build());
+    }
+
+    private void item(int seq) {
+        receive(MissionItemInt.builder()
+                .targetSystem(255)
+                .targetComponent(190)
+                .seq(seq)
+                .frame(MavFrame.MAV_FRAME_GLOBAL_RELATIVE_ALT_INT)
+                .command(MavCmd.MAV_CMD_NAV_WAYPOINT)
+                .build());
+    }
+
+    private void ack(MavMissionResult result, MavMissionType type) {
+        receive(MissionAck.builder()
+                .targetSystem(255)
+                .targetComponent(190)
+                .type(result)
+                .missionType(type)
+                .build());
+    }
+
+    private void receive(Object payload) {
+        client.handle(TestLink.message(1, 1, payload));
+    }
+
+    private <T> T single(Class<T> type) {
+        List<T> messages = link.drain(type);
+        assertEquals(1, messages.size());
+        return messages.get(0);
+    }
+
+    private List<Integer> requested() {
+        return link.drain(MissionRequestInt.class).stream()
+                .map(MissionRequestInt::seq)
+                .collect(Collectors.toList());
+    }
+
+    private void advance(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+        timer.advance();
+    }
+}
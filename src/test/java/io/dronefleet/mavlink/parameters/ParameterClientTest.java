@@ -0,0 +1,194 @@
+package io.dronefleet.mavlink.parameters;
+
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.MavParamType;
+import io.dronefleet.mavlink.common.ParamRequestList;
+import io.dronefleet.mavlink.common.ParamRequestRead;
+import io.dronefleet.mavlink.common.ParamSet;
+import io.dronefleet.mavlink.common.ParamValue;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParameterClientTest {
+
+    private static final int COUNT = 20;
+
+    private final TestLink link = new TestLink();
+    private long now;
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final ParameterClient client = ParameterClient.builder(link.connection())
+            .window(2)
+            .retries(2)
+            .timeout(100, TimeUnit.MILLISECONDS)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void itRequestsOnlyMissingIndices() throws Exception {
+        CompletableFuture<ParameterCache> download = client.fetchAll(1, 1);
+        assertEquals(1, link.drain(ParamRequestList.class).size());
+
+        for (int i = 0; i < COUNT; i++) {
+            if (i != 3 && i != 7 && i != 19) {
+                receive(i);
+            }
+        }
+        advance(10);
+        assertEquals(0, link.drain().size());
+
+        // the last parameter was lost too, so the stream ends when it stalls
+        expire();
+        assertEquals(asList(3, 7), requestedIndices());
+
+        receive(3);
+        assertEquals(asList(19), requestedIndices());
+
+        receive(19);
+        assertFalse(download.isDone());
+        receive(7);
+
+        ParameterCache cache = download.get();
+        assertTrue(cache.isComplete());
+        assertEquals(COUNT, cache.values().size());
+        assertEquals(7f, cache.get("PARAM_7").paramValue(), 0);
+    }
+
+    @Test
+    public void itRequestsGapsAsSoonAsTheStreamEnds() throws Exception {
+        CompletableFuture<ParameterCache> download = client.fetchAll(1, 1);
+        link.drain();
+        for (int i = 0; i < COUNT; i++) {
+            if (i != 5) {
+                receive(i);
+            }
+        }
+        assertEquals(asList(5), requestedIndices());
+
+        expire();
+        assertEquals(asList(5), requestedIndices());
+        expire();
+        assertEquals(asList(5), requestedIndices());
+        expire();
+        try {
+            download.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertEquals(COUNT - 1, client.cache(1, 1).received());
+    }
+
+    @Test
+    public void itRetransmitsTheListRequest() {
+        CompletableFuture<ParameterCache> download = client.fetchAll(1, 1);
+        assertSame(download, client.fetchAll(1, 1));
+        assertEquals(1, link.drain(ParamRequestList.class).size());
+
+        expire();
+        assertEquals(1, link.drain(ParamRequestList.class).size());
+        expire();
+        assertEquals(1, link.drain(ParamRequestList.class).size());
+        expire();
+        assertTrue(download.isCompletedExceptionally());
+    }
+
+    @Test
+    public void readsAreServedFromTheCache() throws Exception {
+        CompletableFuture<ParamValue> read = client.read(1, 1, "PARAM_4");
+        List<ParamRequestRead> requests = link.drain(ParamRequestRead.class);
+        assertEquals(1, requests.size());
+        assertEquals("PARAM_4", requests.get(0).paramId());
+        assertEquals(-1, requests.get(0).paramIndex());
+
+        receive(4);
+        assertEquals(4f, read.get().paramValue(), 0);
+
+        assertEquals(4f, client.read(1, 1, "PARAM_4").get().paramValue(), 0);
+        assertEquals(0, link.drain().size());
+    }
+
+    @Test
+    public void writesCompleteWhenTheVehicleReportsTheValue() throws Exception {
+        receive(1);
+        receive(2);
+        CompletableFuture<ParamValue> first = client.write(1, 1, "PARAM_1", 10f);
+        CompletableFuture<ParamValue> second = client.write(1, 1, "PARAM_2", 20f, MavParamType.MAV_PARAM_TYPE_INT32);
+        assertEquals(2, link.drain(ParamSet.class).size());
+
+        expire();
+        List<ParamSet> retransmitted = link.drain(ParamSet.class);
+        assertEquals(2, retransmitted.size());
+        assertEquals(MavParamType.MAV_PARAM_TYPE_REAL32, retransmitted.stream()
+                .filter(set -> set.paramId().equals("PARAM_1"))
+                .findFirst().get().paramType().entry());
+
+        client.handle(TestLink.message(1, 1, value(2, 20f)));
+        assertEquals(20f, second.get().paramValue(), 0);
+        assertFalse(first.isDone());
+
+        expire();
+        expire();
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals(20f, client.cache(1, 1).get("PARAM_2").paramValue(), 0);
+    }
+
+    private void receive(int index) {
+        client.handle(TestLink.message(1, 1, value(index, index)));
+    }
+
+    private ParamValue value(int index, float value) {
+        return ParamValue.builder()
+                .paramId("PARAM_" + index)
+                .paramValue(value)
+                .paramType(MavParamType.MAV_PARAM_TYPE_REAL32)
+                .paramCount(COUNT)
+                .paramIndex(index)
+                .build();
+    }
+
+    /**
+     * Advances past the timeout, and the period of the checks for it.
+     */
+    private void expire() {
+        advance(130);
+    }
+
+    private void advance(long millis) {
+        for (long elapsed = 0; elapsed < millis; elapsed += 10) {
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            timer.advance();
+        }
+    }
+
+    private List<Integer> requestedIndices() {
+        return link.drain(ParamRequestRead.class).stream()
+                .map(ParamRequestRead::paramIndex)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
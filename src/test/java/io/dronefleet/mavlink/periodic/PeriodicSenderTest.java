@@ -0,0 +1,161 @@
+package io.dronefleet.mavlink.periodic;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.ManualControl;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.minimal.MavAutopilot;
+import io.dronefleet.mavlink.minimal.MavType;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PeriodicSenderTest {
+
+    private long now;
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final PeriodicSender sender = PeriodicSender.builder()
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    @After
+    public void close() {
+        sender.close();
+    }
+
+    @Test
+    public void streamsOfALinkAreSentWithOneWritePerTick() throws IOException {
+        Output output = new Output();
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), output);
+        sender.schedule(connection, 255, 190, heartbeat(), 1, TimeUnit.SECONDS);
+        sender.schedule(connection, 255, 190, control(0), 40, TimeUnit.MILLISECONDS);
+        advance(1000);
+
+        List<MavlinkMessage<?>> messages = output.messages();
+        assertEquals(2, count(messages, Heartbeat.class));
+        assertEquals(26, count(messages, ManualControl.class));
+        assertEquals(26, output.writes);
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(i, messages.get(i).getSequence());
+        }
+    }
+
+    @Test
+    public void streamsCanBeUpdatedAndCancelled() throws IOException {
+        Output output = new Output();
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), output);
+        PeriodicSender.Stream stream = sender.schedule(connection, 255, 190, control(0), 100, TimeUnit.MILLISECONDS);
+        advance(100);
+        stream.update(control(500));
+        advance(100);
+        List<MavlinkMessage<?>> messages = output.messages();
+        assertEquals(0, ((ManualControl) messages.get(0).getPayload()).x());
+        assertEquals(500, ((ManualControl) messages.get(messages.size() - 1).getPayload()).x());
+
+        stream.cancel();
+        advance(500);
+        assertTrue(output.messages().isEmpty());
+        assertEquals(0, sender.streams());
+        assertEquals(0, sender.connections());
+    }
+
+    @Test
+    public void aThrowingWriteOnlyDropsItsTick() throws IOException {
+        Output output = new Output() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                if (writes++ == 0) {
+                    throw new IllegalStateException("first write fails");
+                }
+                super.write(b, off, len);
+            }
+        };
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), output);
+        PeriodicSender.Stream stream = sender.schedule(connection, 255, 190, heartbeat(), 100, TimeUnit.MILLISECONDS);
+        advance(1000);
+        // only the packet of the failed write is lost
+        assertEquals(stream.sent() - 1, output.messages().size());
+    }
+
+    @Test
+    public void eachConnectionHasItsOwnSequence() throws IOException {
+        Output first = new Output();
+        Output second = new Output();
+        sender.schedule(MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), first),
+                255, 190, heartbeat(), 1, TimeUnit.SECONDS);
+        sender.schedule(MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), second),
+                255, 190, heartbeat(), 500, TimeUnit.MILLISECONDS);
+        advance(1000);
+        assertEquals(2, first.messages().size());
+        List<MavlinkMessage<?>> messages = second.messages();
+        assertEquals(3, messages.size());
+        assertEquals(2, messages.get(2).getSequence());
+        assertEquals(2, sender.connections());
+    }
+
+    private static Heartbeat heartbeat() {
+        return Heartbeat.builder()
+                .type(MavType.MAV_TYPE_GCS)
+                .autopilot(MavAutopilot.MAV_AUTOPILOT_INVALID)
+                .build();
+    }
+
+    private static ManualControl control(int x) {
+        return ManualControl.builder().target(1).x(x).z(500).build();
+    }
+
+    private static long count(List<MavlinkMessage<?>> messages, Class<?> payloadType) {
+        return messages.stream().filter(message -> payloadType.isInstance(message.getPayload())).count();
+    }
+
+    private void advance(long millis) {
+        for (long step = 0; step < millis; step += 10) {
+            now += TimeUnit.MILLISECONDS.toNanos(10);
+            timer.advance();
+        }
+    }
+
+    /**
+     * Records the writes to a connection, and parses the messages written, which fails for
+     * packets with an invalid CRC.
+     */
+    private static class Output extends ByteArrayOutputStream {
+        int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        List<MavlinkMessage<?>> messages() throws IOException {
+            MavlinkConnection reader = MavlinkConnection.create(new ByteArrayInputStream(toByteArray()), null);
+            reset();
+            List<MavlinkMessage<?>> messages = new ArrayList<>();
+            try {
+                //noinspection InfiniteLoopStatement
+                while (true) {
+                    messages.add(reader.next());
+                }
+            } catch (EOFException e) {
+                return messages;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.dronefleet.mavlink.rates;
+
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.Attitude;
+import io.dronefleet.mavlink.common.CommandLong;
+import io.dronefleet.mavlink.common.GpsRawInt;
+import io.dronefleet.mavlink.common.MavCmd;
+import io.dronefleet.mavlink.common.MavDataStream;
+import io.dronefleet.mavlink.common.RequestDataStream;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateManagerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+    private final TestLink link = new TestLink();
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final RateManager rates = RateManager.builder(link.connection())
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    @After
+    public void close() {
+        rates.close();
+    }
+
+    @Test
+    public void ratesAreRequestedOnceWhileTheyHold() {
+        rates.setRate(1, 1, Attitude.class, 10);
+        List<CommandLong> commands = link.drain(CommandLong.class);
+        assertEquals(1, commands.size());
+        assertEquals(MavCmd.MAV_CMD_SET_MESSAGE_INTERVAL, commands.get(0).command().entry());
+        assertEquals(30, commands.get(0).param1(), 0);
+        assertEquals(100_000, commands.get(0).param2(), 0);
+
+        vehicle(30_000, 10);
+        assertTrue(link.drain().isEmpty());
+        MessageRate rate = rates.rate(1, 1, Attitude.class);
+        assertEquals(10, rate.measuredRate(), 0.5);
+        assertEquals(1, rate.requests());
+    }
+
+    @Test
+    public void slowRatesAreNotRequestedAgainWhileTheyHold() {
+        rates.setRate(1, 1, Attitude.class, 0.1);
+        link.drain();
+        vehicle(600_000, 0.1);
+        assertTrue(link.drain().isEmpty());
+        MessageRate rate = rates.rate(1, 1, Attitude.class);
+        assertEquals(0.1, rate.measuredRate(), 0.01);
+        assertEquals(1, rate.requests());
+    }
+
+    @Test
+    public void driftedRatesAreRequestedAgainWithBackoff() {
+        rates.setRate(1, 1, Attitude.class, 10);
+        vehicle(30_000, 10);
+        link.drain();
+
+        // the autopilot reboots to its default rate, and ignores the requests
+        vehicle(40_000, 4);
+        assertEquals(3, link.drain(CommandLong.class).size());
+
+        // nothing is sent to a vehicle which is not heard from
+        now += 60_000 * MS;
+        timer.advance();
+        assertTrue(link.drain().isEmpty());
+    }
+
+    @Test
+    public void legacyStreamsAreRequestedAndBandwidthIsReported() {
+        rates.setRate(1, 1, Attitude.class, 10, MavDataStream.MAV_DATA_STREAM_EXTRA1);
+        RequestDataStream request = link.drain(RequestDataStream.class).get(0);
+        assertEquals(10, request.reqStreamId());
+        assertEquals(10, request.reqMessageRate());
+        assertEquals(1, request.startStop());
+
+        vehicle(20_000, 10);
+        List<MessageRate> report = rates.report();
+        assertEquals(Attitude.class, report.get(0).messageType());
+        assertTrue(report.get(0).isManaged());
+        assertEquals(10 * attitude().getLength(), report.get(0).bytesPerSecond(), 10);
+        assertEquals(Heartbeat.class, report.get(1).messageType());
+        assertFalse(report.get(1).isManaged());
+        assertEquals(1, report.get(1).measuredRate(), 0.1);
+        assertEquals(report.get(0).bytesPerSecond() + report.get(1).bytesPerSecond(), rates.bytesPerSecond(), 1e-6);
+        assertEquals(null, rates.rate(1, 1, GpsRawInt.class));
+    }
+
+    /**
+     * Simulates a vehicle which sends attitudes at the specified rate, and a heartbeat every
+     * second.
+     */
+    private void vehicle(long millis, double rate) {
+        long period = (long) (1000 / rate);
+        for (long elapsed = 0; elapsed < millis; elapsed += 10) {
+            now += 10 * MS;
+            if (elapsed % period == 0) {
+                rates.handle(attitude());
+            }
+            if (elapsed % 1000 == 0) {
+                rates.handle(TestLink.message(1, 1, Heartbeat.builder().build()));
+            }
+            timer.advance();
+        }
+    }
+
+    private static io.dronefleet.mavlink.MavlinkMessage<Attitude> attitude() {
+        return TestLink.message(1, 1, Attitude.builder().timeBootMs(1000).roll(0.1f).build());
+    }
+}
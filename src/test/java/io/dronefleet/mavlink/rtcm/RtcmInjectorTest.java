@@ -0,0 +1,118 @@
+package io.dronefleet.mavlink.rtcm;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.GpsRtcmData;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class RtcmInjectorTest {
+
+    private final RtcmInjector injector = RtcmInjector.builder().build();
+
+    @Test
+    public void correctionsAreFragmentedAndFannedOut() throws IOException {
+        TestLink first = new TestLink();
+        TestLink second = new TestLink();
+        // the links are at different sequences
+        second.connection().send2(255, 190, Heartbeat.builder().build());
+        second.drain();
+        injector.subscribe(first.connection());
+        injector.subscribe(second.connection());
+
+        byte[] correction = correction(400);
+        assertEquals(3, injector.inject(correction));
+        for (TestLink link : new TestLink[]{first, second}) {
+            List<MavlinkMessage<?>> messages = link.drain();
+            assertEquals(3, messages.size());
+            ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+            for (int i = 0; i < 3; i++) {
+                GpsRtcmData fragment = (GpsRtcmData) messages.get(i).getPayload();
+                assertEquals(i << 1 | 1, fragment.flags());
+                reassembled.write(fragment.data(), 0, fragment.len());
+            }
+            assertArrayEquals(correction, reassembled.toByteArray());
+        }
+    }
+
+    @Test
+    public void shortAndWholeFragmentCorrectionsAreTerminated() {
+        TestLink link = new TestLink();
+        injector.subscribe(link.connection());
+
+        assertEquals(1, injector.inject(correction(100)));
+        GpsRtcmData whole = link.drain(GpsRtcmData.class).get(0);
+        assertEquals(0, whole.flags());
+        assertEquals(100, whole.len());
+
+        // a correction of whole fragments ends with an empty fragment, and the sequence increments
+        assertEquals(3, injector.inject(correction(360)));
+        List<GpsRtcmData> fragments = link.drain(GpsRtcmData.class);
+        assertEquals(1 << 3 | 2 << 1 | 1, fragments.get(2).flags());
+        assertEquals(0, fragments.get(2).len());
+        assertEquals(4, injector.inject(correction(RtcmInjector.MAX_LENGTH)));
+        fragments = link.drain(GpsRtcmData.class);
+        assertEquals(RtcmInjector.FRAGMENT_LENGTH - 1, fragments.get(3).len());
+
+        // 4 whole fragments would leave no fragment to end the correction
+        try {
+            injector.inject(correction(4 * RtcmInjector.FRAGMENT_LENGTH));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void correctionsOutsideOfTheBufferAreRejectedBeforeSending() {
+        TestLink link = new TestLink();
+        injector.subscribe(link.connection());
+        int[][] regions = {{-1, 10}, {0, -1}, {95, 10}, {Integer.MAX_VALUE, 10}};
+        for (int[] region : regions) {
+            try {
+                injector.inject(correction(100), region[0], region[1]);
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        assertEquals(0, link.drain().size());
+    }
+
+    @Test
+    public void aFailingLinkDoesNotStopTheOthers() {
+        TestLink link = new TestLink();
+        injector.subscribe(MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("link down");
+            }
+        }));
+        injector.subscribe(link.connection());
+        try {
+            injector.inject(correction(100));
+            fail();
+        } catch (UncheckedIOException expected) {
+        }
+        assertEquals(1, link.drain(GpsRtcmData.class).size());
+    }
+
+    private static byte[] correction(int length) {
+        byte[] correction = new byte[length];
+        new Random(length).nextBytes(correction);
+        // trailing zeros are truncated from the payloads of fragments
+        correction[length - 1] = 0;
+        return correction;
+    }
+}
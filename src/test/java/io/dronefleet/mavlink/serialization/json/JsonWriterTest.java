@@ -0,0 +1,96 @@
+package io.dronefleet.mavlink.serialization.json;
+
+import io.dronefleet.mavlink.common.ActuatorControlTarget;
+import io.dronefleet.mavlink.common.MavParamType;
+import io.dronefleet.mavlink.common.ParamValue;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import io.dronefleet.mavlink.minimal.MavAutopilot;
+import io.dronefleet.mavlink.minimal.MavModeFlag;
+import io.dronefleet.mavlink.minimal.MavState;
+import io.dronefleet.mavlink.minimal.MavType;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonWriterTest {
+
+    private final JsonWriter writer = new JsonWriter(16);
+
+    @Test
+    public void messagesWriteTheirFields() {
+        ParamValue paramValue = ParamValue.builder()
+                .paramId("RC1_MIN")
+                .paramValue(1100.5f)
+                .paramType(MavParamType.MAV_PARAM_TYPE_REAL32)
+                .paramCount(700)
+                .paramIndex(12)
+                .build();
+
+        assertEquals("{\"paramId\":\"RC1_MIN\",\"paramValue\":1100.5,\"paramType\":\"MAV_PARAM_TYPE_REAL32\","
+                        + "\"paramCount\":700,\"paramIndex\":12}",
+                writer.value(paramValue).toString());
+    }
+
+    @Test
+    public void enumBitmasksAreWrittenAsNumbers() {
+        Heartbeat heartbeat = Heartbeat.builder()
+                .type(MavType.MAV_TYPE_QUADROTOR)
+                .autopilot(MavAutopilot.MAV_AUTOPILOT_PX4)
+                .baseMode(MavModeFlag.MAV_MODE_FLAG_SAFETY_ARMED, MavModeFlag.MAV_MODE_FLAG_GUIDED_ENABLED)
+                .systemStatus(MavState.MAV_STATE_ACTIVE)
+                .mavlinkVersion(3)
+                .build();
+
+        assertEquals("{\"type\":\"MAV_TYPE_QUADROTOR\",\"autopilot\":\"MAV_AUTOPILOT_PX4\",\"baseMode\":136,"
+                        + "\"customMode\":0,\"systemStatus\":\"MAV_STATE_ACTIVE\",\"mavlinkVersion\":3}",
+                writer.value(heartbeat).toString());
+    }
+
+    @Test
+    public void arraysAndUnsetFieldsAreWritten() {
+        ActuatorControlTarget target = ActuatorControlTarget.builder()
+                .timeUsec(new BigInteger("18446744073709551615"))
+                .controls(1f, Float.NaN, -0.25f)
+                .build();
+
+        assertEquals("{\"timeUsec\":18446744073709551615,\"groupMlx\":0,\"controls\":[1.0,null,-0.25]}",
+                writer.value(target).toString());
+    }
+
+    @Test
+    public void writersAreReusable() {
+        writer.value(ParamValue.builder().paramId("A").build()).newLine();
+        writer.value(ParamValue.builder().paramId("B").build()).newLine();
+        assertEquals(2, writer.toString().split("\n").length);
+
+        writer.reset().beginArray().value(1).value("x").endArray();
+        assertEquals("[1,\"x\"]", writer.toString());
+    }
+
+    @Test
+    public void itEscapesStrings() {
+        writer.value("a\"b\\c\nd\u0001\u00e9\u20ac\ud83d\ude81");
+
+        assertEquals("\"a\\\"b\\\\c\\nd\\u0001\u00e9\u20ac\ud83d\ude81\"", writer.toString());
+    }
+
+    @Test
+    public void itWritesNumbers() {
+        writer.beginArray()
+                .value(Long.MIN_VALUE)
+                .value(Long.MAX_VALUE)
+                .unsignedValue(-1L)
+                .unsignedValue(Long.MIN_VALUE)
+                .value(0)
+                .value(-7)
+                .value(Double.POSITIVE_INFINITY)
+                .value(1e-7)
+                .endArray();
+
+        assertEquals("[-9223372036854775808,9223372036854775807,18446744073709551615,"
+                        + "9223372036854775808,0,-7,null,1.0E-7]",
+                writer.toString());
+    }
+}
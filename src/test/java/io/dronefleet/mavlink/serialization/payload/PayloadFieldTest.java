@@ -0,0 +1,68 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+import io.dronefleet.mavlink.common.ActuatorControlTarget;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.common.SysStatus;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class PayloadFieldTest {
+
+    private final ReflectionPayloadSerializer serializer = new ReflectionPayloadSerializer();
+
+    @Test
+    public void itReadsFieldsAtTheirWireOffsets() {
+        byte[] payload = serializer.serialize(GlobalPositionInt.builder()
+                .timeBootMs(4_000_000_000L)
+                .lat(473_977_420)
+                .lon(-85_455_940)
+                .vx(-12)
+                .hdg(35999)
+                .build());
+        PayloadLayout layout = PayloadLayout.of(GlobalPositionInt.class);
+
+        assertEquals(4_000_000_000L, layout.field("timeBootMs").getLong(payload));
+        assertEquals(473_977_420, layout.field("lat").getInt(payload));
+        assertEquals(-85_455_940, layout.field("lon").getInt(payload));
+        assertEquals(-12, layout.field("vx").getInt(payload));
+        assertEquals(35999, layout.field("hdg").getInt(payload));
+    }
+
+    @Test
+    public void itReadsArrayElementsAndUnsignedLongs() {
+        byte[] payload = serializer.serialize(ActuatorControlTarget.builder()
+                .timeUsec(new BigInteger("18446744073709551615"))
+                .controls(Arrays.asList(.1f, -.2f, .3f, -.4f, .5f, -.6f, .7f, -.8f))
+                .build());
+        PayloadLayout layout = PayloadLayout.of(ActuatorControlTarget.class);
+
+        assertEquals(-1L, layout.field("timeUsec").getLong(payload));
+        assertEquals(18446744073709551615.0, layout.field("timeUsec").getDouble(payload), 1);
+        assertEquals(-.6f, layout.field("controls").getFloat(payload, 5), 0);
+    }
+
+    @Test
+    public void itReadsTruncatedBytesAsZeros() {
+        byte[] payload = serializer.serialize(SysStatus.builder()
+                .voltageBattery(12_600)
+                .batteryRemaining(-1)
+                .build());
+        PayloadLayout layout = PayloadLayout.of(SysStatus.class);
+        PayloadField remaining = layout.field("batteryRemaining");
+        byte[] truncated = Arrays.copyOf(payload, remaining.offset());
+
+        assertEquals(-1, remaining.getInt(payload));
+        assertEquals(0, remaining.getInt(truncated));
+        assertEquals(12_600, layout.field("voltageBattery").getInt(truncated));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void itRejectsReadsWhichDoNotFit() {
+        PayloadLayout.of(GlobalPositionInt.class).field("timeBootMs").getInt(new byte[28]);
+    }
+}
@@ -0,0 +1,113 @@
+package io.dronefleet.mavlink.serialization.payload;
+
+import io.dronefleet.mavlink.common.ActuatorControlTargetView;
+import io.dronefleet.mavlink.common.CommonDialect;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.common.GlobalPositionIntView;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadDeserializer;
+import io.dronefleet.mavlink.serialization.payload.reflection.ReflectionPayloadSerializer;
+import io.dronefleet.mavlink.util.EnumValue;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PayloadViewTest {
+
+    private final ReflectionPayloadDeserializer deserializer = new ReflectionPayloadDeserializer();
+
+    @Test
+    public void viewsReadTheSameValuesAsDeserializedMessages() throws Exception {
+        Random random = new Random(0);
+        for (Class<?> messageType : new CommonDialect().messageTypes()) {
+            byte[] payload = new byte[PayloadLayout.of(messageType).length()];
+            for (int i = 0; i < payload.length; i++) {
+                // printable characters keep string fields comparable
+                payload[i] = (byte) (0x20 + random.nextInt(0x5f));
+            }
+            PayloadView<?> view = (PayloadView<?>) Class.forName(messageType.getName() + "View").newInstance();
+
+            assertMatches(messageType, view, payload);
+            assertMatches(messageType, view, Arrays.copyOf(payload, payload.length / 2));
+            assertMatches(messageType, view, new byte[0]);
+        }
+    }
+
+    private void assertMatches(Class<?> messageType, PayloadView<?> view, byte[] payload) throws Exception {
+        byte[] padded = new byte[payload.length + 6];
+        System.arraycopy(payload, 0, padded, 3, payload.length);
+        Object message = deserializer.deserialize(payload, messageType);
+
+        for (Method getter : view.getClass().getDeclaredMethods()) {
+            if (!Modifier.isPublic(getter.getModifiers())) {
+                continue;
+            }
+            Object expected = messageType.getMethod(getter.getName()).invoke(message);
+            if (getter.getParameterCount() == 0) {
+                assertEquals(messageType.getSimpleName() + "." + getter.getName(), normalize(expected),
+                        getter.invoke(view.wrap(payload)));
+                assertEquals(messageType.getSimpleName() + "." + getter.getName(), normalize(expected),
+                        getter.invoke(view.wrap(ByteBuffer.allocateDirect(padded.length).put(padded), 3, payload.length)));
+                continue;
+            }
+            if (expected instanceof EnumValue) {
+                // messages hold a single value for enum arrays, which views expose per element
+                continue;
+            }
+            for (int i = 0; ; i++) {
+                Object element = element(expected, i);
+                if (element == null) {
+                    break;
+                }
+                assertEquals(messageType.getSimpleName() + "." + getter.getName() + "[" + i + "]", element,
+                        getter.invoke(view.wrap(padded, 3, payload.length), i));
+            }
+        }
+    }
+
+    private Object normalize(Object value) {
+        if (value instanceof EnumValue) {
+            return ((EnumValue<?>) value).value();
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).longValue();
+        }
+        return value;
+    }
+
+    private Object element(Object array, int index) {
+        if (array instanceof byte[]) {
+            byte[] bytes = (byte[]) array;
+            return index < bytes.length ? bytes[index] & 0xff : null;
+        }
+        List<?> list = (List<?>) array;
+        return index < list.size() ? normalize(list.get(index)) : null;
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void arrayAccessorsAreBoundsChecked() {
+        new ActuatorControlTargetView().wrap(new byte[0]).controls(8);
+    }
+
+    @Test
+    public void viewsCanBeReused() {
+        ReflectionPayloadSerializer serializer = new ReflectionPayloadSerializer();
+        GlobalPositionIntView view = new GlobalPositionIntView();
+        for (int i = 0; i < 10; i++) {
+            byte[] payload = serializer.serialize(GlobalPositionInt.builder()
+                    .lat(i * 1000)
+                    .hdg(35999)
+                    .build());
+            assertEquals(i * 1000, view.wrap(payload).lat());
+            assertEquals(35999, view.hdg());
+            assertEquals(payload.length, view.payloadSize());
+        }
+    }
+}
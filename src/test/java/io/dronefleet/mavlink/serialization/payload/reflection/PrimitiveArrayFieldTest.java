@@ -0,0 +1,60 @@
+package io.dronefleet.mavlink.serialization.payload.reflection;
+
+import io.dronefleet.mavlink.common.ActuatorControlTarget;
+import io.dronefleet.mavlink.common.MavDistanceSensor;
+import io.dronefleet.mavlink.common.MavFrame;
+import io.dronefleet.mavlink.common.ObstacleDistance;
+import io.dronefleet.mavlink.util.FloatArrayList;
+import io.dronefleet.mavlink.util.IntArrayList;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveArrayFieldTest {
+
+    private final ReflectionPayloadSerializer serializer = new ReflectionPayloadSerializer();
+    private final ReflectionPayloadDeserializer deserializer = new ReflectionPayloadDeserializer();
+
+    @Test
+    public void itDeserializesArraysIntoPrimitiveLists() {
+        int[] distances = new int[72];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = 100 + i * 700;
+        }
+        ObstacleDistance expected = ObstacleDistance.builder()
+                .timeUsec(BigInteger.ONE)
+                .sensorType(MavDistanceSensor.MAV_DISTANCE_SENSOR_ULTRASOUND)
+                .distances(distances)
+                .increment(5)
+                .frame(MavFrame.MAV_FRAME_BODY_FRD)
+                .build();
+
+        ObstacleDistance actual = deserializer.deserialize(serializer.serialize(expected), ObstacleDistance.class);
+
+        assertEquals(expected, actual);
+        assertTrue(actual.distances() instanceof IntArrayList);
+        assertArrayEquals(distances, actual.distancesArray());
+        assertEquals(100 + 71 * 700, actual.distances(71));
+    }
+
+    @Test
+    public void primitiveListsEqualBoxedLists() {
+        ActuatorControlTarget boxed = ActuatorControlTarget.builder()
+                .controls(Arrays.asList(.1f, -.2f, .3f))
+                .build();
+        ActuatorControlTarget primitive = ActuatorControlTarget.builder()
+                .controls(.1f, -.2f, .3f)
+                .build();
+
+        assertEquals(boxed, primitive);
+        assertEquals(boxed.hashCode(), primitive.hashCode());
+        assertTrue(boxed.controls() instanceof FloatArrayList);
+        assertEquals(-.2f, primitive.controls(1), 0);
+        assertEquals(0f, primitive.controls(7), 0);
+    }
+}
@@ -0,0 +1,187 @@
+package io.dronefleet.mavlink.timesync;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.TestLink;
+import io.dronefleet.mavlink.common.Timesync;
+import io.dronefleet.mavlink.util.concurrent.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClockSyncTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now = 1000 * MS;
+    private final Random random = new Random(1);
+    private final TestLink link = new TestLink();
+    private final HashedTimerWheel timer = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final ClockSync sync = ClockSync.builder(link.connection())
+            .interval(1, TimeUnit.SECONDS)
+            .timer(timer)
+            .clock(() -> now)
+            .build();
+
+    /**
+     * The vehicle clock, which booted 5s before the local clock started, and gains 50us per
+     * second.
+     */
+    private long bootedAt = -5000 * MS;
+    private double rate = 1 + 50e-6;
+
+    @After
+    public void close() {
+        sync.close();
+    }
+
+    @Test
+    public void offsetAndDriftAreEstimatedDespiteQueueing() {
+        for (int i = 0; i < 60; i++) {
+            exchange();
+            now += 1000 * MS;
+        }
+        ClockEstimate estimate = sync.estimate(1, 1);
+        assertEquals(50e-6, estimate.drift(), 5e-6);
+
+        // better than a millisecond, although round trips vary by 100ms
+        long event = now - 300 * MS;
+        long error = sync.toLocalNanos(1, vehicleTime(event)) - event;
+        assertTrue("error of " + error + "ns", Math.abs(error) < MS);
+        assertEquals(estimate, sync.estimate(1));
+    }
+
+    @Test
+    public void theEstimateRestartsWhenTheVehicleReboots() {
+        for (int i = 0; i < 5; i++) {
+            exchange();
+            now += 1000 * MS;
+        }
+        long offset = sync.estimate(1, 1).offsetAt(now);
+        bootedAt = now;
+
+        // a single disagreeing sample is an outlier
+        exchange();
+        now += 1000 * MS;
+        assertEquals(offset, sync.estimate(1, 1).offsetAt(now), MS);
+
+        exchange();
+        exchange();
+        long error = sync.toLocalNanos(1, 1, vehicleTime(now)) - now;
+        assertTrue("error of " + error + "ns", Math.abs(error) < 100 * MS);
+        assertEquals(1, sync.estimate(1, 1).samples());
+    }
+
+    @Test
+    public void aSystemFollowsTheComponentWhichAnswersOnceTheFirstOneStops() {
+        exchange(1);
+        assertEquals(sync.estimate(1, 1), sync.estimate(1));
+
+        // while the first component answers, the system keeps its estimate
+        exchange(2);
+        assertEquals(sync.estimate(1, 1), sync.estimate(1));
+
+        now += 5000 * MS;
+        exchange(2);
+        assertEquals(sync.estimate(1, 2), sync.estimate(1));
+    }
+
+    @Test
+    public void failedAnswersArePassedToTheErrorHandler() {
+        List<IOException> failures = new ArrayList<>();
+        ClockSync failing = ClockSync.builder(MavlinkConnection.create(new ByteArrayInputStream(new byte[0]), new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("closed");
+            }
+        }))
+                .timer(timer)
+                .errorHandler((connection, e) -> failures.add(e))
+                .build();
+        failing.handle(TestLink.message(1, 1, Timesync.builder().tc1(0).ts1(42).build()));
+        assertEquals(1, failures.size());
+        assertEquals("closed", failures.get(0).getMessage());
+    }
+
+    @Test
+    public void requestsAreSentPeriodicallyAndForeignAnswersIgnored() {
+        sync.start(1, 1);
+        advance(2100);
+        List<Timesync> requests = link.drain(Timesync.class);
+        assertEquals(3, requests.size());
+        assertEquals(0, requests.get(0).tc1());
+        assertEquals(1, requests.get(0).targetSystem());
+
+        // an answer to another station's request
+        receive(Timesync.builder().tc1(123456789).ts1(requests.get(0).ts1() + 1).build());
+        assertNull(sync.estimate(1, 1));
+
+        sync.stop(1, 1);
+        advance(2000);
+        assertTrue(link.drain().isEmpty());
+    }
+
+    @Test
+    public void requestsOfVehiclesAreAnswered() {
+        receive(Timesync.builder().tc1(0).ts1(42).build());
+        Timesync answer = link.drain(Timesync.class).get(0);
+        assertEquals(now, answer.tc1());
+        assertEquals(42, answer.ts1());
+        assertEquals(1, answer.targetSystem());
+        assertEquals(1, answer.targetComponent());
+    }
+
+    /**
+     * Exchanges a request with a 20ms link, which queues one of every two messages by up to 100ms.
+     */
+    private void exchange() {
+        exchange(1);
+    }
+
+    private void exchange(int componentId) {
+        sync.request(1, componentId);
+        Timesync request = link.drain(Timesync.class).get(0);
+        now += delay();
+        long vehicleNow = vehicleTime(now);
+        now += delay();
+        sync.handle(TestLink.message(1, componentId, Timesync.builder()
+                .tc1(vehicleNow)
+                .ts1(request.ts1())
+                .targetSystem(255)
+                .targetComponent(190)
+                .build()));
+    }
+
+    private long delay() {
+        return 20 * MS + (random.nextBoolean() ? (long) (random.nextDouble() * 100 * MS) : 0);
+    }
+
+    private long vehicleTime(long local) {
+        return (long) ((local - bootedAt) * rate);
+    }
+
+    private void receive(Timesync timesync) {
+        sync.handle(TestLink.message(1, 1, timesync));
+    }
+
+    private void advance(long millis) {
+        for (long step = 0; step < millis; step += 10) {
+            now += 10 * MS;
+            timer.advance();
+        }
+    }
+}
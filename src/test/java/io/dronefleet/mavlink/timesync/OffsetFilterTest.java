@@ -0,0 +1,29 @@
+package io.dronefleet.mavlink.timesync;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class OffsetFilterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void theWindowRestartsFromAllDisagreeingSamples() {
+        OffsetFilter filter = new OffsetFilter(8);
+        for (int i = 0; i < 5; i++) {
+            filter.add(i * 1000 * MS, 0, 10 * MS);
+        }
+
+        // the clock jumped by 1s, and the second sample after the jump has the shortest round trip
+        filter.add(5000 * MS, 1000 * MS, 30 * MS);
+        filter.add(6000 * MS, 1000 * MS, 5 * MS);
+        ClockEstimate estimate = filter.add(7000 * MS, 1000 * MS, 20 * MS);
+
+        assertEquals(6000 * MS, estimate.referenceNanos());
+        assertEquals(5 * MS, estimate.roundTripNanos());
+        assertEquals(1000 * MS, estimate.offsetAt(7000 * MS));
+    }
+}
@@ -0,0 +1,82 @@
+package io.dronefleet.mavlink.traffic;
+
+import io.dronefleet.mavlink.MavlinkConnection;
+import io.dronefleet.mavlink.MavlinkMessage;
+import io.dronefleet.mavlink.common.Attitude;
+import io.dronefleet.mavlink.common.GlobalPositionInt;
+import io.dronefleet.mavlink.minimal.Heartbeat;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FleetTrafficGeneratorTest {
+
+    private static final long TEN_SECONDS = 10_000_000;
+
+    @Test
+    public void itSendsEachStreamAtItsRate() throws IOException {
+        FleetTrafficGenerator generator = FleetTrafficGenerator.builder()
+                .vehicles(3)
+                .firstSystemId(10)
+                .defaultMix()
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = generator.generate(0, TEN_SECONDS, TrafficSink.stream(out));
+
+        Map<Class<?>, Integer> counts = new HashMap<>();
+        int[] lastSequences = {-1, -1, -1};
+        MavlinkConnection connection = MavlinkConnection.create(new ByteArrayInputStream(out.toByteArray()), new ByteArrayOutputStream());
+        for (MavlinkMessage message : messages(connection)) {
+            counts.merge(message.getPayload().getClass(), 1, Integer::sum);
+            int vehicle = message.getOriginSystemId() - 10;
+            if (lastSequences[vehicle] != -1) {
+                assertEquals((lastSequences[vehicle] + 1) & 0xff, message.getSequence());
+            }
+            lastSequences[vehicle] = message.getSequence();
+        }
+        assertEquals(3 * (1 + 1 + 5 + 10 + 50) * 10, written);
+        assertEquals(3 * 50 * 10, (int) counts.get(Attitude.class));
+        assertEquals(3 * 10 * 10, (int) counts.get(GlobalPositionInt.class));
+        assertEquals(3 * 10, (int) counts.get(Heartbeat.class));
+    }
+
+    @Test
+    public void itInjectsNoise() throws IOException {
+        FleetTrafficGenerator generator = FleetTrafficGenerator.builder()
+                .vehicles(2)
+                .message(100, (systemId, step) -> Heartbeat.builder().customMode(step).build())
+                .lossRate(0.1)
+                .corruptionRate(0.1)
+                .garbageRate(0.1)
+                .reorderRate(0.1)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = generator.generate(0, TEN_SECONDS, TrafficSink.tlog(out));
+
+        assertTrue(written > 1_600 && written < 2_000);
+    }
+
+    private static List<MavlinkMessage> messages(MavlinkConnection connection) throws IOException {
+        List<MavlinkMessage> messages = new ArrayList<>();
+        try {
+            //noinspection InfiniteLoopStatement
+            while (true) {
+                messages.add(connection.next());
+            }
+        } catch (EOFException e) {
+            return messages;
+        }
+    }
+}
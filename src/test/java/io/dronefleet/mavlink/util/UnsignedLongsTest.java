@@ -0,0 +1,49 @@
+package io.dronefleet.mavlink.util;
+
+import io.dronefleet.mavlink.common.SystemTime;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class UnsignedLongsTest {
+
+    private static final BigInteger MAX = new BigInteger("18446744073709551615");
+
+    @Test
+    public void itConvertsBitsToUnsignedValues() {
+        assertEquals(BigInteger.ZERO, UnsignedLongs.toBigInteger(0));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE), UnsignedLongs.toBigInteger(Long.MAX_VALUE));
+        assertEquals(BigInteger.ONE.shiftLeft(63), UnsignedLongs.toBigInteger(Long.MIN_VALUE));
+        assertEquals(MAX, UnsignedLongs.toBigInteger(-1));
+    }
+
+    @Test
+    public void itConvertsUnsignedValuesToBits() {
+        assertEquals(-1, UnsignedLongs.valueOf(MAX));
+        assertEquals(-1, UnsignedLongs.valueOf(BigInteger.ONE.negate()));
+        assertEquals(Long.MIN_VALUE, UnsignedLongs.valueOf(BigInteger.ONE.shiftLeft(63)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void itRejectsValuesWhichDoNotFit() {
+        UnsignedLongs.valueOf(MAX.add(BigInteger.ONE));
+    }
+
+    @Test
+    public void itConvertsBitsToDoubles() {
+        assertEquals(1e6, UnsignedLongs.toDouble(1_000_000), 0);
+        assertEquals(MAX.doubleValue(), UnsignedLongs.toDouble(-1), 0);
+        assertEquals(new BigInteger("9223372036854777856").doubleValue(), UnsignedLongs.toDouble(Long.MIN_VALUE + 2049), 0);
+    }
+
+    @Test
+    public void buildersAcceptUint64Bits() {
+        SystemTime systemTime = SystemTime.builder()
+                .timeUnixUsec(-1L)
+                .build();
+
+        assertEquals(MAX, systemTime.timeUnixUsec());
+    }
+}
@@ -0,0 +1,104 @@
+package io.dronefleet.mavlink.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HashedTimerWheelTest {
+
+    private long now;
+    private final HashedTimerWheel wheel = HashedTimerWheel.builder()
+            .tickDuration(10, TimeUnit.MILLISECONDS)
+            .wheelSize(8)
+            .clock(() -> now)
+            .thread(false)
+            .build();
+    private final List<Integer> expired = new ArrayList<>();
+
+    @Test
+    public void timeoutsExpireInOrderAndNeverEarly() {
+        wheel.schedule(() -> expired.add(3), 300, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> expired.add(1), 15, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> expired.add(2), 1010, TimeUnit.MILLISECONDS);
+        assertEquals(3, wheel.pending());
+
+        advance(10);
+        assertEquals(asList(), expired);
+        advance(10);
+        assertEquals(asList(1), expired);
+        advance(280);
+        assertEquals(asList(1, 3), expired);
+
+        // the last timeout is several turns of the wheel away
+        advance(700);
+        assertEquals(asList(1, 3), expired);
+        advance(10);
+        assertEquals(asList(1, 3, 2), expired);
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    public void cancelledTimeoutsDoNotExpire() {
+        HashedTimerWheel.Timeout cancelled = wheel.schedule(() -> expired.add(1), 50, TimeUnit.MILLISECONDS);
+        HashedTimerWheel.Timeout kept = wheel.schedule(() -> expired.add(2), 50, TimeUnit.MILLISECONDS);
+        advance(20);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        advance(100);
+        assertEquals(asList(2), expired);
+        assertTrue(cancelled.isCancelled());
+        assertTrue(kept.isExpired());
+        assertFalse(kept.cancel());
+    }
+
+    @Test
+    public void timeoutsCanBeScheduledFromTasks() {
+        wheel.schedule(() -> {
+            expired.add(1);
+            wheel.schedule(() -> expired.add(2), 0, TimeUnit.MILLISECONDS);
+        }, 10, TimeUnit.MILLISECONDS);
+        advance(10);
+        advance(10);
+        assertEquals(asList(1, 2), expired);
+    }
+
+    @Test
+    public void tickListenersRunAfterTheTimeoutsOfEachTick() {
+        Runnable listener = () -> expired.add(0);
+        wheel.addTickListener(listener);
+        wheel.schedule(() -> expired.add(1), 10, TimeUnit.MILLISECONDS);
+        advance(10);
+        assertEquals(asList(0, 1, 0), expired);
+
+        wheel.removeTickListener(listener);
+        advance(10);
+        assertEquals(asList(0, 1, 0), expired);
+    }
+
+    @Test(timeout = 2000)
+    public void itRunsTimeoutsOnItsThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(100);
+        try (HashedTimerWheel threaded = HashedTimerWheel.builder()
+                .tickDuration(1, TimeUnit.MILLISECONDS)
+                .build()) {
+            for (int i = 0; i < 100; i++) {
+                threaded.schedule(latch::countDown, i % 20, TimeUnit.MILLISECONDS);
+            }
+            latch.await();
+        }
+    }
+
+    private void advance(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+        wheel.advance();
+    }
+}